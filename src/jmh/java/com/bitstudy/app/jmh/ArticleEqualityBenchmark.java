@@ -0,0 +1,74 @@
+package com.bitstudy.app.jmh;
+
+import com.bitstudy.app.domain.Article;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/* Article.equals / hashCode 를 큰 Set 에서 쓸 때 (DB 없음)
+ *  2차 캐시, 영속성 컨텍스트, 컬렉션(Set<Article>) 모두 equals/hashCode 를 많이 부른다.
+ *  id 는 JPA 가 넣는 값이라 setter 가 없어서 리플렉션으로 넣는다.
+ * */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ArticleEqualityBenchmark {
+
+    @Param({"1000", "100000"})
+    public int size;
+
+    private Article[] articles;
+    private Article[] copies; // 같은 id 의 다른 인스턴스 (DB 에서 다시 읽어온 것처럼)
+    private Set<Article> set;
+
+    @Setup
+    public void setUp() {
+        articles = new Article[size];
+        copies = new Article[size];
+        set = new HashSet<>();
+        for (int i = 0; i < size; i++) {
+            articles[i] = article(i + 1L);
+            copies[i] = article(i + 1L);
+            set.add(articles[i]);
+        }
+    }
+
+    @Benchmark
+    public int hashCodeOnly() {
+        return articles[ThreadLocalRandom.current().nextInt(size)].hashCode();
+    }
+
+    @Benchmark
+    public boolean containsCopy() {
+        return set.contains(copies[ThreadLocalRandom.current().nextInt(size)]);
+    }
+
+    /* Set 을 새로 채우기 (결과는 원소 하나당 시간이 아니라 전체 시간) */
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public Set<Article> buildSet() {
+        Set<Article> built = new HashSet<>();
+        for (Article article : articles) {
+            built.add(article);
+        }
+        return built;
+    }
+
+    private static Article article(Long id) {
+        Article article = Article.of("title " + id, "content", null);
+        ReflectionTestUtils.setField(article, "id", id);
+        return article;
+    }
+}
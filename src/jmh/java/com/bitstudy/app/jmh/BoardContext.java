@@ -0,0 +1,26 @@
+package com.bitstudy.app.jmh;
+
+import com.bitstudy.app.AppApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/* 벤치마크용 애플리케이션 띄우기
+ *  h2 프로필(메모리 DB + data.sql) 로 띄우고, SQL 로그처럼 측정을 흐리는 로그는 끈다.
+ *  스케줄러/시작 시 색인 rebuild 도 그대로 돌지만 데이터가 작아서 측정 전(warmup)에 끝난다.
+ * */
+final class BoardContext {
+
+    private BoardContext() {}
+
+    static ConfigurableApplicationContext start() {
+        return new SpringApplicationBuilder(AppApplication.class)
+                .profiles("h2")
+                .properties(
+                        "server.port=0",
+                        "spring.jpa.show-sql=false",
+                        "logging.level.root=warn",
+                        "logging.level.org.springframework.web.servlet=warn",
+                        "board.slow-query.repository-threshold-millis=60000")
+                .run();
+    }
+}
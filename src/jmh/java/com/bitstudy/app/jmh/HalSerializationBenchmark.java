@@ -0,0 +1,67 @@
+package com.bitstudy.app.jmh;
+
+import com.bitstudy.app.filter.CompactFormatFilter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/* 게시글 페이지 HAL 응답 만들기 벤치마크
+ *  Data REST 의 HAL 직렬화는 링크 생성까지 요청 정보가 있어야 해서, MockMvc 로 컨트롤러부터 JSON 문자열까지 한번에 잰다.
+ *  (네트워크/톰캣은 안 탄다. 필터는 형식 고르는 CompactFormatFilter 만 붙여서 ConditionalGetFilter 의 버전 쿼리는 빠진다)
+ *  2차 캐시가 데워진 뒤라 DB 시간은 작고 대부분 직렬화 시간이다.
+ *
+ *  articles : /api/articles (엔티티 통째로, 본문 포함)
+ *  summary  : /api/articles/summary (목록용 요약 DTO)
+ *  accept   : HAL(기본) vs compact 형식들 (CompactHttpMessageConverter). 응답 크기는 CompactFormatBenchmark 가 찍는다.
+ * */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class HalSerializationBenchmark {
+
+    @Param({"/api/articles", "/api/articles/summary"})
+    public String path;
+
+    @Param({"20", "100"})
+    public int size;
+
+    @Param({"application/hal+json", "application/vnd.board.compact+json", "application/cbor", "application/x-jackson-smile"})
+    public String accept;
+
+    private ConfigurableApplicationContext context;
+    private MockMvc mvc;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = BoardContext.start();
+        mvc = MockMvcBuilders.webAppContextSetup((WebApplicationContext) context)
+                .addFilters(context.getBean(CompactFormatFilter.class))
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    @Benchmark
+    public int articlePage() throws Exception {
+        return mvc.perform(get(path).param("size", String.valueOf(size)).accept(accept))
+                .andReturn().getResponse().getContentAsByteArray().length;
+    }
+}
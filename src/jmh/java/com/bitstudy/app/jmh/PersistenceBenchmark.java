@@ -0,0 +1,131 @@
+package com.bitstudy.app.jmh;
+
+import com.bitstudy.app.domain.Article;
+import com.bitstudy.app.domain.ArticleComment;
+import com.bitstudy.app.repository.ArticleCommentRepository;
+import com.bitstudy.app.repository.ArticleRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/* JPA 저장/조회 벤치마크 (임베디드 H2, data.sql 의 게시글 100개 + 댓글 1000개 위에서)
+ *  - 저장: 한 건씩 트랜잭션 vs 50건을 한 트랜잭션(saveAll, JDBC batch). 결과는 "한 건당" 시간 (@OperationsPerInvocation)
+ *  - 조회: findById(2차 캐시에 걸림), 페이지 findAll(본문 그래프 포함), 댓글 읽기(컬렉션 LAZY 초기화 vs 댓글 테이블에서 한 페이지)
+ *  저장 벤치마크를 돌수록 테이블이 커지니까 조회 벤치마크는 data.sql 범위(1~100)의 id 만 쓴다.
+ * */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PersistenceBenchmark {
+
+    private static final int BATCH = 50;
+    private static final int SEEDED_ARTICLES = 100;
+    private static final Sort LATEST_FIRST = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
+
+    private ConfigurableApplicationContext context;
+    private ArticleRepository articleRepository;
+    private ArticleCommentRepository articleCommentRepository;
+    private TransactionTemplate transactionTemplate;
+    private TransactionTemplate readOnly;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = BoardContext.start();
+        articleRepository = context.getBean(ArticleRepository.class);
+        articleCommentRepository = context.getBean(ArticleCommentRepository.class);
+        PlatformTransactionManager transactionManager = context.getBean(PlatformTransactionManager.class);
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    @Benchmark
+    public Article saveArticle() {
+        return transactionTemplate.execute(status ->
+                articleRepository.save(Article.of("jmh title", "jmh content", "#jmh")));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public List<Article> saveArticlesBatched() {
+        List<Article> articles = new ArrayList<>(BATCH);
+        for (int i = 0; i < BATCH; i++) {
+            articles.add(Article.of("jmh title " + i, "jmh content", "#jmh"));
+        }
+        return transactionTemplate.execute(status -> articleRepository.saveAll(articles));
+    }
+
+    @Benchmark
+    public ArticleComment saveComment() {
+        long articleId = randomArticleId();
+        return transactionTemplate.execute(status ->
+                articleCommentRepository.save(ArticleComment.of(articleRepository.getReferenceById(articleId), "jmh comment")));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public List<ArticleComment> saveCommentsBatched() {
+        long articleId = randomArticleId();
+        return transactionTemplate.execute(status -> {
+            Article article = articleRepository.getReferenceById(articleId);
+            List<ArticleComment> comments = new ArrayList<>(BATCH);
+            for (int i = 0; i < BATCH; i++) {
+                comments.add(ArticleComment.of(article, "jmh comment " + i));
+            }
+            return articleCommentRepository.saveAll(comments);
+        });
+    }
+
+    @Benchmark
+    public Article findById() {
+        return articleRepository.findById(randomArticleId()).orElseThrow();
+    }
+
+    @Benchmark
+    public Page<Article> findAllPage() {
+        int page = ThreadLocalRandom.current().nextInt(5);
+        return readOnly.execute(status -> articleRepository.findAll(PageRequest.of(page, 20, LATEST_FIRST)));
+    }
+
+    /* 게시글을 읽고 나서 댓글 컬렉션을 건드리면 LAZY 로딩 쿼리가 한 번 더 나간다. */
+    @Benchmark
+    public int loadCommentsLazily() {
+        long articleId = randomArticleId();
+        return readOnly.execute(status -> articleRepository.findById(articleId).orElseThrow().getArticleComments().size());
+    }
+
+    /* GET /api/articles/{id}/articleComments 가 실제로 읽는 방식 - 댓글 테이블에서 FK 로 한 페이지만 (ArticleCommentPageController) */
+    @Benchmark
+    public int loadCommentPage() {
+        long articleId = randomArticleId();
+        return readOnly.execute(status ->
+                articleCommentRepository.findByArticle_Id(articleId, PageRequest.of(0, 20)).getNumberOfElements());
+    }
+
+    private static long randomArticleId() {
+        return ThreadLocalRandom.current().nextLong(1, SEEDED_ARTICLES + 1);
+    }
+}
@@ -0,0 +1,214 @@
+package com.bitstudy.app.loadtest;
+
+import com.bitstudy.app.dto.ImportReport;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.PrintStream;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.LongStream;
+
+/* HTTP 부하 테스트 (./gradlew loadtest)
+ *  앱을 h2 프로필로 띄우고 가짜 데이터를 채운 뒤, 정해진 도착률(rate, 초당 요청 수)로 요청을 쏜다.
+ *
+ *  open-loop: 응답을 기다렸다가 다음 요청을 보내지 않는다. i 번째 요청은 "start + i / rate" 에 나가야 하는 요청이고,
+ *  지연시간은 실제로 보낸 시각이 아니라 "나갔어야 하는 시각" 부터 잰다.
+ *  -> 서버가 막혀서 요청이 늦게 나가도 그 기다린 시간이 지연시간에 들어간다. (coordinated omission 없음)
+ *
+ *  설정 (-D)
+ *   loadtest.rate=200            초당 요청 수
+ *   loadtest.duration=30         측정 시간(초)
+ *   loadtest.warmup=10           측정 전에 같은 부하로 데우는 시간(초), 이 동안의 결과는 버린다.
+ *   loadtest.mix=...             요청 비율 (Workload)
+ *   loadtest.articles=10000      가짜 게시글 수, loadtest.comments-per-article=5
+ *   loadtest.target=http://...   이미 떠있는 서버에 쏠 때 (그때는 게시글 id 1 ~ loadtest.max-article-id 를 쓴다)
+ *   loadtest.max-in-flight=10000 응답 안 온 요청이 이만큼 쌓이면 그 다음 요청은 보내지 않고 dropped 로 센다.
+ *
+ *  못 보낸 요청(dropped)과 끝까지 응답이 안 온 요청(unfinished)도 히스토그램에 넣는다. (빼면 제일 느린 것만 빠져서 p99 가 좋아 보인다)
+ *    dropped    : 응답을 영영 못 받는 요청이라 HIGHEST_MICROS(측정 한계) 로 넣고 에러로 센다.
+ *    unfinished : 마지막 drain 까지 기다린 시간(now - intended) 으로 넣고 에러로 센다. (실제로는 최소 그만큼 걸림)
+ *  둘 중 하나라도 있으면 결과 끝에 INVALID 를 찍는다. (서버가 rate 를 못 버틴 것 -> rate 를 낮춰서 다시)
+ * */
+public class LoadTest {
+
+    private static final long HIGHEST_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    public static void main(String[] args) throws Exception {
+        double rate = Double.parseDouble(System.getProperty("loadtest.rate", "200"));
+        int durationSeconds = Integer.getInteger("loadtest.duration", 30);
+        int warmupSeconds = Integer.getInteger("loadtest.warmup", 10);
+        int articles = Integer.getInteger("loadtest.articles", 10_000);
+        int commentsPerArticle = Integer.getInteger("loadtest.comments-per-article", 5);
+        long maxInFlight = Long.getLong("loadtest.max-in-flight", 10_000L);
+        Workload workload = Workload.parse(System.getProperty("loadtest.mix", Workload.DEFAULT_MIX));
+        Path reportDir = Path.of(System.getProperty("loadtest.report-dir", "build/reports/loadtest"));
+        String target = System.getProperty("loadtest.target");
+
+        ConfigurableApplicationContext context = null;
+        String base;
+        long[] articleIds;
+        if (target == null) {
+            context = SyntheticBoard.start();
+            ImportReport report = SyntheticBoard.seed(context, articles, commentsPerArticle);
+            System.out.printf("seeded %,d articles / %,d comments in %,d ms%n",
+                    report.articles(), report.comments(), report.elapsedMillis());
+            base = "http://localhost:" + SyntheticBoard.port(context);
+            articleIds = SyntheticBoard.articleIds(context);
+        } else {
+            base = target.endsWith("/") ? target.substring(0, target.length() - 1) : target;
+            articleIds = LongStream.rangeClosed(1, Long.getLong("loadtest.max-article-id", 100L)).toArray();
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(executor)
+                .build();
+
+        Map<Workload.Operation, Recorder> recorders = new EnumMap<>(Workload.Operation.class);
+        Map<Workload.Operation, LongAdder> errors = new EnumMap<>(Workload.Operation.class);
+        for (Workload.Operation operation : Workload.Operation.values()) {
+            recorders.put(operation, new Recorder(HIGHEST_MICROS, 3));
+            errors.put(operation, new LongAdder());
+        }
+        AtomicLong inFlight = new AtomicLong();
+        LongAdder dropped = new LongAdder();
+        Map<Long, Pending> measuredInFlight = new ConcurrentHashMap<>(); // 측정 구간에 보내고 아직 응답 안 온 것
+
+        System.out.printf("target %s, %.0f req/s, warmup %ds, measure %ds, mix %s%n",
+                base, rate, warmupSeconds, durationSeconds, System.getProperty("loadtest.mix", Workload.DEFAULT_MIX));
+
+        Random random = new Random(42);
+        long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / rate);
+        long start = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(100);
+        long measureFrom = start + TimeUnit.SECONDS.toNanos(warmupSeconds);
+        long end = measureFrom + TimeUnit.SECONDS.toNanos(durationSeconds);
+
+        for (long i = 0; ; i++) {
+            long intended = start + i * intervalNanos;
+            if (intended >= end) {
+                break;
+            }
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            Workload.Operation operation = workload.next(random);
+            boolean measured = intended >= measureFrom;
+            if (inFlight.get() >= maxInFlight) {
+                if (measured) {
+                    dropped.increment();
+                    recorders.get(operation).recordValue(HIGHEST_MICROS); // 응답을 못 받는 요청 = 측정 한계만큼 느린 요청
+                    errors.get(operation).increment();
+                }
+                continue;
+            }
+            HttpRequest request = Workload.request(operation, base, articleIds, random);
+            long id = i;
+            if (measured) {
+                measuredInFlight.put(id, new Pending(operation, intended));
+            }
+            inFlight.incrementAndGet();
+            client.sendAsync(request, HttpResponse.BodyHandlers.discarding()).whenComplete((response, failure) -> {
+                inFlight.decrementAndGet();
+                if (!measured || measuredInFlight.remove(id) == null) {
+                    return; // 데우는 중이었거나, drain 이 끝나서 이미 unfinished 로 넣은 요청
+                }
+                record(recorders.get(operation), intended);
+                if (failure != null || response.statusCode() >= 400) {
+                    errors.get(operation).increment();
+                }
+            });
+        }
+
+        long drainDeadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (inFlight.get() > 0 && System.nanoTime() < drainDeadline) {
+            Thread.sleep(10);
+        }
+        long unfinished = 0;
+        for (Long id : measuredInFlight.keySet()) {
+            Pending pending = measuredInFlight.remove(id);
+            if (pending != null) { // 그 사이에 응답이 왔으면 콜백이 이미 넣었다.
+                record(recorders.get(pending.operation()), pending.intended());
+                errors.get(pending.operation()).increment();
+                unfinished++;
+            }
+        }
+
+        report(recorders, errors, dropped.sum(), unfinished, durationSeconds, reportDir);
+
+        executor.shutdownNow();
+        if (context != null) {
+            context.close();
+        }
+    }
+
+    private static void record(Recorder recorder, long intended) {
+        long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - intended);
+        recorder.recordValue(Math.min(micros, HIGHEST_MICROS));
+    }
+
+    private static void report(Map<Workload.Operation, Recorder> recorders, Map<Workload.Operation, LongAdder> errors,
+                               long dropped, long unfinished, int durationSeconds, Path reportDir) throws Exception {
+        Files.createDirectories(reportDir);
+        Histogram total = new Histogram(HIGHEST_MICROS, 3);
+        long totalErrors = 0;
+
+        System.out.printf("%n%-10s %10s %10s %8s %10s %10s %10s %10s%n",
+                "operation", "requests", "req/s", "errors", "p50(ms)", "p99(ms)", "p99.9(ms)", "max(ms)");
+        for (Map.Entry<Workload.Operation, Recorder> entry : recorders.entrySet()) {
+            Histogram histogram = entry.getValue().getIntervalHistogram();
+            if (histogram.getTotalCount() == 0) {
+                continue;
+            }
+            long errorCount = errors.get(entry.getKey()).sum();
+            print(entry.getKey().key(), histogram, errorCount, durationSeconds);
+            write(reportDir.resolve(entry.getKey().key() + ".hgrm"), histogram);
+            total.add(histogram);
+            totalErrors += errorCount;
+        }
+        print("total", total, totalErrors, durationSeconds);
+        write(reportDir.resolve("total.hgrm"), total);
+        System.out.printf("dropped (max-in-flight): %,d, unfinished: %,d (recorded as errors)%n", dropped, unfinished);
+        if (dropped + unfinished > 0) {
+            System.out.println("INVALID: the server could not keep up with the offered rate, latencies are lower bounds");
+        }
+        System.out.printf("percentile distributions: %s%n", reportDir.toAbsolutePath());
+    }
+
+    private static void print(String name, Histogram histogram, long errors, int durationSeconds) {
+        System.out.printf("%-10s %,10d %,10.1f %,8d %10.2f %10.2f %10.2f %10.2f%n",
+                name, histogram.getTotalCount(), histogram.getTotalCount() / (double) durationSeconds, errors,
+                histogram.getValueAtPercentile(50) / 1000.0,
+                histogram.getValueAtPercentile(99) / 1000.0,
+                histogram.getValueAtPercentile(99.9) / 1000.0,
+                histogram.getMaxValue() / 1000.0);
+    }
+
+    /* 측정 구간에 보낸, 아직 응답 안 온 요청 */
+    private record Pending(Workload.Operation operation, long intended) {}
+
+    /* HdrHistogram 퍼센타일 분포 파일 (단위 ms). HistogramLogAnalyzer / hdrhistogram.github.io/HdrHistogram/plotFiles.html 로 그래프 */
+    private static void write(Path file, Histogram histogram) throws Exception {
+        try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+            histogram.outputPercentileDistribution(out, 1000.0);
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.bitstudy.app.loadtest;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/* 시작 시간 벤치마크 (./gradlew startupBenchmark)
+ *  앱을 새 JVM 으로 띄우고 GET /api/articles 가 처음 200 을 줄 때까지 걸린 시간을 잰다. (프로세스 시작 ~ 첫 성공 응답)
+ *  같은 H2 파일 DB 를 쓰고 아래 순서로 돈다.
+ *    default  : 기본 설정. 부팅마다 테이블을 새로 만들고 data.sql 을 다시 넣는다. (이게 처음 돌면서 prod 가 쓸 스키마도 만든다)
+ *    prod     : prod 프로필. 스키마 검사만, 데이터가 있으니 seed 안 함, lazy 빈, 색인 rebuild 는 뒤에서
+ *    prod+cds : prod + AppCDS 아카이브 (./gradlew cdsArchive 로 만든 것, 없으면 건너뜀)
+ *
+ *  설정 (-D)
+ *   startup.runs=5           시나리오마다 잴 횟수 (그 전에 한 번은 버리고 돌린다)
+ *   startup.timeout=180      한 번 띄울 때 기다리는 최대 시간(초)
+ *   startup.jvm-args=...     앱 JVM 옵션 (공백으로 구분) 예) -Dstartup.jvm-args="-Xmx512m -XX:TieredStopAtLevel=1"
+ *   startup.app-classpath    앱 클래스패스 (build.gradle 이 넣어줌, cdsArchive 랑 같아야 아카이브가 먹는다)
+ *   startup.cds-archive      AppCDS 아카이브 파일 (build.gradle 이 넣어줌)
+ *   startup.work-dir         H2 파일 DB, 앱 로그를 둘 곳
+ * */
+public class StartupBenchmark {
+
+    private static final String MAIN_CLASS = "com.bitstudy.app.AppApplication";
+    private static final long POLL_MILLIS = 10;
+
+    private record Scenario(String name, List<String> jvmArgs, List<String> appArgs) {}
+
+    public static void main(String[] args) throws Exception {
+        int runs = Integer.getInteger("startup.runs", 5);
+        Duration timeout = Duration.ofSeconds(Long.getLong("startup.timeout", 180L));
+        List<String> jvmArgs = split(System.getProperty("startup.jvm-args", ""));
+        String classpath = System.getProperty("startup.app-classpath", System.getProperty("java.class.path"));
+        Path archive = Path.of(System.getProperty("startup.cds-archive", "build/cds/app.jsa"));
+        Path workDir = Path.of(System.getProperty("startup.work-dir", "build/startup-benchmark")).toAbsolutePath();
+
+        deleteRecursively(workDir);
+        Files.createDirectories(workDir);
+        String url = "jdbc:h2:file:" + workDir.resolve("board");
+
+        List<Scenario> scenarios = new ArrayList<>();
+        scenarios.add(new Scenario("default", jvmArgs, List.of()));
+        scenarios.add(new Scenario("prod", jvmArgs, List.of("--spring.profiles.active=prod")));
+        if (Files.exists(archive)) {
+            List<String> cds = new ArrayList<>(jvmArgs);
+            cds.add("-XX:SharedArchiveFile=" + archive.toAbsolutePath());
+            scenarios.add(new Scenario("prod+cds", cds, List.of("--spring.profiles.active=prod")));
+        } else {
+            System.out.printf("no CDS archive at %s, skipping prod+cds (./gradlew cdsArchive)%n", archive);
+        }
+
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(2))
+                .build();
+
+        System.out.printf("%-10s %10s %10s %10s   (ms until first 200 from GET /api/articles, %d runs)%n",
+                "scenario", "min", "median", "max", runs);
+        for (Scenario scenario : scenarios) {
+            List<Long> millis = new ArrayList<>();
+            for (int i = 0; i <= runs; i++) {
+                long elapsed = launch(client, classpath, scenario, url, workDir.resolve(scenario.name() + "-" + i + ".log"), timeout);
+                if (i > 0) { // 첫 번째는 디스크 캐시 데우기용
+                    millis.add(elapsed);
+                }
+            }
+            Collections.sort(millis);
+            System.out.printf("%-10s %,10d %,10d %,10d%n",
+                    scenario.name(), millis.get(0), millis.get(millis.size() / 2), millis.get(millis.size() - 1));
+        }
+    }
+
+    /* @return 프로세스 시작부터 첫 200 까지 ms */
+    private static long launch(HttpClient client, String classpath, Scenario scenario, String url,
+                               Path log, Duration timeout) throws Exception {
+        int port = freePort();
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(scenario.jvmArgs());
+        command.add("-cp");
+        command.add(classpath);
+        command.add(MAIN_CLASS);
+        command.add("--server.port=" + port);
+        command.add("--spring.datasource.url=" + url);
+        command.add("--spring.datasource.username=sa");
+        command.add("--spring.datasource.password=");
+        command.add("--spring.datasource.driver-class-name=org.h2.Driver");
+        command.add("--logging.level.org.springframework.web.servlet=warn");
+        command.addAll(scenario.appArgs());
+
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/articles"))
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+        try {
+            long deadline = start + timeout.toNanos();
+            while (System.nanoTime() < deadline) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException(scenario.name() + " exited with " + process.exitValue() + ", see " + log);
+                }
+                try {
+                    HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                    if (response.statusCode() == 200) {
+                        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                    }
+                } catch (ConnectException e) {
+                    // 아직 포트를 안 열었음
+                }
+                Thread.sleep(POLL_MILLIS);
+            }
+            throw new IllegalStateException(scenario.name() + " not ready in " + timeout + ", see " + log);
+        } finally {
+            stop(process);
+        }
+    }
+
+    /* 정상 종료를 기다려야 H2 파일 DB 가 닫혀서 다음 프로세스가 열 수 있다. */
+    private static void stop(Process process) throws InterruptedException {
+        process.destroy();
+        if (!process.waitFor(30, TimeUnit.SECONDS)) {
+            process.destroyForcibly().waitFor();
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static List<String> split(String args) {
+        return args.isBlank() ? List.of() : Arrays.asList(args.trim().split("\\s+"));
+    }
+
+    private static void deleteRecursively(Path dir) throws IOException {
+        if (!Files.exists(dir)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(dir)) {
+            paths.sorted(Collections.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.bitstudy.app.loadtest;
+
+import com.bitstudy.app.AppApplication;
+import com.bitstudy.app.dto.ImportReport;
+import com.bitstudy.app.service.BulkImportService;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.BufferedWriter;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+/* 부하 테스트용 앱 띄우기 + 가짜 데이터 채우기
+ *  h2 프로필(메모리 DB)로 톰캣까지 그대로 띄우고, 게시글 articles 개 (게시글마다 댓글 commentsPerArticle 개)를
+ *  BulkImportService 로 넣는다. (data.sql 의 100개는 그대로 있음)
+ *
+ *  -Dloadtest.app.xxx=yyy 는 앱 설정 xxx=yyy 로 넘긴다. 예) -Dloadtest.app.spring.datasource.hikari.maximum-pool-size=30
+ * */
+final class SyntheticBoard {
+
+    private static final String APP_PREFIX = "loadtest.app.";
+    private static final String CONTENT = "Donec diam neque, vestibulum eget, vulputate ut, ultrices vel, augue. Vestibulum ante ipsum primis in faucibus.";
+
+    private SyntheticBoard() {}
+
+    static ConfigurableApplicationContext start() {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("server.port", "0");
+        properties.put("spring.jpa.show-sql", "false");
+        properties.put("logging.level.root", "warn");
+        properties.put("logging.level.org.springframework.web.servlet", "warn");
+        System.getProperties().forEach((key, value) -> {
+            if (key.toString().startsWith(APP_PREFIX)) {
+                properties.put(key.toString().substring(APP_PREFIX.length()), value);
+            }
+        });
+        return new SpringApplicationBuilder(AppApplication.class)
+                .profiles("h2")
+                .properties(properties)
+                .run();
+    }
+
+    static int port(ConfigurableApplicationContext context) {
+        return ((WebServerApplicationContext) context).getWebServer().getPort();
+    }
+
+    static ImportReport seed(ConfigurableApplicationContext context, int articles, int commentsPerArticle) throws Exception {
+        Path file = Files.createTempFile("loadtest", ".ndjson");
+        try {
+            try (BufferedWriter out = Files.newBufferedWriter(file)) {
+                for (int i = 0; i < articles; i++) {
+                    out.write("{\"id\":" + i + ",\"title\":\"load test " + i + "\",\"content\":\"" + CONTENT + "\","
+                            + "\"hashtag\":\"#tag" + (i % 50) + "\",\"createdBy\":\"loadtest\",\"comments\":[");
+                    for (int c = 0; c < commentsPerArticle; c++) {
+                        out.write((c == 0 ? "" : ",") + "{\"content\":\"" + CONTENT + "\",\"createdBy\":\"loadtest\"}");
+                    }
+                    out.write("]}\n");
+                }
+            }
+            try (InputStream in = Files.newInputStream(file)) {
+                return context.getBean(BulkImportService.class).importNdjson(in);
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    static long[] articleIds(ConfigurableApplicationContext context) {
+        return context.getBean(JdbcTemplate.class)
+                .queryForList("select id from article order by id", Long.class)
+                .stream().mapToLong(Long::longValue).toArray();
+    }
+}
@@ -0,0 +1,117 @@
+package com.bitstudy.app.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/* 부하 테스트에서 보낼 요청 종류와 비율
+ *  -Dloadtest.mix=list=30,article=30,comments=25,comment=10,write=5 처럼 이름=비율 로 준다. (합이 100 일 필요는 없음)
+ * */
+final class Workload {
+
+    static final String DEFAULT_MIX = "list=30,article=30,comments=25,comment=10,write=5";
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+    private static final String HAL_JSON = "application/hal+json";
+
+    enum Operation {
+        LIST("list"),         // GET  /api/articles?page=&size=20
+        ARTICLE("article"),   // GET  /api/articles/{id}
+        COMMENTS("comments"), // GET  /api/articles/{id}/articleComments
+        COMMENT("comment"),   // POST /api/articleComments
+        WRITE("write");       // POST /api/articles
+
+        private final String key;
+
+        Operation(String key) {
+            this.key = key;
+        }
+
+        static Operation of(String key) {
+            for (Operation operation : values()) {
+                if (operation.key.equals(key)) {
+                    return operation;
+                }
+            }
+            throw new IllegalArgumentException("알 수 없는 요청 종류: " + key + " (list, article, comments, comment, write)");
+        }
+
+        String key() {
+            return key;
+        }
+    }
+
+    private final Operation[] operations;
+    private final int[] cumulative;
+    private final int total;
+
+    private Workload(Map<Operation, Integer> weights) {
+        List<Operation> ops = new ArrayList<>();
+        List<Integer> sums = new ArrayList<>();
+        int sum = 0;
+        for (Map.Entry<Operation, Integer> entry : weights.entrySet()) {
+            if (entry.getValue() > 0) {
+                sum += entry.getValue();
+                ops.add(entry.getKey());
+                sums.add(sum);
+            }
+        }
+        if (sum == 0) {
+            throw new IllegalArgumentException("비율이 0 보다 큰 요청이 하나는 있어야 합니다");
+        }
+        this.operations = ops.toArray(new Operation[0]);
+        this.cumulative = sums.stream().mapToInt(Integer::intValue).toArray();
+        this.total = sum;
+    }
+
+    static Workload parse(String mix) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (String part : mix.split(",")) {
+            String[] pair = part.trim().split("=");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("loadtest.mix 형식이 잘못됨: " + part);
+            }
+            weights.put(Operation.of(pair[0].trim()), Integer.parseInt(pair[1].trim()));
+        }
+        return new Workload(weights);
+    }
+
+    Operation next(Random random) {
+        int pick = random.nextInt(total);
+        for (int i = 0; i < cumulative.length; i++) {
+            if (pick < cumulative[i]) {
+                return operations[i];
+            }
+        }
+        return operations[operations.length - 1];
+    }
+
+    static HttpRequest request(Operation operation, String base, long[] articleIds, Random random) {
+        long articleId = articleIds[random.nextInt(articleIds.length)];
+        return switch (operation) {
+            case LIST -> get(base + "/api/articles?page=" + random.nextInt(10) + "&size=20");
+            case ARTICLE -> get(base + "/api/articles/" + articleId);
+            case COMMENTS -> get(base + "/api/articles/" + articleId + "/articleComments");
+            case COMMENT -> post(base + "/api/articleComments",
+                    "{\"article\":\"" + base + "/api/articles/" + articleId + "\",\"content\":\"load test comment\"}");
+            case WRITE -> post(base + "/api/articles",
+                    "{\"title\":\"load test\",\"content\":\"load test content\",\"hashtag\":\"#loadtest\"}");
+        };
+    }
+
+    private static HttpRequest get(String uri) {
+        return HttpRequest.newBuilder(URI.create(uri)).timeout(TIMEOUT).header("Accept", HAL_JSON).GET().build();
+    }
+
+    private static HttpRequest post(String uri, String json) {
+        return HttpRequest.newBuilder(URI.create(uri)).timeout(TIMEOUT)
+                .header("Accept", HAL_JSON)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+}
@@ -0,0 +1,221 @@
+package com.bitstudy.app.admission;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/* 응답 시간을 보고 스스로 늘었다 줄었다 하는 동시 요청 수 한도 (gradient 방식)
+ *  고정 한도는 DB 가 느려지면 너무 크고(다들 커넥션 풀 앞에서 줄 서서 다 같이 느려짐), 빨라지면 너무 작다.
+ *  그래서 window(기본 100ms)마다 그동안의 평균 응답 시간(short)을 평소 응답 시간(baseline, 긴 이동평균)이랑 비교한다.
+ *
+ *    gradient = clamp(tolerance * baseline / short, 0.5, 1.0)  -> 평소보다 느려진 만큼 줄인다. (tolerance 배까지는 봐줌)
+ *    새 한도  = 한도 * gradient + sqrt(한도)                    -> 안 느려졌으면 sqrt(한도) 만큼씩 늘려본다.
+ *    실패(5xx)가 섞여 있으면 그냥 backoff 배로 줄인다.
+ *    한도의 절반도 안 쓰고 있으면 늘리지 않는다. (안 써본 한도는 믿을 수 없으니까)
+ *
+ *  baseline 은 천천히 따라가서 "느려진 상태"가 금방 평소가 되지 않는다. 반대로 지금이 baseline 보다 훨씬 빠르면(2배 이상)
+ *  baseline 을 빨리 끌어내린다. (느렸던 시절 값이 남아서 한도가 계속 크게 잡히는 것 방지)
+ *
+ *  acquire 는 CAS 한 번이라 빠르다. 꽉 찼을 때 maxWait 를 주면 그 시간만큼만 자리가 나길 기다린다. (쓰기 우선순위용)
+ * */
+public final class AdaptiveLimit {
+
+    private static final double MIN_GRADIENT = 0.5;
+    private static final double BACKOFF = 0.9;
+    private static final double SMOOTHING = 0.2;
+    private static final int BASELINE_WINDOWS = 100; // baseline 이동평균 길이 (window 개수)
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final long windowNanos;
+    private final LongSupplier nanoClock;
+
+    private volatile double limit;
+    private final AtomicInteger inflight = new AtomicInteger();
+    private final AtomicInteger waiters = new AtomicInteger();
+    private final ReentrantLock waitLock = new ReentrantLock();
+    private final Condition released = waitLock.newCondition();
+    private final LongAdder admitted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    // 지금 window 에 모은 것 (this 로 보호)
+    private long windowEnd;
+    private long rttSum;
+    private int samples;
+    private int maxInflight;
+    private boolean dropped;
+    private volatile double baselineNanos;
+    private volatile double lastRttNanos;
+
+    public AdaptiveLimit(int initialLimit, int minLimit, int maxLimit, double tolerance, long windowNanos, LongSupplier nanoClock) {
+        if (minLimit < 1 || minLimit > maxLimit) {
+            throw new IllegalArgumentException("1 <= min-limit <= max-limit: " + minLimit + ", " + maxLimit);
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.windowNanos = windowNanos;
+        this.nanoClock = nanoClock;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+        this.windowEnd = nanoClock.getAsLong() + windowNanos;
+    }
+
+    /* 바로 자리가 없으면 false */
+    public boolean tryAcquire() {
+        return tryAcquire(0, 1.0);
+    }
+
+    /* @param maxWaitNanos 꽉 찼을 때 기다릴 시간 (0 이면 안 기다림)
+     * @param share        한도의 이 비율까지만 쓴다. (쓰기가 밀릴 때 읽기에 1 보다 작게 줌) */
+    public boolean tryAcquire(long maxWaitNanos, double share) {
+        if (tryIncrement(share)) {
+            admitted.increment();
+            return true;
+        }
+        if (maxWaitNanos > 0 && await(maxWaitNanos, share)) {
+            admitted.increment();
+            return true;
+        }
+        rejected.increment();
+        return false;
+    }
+
+    /* 받아준 요청이 끝났을 때 한 번 부른다.
+     * @param rttNanos 걸린 시간
+     * @param failed   서버 쪽 실패(5xx)였는지 -> 한도를 줄인다. */
+    public void release(long rttNanos, boolean failed) {
+        sample(rttNanos, freeSlot(), failed);
+    }
+
+    /* 측정 없이 자리만 돌려준다. (async 로 넘어간 요청처럼 시간이 의미 없을 때) */
+    public void releaseWithoutSample() {
+        freeSlot();
+    }
+
+    /* 꽉 찼거나 자리를 기다리는 요청이 있으면 true */
+    public boolean isSaturated() {
+        return waiters.get() > 0 || inflight.get() >= (int) limit;
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInflight() {
+        return inflight.get();
+    }
+
+    public long getAdmitted() {
+        return admitted.sum();
+    }
+
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    public double getBaselineMillis() {
+        return baselineNanos / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    public double getLastRttMillis() {
+        return lastRttNanos / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    private boolean tryIncrement(double share) {
+        int allowed = Math.max(1, (int) (limit * share));
+        while (true) {
+            int current = inflight.get();
+            if (current >= allowed) {
+                return false;
+            }
+            if (inflight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /* @return 돌려주기 전 동시 요청 수 */
+    private int freeSlot() {
+        int current = inflight.getAndDecrement();
+        if (waiters.get() > 0) {
+            waitLock.lock();
+            try {
+                released.signal();
+            } finally {
+                waitLock.unlock();
+            }
+        }
+        return current;
+    }
+
+    private boolean await(long maxWaitNanos, double share) {
+        waiters.incrementAndGet();
+        waitLock.lock();
+        try {
+            long remaining = maxWaitNanos;
+            while (!tryIncrement(share)) {
+                if (remaining <= 0) {
+                    return false;
+                }
+                remaining = released.awaitNanos(remaining);
+            }
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            waitLock.unlock();
+            waiters.decrementAndGet();
+        }
+    }
+
+    private synchronized void sample(long rttNanos, int inflightAtRelease, boolean failed) {
+        rttSum += rttNanos;
+        samples++;
+        maxInflight = Math.max(maxInflight, inflightAtRelease);
+        dropped |= failed;
+
+        long now = nanoClock.getAsLong();
+        if (now - windowEnd < 0) {
+            return;
+        }
+        update((double) rttSum / samples);
+        windowEnd = now + windowNanos;
+        rttSum = 0;
+        samples = 0;
+        maxInflight = 0;
+        dropped = false;
+    }
+
+    private void update(double shortRtt) {
+        lastRttNanos = shortRtt;
+        double baseline = baselineNanos;
+        if (baseline == 0) {
+            baseline = shortRtt;
+        } else {
+            baseline += (shortRtt - baseline) / BASELINE_WINDOWS;
+            if (baseline > shortRtt * 2) {
+                baseline = shortRtt * 2; // 빨라졌으면 baseline 을 바로 따라 내려간다.
+            }
+        }
+        baselineNanos = baseline;
+
+        double current = limit;
+        double next;
+        if (dropped) {
+            next = current * BACKOFF; // 실패는 바로 줄인다. (smoothing 안 함)
+        } else {
+            double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, tolerance * baseline / shortRtt));
+            next = current * gradient + Math.sqrt(current);
+            if (maxInflight < current / 2) {
+                next = Math.min(next, current); // 한도를 다 안 써봤으면 늘리지 않는다.
+            }
+            next = current * (1 - SMOOTHING) + next * SMOOTHING;
+        }
+        limit = Math.max(minLimit, Math.min(maxLimit, next));
+    }
+}
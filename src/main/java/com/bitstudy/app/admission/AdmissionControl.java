@@ -0,0 +1,89 @@
+package com.bitstudy.app.admission;
+
+import com.bitstudy.app.config.AdmissionProperties;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/* 요청 묶음(EndpointClass)마다 한도(AdaptiveLimit)를 하나씩 들고, 받아줄지 정한다.
+ *  우선순위
+ *    - 쓰기는 한도가 차 있으면 write-max-wait 만큼 자리를 기다려본다.
+ *    - 읽기는 안 기다리고 바로 거절한다. 게다가 쓰기가 꽉 차 있는(기다리는 쓰기가 있는) 동안은
+ *      자기 한도의 read-share-under-write-pressure 만큼만 받아서 DB 커넥션을 쓰기에 양보한다.
+ *    - 내보내기는 한두 개만
+ *
+ *  메트릭 (class=read|write|export 태그)
+ *    board.admission.limit / inflight           : 지금 한도 / 처리 중인 요청 수
+ *    board.admission.latency.recent / baseline  : 최근 window 평균 응답 시간 / 평소 응답 시간 (ms)
+ *    board.admission.admitted / rejected        : 받아준 요청 / 503 으로 돌려보낸 요청
+ * */
+public class AdmissionControl {
+
+    private final Map<EndpointClass, AdaptiveLimit> limits = new EnumMap<>(EndpointClass.class);
+    private final long writeMaxWaitNanos;
+    private final double readShareUnderWritePressure;
+
+    public AdmissionControl(AdmissionProperties properties, MeterRegistry meterRegistry) {
+        this.writeMaxWaitNanos = properties.getWriteMaxWait().toNanos();
+        this.readShareUnderWritePressure = properties.getReadShareUnderWritePressure();
+        limits.put(EndpointClass.READ, limit(properties, properties.getRead()));
+        limits.put(EndpointClass.WRITE, limit(properties, properties.getWrite()));
+        limits.put(EndpointClass.EXPORT, limit(properties, properties.getExport()));
+        if (meterRegistry != null) {
+            limits.forEach((type, limit) -> register(meterRegistry, type, limit));
+        }
+    }
+
+    /* @return 받아줬으면 요청이 끝날 때 release 할 한도, 거절이면 null */
+    public AdaptiveLimit admit(EndpointClass type) {
+        AdaptiveLimit limit = limits.get(type);
+        boolean admitted = switch (type) {
+            case WRITE -> limit.tryAcquire(writeMaxWaitNanos, 1.0);
+            case READ -> limit.tryAcquire(0, limits.get(EndpointClass.WRITE).isSaturated() ? readShareUnderWritePressure : 1.0);
+            case EXPORT -> limit.tryAcquire();
+        };
+        return admitted ? limit : null;
+    }
+
+    public AdaptiveLimit limit(EndpointClass type) {
+        return limits.get(type);
+    }
+
+    private static AdaptiveLimit limit(AdmissionProperties properties, AdmissionProperties.Limit limit) {
+        return new AdaptiveLimit(limit.getInitial(), limit.getMin(), limit.getMax(),
+                properties.getTolerance(), properties.getWindow().toNanos(), System::nanoTime);
+    }
+
+    private static void register(MeterRegistry registry, EndpointClass type, AdaptiveLimit limit) {
+        String tag = type.tag();
+        Gauge.builder("board.admission.limit", limit, AdaptiveLimit::getLimit)
+                .description("current adaptive concurrency limit")
+                .tag("class", tag)
+                .register(registry);
+        Gauge.builder("board.admission.inflight", limit, AdaptiveLimit::getInflight)
+                .description("admitted requests still running")
+                .tag("class", tag)
+                .register(registry);
+        Gauge.builder("board.admission.latency.recent", limit, AdaptiveLimit::getLastRttMillis)
+                .description("mean latency of the last limit window")
+                .tag("class", tag)
+                .baseUnit("milliseconds")
+                .register(registry);
+        Gauge.builder("board.admission.latency.baseline", limit, AdaptiveLimit::getBaselineMillis)
+                .description("long-term latency the limiter compares against")
+                .tag("class", tag)
+                .baseUnit("milliseconds")
+                .register(registry);
+        FunctionCounter.builder("board.admission.admitted", limit, AdaptiveLimit::getAdmitted)
+                .description("requests let through the admission filter")
+                .tag("class", tag)
+                .register(registry);
+        FunctionCounter.builder("board.admission.rejected", limit, AdaptiveLimit::getRejected)
+                .description("requests shed with 503 by the admission filter")
+                .tag("class", tag)
+                .register(registry);
+    }
+}
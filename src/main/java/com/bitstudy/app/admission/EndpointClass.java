@@ -0,0 +1,29 @@
+package com.bitstudy.app.admission;
+
+/* 동시 요청 수 한도를 따로 두는 요청 묶음
+ *  한 묶음 안에서는 비용이 비슷하다고 보고 한도 하나를 같이 쓴다.
+ *    READ   : /api 의 GET/HEAD (목록, 단건, 댓글 목록, 검색 ...) - 싸고 많다. 밀리면 제일 먼저 버린다.
+ *    WRITE  : /api 의 POST/PUT/PATCH/DELETE (댓글 쓰기가 대부분) - 잃으면 사용자가 다시 써야 해서 우선한다.
+ *    EXPORT : /admin/export - 테이블 전체를 읽어서 몇 개만 동시에
+ *  실시간 피드(.../stream)는 연결을 몇십 분씩 잡고 있는 거라 여기 안 넣는다. (CommentFeed 가 따로 구독자 수를 막음)
+ * */
+public enum EndpointClass {
+
+    READ, WRITE, EXPORT;
+
+    /* @param path 컨텍스트 경로를 빼고 ;파라미터, %xx 를 푼 요청 경로 (MVC 가 라우팅하는 경로)
+     * @return 제한 대상이 아니면 null */
+    public static EndpointClass of(String method, String path) {
+        if (path.startsWith("/admin/export/")) {
+            return EXPORT;
+        }
+        if (!path.startsWith("/api/") || path.endsWith("/stream") || "OPTIONS".equals(method)) {
+            return null;
+        }
+        return "GET".equals(method) || "HEAD".equals(method) ? READ : WRITE;
+    }
+
+    public String tag() {
+        return name().toLowerCase();
+    }
+}
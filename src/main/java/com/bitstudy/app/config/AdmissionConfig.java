@@ -0,0 +1,33 @@
+package com.bitstudy.app.config;
+
+import com.bitstudy.app.admission.AdmissionControl;
+import com.bitstudy.app.filter.AdmissionFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/* 동시 요청 수 제한 설정 (board.admission.enabled, 기본 켜짐) */
+@Configuration
+@ConditionalOnProperty(prefix = "board.admission", name = "enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(AdmissionProperties.class)
+public class AdmissionConfig {
+
+    @Bean
+    public AdmissionControl admissionControl(AdmissionProperties properties, ObjectProvider<MeterRegistry> meterRegistry) {
+        return new AdmissionControl(properties, meterRegistry.getIfAvailable());
+    }
+
+    /* 요청 메트릭(http.server.requests) 필터 바로 뒤, DB 를 건드리는 필터들(read-your-writes, 조건부 GET)보다 앞 */
+    @Bean
+    public FilterRegistrationBean<AdmissionFilter> admissionFilter(AdmissionControl admissionControl, AdmissionProperties properties) {
+        FilterRegistrationBean<AdmissionFilter> registration =
+                new FilterRegistrationBean<>(new AdmissionFilter(admissionControl, properties.getRetryAfter().toSeconds()));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 5);
+        return registration;
+    }
+}
@@ -0,0 +1,38 @@
+package com.bitstudy.app.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/* board.admission.* 설정 (요청 받아주기 전 동시 요청 수 제한, AdmissionFilter / AdmissionControl)
+ *  한도는 처음에 initial 로 시작해서 응답 시간을 보고 min ~ max 사이에서 알아서 움직인다. (AdaptiveLimit)
+ * */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "board.admission")
+public class AdmissionProperties {
+
+    private boolean enabled = true;
+    private Duration window = Duration.ofMillis(100);      // 이 간격마다 응답 시간을 모아서 한도를 고친다.
+    private double tolerance = 1.5;                         // 평소 응답 시간의 이 배까지는 느려져도 한도를 안 줄인다.
+    private Duration retryAfter = Duration.ofSeconds(1);    // 503 응답의 Retry-After
+    private Duration writeMaxWait = Duration.ofMillis(50);  // 쓰기는 한도가 차 있으면 이만큼 자리를 기다려본다. (읽기는 바로 503)
+    private double readShareUnderWritePressure = 0.5;       // 쓰기 한도가 꽉 차 있는 동안 읽기는 자기 한도의 이 비율까지만 받는다.
+    private Limit read = new Limit(40, 10, 200);
+    private Limit write = new Limit(20, 4, 100);
+    private Limit export = new Limit(1, 1, 2);
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Limit {
+        private int initial;
+        private int min;
+        private int max;
+    }
+}
@@ -0,0 +1,13 @@
+package com.bitstudy.app.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/* 게시글 보관 설정
+ *  보관 테이블 fallback 읽기(ArticleArchiveController)는 항상 켜져 있어야 하니까 조건 없이 등록한다.
+ *  자동 실행 여부만 board.archive.enabled 로 정한다.
+ * */
+@Configuration
+@EnableConfigurationProperties(ArchiveProperties.class)
+public class ArchiveConfig {
+}
@@ -0,0 +1,21 @@
+package com.bitstudy.app.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/* board.archive.* 설정 (오래된 게시글 보관, ArticleArchiveJob)
+ *  enabled 가 true 일 때만 cron 에 맞춰 자동으로 돈다. 기본은 꺼져 있다.
+ *  POST /admin/archive/run 은 enabled 와 상관없이 한번 돌린다.
+ * */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "board.archive")
+public class ArchiveProperties {
+
+    private boolean enabled;
+    private Duration maxAge = Duration.ofDays(365); // 작성/수정 후 이만큼 지났고, 그동안 새 댓글도 없는 글을 옮긴다.
+    private int batchSize = 500;                    // 트랜잭션 하나에 옮길 최대 게시글 수
+}
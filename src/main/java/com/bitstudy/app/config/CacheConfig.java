@@ -0,0 +1,47 @@
+package com.bitstudy.app.config;
+
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import javax.persistence.EntityManagerFactory;
+import java.net.URI;
+import java.util.UUID;
+
+/* Hibernate 2차 캐시 설정
+ *  - 캐시 구현은 Caffeine (크기/만료 설정은 resources/application.conf)
+ *  - CacheManager 를 여기서 직접 만들어서 Hibernate 에 넘겨준다. 그래야 같은 CacheManager 로 actuator 메트릭을 걸 수 있다.
+ *    (URI 를 매번 새로 만드는 이유: 테스트처럼 한 JVM 에 스프링 컨텍스트가 여러개 떠도 캐시를 서로 안 섞으려고)
+ *  - /actuator/metrics/cache.gets?tag=result:hit (miss), cache.puts, cache.evictions 로 볼 수 있다.
+ * */
+@Configuration
+public class CacheConfig {
+
+    @Bean(destroyMethod = "close")
+    public CacheManager secondLevelCacheManager() {
+        CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        return provider.getCacheManager(URI.create("urn:board-l2:" + UUID.randomUUID()), getClass().getClassLoader());
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager secondLevelCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, secondLevelCacheManager);
+    }
+
+    /* EntityManagerFactory 를 받는 이유: Hibernate 가 region 캐시들을 다 만든 뒤에 메트릭을 걸어야 해서 */
+    @Bean
+    public MeterBinder secondLevelCacheMetrics(CacheManager secondLevelCacheManager, EntityManagerFactory entityManagerFactory) {
+        return registry -> {
+            for (String name : secondLevelCacheManager.getCacheNames()) {
+                JCacheMetrics.monitor(registry, secondLevelCacheManager.getCache(name));
+            }
+        };
+    }
+}
@@ -0,0 +1,10 @@
+package com.bitstudy.app.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/* 댓글 실시간 피드 설정 (CommentFeed, CommentFeedController) */
+@Configuration
+@EnableConfigurationProperties(CommentFeedProperties.class)
+public class CommentFeedConfig {
+}
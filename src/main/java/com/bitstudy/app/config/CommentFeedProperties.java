@@ -0,0 +1,22 @@
+package com.bitstudy.app.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/* board.comment-feed.* 설정 (댓글 실시간 피드, CommentFeed) */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "board.comment-feed")
+public class CommentFeedProperties {
+
+    private int maxSubscribers = 50_000;                // 동시에 붙어있을 수 있는 구독자 수. 넘치면 503
+    private int bufferSize = 256;                       // 구독자 한 명한테 못 보내고 쌓아둘 수 있는 이벤트 수. 넘치면 그 구독자를 끊는다.
+    private int inboundCapacity = 10_000;               // 커밋 이벤트 -> 디스패처 큐 크기. 넘치면 이벤트를 버린다. (쓰는 쪽을 안 막음)
+    private int replaySize = 1_024;                     // 다시 붙을 때(Last-Event-ID) 이어서 보내주려고 들고 있는 최근 이벤트 수
+    private int senderThreads = 4;                      // 소켓에 쓰는 스레드 수 (구독자 수랑 상관없음)
+    private Duration heartbeat = Duration.ofSeconds(15); // 이벤트가 없어도 이 간격으로 주석 한 줄을 보내서 끊긴 연결을 찾는다.
+    private Duration timeout = Duration.ofMinutes(30);  // 연결 하나의 최대 시간. 끝나면 브라우저(EventSource)가 알아서 다시 붙는다.
+}
@@ -0,0 +1,14 @@
+package com.bitstudy.app.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/* 댓글 write-behind 설정 (board.comment-ingest.enabled=true 일 때만)
+ *  CommentIngestService, CommentIngestController 도 같은 조건으로 켜진다.
+ * */
+@Configuration
+@ConditionalOnProperty(prefix = "board.comment-ingest", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(CommentIngestProperties.class)
+public class CommentIngestConfig {
+}
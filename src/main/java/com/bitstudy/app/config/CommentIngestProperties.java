@@ -0,0 +1,33 @@
+package com.bitstudy.app.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/* board.comment-ingest.* 설정 (댓글 write-behind, CommentIngestService)
+ *  enabled 가 true 일 때만 POST /api/articleComments 가 큐를 거친다. 기본은 꺼져 있다. (기존처럼 요청마다 바로 저장)
+ * */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "board.comment-ingest")
+public class CommentIngestProperties {
+
+    public enum Durability {
+        /* DB 에 커밋된 뒤에 응답 (201). 서버가 죽어도 응답받은 댓글은 안 사라진다. 응답은 최대 maxLatency 만큼 늦어진다. */
+        FLUSH,
+        /* WAL 파일에 fsync 한 뒤에 바로 응답 (202). 서버가 죽으면 다음 시작 때 WAL 에서 다시 넣는다. */
+        WAL
+    }
+
+    private boolean enabled;
+    private Durability durability = Durability.FLUSH;
+    private int capacity = 10_000;            // 큐에 쌓아둘 수 있는 최대 댓글 수. 넘치면 503
+    private int batchSize = 200;              // 트랜잭션 하나에 넣을 최대 댓글 수
+    private Duration maxLatency = Duration.ofMillis(20); // 큐에 들어온 댓글이 flush 까지 기다리는 최대 시간
+    private Duration ackTimeout = Duration.ofSeconds(5); // FLUSH 모드에서 커밋을 기다리는 최대 시간 (넘으면 202)
+    private Path walFile = Path.of("data", "comment-ingest.wal");
+    private Path deadLetterFile = Path.of("data", "comment-ingest.dead"); // WAL 모드에서 202 를 줬는데 끝내 못 넣은 댓글
+}
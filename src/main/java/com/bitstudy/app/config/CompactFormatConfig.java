@@ -0,0 +1,34 @@
+package com.bitstudy.app.config;
+
+import com.bitstudy.app.web.CompactHttpMessageConverter;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.rest.webmvc.config.RepositoryRestConfigurer;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/* compact 응답 형식(CBOR / Smile / 링크 없는 JSON) 컨버터 등록
+ *  Data REST 쪽(/api/articles 등)과 일반 MVC 쪽(/api/search 등) 컨버터 목록 둘 다 맨 앞에 넣는다.
+ *  (compact 요청이 아니면 canWrite 가 false 라서 기존 HAL/JSON 컨버터가 그대로 쓰인다)
+ * */
+@Configuration
+public class CompactFormatConfig implements RepositoryRestConfigurer, WebMvcConfigurer {
+
+    private final CompactHttpMessageConverter converter;
+
+    public CompactFormatConfig(Jackson2ObjectMapperBuilder builder) {
+        this.converter = new CompactHttpMessageConverter(builder);
+    }
+
+    @Override
+    public void configureHttpMessageConverters(List<HttpMessageConverter<?>> messageConverters) {
+        messageConverters.add(0, converter);
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(0, converter);
+    }
+}
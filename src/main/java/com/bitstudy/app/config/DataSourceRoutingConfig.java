@@ -0,0 +1,77 @@
+package com.bitstudy.app.config;
+
+import com.bitstudy.app.datasource.ReadWriteRoutingDataSource;
+import com.bitstudy.app.datasource.ReplicaSelector;
+import com.bitstudy.app.filter.ReadYourWritesFilter;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/* 읽기/쓰기 분리 설정 (board.datasource.routing.enabled=true 일 때만)
+ *  DataSource 빈을 직접 만들어서 스프링 부트의 기본 DataSource(spring.datasource) 설정은 안 쓰게 된다.
+ *
+ *  JPA/JdbcTemplate -> LazyConnectionDataSourceProxy -> ReadWriteRoutingDataSource -> primary / replica-N 풀
+ * */
+@Configuration
+@ConditionalOnProperty(prefix = "board.datasource.routing", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(DataSourceRoutingProperties.class)
+public class DataSourceRoutingConfig {
+
+    @Bean
+    public ReadWriteRoutingDataSource routingDataSource(DataSourceRoutingProperties properties,
+                                                        ObjectProvider<MeterRegistry> meterRegistry) {
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        HikariDataSource primary = pool("primary", properties.getPrimary(), registry);
+        List<HikariDataSource> replicas = new ArrayList<>();
+        for (int i = 0; i < properties.getReplicas().size(); i++) {
+            replicas.add(pool("replica-" + i, properties.getReplicas().get(i), registry));
+        }
+        return new ReadWriteRoutingDataSource(primary, replicas, ReplicaSelector.of(properties.getStrategy()), registry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadWriteRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    /* 다른 필터(조건부 GET 등)가 DB 를 읽기 전에 pin 되어 있어야 해서 제일 앞쪽에 둔다. */
+    @Bean
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter(DataSourceRoutingProperties properties) {
+        FilterRegistrationBean<ReadYourWritesFilter> registration =
+                new FilterRegistrationBean<>(new ReadYourWritesFilter(properties.getReadYourWritesWindow()));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+
+    /* 풀마다 Hikari 메트릭을 붙인다. (hikaricp.connections.acquire / usage / creation, pool=이름) - ShardingConfig 도 같이 쓴다. */
+    static HikariDataSource pool(String name, DataSourceRoutingProperties.Node node, MeterRegistry registry) {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName(name);
+        config.setJdbcUrl(node.getUrl());
+        config.setUsername(node.getUsername());
+        config.setPassword(node.getPassword());
+        if (node.getDriverClassName() != null) {
+            config.setDriverClassName(node.getDriverClassName());
+        }
+        config.setMaximumPoolSize(node.getMaximumPoolSize());
+        if (registry != null) {
+            config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry));
+        }
+        return new HikariDataSource(config);
+    }
+}
@@ -0,0 +1,36 @@
+package com.bitstudy.app.config;
+
+import com.bitstudy.app.datasource.ReplicaSelector;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/* board.datasource.routing.* 설정 (application.yaml 의 replica-h2 프로필 참고)
+ *  enabled 가 true 면 spring.datasource 대신 여기 primary/replicas 로 커넥션 풀을 만든다.
+ * */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "board.datasource.routing")
+public class DataSourceRoutingProperties {
+
+    private boolean enabled;
+    private Node primary = new Node();
+    private List<Node> replicas = new ArrayList<>();
+    private ReplicaSelector.Strategy strategy = ReplicaSelector.Strategy.ROUND_ROBIN;
+    /* 쓰기 요청을 보낸 클라이언트는 이 시간 동안 읽기도 primary 에서 한다. (복제 지연보다 길게) */
+    private Duration readYourWritesWindow = Duration.ofSeconds(5);
+
+    @Getter
+    @Setter
+    public static class Node {
+        private String url;
+        private String username;
+        private String password;
+        private String driverClassName;
+        private int maximumPoolSize = 10;
+    }
+}
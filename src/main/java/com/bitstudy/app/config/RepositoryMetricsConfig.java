@@ -0,0 +1,44 @@
+package com.bitstudy.app.config;
+
+import com.bitstudy.app.repository.SlowRepositoryInvocationLogger;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.util.function.SingletonSupplier;
+
+import java.time.Duration;
+
+/* 레포지토리 호출 관측
+ *  - 메서드별 타이머(spring.data.repository.invocations)는 actuator 가 알아서 붙인다. 히스토그램은 application.yaml 에서 켠다.
+ *  - 여기서는 느린 호출 로그(SlowRepositoryInvocationLogger)를 모든 레포지토리에 붙인다.
+ *    레포지토리 팩토리 빈이 만들어질 때 invocation listener 로 끼워넣는다. (actuator 의 메트릭 listener 랑 같은 방식)
+ * */
+@Configuration
+public class RepositoryMetricsConfig {
+
+    @Bean
+    public SlowRepositoryInvocationLogger slowRepositoryInvocationLogger(
+            @Value("${board.slow-query.repository-threshold-millis:200}") long thresholdMillis) {
+        return new SlowRepositoryInvocationLogger(Duration.ofMillis(thresholdMillis));
+    }
+
+    /* BeanPostProcessor 는 다른 빈보다 먼저 만들어져야 해서 static 으로, listener 는 처음 쓸 때 꺼낸다. */
+    @Bean
+    public static BeanPostProcessor slowRepositoryInvocationLoggerPostProcessor(
+            ObjectProvider<SlowRepositoryInvocationLogger> logger) {
+        SingletonSupplier<SlowRepositoryInvocationLogger> listener = SingletonSupplier.of(logger::getObject);
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+                    factoryBean.addRepositoryFactoryCustomizer(factory ->
+                            factory.addInvocationListener(invocation -> listener.obtain().afterInvocation(invocation)));
+                }
+                return bean;
+            }
+        };
+    }
+}
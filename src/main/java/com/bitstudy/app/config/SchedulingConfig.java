@@ -0,0 +1,10 @@
+package com.bitstudy.app.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/* @Scheduled 가 붙은 배치 작업들(댓글 수 재계산 등)을 돌리기 위한 설정 */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
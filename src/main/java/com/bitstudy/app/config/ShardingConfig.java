@@ -0,0 +1,122 @@
+package com.bitstudy.app.config;
+
+import com.bitstudy.app.sharding.ShardAwareIdGenerator;
+import com.bitstudy.app.sharding.ShardRoutingDataSource;
+import com.bitstudy.app.sharding.ShardSchemaInitializer;
+import com.bitstudy.app.sharding.ShardingRepositoryInterceptor;
+import com.bitstudy.app.sharding.SnowflakeIds;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.util.function.SingletonSupplier;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/* 수평 샤딩 설정 (board.sharding.enabled=true 일 때만)
+ *  게시글은 id 로 샤드가 정해지고, 댓글은 자기 게시글이 있는 샤드에 같이 저장된다.
+ *
+ *  JPA/JdbcTemplate -> LazyConnectionDataSourceProxy -> ShardRoutingDataSource -> shard-0 / shard-1 ... 풀
+ *  레포지토리 프록시 맨 앞 -> ShardingRepositoryInterceptor (어느 샤드로 보낼지, 여러 샤드면 합치기)
+ *  id -> ShardAwareIdGenerator (샤드 번호가 들어간 snowflake id, 중앙 DB 안 거침)
+ *
+ *  같이 켜면 잘못 동작하는 설정은 조용히 넘어가지 않고 시작할 때 바로 실패시킨다.
+ *   - 읽기/쓰기 분리(board.datasource.routing) : 둘 다 기본 DataSource 를 바꾼다. 나중에 만든 쪽이 이겨서 한쪽이 조용히 꺼진다.
+ *   - spring.jpa.open-in-view (기본 true) : 요청 스레드에 EntityManager 가 붙어 있으면 트랜잭션이 그걸 재사용해서
+ *                                           처음 잡은 샤드 커넥션으로 다른 샤드 글의 LAZY 로딩/쿼리가 간다.
+ * */
+@Configuration
+@ConditionalOnProperty(prefix = "board.sharding", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(ShardingProperties.class)
+public class ShardingConfig {
+
+    public ShardingConfig(Environment environment) {
+        if (environment.getProperty("board.datasource.routing.enabled", Boolean.class, false)) {
+            throw new IllegalStateException("board.sharding.enabled and board.datasource.routing.enabled cannot both be true: " +
+                    "both replace the primary DataSource. Turn one of them off.");
+        }
+        if (environment.getProperty("spring.jpa.open-in-view", Boolean.class, true)) {
+            throw new IllegalStateException("board.sharding.enabled=true requires spring.jpa.open-in-view=false: " +
+                    "an EntityManager held open for the whole request keeps the first shard's connection " +
+                    "and sends queries for other shards to it.");
+        }
+    }
+
+    @Bean
+    public ShardRoutingDataSource shardRoutingDataSource(ShardingProperties properties,
+                                                         ObjectProvider<MeterRegistry> meterRegistry) {
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        List<HikariDataSource> pools = new ArrayList<>();
+        for (int i = 0; i < properties.getShards().size(); i++) {
+            pools.add(DataSourceRoutingConfig.pool("shard-" + i, properties.getShards().get(i), registry));
+        }
+        return new ShardRoutingDataSource(pools);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ShardRoutingDataSource shardRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(shardRoutingDataSource);
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService shardScatterExecutor(ShardingProperties properties) {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("shard-scatter-");
+        threadFactory.setDaemon(true);
+        return Executors.newFixedThreadPool(properties.getScatterThreads(), threadFactory);
+    }
+
+    /* id 생성기랑 샤드 스키마 생성은 Hibernate 안에서 돌아서 Hibernate 설정으로 넘긴다. */
+    @Bean
+    public HibernatePropertiesCustomizer shardingHibernateProperties(ShardingProperties properties,
+                                                                     ShardRoutingDataSource shardRoutingDataSource) {
+        return hibernate -> {
+            hibernate.put(ShardAwareIdGenerator.SETTING, new SnowflakeIds(properties.getWorkerId(), Clock.systemUTC()));
+            if (properties.isCreateSchema()) {
+                IntegratorProvider integrators = () -> List.of(new ShardSchemaInitializer(shardRoutingDataSource.getShards()));
+                hibernate.put("hibernate.integrator_provider", integrators);
+            }
+        };
+    }
+
+    /* RepositoryMetricsConfig 처럼 레포지토리 팩토리 빈이 만들어질 때 끼워넣는다.
+     *  트랜잭션 advice 보다 바깥(0번)에 있어야 트랜잭션이 커넥션을 빌리기 전에 샤드가 정해진다. */
+    @Bean
+    public static BeanPostProcessor shardingRepositoryPostProcessor(
+            ObjectProvider<ShardRoutingDataSource> dataSource,
+            ObjectProvider<PlatformTransactionManager> transactionManager,
+            @Qualifier("shardScatterExecutor") ObjectProvider<ExecutorService> executor) {
+        ShardingRepositoryInterceptor interceptor = new ShardingRepositoryInterceptor(
+                SingletonSupplier.of(dataSource::getObject),
+                SingletonSupplier.of(transactionManager::getObject),
+                SingletonSupplier.of(executor::getObject));
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+                    factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                            (proxyFactory, repositoryInformation) -> proxyFactory.addAdvice(0, interceptor)));
+                }
+                return bean;
+            }
+        };
+    }
+}
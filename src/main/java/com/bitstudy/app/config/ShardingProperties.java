@@ -0,0 +1,27 @@
+package com.bitstudy.app.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/* board.sharding.* 설정 (application.yaml 의 sharding-local 프로필 참고)
+ *  enabled 가 true 면 spring.datasource 대신 shards 목록으로 커넥션 풀을 만든다. 목록 순서가 샤드 번호다. (0번이 기본 샤드)
+ *  샤드 번호가 id 에 들어가니까 한번 정한 순서는 바꾸면 안 되고, 샤드를 늘릴 때는 뒤에만 붙인다.
+ * */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "board.sharding")
+public class ShardingProperties {
+
+    private boolean enabled;
+    private List<DataSourceRoutingProperties.Node> shards = new ArrayList<>();
+    /* id 를 만드는 서버 번호 (0 ~ 7, SnowflakeIds.MAX_WORKERS). 서버를 여러 대 띄우면 서버마다 다르게 줘야 id 가 안 겹친다. */
+    private int workerId;
+    /* 0번이 아닌 샤드에도 ddl-auto 처럼 테이블을 만든다. (로컬 H2 용) */
+    private boolean createSchema;
+    /* 전체 샤드 조회(scatter-gather)를 동시에 돌릴 스레드 수 */
+    private int scatterThreads = 8;
+}
@@ -0,0 +1,30 @@
+package com.bitstudy.app.config;
+
+import com.bitstudy.app.AppApplication;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.data.rest.webmvc.BasePathAwareController;
+import org.springframework.stereotype.Controller;
+
+/* 빠른 시작 설정 (prod 프로필에서 spring.main.lazy-initialization=true 로 켠다)
+ *  빈을 처음 쓸 때 만들면 actuator 엔드포인트, HAL explorer, Data REST 의 부가 빈들처럼 안 쓰는 것들은 아예 안 만들어진다.
+ *  그런데 우리 빈 중에는 "누가 안 불러도" 떠 있어야 하는 것들이 있다.
+ *    - @Scheduled (조회수 flush, 댓글 수 재계산, 보관, 첫 화면 refresh ...) : 빈이 만들어질 때 등록돼서 lazy 면 영영 안 돈다.
+ *    - 커밋 이벤트 다리(HibernateCommitEventBridge), 댓글 피드, 색인들 : 앱 시작 후 첫 변경부터 받아야 한다.
+ *  그래서 우리 패키지의 빈은 컨트롤러만 빼고 전부 바로 만든다. 컨트롤러는 첫 요청 때 만들어도 된다.
+ * */
+@Configuration
+public class StartupConfig {
+
+    private static final String APP_PACKAGE = AppApplication.class.getPackageName() + '.';
+
+    @Bean
+    public static LazyInitializationExcludeFilter eagerApplicationBeans() {
+        return (beanName, beanDefinition, beanType) -> beanType != null
+                && beanType.getName().startsWith(APP_PACKAGE)
+                && !AnnotatedElementUtils.hasAnnotation(beanType, Controller.class)
+                && !AnnotatedElementUtils.hasAnnotation(beanType, BasePathAwareController.class);
+    }
+}
@@ -0,0 +1,65 @@
+package com.bitstudy.app.controller;
+
+import com.bitstudy.app.dto.ArchiveReport;
+import com.bitstudy.app.dto.FrontPageCheck;
+import com.bitstudy.app.frontpage.FrontPageService;
+import com.bitstudy.app.search.SearchService;
+import com.bitstudy.app.service.ArticleArchiveJob;
+import com.bitstudy.app.service.CommentCountRepairJob;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+/* 운영용 API 모음 (/admin)
+ *  AdminAccessFilter 가 막는다. (board.admin.token, 없으면 같은 서버에서만)
+ * */
+@RestController
+@RequestMapping("/admin")
+public class AdminController {
+
+    private final CommentCountRepairJob commentCountRepairJob;
+    private final SearchService searchService;
+    private final ArticleArchiveJob articleArchiveJob;
+    private final FrontPageService frontPageService;
+
+    public AdminController(CommentCountRepairJob commentCountRepairJob, SearchService searchService,
+                           ArticleArchiveJob articleArchiveJob, FrontPageService frontPageService) {
+        this.commentCountRepairJob = commentCountRepairJob;
+        this.searchService = searchService;
+        this.articleArchiveJob = articleArchiveJob;
+        this.frontPageService = frontPageService;
+    }
+
+    /* 댓글 수 재계산 */
+    @PostMapping("/comment-counts/repair")
+    public Map<String, Object> repairCommentCounts() {
+        return Map.of("updatedArticles", commentCountRepairJob.repair());
+    }
+
+    /* 검색 색인 처음부터 다시 만들기 */
+    @PostMapping("/search/rebuild")
+    public Map<String, Object> rebuildSearchIndex() {
+        return Map.of("documents", searchService.rebuild());
+    }
+
+    /* 오래된 게시글 보관 테이블로 옮기기 (board.archive.enabled 와 상관없이 지금 한번) */
+    @PostMapping("/archive/run")
+    public ArchiveReport runArchive() {
+        return articleArchiveJob.archive();
+    }
+
+    /* 첫 화면 목록 처음부터 다시 만들기 */
+    @PostMapping("/front-page/rebuild")
+    public Map<String, Object> rebuildFrontPage() {
+        return Map.of("articles", frontPageService.rebuild());
+    }
+
+    /* 첫 화면 목록이 원본 테이블이랑 같은지 검사 (고치지는 않음) */
+    @GetMapping("/front-page/check")
+    public FrontPageCheck checkFrontPage() {
+        return frontPageService.check();
+    }
+}
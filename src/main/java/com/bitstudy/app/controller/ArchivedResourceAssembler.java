@@ -0,0 +1,38 @@
+package com.bitstudy.app.controller;
+
+import com.bitstudy.app.domain.ArchivedArticle;
+import com.bitstudy.app.domain.ArchivedArticleComment;
+import com.bitstudy.app.domain.Article;
+import com.bitstudy.app.domain.ArticleComment;
+import org.springframework.data.rest.webmvc.support.RepositoryEntityLinks;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.stereotype.Component;
+
+/* 보관된 게시글/댓글을 원래 API 와 같은 HAL 모양으로 만든다.
+ *  Data REST 가 만드는 링크(self, article, articleComment(s))와 같은 이름/주소를 붙여서
+ *  클라이언트는 보관된 글인지 신경쓰지 않고 링크를 따라가면 된다.
+ *  (_embedded 이름은 엔티티의 @Relation 으로 맞춘다)
+ * */
+@Component
+public class ArchivedResourceAssembler {
+
+    private final RepositoryEntityLinks entityLinks;
+
+    public ArchivedResourceAssembler(RepositoryEntityLinks entityLinks) {
+        this.entityLinks = entityLinks;
+    }
+
+    public EntityModel<ArchivedArticle> toModel(ArchivedArticle archived) {
+        return EntityModel.of(archived,
+                entityLinks.linkToItemResource(Article.class, archived.getId()).withSelfRel(),
+                entityLinks.linkToItemResource(Article.class, archived.getId()).withRel("article"),
+                entityLinks.linkForItemResource(Article.class, archived.getId()).slash("articleComments").withRel("articleComments"));
+    }
+
+    public EntityModel<ArchivedArticleComment> toModel(ArchivedArticleComment archived) {
+        return EntityModel.of(archived,
+                entityLinks.linkToItemResource(ArticleComment.class, archived.getId()).withSelfRel(),
+                entityLinks.linkToItemResource(ArticleComment.class, archived.getId()).withRel("articleComment"),
+                entityLinks.linkToItemResource(Article.class, archived.getArticleId()).withRel("article"));
+    }
+}
@@ -0,0 +1,70 @@
+package com.bitstudy.app.controller;
+
+import com.bitstudy.app.domain.Article;
+import com.bitstudy.app.domain.ArticleComment;
+import com.bitstudy.app.repository.ArchivedArticleCommentRepository;
+import com.bitstudy.app.repository.ArchivedArticleRepository;
+import com.bitstudy.app.repository.ArticleCommentRepository;
+import com.bitstudy.app.repository.ArticleRepository;
+import org.springframework.data.rest.webmvc.PersistentEntityResourceAssembler;
+import org.springframework.data.rest.webmvc.RepositoryRestController;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+
+import java.util.Optional;
+
+/* 단건 조회 - 보관(cold) 테이블 fallback
+ *  ArticleArchiveJob 이 오래된 글을 article_archive 로 옮겨도 /api/articles/{id}, /api/articleComments/{id} 주소는 그대로 써야 한다.
+ *  그래서 Data REST 기본 단건 조회를 여기서 덮어써서
+ *    1) 먼저 원래 테이블(2차 캐시)에서 찾고 -> 있으면 기존이랑 똑같이 내려준다.
+ *    2) 없으면 보관 테이블에서 찾아서 같은 모양(필드 + _links, ArchivedResourceAssembler)으로 내려준다.
+ *    3) 둘 다 없으면 404
+ *  최근 글은 원래 테이블에서 바로 찾으니까 보관 테이블은 거의 안 읽힌다.
+ *
+ *  {id:\d+} : /api/articles/search 같은 Data REST 기본 주소를 가로채지 않게 숫자만 받는다.
+ *  보관된 글은 읽기 전용이다. (PUT/PATCH/DELETE 는 Data REST 가 원래 테이블에서 못 찾아서 404)
+ * */
+@RepositoryRestController
+public class ArticleArchiveController {
+
+    private final ArticleRepository articleRepository;
+    private final ArticleCommentRepository articleCommentRepository;
+    private final ArchivedArticleRepository archivedArticleRepository;
+    private final ArchivedArticleCommentRepository archivedArticleCommentRepository;
+    private final ArchivedResourceAssembler archivedResourceAssembler;
+
+    public ArticleArchiveController(ArticleRepository articleRepository,
+                                    ArticleCommentRepository articleCommentRepository,
+                                    ArchivedArticleRepository archivedArticleRepository,
+                                    ArchivedArticleCommentRepository archivedArticleCommentRepository,
+                                    ArchivedResourceAssembler archivedResourceAssembler) {
+        this.articleRepository = articleRepository;
+        this.articleCommentRepository = articleCommentRepository;
+        this.archivedArticleRepository = archivedArticleRepository;
+        this.archivedArticleCommentRepository = archivedArticleCommentRepository;
+        this.archivedResourceAssembler = archivedResourceAssembler;
+    }
+
+    @GetMapping("/articles/{id:\\d+}")
+    public ResponseEntity<?> article(@PathVariable Long id, PersistentEntityResourceAssembler assembler) {
+        Optional<Article> article = articleRepository.findById(id);
+        if (article.isPresent()) {
+            return ResponseEntity.ok(assembler.toFullResource(article.get()));
+        }
+        return archivedArticleRepository.findById(id)
+                .map(archived -> ResponseEntity.ok(archivedResourceAssembler.toModel(archived)))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    @GetMapping("/articleComments/{id:\\d+}")
+    public ResponseEntity<?> articleComment(@PathVariable Long id, PersistentEntityResourceAssembler assembler) {
+        Optional<ArticleComment> comment = articleCommentRepository.findById(id);
+        if (comment.isPresent()) {
+            return ResponseEntity.ok(assembler.toFullResource(comment.get()));
+        }
+        return archivedArticleCommentRepository.findById(id)
+                .map(archived -> ResponseEntity.ok(archivedResourceAssembler.toModel(archived)))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+}
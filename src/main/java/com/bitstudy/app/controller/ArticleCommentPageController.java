@@ -0,0 +1,70 @@
+package com.bitstudy.app.controller;
+
+import com.bitstudy.app.domain.ArchivedArticleComment;
+import com.bitstudy.app.domain.ArticleComment;
+import com.bitstudy.app.repository.ArchivedArticleCommentRepository;
+import com.bitstudy.app.repository.ArchivedArticleRepository;
+import com.bitstudy.app.repository.ArticleCommentRepository;
+import com.bitstudy.app.repository.ArticleRepository;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.rest.webmvc.PersistentEntityResourceAssembler;
+import org.springframework.data.rest.webmvc.RepositoryRestController;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.data.web.PagedResourcesAssembler;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+
+/* 게시글의 댓글 목록 - 페이지 단위
+ *  Data REST 기본 /api/articles/{id}/articleComments 는 Article.articleComments 컬렉션을 통째로 읽어서 내려준다.
+ *  댓글이 수천개인 글이면 전부 메모리에 올라오니까, 같은 주소를 여기서 덮어써서 댓글 테이블에서 FK 로 한 페이지만 읽는다.
+ *  (응답 모양은 같고 page 정보가 추가된다)
+ *  게시글이 보관 테이블로 옮겨졌으면 보관 댓글 테이블에서 같은 모양으로 읽는다. (ArticleArchiveJob)
+ *
+ *  사용법) GET /api/articles/1/articleComments?page=0&size=20&sort=createdAt,asc
+ * */
+@RepositoryRestController
+public class ArticleCommentPageController {
+
+    private final ArticleRepository articleRepository;
+    private final ArticleCommentRepository articleCommentRepository;
+    private final ArchivedArticleRepository archivedArticleRepository;
+    private final ArchivedArticleCommentRepository archivedArticleCommentRepository;
+    private final ArchivedResourceAssembler archivedResourceAssembler;
+
+    public ArticleCommentPageController(ArticleRepository articleRepository,
+                                        ArticleCommentRepository articleCommentRepository,
+                                        ArchivedArticleRepository archivedArticleRepository,
+                                        ArchivedArticleCommentRepository archivedArticleCommentRepository,
+                                        ArchivedResourceAssembler archivedResourceAssembler) {
+        this.articleRepository = articleRepository;
+        this.articleCommentRepository = articleCommentRepository;
+        this.archivedArticleRepository = archivedArticleRepository;
+        this.archivedArticleCommentRepository = archivedArticleCommentRepository;
+        this.archivedResourceAssembler = archivedResourceAssembler;
+    }
+
+    @GetMapping("/articles/{id}/articleComments")
+    public ResponseEntity<?> articleComments(
+            @PathVariable Long id,
+            @PageableDefault(size = 20, sort = "id", direction = Sort.Direction.ASC) Pageable pageable,
+            PagedResourcesAssembler<Object> pagedAssembler,
+            PersistentEntityResourceAssembler entityAssembler) {
+        if (!articleRepository.existsById(id)) {
+            return archivedArticleComments(id, pageable, pagedAssembler);
+        }
+        Page<ArticleComment> page = articleCommentRepository.findByArticle_Id(id, pageable);
+        return ResponseEntity.ok(pagedAssembler.toModel(page.map(comment -> (Object) comment), entityAssembler));
+    }
+
+    private ResponseEntity<?> archivedArticleComments(Long articleId, Pageable pageable, PagedResourcesAssembler<Object> pagedAssembler) {
+        if (!archivedArticleRepository.existsById(articleId)) {
+            return ResponseEntity.notFound().build();
+        }
+        Page<ArchivedArticleComment> page = archivedArticleCommentRepository.findByArticleId(articleId, pageable);
+        return ResponseEntity.ok(pagedAssembler.toModel(page.map(comment -> (Object) comment),
+                comment -> archivedResourceAssembler.toModel((ArchivedArticleComment) comment)));
+    }
+}
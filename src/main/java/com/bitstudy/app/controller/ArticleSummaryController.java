@@ -0,0 +1,42 @@
+package com.bitstudy.app.controller;
+
+import com.bitstudy.app.domain.Article;
+import com.bitstudy.app.dto.ArticleSummary;
+import com.bitstudy.app.repository.ArticleRepository;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.rest.webmvc.RepositoryRestController;
+import org.springframework.data.rest.webmvc.support.RepositoryEntityLinks;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.data.web.PagedResourcesAssembler;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.PagedModel;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+
+/* 게시글 목록 전용 API
+ *  GET /api/articles 는 Article 엔티티를 통째로 (본문까지) 내려준다.
+ *  목록 화면은 제목/해시태그/작성정보/댓글 수만 있으면 되니까 요약 DTO 로 가볍게 내려준다.
+ *
+ *  사용법) GET /api/articles/summary?page=0&size=20&sort=createdAt,desc
+ *         각 항목의 _links.self 는 원래 게시글(/api/articles/{id}) 을 가리킨다.
+ * */
+@RepositoryRestController
+public class ArticleSummaryController {
+
+    private final ArticleRepository articleRepository;
+    private final RepositoryEntityLinks entityLinks;
+
+    public ArticleSummaryController(ArticleRepository articleRepository, RepositoryEntityLinks entityLinks) {
+        this.articleRepository = articleRepository;
+        this.entityLinks = entityLinks;
+    }
+
+    @GetMapping("/articles/summary")
+    public ResponseEntity<PagedModel<EntityModel<ArticleSummary>>> summaries(
+            @PageableDefault(sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
+            PagedResourcesAssembler<ArticleSummary> assembler) {
+        return ResponseEntity.ok(assembler.toModel(articleRepository.findSummaries(pageable),
+                summary -> EntityModel.of(summary, entityLinks.linkToItemResource(Article.class, summary.id()).withSelfRel())));
+    }
+}
@@ -0,0 +1,46 @@
+package com.bitstudy.app.controller;
+
+import com.bitstudy.app.dto.ImportReport;
+import com.bitstudy.app.service.BulkImportService;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestPart;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.io.InputStream;
+
+/* 대량 적재 API (/admin/bulk-import)
+ *  요청 본문을 메모리에 다 올리지 않고 그대로 스트리밍으로 넘긴다.
+ *
+ *  사용법)
+ *   curl -X POST -H 'Content-Type: application/x-ndjson' --data-binary @board.ndjson localhost:8080/admin/bulk-import/ndjson
+ *   curl -X POST -F articles=@articles.csv -F comments=@article_comments.csv localhost:8080/admin/bulk-import/csv
+ *  AdminAccessFilter 가 막는다. (board.admin.token, 없으면 같은 서버에서만)
+ * */
+@RestController
+@RequestMapping("/admin/bulk-import")
+public class BulkImportController {
+
+    private final BulkImportService bulkImportService;
+
+    public BulkImportController(BulkImportService bulkImportService) {
+        this.bulkImportService = bulkImportService;
+    }
+
+    @PostMapping(path = "/ndjson", consumes = {"application/x-ndjson", "application/json"})
+    public ImportReport ndjson(HttpServletRequest request) throws IOException {
+        return bulkImportService.importNdjson(request.getInputStream());
+    }
+
+    @PostMapping(path = "/csv", consumes = "multipart/form-data")
+    public ImportReport csv(@RequestPart(required = false) MultipartFile articles,
+                            @RequestPart(required = false) MultipartFile comments) throws IOException {
+        try (InputStream articleStream = articles == null ? null : articles.getInputStream();
+             InputStream commentStream = comments == null ? null : comments.getInputStream()) {
+            return bulkImportService.importCsv(articleStream, commentStream);
+        }
+    }
+}
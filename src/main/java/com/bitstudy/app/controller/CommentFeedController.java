@@ -0,0 +1,79 @@
+package com.bitstudy.app.controller;
+
+import com.bitstudy.app.feed.CommentFeed;
+import com.bitstudy.app.sharding.ShardContext;
+import com.bitstudy.app.sharding.SnowflakeIds;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+import java.util.List;
+
+/* 댓글 실시간 피드 API (Server-Sent Events)
+ *  사용법) new EventSource("/api/articles/1/articleComments/stream")  : 게시글 하나의 새 댓글/수정된 댓글
+ *         new EventSource("/api/articleComments/stream")             : 게시판 전체
+ *         event: comment -> data 는 CommentFeedEvent JSON
+ *         event: reset   -> 놓친 이벤트를 이어서 못 보내줌. GET /api/articles/{id}/articleComments 로 한 번 다시 받으면 된다.
+ *  구독자가 너무 많으면 503 + Retry-After
+ *
+ *  Data REST 경로({repository}/{id}/{property}/{propertyId})보다 먼저 잡히게 @RestController 로 만든다. (/api 를 직접 씀)
+ *
+ *  여기서는 JPA(EntityManager)로 DB 를 읽지 않는다.
+ *   open-in-view(기본 켜짐)면 요청마다 EntityManager 가 붙어 있는데, 그걸로 한 번이라도 읽으면 그 커넥션을
+ *   요청이 끝날 때까지 붙들고 있는다. 스트림 요청은 몇 시간씩 안 끝나니까 구독자가 풀 크기만큼만 붙어도 풀이 바닥난다.
+ *   -> 게시글 확인은 JdbcTemplate 으로 한다. (트랜잭션 밖이라 쿼리 하나 끝나면 커넥션을 바로 돌려준다)
+ * */
+@RestController
+public class CommentFeedController {
+
+    private static final String LAST_EVENT_ID = "Last-Event-ID";
+
+    private final CommentFeed commentFeed;
+    private final JdbcTemplate jdbcTemplate;
+
+    public CommentFeedController(CommentFeed commentFeed, JdbcTemplate jdbcTemplate) {
+        this.commentFeed = commentFeed;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @GetMapping(path = "/api/articles/{articleId}/articleComments/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<ResponseBodyEmitter> article(@PathVariable Long articleId,
+                                              @RequestHeader(name = LAST_EVENT_ID, required = false) String lastEventId) {
+        if (!articleExists(articleId)) {
+            return ResponseEntity.notFound().build();
+        }
+        return subscribe(articleId, lastEventId);
+    }
+
+    @GetMapping(path = "/api/articleComments/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<ResponseBodyEmitter> board(@RequestHeader(name = LAST_EVENT_ID, required = false) String lastEventId) {
+        return subscribe(null, lastEventId);
+    }
+
+    /* 샤딩이면 게시글 id 가 가리키는 샤드에서 본다. (없는 샤드를 가리키면 0번, CommentIngestService 와 같은 방식) */
+    private boolean articleExists(long articleId) {
+        List<Integer> shards = ShardContext.shards(jdbcTemplate.getDataSource());
+        int shard = SnowflakeIds.shardOf(articleId);
+        return ShardContext.callOn(shards.size() > 1 && shards.contains(shard) ? shard : ShardContext.DEFAULT_SHARD,
+                () -> !jdbcTemplate.queryForList("select 1 from article where id = ?", Integer.class, articleId).isEmpty());
+    }
+
+    private ResponseEntity<ResponseBodyEmitter> subscribe(Long articleId, String lastEventId) {
+        try {
+            return ResponseEntity.ok()
+                    .contentType(MediaType.TEXT_EVENT_STREAM) // 프레임은 CommentFeed 가 SSE 모양으로 다 만들어서 보낸다.
+                    .header(HttpHeaders.CACHE_CONTROL, "no-cache")
+                    .header("X-Accel-Buffering", "no") // nginx 같은 프록시가 모았다가 보내지 않게
+                    .body(commentFeed.subscribe(articleId, lastEventId));
+        } catch (CommentFeed.TooManySubscribersException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "5").build();
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.bitstudy.app.controller;
+
+import com.bitstudy.app.config.CommentIngestProperties;
+import com.bitstudy.app.domain.ArticleComment;
+import com.bitstudy.app.dto.CommentIngestRequest;
+import com.bitstudy.app.ingest.CommentIngestService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.rest.webmvc.PersistentEntityResourceAssembler;
+import org.springframework.data.rest.webmvc.RepositoryRestController;
+import org.springframework.data.rest.webmvc.support.RepositoryEntityLinks;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/* 댓글 작성을 write-behind 큐로 받는 API (board.comment-ingest.enabled=true 일 때만)
+ *  켜져 있으면 Spring Data REST 의 POST /api/articleComments 대신 이게 불린다. (조회/수정/삭제는 그대로)
+ *
+ *  - FLUSH 모드 : 커밋될 때까지 기다렸다가 201 + Location + 저장된 댓글 (기존 응답이랑 같은 모양)
+ *                 ackTimeout 안에 커밋이 안 끝나면 202 (큐에는 들어가 있음)
+ *  - WAL 모드   : WAL 에 적자마자 202 + {"seq": ...}
+ *  - 큐가 가득 차면 503 + Retry-After: 1
+ * */
+@RepositoryRestController
+@ConditionalOnProperty(prefix = "board.comment-ingest", name = "enabled", havingValue = "true")
+public class CommentIngestController {
+
+    private static final int MAX_CONTENT_LENGTH = 500; // ArticleComment.content 컬럼 길이
+
+    private final CommentIngestService commentIngestService;
+    private final CommentIngestProperties properties;
+    private final RepositoryEntityLinks entityLinks;
+
+    public CommentIngestController(CommentIngestService commentIngestService,
+                                   CommentIngestProperties properties,
+                                   RepositoryEntityLinks entityLinks) {
+        this.commentIngestService = commentIngestService;
+        this.properties = properties;
+        this.entityLinks = entityLinks;
+    }
+
+    @PostMapping("/articleComments")
+    public ResponseEntity<?> create(@RequestBody CommentIngestRequest request, PersistentEntityResourceAssembler assembler)
+            throws InterruptedException {
+        Long articleId = request.articleId();
+        if (articleId == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "article 이 필요합니다");
+        }
+        if (request.content() == null || request.content().isBlank() || request.content().length() > MAX_CONTENT_LENGTH) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "content 는 1~" + MAX_CONTENT_LENGTH + "자여야 합니다");
+        }
+
+        CommentIngestService.Ticket ticket;
+        try {
+            ticket = commentIngestService.submit(articleId, request.content());
+        } catch (CommentIngestService.QueueFullException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "1").build();
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+
+        if (properties.getDurability() == CommentIngestProperties.Durability.WAL) {
+            return ResponseEntity.accepted().body(Map.of("seq", ticket.seq()));
+        }
+
+        ArticleComment saved;
+        try {
+            saved = ticket.committed().get(properties.getAckTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            return ResponseEntity.accepted().build();
+        } catch (ExecutionException e) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "댓글을 저장하지 못했습니다", e.getCause());
+        }
+        return ResponseEntity.created(entityLinks.linkToItemResource(ArticleComment.class, saved.getId()).toUri())
+                .body(assembler.toFullResource(saved));
+    }
+}
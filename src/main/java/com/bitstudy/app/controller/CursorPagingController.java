@@ -0,0 +1,153 @@
+package com.bitstudy.app.controller;
+
+import com.bitstudy.app.domain.Article;
+import com.bitstudy.app.domain.ArticleComment;
+import com.bitstudy.app.domain.AuditingFields;
+import com.bitstudy.app.dto.Cursor;
+import com.bitstudy.app.repository.ArticleCommentRepository;
+import com.bitstudy.app.repository.ArticleRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.rest.webmvc.PersistentEntityResource;
+import org.springframework.data.rest.webmvc.PersistentEntityResourceAssembler;
+import org.springframework.data.rest.webmvc.RepositoryRestController;
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Link;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+/* 커서(keyset) 페이징 API
+ *  기존 /api/articles?page=5000 방식은 LIMIT ... OFFSET 이라서 뒤로 갈수록 느려진다.
+ *  여기서는 (createdAt, id) 커서를 기준으로 바로 찾아가기 때문에 어느 페이지든 비용이 같다.
+ *
+ *  사용법) GET /api/articles/cursor?size=20
+ *         응답의 _links.next.href / _links.prev.href 를 그대로 따라가면 된다. (cursor 값은 건드리지 말 것)
+ *
+ *  @RepositoryRestController : Spring Data REST 의 base-path(/api) 를 그대로 쓰고,
+ *                              PersistentEntityResourceAssembler 를 받아서 기존 API 랑 같은 HAL 모양으로 응답할 수 있다.
+ * */
+@RepositoryRestController
+public class CursorPagingController {
+
+    private static final int DEFAULT_SIZE = 20;
+    private static final int MAX_SIZE = 100;
+
+    private final ArticleRepository articleRepository;
+    private final ArticleCommentRepository articleCommentRepository;
+
+    public CursorPagingController(ArticleRepository articleRepository,
+                                  ArticleCommentRepository articleCommentRepository) {
+        this.articleRepository = articleRepository;
+        this.articleCommentRepository = articleCommentRepository;
+    }
+
+    @GetMapping("/articles/cursor")
+    public ResponseEntity<CollectionModel<PersistentEntityResource>> articles(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + DEFAULT_SIZE) int size,
+            PersistentEntityResourceAssembler assembler) {
+        return page(cursor, size, assembler, Article::getId,
+                articleRepository::findLatest,
+                articleRepository::findOlderThan,
+                articleRepository::findNewerThan);
+    }
+
+    @GetMapping("/articleComments/cursor")
+    public ResponseEntity<CollectionModel<PersistentEntityResource>> articleComments(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + DEFAULT_SIZE) int size,
+            PersistentEntityResourceAssembler assembler) {
+        return page(cursor, size, assembler, ArticleComment::getId,
+                articleCommentRepository::findLatest,
+                articleCommentRepository::findOlderThan,
+                articleCommentRepository::findNewerThan);
+    }
+
+    /* 한 페이지 만들기
+     *  size + 1 개를 가져와서 한 개가 더 있으면 그 방향으로 다음 페이지가 있다고 판단한다. (count 쿼리 안씀)
+     * */
+    private <T extends AuditingFields> ResponseEntity<CollectionModel<PersistentEntityResource>> page(
+            String token, int size, PersistentEntityResourceAssembler assembler, Function<T, Long> idOf,
+            Function<Pageable, List<T>> latest, KeysetQuery<T> older, KeysetQuery<T> newer) {
+
+        int limit = Math.max(1, Math.min(size, MAX_SIZE));
+        Pageable probe = PageRequest.of(0, limit + 1);
+
+        Cursor cursor;
+        try {
+            cursor = token == null ? null : Cursor.decode(token);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+
+        List<T> rows;
+        boolean hasNext;
+        boolean hasPrev;
+        if (cursor == null) {
+            rows = new ArrayList<>(latest.apply(probe));
+            hasNext = rows.size() > limit;
+            hasPrev = false;
+            trim(rows, limit);
+        } else if (cursor.forward()) {
+            rows = new ArrayList<>(older.find(cursor.createdAt(), cursor.id(), probe));
+            hasNext = rows.size() > limit;
+            hasPrev = true;
+            trim(rows, limit);
+        } else {
+            rows = new ArrayList<>(newer.find(cursor.createdAt(), cursor.id(), probe));
+            hasPrev = rows.size() > limit;
+            hasNext = true;
+            trim(rows, limit);
+            Collections.reverse(rows); // 오름차순으로 가져왔으니 다시 최신순으로
+        }
+
+        List<Link> links = new ArrayList<>();
+        links.add(Link.of(ServletUriComponentsBuilder.fromCurrentRequest().toUriString(), IanaLinkRelations.SELF));
+        if (!rows.isEmpty()) {
+            T first = rows.get(0);
+            T last = rows.get(rows.size() - 1);
+            if (hasNext) {
+                links.add(link(Cursor.next(last.getCreatedAt(), idOf.apply(last)), limit, IanaLinkRelations.NEXT.value()));
+            }
+            if (hasPrev) {
+                links.add(link(Cursor.prev(first.getCreatedAt(), idOf.apply(first)), limit, IanaLinkRelations.PREV.value()));
+            }
+        }
+
+        List<PersistentEntityResource> content = new ArrayList<>(rows.size());
+        for (T row : rows) {
+            content.add(assembler.toFullResource(row));
+        }
+        return ResponseEntity.ok(CollectionModel.of(content, links));
+    }
+
+    private static <T> void trim(List<T> rows, int limit) {
+        if (rows.size() > limit) {
+            rows.subList(limit, rows.size()).clear();
+        }
+    }
+
+    private static Link link(Cursor cursor, int size, String rel) {
+        String href = ServletUriComponentsBuilder.fromCurrentRequest()
+                .replaceQueryParam("cursor", cursor.encode())
+                .replaceQueryParam("size", size)
+                .toUriString();
+        return Link.of(href, rel);
+    }
+
+    @FunctionalInterface
+    private interface KeysetQuery<T> {
+        List<T> find(LocalDateTime createdAt, Long id, Pageable pageable);
+    }
+}
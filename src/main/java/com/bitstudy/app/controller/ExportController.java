@@ -0,0 +1,37 @@
+package com.bitstudy.app.controller;
+
+import com.bitstudy.app.service.ExportService;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/* 게시판 전체 내보내기 API (/admin/export)
+ *  응답을 만들어 두고 보내는 게 아니라 DB 에서 읽는 대로 바로 response 에 쓴다. (ExportService)
+ *  async(StreamingResponseBody) 로 하면 async 요청 타임아웃(기본 30초)에 큰 테이블이 끊겨서, 요청 스레드에서 그냥 끝까지 쓴다.
+ *
+ *  사용법) curl -o board.ndjson localhost:8080/admin/export/ndjson
+ *         받은 파일은 POST /admin/bulk-import/ndjson 로 그대로 다시 넣을 수 있다.
+ *  AdminAccessFilter 가 막는다. (board.admin.token, 없으면 같은 서버에서만)
+ * */
+@RestController
+@RequestMapping("/admin/export")
+public class ExportController {
+
+    private final ExportService exportService;
+
+    public ExportController(ExportService exportService) {
+        this.exportService = exportService;
+    }
+
+    @GetMapping("/ndjson")
+    public void ndjson(HttpServletResponse response) throws IOException {
+        response.setContentType("application/x-ndjson");
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"board.ndjson\"");
+        exportService.exportNdjson(response.getOutputStream());
+    }
+}
@@ -0,0 +1,30 @@
+package com.bitstudy.app.controller;
+
+import com.bitstudy.app.dto.FrontPageEntry;
+import com.bitstudy.app.frontpage.FrontPageService;
+import org.springframework.data.rest.webmvc.RepositoryRestController;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.util.List;
+
+/* 첫 화면 API
+ *  GET /api/articles/front-page?limit=20 (최대 100)
+ *  최신 글 + 댓글 수 + 마지막 댓글 시각. FrontPageService 가 메모리에 들고 있는 목록에서 바로 준다. (쿼리 안나감)
+ *  그 다음 페이지부터는 커서 페이징(/api/articles/cursor)을 쓴다.
+ * */
+@RepositoryRestController
+public class FrontPageController {
+
+    private final FrontPageService frontPageService;
+
+    public FrontPageController(FrontPageService frontPageService) {
+        this.frontPageService = frontPageService;
+    }
+
+    @GetMapping("/articles/front-page")
+    public ResponseEntity<List<FrontPageEntry>> frontPage(@RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(frontPageService.latest(limit));
+    }
+}
@@ -0,0 +1,86 @@
+package com.bitstudy.app.controller;
+
+import com.bitstudy.app.domain.Article;
+import com.bitstudy.app.dto.TagCount;
+import com.bitstudy.app.hashtag.HashtagIndex;
+import com.bitstudy.app.hashtag.HashtagParser;
+import com.bitstudy.app.hashtag.HashtagService;
+import com.bitstudy.app.repository.ArticleRepository;
+import org.springframework.data.rest.webmvc.PersistentEntityResource;
+import org.springframework.data.rest.webmvc.PersistentEntityResourceAssembler;
+import org.springframework.data.rest.webmvc.RepositoryRestController;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.PagedModel;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/* 해시태그 API (전부 HashtagIndex 메모리 색인에서 답한다. 게시글 테이블을 훑지 않음)
+ *
+ *  GET /api/hashtags?limit=50                      : 태그별 게시글 수 (많은 순)
+ *  GET /api/hashtags/trending?hours=24&limit=10    : 최근 hours 시간 동안 작성된 글 기준 인기 태그 (hours 는 최대 168)
+ *  GET /api/hashtags/{name}/articles?page=0&size=20 : 태그가 달린 게시글 (최신순). 게시글은 id 로만 조회한다.
+ * */
+@RepositoryRestController
+public class HashtagController {
+
+    private static final int MAX_LIMIT = 100;
+
+    private final HashtagService hashtagService;
+    private final ArticleRepository articleRepository;
+
+    public HashtagController(HashtagService hashtagService, ArticleRepository articleRepository) {
+        this.hashtagService = hashtagService;
+        this.articleRepository = articleRepository;
+    }
+
+    @GetMapping("/hashtags")
+    public ResponseEntity<List<TagCount>> hashtags(@RequestParam(defaultValue = "50") int limit) {
+        return ResponseEntity.ok(hashtagService.top(clamp(limit, MAX_LIMIT)));
+    }
+
+    @GetMapping("/hashtags/trending")
+    public ResponseEntity<List<TagCount>> trending(@RequestParam(defaultValue = "24") int hours,
+                                                   @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(hashtagService.trending(clamp(hours, HashtagIndex.MAX_WINDOW_HOURS), clamp(limit, MAX_LIMIT)));
+    }
+
+    @GetMapping("/hashtags/{name}/articles")
+    public ResponseEntity<PagedModel<PersistentEntityResource>> articles(
+            @PathVariable String name,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            PersistentEntityResourceAssembler assembler) {
+        String tag = HashtagParser.normalize(name);
+        int limit = clamp(size, MAX_LIMIT);
+        int number = Math.max(0, page);
+
+        List<Long> ids = hashtagService.articleIds(tag, (long) number * limit, limit);
+        Map<Long, Article> found = articleRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Article::getId, Function.identity()));
+        List<PersistentEntityResource> content = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            Article article = found.get(id);
+            if (article != null) { // 색인에 반영되기 직전에 지워진 글은 건너뛴다.
+                content.add(assembler.toFullResource(article));
+            }
+        }
+
+        PagedModel.PageMetadata metadata = new PagedModel.PageMetadata(limit, number, hashtagService.count(tag));
+        Link self = Link.of(ServletUriComponentsBuilder.fromCurrentRequest().toUriString(), IanaLinkRelations.SELF);
+        return ResponseEntity.ok(PagedModel.of(content, metadata, self));
+    }
+
+    private static int clamp(int value, int max) {
+        return Math.max(1, Math.min(value, max));
+    }
+}
@@ -0,0 +1,29 @@
+package com.bitstudy.app.controller;
+
+import com.bitstudy.app.dto.ArticleViewCount;
+import com.bitstudy.app.view.ViewCountService;
+import org.springframework.data.rest.webmvc.RepositoryRestController;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.util.List;
+
+/* 조회수 순위 API
+ *  GET /api/articles/most-viewed?limit=10 (최대 100)
+ *  ViewCountService 가 flush 할 때 읽어둔 목록에서 바로 준다. (몇 초 늦을 수 있음)
+ * */
+@RepositoryRestController
+public class MostViewedController {
+
+    private final ViewCountService viewCountService;
+
+    public MostViewedController(ViewCountService viewCountService) {
+        this.viewCountService = viewCountService;
+    }
+
+    @GetMapping("/articles/most-viewed")
+    public ResponseEntity<List<ArticleViewCount>> mostViewed(@RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(viewCountService.mostViewed(Math.min(limit, ViewCountService.MAX_RANKING)));
+    }
+}
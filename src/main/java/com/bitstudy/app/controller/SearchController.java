@@ -0,0 +1,43 @@
+package com.bitstudy.app.controller;
+
+import com.bitstudy.app.dto.SearchResult;
+import com.bitstudy.app.search.SearchService;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+/* 전문 검색 API
+ *  사용법) GET /api/search?q=스프링 부트&page=0&size=20
+ *         게시글(제목/본문/해시태그)과 댓글을 같이 찾아서 점수(BM25) 높은 순으로 준다.
+ *         댓글이 걸리면 articleId 로 원래 게시글(/api/articles/{articleId}) 을 찾아가면 된다.
+ *
+ *  Data REST 레포지토리가 아니라서 @RestController 로 만든다. (base-path 가 안 붙으니 /api 를 직접 씀)
+ * */
+@RestController
+public class SearchController {
+
+    private static final int DEFAULT_SIZE = 20;
+
+    private final SearchService searchService;
+
+    public SearchController(SearchService searchService) {
+        this.searchService = searchService;
+    }
+
+    @GetMapping("/api/search")
+    public SearchResult search(@RequestParam("q") String query,
+                               @RequestParam(defaultValue = "0") int page,
+                               @RequestParam(defaultValue = "" + DEFAULT_SIZE) int size) {
+        if (query.isBlank()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "검색어(q)를 입력하세요");
+        }
+        int limit = Math.max(1, Math.min(size, SearchService.MAX_SIZE));
+        if (page < 0 || (long) page * limit >= SearchService.MAX_WINDOW) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "검색 결과는 앞에서 " + SearchService.MAX_WINDOW + "건까지만 볼 수 있습니다");
+        }
+        return searchService.search(query, page, limit);
+    }
+}
@@ -0,0 +1,83 @@
+package com.bitstudy.app.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/* 읽기/쓰기 분리 DataSource
+ *  - @Transactional(readOnly = true) 안에서 빌리는 커넥션 -> replica 중 하나 (ReplicaSelector)
+ *  - 그 외 (쓰기 트랜잭션, 트랜잭션 밖, read-your-writes 로 pin 된 요청) -> primary
+ *
+ *  주의) 트랜잭션 매니저는 트랜잭션을 시작하면서 바로 커넥션을 빌리는데, 그 시점엔 아직 readOnly 표시가 안 되어있다.
+ *        그래서 꼭 LazyConnectionDataSourceProxy 로 감싸서 "첫 쿼리를 날릴 때" 커넥션을 고르게 해야 한다. (DataSourceRoutingConfig)
+ *
+ *  board.datasource.route{pool=...} 카운터로 어디로 몇 번 갔는지 볼 수 있다.
+ *  풀별 지연시간은 Hikari 메트릭(hikaricp.connections.acquire / usage, pool 태그)으로 본다.
+ * */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource implements Closeable {
+
+    private final HikariDataSource primary;
+    private final List<HikariDataSource> replicas;
+    private final ReplicaSelector selector;
+    private final Map<String, Counter> routeCounters = new HashMap<>();
+
+    public ReadWriteRoutingDataSource(HikariDataSource primary, List<HikariDataSource> replicas,
+                                      ReplicaSelector selector, MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.selector = selector;
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(primary.getPoolName(), primary);
+        for (HikariDataSource replica : this.replicas) {
+            targets.put(replica.getPoolName(), replica);
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+
+        if (meterRegistry != null) {
+            for (Object pool : targets.keySet()) {
+                routeCounters.put((String) pool, Counter.builder("board.datasource.route")
+                        .description("connections routed to each pool")
+                        .tag("pool", (String) pool)
+                        .register(meterRegistry));
+            }
+        }
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String pool = useReplica() ? selector.select(replicas).getPoolName() : primary.getPoolName();
+        Counter counter = routeCounters.get(pool);
+        if (counter != null) {
+            counter.increment();
+        }
+        return pool;
+    }
+
+    private boolean useReplica() {
+        return !replicas.isEmpty()
+                && TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                && !ReadYourWrites.isPinned();
+    }
+
+    public DataSource getPrimary() {
+        return primary;
+    }
+
+    @Override
+    public void close() {
+        replicas.forEach(HikariDataSource::close);
+        primary.close();
+    }
+}
@@ -0,0 +1,24 @@
+package com.bitstudy.app.datasource;
+
+/* read-your-writes: "방금 쓴 사람은 잠깐 동안 primary 에서 읽게" 하는 스레드 단위 표시
+ *  replica 는 복제 지연이 있어서, 글을 쓰자마자 목록을 다시 읽으면 내 글이 안 보일 수 있다.
+ *  ReadYourWritesFilter 가 요청 동안 pin() 해두면 ReadWriteRoutingDataSource 가 읽기 전용 트랜잭션도 primary 로 보낸다.
+ * */
+public final class ReadYourWrites {
+
+    private static final ThreadLocal<Boolean> PINNED = new ThreadLocal<>();
+
+    private ReadYourWrites() {}
+
+    public static void pin() {
+        PINNED.set(Boolean.TRUE);
+    }
+
+    public static void clear() {
+        PINNED.remove();
+    }
+
+    public static boolean isPinned() {
+        return PINNED.get() != null;
+    }
+}
@@ -0,0 +1,46 @@
+package com.bitstudy.app.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/* 읽기 요청을 어느 replica 로 보낼지 고르는 규칙
+ *  - ROUND_ROBIN       : 돌아가면서 하나씩
+ *  - LEAST_CONNECTIONS : 지금 빌려간 커넥션(active)이 제일 적은 풀 (느린 replica 에 요청이 덜 가게)
+ * */
+@FunctionalInterface
+public interface ReplicaSelector {
+
+    HikariDataSource select(List<HikariDataSource> replicas);
+
+    enum Strategy {
+        ROUND_ROBIN, LEAST_CONNECTIONS
+    }
+
+    static ReplicaSelector of(Strategy strategy) {
+        return strategy == Strategy.LEAST_CONNECTIONS ? leastConnections() : roundRobin();
+    }
+
+    static ReplicaSelector roundRobin() {
+        AtomicInteger next = new AtomicInteger();
+        return replicas -> replicas.get(Math.floorMod(next.getAndIncrement(), replicas.size()));
+    }
+
+    static ReplicaSelector leastConnections() {
+        return replicas -> {
+            HikariDataSource best = replicas.get(0);
+            int bestActive = Integer.MAX_VALUE;
+            for (HikariDataSource replica : replicas) {
+                HikariPoolMXBean pool = replica.getHikariPoolMXBean(); // 아직 커넥션을 한번도 안 빌렸으면 null
+                int active = pool == null ? 0 : pool.getActiveConnections();
+                if (active < bestActive) {
+                    best = replica;
+                    bestActive = active;
+                }
+            }
+            return best;
+        };
+    }
+}
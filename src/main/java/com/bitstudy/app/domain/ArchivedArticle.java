@@ -0,0 +1,78 @@
+package com.bitstudy.app.domain;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.Getter;
+import lombok.ToString;
+import org.springframework.hateoas.server.core.Relation;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.FetchType;
+import javax.persistence.Id;
+import javax.persistence.JoinColumn;
+import javax.persistence.OneToOne;
+import javax.persistence.Table;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/* 보관(cold) 게시글 - article_archive 테이블
+ *  오래된 게시글은 ArticleArchiveJob 이 article 테이블에서 여기로 옮긴다.
+ *  article 테이블(과 그 인덱스들)은 최근 글만 남아서 작게 유지되고, 여기는 id(PK) 로만 찾으니까 다른 인덱스는 없다.
+ *
+ *  - 값은 옮길 때 insert ... select 로 그대로 복사한다. (id 도 그대로 -> /api/articles/{id} 주소가 안 바뀐다)
+ *  - API 응답 모양은 Article 과 같게 맞춘다. (id, viewCount 는 안 내보냄. archivedAt 만 더 있다)
+ *  - 읽기 전용이다. 수정/삭제 API 는 없고, 2차 캐시도 안 쓴다. (거의 안 읽히니까)
+ * */
+@Getter
+@ToString
+@Relation(itemRelation = "article", collectionRelation = "articles") // HAL _embedded 이름을 원래 엔티티와 같게
+@Entity
+@Table(name = "article_archive")
+public class ArchivedArticle {
+
+    @Id
+    @JsonIgnore
+    private Long id; // 원래 article.id (새로 발급 안함)
+
+    @Column(nullable = false) private String title;
+    @Column(length = 10000) private String content; // 압축 저장된 글이면 null (getContent() 참고)
+    private String hashtag;
+
+    /* 압축 저장된 글은 article_content 행을 그대로 같이 가리킨다. (옮길 때 본문은 복사 안함) */
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "content_body_id")
+    @ToString.Exclude
+    @JsonIgnore
+    private ArticleContentBody contentBody;
+
+    @Column(nullable = false) private long commentCount;
+    @Column(nullable = false) @JsonIgnore private long viewCount;
+
+    @Column(nullable = false) private LocalDateTime createdAt;
+    @Column(nullable = false, length = 100) private String createdBy;
+    @Column(nullable = false) private LocalDateTime modifiedAt;
+    @Column(nullable = false, length = 100) private String modifiedBy;
+
+    @Column(nullable = false) private LocalDateTime archivedAt; // 보관 테이블로 옮겨진 시각
+
+    protected ArchivedArticle() {}
+
+    public String getContent() {
+        if (content == null && contentBody != null) {
+            return contentBody.getText();
+        }
+        return content;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ArchivedArticle that)) return false;
+        return id != null && id.equals(that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+}
@@ -0,0 +1,53 @@
+package com.bitstudy.app.domain;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.Getter;
+import lombok.ToString;
+import org.springframework.hateoas.server.core.Relation;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/* 보관(cold) 댓글 - article_comment_archive 테이블
+ *  게시글이 보관될 때 그 글의 댓글도 같이 옮겨진다. (ArticleArchiveJob)
+ *  게시글도 보관 테이블에 있으니까 연관관계(@ManyToOne) 대신 articleId 값만 들고 있는다.
+ *  게시글별 댓글 목록(/api/articles/{id}/articleComments) 때문에 articleId 인덱스만 둔다.
+ * */
+@Getter
+@ToString
+@Relation(itemRelation = "articleComment", collectionRelation = "articleComments") // HAL _embedded 이름을 원래 엔티티와 같게
+@Entity
+@Table(name = "article_comment_archive", indexes = @Index(columnList = "articleId"))
+public class ArchivedArticleComment {
+
+    @Id
+    @JsonIgnore
+    private Long id; // 원래 article_comment.id
+
+    @Column(nullable = false) @JsonIgnore private Long articleId; // API 에서는 _links.article 로 보여준다.
+    @Column(nullable = false, length = 500) private String content;
+
+    @Column(nullable = false) private LocalDateTime createdAt;
+    @Column(nullable = false, length = 100) private String createdBy;
+    @Column(nullable = false) private LocalDateTime modifiedAt;
+    @Column(nullable = false, length = 100) private String modifiedBy;
+
+    protected ArchivedArticleComment() {}
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ArchivedArticleComment that)) return false;
+        return id != null && id.equals(that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+}
@@ -1,8 +1,14 @@
 package com.bitstudy.app.domain;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
 import org.springframework.data.annotation.CreatedBy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedBy;
@@ -11,6 +17,7 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import javax.persistence.*;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.LinkedHashSet;
 import java.util.Objects;
 import java.util.Set;
@@ -60,14 +67,37 @@ import java.util.Set;
         @Index(columnList = "hashtag"),
         @Index(columnList = "createdAt"),
         @Index(columnList = "createdBy"),
+        @Index(columnList = "viewCount"), // 조회수 순위 (ViewCountService)
 })
 @Getter // 이걸 사용하면 Getter를 다만들어줌
 //@Setter // 이걸 사용하면 Setter를 다만들어줌
 @ToString // 이걸 사용하면 TsoString 만들어줌
 @Entity // 롬복을 이용해서 클래스를 앤티티로 변경 @Entity가 붙은 클래스는 JPA가 관리하게 된다. 그래서 기본키가 뭔지 알려줘야 한다. 그게 @ID
+/* 2차 캐시: id 로 조회할 때 DB 대신 메모리(Caffeine)에서 꺼낸다. 저장/삭제되면 Hibernate 가 알아서 캐시를 고친다.
+ *  READ_WRITE : 수정 중인 동안에는 캐시를 잠가서 오래된 값이 안 읽히게 한다. */
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+/* 게시글 + 압축 본문을 join 한번으로 가져오는 fetch plan (ArticleRepository 의 목록 조회들)
+ *  목록 JSON 에는 content 가 들어가서 어차피 글마다 본문을 읽는다. 압축 저장이면 그게 article_content 조회로 따로 나가니까
+ *  목록을 읽을 때 같이 join 해서 가져온다. (압축 안 한 글은 content_body_id 가 null 이라 join 해도 붙는 게 없다)
+ *  댓글 컬렉션은 그래프에 안 넣는다. 댓글은 API 에서 항상 페이지 단위로 읽는다. (ArticleCommentPageController) */
+@NamedEntityGraph(name = "Article.withContentBody", attributeNodes = @NamedAttributeNode("contentBody"))
 public class Article extends AuditingFields {
     @Id // 전체 필드 중에서 이게 PK이다 라고 말해주는 구문. @ID가 없으면 Entity가 에러 난다.
-    @GeneratedValue(strategy = GenerationType.IDENTITY) // 해당 필드가 auto_increment 인 경우 GenerationType 써준다 **기본키 전략
+    /* 기본키 전략
+     *  IDENTITY(auto_increment) 는 insert 를 해봐야 id 를 알 수 있어서 Hibernate 가 insert 를 한건씩 바로 날린다. (JDBC batch 안됨)
+     *  그래서 id_generator 테이블에서 id 를 50개씩 미리 받아다 쓰는 방식(pooled-lo)으로 바꿈.
+     *  -> insert 를 모아서 batch 로 보낼 수 있다. (hibernate.jdbc.batch_size)
+     *  시퀀스가 없는 MySQL 이랑 H2 둘 다 똑같이 동작하게 테이블 방식을 쓴다.
+     *  샤딩을 켜면(board.sharding.enabled) 테이블 대신 샤드 번호가 들어간 snowflake id 를 쓴다. (ShardAwareIdGenerator)
+     * */
+    @GeneratedValue(generator = "article_id")
+    @GenericGenerator(name = "article_id", strategy = "com.bitstudy.app.sharding.ShardAwareIdGenerator", parameters = {
+            @Parameter(name = "table_name", value = "id_generator"),
+            @Parameter(name = "segment_column_name", value = "sequence_name"),
+            @Parameter(name = "value_column_name", value = "next_val"),
+            @Parameter(name = "segment_value", value = "article"),
+            @Parameter(name = "increment_size", value = "50")})
     private Long id;
 
 
@@ -81,14 +111,58 @@ public class Article extends AuditingFields {
         @Column(nullable=false,length="숫자") 숫자 안쓰면 기본값 255 먹는다.
     * */
     @Setter @Column(nullable=false) private String title; // 제목
-    @Setter @Column(nullable=false, length=10000) private String content; // 본문
+    @Setter @Column(length=10000) private String content; // 본문 (압축 저장이면 null, getContent() 참고)
     @Setter private String hashtag; // 해시태그
 
+    /* 압축된 본문 (board.article-content.compressed=true 로 저장된 글만 있다)
+     *  LAZY 라서 목록처럼 본문이 필요 없는 곳에서는 article_content 를 아예 안 읽는다.
+     *  어느 모드로 저장할지는 ArticleRepository.save 가 정한다. (ArticleRepositoryCustomImpl)
+     * */
+    @OneToOne(fetch = FetchType.LAZY, cascade = CascadeType.ALL, orphanRemoval = true)
+    @JoinColumn(name = "content_body_id")
+    @ToString.Exclude
+    @JsonIgnore
+    private ArticleContentBody contentBody;
+
+    /* 댓글 수 (비정규화 컬럼)
+     *  목록에서 "댓글 N개" 를 보여주려고 articleComments 컬렉션을 초기화하거나 글마다 count 쿼리를 날리지 않으려고 둔 컬럼.
+     *  값은 ArticleCommentRepository 의 save/delete 에서 DB 안에서 바로 +1/-1 (update ... set comment_count = comment_count + 1) 한다.
+     *  insertable/updatable = false : 엔티티를 저장할 때 메모리에 있는 (오래된) 값으로 덮어쓰지 않게 막는다.
+     *  어긋났을 때는 CommentCountRepairJob 이 처음부터 다시 센다.
+     * */
+    @ColumnDefault("0")
+    @Column(nullable = false, insertable = false, updatable = false)
+    private long commentCount;
+
+    /* 조회수 (비정규화 컬럼)
+     *  조회마다 update 하면 인기글 한 행에 락이 몰리니까, ViewCountService 가 메모리에 모았다가 몇 초마다 한번에 더한다.
+     *  그래서 DB 값은 최대 flush 간격만큼 늦고, 2차 캐시에 있는 값은 더 늦을 수 있다. -> API 응답에는 안 내보낸다.
+     *  순위는 GET /api/articles/most-viewed 로 본다.
+     * */
+    @ColumnDefault("0")
+    @Column(nullable = false, insertable = false, updatable = false)
+    @JsonIgnore
+    private long viewCount;
+
+    /* 정규화된 해시태그 (hashtag 문자열에서 뽑은 태그들)
+     *  값은 ArticleRepository.save 가 hashtag 문자열을 보고 맞춘다. (ArticleRepositoryCustomImpl)
+     *  API 응답에는 hashtag 문자열이 이미 있으니까 여기는 안 내보낸다. (목록에서 글마다 태그 조회하는 N+1 방지)
+     * */
+    @ManyToMany
+    @JoinTable(name = "article_hashtag",
+            joinColumns = @JoinColumn(name = "article_id"),
+            inverseJoinColumns = @JoinColumn(name = "hashtag_id"),
+            indexes = @Index(columnList = "hashtag_id"))
+    @ToString.Exclude
+    @JsonIgnore
+    private final Set<Hashtag> hashtags = new LinkedHashSet<>();
+
     /* 양방향 바인딩
     *    */
 
     @OrderBy("id") // 양방향 바인딩을 할건데 정렬 기준을 id로 하겠다는 뜻
     @OneToMany(mappedBy = "article", cascade = CascadeType.ALL)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE) // 댓글 id 목록을 캐시 (/api/articles/{id}/articleComments)
     @ToString.Exclude // 이거 중요. 맨 위에 @ToString이 있는데 마우스 올려보면 @ToString includes~ lazy load 가 나온다
     // 이건 퍼포먼스 메모리 저하를 일으킬 수 있어서 성능적으로 안좋은 영향을 줄 수 있다. 그래서 해당 필드를 가려주세요 하는거
     private final Set<ArticleComment> articleComments = new LinkedHashSet<>();
@@ -175,6 +249,45 @@ public class Article extends AuditingFields {
     public static Article of(String title, String content, String hashtag){
         return new Article(title,content,hashtag);
     }
+
+    /* 본문 - 압축 저장된 글이면 처음 부를 때 article_content 를 읽고 풀어서 준다.
+     *  content 에 값이 있으면 (방금 수정된 값이거나 압축 안 한 글) 그걸 그대로 준다.
+     *  JSON 응답도 이 getter 를 쓰니까 API 모양은 저장 방식과 상관없이 같다.
+     * */
+    public String getContent() {
+        if (content == null && contentBody != null) {
+            return contentBody.getText();
+        }
+        return content;
+    }
+
+    /* 본문을 압축 테이블로 옮긴다. (이미 있으면 그 행의 값만 바꾼다)
+     *  값만 바뀌면 article 행은 그대로라서 (content 는 다시 null) 게시글이 수정된 걸로 안 잡힌다. -> markModified() */
+    public void compressContent() {
+        if (content == null) {
+            return;
+        }
+        if (contentBody == null) {
+            contentBody = ArticleContentBody.of(content);
+        } else if (contentBody.replace(content)) {
+            markModified();
+        }
+        content = null;
+    }
+
+    /* 본문을 다시 article.content 로 옮긴다. (압축을 끈 뒤에 수정되는 글) */
+    public void inlineContent() {
+        if (contentBody == null) {
+            return;
+        }
+        content = getContent();
+        contentBody = null; // orphanRemoval 로 article_content 행도 지워진다.
+    }
+
+    public void replaceHashtags(Collection<Hashtag> hashtags) {
+        this.hashtags.clear();
+        this.hashtags.addAll(hashtags);
+    }
     /* 정적 팩토리 메서드 (factory, method, pattern 중에 하나)
     *  정적 팩토리 메서드란 객체 생성 역할을 하는 클래스 메서드 라는 뜻.
     * of 메서드를 이용해서 위에 있는 private 생성자를 직접적으로 사용해서 객체를 생성하는 방법.
@@ -3,6 +3,10 @@ package com.bitstudy.app.domain;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
 import org.springframework.data.annotation.CreatedBy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedBy;
@@ -11,20 +15,32 @@ import org.springframework.data.annotation.LastModifiedDate;
 import javax.persistence.*;
 import java.time.LocalDateTime;
 @Entity // 테이블과 매핑 한다는 뜻. JPA가 관리한다.
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE) // 2차 캐시 (Article 참고)
 @Getter
 @ToString
 @Table(indexes = {
         @Index(columnList = "content"),
         @Index(columnList = "createdAt"),
         @Index(columnList = "createdBy"),
+        @Index(columnList = "article_id, modified_at"), // 게시글의 댓글 목록 버전(ResourceVersionRepository#commentsOfArticle)을 이 인덱스 범위만 읽어서 만든다.
 })
 public class ArticleComment extends AuditingFields{
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "article_comment_id") // Article 이랑 같은 방식 (pooled-lo)
+    @GenericGenerator(name = "article_comment_id", strategy = "com.bitstudy.app.sharding.ShardAwareIdGenerator", parameters = {
+            @Parameter(name = "table_name", value = "id_generator"),
+            @Parameter(name = "segment_column_name", value = "sequence_name"),
+            @Parameter(name = "value_column_name", value = "next_val"),
+            @Parameter(name = "segment_value", value = "article_comment"),
+            @Parameter(name = "increment_size", value = "50")})
     private Long id;
 
-    @Setter @ManyToOne(optional = false) private Article article;
+    /* LAZY : 댓글 목록을 읽을 때 게시글까지 딸려오지 않게 한다. (기본값 EAGER 면 댓글마다 게시글 조회)
+     *  게시글이 필요한 곳에서만 fetch join / @EntityGraph 로 같이 가져온다.
+     *  @ToString.Exclude : toString() 이 프록시를 초기화해서 쿼리가 나가는 걸 막는다. */
+    @Setter @ManyToOne(optional = false, fetch = FetchType.LAZY) @ToString.Exclude private Article article;
 
     /* 연관관계 매핑
         연관관계 없이 만들면 private Long articleId; 이런식으로 (관계형 데이터
@@ -39,6 +55,17 @@ public class ArticleComment extends AuditingFields{
     @Setter @Column(nullable=false, length=500)
     private String content; // 본문
 
+    protected ArticleComment() {}
+
+    private ArticleComment(Article article, String content) {
+        this.article = article;
+        this.content = content;
+    }
+
+    public static ArticleComment of(Article article, String content) {
+        return new ArticleComment(article, content);
+    }
+
     //메타데이터
 //    @CreatedDate
 //    @Column(nullable=false)
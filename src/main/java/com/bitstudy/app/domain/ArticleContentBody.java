@@ -0,0 +1,99 @@
+package com.bitstudy.app.domain;
+
+import lombok.Getter;
+import lombok.ToString;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import javax.persistence.Transient;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/* 압축된 게시글 본문 - article_content 테이블 (board.article-content.compressed=true 일 때 쓰임)
+ *  본문(최대 10000자)이 article 행 크기의 대부분이라서, 본문을 따로 빼서 압축해두면
+ *  article 테이블은 제목/작성정보만 남아 작아지고, 목록 조회는 본문을 아예 안 읽는다.
+ *
+ *  - Article.contentBody 가 LAZY 라서 getContent() 를 처음 부를 때 이 행을 읽는다.
+ *    API 목록 조회는 Article.withContentBody 그래프로 처음부터 join 해서 읽는다. (그 밖에서 여러 글이면 default_batch_fetch_size 만큼 in 으로 묶어서)
+ *  - 풀어놓은 문자열은 @Transient 로 들고 있어서 같은 엔티티에서 두 번 풀지 않는다.
+ *  - 2차 캐시는 안 쓴다. (압축해도 큰 값이라 캐시 메모리를 금방 채운다)
+ * */
+@Getter
+@ToString(onlyExplicitlyIncluded = true)
+@Entity
+@Table(name = "article_content")
+public class ArticleContentBody {
+
+    @Id
+    @ToString.Include
+    @GeneratedValue(generator = "article_content_id")
+    @GenericGenerator(name = "article_content_id", strategy = "com.bitstudy.app.sharding.ShardAwareIdGenerator", parameters = {
+            @Parameter(name = "table_name", value = "id_generator"),
+            @Parameter(name = "segment_column_name", value = "sequence_name"),
+            @Parameter(name = "value_column_name", value = "next_val"),
+            @Parameter(name = "segment_value", value = "article_content"),
+            @Parameter(name = "increment_size", value = "50")})
+    private Long id;
+
+    /* 10000자 * UTF-8 최대 3바이트 = 30000 + 압축이 안되는 경우의 여유분 */
+    @Column(nullable = false, length = 32000)
+    private byte[] compressed;
+
+    @ToString.Include
+    @Column(nullable = false)
+    private int originalLength; // 압축 전 UTF-8 바이트 수
+
+    @Transient
+    private String text;
+
+    protected ArticleContentBody() {}
+
+    private ArticleContentBody(String text) {
+        replace(text);
+    }
+
+    public static ArticleContentBody of(String text) {
+        return new ArticleContentBody(text);
+    }
+
+    public String getText() {
+        if (text == null) {
+            text = ContentCodec.decompress(compressed, originalLength);
+        }
+        return text;
+    }
+
+    /* 본문이 바뀌면 다시 압축한다. (행은 그대로 두고 값만 바꿈)
+     *  @return 바뀌었으면 true */
+    public boolean replace(String text) {
+        if (text.equals(getTextIfStored())) {
+            return false;
+        }
+        this.compressed = ContentCodec.compress(text);
+        this.originalLength = text.getBytes(StandardCharsets.UTF_8).length;
+        this.text = text;
+        return true;
+    }
+
+    /* 새로 만드는 중(아직 압축 전)이면 null */
+    private String getTextIfStored() {
+        return compressed == null ? null : getText();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ArticleContentBody that)) return false;
+        return id != null && id.equals(that.getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+}
@@ -44,5 +44,12 @@ public class AuditingFields {
     @CreatedBy
     @Column(nullable=false, length=100)
     private String modifiedBy; // 수정자
+
+    /* 이 행의 컬럼은 그대로인데 "수정됨"으로 쳐야 할 때 (Article 본문이 압축 테이블에서만 바뀐 경우)
+     *  modifiedAt 을 바꿔두면 Hibernate 가 dirty 로 보고 update 를 날리고, 그때 @LastModifiedDate/By 가 다시 채워진다.
+     *  -> 단건 ETag, 커밋 이벤트(검색 색인 등)가 보통 수정이랑 똑같이 따라온다. */
+    protected void markModified() {
+        this.modifiedAt = LocalDateTime.now();
+    }
 }
 
@@ -0,0 +1,58 @@
+package com.bitstudy.app.domain;
+
+import lombok.Getter;
+import lombok.ToString;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+
+import javax.persistence.*;
+import java.util.Objects;
+
+/* 해시태그 사전
+ *  Article.hashtag 문자열("#java #spring")을 HashtagParser 로 잘라서 태그 하나당 row 하나로 저장한다.
+ *  게시글이랑은 article_hashtag 테이블로 다대다 연결. (Article.hashtags)
+ *  name 은 소문자, # 없이 저장한다. ("#Java" -> "java")
+ * */
+@Entity
+@Getter
+@ToString
+@Table(uniqueConstraints = @UniqueConstraint(columnNames = "name"))
+public class Hashtag {
+
+    @Id
+    @GeneratedValue(generator = "hashtag_id") // Article 이랑 같은 방식 (pooled-lo)
+    @GenericGenerator(name = "hashtag_id", strategy = "com.bitstudy.app.sharding.ShardAwareIdGenerator", parameters = {
+            @Parameter(name = "table_name", value = "id_generator"),
+            @Parameter(name = "segment_column_name", value = "sequence_name"),
+            @Parameter(name = "value_column_name", value = "next_val"),
+            @Parameter(name = "segment_value", value = "hashtag"),
+            @Parameter(name = "increment_size", value = "50")})
+    private Long id;
+
+    @Column(nullable = false, length = 50)
+    private String name;
+
+    protected Hashtag() {}
+
+    private Hashtag(String name) {
+        this.name = name;
+    }
+
+    public static Hashtag of(String name) {
+        return new Hashtag(name);
+    }
+
+    /* 저장 전에도 Set 에 넣을 수 있게 자연키(name)로 비교한다. */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        Hashtag hashtag = (Hashtag) o;
+        return Objects.equals(name, hashtag.name);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name);
+    }
+}
@@ -0,0 +1,9 @@
+package com.bitstudy.app.dto;
+
+/* 게시글 보관 결과 (ArticleArchiveJob) */
+public record ArchiveReport(
+        long articles,
+        long comments,
+        long elapsedMillis
+) {
+}
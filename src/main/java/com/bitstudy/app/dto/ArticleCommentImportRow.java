@@ -0,0 +1,20 @@
+package com.bitstudy.app.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.time.LocalDateTime;
+
+/* 대량 적재(BulkImportService) 입력 한 줄 - 댓글
+ *  articleId : 같이 적재하는 게시글 파일의 id. 거기에 없으면 이미 DB 에 있는 게시글 id 로 본다.
+ *              (NDJSON 처럼 게시글 안에 들어있는 댓글은 비워둬도 된다)
+ * */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record ArticleCommentImportRow(
+        Long articleId,
+        String content,
+        LocalDateTime createdAt,
+        String createdBy,
+        LocalDateTime modifiedAt,
+        String modifiedBy
+) {
+}
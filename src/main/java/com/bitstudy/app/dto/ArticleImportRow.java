@@ -0,0 +1,25 @@
+package com.bitstudy.app.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/* 대량 적재(BulkImportService) 입력 한 줄 - 게시글
+ *  id : 파일 안에서만 쓰는 번호. DB id 는 새로 받고, 댓글 파일(CSV)의 articleId 를 맞춰주는 데만 쓴다.
+ *  comments : NDJSON 에서는 게시글 한 줄 안에 댓글들을 같이 넣을 수 있다. (CSV 는 댓글 파일을 따로 받음)
+ *  날짜는 ISO 형식 (2022-12-03T23:49:10), 없으면 적재 시각으로 채운다.
+ * */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record ArticleImportRow(
+        Long id,
+        String title,
+        String content,
+        String hashtag,
+        LocalDateTime createdAt,
+        String createdBy,
+        LocalDateTime modifiedAt,
+        String modifiedBy,
+        List<ArticleCommentImportRow> comments
+) {
+}
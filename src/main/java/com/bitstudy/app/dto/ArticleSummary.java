@@ -0,0 +1,21 @@
+package com.bitstudy.app.dto;
+
+import org.springframework.hateoas.server.core.Relation;
+
+import java.time.LocalDateTime;
+
+/* 게시글 목록 화면용 요약 DTO
+ *  목록에서는 본문(content, 최대 10000자)이랑 댓글 엔티티들이 필요 없다.
+ *  엔티티를 통째로 올리지 않고 필요한 컬럼만 select 해서 이 DTO 로 바로 받는다. (ArticleRepository.findSummaries)
+ *  -> row 크기, 힙 사용량, JSON 크기가 다 줄어든다.
+ * */
+@Relation(collectionRelation = "articles", itemRelation = "article")
+public record ArticleSummary(
+        Long id,
+        String title,
+        String hashtag,
+        LocalDateTime createdAt,
+        String createdBy,
+        Long commentCount
+) {
+}
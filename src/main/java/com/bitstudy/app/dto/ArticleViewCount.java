@@ -0,0 +1,5 @@
+package com.bitstudy.app.dto;
+
+/* 조회수 순위 한 줄 (GET /api/articles/most-viewed) */
+public record ArticleViewCount(Long id, String title, long viewCount) {
+}
@@ -0,0 +1,11 @@
+package com.bitstudy.app.dto;
+
+import java.time.LocalDateTime;
+
+/* 댓글 피드(SSE)로 나가는 이벤트 한 건 (type: created | updated)
+ *  엔티티를 그대로 들고 있지 않고 커밋 시점 값만 복사해둔다. (구독자마다 다시 직렬화하지 않고 한 번만 JSON 으로 만든다)
+ * */
+public record CommentFeedEvent(String type, Long id, Long articleId, String content,
+                               LocalDateTime createdAt, String createdBy,
+                               LocalDateTime modifiedAt, String modifiedBy) {
+}
@@ -0,0 +1,24 @@
+package com.bitstudy.app.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+/* POST /api/articleComments 요청 본문 (write-behind 모드, CommentIngestController)
+ *  Spring Data REST 랑 같은 모양으로 받는다: {"article": "http://localhost:8080/api/articles/1", "content": "..."}
+ *  article 에 id 만 넣어도 된다. ("1" 또는 "/api/articles/1")
+ * */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record CommentIngestRequest(String article, String content) {
+
+    /* @return 게시글 id, 못 읽으면 null */
+    public Long articleId() {
+        if (article == null || article.isBlank()) {
+            return null;
+        }
+        String value = article.endsWith("/") ? article.substring(0, article.length() - 1) : article;
+        try {
+            return Long.valueOf(value.substring(value.lastIndexOf('/') + 1));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.bitstudy.app.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/* 커서(keyset) 페이징에서 쓰는 커서
+ *  offset 페이징(LIMIT ... OFFSET)은 뒤 페이지로 갈수록 앞에 있는 row 들을 다 읽고 버리기 때문에 점점 느려진다.
+ *  커서 페이징은 "마지막으로 본 row 의 (createdAt, id)" 를 기억해 두었다가 그 다음부터 인덱스를 타고 바로 찾아간다.
+ *
+ *  - forward = true  : 커서보다 오래된 쪽(next)
+ *  - forward = false : 커서보다 최신 쪽(prev)
+ *
+ *  클라이언트한테는 내용을 알 수 없게 base64 로 감싼 문자열(토큰)로만 준다.
+ * */
+public record Cursor(LocalDateTime createdAt, Long id, boolean forward) {
+
+    private static final String NEXT = "n";
+    private static final String PREV = "p";
+    private static final String SEPARATOR = "|";
+
+    public static Cursor next(LocalDateTime createdAt, Long id) {
+        return new Cursor(createdAt, id, true);
+    }
+
+    public static Cursor prev(LocalDateTime createdAt, Long id) {
+        return new Cursor(createdAt, id, false);
+    }
+
+    public String encode() {
+        String raw = (forward ? NEXT : PREV) + SEPARATOR + createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /* 잘못된 토큰이면 IllegalArgumentException */
+    public static Cursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + SEPARATOR);
+            if (parts.length != 3 || !(NEXT.equals(parts[0]) || PREV.equals(parts[0]))) {
+                throw new IllegalArgumentException("잘못된 커서: " + token);
+            }
+            return new Cursor(LocalDateTime.parse(parts[1]), Long.valueOf(parts[2]), NEXT.equals(parts[0]));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 커서: " + token, e);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.bitstudy.app.dto;
+
+import java.util.List;
+
+/* 첫 화면 목록 정합성 검사 결과 (FrontPageService#check)
+ *  checked    : 비교한 줄 수
+ *  mismatches : 원본 테이블이랑 다른 곳 (검사하는 동안 바뀐 것처럼 잠깐 어긋난 건 빠진다)
+ * */
+public record FrontPageCheck(
+        boolean consistent,
+        int checked,
+        List<String> mismatches,
+        long elapsedMillis
+) {
+}
@@ -0,0 +1,17 @@
+package com.bitstudy.app.dto;
+
+import java.time.LocalDateTime;
+
+/* 첫 화면(최신 게시글 목록) 한 줄 (FrontPageService)
+ *  commentCount, lastCommentAt 은 article_comment 기준 값이다. (댓글이 없으면 lastCommentAt 은 null)
+ * */
+public record FrontPageEntry(
+        Long id,
+        String title,
+        String hashtag,
+        LocalDateTime createdAt,
+        String createdBy,
+        long commentCount,
+        LocalDateTime lastCommentAt
+) {
+}
@@ -0,0 +1,11 @@
+package com.bitstudy.app.dto;
+
+/* 대량 적재 결과 */
+public record ImportReport(
+        long articles,
+        long comments,
+        long skipped,
+        long elapsedMillis,
+        double rowsPerSecond
+) {
+}
@@ -0,0 +1,32 @@
+package com.bitstudy.app.dto;
+
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/* 조건부 GET(ETag / Last-Modified) 에 쓰는 "리소스 버전"
+ *  엔티티를 통째로 읽지 않고 modifiedAt, 댓글 수 같은 작은 값만 읽어서 만든다. (ResourceVersionRepository)
+ *
+ *  - lastModified : Last-Modified 헤더로 내려줄 시각 (없으면 null)
+ *  - fingerprint  : 이 값이 바뀌면 응답 내용도 바뀐다고 보는 문자열
+ * */
+public record ResourceVersion(LocalDateTime lastModified, String fingerprint) {
+
+    /* 강한 ETag. 같은 리소스라도 URL(쿼리스트링)이나 Accept 가 다르면 응답이 다르니까 variant 도 같이 섞는다. */
+    public String etag(String variant) {
+        String hash = DigestUtils.md5DigestAsHex((fingerprint + '|' + variant).getBytes(StandardCharsets.UTF_8));
+        return '"' + hash + '"';
+    }
+
+    public long lastModifiedMillis() {
+        return lastModified == null ? -1 : lastModified.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    public static LocalDateTime latest(LocalDateTime a, LocalDateTime b) {
+        if (a == null) return b;
+        if (b == null) return a;
+        return a.isAfter(b) ? a : b;
+    }
+}
@@ -0,0 +1,10 @@
+package com.bitstudy.app.dto;
+
+/* 검색 결과 한 건
+ *  type     : ARTICLE / ARTICLE_COMMENT
+ *  id       : 게시글 id 또는 댓글 id
+ *  articleId: 댓글이면 그 댓글이 달린 게시글 id (게시글이면 id 랑 같음)
+ *  label    : 게시글 제목 또는 댓글 앞부분
+ * */
+public record SearchHit(String type, Long id, Long articleId, String label, double score) {
+}
@@ -0,0 +1,7 @@
+package com.bitstudy.app.dto;
+
+import java.util.List;
+
+/* GET /api/search 응답 */
+public record SearchResult(String query, long total, int page, int size, long tookMicros, List<SearchHit> hits) {
+}
@@ -0,0 +1,5 @@
+package com.bitstudy.app.dto;
+
+/* 태그 이름 + 게시글 수 (전체 또는 기간 안에서) */
+public record TagCount(String name, long count) {
+}
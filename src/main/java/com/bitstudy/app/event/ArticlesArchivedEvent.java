@@ -0,0 +1,10 @@
+package com.bitstudy.app.event;
+
+import java.util.List;
+
+/* 게시글(+댓글)이 보관 테이블로 옮겨지고 커밋된 뒤에 발행되는 이벤트 (ArticleArchiveJob)
+ *  옮기는 건 JDBC 로 하기 때문에 EntityCommittedEvent(DELETE) 가 안 나온다.
+ *  검색 색인/해시태그 색인처럼 복사본을 들고 있는 곳들은 이걸 받고 해당 id 들을 뺀다. (통째로 다시 만들 필요는 없음)
+ * */
+public record ArticlesArchivedEvent(List<Long> articleIds, List<Long> articleCommentIds) {
+}
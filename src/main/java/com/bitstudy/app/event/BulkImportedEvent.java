@@ -0,0 +1,10 @@
+package com.bitstudy.app.event;
+
+import com.bitstudy.app.dto.ImportReport;
+
+/* 대량 적재가 끝났을 때 발행되는 이벤트
+ *  BulkImportService 는 Hibernate 를 안 거치고 JDBC 로 넣기 때문에 EntityCommittedEvent 가 안 나온다.
+ *  그래서 복사본을 들고 있는 곳들은 이걸 받고 통째로 다시 만든다.
+ * */
+public record BulkImportedEvent(ImportReport report) {
+}
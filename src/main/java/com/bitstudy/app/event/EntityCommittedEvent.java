@@ -0,0 +1,20 @@
+package com.bitstudy.app.event;
+
+import java.util.Map;
+
+/* 엔티티 변경이 "커밋된 뒤에" 발행되는 스프링 이벤트 (HibernateCommitEventBridge 가 발행)
+ *  롤백된 변경은 안 나온다. 검색 색인처럼 DB 밖에 복사본을 들고 있는 곳에서 받아서 쓴다.
+ *
+ *  entity   : 변경된 엔티티 인스턴스 (DELETE 면 지워지기 직전 상태)
+ *  previous : UPDATE 일 때 바뀌기 전 값 (속성 이름 -> 값). Hibernate 가 이전 상태를 모르면 비어 있다.
+ * */
+public record EntityCommittedEvent(Type type, Object entity, Object id, Map<String, Object> previous) {
+
+    public EntityCommittedEvent(Type type, Object entity, Object id) {
+        this(type, entity, id, Map.of());
+    }
+
+    public enum Type {
+        INSERT, UPDATE, DELETE
+    }
+}
@@ -0,0 +1,94 @@
+package com.bitstudy.app.event;
+
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.internal.SessionFactoryImpl;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.persistence.EntityManagerFactory;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/* Hibernate 의 post-commit 이벤트를 스프링 이벤트(EntityCommittedEvent)로 넘겨주는 다리
+ *  Hibernate 리스너는 스프링 빈이 아니라서 여기서 직접 EventListenerRegistry 에 등록한다.
+ *  커밋이 끝난 다음에 불리니까, 받는 쪽에서 예외가 나도 이미 커밋된 트랜잭션에는 영향이 없다.
+ * */
+@Component
+public class HibernateCommitEventBridge implements PostCommitInsertEventListener, PostCommitUpdateEventListener,
+        PostCommitDeleteEventListener {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final ApplicationEventPublisher publisher;
+
+    public HibernateCommitEventBridge(EntityManagerFactory entityManagerFactory, ApplicationEventPublisher publisher) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.publisher = publisher;
+    }
+
+    @PostConstruct
+    void register() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImpl.class)
+                .getServiceRegistry().getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_COMMIT_INSERT, this);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+        registry.appendListeners(EventType.POST_COMMIT_DELETE, this);
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        publisher.publishEvent(new EntityCommittedEvent(EntityCommittedEvent.Type.INSERT, event.getEntity(), event.getId()));
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        publisher.publishEvent(new EntityCommittedEvent(EntityCommittedEvent.Type.UPDATE, event.getEntity(), event.getId(),
+                previousState(event)));
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        publisher.publishEvent(new EntityCommittedEvent(EntityCommittedEvent.Type.DELETE, event.getEntity(), event.getId()));
+    }
+
+    /* 바뀌기 전 값 (댓글이 다른 글로 옮겨졌을 때 원래 글을 알아야 하는 곳이 있다) */
+    private static Map<String, Object> previousState(PostUpdateEvent event) {
+        Object[] oldState = event.getOldState();
+        if (oldState == null) {
+            return Map.of();
+        }
+        String[] names = event.getPersister().getPropertyNames();
+        Map<String, Object> previous = new HashMap<>(); // 값에 null 이 있을 수 있어서 Map.of 는 못 쓴다.
+        for (int i = 0; i < names.length; i++) {
+            previous.put(names[i], oldState[i]);
+        }
+        return Collections.unmodifiableMap(previous);
+    }
+
+    /* 롤백되면 아무것도 안 한다. */
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+    }
+
+    @Override
+    public boolean requiresPostCommitHanding(EntityPersister persister) {
+        return true;
+    }
+}
@@ -0,0 +1,350 @@
+package com.bitstudy.app.feed;
+
+import com.bitstudy.app.config.CommentFeedProperties;
+import com.bitstudy.app.domain.ArticleComment;
+import com.bitstudy.app.dto.CommentFeedEvent;
+import com.bitstudy.app.event.EntityCommittedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/* 댓글 실시간 피드 (SSE) - 게시글 하나 또는 게시판 전체의 새 댓글/수정된 댓글을 커밋되자마자 밀어준다.
+ *  폴링하면 댓글 컬렉션을 매번 통째로 다시 받아야 하는데, 여기서는 바뀐 댓글 한 건만 나간다.
+ *
+ *  흐름
+ *    커밋 스레드 --(EntityCommittedEvent, 안 기다림)--> inbound 큐 --> 디스패처 스레드 하나
+ *      디스패처: 이벤트마다 JSON 을 한 번만 만들어서(SseFrame) 해당 구독자들 버퍼에 넣기만 한다.
+ *      sender 스레드 몇 개: 버퍼에 뭔가 쌓인 구독자만 골라서 소켓에 쓴다.
+ *    - 연결은 서블릿 async 라서 연결마다 스레드를 잡지 않는다. 노는 연결은 큐 객체 하나 정도의 메모리만 쓴다.
+ *    - 쓰는 쪽(댓글 저장)은 절대 안 막힌다. inbound 가 가득 차면 그 이벤트를 버린다. (board.comments.feed.dropped)
+ *    - 느린 구독자는 버퍼(bufferSize)가 넘치는 순간 끊는다. (board.comments.feed.evicted)
+ *      다른 구독자나 디스패처는 그 구독자를 기다리지 않는다.
+ *
+ *  끊겼다 다시 붙을 때 (EventSource 가 Last-Event-ID 를 자동으로 보낸다)
+ *    최근 replaySize 개 안에 있으면 놓친 것부터 이어서 보낸다.
+ *    너무 오래됐거나 서버가 재시작됐으면 "reset" 이벤트를 보낸다. -> 클라이언트는 REST 로 댓글 목록을 한 번 다시 받으면 된다.
+ *
+ *  삭제는 안 보낸다. (피드는 새 댓글/수정만)
+ * */
+@Slf4j
+@Service
+public class CommentFeed implements InitializingBean, DisposableBean {
+
+    public static final String EVENT_COMMENT = "comment";
+    public static final String EVENT_RESET = "reset";
+    private static final SseFrame RESET = SseFrame.of(null, EVENT_RESET, "{}");
+    private static final long IDLE_POLL_MILLIS = 100;
+    private static final int DRAIN_BATCH = 64; // sender 가 한 구독자한테 연달아 보내는 최대 개수 (나머지는 뒤로 다시 줄 선다)
+
+    private final CommentFeedProperties properties;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    private final BlockingQueue<CommentFeedEvent> inbound;
+    private final Set<FeedSubscriber> board = ConcurrentHashMap.newKeySet();
+    private final Map<Long, Set<FeedSubscriber>> byArticle = new ConcurrentHashMap<>();
+    private final AtomicInteger subscribers = new AtomicInteger();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong evicted = new AtomicLong();
+
+    /* 이벤트 id = "<서버 시작 시각>-<순번>". 재시작 전에 받은 id 로 다시 붙으면 이어보내기를 안 한다. */
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final Object lock = new Object(); // 순번, replay, 구독 등록 순서를 맞춘다. (이어보내기랑 새 이벤트가 안 섞이게)
+    private final Deque<Replay> replay = new ArrayDeque<>();
+    private long seq;
+
+    private ExecutorService senders;
+    private ScheduledExecutorService heartbeat;
+    private Thread dispatcher;
+    private volatile boolean running;
+
+    public CommentFeed(CommentFeedProperties properties, ObjectMapper objectMapper, ObjectProvider<MeterRegistry> meterRegistry) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry.getIfAvailable();
+        this.inbound = new LinkedBlockingQueue<>(properties.getInboundCapacity());
+    }
+
+    /* 구독
+     *  @param articleId   null 이면 게시판 전체
+     *  @param lastEventId 다시 붙는 거면 마지막으로 받은 이벤트 id (Last-Event-ID 헤더)
+     *  @throws TooManySubscribersException maxSubscribers 초과
+     * */
+    public ResponseBodyEmitter subscribe(Long articleId, String lastEventId) {
+        if (subscribers.incrementAndGet() > properties.getMaxSubscribers()) {
+            subscribers.decrementAndGet();
+            throw new TooManySubscribersException();
+        }
+        ResponseBodyEmitter emitter = new ResponseBodyEmitter(properties.getTimeout().toMillis()); // 프레임을 그대로 쓴다. (SseFrame)
+        FeedSubscriber subscriber = new FeedSubscriber(articleId, emitter, properties.getBufferSize());
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(e -> remove(subscriber));
+
+        synchronized (lock) {
+            if (lastEventId != null) {
+                replayTo(subscriber, lastEventId);
+            }
+            if (subscriber.isClosed()) { // 이어보낼 게 버퍼보다 많았음
+                return emitter;
+            }
+            if (articleId == null) {
+                board.add(subscriber);
+            } else {
+                byArticle.compute(articleId, (id, set) -> {
+                    Set<FeedSubscriber> watchers = set == null ? ConcurrentHashMap.newKeySet() : set;
+                    watchers.add(subscriber);
+                    return watchers;
+                });
+            }
+        }
+        return emitter;
+    }
+
+    public int subscribers() {
+        return subscribers.get();
+    }
+
+    /* 커밋 스레드에서 불린다. 값만 복사해서 큐에 넣고 바로 돌아간다. */
+    @EventListener
+    public void onEntityCommitted(EntityCommittedEvent event) {
+        if (!(event.entity() instanceof ArticleComment comment) || event.type() == EntityCommittedEvent.Type.DELETE) {
+            return;
+        }
+        CommentFeedEvent feedEvent = new CommentFeedEvent(
+                event.type() == EntityCommittedEvent.Type.INSERT ? "created" : "updated",
+                comment.getId(), comment.getArticle().getId(), comment.getContent(),
+                comment.getCreatedAt(), comment.getCreatedBy(), comment.getModifiedAt(), comment.getModifiedBy());
+        if (!inbound.offer(feedEvent)) {
+            dropped.incrementAndGet();
+        }
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        CustomizableThreadFactory senderThreads = new CustomizableThreadFactory("comment-feed-sender-");
+        senderThreads.setDaemon(true);
+        senders = Executors.newFixedThreadPool(properties.getSenderThreads(), senderThreads);
+
+        CustomizableThreadFactory heartbeatThread = new CustomizableThreadFactory("comment-feed-heartbeat-");
+        heartbeatThread.setDaemon(true);
+        heartbeat = Executors.newSingleThreadScheduledExecutor(heartbeatThread);
+        long interval = properties.getHeartbeat().toMillis();
+        heartbeat.scheduleAtFixedRate(this::heartbeat, interval, interval, TimeUnit.MILLISECONDS);
+
+        if (meterRegistry != null) {
+            Gauge.builder("board.comments.feed.subscribers", subscribers, AtomicInteger::get)
+                    .description("open comment feed (SSE) connections")
+                    .register(meterRegistry);
+            FunctionCounter.builder("board.comments.feed.dropped", dropped, AtomicLong::get)
+                    .description("committed comments not published because the dispatcher queue was full")
+                    .register(meterRegistry);
+            FunctionCounter.builder("board.comments.feed.evicted", evicted, AtomicLong::get)
+                    .description("subscribers closed because their buffer overflowed")
+                    .register(meterRegistry);
+        }
+
+        running = true;
+        dispatcher = new Thread(this::run, "comment-feed-dispatcher");
+        dispatcher.setDaemon(true);
+        dispatcher.start();
+    }
+
+    /* 종료: 연결들을 정상 종료(complete)해서 클라이언트가 다른 서버로 다시 붙게 한다. */
+    @Override
+    public void destroy() throws Exception {
+        running = false;
+        dispatcher.join(IDLE_POLL_MILLIS * 2);
+        heartbeat.shutdownNow();
+        forEachSubscriber(this::close);
+        senders.shutdown();
+        senders.awaitTermination(1, TimeUnit.SECONDS);
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                CommentFeedEvent event = inbound.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (event != null) {
+                    publish(event);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("comment feed: dispatch failed", e);
+            }
+        }
+    }
+
+    private void publish(CommentFeedEvent event) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            log.warn("comment feed: could not serialize comment {}", event.id(), e);
+            return;
+        }
+        synchronized (lock) {
+            long id = ++seq;
+            SseFrame frame = SseFrame.of(epoch + '-' + id, EVENT_COMMENT, json);
+            replay.addLast(new Replay(id, event.articleId(), frame));
+            if (replay.size() > properties.getReplaySize()) {
+                replay.removeFirst();
+            }
+            for (FeedSubscriber subscriber : board) {
+                deliver(subscriber, frame);
+            }
+            Set<FeedSubscriber> watchers = byArticle.get(event.articleId());
+            if (watchers != null) {
+                for (FeedSubscriber subscriber : watchers) {
+                    deliver(subscriber, frame);
+                }
+            }
+        }
+    }
+
+    /* lock 안에서 불린다. 이어서 보낼 수 있으면 놓친 것만, 아니면 reset 하나. */
+    private void replayTo(FeedSubscriber subscriber, String lastEventId) {
+        long last = sequenceOf(lastEventId);
+        long oldest = replay.isEmpty() ? seq + 1 : replay.peekFirst().seq();
+        if (last < 0 || last < oldest - 1 || last > seq) {
+            deliver(subscriber, RESET);
+            return;
+        }
+        for (Replay missed : replay) {
+            if (missed.seq() > last && (subscriber.articleId() == null || subscriber.articleId().equals(missed.articleId()))) {
+                deliver(subscriber, missed.frame());
+            }
+        }
+    }
+
+    /* @return 이 서버가 준 id 가 아니면 -1 */
+    private long sequenceOf(String eventId) {
+        int dash = eventId.indexOf('-');
+        if (dash < 0 || !epoch.equals(eventId.substring(0, dash))) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(eventId.substring(dash + 1));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private void heartbeat() {
+        forEachSubscriber(subscriber -> deliver(subscriber, SseFrame.HEARTBEAT));
+    }
+
+    private void forEachSubscriber(Consumer<FeedSubscriber> action) {
+        List<FeedSubscriber> all = new ArrayList<>(board);
+        byArticle.values().forEach(all::addAll);
+        all.forEach(action);
+    }
+
+    /* 버퍼에 넣기만 한다. 가득 찼으면 기다리지 않고 그 구독자를 끊는다. */
+    private void deliver(FeedSubscriber subscriber, SseFrame frame) {
+        if (!subscriber.offer(frame)) {
+            if (!subscriber.isClosed()) {
+                evicted.incrementAndGet();
+                log.debug("comment feed: closing slow subscriber (article {})", subscriber.articleId());
+                close(subscriber);
+            }
+            return;
+        }
+        schedule(subscriber);
+    }
+
+    private void schedule(FeedSubscriber subscriber) {
+        if (subscriber.schedule()) {
+            try {
+                senders.execute(() -> drain(subscriber));
+            } catch (RejectedExecutionException e) { // 종료 중
+                subscriber.unschedule();
+            }
+        }
+    }
+
+    /* sender 스레드. 한 번에 DRAIN_BATCH 개까지만 보내고 남았으면 뒤에 다시 줄 선다. (한 구독자가 sender 를 오래 못 잡게) */
+    private void drain(FeedSubscriber subscriber) {
+        try {
+            SseFrame frame;
+            for (int i = 0; i < DRAIN_BATCH && (frame = subscriber.poll()) != null; i++) {
+                frame.sendTo(subscriber.emitter());
+            }
+        } catch (IOException | IllegalStateException e) { // 끊긴 연결, 이미 끝난 emitter (컨테이너가 onError/onCompletion 을 부른다)
+            remove(subscriber);
+        } finally {
+            subscriber.unschedule();
+        }
+        if (subscriber.hasPending()) {
+            schedule(subscriber);
+        }
+    }
+
+    /* 서버 쪽에서 끊기 (느린 구독자, 종료) */
+    private void close(FeedSubscriber subscriber) {
+        if (remove(subscriber)) {
+            try {
+                subscriber.emitter().complete();
+            } catch (RuntimeException e) {
+                log.debug("comment feed: complete failed", e);
+            }
+        }
+    }
+
+    /* @return 이번에 처음 정리했으면 true */
+    private boolean remove(FeedSubscriber subscriber) {
+        if (!subscriber.markClosed()) {
+            return false;
+        }
+        subscribers.decrementAndGet();
+        if (subscriber.articleId() == null) {
+            board.remove(subscriber);
+        } else {
+            byArticle.computeIfPresent(subscriber.articleId(), (id, watchers) -> {
+                watchers.remove(subscriber);
+                return watchers.isEmpty() ? null : watchers;
+            });
+        }
+        return true;
+    }
+
+    private record Replay(long seq, Long articleId, SseFrame frame) {
+    }
+
+    public static class TooManySubscribersException extends RuntimeException {
+        public TooManySubscribersException() {
+            super("댓글 피드 구독자가 너무 많습니다");
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.bitstudy.app.feed;
+
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/* 구독자(SSE 연결) 하나
+ *  보낼 프레임은 크기가 정해진 큐에 넣어두기만 하고, 실제로 소켓에 쓰는 건 sender 스레드가 한다.
+ *  구독자 하나는 동시에 sender 하나만 잡는다. (scheduled) -> 보내는 순서가 안 섞인다.
+ *  LinkedBlockingQueue 라서 노는 연결은 버퍼 공간을 미리 안 잡는다. (연결 수만 개가 대부분 놀고 있어도 메모리가 거의 안 든다)
+ * */
+final class FeedSubscriber {
+
+    private final Long articleId; // null 이면 게시판 전체
+    private final ResponseBodyEmitter emitter;
+    private final BlockingQueue<SseFrame> queue;
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    FeedSubscriber(Long articleId, ResponseBodyEmitter emitter, int bufferSize) {
+        this.articleId = articleId;
+        this.emitter = emitter;
+        this.queue = new LinkedBlockingQueue<>(bufferSize);
+    }
+
+    Long articleId() {
+        return articleId;
+    }
+
+    ResponseBodyEmitter emitter() {
+        return emitter;
+    }
+
+    /* @return 버퍼가 가득 차서 못 넣었으면 false (안 기다린다) */
+    boolean offer(SseFrame frame) {
+        return !closed.get() && queue.offer(frame);
+    }
+
+    SseFrame poll() {
+        return queue.poll();
+    }
+
+    boolean hasPending() {
+        return !queue.isEmpty() && !closed.get();
+    }
+
+    /* @return 이번에 sender 를 잡았으면 true (이미 누가 보내는 중이면 false) */
+    boolean schedule() {
+        return scheduled.compareAndSet(false, true);
+    }
+
+    void unschedule() {
+        scheduled.set(false);
+    }
+
+    /* @return 처음 닫는 거면 true (여러 곳에서 동시에 닫아도 한 번만 정리하게) */
+    boolean markClosed() {
+        if (closed.compareAndSet(false, true)) {
+            queue.clear();
+            return true;
+        }
+        return false;
+    }
+
+    boolean isClosed() {
+        return closed.get();
+    }
+}
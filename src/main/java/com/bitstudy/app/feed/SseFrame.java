@@ -0,0 +1,41 @@
+package com.bitstudy.app.feed;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/* 이미 다 만들어진 SSE 프레임 ("id:..\nevent:..\ndata:..\n\n")
+ *  SseEmitter.event() 빌더는 send 할 때마다 새로 만들고 data 도 매번 직렬화한다.
+ *  이벤트 하나를 구독자 수만 명한테 보내야 하니까 문자열을 한 번만 만들어두고 모든 구독자가 같이 쓴다. (불변)
+ *  보낼 때는 문자열을 그대로 쓴다. (SseEmitter.send(Object) 는 다시 data: 로 감싸니까 구독자는 ResponseBodyEmitter 로 받는다)
+ * */
+final class SseFrame {
+
+    private static final MediaType TEXT_PLAIN = new MediaType(MediaType.TEXT_PLAIN, StandardCharsets.UTF_8);
+
+    /* 주석 한 줄. 클라이언트는 무시하고, 서버는 보내다가 실패하면 끊긴 연결인 걸 안다. */
+    static final SseFrame HEARTBEAT = new SseFrame(":\n\n");
+
+    private final String text;
+
+    private SseFrame(String text) {
+        this.text = text;
+    }
+
+    /* json 은 Jackson 이 만든 한 줄짜리라 줄바꿈이 없다. (있으면 data: 줄을 나눠야 함) */
+    static SseFrame of(String id, String name, String json) {
+        StringBuilder sb = new StringBuilder(json.length() + 64);
+        if (id != null) {
+            sb.append("id:").append(id).append('\n');
+        }
+        sb.append("event:").append(name).append('\n');
+        sb.append("data:").append(json).append("\n\n");
+        return new SseFrame(sb.toString());
+    }
+
+    void sendTo(ResponseBodyEmitter emitter) throws IOException {
+        emitter.send(text, TEXT_PLAIN);
+    }
+}
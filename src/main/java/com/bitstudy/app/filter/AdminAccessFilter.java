@@ -0,0 +1,67 @@
+package com.bitstudy.app.filter;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+/* 운영용 API(/admin/**) 막기 (인증 기능이 없어서 공유 비밀값으로 막는다)
+ *  board.admin.token 이 있으면 : X-Admin-Token 헤더가 같아야 한다. (어디서 부르든)
+ *  board.admin.token 이 없으면 : 같은 서버(loopback)에서 부른 것만 받는다. (로컬 개발, 서버에 들어가서 curl)
+ *  아니면 403
+ *
+ *  사용법) curl -H "X-Admin-Token: $BOARD_ADMIN_TOKEN" -X POST host:8080/admin/search/rebuild
+ * */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 2) // 동시 요청 수 제한(AdmissionFilter)이나 DB 를 건드리는 필터보다 먼저
+public class AdminAccessFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "X-Admin-Token";
+
+    private final byte[] token;
+
+    public AdminAccessFilter(@Value("${board.admin.token:}") String token) {
+        this.token = token.isBlank() ? null : token.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !RequestPaths.of(request).startsWith("/admin/"); // ;파라미터, %xx 를 푼 경로 (RequestPaths)
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (!allowed(request)) {
+            response.setStatus(HttpServletResponse.SC_FORBIDDEN);
+            return;
+        }
+        chain.doFilter(request, response);
+    }
+
+    private boolean allowed(HttpServletRequest request) {
+        if (token == null) {
+            return isLoopback(request.getRemoteAddr());
+        }
+        String given = request.getHeader(HEADER);
+        return given != null && MessageDigest.isEqual(token, given.getBytes(StandardCharsets.UTF_8)); // 시간 차로 값을 못 알아내게
+    }
+
+    private static boolean isLoopback(String address) {
+        try {
+            return address != null && InetAddress.getByName(address).isLoopbackAddress(); // 주소 문자열이라 DNS 조회 안 함
+        } catch (IOException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.bitstudy.app.filter;
+
+import com.bitstudy.app.admission.AdaptiveLimit;
+import com.bitstudy.app.admission.AdmissionControl;
+import com.bitstudy.app.admission.EndpointClass;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/* 요청 받아주기 전 동시 요청 수 제한 (AdmissionConfig 가 board.admission.enabled 일 때 등록)
+ *  과부하 때 요청이 톰캣 스레드, Hikari 커넥션 앞에서 줄 서면 모두가 다 같이 느려지고 결국 타임아웃 난다.
+ *  한도(AdmissionControl)를 넘는 요청은 DB 근처에도 안 가고 바로 503 + Retry-After 로 돌려보낸다.
+ *  (에러 페이지로 forward 하는 sendError 대신 상태 코드만 써서 거절하는 비용도 거의 없음)
+ *
+ *  받아준 요청은 끝날 때까지 걸린 시간(커넥션 기다린 시간 포함)을 한도에 알려준다. 5xx 나 예외면 실패로 알린다.
+ * */
+public class AdmissionFilter extends OncePerRequestFilter {
+
+    private final AdmissionControl admissionControl;
+    private final String retryAfterSeconds;
+
+    public AdmissionFilter(AdmissionControl admissionControl, long retryAfterSeconds) {
+        this.admissionControl = admissionControl;
+        this.retryAfterSeconds = Long.toString(Math.max(1, retryAfterSeconds));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        EndpointClass type = EndpointClass.of(request.getMethod(), RequestPaths.of(request));
+        if (type == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+        AdaptiveLimit limit = admissionControl.admit(type);
+        if (limit == null) {
+            response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            chain.doFilter(request, response);
+            failed = response.getStatus() >= HttpServletResponse.SC_INTERNAL_SERVER_ERROR;
+        } finally {
+            if (request.isAsyncStarted()) {
+                limit.releaseWithoutSample();
+            } else {
+                limit.release(System.nanoTime() - start, failed);
+            }
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.bitstudy.app.filter;
+
+import com.bitstudy.app.web.CompactHttpMessageConverter;
+import com.bitstudy.app.web.CompactMediaTypes;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletRequestWrapper;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+
+/* compact 응답 형식 고르기 (/api 아래, Accept 로)
+ *  Accept 에서 제일 우선인 형식이 CompactMediaTypes 중 하나면
+ *   - 그 형식을 요청 속성에 적어두고 (CompactHttpMessageConverter 가 보고 씀)
+ *   - 뒤로는 Accept: application/hal+json 인 요청으로 넘긴다. (Data REST 핸들러 매핑이 HAL/JSON 만 받아서)
+ *  Accept 가 없거나 브라우저처럼 text/html 이나 아무거나(와일드카드)를 먼저 원하면 아무것도 안 한다. -> 기존 HAL 그대로
+ *
+ *  ConditionalGetFilter 보다 뒤에 돌아야 ETag 가 원래 Accept 기준으로 나뉜다. (ConditionalGetFilter 순서가 더 앞)
+ * */
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE)
+public class CompactFormatFilter extends OncePerRequestFilter {
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith(request.getContextPath() + "/api/")
+                || request.getHeader(HttpHeaders.ACCEPT) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        MediaType format = compactFormatOf(request.getHeader(HttpHeaders.ACCEPT));
+        if (format == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+        request.setAttribute(CompactHttpMessageConverter.FORMAT_ATTRIBUTE, format);
+        chain.doFilter(new HalAcceptRequest(request), response);
+    }
+
+    private static MediaType compactFormatOf(String accept) {
+        List<MediaType> accepted;
+        try {
+            accepted = MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException e) {
+            return null;
+        }
+        MediaType.sortBySpecificityAndQuality(accepted);
+        if (accepted.isEmpty()) {
+            return null;
+        }
+        for (MediaType compact : CompactMediaTypes.ALL) {
+            if (compact.equalsTypeAndSubtype(accepted.get(0))) {
+                return compact;
+            }
+        }
+        return null;
+    }
+
+    private static class HalAcceptRequest extends HttpServletRequestWrapper {
+
+        HalAcceptRequest(HttpServletRequest request) {
+            super(request);
+        }
+
+        @Override
+        public String getHeader(String name) {
+            return HttpHeaders.ACCEPT.equalsIgnoreCase(name) ? MediaTypes.HAL_JSON_VALUE : super.getHeader(name);
+        }
+
+        @Override
+        public Enumeration<String> getHeaders(String name) {
+            return HttpHeaders.ACCEPT.equalsIgnoreCase(name)
+                    ? Collections.enumeration(List.of(MediaTypes.HAL_JSON_VALUE))
+                    : super.getHeaders(name);
+        }
+    }
+}
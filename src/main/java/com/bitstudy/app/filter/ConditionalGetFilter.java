@@ -0,0 +1,198 @@
+package com.bitstudy.app.filter;
+
+import com.bitstudy.app.dto.ResourceVersion;
+import com.bitstudy.app.repository.CollectionVersions;
+import com.bitstudy.app.repository.ResourceVersionRepository;
+import com.bitstudy.app.sharding.ShardContext;
+import com.bitstudy.app.sharding.SnowflakeIds;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletRequestWrapper;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/* 조건부 GET 필터 (ETag / Last-Modified / 304)
+ *  게시판을 주기적으로 polling 하는 클라이언트가 많아서, 안 바뀐 리소스는 본문 없이 304 만 돌려준다.
+ *  Data REST 컨트롤러까지 가기 전에(= 엔티티 조회, HAL 직렬화 전에) 가벼운 버전 쿼리만으로 판단한다.
+ *
+ *  대상 (GET/HEAD)
+ *   /api/articles/{id}, /api/articles/{id}/articleComments, /api/articleComments/{id}
+ *   /api/articles, /api/articles/summary, /api/articles/cursor, /api/articleComments, /api/articleComments/cursor
+ *
+ *  - 판단은 If-None-Match(ETag) 로만 한다.
+ *    Last-Modified 는 내려주지만 댓글 삭제처럼 modifiedAt 이 안 바뀌는 변경이 있어서 If-Modified-Since 만으로는 304 를 주지 않는다.
+ *  - 전체 목록은 board.conditional-get.collections 를 켰을 때만 (CollectionVersions 는 서버 한 대 기준이라 기본은 꺼둠)
+ *    꺼져 있으면 목록 요청은 손대지 않고 그냥 넘긴다. (ETag 없음, 매번 200)
+ *  - 바뀐 경우에는 조건부 헤더를 지운 요청으로 넘겨서 Data REST 가 자기 Last-Modified 로 다시 304 판단을 하지 않게 하고,
+ *    ETag/Last-Modified 도 여기서 만든 값만 나가게 막는다.
+ * */
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 100) // CompactFormatFilter 가 Accept 를 바꾸기 전에 돈다.
+public class ConditionalGetFilter extends OncePerRequestFilter {
+
+    private static final Pattern ARTICLE = Pattern.compile("^/api/articles/(\\d+)$");
+    private static final Pattern COMMENTS_OF_ARTICLE = Pattern.compile("^/api/articles/(\\d+)/articleComments$");
+    private static final Pattern ARTICLE_COMMENT = Pattern.compile("^/api/articleComments/(\\d+)$");
+    private static final Pattern ARTICLES = Pattern.compile("^/api/articles(/summary|/cursor)?$");
+    private static final Pattern ARTICLE_COMMENTS = Pattern.compile("^/api/articleComments(/cursor)?$");
+
+    private final ResourceVersionRepository resourceVersionRepository;
+    private final CollectionVersions collectionVersions;
+    private final DataSource dataSource;
+    private final boolean collections;
+
+    public ConditionalGetFilter(ResourceVersionRepository resourceVersionRepository, CollectionVersions collectionVersions,
+                                DataSource dataSource, @Value("${board.conditional-get.collections:false}") boolean collections) {
+        this.resourceVersionRepository = resourceVersionRepository;
+        this.collectionVersions = collectionVersions;
+        this.dataSource = dataSource;
+        this.collections = collections;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String method = request.getMethod();
+        return !"GET".equals(method) && !"HEAD".equals(method);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        Optional<ResourceVersion> version = versionOf(path);
+        if (version.isEmpty()) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        String etag = version.get().etag(path + '?' + nullToEmpty(request.getQueryString())
+                + '|' + nullToEmpty(request.getHeader(HttpHeaders.ACCEPT)));
+        response.setHeader(HttpHeaders.ETAG, etag);
+        if (version.get().lastModified() != null) {
+            response.setDateHeader(HttpHeaders.LAST_MODIFIED, version.get().lastModifiedMillis());
+        }
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+
+        if (new ServletWebRequest(request, response).checkNotModified(etag)) {
+            return; // 304. 컨트롤러까지 안 간다.
+        }
+        chain.doFilter(new ValidatorStrippedRequest(request), new ValidatorGuardedResponse(response));
+    }
+
+    private Optional<ResourceVersion> versionOf(String path) {
+        Matcher m;
+        if ((m = ARTICLE.matcher(path)).matches()) {
+            Long id = Long.valueOf(m.group(1));
+            return onShardOf(id, () -> resourceVersionRepository.article(id));
+        }
+        if ((m = COMMENTS_OF_ARTICLE.matcher(path)).matches()) {
+            Long articleId = Long.valueOf(m.group(1));
+            return onShardOf(articleId, () -> resourceVersionRepository.commentsOfArticle(articleId));
+        }
+        if ((m = ARTICLE_COMMENT.matcher(path)).matches()) {
+            Long id = Long.valueOf(m.group(1));
+            return onShardOf(id, () -> resourceVersionRepository.articleComment(id));
+        }
+        if (!collections) {
+            return Optional.empty();
+        }
+        if (ARTICLES.matcher(path).matches()) {
+            return Optional.of(collectionVersions.articles()); // 쿼리 없음
+        }
+        if (ARTICLE_COMMENTS.matcher(path).matches()) {
+            return Optional.of(collectionVersions.articleComments());
+        }
+        return Optional.empty();
+    }
+
+    /* 샤딩이면 단건 버전은 id 에 들어있는 샤드에서 읽는다. (없는 샤드면 판단 안 하고 그냥 넘긴다) */
+    private Optional<ResourceVersion> onShardOf(Long id, Supplier<Optional<ResourceVersion>> query) {
+        List<Integer> shards = ShardContext.shards(dataSource);
+        if (shards.size() == 1) {
+            return query.get();
+        }
+        int shard = SnowflakeIds.shardOf(id);
+        return shards.contains(shard) ? ShardContext.callOn(shard, query) : Optional.empty();
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+
+    private static boolean isValidatorRequestHeader(String name) {
+        return HttpHeaders.IF_NONE_MATCH.equalsIgnoreCase(name) || HttpHeaders.IF_MODIFIED_SINCE.equalsIgnoreCase(name);
+    }
+
+    private static boolean isValidatorResponseHeader(String name) {
+        return HttpHeaders.ETAG.equalsIgnoreCase(name) || HttpHeaders.LAST_MODIFIED.equalsIgnoreCase(name);
+    }
+
+    /* 이미 이 필터에서 판단이 끝났으니 뒤에서는 조건부 헤더가 안 보이게 한다. */
+    private static class ValidatorStrippedRequest extends HttpServletRequestWrapper {
+
+        ValidatorStrippedRequest(HttpServletRequest request) {
+            super(request);
+        }
+
+        @Override
+        public String getHeader(String name) {
+            return isValidatorRequestHeader(name) ? null : super.getHeader(name);
+        }
+
+        @Override
+        public Enumeration<String> getHeaders(String name) {
+            return isValidatorRequestHeader(name) ? Collections.emptyEnumeration() : super.getHeaders(name);
+        }
+
+        @Override
+        public long getDateHeader(String name) {
+            return isValidatorRequestHeader(name) ? -1 : super.getDateHeader(name);
+        }
+    }
+
+    /* Data REST 가 엔티티의 @LastModifiedDate 로 Last-Modified 를 또 붙이지 않게 막는다. */
+    private static class ValidatorGuardedResponse extends HttpServletResponseWrapper {
+
+        ValidatorGuardedResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        @Override
+        public void setHeader(String name, String value) {
+            if (!isValidatorResponseHeader(name)) super.setHeader(name, value);
+        }
+
+        @Override
+        public void addHeader(String name, String value) {
+            if (!isValidatorResponseHeader(name)) super.addHeader(name, value);
+        }
+
+        @Override
+        public void setDateHeader(String name, long date) {
+            if (!isValidatorResponseHeader(name)) super.setDateHeader(name, date);
+        }
+
+        @Override
+        public void addDateHeader(String name, long date) {
+            if (!isValidatorResponseHeader(name)) super.addDateHeader(name, date);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.bitstudy.app.filter;
+
+import org.springframework.web.util.UrlPathHelper;
+
+import javax.servlet.http.HttpServletRequest;
+
+/* 필터에서 "어느 주소로 가는 요청인지" 볼 때 쓰는 경로
+ *  getRequestURI() 는 날 것 그대로라서 /admin;x=1/search/rebuild, /%61dmin/archive/run 같은 것도 그대로 온다.
+ *  스프링 MVC 는 ;파라미터를 떼고 %xx 를 풀고 // 를 합쳐서 라우팅하니까, 원래 URI 로 막으면 돌아서 들어올 수 있다.
+ *  그래서 MVC 가 보는 것과 같은 방식(UrlPathHelper)으로 푼 경로로 본다. (컨텍스트 경로는 뺀다)
+ * */
+final class RequestPaths {
+
+    private RequestPaths() {
+    }
+
+    static String of(HttpServletRequest request) {
+        return UrlPathHelper.defaultInstance.getPathWithinApplication(request);
+    }
+}
@@ -0,0 +1,47 @@
+package com.bitstudy.app.filter;
+
+import com.bitstudy.app.view.ViewCountService;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/* 게시글 조회수 세기 (GET /api/articles/{id})
+ *  Data REST 컨트롤러에는 "조회했다" 는 이벤트가 없어서 필터에서 센다.
+ *  응답이 200 이거나 304(ConditionalGetFilter, 브라우저에 있던 걸 다시 본 것) 일 때만 한 번으로 친다.
+ *  실제 저장은 ViewCountService 가 모아서 한다.
+ * */
+@Component
+public class ViewCountFilter extends OncePerRequestFilter {
+
+    private static final Pattern ARTICLE = Pattern.compile("^/api/articles/(\\d+)$");
+
+    private final ViewCountService viewCountService;
+
+    public ViewCountFilter(ViewCountService viewCountService) {
+        this.viewCountService = viewCountService;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"GET".equals(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        chain.doFilter(request, response);
+
+        Matcher matcher = ARTICLE.matcher(request.getRequestURI().substring(request.getContextPath().length()));
+        int status = response.getStatus();
+        if (matcher.matches() && (status == HttpServletResponse.SC_OK || status == HttpServletResponse.SC_NOT_MODIFIED)) {
+            viewCountService.increment(Long.valueOf(matcher.group(1)));
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package com.bitstudy.app.frontpage;
+
+import com.bitstudy.app.dto.FrontPageEntry;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/* 첫 화면용 최신 게시글 capacity 개 (작성일시 desc, id desc)
+ *  바꾸는 건 FrontPageService 가 락을 잡고 한 스레드씩만 한다. (이 클래스는 스레드 안전하지 않음)
+ *  읽기(latest)는 바뀔 때마다 새로 만들어두는 불변 리스트를 그대로 잘라서 준다. -> 락 없음, 쿼리 없음
+ *
+ *  DB 를 안 보고 이벤트만으로 고치다 보니 모르는 게 두 가지 생긴다.
+ *    - 마지막 댓글이 지워지면 그 전 댓글 시각을 모른다. -> stale 로 표시해두면 FrontPageService 가 그 글만 다시 읽는다.
+ *    - 목록에서 글이 빠지면(삭제, 보관) 그 다음 글이 뭔지 모른다. -> needsRefill 이면 통째로 다시 만든다.
+ *      (DB 에 있는 글을 전부 들고 있는 상태(complete)면 모르는 게 없으니 다시 안 만든다)
+ * */
+final class FrontPage {
+
+    static final Comparator<FrontPageEntry> LATEST_FIRST =
+            Comparator.comparing(FrontPageEntry::createdAt).thenComparing(FrontPageEntry::id).reversed();
+
+    private final int capacity;
+    private final TreeSet<FrontPageEntry> entries = new TreeSet<>(LATEST_FIRST); // 비교는 (createdAt, id) 만 본다.
+    private final Map<Long, FrontPageEntry> byId = new HashMap<>();
+    private final Set<Long> stale = new HashSet<>();
+    private final Set<Long> refreshing = new HashSet<>();
+    private boolean complete;
+    private boolean needsRefill;
+    private volatile List<FrontPageEntry> snapshot = List.of();
+
+    /* @param rows     DB 에서 읽은 최신순 목록 (capacity 개까지만 쓴다)
+     * @param complete DB 에 있는 글이 이게 전부인지 */
+    FrontPage(int capacity, List<FrontPageEntry> rows, boolean complete) {
+        this.capacity = capacity;
+        this.complete = complete;
+        for (FrontPageEntry row : rows.subList(0, Math.min(capacity, rows.size()))) {
+            entries.add(row);
+            byId.put(row.id(), row);
+        }
+        publish();
+    }
+
+    List<FrontPageEntry> latest(int limit) {
+        List<FrontPageEntry> current = snapshot;
+        return current.subList(0, Math.min(Math.max(0, limit), current.size()));
+    }
+
+    int size() {
+        return snapshot.size();
+    }
+
+    /* 새 글. 이미 있으면 (다시 만든 목록에 먼저 들어가 있던 것) 그대로 둔다. */
+    void add(FrontPageEntry entry) {
+        if (byId.containsKey(entry.id())) {
+            return;
+        }
+        FrontPageEntry row = withTimes(entry);
+        boolean full = entries.size() >= capacity;
+        boolean newerThanLast = entries.isEmpty() || LATEST_FIRST.compare(row, entries.last()) < 0;
+        if (!newerThanLast && (full || !complete)) {
+            return; // 목록 밖의 글
+        }
+        entries.add(row);
+        byId.put(row.id(), row);
+        if (entries.size() > capacity) {
+            byId.remove(entries.pollLast().id());
+            complete = false;
+        }
+        publish();
+    }
+
+    void update(Long id, String title, String hashtag) {
+        FrontPageEntry old = byId.get(id);
+        if (old == null) {
+            return;
+        }
+        replace(old, new FrontPageEntry(id, title, hashtag, old.createdAt(), old.createdBy(), old.commentCount(), old.lastCommentAt()));
+    }
+
+    void remove(Long id) {
+        FrontPageEntry old = byId.remove(id);
+        if (old == null) {
+            return;
+        }
+        entries.remove(old);
+        stale.remove(id);
+        if (!complete) {
+            needsRefill = true;
+        }
+        publish();
+    }
+
+    void commentAdded(Long articleId, LocalDateTime createdAt) {
+        FrontPageEntry old = byId.get(articleId);
+        if (old == null) {
+            return;
+        }
+        LocalDateTime at = truncate(createdAt);
+        LocalDateTime last = old.lastCommentAt() == null || (at != null && at.isAfter(old.lastCommentAt())) ? at : old.lastCommentAt();
+        replace(old, new FrontPageEntry(articleId, old.title(), old.hashtag(), old.createdAt(), old.createdBy(),
+                old.commentCount() + 1, last));
+        touched(articleId);
+    }
+
+    void commentRemoved(Long articleId, LocalDateTime createdAt) {
+        FrontPageEntry old = byId.get(articleId);
+        if (old == null) {
+            return;
+        }
+        LocalDateTime at = truncate(createdAt);
+        long count = Math.max(0, old.commentCount() - 1);
+        LocalDateTime last = count == 0 ? null : old.lastCommentAt();
+        replace(old, new FrontPageEntry(articleId, old.title(), old.hashtag(), old.createdAt(), old.createdBy(), count, last));
+        if (count > 0 && (at == null || last == null || !at.isBefore(last))) {
+            stale.add(articleId); // 마지막 댓글이 지워졌다. 그 전 댓글 시각은 DB 에서 다시 읽는다.
+        }
+        touched(articleId);
+    }
+
+    void markStale(Long articleId) {
+        if (byId.containsKey(articleId)) {
+            stale.add(articleId);
+        }
+    }
+
+    /* 다시 읽을 글 id 들을 가져간다. 읽는 동안 또 바뀐 글은 다음 번에 한번 더 읽게 stale 로 남긴다. */
+    Set<Long> takeStale() {
+        Set<Long> taken = new HashSet<>(stale);
+        stale.clear();
+        refreshing.clear();
+        refreshing.addAll(taken);
+        return taken;
+    }
+
+    /* DB 에서 다시 읽은 댓글 수/마지막 댓글 시각 */
+    void applyStats(Long articleId, long commentCount, LocalDateTime lastCommentAt) {
+        refreshing.remove(articleId);
+        FrontPageEntry old = byId.get(articleId);
+        if (old == null) {
+            return;
+        }
+        replace(old, new FrontPageEntry(articleId, old.title(), old.hashtag(), old.createdAt(), old.createdBy(),
+                commentCount, truncate(lastCommentAt)));
+    }
+
+    boolean needsRefill() {
+        return needsRefill;
+    }
+
+    private void touched(Long articleId) {
+        if (refreshing.contains(articleId)) {
+            stale.add(articleId);
+        }
+    }
+
+    private void replace(FrontPageEntry old, FrontPageEntry row) {
+        entries.remove(old);
+        entries.add(row);
+        byId.put(row.id(), row);
+        publish();
+    }
+
+    private void publish() {
+        snapshot = List.copyOf(entries);
+    }
+
+    /* DB 컬럼(timestamp(6))이랑 같은 정밀도로 맞춰둔다. (정합성 검사에서 나노초 차이로 어긋나지 않게) */
+    private static FrontPageEntry withTimes(FrontPageEntry entry) {
+        return new FrontPageEntry(entry.id(), entry.title(), entry.hashtag(), truncate(entry.createdAt()), entry.createdBy(),
+                entry.commentCount(), truncate(entry.lastCommentAt()));
+    }
+
+    static LocalDateTime truncate(LocalDateTime time) {
+        return time == null ? null : time.truncatedTo(ChronoUnit.MICROS);
+    }
+}
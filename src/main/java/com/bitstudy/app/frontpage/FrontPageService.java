@@ -0,0 +1,284 @@
+package com.bitstudy.app.frontpage;
+
+import com.bitstudy.app.domain.Article;
+import com.bitstudy.app.domain.ArticleComment;
+import com.bitstudy.app.dto.FrontPageCheck;
+import com.bitstudy.app.dto.FrontPageEntry;
+import com.bitstudy.app.event.ArticlesArchivedEvent;
+import com.bitstudy.app.event.BulkImportedEvent;
+import com.bitstudy.app.event.EntityCommittedEvent;
+import com.bitstudy.app.sharding.ShardContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/* 첫 화면(최신 게시글 + 댓글 수 + 마지막 댓글 시각)을 메모리에 미리 만들어두고 고쳐가며 쓴다.
+ *  예전에는 요청마다 article 정렬 페이지 쿼리 + 글마다 articleComments 를 읽었다.
+ *  여기서는 GET /api/articles/front-page 가 FrontPage 의 불변 리스트를 잘라서 바로 준다. (쿼리 0번)
+ *
+ *  - 시작할 때, 대량 적재 후에, POST /admin/front-page/rebuild 때 DB 에서 최신 size 개를 읽어서 새로 만든다.
+ *  - 그 사이에는 게시글/댓글 커밋 이벤트(EntityCommittedEvent)로 한 줄씩 고친다.
+ *  - 이벤트만으로 모르는 것(지워진 마지막 댓글의 이전 시각, 빠진 글 다음 글)은 refresh 가 조금 뒤에 DB 에서 채운다.
+ *  - rebuild 중에 들어온 변경은 모아뒀다가 새 목록에도 적용한다. (SearchService 랑 같은 방식)
+ *    댓글 수는 두 번 더하면 틀어지니까, rebuild 중에 들어온 댓글 변경은 새 목록에서는 "다시 읽기"로만 남긴다.
+ *  - GET /admin/front-page/check 는 원본 테이블에서 다시 센 값이랑 한 줄씩 비교한다.
+ *    board.front-page.check-cron 을 주면 주기적으로 검사하고, 어긋나 있으면 다시 만든다.
+ * */
+@Slf4j
+@Service
+public class FrontPageService {
+
+    public static final int MAX_LIMIT = 100;
+    private static final int MAX_REPORTED_MISMATCHES = 50;
+    private static final Consumer<FrontPage> NOTHING = target -> {
+    }; // refresh 는 rebuild 랑 같이 안 돈다. (둘 다 synchronized)
+    private static final String LATEST_SQL =
+            "select a.id, a.title, a.hashtag, a.created_at, a.created_by, " +
+            "(select count(*) from article_comment c where c.article_id = a.id) as comment_count, " +
+            "(select max(c.created_at) from article_comment c where c.article_id = a.id) as last_comment_at " +
+            "from article a order by a.created_at desc, a.id desc limit ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int capacity;
+    private final Object swapLock = new Object();
+    private volatile FrontPage page;
+    private List<Consumer<FrontPage>> pending; // rebuild 중일 때만 null 이 아님 (swapLock 으로 보호)
+
+    public FrontPageService(DataSource dataSource, @Value("${board.front-page.size:200}") int capacity) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.capacity = Math.max(capacity, MAX_LIMIT);
+        this.page = new FrontPage(this.capacity, List.of(), false);
+    }
+
+    /* 최신 글 limit 개 (최대 MAX_LIMIT) */
+    public List<FrontPageEntry> latest(int limit) {
+        return page.latest(Math.min(limit, MAX_LIMIT));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    @EventListener
+    public void onBulkImported(BulkImportedEvent event) {
+        rebuild();
+    }
+
+    @EventListener
+    public void onEntityCommitted(EntityCommittedEvent event) {
+        if (event.entity() instanceof Article article) {
+            Long id = article.getId();
+            Consumer<FrontPage> change;
+            if (event.type() == EntityCommittedEvent.Type.DELETE) {
+                change = target -> target.remove(id);
+            } else if (event.type() == EntityCommittedEvent.Type.INSERT) {
+                FrontPageEntry entry = new FrontPageEntry(id, article.getTitle(), article.getHashtag(),
+                        article.getCreatedAt(), article.getCreatedBy(), 0, null);
+                change = target -> target.add(entry);
+            } else {
+                String title = article.getTitle();
+                String hashtag = article.getHashtag();
+                change = target -> target.update(id, title, hashtag);
+            }
+            apply(change, change);
+        } else if (event.entity() instanceof ArticleComment comment && event.type() == EntityCommittedEvent.Type.UPDATE) {
+            /* 댓글이 다른 글로 옮겨졌을 수 있다. 옮긴 건지 이벤트만으로는 확실히 모르니까 원래 글, 지금 글 둘 다 다시 읽는다. */
+            Long articleId = comment.getArticle().getId();
+            Long previousArticleId = event.previous().get("article") instanceof Article previous ? previous.getId() : null;
+            Consumer<FrontPage> change = target -> {
+                target.markStale(articleId);
+                if (previousArticleId != null) {
+                    target.markStale(previousArticleId);
+                }
+            };
+            apply(change, change);
+        } else if (event.entity() instanceof ArticleComment comment) {
+            Long articleId = comment.getArticle().getId();
+            LocalDateTime createdAt = comment.getCreatedAt();
+            Consumer<FrontPage> change = event.type() == EntityCommittedEvent.Type.INSERT
+                    ? target -> target.commentAdded(articleId, createdAt)
+                    : target -> target.commentRemoved(articleId, createdAt);
+            apply(change, target -> target.markStale(articleId));
+        }
+    }
+
+    /* 보관 테이블로 옮겨진 글은 첫 화면에서 뺀다. */
+    @EventListener
+    public void onArticlesArchived(ArticlesArchivedEvent event) {
+        Consumer<FrontPage> change = target -> event.articleIds().forEach(target::remove);
+        apply(change, change);
+    }
+
+    /* @param whileRebuilding rebuild 중이면 새 목록에 대신 적용할 것 */
+    private void apply(Consumer<FrontPage> change, Consumer<FrontPage> whileRebuilding) {
+        synchronized (swapLock) {
+            if (pending != null) {
+                pending.add(whileRebuilding);
+            }
+            change.accept(page);
+        }
+    }
+
+    /* 이벤트만으로 못 채운 것들 채우기
+     *  - 목록에서 글이 빠져서 다음 글을 모르면 통째로 다시 만든다.
+     *  - 마지막 댓글이 지워진 글은 그 글만 댓글 수/마지막 댓글 시각을 다시 읽는다.
+     * */
+    @Scheduled(fixedDelayString = "${board.front-page.refresh-interval-millis:1000}")
+    public synchronized void refresh() {
+        Set<Long> stale;
+        synchronized (swapLock) {
+            if (page.needsRefill()) {
+                stale = null;
+            } else {
+                stale = page.takeStale();
+            }
+        }
+        if (stale == null) {
+            rebuild();
+            return;
+        }
+        if (stale.isEmpty()) {
+            return;
+        }
+        try {
+            Map<Long, Object[]> stats = loadStats(stale);
+            apply(target -> stale.forEach(id -> {
+                Object[] row = stats.get(id);
+                target.applyStats(id, row == null ? 0 : (Long) row[0], row == null ? null : (LocalDateTime) row[1]);
+            }), NOTHING);
+        } catch (RuntimeException e) {
+            apply(target -> stale.forEach(target::markStale), NOTHING);
+            log.warn("front page refresh failed, {} articles kept for the next refresh", stale.size(), e);
+        }
+    }
+
+    /* @return 목록에 들어간 글 수 */
+    public synchronized int rebuild() {
+        long start = System.currentTimeMillis();
+        synchronized (swapLock) {
+            pending = new ArrayList<>();
+        }
+        FrontPage fresh = null;
+        try {
+            Latest latest = loadLatest();
+            fresh = new FrontPage(capacity, latest.rows(), latest.complete());
+        } finally {
+            synchronized (swapLock) {
+                if (fresh != null) { // 읽다가 실패하면 기존 목록을 그대로 쓴다.
+                    for (Consumer<FrontPage> change : pending) {
+                        change.accept(fresh);
+                    }
+                    page = fresh;
+                }
+                pending = null;
+            }
+        }
+        log.info("front page rebuilt: {} articles in {} ms", fresh.size(), System.currentTimeMillis() - start);
+        return fresh.size();
+    }
+
+    /* 원본 테이블이랑 비교
+     *  DB 를 읽기 전/후에 본 목록이 둘 다 DB 랑 다를 때만 어긋났다고 본다. (검사 도중에 커밋된 변경 때문에 잠깐 다른 건 뺀다)
+     * */
+    public FrontPageCheck check() {
+        long start = System.currentTimeMillis();
+        List<FrontPageEntry> before = page.latest(capacity);
+        List<FrontPageEntry> expected = loadLatest().rows();
+        List<FrontPageEntry> after = page.latest(capacity);
+
+        Set<String> mismatches = diff(expected, before);
+        mismatches.retainAll(diff(expected, after));
+        List<String> reported = new ArrayList<>(mismatches).subList(0, Math.min(mismatches.size(), MAX_REPORTED_MISMATCHES));
+        return new FrontPageCheck(mismatches.isEmpty(), Math.min(expected.size(), after.size()), List.copyOf(reported),
+                System.currentTimeMillis() - start);
+    }
+
+    @Scheduled(cron = "${board.front-page.check-cron:-}")
+    public void scheduledCheck() {
+        FrontPageCheck result = check();
+        if (!result.consistent()) {
+            log.warn("front page differs from the base tables, rebuilding: {}", result.mismatches());
+            rebuild();
+        }
+    }
+
+    private static Set<String> diff(List<FrontPageEntry> expected, List<FrontPageEntry> actual) {
+        Set<String> mismatches = new LinkedHashSet<>();
+        if (actual.size() < expected.size()) {
+            mismatches.add("size: expected " + expected.size() + ", got " + actual.size());
+        }
+        for (int i = 0; i < Math.min(expected.size(), actual.size()); i++) {
+            FrontPageEntry want = expected.get(i);
+            FrontPageEntry got = actual.get(i);
+            if (!want.id().equals(got.id())) {
+                mismatches.add("#" + i + ": expected article " + want.id() + ", got " + got.id());
+                continue;
+            }
+            if (want.commentCount() != got.commentCount()) {
+                mismatches.add("article " + want.id() + " commentCount: expected " + want.commentCount() + ", got " + got.commentCount());
+            }
+            if (!Objects.equals(want.lastCommentAt(), got.lastCommentAt())) {
+                mismatches.add("article " + want.id() + " lastCommentAt: expected " + want.lastCommentAt() + ", got " + got.lastCommentAt());
+            }
+            if (!Objects.equals(want.title(), got.title()) || !Objects.equals(want.hashtag(), got.hashtag())) {
+                mismatches.add("article " + want.id() + " title/hashtag differ");
+            }
+        }
+        return mismatches;
+    }
+
+    /* 샤딩이면 샤드마다 최신 capacity 개씩 읽어서 합친다. */
+    private Latest loadLatest() {
+        List<FrontPageEntry> rows = new ArrayList<>();
+        ShardContext.forEachShard(jdbcTemplate.getDataSource(), () ->
+                rows.addAll(jdbcTemplate.query(LATEST_SQL, (rs, rowNum) -> entryOf(rs), capacity)));
+        rows.sort(FrontPage.LATEST_FIRST);
+        boolean complete = rows.size() < capacity;
+        return new Latest(rows.subList(0, Math.min(capacity, rows.size())), complete);
+    }
+
+    /* @return 글 id -> {댓글 수, 마지막 댓글 시각} (댓글이 없는 글은 안 들어있다) */
+    private Map<Long, Object[]> loadStats(Set<Long> articleIds) {
+        List<Long> ids = new ArrayList<>(articleIds);
+        String sql = "select article_id, count(*), max(created_at) from article_comment where article_id in ("
+                + String.join(",", Collections.nCopies(ids.size(), "?")) + ") group by article_id";
+        Map<Long, Object[]> stats = new HashMap<>();
+        ShardContext.forEachShard(jdbcTemplate.getDataSource(), () -> jdbcTemplate.query(sql, rs -> {
+            stats.put(rs.getLong(1), new Object[]{rs.getLong(2), toLocalDateTime(rs.getTimestamp(3))});
+        }, ids.toArray()));
+        return stats;
+    }
+
+    private static FrontPageEntry entryOf(ResultSet rs) throws SQLException {
+        return new FrontPageEntry(rs.getLong("id"), rs.getString("title"), rs.getString("hashtag"),
+                FrontPage.truncate(toLocalDateTime(rs.getTimestamp("created_at"))), rs.getString("created_by"),
+                rs.getLong("comment_count"), FrontPage.truncate(toLocalDateTime(rs.getTimestamp("last_comment_at"))));
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp == null ? null : timestamp.toLocalDateTime();
+    }
+
+    private record Latest(List<FrontPageEntry> rows, boolean complete) {
+    }
+}
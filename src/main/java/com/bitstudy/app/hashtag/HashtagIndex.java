@@ -0,0 +1,170 @@
+package com.bitstudy.app.hashtag;
+
+import com.bitstudy.app.dto.TagCount;
+import org.roaringbitmap.longlong.LongIterator;
+import org.roaringbitmap.longlong.Roaring64NavigableMap;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/* 해시태그 메모리 색인
+ *  - 태그마다 게시글 id 비트맵(Roaring) : "이 태그가 달린 글" 을 최신 id 부터 바로 꺼낸다. 태그별 글 수는 비트맵 크기.
+ *  - 시간 버킷 : 게시글 작성 시각(시 단위)마다 태그별 글 수. 최근 N 시간 인기 태그는 버킷 N 개만 더하면 된다.
+ *                버킷은 MAX_WINDOW_HOURS 만큼만 들고 있는다. (prune)
+ *  - 게시글 id -> (태그들, 버킷) 역방향 기록 : 수정/삭제할 때 어디서 빼야 하는지 알려고.
+ *
+ *  Roaring 비트맵은 id 가 몰려있으면 아주 작게 압축되고, long id 도 그대로 넣을 수 있다.
+ * */
+public class HashtagIndex {
+
+    public static final int MAX_WINDOW_HOURS = 24 * 7;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Roaring64NavigableMap> articlesByTag = new HashMap<>();
+    private final Map<Long, Tagged> byArticle = new HashMap<>();
+    private final TreeMap<Long, Map<String, Integer>> hourly = new TreeMap<>();
+
+    private record Tagged(Set<String> tags, long hour) {}
+
+    /* 게시글의 태그를 (다시) 기록한다. hour = 작성 시각(epoch 기준 몇 번째 시간인지) */
+    public void put(long articleId, long hour, Set<String> tags, long currentHour) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(articleId);
+            if (tags.isEmpty()) {
+                return;
+            }
+            byArticle.put(articleId, new Tagged(Set.copyOf(tags), hour));
+            boolean recent = hour > currentHour - MAX_WINDOW_HOURS;
+            for (String tag : tags) {
+                articlesByTag.computeIfAbsent(tag, t -> new Roaring64NavigableMap()).addLong(articleId);
+                if (recent) {
+                    hourly.computeIfAbsent(hour, h -> new HashMap<>()).merge(tag, 1, Integer::sum);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long articleId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(articleId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void removeLocked(long articleId) {
+        Tagged previous = byArticle.remove(articleId);
+        if (previous == null) {
+            return;
+        }
+        Map<String, Integer> bucket = hourly.get(previous.hour());
+        for (String tag : previous.tags()) {
+            Roaring64NavigableMap articles = articlesByTag.get(tag);
+            articles.removeLong(articleId);
+            if (articles.isEmpty()) {
+                articlesByTag.remove(tag);
+            }
+            if (bucket != null) {
+                bucket.computeIfPresent(tag, (t, count) -> count == 1 ? null : count - 1);
+            }
+        }
+        if (bucket != null && bucket.isEmpty()) {
+            hourly.remove(previous.hour());
+        }
+    }
+
+    /* currentHour 기준으로 MAX_WINDOW_HOURS 보다 오래된 버킷을 버린다. */
+    public void prune(long currentHour) {
+        lock.writeLock().lock();
+        try {
+            hourly.headMap(currentHour - MAX_WINDOW_HOURS, true).clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public long count(String tag) {
+        lock.readLock().lock();
+        try {
+            Roaring64NavigableMap articles = articlesByTag.get(tag);
+            return articles == null ? 0 : articles.getLongCardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /* 전체 기간 태그별 글 수 (많은 순) */
+    public List<TagCount> top(int limit) {
+        lock.readLock().lock();
+        try {
+            Map<String, Long> counts = new HashMap<>();
+            articlesByTag.forEach((tag, articles) -> counts.put(tag, articles.getLongCardinality()));
+            return top(counts, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /* 최근 hours 시간 동안 작성된 글 기준 인기 태그 (게시글 테이블은 안 읽는다) */
+    public List<TagCount> trending(int hours, long currentHour, int limit) {
+        lock.readLock().lock();
+        try {
+            Map<String, Long> counts = new HashMap<>();
+            for (Map<String, Integer> bucket : hourly.tailMap(currentHour - hours, false).values()) {
+                bucket.forEach((tag, count) -> counts.merge(tag, (long) count, Long::sum));
+            }
+            return top(counts, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /* 태그가 달린 게시글 id (id 큰 = 최신 순), offset 부터 limit 개 */
+    public List<Long> articleIds(String tag, long offset, int limit) {
+        lock.readLock().lock();
+        try {
+            Roaring64NavigableMap articles = articlesByTag.get(tag);
+            if (articles == null) {
+                return Collections.emptyList();
+            }
+            List<Long> ids = new ArrayList<>(limit);
+            LongIterator it = articles.getReverseLongIterator();
+            for (long skipped = 0; skipped < offset && it.hasNext(); skipped++) {
+                it.next();
+            }
+            while (ids.size() < limit && it.hasNext()) {
+                ids.add(it.next());
+            }
+            return ids;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static List<TagCount> top(Map<String, Long> counts, int limit) {
+        Comparator<TagCount> order = Comparator.comparingLong(TagCount::count)
+                .thenComparing(TagCount::name, Comparator.reverseOrder());
+        PriorityQueue<TagCount> heap = new PriorityQueue<>(limit + 1, order);
+        counts.forEach((tag, count) -> {
+            heap.offer(new TagCount(tag, count));
+            if (heap.size() > limit) {
+                heap.poll();
+            }
+        });
+        List<TagCount> result = new ArrayList<>(heap);
+        result.sort(order.reversed());
+        return result;
+    }
+}
@@ -0,0 +1,42 @@
+package com.bitstudy.app.hashtag;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/* Article.hashtag 문자열 -> 태그 이름들
+ *  "#Java #spring, jpa" -> [java, spring, jpa]
+ *  공백, 쉼표, # 으로 자르고 소문자로 맞춘다. 너무 긴 태그는 버리고, 글 하나에 MAX_TAGS 개까지만 쓴다.
+ *  저장할 때(ArticleRepositoryCustomImpl, BulkImportService)랑 색인할 때(HashtagService) 같은 규칙을 써야 한다.
+ * */
+public final class HashtagParser {
+
+    public static final int MAX_LENGTH = 50;
+    public static final int MAX_TAGS = 20;
+    private static final Pattern SEPARATOR = Pattern.compile("[\\s,#]+");
+
+    private HashtagParser() {}
+
+    public static Set<String> parse(String hashtag) {
+        if (hashtag == null || hashtag.isBlank()) {
+            return Collections.emptySet();
+        }
+        Set<String> names = new LinkedHashSet<>();
+        for (String token : SEPARATOR.split(hashtag)) {
+            String name = token.trim().toLowerCase(Locale.ROOT);
+            if (!name.isEmpty() && name.length() <= MAX_LENGTH) {
+                names.add(name);
+                if (names.size() == MAX_TAGS) {
+                    break;
+                }
+            }
+        }
+        return names;
+    }
+
+    public static String normalize(String name) {
+        return name.trim().toLowerCase(Locale.ROOT).replace("#", "");
+    }
+}
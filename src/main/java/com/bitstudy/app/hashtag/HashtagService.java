@@ -0,0 +1,170 @@
+package com.bitstudy.app.hashtag;
+
+import com.bitstudy.app.domain.Article;
+import com.bitstudy.app.dto.TagCount;
+import com.bitstudy.app.event.ArticlesArchivedEvent;
+import com.bitstudy.app.event.BulkImportedEvent;
+import com.bitstudy.app.event.EntityCommittedEvent;
+import com.bitstudy.app.sharding.ShardContext;
+import com.bitstudy.app.startup.StartupWarmUp;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/* 해시태그 색인(HashtagIndex) 관리
+ *  - 시작할 때, 대량 적재 후에 article_hashtag 를 한번 쭉 읽어서 새로 만든다.
+ *  - 그 다음부터는 게시글 저장/수정/삭제 커밋 이벤트(EntityCommittedEvent)로 바로 고친다.
+ *    (태그는 Article.hashtag 문자열을 HashtagParser 로 잘라서 본다. 저장할 때랑 같은 규칙이라 DB 의 article_hashtag 랑 같다)
+ *  - rebuild 중에 들어온 변경은 모아뒀다가 새 색인에도 적용한다. (SearchService 랑 같은 방식)
+ * */
+@Slf4j
+@Service
+public class HashtagService {
+
+    private static final int FETCH_SIZE = 1_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final StartupWarmUp startupWarmUp;
+    private final Object swapLock = new Object();
+    private volatile HashtagIndex index = new HashtagIndex();
+    private List<Consumer<HashtagIndex>> pending; // rebuild 중일 때만 null 이 아님 (swapLock 으로 보호)
+
+    public HashtagService(DataSource dataSource, StartupWarmUp startupWarmUp) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.startupWarmUp = startupWarmUp;
+        this.jdbcTemplate.setFetchSize(FETCH_SIZE);
+    }
+
+    public List<TagCount> top(int limit) {
+        return index.top(limit);
+    }
+
+    public List<TagCount> trending(int hours, int limit) {
+        return index.trending(hours, currentHour(), limit);
+    }
+
+    public long count(String tag) {
+        return index.count(tag);
+    }
+
+    public List<Long> articleIds(String tag, long offset, int limit) {
+        return index.articleIds(tag, offset, limit);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        startupWarmUp.run("hashtag index", this::rebuild); // prod 프로필이면 뒤에서 돈다. (StartupWarmUp)
+    }
+
+    @EventListener
+    public void onBulkImported(BulkImportedEvent event) {
+        rebuild();
+    }
+
+    @EventListener
+    public void onEntityCommitted(EntityCommittedEvent event) {
+        if (!(event.entity() instanceof Article article)) {
+            return;
+        }
+        long articleId = article.getId();
+        Consumer<HashtagIndex> change;
+        if (event.type() == EntityCommittedEvent.Type.DELETE) {
+            change = target -> target.remove(articleId);
+        } else {
+            long hour = hourOf(article.getCreatedAt());
+            Set<String> tags = HashtagParser.parse(article.getHashtag());
+            change = target -> target.put(articleId, hour, tags, currentHour());
+        }
+        apply(change);
+    }
+
+    /* 보관 테이블로 옮겨진 글은 태그 목록/트렌드에서 뺀다. */
+    @EventListener
+    public void onArticlesArchived(ArticlesArchivedEvent event) {
+        apply(target -> event.articleIds().forEach(target::remove));
+    }
+
+    private void apply(Consumer<HashtagIndex> change) {
+        synchronized (swapLock) {
+            if (pending != null) {
+                pending.add(change);
+            }
+            change.accept(index);
+        }
+    }
+
+    /* 매시간 일주일 지난 시간 버킷을 버린다. */
+    @Scheduled(cron = "0 5 * * * *")
+    public void prune() {
+        index.prune(currentHour());
+    }
+
+    /* @return 태그가 하나라도 달린 게시글 수 */
+    public synchronized int rebuild() {
+        long start = System.currentTimeMillis();
+        synchronized (swapLock) {
+            pending = new ArrayList<>();
+        }
+        HashtagIndex fresh = new HashtagIndex();
+        long now = currentHour();
+        int[] articles = {0};
+        boolean loaded = false;
+        try {
+            ShardContext.forEachShard(jdbcTemplate.getDataSource(), () -> { // 샤딩이면 샤드마다 한 번씩
+                // article_id 순으로 읽으면서 같은 게시글의 태그를 모았다가 한번에 넣는다.
+                Set<String> tags = new LinkedHashSet<>();
+                long[] current = {-1, 0}; // {articleId, hour}
+                jdbcTemplate.query("select ah.article_id, a.created_at, h.name from article_hashtag ah " +
+                        "join article a on a.id = ah.article_id join hashtag h on h.id = ah.hashtag_id " +
+                        "order by ah.article_id", rs -> {
+                    long articleId = rs.getLong(1);
+                    if (articleId != current[0]) {
+                        if (current[0] != -1) {
+                            fresh.put(current[0], current[1], tags, now);
+                            articles[0]++;
+                        }
+                        tags.clear();
+                        current[0] = articleId;
+                        current[1] = hourOf(rs.getTimestamp(2).toLocalDateTime());
+                    }
+                    tags.add(rs.getString(3));
+                });
+                if (current[0] != -1) {
+                    fresh.put(current[0], current[1], tags, now);
+                    articles[0]++;
+                }
+            });
+            loaded = true;
+        } finally {
+            synchronized (swapLock) {
+                if (loaded) { // 읽다가 실패하면 기존 색인을 그대로 쓴다.
+                    pending.forEach(change -> change.accept(fresh));
+                    index = fresh;
+                }
+                pending = null;
+            }
+        }
+        log.info("hashtag index rebuilt: {} tagged articles in {} ms", articles[0], System.currentTimeMillis() - start);
+        return articles[0];
+    }
+
+    static long hourOf(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toEpochSecond() / 3600;
+    }
+
+    private static long currentHour() {
+        return hourOf(LocalDateTime.now());
+    }
+}
@@ -0,0 +1,361 @@
+package com.bitstudy.app.ingest;
+
+import com.bitstudy.app.config.CommentIngestProperties;
+import com.bitstudy.app.domain.Article;
+import com.bitstudy.app.domain.ArticleComment;
+import com.bitstudy.app.repository.ArticleCommentRepository;
+import com.bitstudy.app.repository.ArticleRepository;
+import com.bitstudy.app.sharding.ShardContext;
+import com.bitstudy.app.sharding.SnowflakeIds;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/* 댓글 write-behind (board.comment-ingest.enabled=true 일 때만)
+ *  인기 게시글에 댓글이 몰리면 요청마다 트랜잭션 + insert + 댓글 수 update 가 따로 나간다.
+ *  여기서는 댓글을 큐에 받아두고, flusher 스레드 하나가 모아서 한 트랜잭션에 넣는다.
+ *    - batchSize 개가 모이거나, 첫 댓글이 들어온 뒤 maxLatency 가 지나면 flush
+ *    - insert 는 JDBC batch, 댓글 수는 게시글마다 update 한 번 (ArticleCommentRepositoryCustom#insertAll)
+ *    - JPA 로 저장하니까 auditing, 2차 캐시 무효화, 커밋 이벤트(검색 색인)는 그대로 동작한다.
+ *
+ *  응답 시점 (durability)
+ *    - FLUSH : 커밋이 끝나면 future 가 완료된다. 컨트롤러는 그걸 기다렸다가 201.
+ *    - WAL   : WAL 파일에 fsync 하고 바로 202. 커밋되지 않은 채로 서버가 죽으면 다음 시작 때 WAL 에서 다시 넣는다.
+ *              어디까지 넣었는지는 같은 트랜잭션 안에서 id_generator 테이블의 comment_wal 행에 적는다.
+ *              (DB 커밋과 체크포인트가 같이 커밋/롤백되니까 두 번 들어가거나 빠지는 댓글이 없다)
+ *
+ *  큐가 가득 차면(capacity) 받지 않는다. -> 컨트롤러가 503 + Retry-After
+ *  한 묶음이 실패하면(삭제된 게시글 등) 하나씩 다시 넣어서 실패한 댓글만 실패시킨다.
+ *    FLUSH 모드는 그 요청이 409 를 받는다. WAL 모드는 이미 202 를 줬으니까 dead-letter 파일(deadLetterFile)에 남긴다.
+ *
+ *  샤딩이면 한 묶음을 게시글 샤드별로 나눠서 샤드마다 한 트랜잭션으로 넣는다. WAL 체크포인트도 샤드마다 따로 적는다.
+ * */
+@Slf4j
+@Service
+@ConditionalOnProperty(prefix = "board.comment-ingest", name = "enabled", havingValue = "true")
+public class CommentIngestService implements InitializingBean, DisposableBean {
+
+    private static final String CHECKPOINT = "comment_wal";
+    private static final long IDLE_POLL_MILLIS = 100;
+
+    private final CommentIngestProperties properties;
+    private final ArticleRepository articleRepository;
+    private final ArticleCommentRepository articleCommentRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    private final BlockingQueue<PendingComment> queue = new LinkedBlockingQueue<>();
+    private final Semaphore capacity;
+    private CommentWal wal;
+    private Thread flusher;
+    private volatile boolean running;
+
+    public CommentIngestService(CommentIngestProperties properties,
+                                ArticleRepository articleRepository,
+                                ArticleCommentRepository articleCommentRepository,
+                                JdbcTemplate jdbcTemplate,
+                                PlatformTransactionManager transactionManager,
+                                ObjectMapper objectMapper,
+                                ObjectProvider<MeterRegistry> meterRegistry) {
+        this.properties = properties;
+        this.articleRepository = articleRepository;
+        this.articleCommentRepository = articleCommentRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry.getIfAvailable();
+        this.capacity = new Semaphore(properties.getCapacity());
+    }
+
+    public CommentIngestProperties.Durability durability() {
+        return properties.getDurability();
+    }
+
+    /* 댓글 하나 접수
+     *  @return 커밋되면 저장된 댓글로 완료되는 future. (WAL 모드여도 flush 는 똑같이 기다릴 수 있다)
+     *  @throws QueueFullException 큐가 가득 참
+     *  @throws IllegalArgumentException 없는 게시글
+     * */
+    public Ticket submit(Long articleId, String content) {
+        if (!running) {
+            throw new QueueFullException();
+        }
+        if (articleRepository.findById(articleId).isEmpty()) { // 2차 캐시에 걸리면 쿼리 안나감
+            throw new IllegalArgumentException("없는 게시글입니다: " + articleId);
+        }
+        if (!capacity.tryAcquire()) {
+            throw new QueueFullException();
+        }
+        if (wal == null) {
+            PendingComment pending = new PendingComment(0, articleId, content, new CompletableFuture<>());
+            queue.add(pending);
+            return new Ticket(0, pending.ack());
+        }
+        /* 번호 받기와 큐에 넣기를 WAL 의 appendLock 안에서 같이 한다.
+         *  따로 하면 5번보다 6번이 먼저 큐에 들어갈 수 있고, flusher 가 6번을 넣고 체크포인트를 6으로 올리고
+         *  (큐가 비었으니) WAL 을 비운 다음에 5번이 큐에 들어온다. 그때 죽으면 202 를 받은 5번이 사라진다.
+         *  fsync 는 큐에 넣은 뒤라서 flusher 가 fsync 보다 먼저 커밋할 수도 있다. 그건 DB 에 이미 있으니까 괜찮다.
+         *  (fsync 가 실패하면 요청은 실패로 응답하지만 댓글은 들어갈 수 있다) */
+        CompletableFuture<ArticleComment> ack = new CompletableFuture<>();
+        AtomicBoolean enqueued = new AtomicBoolean();
+        try {
+            long seq = wal.append(articleId, content, entry -> {
+                queue.add(new PendingComment(entry.seq(), articleId, content, ack));
+                enqueued.set(true);
+            }).seq();
+            return new Ticket(seq, ack);
+        } catch (IOException e) {
+            if (!enqueued.get()) {
+                capacity.release(); // 큐에 들어갔으면 flush 가 돌려준다.
+            }
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public int queued() {
+        return queue.size();
+    }
+
+    @Override
+    public void afterPropertiesSet() throws IOException {
+        if (properties.getDurability() == CommentIngestProperties.Durability.WAL) {
+            wal = new CommentWal(properties.getWalFile(), objectMapper);
+            Map<Integer, Long> checkpoints = new TreeMap<>();
+            for (int shard : ShardContext.shards(jdbcTemplate.getDataSource())) {
+                checkpoints.put(shard, ShardContext.callOn(shard, this::checkpoint));
+            }
+            List<CommentWal.Entry> unflushed = wal.recover(Collections.min(checkpoints.values())).stream()
+                    .filter(entry -> entry.seq() > checkpoints.get(shardOf(entry.articleId())))
+                    .toList();
+            wal.advanceTo(Collections.max(checkpoints.values()));
+            // 지난번에 커밋 못하고 죽은 댓글들. 받기 시작하기 전에 여기서 바로 넣는다.
+            for (int from = 0; from < unflushed.size(); from += properties.getBatchSize()) {
+                List<PendingComment> batch = new ArrayList<>();
+                for (CommentWal.Entry entry : unflushed.subList(from, Math.min(unflushed.size(), from + properties.getBatchSize()))) {
+                    batch.add(new PendingComment(entry.seq(), entry.articleId(), entry.content(), new CompletableFuture<>()));
+                }
+                capacity.acquireUninterruptibly(batch.size());
+                flush(batch);
+            }
+            if (!unflushed.isEmpty()) {
+                log.info("comment ingest: replayed {} comments from {}", unflushed.size(), properties.getWalFile());
+            }
+        }
+        if (meterRegistry != null) {
+            Gauge.builder("board.comments.ingest.queued", queue, BlockingQueue::size)
+                    .description("comments waiting for the write-behind flusher")
+                    .register(meterRegistry);
+        }
+        running = true;
+        flusher = new Thread(this::run, "comment-flusher");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    /* 종료: 새로 안 받고, flusher 가 하던 flush 를 마치면 남은 걸 다 넣고 끝낸다. (flush 도중에 interrupt 하지 않는다)
+     *  flusher 가 끝나기 전에 여기서 drain 하면 두 스레드가 같은 WAL/체크포인트를 만지니까, 끝날 때까지 계속 기다린다. */
+    @Override
+    public void destroy() throws Exception {
+        running = false;
+        if (flusher != null) {
+            while (flusher.isAlive()) {
+                flusher.join(properties.getAckTimeout().toMillis());
+                if (flusher.isAlive()) {
+                    log.warn("comment ingest: still waiting for the flusher to finish ({} queued)", queue.size());
+                }
+            }
+        }
+        List<PendingComment> rest;
+        while (!(rest = drain()).isEmpty()) {
+            flush(rest);
+        }
+        if (wal != null) {
+            wal.close();
+        }
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                PendingComment first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                List<PendingComment> batch = new ArrayList<>(properties.getBatchSize());
+                batch.add(first);
+                long deadline = System.nanoTime() + properties.getMaxLatency().toNanos();
+                while (batch.size() < properties.getBatchSize()) {
+                    queue.drainTo(batch, properties.getBatchSize() - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= properties.getBatchSize() || remaining <= 0) {
+                        break;
+                    }
+                    PendingComment next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("comment ingest: flusher failed", e);
+            }
+        }
+    }
+
+    private List<PendingComment> drain() {
+        List<PendingComment> batch = new ArrayList<>();
+        queue.drainTo(batch, properties.getBatchSize());
+        return batch;
+    }
+
+    private void flush(List<PendingComment> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            Map<Integer, List<PendingComment>> byShard = new TreeMap<>();
+            for (PendingComment pending : batch) {
+                byShard.computeIfAbsent(shardOf(pending.articleId()), shard -> new ArrayList<>()).add(pending);
+            }
+            byShard.forEach((shard, group) -> ShardContext.runOn(shard, () -> flushShard(group)));
+        } finally {
+            capacity.release(batch.size());
+        }
+        truncateWal(batch.get(batch.size() - 1).seq());
+    }
+
+    /* 트랜잭션 하나는 샤드 하나에서만 돈다. (샤딩이 아니면 batch 가 그대로 온다) */
+    private void flushShard(List<PendingComment> batch) {
+        try {
+            List<ArticleComment> saved = transactionTemplate.execute(status -> insert(batch));
+            complete(batch, saved);
+        } catch (RuntimeException e) {
+            log.warn("comment ingest: batch of {} failed, retrying one by one", batch.size(), e);
+            for (PendingComment pending : batch) {
+                try {
+                    List<PendingComment> single = List.of(pending);
+                    complete(single, transactionTemplate.execute(status -> insert(single)));
+                } catch (RuntimeException single) {
+                    log.warn("comment ingest: dropped comment seq={} article={}", pending.seq(), pending.articleId(), single);
+                    deadLetter(pending, single);
+                    pending.ack().completeExceptionally(single);
+                }
+            }
+        }
+    }
+
+    /* WAL 모드에서 못 넣은 댓글 - 이미 202 로 받았다고 응답했으니까 버리지 않고 파일에 남긴다. (한 줄에 하나, NDJSON)
+     *  다음 flush 가 체크포인트를 이 번호 뒤로 옮기고 WAL 을 비우기 전에 fsync 까지 끝낸다.
+     *  FLUSH 모드는 요청한 쪽이 실패를 받으니까 안 남긴다. 쓰는 건 flusher 스레드(와 시작/종료 때) 하나뿐이다. */
+    private void deadLetter(PendingComment pending, RuntimeException cause) {
+        if (wal == null) {
+            return;
+        }
+        Path file = properties.getDeadLetterFile();
+        try {
+            DeadLetter letter = new DeadLetter(pending.seq(), pending.articleId(), pending.content(), String.valueOf(cause.getMessage()));
+            byte[] line = (objectMapper.writeValueAsString(letter) + '\n').getBytes(StandardCharsets.UTF_8);
+            if (file.toAbsolutePath().getParent() != null) {
+                Files.createDirectories(file.toAbsolutePath().getParent());
+            }
+            Files.write(file, line, StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.DSYNC);
+        } catch (IOException e) {
+            log.error("comment ingest: could not write dead letter to {}, lost comment seq={} article={} content={}",
+                    file, pending.seq(), pending.articleId(), pending.content(), e);
+        }
+    }
+
+    /* 없는 샤드를 가리키는 id 는 0번으로 보낸다. (submit 에서 없는 게시글로 걸러지니까 실제로는 안 온다) */
+    private int shardOf(long articleId) {
+        List<Integer> shards = ShardContext.shards(jdbcTemplate.getDataSource());
+        int shard = SnowflakeIds.shardOf(articleId);
+        return shards.size() > 1 && shards.contains(shard) ? shard : ShardContext.DEFAULT_SHARD;
+    }
+
+    private List<ArticleComment> insert(List<PendingComment> batch) {
+        List<ArticleComment> comments = new ArrayList<>(batch.size());
+        for (PendingComment pending : batch) {
+            Article article = articleRepository.getReferenceById(pending.articleId());
+            comments.add(ArticleComment.of(article, pending.content()));
+        }
+        articleCommentRepository.insertAll(comments);
+        if (wal != null) {
+            jdbcTemplate.update("update id_generator set next_val = greatest(next_val, ?) where sequence_name = ?",
+                    batch.get(batch.size() - 1).seq(), CHECKPOINT);
+        }
+        return comments;
+    }
+
+    private static void complete(List<PendingComment> batch, List<ArticleComment> saved) {
+        for (int i = 0; i < batch.size(); i++) {
+            batch.get(i).ack().complete(saved.get(i));
+        }
+    }
+
+    private void truncateWal(long seq) {
+        if (wal == null || !queue.isEmpty()) {
+            return;
+        }
+        try {
+            wal.truncate(seq);
+        } catch (IOException e) {
+            log.warn("comment ingest: could not truncate {}", properties.getWalFile(), e);
+        }
+    }
+
+    /* 마지막으로 DB(지금 샤드)에 들어간 WAL 번호. 처음이면 행을 만든다. */
+    private long checkpoint() {
+        List<Long> current = jdbcTemplate.queryForList(
+                "select next_val from id_generator where sequence_name = ?", Long.class, CHECKPOINT);
+        if (current.isEmpty()) {
+            jdbcTemplate.update("insert into id_generator (sequence_name, next_val) values (?, ?)", CHECKPOINT, 0L);
+            return 0;
+        }
+        return current.get(0);
+    }
+
+    /* dead-letter 파일 한 줄 */
+    public record DeadLetter(long seq, long articleId, String content, String error) {}
+
+    /* 접수 결과. seq 는 WAL 번호 (WAL 모드가 아니면 0) */
+    public record Ticket(long seq, CompletableFuture<ArticleComment> committed) {}
+
+    public static class QueueFullException extends RuntimeException {
+        public QueueFullException() {
+            super("댓글 큐가 가득 찼습니다");
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.bitstudy.app.ingest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/* 댓글 write-behind 용 WAL(write-ahead log) 파일
+ *  한 줄에 댓글 하나 (NDJSON). 번호(seq)는 1부터 계속 올라간다.
+ *
+ *  append() 는 fsync 가 끝난 뒤에 돌아온다. 대신 동시에 들어온 요청들은 fsync 한 번으로 같이 디스크에 내린다. (group commit)
+ *    - 쓰기는 appendLock 안에서 한 줄씩, fsync 는 forceLock 안에서 "지금까지 쓴 곳까지" 한 번.
+ *    - 내 줄이 이미 다른 스레드의 fsync 에 포함됐으면 그냥 돌아간다.
+ *    - 번호 받기와 큐에 넣기는 appendLock 안에서 같이 한다. (append(articleId, content, appended))
+ *
+ *  어디까지 DB 에 들어갔는지(체크포인트)는 DB 쪽에 적는다. (CommentIngestService)
+ *  체크포인트가 마지막 번호를 따라잡으면 truncate() 로 파일을 비운다.
+ * */
+public class CommentWal implements Closeable {
+
+    public record Entry(long seq, long articleId, String content) {}
+
+    private final Path path;
+    private final ObjectMapper objectMapper;
+    private final FileChannel channel;
+    private final Object appendLock = new Object();
+    private final Object forceLock = new Object();
+    private long lastSeq;                 // appendLock
+    private volatile long written;        // 파일에 써진 위치
+    private volatile long forced;         // fsync 까지 끝난 위치
+
+    public CommentWal(Path path, ObjectMapper objectMapper) throws IOException {
+        this.path = path;
+        this.objectMapper = objectMapper;
+        if (path.toAbsolutePath().getParent() != null) {
+            Files.createDirectories(path.toAbsolutePath().getParent());
+        }
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        this.written = channel.size();
+        this.forced = written;
+    }
+
+    /* 파일에 남아있는 줄 중에서 checkpoint 보다 번호가 큰 것 (= 아직 DB 에 안 들어간 것)
+     *  마지막 줄이 쓰다 만 상태(서버가 죽음)면 잘라낸다. 그 줄은 fsync 전이라 응답도 안 나갔다.
+     *  (안 잘라내면 다음 줄이 그 뒤에 붙어서 같이 깨진다) */
+    public List<Entry> recover(long checkpoint) throws IOException {
+        List<Entry> entries = new ArrayList<>();
+        long max = checkpoint;
+        byte[] bytes = Files.readAllBytes(path);
+        int valid = 0;
+        for (int start = 0, newline; start < bytes.length && (newline = indexOf(bytes, start)) >= 0; start = newline + 1) {
+            String line = new String(bytes, start, newline - start, StandardCharsets.UTF_8);
+            if (!line.isBlank()) {
+                Entry entry;
+                try {
+                    entry = objectMapper.readValue(line, Entry.class);
+                } catch (IOException e) {
+                    break;
+                }
+                max = Math.max(max, entry.seq());
+                if (entry.seq() > checkpoint) {
+                    entries.add(entry);
+                }
+            }
+            valid = newline + 1;
+        }
+        synchronized (appendLock) {
+            if (valid < bytes.length) {
+                channel.truncate(valid);
+                channel.force(true);
+                written = valid;
+                forced = valid;
+            }
+            lastSeq = Math.max(lastSeq, max);
+        }
+        return entries;
+    }
+
+    private static int indexOf(byte[] bytes, int from) {
+        for (int i = from; i < bytes.length; i++) {
+            if (bytes[i] == '\n') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /* 다음 번호가 적어도 seq 보다 크게 나가게 한다.
+     *  샤딩이면 체크포인트가 샤드마다 따로라서, recover 는 가장 작은 것으로 하고 번호는 가장 큰 것 뒤에서 잇는다. */
+    public void advanceTo(long seq) {
+        synchronized (appendLock) {
+            lastSeq = Math.max(lastSeq, seq);
+        }
+    }
+
+    public Entry append(long articleId, String content) throws IOException {
+        return append(articleId, content, entry -> {
+        });
+    }
+
+    /* @param appended 번호를 받고 파일에 쓴 직후, appendLock 을 쥔 채로 부른다. (fsync 전)
+     *                 여기서 큐에 넣으면 큐 순서가 번호 순서랑 같아진다. 번호만 받고 아직 큐에 안 들어간 줄이 없으니까
+     *                 "큐가 비었고 체크포인트가 마지막 번호 이상" 이면 정말로 다 들어간 것이다. (truncate) */
+    public Entry append(long articleId, String content, Consumer<Entry> appended) throws IOException {
+        Entry entry;
+        long end;
+        synchronized (appendLock) {
+            entry = new Entry(lastSeq + 1, articleId, content);
+            byte[] line = (objectMapper.writeValueAsString(entry) + '\n').getBytes(StandardCharsets.UTF_8);
+            ByteBuffer buffer = ByteBuffer.wrap(line);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            lastSeq = entry.seq();
+            end = written + line.length;
+            written = end;
+            appended.accept(entry);
+        }
+        if (forced < end) {
+            synchronized (forceLock) {
+                if (forced < end) {
+                    long upTo = written;
+                    channel.force(false);
+                    forced = upTo;
+                }
+            }
+        }
+        return entry;
+    }
+
+    /* checkpoint 까지 DB 에 들어갔고 그 뒤로 새로 쓴 줄이 없으면 파일을 비운다. */
+    public boolean truncate(long checkpoint) throws IOException {
+        synchronized (appendLock) {
+            if (checkpoint < lastSeq) {
+                return false;
+            }
+            synchronized (forceLock) {
+                channel.truncate(0);
+                channel.force(true);
+                written = 0;
+                forced = 0;
+            }
+            return true;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,8 @@
+package com.bitstudy.app.ingest;
+
+import com.bitstudy.app.domain.ArticleComment;
+
+import java.util.concurrent.CompletableFuture;
+
+/* 큐에서 flush 를 기다리는 댓글 (seq 는 WAL 번호, WAL 을 안 쓰면 0) */
+record PendingComment(long seq, Long articleId, String content, CompletableFuture<ArticleComment> ack) {}
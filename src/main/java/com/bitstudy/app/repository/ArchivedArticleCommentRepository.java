@@ -0,0 +1,14 @@
+package com.bitstudy.app.repository;
+
+import com.bitstudy.app.domain.ArchivedArticleComment;
+import com.bitstudy.app.sharding.ShardKey;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/* 보관 댓글 조회 - API 로 노출되지 않는다. (ArchivedArticleRepository 참고) */
+public interface ArchivedArticleCommentRepository extends JpaRepository<ArchivedArticleComment, Long> {
+
+    /* 보관된 게시글의 댓글 목록 (GET /api/articles/{id}/articleComments, ArticleCommentPageController) */
+    Page<ArchivedArticleComment> findByArticleId(@ShardKey Long articleId, Pageable pageable);
+}
@@ -0,0 +1,10 @@
+package com.bitstudy.app.repository;
+
+import com.bitstudy.app.domain.ArchivedArticle;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/* 보관 게시글 조회 (ArticleArchiveController 의 /api/articles/{id} fallback)
+ *  @RepositoryRestResource 가 없어서 API 로 노출되지 않는다. (detection-strategy: annotated)
+ * */
+public interface ArchivedArticleRepository extends JpaRepository<ArchivedArticle, Long> {
+}
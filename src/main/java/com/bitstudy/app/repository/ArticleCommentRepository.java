@@ -1,8 +1,19 @@
 package com.bitstudy.app.repository;
 
 import com.bitstudy.app.domain.ArticleComment;
+import com.bitstudy.app.sharding.ShardKey;
+import com.bitstudy.app.sharding.ShardMergeOrder;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.data.rest.core.annotation.RepositoryRestResource;
+import org.springframework.data.rest.core.annotation.RestResource;
+
+import java.time.LocalDateTime;
+import java.util.List;
 
 /** TDD를 위해서 임시로 만들어놓은 저장소 (이거로 DB에 접근할거다)
  *
@@ -12,5 +23,28 @@ import org.springframework.data.rest.core.annotation.RepositoryRestResource;
  * 테스트 만들기
  * */
 @RepositoryRestResource
-public interface ArticleCommentRepository extends JpaRepository<ArticleComment, Long> {
+public interface ArticleCommentRepository extends JpaRepository<ArticleComment, Long>, ArticleCommentRepositoryCustom {
+
+    /* 게시글 하나의 댓글을 페이지 단위로 (GET /api/articles/{id}/articleComments, ArticleCommentPageController)
+     *  article.id 는 댓글 테이블의 FK 컬럼이라 게시글 테이블은 join 안 한다. */
+    @RestResource(exported = false)
+    Page<ArticleComment> findByArticle_Id(@ShardKey Long articleId, Pageable pageable);
+
+    /* 커서(keyset) 페이징용 쿼리들 - ArticleRepository 에 있는 것과 같은 방식 */
+    @RestResource(exported = false)
+    @ShardMergeOrder({"createdAt", "id"})
+    @Query("select c from ArticleComment c order by c.createdAt desc, c.id desc")
+    List<ArticleComment> findLatest(Pageable pageable);
+
+    @RestResource(exported = false)
+    @ShardMergeOrder({"createdAt", "id"})
+    @Query("select c from ArticleComment c where c.createdAt < :createdAt or (c.createdAt = :createdAt and c.id < :id) " +
+            "order by c.createdAt desc, c.id desc")
+    List<ArticleComment> findOlderThan(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+    @RestResource(exported = false)
+    @ShardMergeOrder(value = {"createdAt", "id"}, direction = Sort.Direction.ASC)
+    @Query("select c from ArticleComment c where c.createdAt > :createdAt or (c.createdAt = :createdAt and c.id > :id) " +
+            "order by c.createdAt asc, c.id asc")
+    List<ArticleComment> findNewerThan(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
 }
@@ -0,0 +1,30 @@
+package com.bitstudy.app.repository;
+
+import com.bitstudy.app.domain.ArticleComment;
+import com.bitstudy.app.sharding.ShardKey;
+
+import java.util.List;
+
+/* ArticleCommentRepository 에서 기본 저장/삭제 메서드를 덮어쓰기 위한 커스텀 fragment
+ *  이름을 "레포지토리 인터페이스명 + Custom" 으로 만들고 구현체를 "...CustomImpl" 로 만들면
+ *  Spring Data 가 알아서 JpaRepository 기본 구현(SimpleJpaRepository) 대신 여기 구현을 부른다.
+ *  REST(POST/PUT/PATCH/DELETE /api/articleComments) 도 결국 이 메서드들을 타게 된다.
+ * */
+public interface ArticleCommentRepositoryCustom {
+
+    <S extends ArticleComment> S save(S comment);
+
+    <S extends ArticleComment> S saveAndFlush(S comment);
+
+    <S extends ArticleComment> List<S> saveAll(Iterable<S> comments);
+
+    /* 새 댓글 여러 개를 한번에 저장 (CommentIngestService 의 flush)
+     *  insert 는 JDBC batch 로 묶이고, 게시글별 댓글 수는 게시글마다 update 한 번으로 합쳐서 올린다. */
+    void insertAll(@ShardKey List<ArticleComment> comments);
+
+    void delete(ArticleComment comment);
+
+    void deleteById(Long id);
+
+    void deleteAll(Iterable<? extends ArticleComment> comments);
+}
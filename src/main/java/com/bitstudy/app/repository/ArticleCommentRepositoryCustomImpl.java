@@ -0,0 +1,194 @@
+package com.bitstudy.app.repository;
+
+import com.bitstudy.app.domain.Article;
+import com.bitstudy.app.domain.ArticleComment;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.proxy.HibernateProxy;
+import org.hibernate.query.NativeQuery;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.JdbcUpdateAffectedIncorrectNumberOfRowsException;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.persistence.EntityManager;
+import javax.persistence.FlushModeType;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/* 댓글 저장/삭제 + Article.commentCount 유지
+ *  댓글 insert/delete 와 같은 트랜잭션 안에서 update article set comment_count = comment_count + 1 을 날린다.
+ *  둘 중 하나라도 실패하면 같이 롤백되니까 개수가 어긋나지 않는다.
+ *
+ *  주의) deleteAllInBatch, deleteAllByIdInBatch 처럼 벌크로 지우는 메서드는 여기를 안 탄다.
+ *        그런 경우는 CommentCountRepairJob 으로 다시 맞춘다.
+ * */
+@Transactional
+public class ArticleCommentRepositoryCustomImpl implements ArticleCommentRepositoryCustom {
+
+    private static final String COUNTER_QUERY_SPACE = "article_comment_count";
+
+    private final EntityManager entityManager;
+
+    public ArticleCommentRepositoryCustomImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public <S extends ArticleComment> S save(S comment) {
+        if (comment.getId() == null) {
+            entityManager.persist(comment);
+            flushIfNotInserted(comment.getArticle());
+            addCommentCount(articleIdOf(comment), 1);
+            return comment;
+        }
+
+        // 수정: 댓글이 다른 게시글로 옮겨진 경우에는 양쪽 개수를 같이 고친다.
+        Long previousArticleId = currentArticleId(comment.getId());
+        S merged = entityManager.merge(comment);
+        Long articleId = articleIdOf(merged);
+        flushIfNotInserted(merged.getArticle());
+        if (previousArticleId == null) {
+            addCommentCount(articleId, 1);
+        } else if (!previousArticleId.equals(articleId)) {
+            addCommentCount(previousArticleId, -1);
+            addCommentCount(articleId, 1);
+        }
+        return merged;
+    }
+
+    @Override
+    public <S extends ArticleComment> S saveAndFlush(S comment) {
+        S saved = save(comment);
+        entityManager.flush();
+        return saved;
+    }
+
+    @Override
+    public <S extends ArticleComment> List<S> saveAll(Iterable<S> comments) {
+        List<S> saved = new ArrayList<>();
+        for (S comment : comments) {
+            saved.add(save(comment));
+        }
+        return saved;
+    }
+
+    @Override
+    public void insertAll(List<ArticleComment> comments) {
+        Map<Long, Long> deltas = new LinkedHashMap<>();
+        for (ArticleComment comment : comments) {
+            entityManager.persist(comment);
+            deltas.merge(articleIdOf(comment), 1L, Long::sum);
+        }
+        for (ArticleComment comment : comments) {
+            if (flushIfNotInserted(comment.getArticle())) {
+                break; // flush 한 번이면 나머지 게시글도 다 들어간다.
+            }
+        }
+        deltas.forEach(this::addCommentCount);
+    }
+
+    @Override
+    public void delete(ArticleComment comment) {
+        if (comment.getId() == null) {
+            return;
+        }
+        ArticleComment managed = entityManager.contains(comment)
+                ? comment
+                : entityManager.find(ArticleComment.class, comment.getId());
+        if (managed == null) {
+            return;
+        }
+        Long articleId = articleIdOf(managed);
+        entityManager.remove(managed);
+        addCommentCount(articleId, -1);
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        ArticleComment comment = entityManager.find(ArticleComment.class, id);
+        if (comment == null) {
+            throw new EmptyResultDataAccessException(
+                    String.format("No %s entity with id %s exists!", ArticleComment.class, id), 1);
+        }
+        delete(comment);
+    }
+
+    @Override
+    public void deleteAll(Iterable<? extends ArticleComment> comments) {
+        for (ArticleComment comment : comments) {
+            delete(comment);
+        }
+    }
+
+    /* DB 에 저장되어 있는 (수정 전) 게시글 id
+     *  FlushModeType.COMMIT : 이 쿼리 때문에 수정 중인 엔티티가 먼저 flush 되면 바뀐 값이 읽히니까 막아둔다. */
+    private Long currentArticleId(Long commentId) {
+        List<Long> ids = entityManager
+                .createQuery("select c.article.id from ArticleComment c where c.id = :id", Long.class)
+                .setParameter("id", commentId)
+                .setFlushMode(FlushModeType.COMMIT)
+                .getResultList();
+        return ids.isEmpty() ? null : ids.get(0);
+    }
+
+    private static Long articleIdOf(ArticleComment comment) {
+        return comment.getArticle() == null ? null : comment.getArticle().getId();
+    }
+
+    /* 같은 트랜잭션에서 persist 만 하고 아직 insert 안 된 게시글이면 flush 한다. (flush 했으면 true)
+     *  id 를 pooled 로 미리 받으니까 게시글 insert 는 flush 때까지 미뤄진다. 그 전에 아래 update 가 나가면 0줄이 바뀐다.
+     *  update 의 query space 가 article 이 아니라서 Hibernate 가 알아서 flush 해주지 않는다. (addCommentCount 참고)
+     *  프록시(getReferenceById)는 DB 에 있는 행이라서 볼 필요가 없다. */
+    private boolean flushIfNotInserted(Article article) {
+        if (article == null || article instanceof HibernateProxy) {
+            return false;
+        }
+        EntityEntry entry = entityManager.unwrap(SessionImplementor.class).getPersistenceContext().getEntry(article);
+        if (entry == null || entry.isExistsInDatabase()) {
+            return false;
+        }
+        entityManager.flush();
+        return true;
+    }
+
+    /* 댓글 수 컬럼을 DB 안에서 바로 더하고 뺀다. (읽고-고치고-쓰기 하지 않으니까 동시에 댓글이 달려도 안 틀어진다)
+     *
+     *  2차 캐시: JPQL 벌크 update 를 쓰면 Hibernate 가 Article 캐시를 통째로 비워버린다.
+     *  그래서 native 쿼리에 아무 테이블과도 안 겹치는 query space 를 줘서 자동 무효화를 끄고,
+     *  바뀐 게시글 하나만 캐시에서 지운다. (커밋 직전에 다른 요청이 옛날 값을 다시 캐시할 수 있어서 커밋 후에 한번 더)
+     *  대신 자동 flush 도 꺼지니까 새 게시글은 부르는 쪽에서 먼저 flush 한다. (flushIfNotInserted)
+     *  게시글이 없어서 한 줄도 안 바뀌면 예외 -> 댓글 insert 와 같이 롤백된다. (말없이 개수가 틀어지지 않게)
+     * */
+    private void addCommentCount(Long articleId, long delta) {
+        if (articleId == null) {
+            return;
+        }
+        String sql = "update article set comment_count = comment_count + ? where id = ?";
+        int updated = entityManager.createNativeQuery(sql)
+                .setParameter(1, delta)
+                .setParameter(2, articleId)
+                .unwrap(NativeQuery.class)
+                .addSynchronizedQuerySpace(COUNTER_QUERY_SPACE)
+                .executeUpdate();
+        if (updated != 1) {
+            throw new JdbcUpdateAffectedIncorrectNumberOfRowsException(sql, 1, updated);
+        }
+        evictArticle(articleId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictArticle(articleId);
+                }
+            });
+        }
+    }
+
+    private void evictArticle(Long articleId) {
+        entityManager.getEntityManagerFactory().getCache().evict(Article.class, articleId);
+    }
+}
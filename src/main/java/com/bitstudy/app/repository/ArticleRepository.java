@@ -1,8 +1,21 @@
 package com.bitstudy.app.repository;
 
 import com.bitstudy.app.domain.Article;
+import com.bitstudy.app.dto.ArticleSummary;
+import com.bitstudy.app.sharding.ShardMergeOrder;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.data.rest.core.annotation.RepositoryRestResource;
+import org.springframework.data.rest.core.annotation.RestResource;
+
+import java.time.LocalDateTime;
+import java.util.List;
 
 /** TDD를 위해서 임시로 만들어놓은 저장소 (이거로 DB에 접근할거다)
  *
@@ -16,5 +29,55 @@ import org.springframework.data.rest.core.annotation.RepositoryRestResource;
 * 할일 - 클래스 위에 @RepositoryRestResource 넣어서 해당 클래스를 Spring
 *  */
 @RepositoryRestResource
-public interface ArticleRepository extends JpaRepository<Article, Long> {
+public interface ArticleRepository extends JpaRepository<Article, Long>, ArticleRepositoryCustom {
+
+    /* 게시글 목록 (GET /api/articles) - Data REST 가 부르는 findAll 을 덮어써서 본문까지 join 한번으로 읽는다. (Article.withContentBody)
+     *  to-one join 이라 limit/offset 은 DB 에서 그대로 먹고, count 쿼리에는 그래프가 안 붙는다. */
+    @Override
+    @EntityGraph("Article.withContentBody")
+    Page<Article> findAll(Pageable pageable);
+
+    /* 목록용 요약 조회 - 엔티티 대신 필요한 컬럼만 골라서 ArticleSummary 로 바로 만든다.
+     *  content 컬럼이랑 articleComments 컬렉션은 아예 안 읽는다. (댓글은 개수만 센다)
+     *  정렬은 Pageable 의 sort 를 그대로 쓴다. (createdAt, title 같은 Article 필드명)
+     * */
+    @RestResource(exported = false)
+    @Query("select new com.bitstudy.app.dto.ArticleSummary(a.id, a.title, a.hashtag, a.createdAt, a.createdBy, a.commentCount) " +
+            "from Article a")
+    Page<ArticleSummary> findSummaries(Pageable pageable);
+
+    /* 댓글 수를 처음부터 다시 센다. (CommentCountRepairJob)
+     *  JPQL 벌크 update 라서 Hibernate 가 Article 2차 캐시를 통째로 비운다. (전부 바뀔 수 있으니까 그게 맞다) */
+    @RestResource(exported = false)
+    @Modifying(clearAutomatically = true)
+    @Query("update Article a set a.commentCount = (select count(c) from ArticleComment c where c.article = a)")
+    int recomputeCommentCounts();
+
+    /* 커서(keyset) 페이징용 쿼리들 - createdAt 인덱스를 타고 (createdAt, id) 기준으로 바로 찾아간다.
+     *  offset 을 안쓰기 때문에 5000 페이지든 1 페이지든 비용이 같다.
+     *  Pageable 은 limit 용도로만 쓴다. (PageRequest.of(0, size))
+     *  exported = false : /api/articles/search 로 노출 안되게 막기 (CursorPagingController 에서만 사용)
+     *  본문은 목록(findAll)이랑 같이 Article.withContentBody 그래프로 join 해서 읽는다.
+     * */
+    @RestResource(exported = false)
+    @ShardMergeOrder({"createdAt", "id"})
+    @EntityGraph("Article.withContentBody")
+    @Query("select a from Article a order by a.createdAt desc, a.id desc")
+    List<Article> findLatest(Pageable pageable);
+
+    /* 커서보다 오래된 쪽 (next) */
+    @RestResource(exported = false)
+    @ShardMergeOrder({"createdAt", "id"})
+    @EntityGraph("Article.withContentBody")
+    @Query("select a from Article a where a.createdAt < :createdAt or (a.createdAt = :createdAt and a.id < :id) " +
+            "order by a.createdAt desc, a.id desc")
+    List<Article> findOlderThan(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+    /* 커서보다 최신 쪽 (prev) - 오름차순으로 가져오니까 쓰는 쪽에서 뒤집어줘야 한다. */
+    @RestResource(exported = false)
+    @ShardMergeOrder(value = {"createdAt", "id"}, direction = Sort.Direction.ASC)
+    @EntityGraph("Article.withContentBody")
+    @Query("select a from Article a where a.createdAt > :createdAt or (a.createdAt = :createdAt and a.id > :id) " +
+            "order by a.createdAt asc, a.id asc")
+    List<Article> findNewerThan(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
 }
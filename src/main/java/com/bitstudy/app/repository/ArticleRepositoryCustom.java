@@ -0,0 +1,17 @@
+package com.bitstudy.app.repository;
+
+import com.bitstudy.app.domain.Article;
+
+import java.util.List;
+
+/* ArticleRepository 의 저장 메서드를 덮어쓰기 위한 커스텀 fragment (ArticleCommentRepositoryCustom 참고)
+ *  저장할 때 hashtag 문자열을 Hashtag 사전 + article_hashtag 연결로 같이 맞춘다.
+ * */
+public interface ArticleRepositoryCustom {
+
+    <S extends Article> S save(S article);
+
+    <S extends Article> S saveAndFlush(S article);
+
+    <S extends Article> List<S> saveAll(Iterable<S> articles);
+}
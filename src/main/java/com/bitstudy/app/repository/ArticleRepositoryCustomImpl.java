@@ -0,0 +1,102 @@
+package com.bitstudy.app.repository;
+
+import com.bitstudy.app.domain.Article;
+import com.bitstudy.app.domain.Hashtag;
+import com.bitstudy.app.hashtag.HashtagParser;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/* 게시글 저장 + 해시태그 정규화 + 본문 저장 방식
+ *  hashtag 문자열에서 태그 이름을 뽑아서 사전(Hashtag)에서 찾고, 없으면 새로 만들어서 Article.hashtags 에 연결한다.
+ *  태그가 그대로면 article_hashtag 는 건드리지 않는다.
+ *
+ *  board.article-content.compressed=true 면 본문을 압축해서 article_content 에 (ArticleContentBody),
+ *  false(기본) 면 원래처럼 article.content 에 저장한다. 이미 있는 글은 다음에 저장될 때 그 모드로 옮겨진다.
+ *
+ *  주의) 같은 새 태그를 동시에 두 요청이 만들면 한쪽은 name unique 제약조건에 걸려서 실패한다. (다시 요청하면 된다)
+ * */
+@Transactional
+public class ArticleRepositoryCustomImpl implements ArticleRepositoryCustom {
+
+    private final EntityManager entityManager;
+    private final boolean compressContent;
+
+    public ArticleRepositoryCustomImpl(EntityManager entityManager,
+                                       @Value("${board.article-content.compressed:false}") boolean compressContent) {
+        this.entityManager = entityManager;
+        this.compressContent = compressContent;
+    }
+
+    @Override
+    public <S extends Article> S save(S article) {
+        S managed;
+        if (article.getId() == null) {
+            entityManager.persist(article);
+            managed = article;
+        } else {
+            managed = entityManager.merge(article);
+        }
+
+        /* 새 ArticleContentBody 는 flush 때 cascade 로 같이 insert 된다.
+         *  커밋 후 리스너(검색 색인)가 getContent() 를 부르니까, 제목만 바뀐 경우에도 트랜잭션 안에서 본문을 미리 읽어둔다. */
+        if (compressContent) {
+            managed.getContent();
+            managed.compressContent();
+        } else {
+            managed.inlineContent();
+        }
+
+        Set<String> names = HashtagParser.parse(managed.getHashtag());
+        Set<String> current = managed.getHashtags().stream().map(Hashtag::getName).collect(Collectors.toSet());
+        if (!current.equals(names)) {
+            managed.replaceHashtags(resolve(names));
+        }
+        return managed;
+    }
+
+    @Override
+    public <S extends Article> S saveAndFlush(S article) {
+        S saved = save(article);
+        entityManager.flush();
+        return saved;
+    }
+
+    @Override
+    public <S extends Article> List<S> saveAll(Iterable<S> articles) {
+        List<S> saved = new ArrayList<>();
+        for (S article : articles) {
+            saved.add(save(article));
+        }
+        return saved;
+    }
+
+    /* 태그 이름 -> Hashtag (없는 건 새로 만든다). 순서는 names 순서 그대로. */
+    private List<Hashtag> resolve(Set<String> names) {
+        if (names.isEmpty()) {
+            return List.of();
+        }
+        Map<String, Hashtag> existing = entityManager
+                .createQuery("select h from Hashtag h where h.name in :names", Hashtag.class)
+                .setParameter("names", names)
+                .getResultList().stream()
+                .collect(Collectors.toMap(Hashtag::getName, Function.identity()));
+        List<Hashtag> hashtags = new ArrayList<>(names.size());
+        for (String name : names) {
+            Hashtag hashtag = existing.get(name);
+            if (hashtag == null) {
+                hashtag = Hashtag.of(name);
+                entityManager.persist(hashtag);
+            }
+            hashtags.add(hashtag);
+        }
+        return hashtags;
+    }
+}
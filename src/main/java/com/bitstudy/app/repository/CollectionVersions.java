@@ -0,0 +1,91 @@
+package com.bitstudy.app.repository;
+
+import com.bitstudy.app.domain.ArticleComment;
+import com.bitstudy.app.dto.ResourceVersion;
+import com.bitstudy.app.event.ArticlesArchivedEvent;
+import com.bitstudy.app.event.BulkImportedEvent;
+import com.bitstudy.app.event.EntityCommittedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/* 목록(/api/articles, /api/articleComments) 버전 번호
+ *  목록 ETag 를 요청마다 max(modifiedAt) + count(*) 로 테이블 전체(샤딩이면 샤드 전부)를 훑어서 만들면 304 를 주는 의미가 없다.
+ *  그래서 커밋 이벤트를 받을 때마다 번호를 하나씩 올려두고, ETag 는 그 번호로 만든다. (쿼리 없음)
+ *  max + count 로는 못 잡던 "지우고 예전 날짜 row 를 하나 넣기"도 번호는 올라가니까 잡힌다.
+ *
+ *  - 게시글이 바뀌면 articles 만, 댓글이 바뀌면 둘 다 (게시글 목록 JSON 에 commentCount 가 있어서)
+ *  - Hibernate 를 안 거치는 변경(대량 적재, 보관, 댓글 수 재계산)은 각자의 이벤트/afterCommit 으로 둘 다 올린다.
+ *  - epoch 는 시작할 때마다 새로 뽑는다. 재시작 전에 받아둔 ETag 가 우연히 같은 번호로 맞아떨어지지 않게
+ *
+ *  번호는 이 서버에서 커밋된 변경만 센다. 서버를 여러 대 띄우면 다른 서버의 쓰기는 안 보이니까
+ *  (검색 색인, 첫 화면 목록, 댓글 피드처럼) 서버마다 이벤트를 받는 구조가 붙기 전까지는 목록 304 를 한 대에서만 쓴다.
+ *  그래서 ConditionalGetFilter 는 board.conditional-get.collections 를 켰을 때만 이 번호를 쓴다. (기본은 꺼둠)
+ * */
+@Component
+public class CollectionVersions {
+
+    private final String epoch = UUID.randomUUID().toString();
+    private final AtomicLong articles = new AtomicLong();
+    private final AtomicLong articleComments = new AtomicLong();
+    private volatile LocalDateTime articlesModified = LocalDateTime.now();
+    private volatile LocalDateTime articleCommentsModified = articlesModified;
+
+    public ResourceVersion articles() {
+        return new ResourceVersion(articlesModified, "articles:" + epoch + ":" + articles.get() + ":" + articleComments.get());
+    }
+
+    public ResourceVersion articleComments() {
+        return new ResourceVersion(articleCommentsModified, "article-comments:" + epoch + ":" + articleComments.get());
+    }
+
+    @EventListener
+    public void onEntityCommitted(EntityCommittedEvent event) {
+        if (event.entity() instanceof ArticleComment) {
+            changed();
+        } else {
+            articleChanged(); // Article 말고도 본문(ArticleContentBody), 해시태그는 게시글 JSON 에 들어간다.
+        }
+    }
+
+    @EventListener
+    public void onBulkImported(BulkImportedEvent event) {
+        changed();
+    }
+
+    @EventListener
+    public void onArticlesArchived(ArticlesArchivedEvent event) {
+        changed();
+    }
+
+    /* JPQL 벌크 update 처럼 이벤트가 안 나오는 변경. 트랜잭션 안이면 커밋된 다음에 올린다.
+     *  (커밋 전에 올리면 그 사이 요청이 새 번호 + 옛날 데이터로 캐시돼서 계속 304 가 나간다) */
+    public void changedAfterCommit() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    changed();
+                }
+            });
+        } else {
+            changed();
+        }
+    }
+
+    private void articleChanged() {
+        articles.incrementAndGet();
+        articlesModified = LocalDateTime.now();
+    }
+
+    private void changed() {
+        articleComments.incrementAndGet();
+        articleCommentsModified = LocalDateTime.now();
+        articleChanged();
+    }
+}
@@ -0,0 +1,56 @@
+package com.bitstudy.app.repository;
+
+import com.bitstudy.app.sharding.ShardContext;
+import com.bitstudy.app.sharding.SnowflakeIds;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/* id_generator 테이블에서 id 를 한 묶음씩 직접 받아오는 클래스
+ *  JPA 를 안 거치고 JDBC 로 직접 insert 할 때(대량 적재) 쓴다.
+ *  Hibernate 의 id 생성기(ShardAwareIdGenerator = TableGenerator, pooled-lo) 랑 같은 규칙이라서 서로 번호가 안 겹친다.
+ *    - next_val 에 있는 값부터 count 개를 쓰고, next_val 은 count 만큼 올려둔다.
+ *  바깥 트랜잭션이 길어도 id_generator 락을 오래 안 잡게 REQUIRES_NEW 로 바로 커밋한다.
+ *
+ *  샤딩이면 0번 샤드의 id_generator 에서 받는다. 이 번호들은 "샤딩 전 id" 범위(SnowflakeIds.LEGACY_ID_LIMIT 미만)라서
+ *  0번 샤드로 읽히니까, 대량 적재도 0번 샤드에 넣는다. 그 범위를 넘어가는 묶음은 다른 샤드로 잘못 읽히니까 거절한다.
+ * */
+@Repository
+public class IdBlockAllocator {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate requiresNew;
+
+    public IdBlockAllocator(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /* @return 받은 묶음의 첫번째 id. [first, first + count) 를 쓰면 된다. */
+    public long reserve(String sequenceName, int count) {
+        if (count <= 0) {
+            throw new IllegalArgumentException("count 는 1 이상이어야 합니다: " + count);
+        }
+        Long first = requiresNew.execute(status -> {
+            List<Long> current = jdbcTemplate.queryForList(
+                    "select next_val from id_generator where sequence_name = ? for update", Long.class, sequenceName);
+            if (current.isEmpty()) {
+                jdbcTemplate.update("insert into id_generator (sequence_name, next_val) values (?, ?)", sequenceName, 1L + count);
+                return 1L;
+            }
+            long next = current.get(0);
+            jdbcTemplate.update("update id_generator set next_val = ? where sequence_name = ?", next + count, sequenceName);
+            return next;
+        });
+        if (first + count > SnowflakeIds.LEGACY_ID_LIMIT && ShardContext.shards(jdbcTemplate.getDataSource()).size() > 1) {
+            throw new IllegalStateException("샤딩 중에는 id " + SnowflakeIds.LEGACY_ID_LIMIT + " 이상을 id_generator 로 발급할 수 없습니다: "
+                    + sequenceName);
+        }
+        return first;
+    }
+}
@@ -0,0 +1,63 @@
+package com.bitstudy.app.repository;
+
+import com.bitstudy.app.dto.ResourceVersion;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/* ETag / Last-Modified 계산용 버전 조회
+ *  엔티티를 만들지 않고 (modifiedAt, 댓글 수, count) 같은 스칼라 값만 select 한다.
+ *  게시글 JSON 에는 commentCount 가 들어있는데, 댓글이 달려도 게시글 modifiedAt 은 안 바뀌어서 댓글 쪽 값도 같이 본다.
+ *
+ *  - 단건             : 그 row 의 modifiedAt (+ 게시글은 commentCount)
+ *  - 게시글의 댓글 목록 : max(modifiedAt) + count + sum(id) ((article_id, modified_at) 인덱스 범위만 읽음)
+ *                      수정/추가는 max 가, 삭제는 count 가, "지우고 예전 날짜로 하나 넣기"는 sum(id) 가 잡아낸다. (id 는 재사용 안 됨)
+ *  - 전체 목록         : 테이블을 훑지 않고 CollectionVersions 의 번호로 만든다.
+ * */
+@Repository
+@Transactional(readOnly = true)
+public class ResourceVersionRepository {
+
+    private final EntityManager entityManager;
+
+    public ResourceVersionRepository(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    /* /api/articles/{id} */
+    public Optional<ResourceVersion> article(Long id) {
+        return first(entityManager.createQuery(
+                        "select a.modifiedAt, a.commentCount from Article a where a.id = :id", Object[].class)
+                .setParameter("id", id)
+                .getResultList())
+                .map(row -> new ResourceVersion((LocalDateTime) row[0], "article:" + id + ":" + row[0] + ":" + row[1]));
+    }
+
+    /* /api/articles/{id}/articleComments (게시글이 없으면 empty -> 404 는 Data REST 가 처리) */
+    public Optional<ResourceVersion> commentsOfArticle(Long articleId) {
+        return first(entityManager.createQuery(
+                        "select max(c.modifiedAt), count(c), sum(c.id) from Article a left join a.articleComments c " +
+                                "where a.id = :id group by a.id", Object[].class)
+                .setParameter("id", articleId)
+                .getResultList())
+                .map(row -> new ResourceVersion((LocalDateTime) row[0],
+                        "article-comments:" + articleId + ":" + row[0] + ":" + row[1] + ":" + row[2]));
+    }
+
+    /* /api/articleComments/{id} */
+    public Optional<ResourceVersion> articleComment(Long id) {
+        return first(entityManager.createQuery(
+                        "select c.modifiedAt from ArticleComment c where c.id = :id", LocalDateTime.class)
+                .setParameter("id", id)
+                .getResultList())
+                .map(modifiedAt -> new ResourceVersion(modifiedAt, "article-comment:" + id + ":" + modifiedAt));
+    }
+
+    private static <T> Optional<T> first(List<T> rows) {
+        return rows.isEmpty() ? Optional.empty() : Optional.of(rows.get(0));
+    }
+}
@@ -0,0 +1,35 @@
+package com.bitstudy.app.repository;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.repository.core.support.RepositoryMethodInvocationListener;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/* 느린 레포지토리 호출 로그
+ *  레포지토리 메서드 호출이 threshold 보다 오래 걸리면 한 줄 남긴다. (RepositoryMetricsConfig 가 모든 레포지토리에 붙인다)
+ *  SQL 하나하나가 아니라 "findSummaries 가 350ms" 처럼 호출 단위라서, SQL 여러 번(N+1)이 쌓여서 느린 것도 잡힌다.
+ *  호출마다 하는 일은 시간 비교 하나라서 운영에서 켜둬도 된다.
+ * */
+@Slf4j
+public class SlowRepositoryInvocationLogger implements RepositoryMethodInvocationListener {
+
+    private final long thresholdNanos;
+
+    public SlowRepositoryInvocationLogger(Duration threshold) {
+        this.thresholdNanos = threshold.toNanos();
+    }
+
+    @Override
+    public void afterInvocation(RepositoryMethodInvocation invocation) {
+        long nanos = invocation.getDuration(TimeUnit.NANOSECONDS);
+        if (nanos < thresholdNanos) {
+            return;
+        }
+        log.warn("slow repository call: {}.{} took {} ms ({})",
+                invocation.getRepositoryInterface().getSimpleName(),
+                invocation.getMethod().getName(),
+                TimeUnit.NANOSECONDS.toMillis(nanos),
+                invocation.getResult().getState());
+    }
+}
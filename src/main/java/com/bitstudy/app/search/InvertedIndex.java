@@ -0,0 +1,183 @@
+package com.bitstudy.app.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/* 메모리 역색인 (inverted index) + BM25 랭킹
+ *  LIKE '%검색어%' 는 인덱스를 못 타서 테이블 전체를 읽는다.
+ *  역색인은 "토큰 -> 그 토큰이 들어있는 문서 목록(postings)" 을 미리 만들어 두고, 검색어 토큰의 목록만 읽는다.
+ *
+ *  - 문서마다 내부 번호(doc)를 0 부터 붙인다. 새 문서는 항상 더 큰 번호를 받아서 postings 는 따로 정렬 안해도 오름차순이다.
+ *  - 수정 = 삭제 + 새 번호로 추가. 삭제된 번호 자리는 비워둔다. (rebuild 하면 다시 꽉 채워진다)
+ *  - 제목은 TITLE_BOOST 배로 센다. (제목에 있는 단어가 본문에 있는 단어보다 점수가 높게)
+ *  - 읽기(검색)는 동시에 여러개, 쓰기(색인)는 하나씩. (ReentrantReadWriteLock)
+ * */
+public class InvertedIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int TITLE_BOOST = 2;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Postings> postings = new HashMap<>();
+    private final Map<String, Integer> docNumbers = new HashMap<>();
+    private final List<Entry> docs = new ArrayList<>();
+    private long totalLength;
+    private int liveDocs;
+
+    /* 검색 결과 한 건 */
+    public record Hit(SearchDocument document, double score) {}
+
+    /* 검색 결과 한 페이지 (total 은 검색어 토큰이 하나라도 들어있는 문서 수) */
+    public record Page(long total, List<Hit> hits) {}
+
+    private record Entry(SearchDocument document, String[] terms, int length) {}
+
+    /* 문서 추가 (같은 key 가 있으면 바꿔치기) */
+    public void put(SearchDocument document, String title, String body) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        for (String token : Tokenizer.tokenize(title)) {
+            frequencies.merge(token, TITLE_BOOST, Integer::sum);
+        }
+        for (String token : Tokenizer.tokenize(body)) {
+            frequencies.merge(token, 1, Integer::sum);
+        }
+        int length = frequencies.values().stream().mapToInt(Integer::intValue).sum();
+
+        lock.writeLock().lock();
+        try {
+            Integer existing = docNumbers.remove(document.key());
+            if (existing != null) {
+                unindex(existing);
+            }
+            int doc = docs.size();
+            docs.add(new Entry(document, frequencies.keySet().toArray(new String[0]), length));
+            docNumbers.put(document.key(), doc);
+            frequencies.forEach((term, frequency) -> postings.computeIfAbsent(term, t -> new Postings()).add(doc, frequency));
+            totalLength += length;
+            liveDocs++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(String key) {
+        lock.writeLock().lock();
+        try {
+            Integer doc = docNumbers.remove(key);
+            if (doc != null) {
+                unindex(doc);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void unindex(int doc) {
+        Entry entry = docs.set(doc, null);
+        for (String term : entry.terms()) {
+            Postings list = postings.get(term);
+            list.remove(doc);
+            if (list.size == 0) {
+                postings.remove(term);
+            }
+        }
+        totalLength -= entry.length();
+        liveDocs--;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return liveDocs;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /* BM25 로 점수를 매겨서 [offset, offset + limit) 만 돌려준다.
+     *  상위 offset + limit 개만 힙에 들고 있어서 결과가 많아도 전체 정렬은 안한다.
+     * */
+    public Page search(String query, int offset, int limit) {
+        Set<String> terms = new LinkedHashSet<>(Tokenizer.tokenize(query));
+        if (terms.isEmpty() || limit <= 0) {
+            return new Page(0, Collections.emptyList());
+        }
+
+        lock.readLock().lock();
+        try {
+            double averageLength = liveDocs == 0 ? 1 : (double) totalLength / liveDocs;
+            Map<Integer, Double> scores = new HashMap<>();
+            for (String term : terms) {
+                Postings list = postings.get(term);
+                if (list == null) {
+                    continue;
+                }
+                double idf = Math.log(1 + (liveDocs - list.size + 0.5) / (list.size + 0.5));
+                for (int i = 0; i < list.size; i++) {
+                    int doc = list.docs[i];
+                    int frequency = list.frequencies[i];
+                    double norm = K1 * (1 - B + B * docs.get(doc).length() / averageLength);
+                    scores.merge(doc, idf * frequency * (K1 + 1) / (frequency + norm), Double::sum);
+                }
+            }
+
+            int window = offset + limit;
+            // 점수가 같으면 나중에 색인된(= 보통 더 최신) 문서를 위로
+            PriorityQueue<Map.Entry<Integer, Double>> top = new PriorityQueue<>(window + 1,
+                    Map.Entry.<Integer, Double>comparingByValue().thenComparing(Map.Entry.comparingByKey()));
+            for (Map.Entry<Integer, Double> scored : scores.entrySet()) {
+                top.offer(scored);
+                if (top.size() > window) {
+                    top.poll();
+                }
+            }
+
+            List<Hit> hits = new ArrayList<>(top.size());
+            while (!top.isEmpty()) {
+                Map.Entry<Integer, Double> scored = top.poll();
+                hits.add(new Hit(docs.get(scored.getKey()).document(), scored.getValue()));
+            }
+            Collections.reverse(hits);
+            List<Hit> page = offset >= hits.size() ? Collections.emptyList() : hits.subList(offset, hits.size());
+            return new Page(scores.size(), page);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /* 토큰 하나의 postings. (doc 번호, 등장 횟수) 를 박싱 없이 int 배열 두개로 들고 있는다. */
+    private static class Postings {
+        private int[] docs = new int[4];
+        private int[] frequencies = new int[4];
+        private int size;
+
+        void add(int doc, int frequency) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                frequencies = Arrays.copyOf(frequencies, size * 2);
+            }
+            docs[size] = doc;
+            frequencies[size] = frequency;
+            size++;
+        }
+
+        void remove(int doc) {
+            int i = Arrays.binarySearch(docs, 0, size, doc);
+            if (i < 0) {
+                return;
+            }
+            System.arraycopy(docs, i + 1, docs, i, size - i - 1);
+            System.arraycopy(frequencies, i + 1, frequencies, i, size - i - 1);
+            size--;
+        }
+    }
+}
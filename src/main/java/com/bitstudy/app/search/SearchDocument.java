@@ -0,0 +1,19 @@
+package com.bitstudy.app.search;
+
+/* 색인에 들어가는 문서 하나 (게시글 또는 댓글)
+ *  본문은 들고 있지 않고, 검색 결과에 보여줄 짧은 label 만 들고 있는다. (메모리 절약)
+ * */
+public record SearchDocument(Type type, Long id, Long articleId, String label) {
+
+    public enum Type {
+        ARTICLE, ARTICLE_COMMENT
+    }
+
+    public static String key(Type type, Object id) {
+        return type.name() + ':' + id;
+    }
+
+    public String key() {
+        return key(type, id);
+    }
+}
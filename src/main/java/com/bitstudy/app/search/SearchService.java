@@ -0,0 +1,164 @@
+package com.bitstudy.app.search;
+
+import com.bitstudy.app.domain.Article;
+import com.bitstudy.app.domain.ArticleComment;
+import com.bitstudy.app.domain.ContentCodec;
+import com.bitstudy.app.dto.SearchHit;
+import com.bitstudy.app.dto.SearchResult;
+import com.bitstudy.app.event.ArticlesArchivedEvent;
+import com.bitstudy.app.event.BulkImportedEvent;
+import com.bitstudy.app.event.EntityCommittedEvent;
+import com.bitstudy.app.sharding.ShardContext;
+import com.bitstudy.app.startup.StartupWarmUp;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/* 게시글/댓글 전문 검색 (외부 검색엔진 없이 메모리 역색인)
+ *  - 시작할 때, 대량 적재 후에, POST /admin/search/rebuild 때 DB 를 한번 쭉 읽어서 새 색인을 만들고 통째로 바꿔 끼운다.
+ *  - 그 사이의 변경은 EntityCommittedEvent(커밋된 저장/수정/삭제)를 받아서 바로 색인에 반영한다.
+ *  - rebuild 하는 동안 들어온 변경은 모아뒀다가 새 색인에도 다시 적용한 뒤에 바꿔 끼운다. (빠지는 변경 없게)
+ * */
+@Slf4j
+@Service
+public class SearchService {
+
+    public static final int MAX_SIZE = 100;
+    public static final int MAX_WINDOW = 1_000; // page * size 가 이만큼 넘어가는 깊은 페이지는 안 준다.
+    private static final int LABEL_LENGTH = 80;
+    private static final int FETCH_SIZE = 1_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final StartupWarmUp startupWarmUp;
+    private final Object swapLock = new Object();
+    private volatile InvertedIndex index = new InvertedIndex();
+    private List<Consumer<InvertedIndex>> pending; // rebuild 중일 때만 null 이 아님 (swapLock 으로 보호)
+
+    public SearchService(DataSource dataSource, StartupWarmUp startupWarmUp) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.startupWarmUp = startupWarmUp;
+        this.jdbcTemplate.setFetchSize(FETCH_SIZE);
+    }
+
+    public SearchResult search(String query, int page, int size) {
+        long start = System.nanoTime();
+        InvertedIndex.Page result = index.search(query, page * size, size);
+        List<SearchHit> hits = new ArrayList<>(result.hits().size());
+        for (InvertedIndex.Hit hit : result.hits()) {
+            SearchDocument document = hit.document();
+            hits.add(new SearchHit(document.type().name(), document.id(), document.articleId(), document.label(), hit.score()));
+        }
+        return new SearchResult(query, result.total(), page, size, (System.nanoTime() - start) / 1_000, hits);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        startupWarmUp.run("search index", this::rebuild); // prod 프로필이면 뒤에서 돈다. (StartupWarmUp)
+    }
+
+    @EventListener
+    public void onBulkImported(BulkImportedEvent event) {
+        rebuild();
+    }
+
+    @EventListener
+    public void onEntityCommitted(EntityCommittedEvent event) {
+        Consumer<InvertedIndex> change = changeOf(event);
+        if (change != null) {
+            apply(change);
+        }
+    }
+
+    /* 보관 테이블로 옮겨진 글/댓글은 검색에서 뺀다. (보관된 글은 검색 대상이 아님) */
+    @EventListener
+    public void onArticlesArchived(ArticlesArchivedEvent event) {
+        apply(target -> {
+            event.articleIds().forEach(id -> target.remove(SearchDocument.key(SearchDocument.Type.ARTICLE, id)));
+            event.articleCommentIds().forEach(id -> target.remove(SearchDocument.key(SearchDocument.Type.ARTICLE_COMMENT, id)));
+        });
+    }
+
+    private void apply(Consumer<InvertedIndex> change) {
+        synchronized (swapLock) {
+            if (pending != null) {
+                pending.add(change);
+            }
+            change.accept(index);
+        }
+    }
+
+    /* @return 색인된 문서 수 */
+    public synchronized int rebuild() {
+        long start = System.currentTimeMillis();
+        synchronized (swapLock) {
+            pending = new ArrayList<>();
+        }
+        InvertedIndex fresh = new InvertedIndex();
+        boolean loaded = false;
+        try {
+            ShardContext.forEachShard(jdbcTemplate.getDataSource(), () -> { // 샤딩이면 샤드마다 한 번씩
+                jdbcTemplate.query("select a.id, a.title, a.content, a.hashtag, b.compressed, b.original_length " +
+                        "from article a left join article_content b on b.id = a.content_body_id", rs -> {
+                    String title = rs.getString("title");
+                    String body = ContentCodec.contentOf(rs) + ' ' + nullToEmpty(rs.getString("hashtag"));
+                    fresh.put(articleDocument(rs.getLong("id"), title), title, body);
+                });
+                jdbcTemplate.query("select id, article_id, content from article_comment", rs -> {
+                    String content = rs.getString("content");
+                    fresh.put(commentDocument(rs.getLong("id"), rs.getLong("article_id"), content), null, content);
+                });
+            });
+            loaded = true;
+        } finally {
+            synchronized (swapLock) {
+                if (loaded) { // 읽다가 실패하면 기존 색인을 그대로 쓴다.
+                    pending.forEach(change -> change.accept(fresh));
+                    index = fresh;
+                }
+                pending = null;
+            }
+        }
+        log.info("search index rebuilt: {} documents in {} ms", fresh.size(), System.currentTimeMillis() - start);
+        return fresh.size();
+    }
+
+    private Consumer<InvertedIndex> changeOf(EntityCommittedEvent event) {
+        if (event.entity() instanceof Article article) {
+            if (event.type() == EntityCommittedEvent.Type.DELETE) {
+                return target -> target.remove(SearchDocument.key(SearchDocument.Type.ARTICLE, article.getId()));
+            }
+            String body = article.getContent() + ' ' + nullToEmpty(article.getHashtag());
+            SearchDocument document = articleDocument(article.getId(), article.getTitle());
+            return target -> target.put(document, article.getTitle(), body);
+        }
+        if (event.entity() instanceof ArticleComment comment) {
+            if (event.type() == EntityCommittedEvent.Type.DELETE) {
+                return target -> target.remove(SearchDocument.key(SearchDocument.Type.ARTICLE_COMMENT, comment.getId()));
+            }
+            SearchDocument document = commentDocument(comment.getId(), comment.getArticle().getId(), comment.getContent());
+            String content = comment.getContent();
+            return target -> target.put(document, null, content);
+        }
+        return null;
+    }
+
+    private static SearchDocument articleDocument(Long id, String title) {
+        return new SearchDocument(SearchDocument.Type.ARTICLE, id, id, title);
+    }
+
+    private static SearchDocument commentDocument(Long id, Long articleId, String content) {
+        String label = content != null && content.length() > LABEL_LENGTH ? content.substring(0, LABEL_LENGTH) : content;
+        return new SearchDocument(SearchDocument.Type.ARTICLE_COMMENT, id, articleId, label);
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+}
@@ -0,0 +1,68 @@
+package com.bitstudy.app.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/* 검색어/본문을 색인 단위(토큰)로 자르는 클래스
+ *  - 영문/숫자 : 소문자로 바꾸고 단어 단위로 자른다. (한 글자짜리 영문은 버림)
+ *  - 한글/한자/일본어 : 띄어쓰기만으로는 조사가 붙어서("스프링을", "스프링이") 잘 안 맞으니까
+ *                    두 글자씩 겹쳐서(bigram) 자른다. "스프링을" -> "스프", "프링", "링을"
+ *                    (형태소 분석기 없이 쓸 수 있는 가장 무난한 방법)
+ *  색인할 때랑 검색할 때 같은 규칙으로 잘라야 서로 맞는다.
+ * */
+public final class Tokenizer {
+
+    private static final int NONE = 0;
+    private static final int WORD = 1;
+    private static final int CJK = 2;
+
+    private Tokenizer() {}
+
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+        String lower = text.toLowerCase(Locale.ROOT);
+        int start = 0;
+        int runType = NONE;
+        for (int i = 0; i <= lower.length(); i++) {
+            int type = i < lower.length() ? typeOf(lower.charAt(i)) : NONE;
+            if (type != runType) {
+                emit(lower, start, i, runType, tokens);
+                start = i;
+                runType = type;
+            }
+        }
+        return tokens;
+    }
+
+    private static void emit(String text, int start, int end, int type, List<String> tokens) {
+        int length = end - start;
+        if (type == WORD) {
+            if (length > 1 || Character.isDigit(text.charAt(start))) {
+                tokens.add(text.substring(start, end));
+            }
+        } else if (type == CJK) {
+            if (length == 1) {
+                tokens.add(text.substring(start, end));
+            }
+            for (int i = start; i + 2 <= end; i++) {
+                tokens.add(text.substring(i, i + 2));
+            }
+        }
+    }
+
+    private static int typeOf(char c) {
+        if (!Character.isLetterOrDigit(c)) {
+            return NONE;
+        }
+        Character.UnicodeScript script = Character.UnicodeScript.of(c);
+        if (script == Character.UnicodeScript.HANGUL || script == Character.UnicodeScript.HAN
+                || script == Character.UnicodeScript.HIRAGANA || script == Character.UnicodeScript.KATAKANA) {
+            return CJK;
+        }
+        return WORD;
+    }
+}
@@ -0,0 +1,163 @@
+package com.bitstudy.app.service;
+
+import com.bitstudy.app.config.ArchiveProperties;
+import com.bitstudy.app.domain.Article;
+import com.bitstudy.app.domain.ArticleComment;
+import com.bitstudy.app.dto.ArchiveReport;
+import com.bitstudy.app.event.ArticlesArchivedEvent;
+import com.bitstudy.app.sharding.ShardContext;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManagerFactory;
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/* 오래된 게시글을 보관(cold) 테이블로 옮기는 작업
+ *  거의 모든 요청은 최근 글을 보는데, article / article_comment 테이블과 인덱스(title, hashtag, createdAt ...)는 계속 커진다.
+ *  오래된 글을 article_archive / article_comment_archive 로 옮겨서 자주 쓰는 테이블과 인덱스를 작게(버퍼 풀 안에) 유지한다.
+ *
+ *  대상 : 작성/수정된 지 board.archive.max-age 가 지났고, 그 사이에 새 댓글도 없는 게시글 (+ 그 글의 댓글 전부)
+ *  방법 : batch-size 개씩 끊어서 트랜잭션 하나에 (대상 잠금 -> insert ... select 로 복사 -> 원본 삭제) 한다.
+ *         한 묶음이 실패하면 그 묶음만 롤백되고 다음 실행 때 다시 시도한다.
+ *  이후 : 2차 캐시에서 옮긴 글/댓글을 빼고, ArticlesArchivedEvent 로 검색/해시태그 색인에 알려준다.
+ *
+ *  옮긴 글은 같은 주소(/api/articles/{id}, /api/articleComments/{id})로 계속 읽힌다. (ArticleArchiveController)
+ *  대신 읽기 전용이 된다. 수정/삭제/댓글 달기는 404.
+ *
+ *  - board.archive.enabled=true 면 매일 새벽(board.archive.cron) 에 자동으로 돈다.
+ *  - POST /admin/archive/run 으로 직접 돌릴 수도 있다.
+ * */
+@Slf4j
+@Service
+public class ArticleArchiveJob {
+
+    private static final String ARCHIVABLE = "a.created_at < :cutoff and a.modified_at < :cutoff " +
+            "and not exists (select 1 from article_comment c where c.article_id = a.id and c.created_at >= :cutoff)";
+    private static final String SELECT_CANDIDATES = "select a.id from article a where " + ARCHIVABLE + " order by a.id limit :limit";
+    /* 옮기는 동안 이 글에 댓글이 달리거나 수정되지 않게 행을 잠근다. (댓글 insert 의 FK 확인도 이 잠금을 기다린다)
+     *  후보를 고른 뒤 잠그기 전 사이에 수정되거나 댓글이 달린 글이 있을 수 있으니까, 잠글 때 조건을 한 번 더 본다.
+     *  여기서 돌아온 id 만 옮긴다. */
+    private static final String LOCK_ARTICLES = "select a.id from article a where a.id in (:ids) and " + ARCHIVABLE +
+            " order by a.id for update";
+    private static final String SELECT_COMMENT_IDS = "select id from article_comment where article_id in (:ids)";
+    private static final String COPY_ARTICLES = "insert into article_archive " +
+            "(id, title, content, content_body_id, hashtag, comment_count, view_count, created_at, created_by, modified_at, modified_by, archived_at) " +
+            "select id, title, content, content_body_id, hashtag, comment_count, view_count, created_at, created_by, modified_at, modified_by, :now " +
+            "from article where id in (:ids)";
+    private static final String COPY_COMMENTS = "insert into article_comment_archive " +
+            "(id, article_id, content, created_at, created_by, modified_at, modified_by) " +
+            "select id, article_id, content, created_at, created_by, modified_at, modified_by " +
+            "from article_comment where article_id in (:ids)";
+    private static final String DELETE_ARTICLE_HASHTAGS = "delete from article_hashtag where article_id in (:ids)";
+    private static final String DELETE_COMMENTS = "delete from article_comment where article_id in (:ids)";
+    private static final String DELETE_ARTICLES = "delete from article where id in (:ids)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final DataSource dataSource;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ArchiveProperties properties;
+
+    public ArticleArchiveJob(JdbcTemplate jdbcTemplate,
+                             PlatformTransactionManager transactionManager,
+                             EntityManagerFactory entityManagerFactory,
+                             ApplicationEventPublisher eventPublisher,
+                             ArchiveProperties properties) {
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.dataSource = jdbcTemplate.getDataSource();
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.entityManagerFactory = entityManagerFactory;
+        this.eventPublisher = eventPublisher;
+        this.properties = properties;
+    }
+
+    @Scheduled(cron = "${board.archive.cron:0 30 3 * * *}")
+    public void scheduledArchive() {
+        if (properties.isEnabled()) {
+            archive();
+        }
+    }
+
+    /* 대상이 없을 때까지 batch-size 개씩 옮긴다. (동시에 두 번 돌지 않게 synchronized) */
+    public synchronized ArchiveReport archive() {
+        long start = System.currentTimeMillis();
+        LocalDateTime cutoff = LocalDateTime.now().minus(properties.getMaxAge());
+        long[] moved = {0, 0}; // {게시글, 댓글}
+        // 샤딩이면 샤드마다 따로 옮긴다. (게시글과 그 댓글은 같은 샤드에 있다)
+        ShardContext.forEachShard(dataSource, () -> archiveShard(cutoff, moved));
+        ArchiveReport report = new ArchiveReport(moved[0], moved[1], System.currentTimeMillis() - start);
+        log.info("archived {} articles and {} comments older than {} in {} ms",
+                moved[0], moved[1], cutoff, report.elapsedMillis());
+        return report;
+    }
+
+    private void archiveShard(LocalDateTime cutoff, long[] moved) {
+        while (true) {
+            Batch batch = transactionTemplate.execute(status -> moveBatch(cutoff));
+            if (batch == null || batch.candidates() == 0) {
+                break;
+            }
+            if (!batch.articleIds().isEmpty()) {
+                afterCommit(batch);
+            }
+            moved[0] += batch.articleIds().size();
+            moved[1] += batch.articleCommentIds().size();
+            if (batch.candidates() < properties.getBatchSize()) { // 잠글 때 빠진 글이 있어도 후보가 꽉 찼으면 다음 묶음을 본다.
+                break;
+            }
+        }
+    }
+
+    private Batch moveBatch(LocalDateTime cutoff) {
+        List<Long> candidates = jdbcTemplate.queryForList(SELECT_CANDIDATES, new MapSqlParameterSource()
+                .addValue("cutoff", cutoff)
+                .addValue("limit", properties.getBatchSize()), Long.class);
+        if (candidates.isEmpty()) {
+            return new Batch(0, List.of(), List.of());
+        }
+        List<Long> articleIds = jdbcTemplate.queryForList(LOCK_ARTICLES, new MapSqlParameterSource("ids", candidates)
+                .addValue("cutoff", cutoff), Long.class);
+        if (articleIds.isEmpty()) {
+            return new Batch(candidates.size(), List.of(), List.of());
+        }
+        MapSqlParameterSource ids = new MapSqlParameterSource("ids", articleIds);
+        List<Long> commentIds = jdbcTemplate.queryForList(SELECT_COMMENT_IDS, ids, Long.class);
+
+        jdbcTemplate.update(COPY_ARTICLES, new MapSqlParameterSource("ids", articleIds).addValue("now", LocalDateTime.now()));
+        jdbcTemplate.update(COPY_COMMENTS, ids);
+        jdbcTemplate.update(DELETE_ARTICLE_HASHTAGS, ids);
+        jdbcTemplate.update(DELETE_COMMENTS, ids);
+        jdbcTemplate.update(DELETE_ARTICLES, ids);
+        return new Batch(candidates.size(), articleIds, commentIds);
+    }
+
+    /* JDBC 로 지웠으니 2차 캐시는 모른다. 옮긴 글/댓글, 그 글의 댓글 id 목록(컬렉션 캐시)을 직접 뺀다. */
+    private void afterCommit(Batch batch) {
+        Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        String commentsRole = Article.class.getName() + ".articleComments";
+        for (Long articleId : batch.articleIds()) {
+            cache.evictEntityData(Article.class, articleId);
+            cache.evictCollectionData(commentsRole, articleId);
+        }
+        for (Long commentId : batch.articleCommentIds()) {
+            cache.evictEntityData(ArticleComment.class, commentId);
+        }
+        eventPublisher.publishEvent(new ArticlesArchivedEvent(batch.articleIds(), batch.articleCommentIds()));
+    }
+
+    /* candidates : 고른 후보 수, articleIds : 그중 잠글 때도 조건이 맞아서 실제로 옮긴 글 */
+    private record Batch(int candidates, List<Long> articleIds, List<Long> articleCommentIds) {
+    }
+}
@@ -0,0 +1,371 @@
+package com.bitstudy.app.service;
+
+import com.bitstudy.app.dto.ArticleCommentImportRow;
+import com.bitstudy.app.dto.ArticleImportRow;
+import com.bitstudy.app.dto.ImportReport;
+import com.bitstudy.app.event.BulkImportedEvent;
+import com.bitstudy.app.hashtag.HashtagParser;
+import com.bitstudy.app.repository.IdBlockAllocator;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManagerFactory;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/* 대량 적재(bulk import)
+ *  data.sql 처럼 insert 문을 한 줄씩 실행하면 운영 규모 데이터는 감당이 안된다.
+ *  여기서는 파일을 한 줄씩 스트리밍으로 읽어서(메모리 일정) CHUNK_SIZE 개씩 모아 JDBC batch insert 로 넣는다.
+ *
+ *  - NDJSON : 한 줄에 게시글 하나, 댓글은 그 안의 comments 배열로. (게시글-댓글 FK 를 한 줄 안에서 바로 맞출 수 있다)
+ *  - CSV    : articles.csv / article_comments.csv 두 파일. 댓글의 articleId 는 articles.csv 의 id 를 가리킨다.
+ *             (파일 id -> DB id 매핑을 게시글 수 만큼 메모리에 들고 있는다)
+ *
+ *  id 는 IdBlockAllocator 로 id_generator 에서 받아오니까 JPA 로 저장하는 데이터랑 안 겹친다.
+ *  commentCount 도 적재하면서 같이 맞춘다.
+ * */
+@Slf4j
+@Service
+public class BulkImportService {
+
+    private static final int CHUNK_SIZE = 1_000;
+    private static final int PROGRESS_LOG_INTERVAL = 100_000;
+    private static final String AUDITOR = "bulk-import";
+
+    private static final String INSERT_ARTICLE = "insert into article " +
+            "(id, title, content, hashtag, comment_count, created_at, created_by, modified_at, modified_by) " +
+            "values (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_COMMENT = "insert into article_comment " +
+            "(id, article_id, content, created_at, created_by, modified_at, modified_by) " +
+            "values (?, ?, ?, ?, ?, ?, ?)";
+    private static final String ADD_COMMENT_COUNT = "update article set comment_count = comment_count + ? where id = ?";
+    private static final String INSERT_HASHTAG = "insert into hashtag (id, name) values (?, ?)";
+    private static final String INSERT_ARTICLE_HASHTAG = "insert into article_hashtag (article_id, hashtag_id) values (?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final IdBlockAllocator idBlockAllocator;
+    private final ObjectReader ndjsonReader;
+    private final ObjectReader csvArticleReader;
+    private final ObjectReader csvCommentReader;
+    private final EntityManagerFactory entityManagerFactory;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public BulkImportService(JdbcTemplate jdbcTemplate,
+                             PlatformTransactionManager transactionManager,
+                             IdBlockAllocator idBlockAllocator,
+                             ObjectMapper objectMapper,
+                             EntityManagerFactory entityManagerFactory,
+                             ApplicationEventPublisher eventPublisher) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManagerFactory = entityManagerFactory;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.idBlockAllocator = idBlockAllocator;
+        this.ndjsonReader = objectMapper.readerFor(ArticleImportRow.class);
+
+        CsvMapper csvMapper = new CsvMapper();
+        csvMapper.findAndRegisterModules();
+        csvMapper.enable(CsvParser.Feature.EMPTY_STRING_AS_NULL);
+        CsvSchema withHeader = CsvSchema.emptySchema().withHeader();
+        this.csvArticleReader = csvMapper.readerFor(ArticleImportRow.class).with(withHeader);
+        this.csvCommentReader = csvMapper.readerFor(ArticleCommentImportRow.class).with(withHeader);
+    }
+
+    /* NDJSON - 게시글 한 줄 + 안에 들어있는 댓글들 */
+    public ImportReport importNdjson(InputStream in) throws IOException {
+        Progress progress = new Progress();
+        try (MappingIterator<ArticleImportRow> rows = ndjsonReader.readValues(in)) {
+            List<ArticleImportRow> chunk = new ArrayList<>(CHUNK_SIZE);
+            while (rows.hasNextValue()) {
+                chunk.add(rows.nextValue());
+                if (chunk.size() == CHUNK_SIZE) {
+                    writeArticles(chunk, null, progress);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                writeArticles(chunk, null, progress);
+            }
+        }
+        return afterImport(progress.finish());
+    }
+
+    /* CSV - 게시글 파일, 댓글 파일 (둘 중 하나는 null 이어도 된다) */
+    public ImportReport importCsv(InputStream articles, InputStream comments) throws IOException {
+        Progress progress = new Progress();
+        Map<Long, Long> articleIds = new HashMap<>();
+
+        if (articles != null) {
+            try (MappingIterator<ArticleImportRow> rows = csvArticleReader.readValues(articles)) {
+                List<ArticleImportRow> chunk = new ArrayList<>(CHUNK_SIZE);
+                while (rows.hasNextValue()) {
+                    chunk.add(rows.nextValue());
+                    if (chunk.size() == CHUNK_SIZE) {
+                        writeArticles(chunk, articleIds, progress);
+                        chunk.clear();
+                    }
+                }
+                if (!chunk.isEmpty()) {
+                    writeArticles(chunk, articleIds, progress);
+                }
+            }
+        }
+
+        if (comments != null) {
+            try (MappingIterator<ArticleCommentImportRow> rows = csvCommentReader.readValues(comments)) {
+                List<ArticleCommentImportRow> chunk = new ArrayList<>(CHUNK_SIZE);
+                while (rows.hasNextValue()) {
+                    chunk.add(rows.nextValue());
+                    if (chunk.size() == CHUNK_SIZE) {
+                        writeComments(chunk, articleIds, progress);
+                        chunk.clear();
+                    }
+                }
+                if (!chunk.isEmpty()) {
+                    writeComments(chunk, articleIds, progress);
+                }
+            }
+        }
+        return afterImport(progress.finish());
+    }
+
+    /* JDBC 로 직접 넣었으니 Hibernate 2차 캐시(댓글 컬렉션, commentCount)는 모른다. 자주 하는 일이 아니니 통째로 비운다.
+     *  검색 색인처럼 엔티티 이벤트로 따라가는 곳들도 모르니까 BulkImportedEvent 로 알려준다.
+     * */
+    private ImportReport afterImport(ImportReport report) {
+        entityManagerFactory.getCache().evictAll();
+        eventPublisher.publishEvent(new BulkImportedEvent(report));
+        return report;
+    }
+
+    /* 게시글 한 묶음 (+ NDJSON 이면 안에 있는 댓글까지) 을 한 트랜잭션으로 넣는다.
+     *  articleIds 가 있으면 파일 id -> DB id 를 기록해둔다. (CSV 댓글 파일에서 씀)
+     * */
+    private void writeArticles(List<ArticleImportRow> chunk, Map<Long, Long> articleIds, Progress progress) {
+        List<ArticleImportRow> valid = new ArrayList<>(chunk.size());
+        int commentTotal = 0;
+        for (ArticleImportRow row : chunk) {
+            if (isValid(row)) {
+                valid.add(row);
+                commentTotal += validComments(row).size();
+            } else {
+                progress.skipped++;
+            }
+        }
+        if (valid.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        long articleId = idBlockAllocator.reserve("article", valid.size());
+        long commentId = commentTotal > 0 ? idBlockAllocator.reserve("article_comment", commentTotal) : 0;
+
+        List<Object[]> articleArgs = new ArrayList<>(valid.size());
+        List<Object[]> commentArgs = new ArrayList<>(commentTotal);
+        Map<Long, Set<String>> tagsByArticle = new LinkedHashMap<>();
+        for (ArticleImportRow row : valid) {
+            long id = articleId++;
+            Set<String> tags = HashtagParser.parse(row.hashtag());
+            if (!tags.isEmpty()) {
+                tagsByArticle.put(id, tags);
+            }
+            List<ArticleCommentImportRow> comments = validComments(row);
+            articleArgs.add(new Object[]{
+                    id, row.title(), row.content(), row.hashtag(), comments.size(),
+                    orNow(row.createdAt(), now), orAuditor(row.createdBy()),
+                    orNow(row.modifiedAt(), now), orAuditor(row.modifiedBy())});
+            for (ArticleCommentImportRow comment : comments) {
+                commentArgs.add(commentRow(commentId++, id, comment, now));
+            }
+            if (articleIds != null && row.id() != null) {
+                articleIds.put(row.id(), id);
+            }
+            progress.skipped += sizeOf(row.comments()) - comments.size();
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.batchUpdate(INSERT_ARTICLE, articleArgs);
+            if (!commentArgs.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_COMMENT, commentArgs);
+            }
+            if (!tagsByArticle.isEmpty()) {
+                writeHashtags(tagsByArticle);
+            }
+        });
+        progress.add(articleArgs.size(), commentArgs.size());
+    }
+
+    /* CSV 댓글 한 묶음
+     *  articleId 가 이번에 넣은 게시글 파일에 없으면 DB 에 이미 있는 게시글 id 로 보고, 실제로 있는지 한번에 확인한다.
+     * */
+    private void writeComments(List<ArticleCommentImportRow> chunk, Map<Long, Long> articleIds, Progress progress) {
+        Set<Long> unmapped = chunk.stream()
+                .map(ArticleCommentImportRow::articleId)
+                .filter(id -> id != null && !articleIds.containsKey(id))
+                .collect(Collectors.toSet());
+        Set<Long> existing = existingArticleIds(unmapped);
+
+        List<ArticleCommentImportRow> valid = new ArrayList<>(chunk.size());
+        List<Long> targetIds = new ArrayList<>(chunk.size());
+        for (ArticleCommentImportRow row : chunk) {
+            Long target = row.articleId() == null ? null
+                    : articleIds.containsKey(row.articleId()) ? articleIds.get(row.articleId())
+                    : existing.contains(row.articleId()) ? row.articleId() : null;
+            if (target == null || !isValid(row)) {
+                progress.skipped++;
+                continue;
+            }
+            valid.add(row);
+            targetIds.add(target);
+        }
+        if (valid.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        long commentId = idBlockAllocator.reserve("article_comment", valid.size());
+        List<Object[]> commentArgs = new ArrayList<>(valid.size());
+        Map<Long, Integer> countDelta = new LinkedHashMap<>();
+        for (int i = 0; i < valid.size(); i++) {
+            Long target = targetIds.get(i);
+            commentArgs.add(commentRow(commentId++, target, valid.get(i), now));
+            countDelta.merge(target, 1, Integer::sum);
+        }
+        List<Object[]> countArgs = countDelta.entrySet().stream()
+                .map(e -> new Object[]{e.getValue(), e.getKey()})
+                .collect(Collectors.toList());
+
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.batchUpdate(INSERT_COMMENT, commentArgs);
+            jdbcTemplate.batchUpdate(ADD_COMMENT_COUNT, countArgs);
+        });
+        progress.add(0, commentArgs.size());
+    }
+
+    /* 해시태그 정규화 (ArticleRepositoryCustomImpl 이 JPA 로 하는 일을 JDBC 로)
+     *  사전에 없는 태그는 새로 넣고, article_hashtag 연결을 batch 로 넣는다.
+     * */
+    private void writeHashtags(Map<Long, Set<String>> tagsByArticle) {
+        Set<String> names = new HashSet<>();
+        tagsByArticle.values().forEach(names::addAll);
+
+        Map<String, Long> tagIds = new HashMap<>();
+        String placeholders = names.stream().map(name -> "?").collect(Collectors.joining(", "));
+        jdbcTemplate.query("select id, name from hashtag where name in (" + placeholders + ")",
+                rs -> {
+                    tagIds.put(rs.getString("name"), rs.getLong("id"));
+                }, names.toArray());
+
+        List<String> missing = names.stream().filter(name -> !tagIds.containsKey(name)).collect(Collectors.toList());
+        if (!missing.isEmpty()) {
+            long tagId = idBlockAllocator.reserve("hashtag", missing.size());
+            List<Object[]> tagArgs = new ArrayList<>(missing.size());
+            for (String name : missing) {
+                tagIds.put(name, tagId);
+                tagArgs.add(new Object[]{tagId++, name});
+            }
+            jdbcTemplate.batchUpdate(INSERT_HASHTAG, tagArgs);
+        }
+
+        List<Object[]> linkArgs = new ArrayList<>();
+        tagsByArticle.forEach((articleId, tags) -> tags.forEach(name -> linkArgs.add(new Object[]{articleId, tagIds.get(name)})));
+        jdbcTemplate.batchUpdate(INSERT_ARTICLE_HASHTAG, linkArgs);
+    }
+
+    private Set<Long> existingArticleIds(Set<Long> ids) {
+        if (ids.isEmpty()) {
+            return Collections.emptySet();
+        }
+        String placeholders = ids.stream().map(id -> "?").collect(Collectors.joining(", "));
+        return new HashSet<>(jdbcTemplate.queryForList(
+                "select id from article where id in (" + placeholders + ")", Long.class, ids.toArray()));
+    }
+
+    private static Object[] commentRow(long id, long articleId, ArticleCommentImportRow row, LocalDateTime now) {
+        return new Object[]{
+                id, articleId, row.content(),
+                orNow(row.createdAt(), now), orAuditor(row.createdBy()),
+                orNow(row.modifiedAt(), now), orAuditor(row.modifiedBy())};
+    }
+
+    /* 컬럼 제약조건(Article/ArticleComment 의 @Column) 에 안 맞는 줄은 건너뛴다. */
+    private static boolean isValid(ArticleImportRow row) {
+        return row.title() != null && row.title().length() <= 255
+                && row.content() != null && row.content().length() <= 10000
+                && (row.hashtag() == null || row.hashtag().length() <= 255);
+    }
+
+    private static boolean isValid(ArticleCommentImportRow row) {
+        return row.content() != null && row.content().length() <= 500;
+    }
+
+    private static List<ArticleCommentImportRow> validComments(ArticleImportRow row) {
+        if (row.comments() == null) {
+            return Collections.emptyList();
+        }
+        return row.comments().stream().filter(BulkImportService::isValid).collect(Collectors.toList());
+    }
+
+    private static int sizeOf(List<?> list) {
+        return list == null ? 0 : list.size();
+    }
+
+    private static LocalDateTime orNow(LocalDateTime value, LocalDateTime now) {
+        return value == null ? now : value;
+    }
+
+    private static String orAuditor(String value) {
+        return value == null ? AUDITOR : value;
+    }
+
+    /* 진행상황 + 결과(rows/sec) 집계 */
+    private static class Progress {
+        private final long startNanos = System.nanoTime();
+        private long articles;
+        private long comments;
+        private long skipped;
+        private long nextLogAt = PROGRESS_LOG_INTERVAL;
+
+        void add(long articles, long comments) {
+            this.articles += articles;
+            this.comments += comments;
+            if (this.articles + this.comments >= nextLogAt) {
+                nextLogAt += PROGRESS_LOG_INTERVAL;
+                log.info("bulk import: {} articles, {} comments, {} rows/sec", this.articles, this.comments, (long) rowsPerSecond());
+            }
+        }
+
+        double rowsPerSecond() {
+            double seconds = (System.nanoTime() - startNanos) / 1_000_000_000.0;
+            return seconds == 0 ? 0 : (articles + comments) / seconds;
+        }
+
+        ImportReport finish() {
+            long millis = (System.nanoTime() - startNanos) / 1_000_000;
+            ImportReport report = new ImportReport(articles, comments, skipped, millis, rowsPerSecond());
+            log.info("bulk import finished: {}", report);
+            return report;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.bitstudy.app.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/* 애플리케이션 시작할 때 대량 적재 파일 넣기
+ *  설정이 없으면 아무것도 안한다. (기본은 지금처럼 data.sql)
+ *
+ *  board.bulk-import.startup.ndjson       : classpath:seed/board.ndjson, file:/data/board.ndjson ...
+ *  board.bulk-import.startup.csv-articles : 게시글 CSV
+ *  board.bulk-import.startup.csv-comments : 댓글 CSV
+ * */
+@Slf4j
+@Component
+public class BulkImportStartupRunner implements ApplicationRunner {
+
+    private final BulkImportService bulkImportService;
+    private final ResourceLoader resourceLoader;
+    private final String ndjson;
+    private final String csvArticles;
+    private final String csvComments;
+
+    public BulkImportStartupRunner(BulkImportService bulkImportService,
+                                   ResourceLoader resourceLoader,
+                                   @Value("${board.bulk-import.startup.ndjson:}") String ndjson,
+                                   @Value("${board.bulk-import.startup.csv-articles:}") String csvArticles,
+                                   @Value("${board.bulk-import.startup.csv-comments:}") String csvComments) {
+        this.bulkImportService = bulkImportService;
+        this.resourceLoader = resourceLoader;
+        this.ndjson = ndjson;
+        this.csvArticles = csvArticles;
+        this.csvComments = csvComments;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        if (!ndjson.isBlank()) {
+            log.info("bulk import on startup: {}", ndjson);
+            try (InputStream in = open(ndjson)) {
+                bulkImportService.importNdjson(in);
+            }
+        }
+        if (!csvArticles.isBlank() || !csvComments.isBlank()) {
+            log.info("bulk import on startup: {} {}", csvArticles, csvComments);
+            try (InputStream articles = open(csvArticles); InputStream comments = open(csvComments)) {
+                bulkImportService.importCsv(articles, comments);
+            }
+        }
+    }
+
+    private InputStream open(String location) throws IOException {
+        if (location.isBlank()) {
+            return null;
+        }
+        Resource resource = resourceLoader.getResource(location);
+        return resource.getInputStream();
+    }
+}
@@ -0,0 +1,38 @@
+package com.bitstudy.app.service;
+
+import com.bitstudy.app.repository.ArticleRepository;
+import com.bitstudy.app.repository.CollectionVersions;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/* Article.commentCount 를 댓글 테이블 기준으로 처음부터 다시 세는 작업
+ *  평소에는 ArticleCommentRepository 의 save/delete 에서 +1/-1 로 맞추지만,
+ *  SQL 로 직접 넣은 데이터나 벌크 삭제처럼 그 경로를 안 탄 경우에는 어긋날 수 있다.
+ *
+ *  - 매일 새벽(board.comment-count.repair-cron) 에 자동으로 돈다.
+ *  - POST /admin/comment-counts/repair 로 직접 돌릴 수도 있다.
+ * */
+@Slf4j
+@Service
+public class CommentCountRepairJob {
+
+    private final ArticleRepository articleRepository;
+    private final CollectionVersions collectionVersions;
+
+    public CommentCountRepairJob(ArticleRepository articleRepository, CollectionVersions collectionVersions) {
+        this.articleRepository = articleRepository;
+        this.collectionVersions = collectionVersions;
+    }
+
+    @Scheduled(cron = "${board.comment-count.repair-cron:0 0 4 * * *}")
+    @Transactional
+    public int repair() {
+        long start = System.currentTimeMillis();
+        int updated = articleRepository.recomputeCommentCounts();
+        collectionVersions.changedAfterCommit(); // 벌크 update 라 커밋 이벤트가 안 나온다. 목록 ETag 를 직접 바꾼다.
+        log.info("comment counts recomputed for {} articles in {} ms", updated, System.currentTimeMillis() - start);
+        return updated;
+    }
+}
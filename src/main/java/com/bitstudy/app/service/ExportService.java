@@ -0,0 +1,151 @@
+package com.bitstudy.app.service;
+
+import com.bitstudy.app.domain.ContentCodec;
+import com.bitstudy.app.sharding.ShardContext;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+
+/* 게시판 전체 내보내기 (NDJSON)
+ *  findAll() 은 전부 영속성 컨텍스트에 올리고, /api 로 페이지를 넘기면 게시글마다 왕복이 생긴다.
+ *  여기서는 게시글-댓글 join 을 DB 커서로 FETCH_SIZE 개씩 읽으면서 바로 JSON 으로 써버린다.
+ *  엔티티를 아예 안 만들고, 들고 있는 건 "지금 쓰고 있는 게시글 id" 하나뿐이라 테이블 크기랑 상관없이 메모리가 일정하다.
+ *
+ *  - 한 줄 = 게시글 하나 + 그 댓글들(comments 배열). BulkImportService 의 NDJSON 입력 형식이랑 같아서 그대로 다시 넣을 수 있다.
+ *  - 클라이언트가 느리면 write 가 막히고, 그동안 커서도 다음 묶음을 안 읽는다. (소켓 버퍼가 곧 backpressure)
+ *  - MySQL 은 URL 에 useCursorFetch=true 가 있어야 fetch size 만큼씩 가져온다. (없으면 결과를 다 받아놓고 시작함)
+ * */
+@Slf4j
+@Service
+public class ExportService {
+
+    private static final int FETCH_SIZE = 1_000;
+    private static final int FLUSH_INTERVAL = 1_000;
+
+    private static final String SELECT_BOARD = "select a.id, a.title, a.content, a.hashtag, " +
+            "a.created_at, a.created_by, a.modified_at, a.modified_by, " +
+            "c.id as comment_id, c.content as comment_content, " +
+            "c.created_at as comment_created_at, c.created_by as comment_created_by, " +
+            "c.modified_at as comment_modified_at, c.modified_by as comment_modified_by, " +
+            "b.compressed, b.original_length " +
+            "from article a left join article_content b on b.id = a.content_body_id " +
+            "left join article_comment c on c.article_id = a.id " +
+            "order by a.id, c.id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnly;
+    private final ObjectMapper objectMapper;
+
+    public ExportService(DataSource dataSource, PlatformTransactionManager transactionManager, ObjectMapper objectMapper) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(FETCH_SIZE);
+        this.readOnly = new TransactionTemplate(transactionManager);
+        this.readOnly.setReadOnly(true);
+        this.objectMapper = objectMapper;
+    }
+
+    /* @return 내보낸 게시글 수 */
+    public long exportNdjson(OutputStream out) throws IOException {
+        long start = System.currentTimeMillis();
+        try (JsonGenerator json = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+            json.setRootValueSeparator(null);
+            Writer writer = new Writer(json);
+            try {
+                // 샤딩이면 샤드마다 따로 (게시글과 댓글은 같은 샤드에 있으니까 줄이 샤드를 넘어가지 않는다)
+                ShardContext.forEachShard(jdbcTemplate.getDataSource(), () ->
+                        readOnly.executeWithoutResult(status -> jdbcTemplate.query(SELECT_BOARD, writer::row)));
+            } catch (UncheckedIOException e) {
+                throw e.getCause(); // 보통 클라이언트가 연결을 끊은 경우
+            }
+            writer.finish();
+            log.info("exported {} articles in {} ms", writer.articles, System.currentTimeMillis() - start);
+            return writer.articles;
+        }
+    }
+
+    /* join 결과를 한 줄씩 받아서 게시글이 바뀔 때마다 줄을 끊는다. */
+    private static class Writer {
+        private final JsonGenerator json;
+        private long currentArticleId = -1;
+        private long articles;
+
+        Writer(JsonGenerator json) {
+            this.json = json;
+        }
+
+        void row(ResultSet rs) throws SQLException {
+            try {
+                long articleId = rs.getLong("id");
+                if (articleId != currentArticleId) {
+                    endArticle();
+                    startArticle(rs);
+                    currentArticleId = articleId;
+                }
+                long commentId = rs.getLong("comment_id");
+                if (!rs.wasNull()) {
+                    json.writeStartObject();
+                    json.writeNumberField("id", commentId);
+                    json.writeStringField("content", rs.getString("comment_content"));
+                    writeTime("createdAt", rs.getTimestamp("comment_created_at"));
+                    json.writeStringField("createdBy", rs.getString("comment_created_by"));
+                    writeTime("modifiedAt", rs.getTimestamp("comment_modified_at"));
+                    json.writeStringField("modifiedBy", rs.getString("comment_modified_by"));
+                    json.writeEndObject();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        void finish() throws IOException {
+            endArticle();
+            json.flush();
+        }
+
+        private void startArticle(ResultSet rs) throws SQLException, IOException {
+            json.writeStartObject();
+            json.writeNumberField("id", rs.getLong("id"));
+            json.writeStringField("title", rs.getString("title"));
+            json.writeStringField("content", ContentCodec.contentOf(rs));
+            json.writeStringField("hashtag", rs.getString("hashtag"));
+            writeTime("createdAt", rs.getTimestamp("created_at"));
+            json.writeStringField("createdBy", rs.getString("created_by"));
+            writeTime("modifiedAt", rs.getTimestamp("modified_at"));
+            json.writeStringField("modifiedBy", rs.getString("modified_by"));
+            json.writeArrayFieldStart("comments");
+        }
+
+        private void endArticle() throws IOException {
+            if (currentArticleId == -1) {
+                return;
+            }
+            json.writeEndArray();
+            json.writeEndObject();
+            json.writeRaw('\n');
+            if (++articles % FLUSH_INTERVAL == 0) {
+                json.flush();
+            }
+        }
+
+        private void writeTime(String field, Timestamp value) throws IOException {
+            if (value == null) {
+                json.writeNullField(field);
+            } else {
+                json.writeStringField(field, value.toLocalDateTime().toString());
+            }
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.bitstudy.app.sharding;
+
+import org.hibernate.HibernateException;
+import org.hibernate.MappingException;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.enhanced.TableGenerator;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+import java.io.Serializable;
+import java.util.Properties;
+
+/* Article / ArticleComment / Hashtag / ArticleContentBody 의 id 생성기
+ *  - 샤딩을 안 켜면 원래대로 id_generator 테이블에서 50개씩 받아다 쓴다. (TableGenerator, pooled-lo)
+ *  - 샤딩을 켜면 지금 샤드(ShardContext) 번호를 넣은 snowflake id 를 메모리에서 바로 만든다.
+ *    샤드마다 id_generator 가 따로 있어서 테이블 방식으로는 샤드끼리 id 가 겹치기 때문.
+ *
+ *  SnowflakeIds 는 ShardingConfig 가 Hibernate 설정(SETTING)으로 넘겨준다. (컨텍스트마다 따로)
+ * */
+public class ShardAwareIdGenerator extends TableGenerator {
+
+    public static final String SETTING = "board.sharding.snowflake-ids";
+
+    private SnowflakeIds snowflakeIds;
+
+    @Override
+    public void configure(Type type, Properties params, ServiceRegistry serviceRegistry) throws MappingException {
+        super.configure(type, params, serviceRegistry);
+        Object ids = serviceRegistry.getService(ConfigurationService.class).getSettings().get(SETTING);
+        this.snowflakeIds = ids instanceof SnowflakeIds snowflake ? snowflake : null;
+    }
+
+    @Override
+    public Serializable generate(SharedSessionContractImplementor session, Object object) throws HibernateException {
+        if (snowflakeIds == null) {
+            return super.generate(session, object);
+        }
+        Integer shard = ShardContext.current();
+        return snowflakeIds.next(shard == null ? ShardContext.DEFAULT_SHARD : shard);
+    }
+}
@@ -0,0 +1,71 @@
+package com.bitstudy.app.sharding;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.function.Supplier;
+
+/* 지금 스레드가 어느 샤드를 쓰는지 (ShardRoutingDataSource 가 커넥션을 고를 때 본다)
+ *  ReadYourWrites 처럼 ThreadLocal 이라서, 정해둔 범위(callOn / runOn) 안의 DB 접근은 전부 그 샤드로 간다.
+ *  레포지토리 호출은 ShardingRepositoryInterceptor 가 알아서 정해주니까,
+ *  JdbcTemplate 으로 직접 읽고 쓰는 곳(검색 색인 rebuild, 내보내기, 보관 등)만 forEachShard 로 샤드마다 한 번씩 돌면 된다.
+ *
+ *  샤딩을 안 켜면(board.sharding.enabled=false) 샤드는 0 하나뿐이고 forEachShard 는 그냥 한 번 돈다.
+ *
+ *  주의) 트랜잭션 하나는 샤드 하나에서만 돈다. (트랜잭션이 처음 쿼리를 날릴 때 커넥션이 정해지니까)
+ *        그래서 runOn 은 트랜잭션 "바깥"에서 감싸야 한다.
+ * */
+public final class ShardContext {
+
+    public static final int DEFAULT_SHARD = 0; // 샤딩 전 데이터(작은 id, data.sql, 대량 적재)가 있는 곳
+
+    private static final ThreadLocal<Integer> CURRENT = new ThreadLocal<>();
+
+    private ShardContext() {}
+
+    /* @return 정해진 샤드가 없으면 null (-> DEFAULT_SHARD 로 간다) */
+    public static Integer current() {
+        return CURRENT.get();
+    }
+
+    public static <T> T callOn(int shard, Supplier<T> work) {
+        Integer previous = CURRENT.get();
+        CURRENT.set(shard);
+        try {
+            return work.get();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    public static void runOn(int shard, Runnable work) {
+        callOn(shard, () -> {
+            work.run();
+            return null;
+        });
+    }
+
+    /* 이 DataSource 뒤에 있는 샤드 번호들 (ShardRoutingDataSource 가 아니면 [0])
+     *  설정을 static 으로 들고 있지 않고 DataSource 에서 꺼내서, 테스트처럼 컨텍스트가 여러 개 떠 있어도 서로 안 섞인다. */
+    public static List<Integer> shards(DataSource dataSource) {
+        DataSource target = dataSource;
+        while (target instanceof DelegatingDataSource delegating) {
+            target = delegating.getTargetDataSource();
+        }
+        if (target instanceof ShardRoutingDataSource routing) {
+            return routing.getShards();
+        }
+        return List.of(DEFAULT_SHARD);
+    }
+
+    public static void forEachShard(DataSource dataSource, Runnable work) {
+        for (int shard : shards(dataSource)) {
+            runOn(shard, work);
+        }
+    }
+}
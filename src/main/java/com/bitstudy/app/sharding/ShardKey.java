@@ -0,0 +1,16 @@
+package com.bitstudy.app.sharding;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/* 레포지토리 메서드에서 샤드를 정하는 파라미터 표시 (ShardingRepositoryInterceptor)
+ *  - 게시글/댓글 id, 엔티티 -> 그 샤드 하나로만 보낸다. (ShardKeys)
+ *  - Iterable (엔티티나 id 목록) -> 샤드별로 나눠서 샤드마다 한 번씩 부른다.
+ *  표시가 없는 조회 메서드는 모든 샤드에 보내서 결과를 합친다. (CrudRepository 기본 메서드는 이름으로 알아서 처리)
+ * */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ShardKey {
+}
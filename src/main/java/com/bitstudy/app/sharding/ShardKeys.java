@@ -0,0 +1,42 @@
+package com.bitstudy.app.sharding;
+
+import com.bitstudy.app.domain.ArchivedArticle;
+import com.bitstudy.app.domain.ArchivedArticleComment;
+import com.bitstudy.app.domain.Article;
+import com.bitstudy.app.domain.ArticleComment;
+
+import java.util.function.IntSupplier;
+
+/* 샤드 키(@ShardKey 파라미터, save/delete 의 엔티티, findById 의 id) -> 샤드 번호
+ *  샤드는 게시글 id 로 정한다. 댓글은 자기 게시글의 샤드에 같이 산다.
+ *  댓글 id 도 그 샤드에서 발급되니까(ShardAwareIdGenerator) 댓글 id 만 있어도 샤드를 안다.
+ * */
+final class ShardKeys {
+
+    private ShardKeys() {}
+
+    /* @param newArticleShard 아직 id 가 없는 새 게시글을 보낼 샤드 */
+    static int shardOf(Object key, IntSupplier newArticleShard) {
+        if (key instanceof Number id) {
+            return SnowflakeIds.shardOf(id.longValue());
+        }
+        if (key instanceof Article article) {
+            return article.getId() == null ? newArticleShard.getAsInt() : SnowflakeIds.shardOf(article.getId());
+        }
+        if (key instanceof ArticleComment comment) {
+            if (comment.getArticle() != null && comment.getArticle().getId() != null) {
+                return shardOf(comment.getArticle(), newArticleShard); // 프록시여도 getId 는 초기화 안 한다.
+            }
+            if (comment.getId() != null) {
+                return SnowflakeIds.shardOf(comment.getId());
+            }
+        }
+        if (key instanceof ArchivedArticle archived && archived.getId() != null) {
+            return SnowflakeIds.shardOf(archived.getId());
+        }
+        if (key instanceof ArchivedArticleComment archived && archived.getArticleId() != null) {
+            return SnowflakeIds.shardOf(archived.getArticleId());
+        }
+        throw new IllegalArgumentException("샤드를 정할 수 없는 키: " + key);
+    }
+}
@@ -0,0 +1,20 @@
+package com.bitstudy.app.sharding;
+
+import org.springframework.data.domain.Sort;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/* @Query 안에 order by 가 박혀있어서 Pageable 에 정렬이 없는 메서드용 - 샤드별 결과를 이 순서로 합친다.
+ *  쿼리의 order by 랑 똑같이 적어야 한다. (예: 커서 페이징의 createdAt desc, id desc)
+ * */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ShardMergeOrder {
+
+    String[] value();
+
+    Sort.Direction direction() default Sort.Direction.DESC;
+}
@@ -0,0 +1,59 @@
+package com.bitstudy.app.sharding;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import java.io.Closeable;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+/* 샤드 DataSource - ShardContext 에 정해진 샤드의 풀에서 커넥션을 빌린다. (없으면 0번)
+ *  ReadWriteRoutingDataSource 처럼 꼭 LazyConnectionDataSourceProxy 로 감싸서 써야 한다. (ShardingConfig)
+ *  트랜잭션 매니저가 트랜잭션을 시작하면서 바로 커넥션을 빌리면, 레포지토리가 샤드를 정하기 전에 0번으로 가버린다.
+ * */
+public class ShardRoutingDataSource extends AbstractRoutingDataSource implements Closeable {
+
+    private final List<HikariDataSource> pools;
+    private final List<Integer> shards;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ShardRoutingDataSource(List<HikariDataSource> pools) {
+        if (pools.isEmpty() || pools.size() > SnowflakeIds.MAX_SHARDS) {
+            throw new IllegalArgumentException("샤드는 1 ~ " + SnowflakeIds.MAX_SHARDS + " 개: " + pools.size());
+        }
+        this.pools = List.copyOf(pools);
+        this.shards = IntStream.range(0, pools.size()).boxed().toList();
+
+        Map<Object, Object> targets = new HashMap<>();
+        for (int shard : shards) {
+            targets.put(shard, pools.get(shard));
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(pools.get(ShardContext.DEFAULT_SHARD));
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Integer shard = ShardContext.current();
+        return shard == null ? ShardContext.DEFAULT_SHARD : shard;
+    }
+
+    public List<Integer> getShards() {
+        return shards;
+    }
+
+    /* 새 게시글을 둘 샤드 (돌아가면서) */
+    public int nextShard() {
+        return Math.floorMod(next.getAndIncrement(), shards.size());
+    }
+
+    @Override
+    public void close() {
+        pools.forEach(HikariDataSource::close);
+    }
+}
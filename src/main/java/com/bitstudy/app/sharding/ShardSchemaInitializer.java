@@ -0,0 +1,44 @@
+package com.bitstudy.app.sharding;
+
+import org.hibernate.boot.Metadata;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+import org.hibernate.tool.hbm2ddl.SchemaExport;
+import org.hibernate.tool.schema.TargetType;
+
+import java.util.EnumSet;
+import java.util.List;
+
+/* 0번이 아닌 샤드에도 테이블을 만든다. (board.sharding.create-schema=true, 로컬 H2 용)
+ *  ddl-auto 는 기본 커넥션(0번 샤드)에만 돌아서, 같은 매핑으로 나머지 샤드에 create 를 한 번씩 더 돌린다.
+ *  운영 DB 는 마이그레이션 도구로 샤드마다 똑같이 만들어 두고 이건 끈다.
+ *
+ *  Hibernate Integrator 라서 SessionFactory 를 만드는 중간에 불린다. (ShardingConfig 가 hibernate.integrator_provider 로 넣는다)
+ * */
+public class ShardSchemaInitializer implements Integrator {
+
+    private final List<Integer> shards;
+
+    public ShardSchemaInitializer(List<Integer> shards) {
+        this.shards = shards;
+    }
+
+    @Override
+    public void integrate(Metadata metadata, SessionFactoryImplementor sessionFactory,
+                          SessionFactoryServiceRegistry serviceRegistry) {
+        for (int shard : shards) {
+            if (shard == ShardContext.DEFAULT_SHARD) {
+                continue;
+            }
+            ShardContext.runOn(shard, () -> new SchemaExport()
+                    .setHaltOnError(false) // ddl-auto=create 처럼 drop 실패(처음이라 테이블 없음)는 넘어간다.
+                    .setFormat(false)
+                    .create(EnumSet.of(TargetType.DATABASE), metadata));
+        }
+    }
+
+    @Override
+    public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+    }
+}
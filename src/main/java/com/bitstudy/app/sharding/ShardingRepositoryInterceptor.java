@@ -0,0 +1,346 @@
+package com.bitstudy.app.sharding;
+
+import com.bitstudy.app.domain.ArchivedArticle;
+import com.bitstudy.app.domain.Article;
+import com.bitstudy.app.domain.ArticleComment;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.hibernate.Hibernate;
+import org.springframework.aop.ProxyMethodInvocation;
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.RecordComponent;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/* 레포지토리 호출을 샤드로 보내는 인터셉터 (ShardingConfig 가 모든 레포지토리 프록시 맨 앞에 끼운다)
+ *  - 샤드 하나 : findById / save / delete 처럼 id 나 엔티티로 샤드가 정해지는 호출, @ShardKey 가 붙은 파라미터
+ *  - 나눠서   : saveAll / findAllById / deleteAll(목록) / @ShardKey Iterable -> 샤드별로 묶어서 샤드마다 한 번
+ *  - 전체     : 나머지 조회(findAll, 목록/커서 쿼리, count ...) -> 모든 샤드에 동시에 보내고 결과를 합친다. (scatter-gather)
+ *
+ *  합치는 방법
+ *   Page      : 샤드마다 0 ~ (offset + size) 까지 가져와서 정렬 기준으로 합친 다음 offset 부터 size 개. 전체 개수는 더한다.
+ *               정렬이 없으면 id 순으로 정렬해서 가져온다. (안그러면 페이지마다 순서가 달라진다)
+ *   List      : Pageable 이 있으면 Page 처럼, @Query 에 order by 가 박혀있으면 @ShardMergeOrder 순서로
+ *   숫자       : 더한다 (count, 벌크 update 건수)
+ *   boolean   : 하나라도 true 면 true (existsBy...)
+ *   Optional  : 처음 찾은 것
+ *
+ *  이미 샤드가 정해진 스레드(ShardContext.current() != null)에서는 아무것도 안 하고 그대로 부른다.
+ *  -> 커스텀 구현(ArticleRepositoryCustomImpl 등) 안에서 다른 레포지토리를 불러도 같은 샤드, 같은 트랜잭션으로 간다.
+ *
+ *  open-in-view 를 끄고 쓰니까(sharding-local 프로필), 샤드 트랜잭션이 끝나기 전에 응답에 필요한 LAZY 값(본문)을 미리 읽어둔다.
+ *  뒤쪽 페이지로 갈수록 샤드마다 읽는 양이 늘어나니까 깊은 페이지는 커서 페이징(/api/articles/cursor)을 쓸 것.
+ * */
+public class ShardingRepositoryInterceptor implements MethodInterceptor {
+
+    private static final Set<String> SINGLE = Set.of("findById", "existsById", "getById", "getOne", "getReferenceById",
+            "save", "saveAndFlush", "delete", "deleteById");
+    private static final Set<String> PARTITION = Set.of("saveAll", "saveAllAndFlush", "findAllById",
+            "deleteAll", "deleteAllById", "deleteAllInBatch", "deleteAllByIdInBatch");
+    private static final Set<String> PASS = Set.of("flush", "toString", "hashCode", "equals");
+
+    private final Supplier<ShardRoutingDataSource> dataSource;
+    private final Supplier<PlatformTransactionManager> transactionManager;
+    private final Supplier<ExecutorService> executor;
+    private final Map<Method, Route> routes = new ConcurrentHashMap<>();
+
+    public ShardingRepositoryInterceptor(Supplier<ShardRoutingDataSource> dataSource,
+                                         Supplier<PlatformTransactionManager> transactionManager,
+                                         Supplier<ExecutorService> executor) {
+        this.dataSource = dataSource;
+        this.transactionManager = transactionManager;
+        this.executor = executor;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        if (ShardContext.current() != null) {
+            return invocation.proceed();
+        }
+        Route route = routes.computeIfAbsent(invocation.getMethod(), Route::of);
+        try {
+            return switch (route.kind()) {
+                case PASS -> invocation.proceed();
+                case SINGLE -> single(invocation, route);
+                case PARTITION -> partition(invocation, route);
+                case SCATTER -> scatter(invocation, route);
+            };
+        } catch (Failure failure) {
+            throw failure.getCause();
+        }
+    }
+
+    private Object single(MethodInvocation invocation, Route route) {
+        int shard = shardOf(invocation.getArguments()[route.keyIndex()]);
+        return onShard(shard, route, () -> proceed(invocation));
+    }
+
+    private Object partition(MethodInvocation invocation, Route route) {
+        Map<Integer, List<Object>> groups = new LinkedHashMap<>();
+        for (Object key : (Iterable<?>) invocation.getArguments()[route.keyIndex()]) {
+            groups.computeIfAbsent(shardOf(key), s -> new ArrayList<>()).add(key);
+        }
+        List<Object> results = new ArrayList<>();
+        for (Map.Entry<Integer, List<Object>> group : groups.entrySet()) {
+            Object[] args = invocation.getArguments().clone();
+            args[route.keyIndex()] = group.getValue();
+            Object result = onShard(group.getKey(), route, () -> proceed(clone(invocation, args)));
+            if (result instanceof Iterable<?> rows) {
+                rows.forEach(results::add);
+            }
+        }
+        return invocation.getMethod().getReturnType() == void.class ? null : results;
+    }
+
+    private Object scatter(MethodInvocation invocation, Route route) {
+        Object[] args = invocation.getArguments().clone();
+        Pageable pageable = route.pageableIndex() < 0 ? Pageable.unpaged() : (Pageable) args[route.pageableIndex()];
+        Sort sort = mergeSort(invocation.getMethod(), route, args, pageable);
+        if (pageable.isPaged()) {
+            // 정렬이 쿼리에 박혀있는 메서드(@ShardMergeOrder)는 정렬을 더 붙이지 않는다.
+            Sort querySort = invocation.getMethod().isAnnotationPresent(ShardMergeOrder.class) ? Sort.unsorted() : sort;
+            args[route.pageableIndex()] = PageRequest.of(0, (int) pageable.getOffset() + pageable.getPageSize(), querySort);
+        }
+
+        List<Future<Object>> futures = new ArrayList<>();
+        for (int shard : dataSource.get().getShards()) {
+            MethodInvocation copy = clone(invocation, args);
+            futures.add(executor.get().submit(() -> onShard(shard, route, () -> proceed(copy))));
+        }
+        List<Object> results = new ArrayList<>(futures.size());
+        for (Future<Object> future : futures) {
+            try {
+                results.add(future.get());
+            } catch (ExecutionException e) {
+                throw e.getCause() instanceof Failure failure ? failure : new Failure(e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new Failure(e);
+            }
+        }
+        return merge(invocation.getMethod().getReturnType(), results, pageable, sort);
+    }
+
+    /* 없는 샤드를 가리키는 id(잘못된 주소)는 0번으로 보낸다. 거기에도 없으니까 그냥 못 찾은 게 된다. */
+    private int shardOf(Object key) {
+        ShardRoutingDataSource shards = dataSource.get();
+        int shard = ShardKeys.shardOf(key, shards::nextShard);
+        return shards.getShards().contains(shard) ? shard : ShardContext.DEFAULT_SHARD;
+    }
+
+    private Object onShard(int shard, Route route, Supplier<Object> work) {
+        return ShardContext.callOn(shard, () -> {
+            TransactionTemplate transaction = new TransactionTemplate(transactionManager.get());
+            transaction.setReadOnly(!route.write());
+            return transaction.execute(status -> initialize(work.get()));
+        });
+    }
+
+    private static Sort mergeSort(Method method, Route route, Object[] args, Pageable pageable) {
+        ShardMergeOrder mergeOrder = method.getAnnotation(ShardMergeOrder.class);
+        if (mergeOrder != null) {
+            return Sort.by(mergeOrder.direction(), mergeOrder.value());
+        }
+        if (pageable.getSort().isSorted()) {
+            return pageable.getSort();
+        }
+        if (route.sortIndex() >= 0 && args[route.sortIndex()] != null) {
+            return (Sort) args[route.sortIndex()];
+        }
+        return pageable.isPaged() ? Sort.by("id") : Sort.unsorted();
+    }
+
+    private static Object merge(Class<?> type, List<Object> results, Pageable pageable, Sort sort) {
+        if (type == void.class) {
+            return null;
+        }
+        if (Page.class.isAssignableFrom(type)) {
+            List<Object> rows = new ArrayList<>();
+            long total = 0;
+            for (Object result : results) {
+                Page<?> page = (Page<?>) result;
+                rows.addAll(page.getContent());
+                total += page.getTotalElements();
+            }
+            return new PageImpl<>(slice(sorted(rows, sort), pageable), pageable, total);
+        }
+        if (Iterable.class.isAssignableFrom(type) && !Stream.class.isAssignableFrom(type)) {
+            List<Object> rows = new ArrayList<>();
+            for (Object result : results) {
+                ((Iterable<?>) result).forEach(rows::add);
+            }
+            return slice(sorted(rows, sort), pageable);
+        }
+        if (type == Optional.class) {
+            return results.stream().map(Optional.class::cast).filter(Optional::isPresent).findFirst().orElse(Optional.empty());
+        }
+        if (type == boolean.class || type == Boolean.class) {
+            return results.stream().anyMatch(Boolean.TRUE::equals);
+        }
+        if (type == long.class || type == Long.class) {
+            return results.stream().mapToLong(r -> ((Number) r).longValue()).sum();
+        }
+        if (type == int.class || type == Integer.class) {
+            return results.stream().mapToInt(r -> ((Number) r).intValue()).sum();
+        }
+        if (Stream.class.isAssignableFrom(type) || Collection.class.isAssignableFrom(type)) {
+            throw new UnsupportedOperationException("샤드 결과를 합칠 수 없는 반환 타입: " + type);
+        }
+        return results.stream().filter(r -> r != null).findFirst().orElse(null); // 결과 하나짜리 조회
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Object> sorted(List<Object> rows, Sort sort) {
+        Comparator<Object> comparator = null;
+        for (Sort.Order order : sort) {
+            Comparator<Object> next = Comparator.comparing(row -> (Comparable<Object>) property(row, order.getProperty()),
+                    Comparator.nullsLast(Comparator.naturalOrder()));
+            if (order.isDescending()) {
+                next = next.reversed();
+            }
+            comparator = comparator == null ? next : comparator.thenComparing(next);
+        }
+        if (comparator != null) {
+            rows.sort(comparator);
+        }
+        return rows;
+    }
+
+    private static List<Object> slice(List<Object> rows, Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            return rows;
+        }
+        int from = (int) Math.min(pageable.getOffset(), rows.size());
+        int to = Math.min(from + pageable.getPageSize(), rows.size());
+        return new ArrayList<>(rows.subList(from, to));
+    }
+
+    /* 엔티티는 getter 로, ArticleSummary 같은 record 는 accessor 로 */
+    private static Object property(Object row, String name) {
+        if (row.getClass().isRecord()) {
+            for (RecordComponent component : row.getClass().getRecordComponents()) {
+                if (component.getName().equals(name)) {
+                    try {
+                        return component.getAccessor().invoke(row);
+                    } catch (ReflectiveOperationException e) {
+                        throw new IllegalStateException(e);
+                    }
+                }
+            }
+            throw new IllegalArgumentException(row.getClass().getSimpleName() + " 에 없는 정렬 기준: " + name);
+        }
+        return new BeanWrapperImpl(row).getPropertyValue(name);
+    }
+
+    /* 샤드 트랜잭션이 끝나면 LAZY 로딩을 못 하니까 응답에 필요한 값을 미리 읽어둔다.
+     *  단건 조회는 댓글의 게시글까지 (GET /api/articleComments/{id}/article). 목록은 링크만 만드니까 안 읽는다. */
+    private static Object initialize(Object result) {
+        if (result instanceof Iterable<?> rows) {
+            rows.forEach(ShardingRepositoryInterceptor::initializeOne);
+            return result;
+        }
+        Object row = result instanceof Optional<?> optional ? optional.orElse(null) : result;
+        if (row != null) {
+            initializeOne(row);
+            if (row instanceof ArticleComment comment && comment.getArticle() != null) {
+                initializeOne(comment.getArticle());
+            }
+        }
+        return result;
+    }
+
+    private static void initializeOne(Object row) {
+        Hibernate.initialize(row);
+        if (row instanceof Article article) {
+            article.getContent(); // 압축 저장이면 article_content 를 읽는다.
+        } else if (row instanceof ArchivedArticle archived) {
+            archived.getContent();
+        }
+    }
+
+    private static MethodInvocation clone(MethodInvocation invocation, Object[] args) {
+        return ((ProxyMethodInvocation) invocation).invocableClone(args);
+    }
+
+    private static Object proceed(MethodInvocation invocation) {
+        try {
+            return invocation.proceed();
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new Failure(e);
+        }
+    }
+
+    /* 체크 예외를 람다 밖으로 꺼내기 위한 포장 (invoke 에서 벗긴다) */
+    private static final class Failure extends RuntimeException {
+        Failure(Throwable cause) {
+            super(cause);
+        }
+    }
+
+    private enum Kind { PASS, SINGLE, PARTITION, SCATTER }
+
+    private record Route(Kind kind, int keyIndex, int pageableIndex, int sortIndex, boolean write) {
+
+        static Route of(Method method) {
+            Class<?>[] types = method.getParameterTypes();
+            int pageableIndex = -1;
+            int sortIndex = -1;
+            int keyIndex = -1;
+            for (int i = 0; i < types.length; i++) {
+                if (Pageable.class.isAssignableFrom(types[i])) {
+                    pageableIndex = i;
+                } else if (Sort.class.isAssignableFrom(types[i])) {
+                    sortIndex = i;
+                }
+                for (var annotation : method.getParameterAnnotations()[i]) {
+                    if (annotation instanceof ShardKey) {
+                        keyIndex = i;
+                    }
+                }
+            }
+            String name = method.getName();
+            boolean write = method.isAnnotationPresent(Modifying.class)
+                    || name.startsWith("save") || name.startsWith("delete") || name.startsWith("insert");
+
+            Kind kind;
+            if (keyIndex >= 0) {
+                kind = Iterable.class.isAssignableFrom(types[keyIndex]) ? Kind.PARTITION : Kind.SINGLE;
+            } else if (types.length == 1 && SINGLE.contains(name)) {
+                kind = Kind.SINGLE;
+                keyIndex = 0;
+            } else if (types.length == 1 && PARTITION.contains(name) && Iterable.class.isAssignableFrom(types[0])) {
+                kind = Kind.PARTITION;
+                keyIndex = 0;
+            } else if (PASS.contains(name) || method.getDeclaringClass() == Object.class) {
+                kind = Kind.PASS;
+            } else {
+                kind = Kind.SCATTER;
+            }
+            return new Route(kind, keyIndex, pageableIndex, sortIndex, write);
+        }
+    }
+}
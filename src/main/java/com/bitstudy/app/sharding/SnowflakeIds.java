@@ -0,0 +1,95 @@
+package com.bitstudy.app.sharding;
+
+import java.time.Clock;
+import java.time.Instant;
+
+/* 샤딩용 id 발급 (snowflake 방식) - 중앙 DB 에 안 물어보고 서버 안에서 바로 만든다.
+ *
+ *    0 (11 bit) | 40 bit 시각(ms, EPOCH 부터) | 5 bit 샤드 | 3 bit 서버(worker) | 5 bit 순번
+ *
+ *  - 전부 53 bit 안에 들어간다. JSON 숫자를 double 로 읽는 클라이언트(자바스크립트 Number.MAX_SAFE_INTEGER = 2^53 - 1)도
+ *    id 를 반올림하지 않는다. (보통 snowflake 처럼 64 bit 를 다 쓰면 브라우저에서 id 가 틀어진다)
+ *    40 bit ms 면 EPOCH 부터 약 34 년 (2056년까지)
+ *  - 샤드 번호가 id 안에 들어있어서 id 만 보고 어느 샤드인지 안다. (shardOf) -> 따로 매핑 테이블이 필요 없다.
+ *  - 같은 ms 안에서 서버(worker)마다 샤드마다 32 개까지. (초당 3만 개) 넘치면 다음 ms 까지 기다린다.
+ *  - 시각이 앞에 있어서 대충 시간순으로 커진다. (인덱스에 뒤쪽으로만 붙는다)
+ *  - 시계가 뒤로 가면(NTP 보정) 마지막으로 쓴 시각을 계속 쓴다. (순번이 넘치면 그 시각을 따라잡을 때까지 기다림)
+ *
+ *  샤딩 전에 id_generator 로 발급된 id 는 LEGACY_ID_LIMIT(2^45) 아래라서 DEFAULT_SHARD 로 본다.
+ *  snowflake id 는 시각 부분이 2^32 ms(EPOCH 뒤 50일쯤) 이상이라 항상 그 위에 있다.
+ * */
+public class SnowflakeIds {
+
+    public static final long EPOCH = Instant.parse("2022-01-01T00:00:00Z").toEpochMilli();
+    static final int SEQUENCE_BITS = 5;
+    static final int WORKER_BITS = 3;
+    static final int SHARD_BITS = 5;
+    static final int TIME_BITS = 40;
+    public static final int MAX_SHARDS = 1 << SHARD_BITS;
+    public static final int MAX_WORKERS = 1 << WORKER_BITS;
+
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final int WORKER_SHIFT = SEQUENCE_BITS;
+    private static final int SHARD_SHIFT = SEQUENCE_BITS + WORKER_BITS;
+    private static final int TIME_SHIFT = SEQUENCE_BITS + WORKER_BITS + SHARD_BITS;
+    private static final long MAX_MILLIS = (1L << TIME_BITS) - 1;
+    private static final long MIN_MILLIS = 1L << 32;
+    /* 이보다 작은 id 는 샤딩 전(id_generator)에 발급된 것 -> 0번 샤드 */
+    public static final long LEGACY_ID_LIMIT = MIN_MILLIS << TIME_SHIFT;
+
+    private final int worker;
+    private final Clock clock;
+    private final long[] lastMillis = new long[MAX_SHARDS];
+    private final long[] sequence = new long[MAX_SHARDS];
+
+    public SnowflakeIds(int worker, Clock clock) {
+        if (worker < 0 || worker >= MAX_WORKERS) {
+            throw new IllegalArgumentException("worker 는 0 ~ " + (MAX_WORKERS - 1) + ": " + worker);
+        }
+        this.worker = worker;
+        this.clock = clock;
+    }
+
+    /* 샤드마다 순번을 따로 센다. (한 샤드에 몰려도 다른 샤드 발급은 안 밀린다) */
+    public long next(int shard) {
+        if (shard < 0 || shard >= MAX_SHARDS) {
+            throw new IllegalArgumentException("shard 는 0 ~ " + (MAX_SHARDS - 1) + ": " + shard);
+        }
+        synchronized (sequence) {
+            long now = Math.max(clock.millis() - EPOCH, lastMillis[shard]);
+            if (now == lastMillis[shard]) {
+                sequence[shard] = (sequence[shard] + 1) & SEQUENCE_MASK;
+                if (sequence[shard] == 0) {
+                    now = waitNextMillis(lastMillis[shard]);
+                }
+            } else {
+                sequence[shard] = 0;
+            }
+            if (now < MIN_MILLIS || now > MAX_MILLIS) {
+                throw new IllegalStateException("snowflake id 를 만들 수 없는 시각입니다: " + Instant.ofEpochMilli(now + EPOCH));
+            }
+            lastMillis[shard] = now;
+            return (now << TIME_SHIFT) | ((long) shard << SHARD_SHIFT) | ((long) worker << WORKER_SHIFT) | sequence[shard];
+        }
+    }
+
+    private long waitNextMillis(long last) {
+        long now = clock.millis() - EPOCH;
+        while (now <= last) {
+            Thread.onSpinWait();
+            now = clock.millis() - EPOCH;
+        }
+        return now;
+    }
+
+    public static int shardOf(long id) {
+        if (id < LEGACY_ID_LIMIT) {
+            return ShardContext.DEFAULT_SHARD;
+        }
+        return (int) ((id >>> SHARD_SHIFT) & (MAX_SHARDS - 1));
+    }
+
+    public static Instant timeOf(long id) {
+        return Instant.ofEpochMilli((id >>> TIME_SHIFT) + EPOCH);
+    }
+}
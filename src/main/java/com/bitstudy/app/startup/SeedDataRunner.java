@@ -0,0 +1,62 @@
+package com.bitstudy.app.startup;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/* 게시글이 하나도 없을 때만 초기 데이터(data.sql) 넣기
+ *  기본 설정은 부팅할 때마다 테이블을 새로 만들고(ddl-auto: create) data.sql 을 전부 다시 넣는다. (spring.sql.init.mode: always)
+ *  prod 프로필은 둘 다 끄고(validate, never) 이걸 켠다. -> 빈 DB 에 처음 뜰 때 한 번만 넣고, 그 다음부터는 count 쿼리 하나로 끝
+ *
+ *  board.startup.seed-if-empty : true 면 켬 (기본 false)
+ *  board.startup.seed-script   : 넣을 스크립트 (기본 classpath:data.sql)
+ *
+ *  대량 적재(BulkImportStartupRunner)보다 먼저, ApplicationReadyEvent(색인 rebuild)보다 먼저 돈다.
+ *  샤딩이면 data.sql 이 원래 들어가던 0번 샤드에만 넣는다. (ShardContext 를 안 정하면 0번)
+ * */
+@Slf4j
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@Component
+public class SeedDataRunner implements ApplicationRunner {
+
+    private final DataSource dataSource;
+    private final ResourceLoader resourceLoader;
+    private final boolean enabled;
+    private final String script;
+
+    public SeedDataRunner(DataSource dataSource,
+                          ResourceLoader resourceLoader,
+                          @Value("${board.startup.seed-if-empty:false}") boolean enabled,
+                          @Value("${board.startup.seed-script:classpath:data.sql}") String script) {
+        this.dataSource = dataSource;
+        this.resourceLoader = resourceLoader;
+        this.enabled = enabled;
+        this.script = script;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            return;
+        }
+        Long articles = new JdbcTemplate(dataSource).queryForObject("select count(*) from article", Long.class);
+        if (articles != null && articles > 0) {
+            log.info("seed skipped: {} articles already", articles);
+            return;
+        }
+        long start = System.currentTimeMillis();
+        ResourceDatabasePopulator populator = new ResourceDatabasePopulator(resourceLoader.getResource(script));
+        populator.setSqlScriptEncoding("UTF-8");
+        populator.execute(dataSource);
+        log.info("seeded empty database from {} in {} ms", script, System.currentTimeMillis() - start);
+    }
+}
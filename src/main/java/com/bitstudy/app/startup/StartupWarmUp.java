@@ -0,0 +1,92 @@
+package com.bitstudy.app.startup;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/* 시작할 때 한번 도는 무거운 준비 작업 (검색 색인, 해시태그 색인 rebuild 처럼 테이블을 통째로 읽는 것)
+ *  board.startup.background-warm-up=false (기본) : 지금처럼 ApplicationReadyEvent 안에서 바로 돈다.
+ *  board.startup.background-warm-up=true  (prod) : 스레드 하나에서 뒤로 돌린다. 요청은 바로 받고, 다 만들어질 때까지
+ *                                                  검색/태그 목록만 비어 있다. (만드는 동안 들어온 변경은 각 서비스가 모아뒀다가 적용함)
+ *
+ *  board.startup.exit-after-ready=true 면 다 뜨고 준비 작업까지 끝나면 종료한다. (AppCDS 아카이브 만들 때 학습용 실행, build.gradle 의 cdsArchive)
+ * */
+@Slf4j
+@Component
+public class StartupWarmUp implements DisposableBean {
+
+    private final ExecutorService executor; // background 가 아니면 null
+    private final boolean exitAfterReady;
+
+    public StartupWarmUp(@Value("${board.startup.background-warm-up:false}") boolean background,
+                         @Value("${board.startup.exit-after-ready:false}") boolean exitAfterReady) {
+        this.exitAfterReady = exitAfterReady;
+        if (background) {
+            CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("startup-warm-up-");
+            threadFactory.setDaemon(true);
+            this.executor = Executors.newSingleThreadExecutor(threadFactory);
+        } else {
+            this.executor = null;
+        }
+    }
+
+    public void run(String name, Runnable task) {
+        if (executor == null) {
+            timed(name, task);
+        } else {
+            executor.execute(() -> {
+                try {
+                    timed(name, task);
+                } catch (RuntimeException e) {
+                    log.warn("warm-up {} failed", name, e); // 앱은 그대로 뜬 상태. POST /admin/search/rebuild 같은 걸로 다시 돌린다.
+                }
+            });
+        }
+    }
+
+    @EventListener
+    public void onApplicationReady(ApplicationReadyEvent event) {
+        log.info("application ready: {} ms since JVM start", ManagementFactory.getRuntimeMXBean().getUptime());
+        if (!exitAfterReady) {
+            return;
+        }
+        /* 다른 ApplicationReadyEvent 리스너(색인 rebuild 등)가 다 돌고 main 이 끝난 다음에 닫는다. (리스너 순서에 기대지 않게) */
+        Thread main = Thread.currentThread();
+        Thread exit = new Thread(() -> {
+            try {
+                main.join();
+                if (executor != null) {
+                    executor.shutdown();
+                    executor.awaitTermination(10, TimeUnit.MINUTES);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            System.exit(SpringApplication.exit(event.getApplicationContext()));
+        }, "startup-exit");
+        exit.start();
+    }
+
+    @Override
+    public void destroy() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void timed(String name, Runnable task) {
+        long start = System.currentTimeMillis();
+        task.run();
+        log.info("warm-up {} done in {} ms", name, System.currentTimeMillis() - start);
+    }
+}
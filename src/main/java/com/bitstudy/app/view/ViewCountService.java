@@ -0,0 +1,133 @@
+package com.bitstudy.app.view;
+
+import com.bitstudy.app.dto.ArticleViewCount;
+import com.bitstudy.app.sharding.ShardContext;
+import com.bitstudy.app.sharding.SnowflakeIds;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/* 게시글 조회수
+ *  조회 한 번마다 update article set view_count = view_count + 1 을 하면 인기글 한 행의 락에 요청이 줄을 선다.
+ *  여기서는 게시글별 LongAdder 에 메모리로만 더해두고 (스레드마다 다른 칸에 더해서 서로 안 막힌다)
+ *  flush() 가 몇 초마다 쌓인 만큼을 batch update 한 번으로 DB 에 더한다.
+ *
+ *  - flush 간격: board.view-count.flush-interval-millis (기본 5000)
+ *  - 정상 종료할 때(@PreDestroy) 남은 것까지 flush 한다. (kill -9 면 마지막 간격만큼은 잃는다)
+ *  - DB 에 못 쓰면 다음 번에 다시 더하게 돌려놓는다.
+ *  - 순위(mostViewed)는 flush 할 때 한 번 읽어둔 목록에서 준다. 요청마다 article 테이블을 안 읽는다.
+ *
+ *  카운터는 한번 조회된 게시글마다 하나씩 계속 들고 있는다. (지우다가 그 사이에 더해진 조회수를 잃지 않게)
+ * */
+@Slf4j
+@Service
+public class ViewCountService {
+
+    public static final int MAX_RANKING = 100;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Map<Long, LongAdder> pending = new ConcurrentHashMap<>();
+    private volatile List<ArticleViewCount> ranking = List.of();
+
+    public ViewCountService(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void increment(Long articleId) {
+        pending.computeIfAbsent(articleId, id -> new LongAdder()).increment();
+    }
+
+    /* 아직 DB 에 안 들어간 조회수 */
+    public long pending(Long articleId) {
+        LongAdder adder = pending.get(articleId);
+        return adder == null ? 0 : adder.sum();
+    }
+
+    /* 조회수 많은 순 (최대 flush 간격만큼 늦다) */
+    public List<ArticleViewCount> mostViewed(int limit) {
+        List<ArticleViewCount> current = ranking;
+        return current.subList(0, Math.min(Math.max(0, limit), current.size()));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        refreshRanking();
+    }
+
+    @Scheduled(fixedDelayString = "${board.view-count.flush-interval-millis:5000}")
+    public void scheduledFlush() {
+        flush();
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        int articles = flush();
+        log.info("view counts flushed on shutdown: {} articles", articles);
+    }
+
+    /* @return 조회수가 바뀐 게시글 수
+     *  sumThenReset 은 칸마다 getAndSet(0) 이라 flush 중에 들어온 조회수도 이번 아니면 다음 번에 꼭 들어간다.
+     *  id 순으로 update 해서 여러 서버가 동시에 flush 해도 락 순서가 같다. (deadlock 방지) */
+    public synchronized int flush() {
+        Map<Long, Long> deltas = new TreeMap<>();
+        pending.forEach((id, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta != 0) {
+                deltas.put(id, delta);
+            }
+        });
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+
+        // 샤딩이면 게시글 id 에 들어있는 샤드별로 나눠서 보낸다. (없는 샤드를 가리키는 id 는 버린다)
+        List<Integer> shards = ShardContext.shards(jdbcTemplate.getDataSource());
+        Map<Integer, Map<Long, Long>> byShard = new TreeMap<>();
+        deltas.forEach((id, delta) -> {
+            int shard = shards.size() == 1 ? ShardContext.DEFAULT_SHARD : SnowflakeIds.shardOf(id);
+            if (shards.contains(shard)) {
+                byShard.computeIfAbsent(shard, s -> new TreeMap<>()).put(id, delta);
+            }
+        });
+        int[] flushed = {0};
+        byShard.forEach((shard, shardDeltas) -> {
+            List<Object[]> args = new ArrayList<>(shardDeltas.size());
+            shardDeltas.forEach((id, delta) -> args.add(new Object[]{delta, id}));
+            try {
+                ShardContext.runOn(shard, () ->
+                        jdbcTemplate.batchUpdate("update article set view_count = view_count + ? where id = ?", args));
+                flushed[0] += shardDeltas.size();
+            } catch (RuntimeException e) {
+                shardDeltas.forEach((id, delta) -> pending.computeIfAbsent(id, key -> new LongAdder()).add(delta));
+                log.warn("view count flush failed, {} articles kept for the next flush", shardDeltas.size(), e);
+            }
+        });
+        if (flushed[0] == 0) {
+            return 0;
+        }
+        refreshRanking();
+        return flushed[0];
+    }
+
+    /* 샤딩이면 샤드마다 상위 MAX_RANKING 개씩 읽어서 합친다. */
+    private void refreshRanking() {
+        List<ArticleViewCount> rows = new ArrayList<>();
+        ShardContext.forEachShard(jdbcTemplate.getDataSource(), () -> rows.addAll(jdbcTemplate.query(
+                "select id, title, view_count from article order by view_count desc, id desc limit " + MAX_RANKING,
+                (rs, rowNum) -> new ArticleViewCount(rs.getLong("id"), rs.getString("title"), rs.getLong("view_count")))));
+        rows.sort(Comparator.comparingLong(ArticleViewCount::viewCount).thenComparingLong(ArticleViewCount::id).reversed());
+        ranking = List.copyOf(rows.subList(0, Math.min(MAX_RANKING, rows.size())));
+    }
+}
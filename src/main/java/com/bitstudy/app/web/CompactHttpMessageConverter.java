@@ -0,0 +1,152 @@
+package com.bitstudy.app.web;
+
+import com.bitstudy.app.domain.Article;
+import com.bitstudy.app.domain.ArticleComment;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.hateoas.PagedModel;
+import org.springframework.hateoas.RepresentationModel;
+import org.springframework.hateoas.server.core.EmbeddedWrapper;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/* compact 응답 쓰기 (CompactMediaTypes, CompactFormatFilter 참고)
+ *  HAL 모델(PagedModel / CollectionModel / EntityModel)을 JsonGenerator 로 바로 흘려쓴다. (중간에 JsonNode 트리를 안 만든다)
+ *    PagedModel     -> {"content": [...], "page": {"size", "totalElements", "totalPages", "number"}}
+ *    CollectionModel-> {"content": [...]}
+ *    EntityModel    -> 엔티티 그대로 (연관관계는 id, CompactMixins)
+ *    링크만 있는 모델(/api 루트 등) -> {}
+ *    그 외(DTO 등)   -> 그대로
+ *
+ *  Data REST 컨트롤러는 produces 를 HAL/JSON 으로만 잡아서 Accept: application/cbor 로는 핸들러를 못 찾는다.
+ *  그래서 CompactFormatFilter 가 Accept 를 HAL 로 바꿔서 넘기고 요청 속성에 원래 형식을 적어두면,
+ *  이 컨버터(목록 맨 앞)가 그 요청의 HAL 응답을 가로채서 원래 형식으로 쓴다.
+ * */
+public class CompactHttpMessageConverter extends AbstractHttpMessageConverter<Object> {
+
+    public static final String FORMAT_ATTRIBUTE = CompactHttpMessageConverter.class.getName() + ".FORMAT";
+
+    private final Map<MediaType, ObjectMapper> mappers = new LinkedHashMap<>();
+
+    public CompactHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        super(mergeSupported());
+        builder.mixIn(Article.class, CompactMixins.ArticleMixin.class)
+                .mixIn(ArticleComment.class, CompactMixins.ArticleCommentMixin.class)
+                .featuresToDisable(SerializationFeature.FLUSH_AFTER_WRITE_VALUE); // 항목마다 flush 하지 않게
+        mappers.put(CompactMediaTypes.COMPACT_JSON, builder.build());
+        mappers.put(CompactMediaTypes.CBOR, builder.factory(new CBORFactory()).build());
+        mappers.put(CompactMediaTypes.SMILE, builder.factory(new SmileFactory()).build());
+    }
+
+    private static MediaType[] mergeSupported() {
+        List<MediaType> types = new ArrayList<>(CompactMediaTypes.ALL);
+        types.add(MediaTypes.HAL_JSON); // CompactFormatFilter 가 바꿔친 요청에서만 (canWrite 참고)
+        return types.toArray(new MediaType[0]);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return true;
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public boolean canWrite(Class<?> clazz, MediaType mediaType) {
+        return requestedFormat() != null && super.canWrite(clazz, mediaType);
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("compact 형식은 응답에만 씁니다", inputMessage);
+    }
+
+    @Override
+    protected void addDefaultHeaders(HttpHeaders headers, Object body, MediaType contentType)
+            throws IOException {
+        super.addDefaultHeaders(headers, body, requestedFormat());
+    }
+
+    @Override
+    protected void writeInternal(Object body, HttpOutputMessage outputMessage) throws IOException {
+        ObjectMapper mapper = mappers.get(requestedFormat());
+        JsonGenerator generator = mapper.getFactory().createGenerator(outputMessage.getBody());
+        writeModel(generator, mapper, body);
+        generator.flush();
+    }
+
+    private void writeModel(JsonGenerator generator, ObjectMapper mapper, Object body) throws IOException {
+        if (body instanceof EntityModel<?> entity) {
+            mapper.writeValue(generator, entity.getContent());
+        } else if (body instanceof CollectionModel<?> collection) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("content");
+            for (Object item : collection.getContent()) {
+                writeItem(generator, mapper, item);
+            }
+            generator.writeEndArray();
+            if (body instanceof PagedModel<?> paged && paged.getMetadata() != null) {
+                PagedModel.PageMetadata page = paged.getMetadata();
+                generator.writeObjectFieldStart("page");
+                generator.writeNumberField("size", page.getSize());
+                generator.writeNumberField("totalElements", page.getTotalElements());
+                generator.writeNumberField("totalPages", page.getTotalPages());
+                generator.writeNumberField("number", page.getNumber());
+                generator.writeEndObject();
+            }
+            generator.writeEndObject();
+        } else if (body instanceof RepresentationModel<?>) {
+            generator.writeStartObject();
+            generator.writeEndObject();
+        } else {
+            mapper.writeValue(generator, body);
+        }
+    }
+
+    /* Data REST 는 빈 목록을 EmbeddedWrapper(빈 컬렉션)로 넣어준다. */
+    private void writeItem(JsonGenerator generator, ObjectMapper mapper, Object item) throws IOException {
+        if (item instanceof EmbeddedWrapper wrapper) {
+            Object value = wrapper.getValue();
+            if (value instanceof Collection<?> values) {
+                for (Object each : values) {
+                    writeItem(generator, mapper, each);
+                }
+            } else {
+                writeItem(generator, mapper, value);
+            }
+        } else if (item instanceof EntityModel<?> entity) {
+            mapper.writeValue(generator, entity.getContent());
+        } else {
+            mapper.writeValue(generator, item);
+        }
+    }
+
+    private static MediaType requestedFormat() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        return attributes == null ? null
+                : (MediaType) attributes.getAttribute(FORMAT_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+    }
+}
@@ -0,0 +1,24 @@
+package com.bitstudy.app.web;
+
+import org.springframework.http.MediaType;
+
+import java.util.List;
+
+/* 서비스끼리 주고받을 때 쓰는 가벼운 응답 형식 (Accept 헤더로 고른다. 안 주면 기존처럼 HAL)
+ *  COMPACT_JSON : _links 없는 JSON
+ *  CBOR / SMILE : 같은 내용을 바이너리로 (필드 이름 반복이 줄고 숫자/날짜가 짧아진다)
+ * */
+public final class CompactMediaTypes {
+
+    public static final String COMPACT_JSON_VALUE = "application/vnd.board.compact+json";
+    public static final String CBOR_VALUE = "application/cbor";
+    public static final String SMILE_VALUE = "application/x-jackson-smile";
+
+    public static final MediaType COMPACT_JSON = MediaType.parseMediaType(COMPACT_JSON_VALUE);
+    public static final MediaType CBOR = MediaType.parseMediaType(CBOR_VALUE);
+    public static final MediaType SMILE = MediaType.parseMediaType(SMILE_VALUE);
+
+    public static final List<MediaType> ALL = List.of(COMPACT_JSON, CBOR, SMILE);
+
+    private CompactMediaTypes() {}
+}
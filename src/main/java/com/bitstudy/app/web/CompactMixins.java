@@ -0,0 +1,43 @@
+package com.bitstudy.app.web;
+
+import com.bitstudy.app.domain.Article;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import org.hibernate.proxy.HibernateProxy;
+
+import java.io.IOException;
+
+/* compact 형식에서 엔티티를 어떻게 쓸지 (엔티티 클래스는 안 건드리고 Jackson mix-in 으로)
+ *  HAL 에서는 연관관계가 _links 로 나가는데, 여기서는 링크 대신 id 만 쓴다.
+ *  - Article        : 댓글 컬렉션은 안 쓴다. (LAZY 초기화 + 순환 방지) 댓글 수는 commentCount 로 있다.
+ *  - ArticleComment : article 대신 articleId (프록시를 초기화하지 않고 id 만 꺼낸다)
+ * */
+final class CompactMixins {
+
+    private CompactMixins() {}
+
+    @JsonIgnoreProperties({"articleComments", "hibernateLazyInitializer", "handler"})
+    abstract static class ArticleMixin {
+    }
+
+    @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
+    abstract static class ArticleCommentMixin {
+        @JsonProperty("articleId")
+        @JsonSerialize(using = ArticleIdSerializer.class)
+        public abstract Article getArticle();
+    }
+
+    static class ArticleIdSerializer extends JsonSerializer<Article> {
+        @Override
+        public void serialize(Article article, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            Object id = article instanceof HibernateProxy proxy
+                    ? proxy.getHibernateLazyInitializer().getIdentifier()
+                    : article.getId();
+            generator.writeObject(id);
+        }
+    }
+}
@@ -1,1103 +1,1205 @@
-insert into Article (title, content, hashtag, created_at, created_by, modified_at, modified_by) values ('Suspendisse ornare consequat lectus.', 'Donec diam neque, vestibulum eget, vulputate ut, ultrices vel, augue. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Donec pharetra, magna vestibulum aliquet ultrices, erat tortor sollicitudin mi, sit amet lobortis sapien sapien non mi. Integer ac neque.', null, '2022-12-03 23:49:10', 'Benedict', '2022-06-29 16:44:11', 'Olly');
-insert into Article (title, content, hashtag, created_at, created_by, modified_at, modified_by) values ('In hac habitasse platea dictumst.', 'Maecenas leo odio, condimentum id, luctus nec, molestie sed, justo. Pellentesque viverra pede ac diam. Cras pellentesque volutpat dui.', 'Mauv', '2022-02-07 06:32:02', 'Eleonore', '2022-09-02 14:07:23', 'Celka');
-insert into Article (title, content, hashtag, created_at, created_by, modified_at, modified_by) values ('In quis justo.', 'Fusce posuere felis sed lacus. Morbi sem mauris, laoreet ut, rhoncus aliquet, pulvinar sed, nisl. Nunc rhoncus dui vel sem.', 'Green', '2022-09-01 20:09:11', 'Donny', '2022-07-06 15:28:31', 'Wallie');
-insert into Article (title, content, hashtag, created_at, created_by, modified_at, modified_by) values ('Mauris enim leo, rhoncus sed, vestibulum sit amet, cursus id, turpis.', 'Mauris enim leo, rhoncus sed, vestibulum sit amet, cursus id, turpis. Integer aliquet, massa id lobortis convallis, tortor risus dapibus augue, vel accumsan tellus nisi eu orci. Mauris lacinia sapien quis libero.', null, '2022-07-12 20:43:28', 'Leodora', '2022-10-12 09:42:52', 'Trude');
-insert into Article (title, content, hashtag, created_at, created_by, modified_at, modified_by) values ('Aliquam non mauris.', 'Maecenas ut massa quis augue luctus tincidunt. Nulla mollis molestie lorem. Quisque ut erat.', null, '2022-01-05 01:35:41', 'Wallis', '2022-11-23 21:55:56', 'Marline');
-insert into Article (title, content, hashtag, created_at, created_by, modified_at, modified_by) values ('Maecenas leo odio, condimentum id, luctus nec, molestie sed, justo.', 'Cras mi pede, malesuada in, imperdiet et, commodo vulputate, justo. In blandit ultrices enim. Lorem ipsum dolor sit amet, consectetuer adipiscing elit.', null, '2022-02-22 02:15:23', 'Nicol', '2022-08-22 19:32:20', 'Tabatha');
-insert into Article (title, content, hashtag, created_at, created_by, modified_at, modified_by) values ('Duis at velit eu est congue elementum.', 'Fusce consequat. Nulla nisl. Nunc nisl.', 'Fuscia', '2022-04-23 09:50:58', 'Peta', '2022-05-15 06:05:44', 'Gwen');
-insert into Article (title, content, hashtag, created_at, created_by, modified_at, modified_by) values ('Suspendisse ornare consequat lectus.', 'Quisque porta volutpat erat. Quisque erat eros, viverra eget, congue eget, semper rutrum, nulla. Nunc purus.', 'Violet', '2022-08-14 13:24:41', 'Casey', '2022-02-04 20:01:40', 'Ronny');
-insert into Article (title, content, hashtag, created_at, created_by, modified_at, modified_by) values ('Integer aliquet, massa id lobortis convallis, tortor risus dapibus augue, vel accumsan tellus nisi eu orci.', 'Vestibulum quam sapien, varius ut, blandit non, interdum in, ante. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Duis faucibus accumsan odio. Curabitur convallis.', 'Blue', '2022-02-03 19:53:51', 'Mame', '2022-10-05 21:10:49', 'Ephrayim');
-insert into Article (title, content, hashtag, created_at, created_by, modified_at, modified_by) values ('Duis bibendum, felis sed interdum venenatis, turpis enim blandit mi, in porttitor pede justo eu massa.', 'In congue. Etiam justo. Etiam pretium iaculis justo.', null, '2022-07-27 09:13:01', 'Lucho', '2022-10-07 07:01:36', 'Alistair');
-insert into Article (title, content, hashtag, created_at, created_by, modified_at, modified_by) values ('Nulla tellus.', 'Duis bibendum, felis sed interdum venenatis, turpis enim blandit mi, in porttitor pede justo eu massa. Donec dapibus. Duis at velit eu est congue elementum.', 'Aquamarine', '2022-08-24 11:54:45', 'Matelda', '2022-03-24 22:47:35', 'Geoff');
-insert into Article (title, content, hashtag, created_at, created_by, modified_at, modified_by) values ('Pellentesque eget nunc.', 'Proin leo odio, porttitor id, consequat in, consequat ut, nulla. Sed accumsan felis. Ut at dolor quis odio consequat varius.', 'Puce', '2022-09-04 21:12:49', 'Joanne', '2022-10-01 23:27:24', 'Ibby');
-insert into Article (title, content, hashtag, created_at, created_by, modified_at, modified_by) values ('Aenean auctor gravida sem.', 'Pellentesque at nulla. Suspendisse potenti. Cras in purus eu magna vulputate luctus.', null, '2022-09-06 07:51:46', 'Gerhardine', '2022-03-27 15:14:08', 'Robers');
-insert into Article (title, content, hashtag, created_at, created_by, modified_at, modified_by) values ('Donec dapibus.', 'Phasellus sit amet erat. Nulla tempus. Vivamus in felis eu sapien cursus vestibulum.', null, '2022-06-11 07:27:48', 'Marcile', '2022-02-12 12:15:33', 'Ambur');
-insert into Article (title, content, hashtag, created_at, created_by, modified_at, modified_by) values ('Nullam porttitor lacus at turpis.', 'In hac habitasse platea dictumst. Morbi vestibulum, velit id pretium iaculis, diam erat fermentum justo, nec condimentum neque sapien placerat ante. Nulla justo.', 'Turquoise', '2022-03-08 08:23:05', 'Tim', '2022-10-15 23:17:38', 'Erek');
-insert into Article (title, content, hashtag, created_at, created_by, modified_at, modified_by) values ('Morbi a ipsum.', 'Duis bibendum, felis sed interdum venenatis, turpis enim blandit mi, in porttitor pede justo eu massa. Donec dapibus. Duis at velit eu est congue elementum.', 'Khaki', '2022-11-26 04:46:04', 'Othello', '2022-04-19 15:49:41', 'Cyb');
-insert into Article (title, content, hashtag, created_at, created_by, modified_at, modified_by) values ('Aenean auctor gravida sem.', 'Proin leo odio, porttitor id, consequat in, consequat ut, nulla. Sed accumsan felis. Ut at dolor quis odio consequat varius.', null, '2022-05-02 05:09:44', 'Tana', '2022-11-11 08:09:22', 'Wrennie');
-insert into Article (title, content, hashtag, created_at, created_by, modified_at, modified_by) values ('Suspendisse ornare consequat lectus.', 'Morbi non lectus. Aliquam sit amet diam in magna bibendum imperdiet. Nullam orci pede, venenatis non, sodales sed, tincidunt eu, felis.', 'Turquoise', '2022-04-26 10:19:28', 'Sonny', '2022-03-19 15:08:03', 'Julianna');
-insert into Article (title, content, hashtag, created_at, created_by, modified_at, modified_by) values ('Nam nulla.', 'Morbi porttitor lorem id ligula. Suspendisse ornare consequat lectus. In est risus, auctor sed, tristique in, tempus sit amet, sem.', 'Fuscia', '2022-03-10 07:21:20', 'Jecho', '2022-04-20 03:28:27', 'Kayley');
-insert into Article (title, content, hashtag, created_at, created_by, modified_at, modified_by) values ('Phasellus in felis.', 'Sed sagittis. Nam congue, risus semper porta volutpat, quam pede lobortis ligula, sit amet eleifend pede libero quis orci. Nullam molestie nibh in lectus.', 'Orange', '2022-03-03 06:34:06', 'Sharla', '2022-06-03 09:04:29', 'Louie');
-insert into Article (title, content, hashtag, created_at, created_by, modified_at, modified_by) values ('Vivamus vel nulla eget eros elementum pellentesque.', 'In sagittis dui vel nisl. Duis ac nibh. Fusce lacus purus, aliquet at, feugiat non, pretium quis, lectus.', null, '2022-03-24 05:32:46', 'Pyotr', '2022-01-05 07:45:07', 'Meredith');
-insert into Article (title, content, hashtag, created_at, created_by, modified_at, modified_by) values ('Vivamus tortor.', 'Cras mi pede, malesuada in, imperdiet et, commodo vulputate, justo. In blandit ultrices enim. Lorem ipsum dolor sit amet, consectetuer adipiscing elit.', null, '2022-11-29 16:25:12', 'Krystal', '2022-08-30 06:52:32', 'Augustine');
-insert into Article (title, content, hashtag, created_at, created_by, modified_at, modified_by) values ('In sagittis dui vel nisl.', 'Phasellus in felis. Donec semper sapien a libero. Nam dui.', 'Yellow', '2022-05-11 23:08:11', 'Oliviero', '2021-12-26 06:02:52', 'Staford');
-insert into Article (title, content, hashtag, created_at, created_by, modified_at, modified_by) values ('Nulla facilisi.', 'Fusce posuere felis sed lacus. Morbi sem mauris, laoreet ut, rhoncus aliquet, pulvinar sed, nisl. Nunc rhoncus dui vel sem.', null, '2022-11-07 12:57:57', 'Meg', '2022-09-19 10:27:56', 'Bibbye');
-insert into Article (title, content, hashtag, created_at, created_by, modified_at, modified_by) values ('Fusce consequat.', 'Nullam sit amet turpis elementum ligula vehicula consequat. Morbi a ipsum. Integer a nibh.', 'Goldenrod', '2022-06-03 16:26:40', 'Miranda', '2022-03-23 10:26:09', 'Edita');
-insert into Article (title, content, hashtag, created_at, created_by, modified_at, modified_by) values ('Sed ante.', 'Duis bibendum. Morbi non quam nec dui luctus rutrum. Nulla tellus.', 'Violet', '2022-02-09 20:54:47', 'Roscoe', '2022-12-05 05:47:32', 'Brandy');
-insert into Article (title, content, hashtag, created_at, created_by, modified_at, modified_by) values ('Duis bibendum, felis sed interdum venenatis, turpis enim blandit mi, in porttitor pede justo eu massa.', 'Duis aliquam convallis nunc. Proin at turpis a pede posuere nonummy. Integer non velit.', 'Indigo', '2022-11-01 01:08:27', 'Abagail', '2022-08-11 05:01:16', 'Melantha');
-insert into Article (title, content, hashtag, created_at, created_by, modified_at, modified_by) values ('Maecenas ut massa quis augue luctus tincidunt.', 'Vestibulum quam sapien, varius ut, blandit non, interdum in, ante. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Duis faucibus accumsan odio. Curabitur convallis.', 'Turquoise', '2022-07-30 22:51:59', 'Sheppard', '2022-04-01 02:43:25', 'Jodi');
-insert into Article (title, content, hashtag, created_at, created_by, modified_at, modified_by) values ('Vestibulum rutrum rutrum neque.', 'Aenean fermentum. Donec ut mauris eget massa tempor convallis. Nulla neque libero, convallis eget, eleifend luctus, ultricies eu, nibh.', 'Orange', '2022-02-27 22:01:11', 'Gil', '2022-05-12 22:09:40', 'Bab');
-insert into Article (title, content, hashtag, created_at, created_by, modified_at, modified_by) values ('Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus.', 'Vestibulum quam sapien, varius ut, blandit non, interdum in, ante. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Duis faucibus accumsan odio. Curabitur convallis.', 'Orange', '2022-10-01 06:36:39', 'Cindie', '2022-12-09 10:07:49', 'Constanta');
-insert into Article (title, content, hashtag, created_at, created_by, modified_at, modified_by) values ('Sed accumsan felis.', 'Proin eu mi. Nulla ac enim. In tempor, turpis nec euismod scelerisque, quam turpis adipiscing lorem, vitae mattis nibh ligula nec sem.', null, '2022-10-17 00:38:30', 'Irwin', '2022-04-24 17:35:35', 'Gwendolen');
-insert into Article (title, content, hashtag, created_at, created_by, modified_at, modified_by) values ('Nulla justo.', 'Nam ultrices, libero non mattis pulvinar, nulla pede ullamcorper augue, a suscipit nulla elit ac nulla. Sed vel enim sit amet nunc viverra dapibus. Nulla suscipit ligula in lacus.', 'Khaki', '2022-06-17 18:06:34', 'Aaren', '2022-09-14 19:52:34', 'Cookie');
-insert into Article (title, content, hashtag, created_at, created_by, modified_at, modified_by) values ('Aenean lectus.', 'Praesent blandit. Nam nulla. Integer pede justo, lacinia eget, tincidunt eget, tempus vel, pede.', 'Crimson', '2022-07-11 21:37:38', 'Hali', '2022-02-16 02:50:16', 'Brook');
-insert into Article (title, content, hashtag, created_at, created_by, modified_at, modified_by) values ('Nulla justo.', 'Cras mi pede, malesuada in, imperdiet et, commodo vulputate, justo. In blandit ultrices enim. Lorem ipsum dolor sit amet, consectetuer adipiscing elit.', 'Maroon', '2022-03-12 06:59:35', 'Margaux', '2022-10-12 19:21:05', 'Hildegarde');
-insert into Article (title, content, hashtag, created_at, created_by, modified_at, modified_by) values ('Nullam sit amet turpis elementum ligula vehicula consequat.', 'Vestibulum ac est lacinia nisi venenatis tristique. Fusce congue, diam id ornare imperdiet, sapien urna pretium nisl, ut volutpat sapien arcu sed augue. Aliquam erat volutpat.', null, '2022-08-11 01:34:28', 'Wallache', '2022-07-06 15:32:08', 'Peg');
-insert into Article (title, content, hashtag, created_at, created_by, modified_at, modified_by) values ('Fusce consequat.', 'Duis aliquam convallis nunc. Proin at turpis a pede posuere nonummy. Integer non velit.', 'Mauv', '2022-10-20 22:14:52', 'Olivie', '2022-02-21 12:38:41', 'Alexio');
-insert into Article (title, content, hashtag, created_at, created_by, modified_at, modified_by) values ('Pellentesque at nulla.', 'Maecenas leo odio, condimentum id, luctus nec, molestie sed, justo. Pellentesque viverra pede ac diam. Cras pellentesque volutpat dui.', null, '2022-07-26 17:13:27', 'Bess', '2022-08-25 01:44:25', 'Ardene');
-insert into Article (title, content, hashtag, created_at, created_by, modified_at, modified_by) values ('Phasellus sit amet erat.', 'Phasellus sit amet erat. Nulla tempus. Vivamus in felis eu sapien cursus vestibulum.', 'Puce', '2022-04-14 16:45:06', 'Melany', '2022-09-19 18:20:02', 'Brantley');
-insert into Article (title, content, hashtag, created_at, created_by, modified_at, modified_by) values ('Nam dui.', 'Fusce posuere felis sed lacus. Morbi sem mauris, laoreet ut, rhoncus aliquet, pulvinar sed, nisl. Nunc rhoncus dui vel sem.', 'Green', '2022-06-24 10:43:08', 'Bartholemy', '2022-07-21 17:36:44', 'Georgine');
-insert into Article (title, content, hashtag, created_at, created_by, modified_at, modified_by) values ('Morbi vel lectus in quam fringilla rhoncus.', 'Etiam vel augue. Vestibulum rutrum rutrum neque. Aenean auctor gravida sem.', 'Mauv', '2022-07-17 10:49:20', 'Parry', '2022-12-01 01:51:05', 'Max');
-insert into Article (title, content, hashtag, created_at, created_by, modified_at, modified_by) values ('Duis consequat dui nec nisi volutpat eleifend.', 'Duis bibendum. Morbi non quam nec dui luctus rutrum. Nulla tellus.', 'Maroon', '2022-11-09 06:57:28', 'Genovera', '2022-05-18 05:19:37', 'Sarina');
-insert into Article (title, content, hashtag, created_at, created_by, modified_at, modified_by) values ('Duis bibendum.', 'Duis bibendum, felis sed interdum venenatis, turpis enim blandit mi, in porttitor pede justo eu massa. Donec dapibus. Duis at velit eu est congue elementum.', 'Khaki', '2022-03-23 06:13:10', 'Therese', '2022-12-04 11:34:38', 'Daphne');
-insert into Article (title, content, hashtag, created_at, created_by, modified_at, modified_by) values ('Integer tincidunt ante vel ipsum.', 'Nam ultrices, libero non mattis pulvinar, nulla pede ullamcorper augue, a suscipit nulla elit ac nulla. Sed vel enim sit amet nunc viverra dapibus. Nulla suscipit ligula in lacus.', null, '2022-04-26 14:46:18', 'Doria', '2022-04-25 14:21:02', 'Dore');
-insert into Article (title, content, hashtag, created_at, created_by, modified_at, modified_by) values ('Phasellus sit amet erat.', 'In congue. Etiam justo. Etiam pretium iaculis justo.', 'Violet', '2022-02-28 12:37:32', 'Ralf', '2022-10-01 07:14:07', 'Lurette');
-insert into Article (title, content, hashtag, created_at, created_by, modified_at, modified_by) values ('In blandit ultrices enim.', 'Praesent id massa id nisl venenatis lacinia. Aenean sit amet justo. Morbi ut odio.', 'Indigo', '2022-07-28 16:58:12', 'Rea', '2022-01-12 21:12:01', 'Arni');
-insert into Article (title, content, hashtag, created_at, created_by, modified_at, modified_by) values ('Vestibulum sed magna at nunc commodo placerat.', 'Nullam porttitor lacus at turpis. Donec posuere metus vitae ipsum. Aliquam non mauris.', null, '2022-12-15 16:17:04', 'Jodi', '2022-07-05 10:20:32', 'Shelby');
-insert into Article (title, content, hashtag, created_at, created_by, modified_at, modified_by) values ('Morbi odio odio, elementum eu, interdum eu, tincidunt in, leo.', 'Duis aliquam convallis nunc. Proin at turpis a pede posuere nonummy. Integer non velit.', 'Mauv', '2022-05-30 01:28:07', 'Caralie', '2022-06-04 01:01:39', 'Anjela');
-insert into Article (title, content, hashtag, created_at, created_by, modified_at, modified_by) values ('Suspendisse potenti.', 'Curabitur in libero ut massa volutpat convallis. Morbi odio odio, elementum eu, interdum eu, tincidunt in, leo. Maecenas pulvinar lobortis est.', 'Blue', '2022-04-25 06:17:50', 'Tito', '2022-01-25 19:13:57', 'Ambros');
-insert into Article (title, content, hashtag, created_at, created_by, modified_at, modified_by) values ('Morbi non quam nec dui luctus rutrum.', 'In quis justo. Maecenas rhoncus aliquam lacus. Morbi quis tortor id nulla ultrices aliquet.', 'Teal', '2022-08-20 11:35:53', 'Fidelity', '2022-04-18 07:49:10', 'Lorita');
-insert into Article (title, content, hashtag, created_at, created_by, modified_at, modified_by) values ('Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Duis faucibus accumsan odio.', 'Phasellus in felis. Donec semper sapien a libero. Nam dui.', 'Pink', '2022-04-07 18:28:57', 'Doralyn', '2022-08-02 07:19:27', 'Mitchel');
-insert into Article (title, content, hashtag, created_at, created_by, modified_at, modified_by) values ('Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Mauris viverra diam vitae quam.', 'Praesent id massa id nisl venenatis lacinia. Aenean sit amet justo. Morbi ut odio.', 'Khaki', '2022-04-13 21:02:29', 'Dianna', '2021-12-25 05:16:41', 'Fitzgerald');
-insert into Article (title, content, hashtag, created_at, created_by, modified_at, modified_by) values ('In eleifend quam a odio.', 'Duis bibendum. Morbi non quam nec dui luctus rutrum. Nulla tellus.', null, '2022-01-01 04:46:33', 'Rodney', '2022-05-19 08:22:03', 'Jock');
-insert into Article (title, content, hashtag, created_at, created_by, modified_at, modified_by) values ('Aliquam sit amet diam in magna bibendum imperdiet.', 'Proin leo odio, porttitor id, consequat in, consequat ut, nulla. Sed accumsan felis. Ut at dolor quis odio consequat varius.', 'Aquamarine', '2022-06-09 10:22:19', 'Bamby', '2022-11-28 00:38:49', 'Rosina');
-insert into Article (title, content, hashtag, created_at, created_by, modified_at, modified_by) values ('Donec diam neque, vestibulum eget, vulputate ut, ultrices vel, augue.', 'Cras mi pede, malesuada in, imperdiet et, commodo vulputate, justo. In blandit ultrices enim. Lorem ipsum dolor sit amet, consectetuer adipiscing elit.', 'Puce', '2022-06-06 23:37:47', 'Brenden', '2022-04-10 21:06:27', 'Karoly');
-insert into Article (title, content, hashtag, created_at, created_by, modified_at, modified_by) values ('Vestibulum sed magna at nunc commodo placerat.', 'In quis justo. Maecenas rhoncus aliquam lacus. Morbi quis tortor id nulla ultrices aliquet.', null, '2022-06-27 03:13:06', 'Richard', '2022-04-15 16:52:09', 'Ram');
-insert into Article (title, content, hashtag, created_at, created_by, modified_at, modified_by) values ('Maecenas rhoncus aliquam lacus.', 'Maecenas leo odio, condimentum id, luctus nec, molestie sed, justo. Pellentesque viverra pede ac diam. Cras pellentesque volutpat dui.', 'Indigo', '2022-01-05 06:44:24', 'Arron', '2022-07-05 15:16:11', 'Alistair');
-insert into Article (title, content, hashtag, created_at, created_by, modified_at, modified_by) values ('Vestibulum rutrum rutrum neque.', 'Quisque porta volutpat erat. Quisque erat eros, viverra eget, congue eget, semper rutrum, nulla. Nunc purus.', null, '2022-10-27 05:05:26', 'Burt', '2022-11-15 00:33:59', 'Gustaf');
-insert into Article (title, content, hashtag, created_at, created_by, modified_at, modified_by) values ('Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus.', 'Mauris enim leo, rhoncus sed, vestibulum sit amet, cursus id, turpis. Integer aliquet, massa id lobortis convallis, tortor risus dapibus augue, vel accumsan tellus nisi eu orci. Mauris lacinia sapien quis libero.', 'Maroon', '2022-07-11 12:52:58', 'Elvis', '2022-05-11 14:57:56', 'Laverne');
-insert into Article (title, content, hashtag, created_at, created_by, modified_at, modified_by) values ('Integer ac leo.', 'Quisque porta volutpat erat. Quisque erat eros, viverra eget, congue eget, semper rutrum, nulla. Nunc purus.', 'Maroon', '2022-01-12 04:06:37', 'Bellanca', '2022-01-01 14:33:39', 'Englebert');
-insert into Article (title, content, hashtag, created_at, created_by, modified_at, modified_by) values ('Integer ac neque.', 'Fusce posuere felis sed lacus. Morbi sem mauris, laoreet ut, rhoncus aliquet, pulvinar sed, nisl. Nunc rhoncus dui vel sem.', null, '2022-03-04 23:44:27', 'Esta', '2022-11-30 21:35:09', 'Annalise');
-insert into Article (title, content, hashtag, created_at, created_by, modified_at, modified_by) values ('Nullam sit amet turpis elementum ligula vehicula consequat.', 'In hac habitasse platea dictumst. Etiam faucibus cursus urna. Ut tellus.', null, '2022-08-04 01:01:53', 'Sybila', '2022-11-11 13:54:43', 'Gabbey');
-insert into Article (title, content, hashtag, created_at, created_by, modified_at, modified_by) values ('Nulla nisl.', 'Sed ante. Vivamus tortor. Duis mattis egestas metus.', null, '2022-01-24 20:53:55', 'Murray', '2022-11-10 19:33:17', 'Vallie');
-insert into Article (title, content, hashtag, created_at, created_by, modified_at, modified_by) values ('Nulla justo.', 'Phasellus sit amet erat. Nulla tempus. Vivamus in felis eu sapien cursus vestibulum.', 'Maroon', '2022-06-03 16:32:18', 'Bryana', '2022-05-24 02:47:53', 'Padraig');
-insert into Article (title, content, hashtag, created_at, created_by, modified_at, modified_by) values ('Morbi non lectus.', 'Lorem ipsum dolor sit amet, consectetuer adipiscing elit. Proin risus. Praesent lectus.', 'Goldenrod', '2022-09-07 07:31:11', 'Roderigo', '2022-01-16 06:53:27', 'Shaughn');
-insert into Article (title, content, hashtag, created_at, created_by, modified_at, modified_by) values ('Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Donec pharetra, magna vestibulum aliquet ultrices, erat tortor sollicitudin mi, sit amet lobortis sapien sapien non mi.', 'Duis bibendum, felis sed interdum venenatis, turpis enim blandit mi, in porttitor pede justo eu massa. Donec dapibus. Duis at velit eu est congue elementum.', 'Maroon', '2022-02-16 01:08:29', 'Nerty', '2022-03-31 16:21:46', 'Cynthy');
-insert into Article (title, content, hashtag, created_at, created_by, modified_at, modified_by) values ('Integer ac neque.', 'Proin leo odio, porttitor id, consequat in, consequat ut, nulla. Sed accumsan felis. Ut at dolor quis odio consequat varius.', 'Crimson', '2022-05-23 14:09:04', 'Brandy', '2022-08-27 13:45:22', 'Malory');
-insert into Article (title, content, hashtag, created_at, created_by, modified_at, modified_by) values ('In blandit ultrices enim.', 'Duis bibendum, felis sed interdum venenatis, turpis enim blandit mi, in porttitor pede justo eu massa. Donec dapibus. Duis at velit eu est congue elementum.', 'Pink', '2022-08-01 00:11:29', 'Demetris', '2022-06-09 15:46:57', 'Gare');
-insert into Article (title, content, hashtag, created_at, created_by, modified_at, modified_by) values ('Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Nulla dapibus dolor vel est.', 'Phasellus sit amet erat. Nulla tempus. Vivamus in felis eu sapien cursus vestibulum.', 'Red', '2022-01-05 03:58:20', 'Gian', '2022-08-04 16:58:27', 'Cosme');
-insert into Article (title, content, hashtag, created_at, created_by, modified_at, modified_by) values ('Cras in purus eu magna vulputate luctus.', 'Duis consequat dui nec nisi volutpat eleifend. Donec ut dolor. Morbi vel lectus in quam fringilla rhoncus.', 'Puce', '2022-10-28 00:54:10', 'Courtnay', '2022-09-11 12:11:20', 'Issie');
-insert into Article (title, content, hashtag, created_at, created_by, modified_at, modified_by) values ('Nunc purus.', 'In hac habitasse platea dictumst. Morbi vestibulum, velit id pretium iaculis, diam erat fermentum justo, nec condimentum neque sapien placerat ante. Nulla justo.', 'Purple', '2022-09-05 14:52:40', 'Sonnie', '2022-07-16 06:16:38', 'Dolores');
-insert into Article (title, content, hashtag, created_at, created_by, modified_at, modified_by) values ('Sed vel enim sit amet nunc viverra dapibus.', 'Sed sagittis. Nam congue, risus semper porta volutpat, quam pede lobortis ligula, sit amet eleifend pede libero quis orci. Nullam molestie nibh in lectus.', null, '2022-05-18 10:52:36', 'Juli', '2022-04-21 22:31:31', 'Charin');
-insert into Article (title, content, hashtag, created_at, created_by, modified_at, modified_by) values ('Vestibulum quam sapien, varius ut, blandit non, interdum in, ante.', 'In hac habitasse platea dictumst. Etiam faucibus cursus urna. Ut tellus.', 'Mauv', '2022-11-07 10:28:23', 'Daren', '2022-04-22 00:05:58', 'Carina');
-insert into Article (title, content, hashtag, created_at, created_by, modified_at, modified_by) values ('Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Nulla dapibus dolor vel est.', 'Integer tincidunt ante vel ipsum. Praesent blandit lacinia erat. Vestibulum sed magna at nunc commodo placerat.', 'Pink', '2022-06-18 19:34:28', 'Arlyn', '2022-12-17 07:28:01', 'Homer');
-insert into Article (title, content, hashtag, created_at, created_by, modified_at, modified_by) values ('Aliquam non mauris.', 'Etiam vel augue. Vestibulum rutrum rutrum neque. Aenean auctor gravida sem.', 'Blue', '2022-07-13 11:26:25', 'Linnell', '2022-06-04 00:36:08', 'Cherilyn');
-insert into Article (title, content, hashtag, created_at, created_by, modified_at, modified_by) values ('Donec semper sapien a libero.', 'Suspendisse potenti. In eleifend quam a odio. In hac habitasse platea dictumst.', null, '2022-02-25 04:04:15', 'Loree', '2022-02-14 13:39:35', 'Dominique');
-insert into Article (title, content, hashtag, created_at, created_by, modified_at, modified_by) values ('Vivamus metus arcu, adipiscing molestie, hendrerit at, vulputate vitae, nisl.', 'Quisque id justo sit amet sapien dignissim vestibulum. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Nulla dapibus dolor vel est. Donec odio justo, sollicitudin ut, suscipit a, feugiat et, eros.', 'Blue', '2022-10-20 23:38:48', 'Petunia', '2022-11-01 06:39:33', 'Cecil');
-insert into Article (title, content, hashtag, created_at, created_by, modified_at, modified_by) values ('Integer non velit.', 'Curabitur gravida nisi at nibh. In hac habitasse platea dictumst. Aliquam augue quam, sollicitudin vitae, consectetuer eget, rutrum at, lorem.', 'Mauv', '2022-12-13 00:38:00', 'Vivia', '2022-08-27 00:08:34', 'Myrta');
-insert into Article (title, content, hashtag, created_at, created_by, modified_at, modified_by) values ('Pellentesque at nulla.', 'Proin eu mi. Nulla ac enim. In tempor, turpis nec euismod scelerisque, quam turpis adipiscing lorem, vitae mattis nibh ligula nec sem.', 'Crimson', '2022-07-17 10:44:21', 'Romonda', '2022-05-08 03:12:42', 'Timotheus');
-insert into Article (title, content, hashtag, created_at, created_by, modified_at, modified_by) values ('Phasellus id sapien in sapien iaculis congue.', 'In congue. Etiam justo. Etiam pretium iaculis justo.', 'Goldenrod', '2021-12-29 16:44:03', 'Alexander', '2022-02-06 16:11:22', 'Kally');
-insert into Article (title, content, hashtag, created_at, created_by, modified_at, modified_by) values ('Donec ut mauris eget massa tempor convallis.', 'Vestibulum ac est lacinia nisi venenatis tristique. Fusce congue, diam id ornare imperdiet, sapien urna pretium nisl, ut volutpat sapien arcu sed augue. Aliquam erat volutpat.', null, '2022-09-03 22:42:00', 'Lavina', '2022-09-14 14:42:05', 'Sarena');
-insert into Article (title, content, hashtag, created_at, created_by, modified_at, modified_by) values ('Donec odio justo, sollicitudin ut, suscipit a, feugiat et, eros.', 'Phasellus sit amet erat. Nulla tempus. Vivamus in felis eu sapien cursus vestibulum.', 'Pink', '2022-04-12 03:23:16', 'Dill', '2022-05-02 18:32:01', 'Cale');
-insert into Article (title, content, hashtag, created_at, created_by, modified_at, modified_by) values ('Etiam faucibus cursus urna.', 'In hac habitasse platea dictumst. Etiam faucibus cursus urna. Ut tellus.', 'Red', '2022-08-31 12:16:38', 'Miguel', '2022-10-04 19:30:48', 'Adore');
-insert into Article (title, content, hashtag, created_at, created_by, modified_at, modified_by) values ('Phasellus in felis.', 'Nam ultrices, libero non mattis pulvinar, nulla pede ullamcorper augue, a suscipit nulla elit ac nulla. Sed vel enim sit amet nunc viverra dapibus. Nulla suscipit ligula in lacus.', 'Puce', '2022-04-04 07:06:49', 'Bibbye', '2022-01-26 05:29:07', 'Kermy');
-insert into Article (title, content, hashtag, created_at, created_by, modified_at, modified_by) values ('Aliquam erat volutpat.', 'Sed ante. Vivamus tortor. Duis mattis egestas metus.', 'Violet', '2022-05-06 00:22:20', 'Helenka', '2022-06-18 01:56:50', 'Tine');
-insert into Article (title, content, hashtag, created_at, created_by, modified_at, modified_by) values ('Duis bibendum.', 'In hac habitasse platea dictumst. Morbi vestibulum, velit id pretium iaculis, diam erat fermentum justo, nec condimentum neque sapien placerat ante. Nulla justo.', 'Aquamarine', '2022-04-21 12:11:34', 'Reinaldo', '2022-05-10 11:03:34', 'Bartolemo');
-insert into Article (title, content, hashtag, created_at, created_by, modified_at, modified_by) values ('Aliquam augue quam, sollicitudin vitae, consectetuer eget, rutrum at, lorem.', 'In hac habitasse platea dictumst. Morbi vestibulum, velit id pretium iaculis, diam erat fermentum justo, nec condimentum neque sapien placerat ante. Nulla justo.', null, '2022-04-18 07:27:30', 'Hyacinthe', '2022-03-08 08:25:42', 'Conant');
-insert into Article (title, content, hashtag, created_at, created_by, modified_at, modified_by) values ('Mauris ullamcorper purus sit amet nulla.', 'Phasellus sit amet erat. Nulla tempus. Vivamus in felis eu sapien cursus vestibulum.', 'Purple', '2022-07-19 12:25:57', 'Domingo', '2022-04-25 07:26:00', 'Fielding');
-insert into Article (title, content, hashtag, created_at, created_by, modified_at, modified_by) values ('Nunc purus.', 'Curabitur in libero ut massa volutpat convallis. Morbi odio odio, elementum eu, interdum eu, tincidunt in, leo. Maecenas pulvinar lobortis est.', 'Teal', '2022-06-04 11:57:53', 'Eleonore', '2022-01-18 20:32:08', 'Ricki');
-insert into Article (title, content, hashtag, created_at, created_by, modified_at, modified_by) values ('Curabitur convallis.', 'Quisque porta volutpat erat. Quisque erat eros, viverra eget, congue eget, semper rutrum, nulla. Nunc purus.', 'Indigo', '2022-02-19 01:44:41', 'Banky', '2022-05-23 19:32:10', 'Sabrina');
-insert into Article (title, content, hashtag, created_at, created_by, modified_at, modified_by) values ('Nulla tellus.', 'Duis consequat dui nec nisi volutpat eleifend. Donec ut dolor. Morbi vel lectus in quam fringilla rhoncus.', 'Purple', '2022-11-08 05:36:00', 'Johannah', '2022-07-27 13:03:02', 'Cord');
-insert into Article (title, content, hashtag, created_at, created_by, modified_at, modified_by) values ('Aliquam sit amet diam in magna bibendum imperdiet.', 'Phasellus sit amet erat. Nulla tempus. Vivamus in felis eu sapien cursus vestibulum.', 'Khaki', '2022-04-25 08:03:51', 'Marjorie', '2022-05-30 16:57:53', 'Delmer');
-insert into Article (title, content, hashtag, created_at, created_by, modified_at, modified_by) values ('Pellentesque at nulla.', 'Donec diam neque, vestibulum eget, vulputate ut, ultrices vel, augue. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Donec pharetra, magna vestibulum aliquet ultrices, erat tortor sollicitudin mi, sit amet lobortis sapien sapien non mi. Integer ac neque.', null, '2022-10-22 01:15:57', 'Felipe', '2022-11-27 18:09:48', 'Cecil');
-insert into Article (title, content, hashtag, created_at, created_by, modified_at, modified_by) values ('Fusce congue, diam id ornare imperdiet, sapien urna pretium nisl, ut volutpat sapien arcu sed augue.', 'Nullam sit amet turpis elementum ligula vehicula consequat. Morbi a ipsum. Integer a nibh.', 'Turquoise', '2022-04-24 05:04:40', 'Dory', '2022-10-04 11:50:57', 'Andreana');
-insert into Article (title, content, hashtag, created_at, created_by, modified_at, modified_by) values ('Cras pellentesque volutpat dui.', 'Pellentesque at nulla. Suspendisse potenti. Cras in purus eu magna vulputate luctus.', 'Puce', '2022-11-10 11:04:34', 'Nev', '2022-08-23 05:36:12', 'Shepard');
-insert into Article (title, content, hashtag, created_at, created_by, modified_at, modified_by) values ('In sagittis dui vel nisl.', 'Morbi porttitor lorem id ligula. Suspendisse ornare consequat lectus. In est risus, auctor sed, tristique in, tempus sit amet, sem.', null, '2022-01-19 15:26:19', 'Elnore', '2022-09-07 15:13:59', 'Verine');
-insert into Article (title, content, hashtag, created_at, created_by, modified_at, modified_by) values ('Etiam faucibus cursus urna.', 'Morbi non lectus. Aliquam sit amet diam in magna bibendum imperdiet. Nullam orci pede, venenatis non, sodales sed, tincidunt eu, felis.', null, '2022-08-22 21:14:10', 'Blithe', '2022-07-23 08:22:03', 'Iosep');
-insert into Article (title, content, hashtag, created_at, created_by, modified_at, modified_by) values ('Aliquam erat volutpat.', 'Fusce posuere felis sed lacus. Morbi sem mauris, laoreet ut, rhoncus aliquet, pulvinar sed, nisl. Nunc rhoncus dui vel sem.', 'Goldenrod', '2022-11-14 19:01:16', 'Cheston', '2022-06-26 16:55:51', 'Darda');
-insert into Article (title, content, hashtag, created_at, created_by, modified_at, modified_by) values ('In hac habitasse platea dictumst.', 'Nullam sit amet turpis elementum ligula vehicula consequat. Morbi a ipsum. Integer a nibh.', 'Turquoise', '2022-09-17 20:11:08', 'Shawn', '2022-10-14 02:16:10', 'Hollie');
-insert into Article (title, content, hashtag, created_at, created_by, modified_at, modified_by) values ('Duis mattis egestas metus.', 'Suspendisse potenti. In eleifend quam a odio. In hac habitasse platea dictumst.', 'Pink', '2022-11-16 14:12:49', 'Salomon', '2022-06-21 23:28:48', 'Corene');
-insert into Article (title, content, hashtag, created_at, created_by, modified_at, modified_by) values ('Donec ut mauris eget massa tempor convallis.', 'Morbi non lectus. Aliquam sit amet diam in magna bibendum imperdiet. Nullam orci pede, venenatis non, sodales sed, tincidunt eu, felis.', 'Mauv', '2022-11-27 03:15:01', 'Bealle', '2022-11-05 06:12:21', 'Harrietta');
+insert into Article (id, title, content, hashtag, created_at, created_by, modified_at, modified_by) values (1, 'Suspendisse ornare consequat lectus.', 'Donec diam neque, vestibulum eget, vulputate ut, ultrices vel, augue. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Donec pharetra, magna vestibulum aliquet ultrices, erat tortor sollicitudin mi, sit amet lobortis sapien sapien non mi. Integer ac neque.', null, '2022-12-03 23:49:10', 'Benedict', '2022-06-29 16:44:11', 'Olly');
+insert into Article (id, title, content, hashtag, created_at, created_by, modified_at, modified_by) values (2, 'In hac habitasse platea dictumst.', 'Maecenas leo odio, condimentum id, luctus nec, molestie sed, justo. Pellentesque viverra pede ac diam. Cras pellentesque volutpat dui.', 'Mauv', '2022-02-07 06:32:02', 'Eleonore', '2022-09-02 14:07:23', 'Celka');
+insert into Article (id, title, content, hashtag, created_at, created_by, modified_at, modified_by) values (3, 'In quis justo.', 'Fusce posuere felis sed lacus. Morbi sem mauris, laoreet ut, rhoncus aliquet, pulvinar sed, nisl. Nunc rhoncus dui vel sem.', 'Green', '2022-09-01 20:09:11', 'Donny', '2022-07-06 15:28:31', 'Wallie');
+insert into Article (id, title, content, hashtag, created_at, created_by, modified_at, modified_by) values (4, 'Mauris enim leo, rhoncus sed, vestibulum sit amet, cursus id, turpis.', 'Mauris enim leo, rhoncus sed, vestibulum sit amet, cursus id, turpis. Integer aliquet, massa id lobortis convallis, tortor risus dapibus augue, vel accumsan tellus nisi eu orci. Mauris lacinia sapien quis libero.', null, '2022-07-12 20:43:28', 'Leodora', '2022-10-12 09:42:52', 'Trude');
+insert into Article (id, title, content, hashtag, created_at, created_by, modified_at, modified_by) values (5, 'Aliquam non mauris.', 'Maecenas ut massa quis augue luctus tincidunt. Nulla mollis molestie lorem. Quisque ut erat.', null, '2022-01-05 01:35:41', 'Wallis', '2022-11-23 21:55:56', 'Marline');
+insert into Article (id, title, content, hashtag, created_at, created_by, modified_at, modified_by) values (6, 'Maecenas leo odio, condimentum id, luctus nec, molestie sed, justo.', 'Cras mi pede, malesuada in, imperdiet et, commodo vulputate, justo. In blandit ultrices enim. Lorem ipsum dolor sit amet, consectetuer adipiscing elit.', null, '2022-02-22 02:15:23', 'Nicol', '2022-08-22 19:32:20', 'Tabatha');
+insert into Article (id, title, content, hashtag, created_at, created_by, modified_at, modified_by) values (7, 'Duis at velit eu est congue elementum.', 'Fusce consequat. Nulla nisl. Nunc nisl.', 'Fuscia', '2022-04-23 09:50:58', 'Peta', '2022-05-15 06:05:44', 'Gwen');
+insert into Article (id, title, content, hashtag, created_at, created_by, modified_at, modified_by) values (8, 'Suspendisse ornare consequat lectus.', 'Quisque porta volutpat erat. Quisque erat eros, viverra eget, congue eget, semper rutrum, nulla. Nunc purus.', 'Violet', '2022-08-14 13:24:41', 'Casey', '2022-02-04 20:01:40', 'Ronny');
+insert into Article (id, title, content, hashtag, created_at, created_by, modified_at, modified_by) values (9, 'Integer aliquet, massa id lobortis convallis, tortor risus dapibus augue, vel accumsan tellus nisi eu orci.', 'Vestibulum quam sapien, varius ut, blandit non, interdum in, ante. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Duis faucibus accumsan odio. Curabitur convallis.', 'Blue', '2022-02-03 19:53:51', 'Mame', '2022-10-05 21:10:49', 'Ephrayim');
+insert into Article (id, title, content, hashtag, created_at, created_by, modified_at, modified_by) values (10, 'Duis bibendum, felis sed interdum venenatis, turpis enim blandit mi, in porttitor pede justo eu massa.', 'In congue. Etiam justo. Etiam pretium iaculis justo.', null, '2022-07-27 09:13:01', 'Lucho', '2022-10-07 07:01:36', 'Alistair');
+insert into Article (id, title, content, hashtag, created_at, created_by, modified_at, modified_by) values (11, 'Nulla tellus.', 'Duis bibendum, felis sed interdum venenatis, turpis enim blandit mi, in porttitor pede justo eu massa. Donec dapibus. Duis at velit eu est congue elementum.', 'Aquamarine', '2022-08-24 11:54:45', 'Matelda', '2022-03-24 22:47:35', 'Geoff');
+insert into Article (id, title, content, hashtag, created_at, created_by, modified_at, modified_by) values (12, 'Pellentesque eget nunc.', 'Proin leo odio, porttitor id, consequat in, consequat ut, nulla. Sed accumsan felis. Ut at dolor quis odio consequat varius.', 'Puce', '2022-09-04 21:12:49', 'Joanne', '2022-10-01 23:27:24', 'Ibby');
+insert into Article (id, title, content, hashtag, created_at, created_by, modified_at, modified_by) values (13, 'Aenean auctor gravida sem.', 'Pellentesque at nulla. Suspendisse potenti. Cras in purus eu magna vulputate luctus.', null, '2022-09-06 07:51:46', 'Gerhardine', '2022-03-27 15:14:08', 'Robers');
+insert into Article (id, title, content, hashtag, created_at, created_by, modified_at, modified_by) values (14, 'Donec dapibus.', 'Phasellus sit amet erat. Nulla tempus. Vivamus in felis eu sapien cursus vestibulum.', null, '2022-06-11 07:27:48', 'Marcile', '2022-02-12 12:15:33', 'Ambur');
+insert into Article (id, title, content, hashtag, created_at, created_by, modified_at, modified_by) values (15, 'Nullam porttitor lacus at turpis.', 'In hac habitasse platea dictumst. Morbi vestibulum, velit id pretium iaculis, diam erat fermentum justo, nec condimentum neque sapien placerat ante. Nulla justo.', 'Turquoise', '2022-03-08 08:23:05', 'Tim', '2022-10-15 23:17:38', 'Erek');
+insert into Article (id, title, content, hashtag, created_at, created_by, modified_at, modified_by) values (16, 'Morbi a ipsum.', 'Duis bibendum, felis sed interdum venenatis, turpis enim blandit mi, in porttitor pede justo eu massa. Donec dapibus. Duis at velit eu est congue elementum.', 'Khaki', '2022-11-26 04:46:04', 'Othello', '2022-04-19 15:49:41', 'Cyb');
+insert into Article (id, title, content, hashtag, created_at, created_by, modified_at, modified_by) values (17, 'Aenean auctor gravida sem.', 'Proin leo odio, porttitor id, consequat in, consequat ut, nulla. Sed accumsan felis. Ut at dolor quis odio consequat varius.', null, '2022-05-02 05:09:44', 'Tana', '2022-11-11 08:09:22', 'Wrennie');
+insert into Article (id, title, content, hashtag, created_at, created_by, modified_at, modified_by) values (18, 'Suspendisse ornare consequat lectus.', 'Morbi non lectus. Aliquam sit amet diam in magna bibendum imperdiet. Nullam orci pede, venenatis non, sodales sed, tincidunt eu, felis.', 'Turquoise', '2022-04-26 10:19:28', 'Sonny', '2022-03-19 15:08:03', 'Julianna');
+insert into Article (id, title, content, hashtag, created_at, created_by, modified_at, modified_by) values (19, 'Nam nulla.', 'Morbi porttitor lorem id ligula. Suspendisse ornare consequat lectus. In est risus, auctor sed, tristique in, tempus sit amet, sem.', 'Fuscia', '2022-03-10 07:21:20', 'Jecho', '2022-04-20 03:28:27', 'Kayley');
+insert into Article (id, title, content, hashtag, created_at, created_by, modified_at, modified_by) values (20, 'Phasellus in felis.', 'Sed sagittis. Nam congue, risus semper porta volutpat, quam pede lobortis ligula, sit amet eleifend pede libero quis orci. Nullam molestie nibh in lectus.', 'Orange', '2022-03-03 06:34:06', 'Sharla', '2022-06-03 09:04:29', 'Louie');
+insert into Article (id, title, content, hashtag, created_at, created_by, modified_at, modified_by) values (21, 'Vivamus vel nulla eget eros elementum pellentesque.', 'In sagittis dui vel nisl. Duis ac nibh. Fusce lacus purus, aliquet at, feugiat non, pretium quis, lectus.', null, '2022-03-24 05:32:46', 'Pyotr', '2022-01-05 07:45:07', 'Meredith');
+insert into Article (id, title, content, hashtag, created_at, created_by, modified_at, modified_by) values (22, 'Vivamus tortor.', 'Cras mi pede, malesuada in, imperdiet et, commodo vulputate, justo. In blandit ultrices enim. Lorem ipsum dolor sit amet, consectetuer adipiscing elit.', null, '2022-11-29 16:25:12', 'Krystal', '2022-08-30 06:52:32', 'Augustine');
+insert into Article (id, title, content, hashtag, created_at, created_by, modified_at, modified_by) values (23, 'In sagittis dui vel nisl.', 'Phasellus in felis. Donec semper sapien a libero. Nam dui.', 'Yellow', '2022-05-11 23:08:11', 'Oliviero', '2021-12-26 06:02:52', 'Staford');
+insert into Article (id, title, content, hashtag, created_at, created_by, modified_at, modified_by) values (24, 'Nulla facilisi.', 'Fusce posuere felis sed lacus. Morbi sem mauris, laoreet ut, rhoncus aliquet, pulvinar sed, nisl. Nunc rhoncus dui vel sem.', null, '2022-11-07 12:57:57', 'Meg', '2022-09-19 10:27:56', 'Bibbye');
+insert into Article (id, title, content, hashtag, created_at, created_by, modified_at, modified_by) values (25, 'Fusce consequat.', 'Nullam sit amet turpis elementum ligula vehicula consequat. Morbi a ipsum. Integer a nibh.', 'Goldenrod', '2022-06-03 16:26:40', 'Miranda', '2022-03-23 10:26:09', 'Edita');
+insert into Article (id, title, content, hashtag, created_at, created_by, modified_at, modified_by) values (26, 'Sed ante.', 'Duis bibendum. Morbi non quam nec dui luctus rutrum. Nulla tellus.', 'Violet', '2022-02-09 20:54:47', 'Roscoe', '2022-12-05 05:47:32', 'Brandy');
+insert into Article (id, title, content, hashtag, created_at, created_by, modified_at, modified_by) values (27, 'Duis bibendum, felis sed interdum venenatis, turpis enim blandit mi, in porttitor pede justo eu massa.', 'Duis aliquam convallis nunc. Proin at turpis a pede posuere nonummy. Integer non velit.', 'Indigo', '2022-11-01 01:08:27', 'Abagail', '2022-08-11 05:01:16', 'Melantha');
+insert into Article (id, title, content, hashtag, created_at, created_by, modified_at, modified_by) values (28, 'Maecenas ut massa quis augue luctus tincidunt.', 'Vestibulum quam sapien, varius ut, blandit non, interdum in, ante. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Duis faucibus accumsan odio. Curabitur convallis.', 'Turquoise', '2022-07-30 22:51:59', 'Sheppard', '2022-04-01 02:43:25', 'Jodi');
+insert into Article (id, title, content, hashtag, created_at, created_by, modified_at, modified_by) values (29, 'Vestibulum rutrum rutrum neque.', 'Aenean fermentum. Donec ut mauris eget massa tempor convallis. Nulla neque libero, convallis eget, eleifend luctus, ultricies eu, nibh.', 'Orange', '2022-02-27 22:01:11', 'Gil', '2022-05-12 22:09:40', 'Bab');
+insert into Article (id, title, content, hashtag, created_at, created_by, modified_at, modified_by) values (30, 'Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus.', 'Vestibulum quam sapien, varius ut, blandit non, interdum in, ante. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Duis faucibus accumsan odio. Curabitur convallis.', 'Orange', '2022-10-01 06:36:39', 'Cindie', '2022-12-09 10:07:49', 'Constanta');
+insert into Article (id, title, content, hashtag, created_at, created_by, modified_at, modified_by) values (31, 'Sed accumsan felis.', 'Proin eu mi. Nulla ac enim. In tempor, turpis nec euismod scelerisque, quam turpis adipiscing lorem, vitae mattis nibh ligula nec sem.', null, '2022-10-17 00:38:30', 'Irwin', '2022-04-24 17:35:35', 'Gwendolen');
+insert into Article (id, title, content, hashtag, created_at, created_by, modified_at, modified_by) values (32, 'Nulla justo.', 'Nam ultrices, libero non mattis pulvinar, nulla pede ullamcorper augue, a suscipit nulla elit ac nulla. Sed vel enim sit amet nunc viverra dapibus. Nulla suscipit ligula in lacus.', 'Khaki', '2022-06-17 18:06:34', 'Aaren', '2022-09-14 19:52:34', 'Cookie');
+insert into Article (id, title, content, hashtag, created_at, created_by, modified_at, modified_by) values (33, 'Aenean lectus.', 'Praesent blandit. Nam nulla. Integer pede justo, lacinia eget, tincidunt eget, tempus vel, pede.', 'Crimson', '2022-07-11 21:37:38', 'Hali', '2022-02-16 02:50:16', 'Brook');
+insert into Article (id, title, content, hashtag, created_at, created_by, modified_at, modified_by) values (34, 'Nulla justo.', 'Cras mi pede, malesuada in, imperdiet et, commodo vulputate, justo. In blandit ultrices enim. Lorem ipsum dolor sit amet, consectetuer adipiscing elit.', 'Maroon', '2022-03-12 06:59:35', 'Margaux', '2022-10-12 19:21:05', 'Hildegarde');
+insert into Article (id, title, content, hashtag, created_at, created_by, modified_at, modified_by) values (35, 'Nullam sit amet turpis elementum ligula vehicula consequat.', 'Vestibulum ac est lacinia nisi venenatis tristique. Fusce congue, diam id ornare imperdiet, sapien urna pretium nisl, ut volutpat sapien arcu sed augue. Aliquam erat volutpat.', null, '2022-08-11 01:34:28', 'Wallache', '2022-07-06 15:32:08', 'Peg');
+insert into Article (id, title, content, hashtag, created_at, created_by, modified_at, modified_by) values (36, 'Fusce consequat.', 'Duis aliquam convallis nunc. Proin at turpis a pede posuere nonummy. Integer non velit.', 'Mauv', '2022-10-20 22:14:52', 'Olivie', '2022-02-21 12:38:41', 'Alexio');
+insert into Article (id, title, content, hashtag, created_at, created_by, modified_at, modified_by) values (37, 'Pellentesque at nulla.', 'Maecenas leo odio, condimentum id, luctus nec, molestie sed, justo. Pellentesque viverra pede ac diam. Cras pellentesque volutpat dui.', null, '2022-07-26 17:13:27', 'Bess', '2022-08-25 01:44:25', 'Ardene');
+insert into Article (id, title, content, hashtag, created_at, created_by, modified_at, modified_by) values (38, 'Phasellus sit amet erat.', 'Phasellus sit amet erat. Nulla tempus. Vivamus in felis eu sapien cursus vestibulum.', 'Puce', '2022-04-14 16:45:06', 'Melany', '2022-09-19 18:20:02', 'Brantley');
+insert into Article (id, title, content, hashtag, created_at, created_by, modified_at, modified_by) values (39, 'Nam dui.', 'Fusce posuere felis sed lacus. Morbi sem mauris, laoreet ut, rhoncus aliquet, pulvinar sed, nisl. Nunc rhoncus dui vel sem.', 'Green', '2022-06-24 10:43:08', 'Bartholemy', '2022-07-21 17:36:44', 'Georgine');
+insert into Article (id, title, content, hashtag, created_at, created_by, modified_at, modified_by) values (40, 'Morbi vel lectus in quam fringilla rhoncus.', 'Etiam vel augue. Vestibulum rutrum rutrum neque. Aenean auctor gravida sem.', 'Mauv', '2022-07-17 10:49:20', 'Parry', '2022-12-01 01:51:05', 'Max');
+insert into Article (id, title, content, hashtag, created_at, created_by, modified_at, modified_by) values (41, 'Duis consequat dui nec nisi volutpat eleifend.', 'Duis bibendum. Morbi non quam nec dui luctus rutrum. Nulla tellus.', 'Maroon', '2022-11-09 06:57:28', 'Genovera', '2022-05-18 05:19:37', 'Sarina');
+insert into Article (id, title, content, hashtag, created_at, created_by, modified_at, modified_by) values (42, 'Duis bibendum.', 'Duis bibendum, felis sed interdum venenatis, turpis enim blandit mi, in porttitor pede justo eu massa. Donec dapibus. Duis at velit eu est congue elementum.', 'Khaki', '2022-03-23 06:13:10', 'Therese', '2022-12-04 11:34:38', 'Daphne');
+insert into Article (id, title, content, hashtag, created_at, created_by, modified_at, modified_by) values (43, 'Integer tincidunt ante vel ipsum.', 'Nam ultrices, libero non mattis pulvinar, nulla pede ullamcorper augue, a suscipit nulla elit ac nulla. Sed vel enim sit amet nunc viverra dapibus. Nulla suscipit ligula in lacus.', null, '2022-04-26 14:46:18', 'Doria', '2022-04-25 14:21:02', 'Dore');
+insert into Article (id, title, content, hashtag, created_at, created_by, modified_at, modified_by) values (44, 'Phasellus sit amet erat.', 'In congue. Etiam justo. Etiam pretium iaculis justo.', 'Violet', '2022-02-28 12:37:32', 'Ralf', '2022-10-01 07:14:07', 'Lurette');
+insert into Article (id, title, content, hashtag, created_at, created_by, modified_at, modified_by) values (45, 'In blandit ultrices enim.', 'Praesent id massa id nisl venenatis lacinia. Aenean sit amet justo. Morbi ut odio.', 'Indigo', '2022-07-28 16:58:12', 'Rea', '2022-01-12 21:12:01', 'Arni');
+insert into Article (id, title, content, hashtag, created_at, created_by, modified_at, modified_by) values (46, 'Vestibulum sed magna at nunc commodo placerat.', 'Nullam porttitor lacus at turpis. Donec posuere metus vitae ipsum. Aliquam non mauris.', null, '2022-12-15 16:17:04', 'Jodi', '2022-07-05 10:20:32', 'Shelby');
+insert into Article (id, title, content, hashtag, created_at, created_by, modified_at, modified_by) values (47, 'Morbi odio odio, elementum eu, interdum eu, tincidunt in, leo.', 'Duis aliquam convallis nunc. Proin at turpis a pede posuere nonummy. Integer non velit.', 'Mauv', '2022-05-30 01:28:07', 'Caralie', '2022-06-04 01:01:39', 'Anjela');
+insert into Article (id, title, content, hashtag, created_at, created_by, modified_at, modified_by) values (48, 'Suspendisse potenti.', 'Curabitur in libero ut massa volutpat convallis. Morbi odio odio, elementum eu, interdum eu, tincidunt in, leo. Maecenas pulvinar lobortis est.', 'Blue', '2022-04-25 06:17:50', 'Tito', '2022-01-25 19:13:57', 'Ambros');
+insert into Article (id, title, content, hashtag, created_at, created_by, modified_at, modified_by) values (49, 'Morbi non quam nec dui luctus rutrum.', 'In quis justo. Maecenas rhoncus aliquam lacus. Morbi quis tortor id nulla ultrices aliquet.', 'Teal', '2022-08-20 11:35:53', 'Fidelity', '2022-04-18 07:49:10', 'Lorita');
+insert into Article (id, title, content, hashtag, created_at, created_by, modified_at, modified_by) values (50, 'Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Duis faucibus accumsan odio.', 'Phasellus in felis. Donec semper sapien a libero. Nam dui.', 'Pink', '2022-04-07 18:28:57', 'Doralyn', '2022-08-02 07:19:27', 'Mitchel');
+insert into Article (id, title, content, hashtag, created_at, created_by, modified_at, modified_by) values (51, 'Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Mauris viverra diam vitae quam.', 'Praesent id massa id nisl venenatis lacinia. Aenean sit amet justo. Morbi ut odio.', 'Khaki', '2022-04-13 21:02:29', 'Dianna', '2021-12-25 05:16:41', 'Fitzgerald');
+insert into Article (id, title, content, hashtag, created_at, created_by, modified_at, modified_by) values (52, 'In eleifend quam a odio.', 'Duis bibendum. Morbi non quam nec dui luctus rutrum. Nulla tellus.', null, '2022-01-01 04:46:33', 'Rodney', '2022-05-19 08:22:03', 'Jock');
+insert into Article (id, title, content, hashtag, created_at, created_by, modified_at, modified_by) values (53, 'Aliquam sit amet diam in magna bibendum imperdiet.', 'Proin leo odio, porttitor id, consequat in, consequat ut, nulla. Sed accumsan felis. Ut at dolor quis odio consequat varius.', 'Aquamarine', '2022-06-09 10:22:19', 'Bamby', '2022-11-28 00:38:49', 'Rosina');
+insert into Article (id, title, content, hashtag, created_at, created_by, modified_at, modified_by) values (54, 'Donec diam neque, vestibulum eget, vulputate ut, ultrices vel, augue.', 'Cras mi pede, malesuada in, imperdiet et, commodo vulputate, justo. In blandit ultrices enim. Lorem ipsum dolor sit amet, consectetuer adipiscing elit.', 'Puce', '2022-06-06 23:37:47', 'Brenden', '2022-04-10 21:06:27', 'Karoly');
+insert into Article (id, title, content, hashtag, created_at, created_by, modified_at, modified_by) values (55, 'Vestibulum sed magna at nunc commodo placerat.', 'In quis justo. Maecenas rhoncus aliquam lacus. Morbi quis tortor id nulla ultrices aliquet.', null, '2022-06-27 03:13:06', 'Richard', '2022-04-15 16:52:09', 'Ram');
+insert into Article (id, title, content, hashtag, created_at, created_by, modified_at, modified_by) values (56, 'Maecenas rhoncus aliquam lacus.', 'Maecenas leo odio, condimentum id, luctus nec, molestie sed, justo. Pellentesque viverra pede ac diam. Cras pellentesque volutpat dui.', 'Indigo', '2022-01-05 06:44:24', 'Arron', '2022-07-05 15:16:11', 'Alistair');
+insert into Article (id, title, content, hashtag, created_at, created_by, modified_at, modified_by) values (57, 'Vestibulum rutrum rutrum neque.', 'Quisque porta volutpat erat. Quisque erat eros, viverra eget, congue eget, semper rutrum, nulla. Nunc purus.', null, '2022-10-27 05:05:26', 'Burt', '2022-11-15 00:33:59', 'Gustaf');
+insert into Article (id, title, content, hashtag, created_at, created_by, modified_at, modified_by) values (58, 'Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus.', 'Mauris enim leo, rhoncus sed, vestibulum sit amet, cursus id, turpis. Integer aliquet, massa id lobortis convallis, tortor risus dapibus augue, vel accumsan tellus nisi eu orci. Mauris lacinia sapien quis libero.', 'Maroon', '2022-07-11 12:52:58', 'Elvis', '2022-05-11 14:57:56', 'Laverne');
+insert into Article (id, title, content, hashtag, created_at, created_by, modified_at, modified_by) values (59, 'Integer ac leo.', 'Quisque porta volutpat erat. Quisque erat eros, viverra eget, congue eget, semper rutrum, nulla. Nunc purus.', 'Maroon', '2022-01-12 04:06:37', 'Bellanca', '2022-01-01 14:33:39', 'Englebert');
+insert into Article (id, title, content, hashtag, created_at, created_by, modified_at, modified_by) values (60, 'Integer ac neque.', 'Fusce posuere felis sed lacus. Morbi sem mauris, laoreet ut, rhoncus aliquet, pulvinar sed, nisl. Nunc rhoncus dui vel sem.', null, '2022-03-04 23:44:27', 'Esta', '2022-11-30 21:35:09', 'Annalise');
+insert into Article (id, title, content, hashtag, created_at, created_by, modified_at, modified_by) values (61, 'Nullam sit amet turpis elementum ligula vehicula consequat.', 'In hac habitasse platea dictumst. Etiam faucibus cursus urna. Ut tellus.', null, '2022-08-04 01:01:53', 'Sybila', '2022-11-11 13:54:43', 'Gabbey');
+insert into Article (id, title, content, hashtag, created_at, created_by, modified_at, modified_by) values (62, 'Nulla nisl.', 'Sed ante. Vivamus tortor. Duis mattis egestas metus.', null, '2022-01-24 20:53:55', 'Murray', '2022-11-10 19:33:17', 'Vallie');
+insert into Article (id, title, content, hashtag, created_at, created_by, modified_at, modified_by) values (63, 'Nulla justo.', 'Phasellus sit amet erat. Nulla tempus. Vivamus in felis eu sapien cursus vestibulum.', 'Maroon', '2022-06-03 16:32:18', 'Bryana', '2022-05-24 02:47:53', 'Padraig');
+insert into Article (id, title, content, hashtag, created_at, created_by, modified_at, modified_by) values (64, 'Morbi non lectus.', 'Lorem ipsum dolor sit amet, consectetuer adipiscing elit. Proin risus. Praesent lectus.', 'Goldenrod', '2022-09-07 07:31:11', 'Roderigo', '2022-01-16 06:53:27', 'Shaughn');
+insert into Article (id, title, content, hashtag, created_at, created_by, modified_at, modified_by) values (65, 'Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Donec pharetra, magna vestibulum aliquet ultrices, erat tortor sollicitudin mi, sit amet lobortis sapien sapien non mi.', 'Duis bibendum, felis sed interdum venenatis, turpis enim blandit mi, in porttitor pede justo eu massa. Donec dapibus. Duis at velit eu est congue elementum.', 'Maroon', '2022-02-16 01:08:29', 'Nerty', '2022-03-31 16:21:46', 'Cynthy');
+insert into Article (id, title, content, hashtag, created_at, created_by, modified_at, modified_by) values (66, 'Integer ac neque.', 'Proin leo odio, porttitor id, consequat in, consequat ut, nulla. Sed accumsan felis. Ut at dolor quis odio consequat varius.', 'Crimson', '2022-05-23 14:09:04', 'Brandy', '2022-08-27 13:45:22', 'Malory');
+insert into Article (id, title, content, hashtag, created_at, created_by, modified_at, modified_by) values (67, 'In blandit ultrices enim.', 'Duis bibendum, felis sed interdum venenatis, turpis enim blandit mi, in porttitor pede justo eu massa. Donec dapibus. Duis at velit eu est congue elementum.', 'Pink', '2022-08-01 00:11:29', 'Demetris', '2022-06-09 15:46:57', 'Gare');
+insert into Article (id, title, content, hashtag, created_at, created_by, modified_at, modified_by) values (68, 'Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Nulla dapibus dolor vel est.', 'Phasellus sit amet erat. Nulla tempus. Vivamus in felis eu sapien cursus vestibulum.', 'Red', '2022-01-05 03:58:20', 'Gian', '2022-08-04 16:58:27', 'Cosme');
+insert into Article (id, title, content, hashtag, created_at, created_by, modified_at, modified_by) values (69, 'Cras in purus eu magna vulputate luctus.', 'Duis consequat dui nec nisi volutpat eleifend. Donec ut dolor. Morbi vel lectus in quam fringilla rhoncus.', 'Puce', '2022-10-28 00:54:10', 'Courtnay', '2022-09-11 12:11:20', 'Issie');
+insert into Article (id, title, content, hashtag, created_at, created_by, modified_at, modified_by) values (70, 'Nunc purus.', 'In hac habitasse platea dictumst. Morbi vestibulum, velit id pretium iaculis, diam erat fermentum justo, nec condimentum neque sapien placerat ante. Nulla justo.', 'Purple', '2022-09-05 14:52:40', 'Sonnie', '2022-07-16 06:16:38', 'Dolores');
+insert into Article (id, title, content, hashtag, created_at, created_by, modified_at, modified_by) values (71, 'Sed vel enim sit amet nunc viverra dapibus.', 'Sed sagittis. Nam congue, risus semper porta volutpat, quam pede lobortis ligula, sit amet eleifend pede libero quis orci. Nullam molestie nibh in lectus.', null, '2022-05-18 10:52:36', 'Juli', '2022-04-21 22:31:31', 'Charin');
+insert into Article (id, title, content, hashtag, created_at, created_by, modified_at, modified_by) values (72, 'Vestibulum quam sapien, varius ut, blandit non, interdum in, ante.', 'In hac habitasse platea dictumst. Etiam faucibus cursus urna. Ut tellus.', 'Mauv', '2022-11-07 10:28:23', 'Daren', '2022-04-22 00:05:58', 'Carina');
+insert into Article (id, title, content, hashtag, created_at, created_by, modified_at, modified_by) values (73, 'Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Nulla dapibus dolor vel est.', 'Integer tincidunt ante vel ipsum. Praesent blandit lacinia erat. Vestibulum sed magna at nunc commodo placerat.', 'Pink', '2022-06-18 19:34:28', 'Arlyn', '2022-12-17 07:28:01', 'Homer');
+insert into Article (id, title, content, hashtag, created_at, created_by, modified_at, modified_by) values (74, 'Aliquam non mauris.', 'Etiam vel augue. Vestibulum rutrum rutrum neque. Aenean auctor gravida sem.', 'Blue', '2022-07-13 11:26:25', 'Linnell', '2022-06-04 00:36:08', 'Cherilyn');
+insert into Article (id, title, content, hashtag, created_at, created_by, modified_at, modified_by) values (75, 'Donec semper sapien a libero.', 'Suspendisse potenti. In eleifend quam a odio. In hac habitasse platea dictumst.', null, '2022-02-25 04:04:15', 'Loree', '2022-02-14 13:39:35', 'Dominique');
+insert into Article (id, title, content, hashtag, created_at, created_by, modified_at, modified_by) values (76, 'Vivamus metus arcu, adipiscing molestie, hendrerit at, vulputate vitae, nisl.', 'Quisque id justo sit amet sapien dignissim vestibulum. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Nulla dapibus dolor vel est. Donec odio justo, sollicitudin ut, suscipit a, feugiat et, eros.', 'Blue', '2022-10-20 23:38:48', 'Petunia', '2022-11-01 06:39:33', 'Cecil');
+insert into Article (id, title, content, hashtag, created_at, created_by, modified_at, modified_by) values (77, 'Integer non velit.', 'Curabitur gravida nisi at nibh. In hac habitasse platea dictumst. Aliquam augue quam, sollicitudin vitae, consectetuer eget, rutrum at, lorem.', 'Mauv', '2022-12-13 00:38:00', 'Vivia', '2022-08-27 00:08:34', 'Myrta');
+insert into Article (id, title, content, hashtag, created_at, created_by, modified_at, modified_by) values (78, 'Pellentesque at nulla.', 'Proin eu mi. Nulla ac enim. In tempor, turpis nec euismod scelerisque, quam turpis adipiscing lorem, vitae mattis nibh ligula nec sem.', 'Crimson', '2022-07-17 10:44:21', 'Romonda', '2022-05-08 03:12:42', 'Timotheus');
+insert into Article (id, title, content, hashtag, created_at, created_by, modified_at, modified_by) values (79, 'Phasellus id sapien in sapien iaculis congue.', 'In congue. Etiam justo. Etiam pretium iaculis justo.', 'Goldenrod', '2021-12-29 16:44:03', 'Alexander', '2022-02-06 16:11:22', 'Kally');
+insert into Article (id, title, content, hashtag, created_at, created_by, modified_at, modified_by) values (80, 'Donec ut mauris eget massa tempor convallis.', 'Vestibulum ac est lacinia nisi venenatis tristique. Fusce congue, diam id ornare imperdiet, sapien urna pretium nisl, ut volutpat sapien arcu sed augue. Aliquam erat volutpat.', null, '2022-09-03 22:42:00', 'Lavina', '2022-09-14 14:42:05', 'Sarena');
+insert into Article (id, title, content, hashtag, created_at, created_by, modified_at, modified_by) values (81, 'Donec odio justo, sollicitudin ut, suscipit a, feugiat et, eros.', 'Phasellus sit amet erat. Nulla tempus. Vivamus in felis eu sapien cursus vestibulum.', 'Pink', '2022-04-12 03:23:16', 'Dill', '2022-05-02 18:32:01', 'Cale');
+insert into Article (id, title, content, hashtag, created_at, created_by, modified_at, modified_by) values (82, 'Etiam faucibus cursus urna.', 'In hac habitasse platea dictumst. Etiam faucibus cursus urna. Ut tellus.', 'Red', '2022-08-31 12:16:38', 'Miguel', '2022-10-04 19:30:48', 'Adore');
+insert into Article (id, title, content, hashtag, created_at, created_by, modified_at, modified_by) values (83, 'Phasellus in felis.', 'Nam ultrices, libero non mattis pulvinar, nulla pede ullamcorper augue, a suscipit nulla elit ac nulla. Sed vel enim sit amet nunc viverra dapibus. Nulla suscipit ligula in lacus.', 'Puce', '2022-04-04 07:06:49', 'Bibbye', '2022-01-26 05:29:07', 'Kermy');
+insert into Article (id, title, content, hashtag, created_at, created_by, modified_at, modified_by) values (84, 'Aliquam erat volutpat.', 'Sed ante. Vivamus tortor. Duis mattis egestas metus.', 'Violet', '2022-05-06 00:22:20', 'Helenka', '2022-06-18 01:56:50', 'Tine');
+insert into Article (id, title, content, hashtag, created_at, created_by, modified_at, modified_by) values (85, 'Duis bibendum.', 'In hac habitasse platea dictumst. Morbi vestibulum, velit id pretium iaculis, diam erat fermentum justo, nec condimentum neque sapien placerat ante. Nulla justo.', 'Aquamarine', '2022-04-21 12:11:34', 'Reinaldo', '2022-05-10 11:03:34', 'Bartolemo');
+insert into Article (id, title, content, hashtag, created_at, created_by, modified_at, modified_by) values (86, 'Aliquam augue quam, sollicitudin vitae, consectetuer eget, rutrum at, lorem.', 'In hac habitasse platea dictumst. Morbi vestibulum, velit id pretium iaculis, diam erat fermentum justo, nec condimentum neque sapien placerat ante. Nulla justo.', null, '2022-04-18 07:27:30', 'Hyacinthe', '2022-03-08 08:25:42', 'Conant');
+insert into Article (id, title, content, hashtag, created_at, created_by, modified_at, modified_by) values (87, 'Mauris ullamcorper purus sit amet nulla.', 'Phasellus sit amet erat. Nulla tempus. Vivamus in felis eu sapien cursus vestibulum.', 'Purple', '2022-07-19 12:25:57', 'Domingo', '2022-04-25 07:26:00', 'Fielding');
+insert into Article (id, title, content, hashtag, created_at, created_by, modified_at, modified_by) values (88, 'Nunc purus.', 'Curabitur in libero ut massa volutpat convallis. Morbi odio odio, elementum eu, interdum eu, tincidunt in, leo. Maecenas pulvinar lobortis est.', 'Teal', '2022-06-04 11:57:53', 'Eleonore', '2022-01-18 20:32:08', 'Ricki');
+insert into Article (id, title, content, hashtag, created_at, created_by, modified_at, modified_by) values (89, 'Curabitur convallis.', 'Quisque porta volutpat erat. Quisque erat eros, viverra eget, congue eget, semper rutrum, nulla. Nunc purus.', 'Indigo', '2022-02-19 01:44:41', 'Banky', '2022-05-23 19:32:10', 'Sabrina');
+insert into Article (id, title, content, hashtag, created_at, created_by, modified_at, modified_by) values (90, 'Nulla tellus.', 'Duis consequat dui nec nisi volutpat eleifend. Donec ut dolor. Morbi vel lectus in quam fringilla rhoncus.', 'Purple', '2022-11-08 05:36:00', 'Johannah', '2022-07-27 13:03:02', 'Cord');
+insert into Article (id, title, content, hashtag, created_at, created_by, modified_at, modified_by) values (91, 'Aliquam sit amet diam in magna bibendum imperdiet.', 'Phasellus sit amet erat. Nulla tempus. Vivamus in felis eu sapien cursus vestibulum.', 'Khaki', '2022-04-25 08:03:51', 'Marjorie', '2022-05-30 16:57:53', 'Delmer');
+insert into Article (id, title, content, hashtag, created_at, created_by, modified_at, modified_by) values (92, 'Pellentesque at nulla.', 'Donec diam neque, vestibulum eget, vulputate ut, ultrices vel, augue. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Donec pharetra, magna vestibulum aliquet ultrices, erat tortor sollicitudin mi, sit amet lobortis sapien sapien non mi. Integer ac neque.', null, '2022-10-22 01:15:57', 'Felipe', '2022-11-27 18:09:48', 'Cecil');
+insert into Article (id, title, content, hashtag, created_at, created_by, modified_at, modified_by) values (93, 'Fusce congue, diam id ornare imperdiet, sapien urna pretium nisl, ut volutpat sapien arcu sed augue.', 'Nullam sit amet turpis elementum ligula vehicula consequat. Morbi a ipsum. Integer a nibh.', 'Turquoise', '2022-04-24 05:04:40', 'Dory', '2022-10-04 11:50:57', 'Andreana');
+insert into Article (id, title, content, hashtag, created_at, created_by, modified_at, modified_by) values (94, 'Cras pellentesque volutpat dui.', 'Pellentesque at nulla. Suspendisse potenti. Cras in purus eu magna vulputate luctus.', 'Puce', '2022-11-10 11:04:34', 'Nev', '2022-08-23 05:36:12', 'Shepard');
+insert into Article (id, title, content, hashtag, created_at, created_by, modified_at, modified_by) values (95, 'In sagittis dui vel nisl.', 'Morbi porttitor lorem id ligula. Suspendisse ornare consequat lectus. In est risus, auctor sed, tristique in, tempus sit amet, sem.', null, '2022-01-19 15:26:19', 'Elnore', '2022-09-07 15:13:59', 'Verine');
+insert into Article (id, title, content, hashtag, created_at, created_by, modified_at, modified_by) values (96, 'Etiam faucibus cursus urna.', 'Morbi non lectus. Aliquam sit amet diam in magna bibendum imperdiet. Nullam orci pede, venenatis non, sodales sed, tincidunt eu, felis.', null, '2022-08-22 21:14:10', 'Blithe', '2022-07-23 08:22:03', 'Iosep');
+insert into Article (id, title, content, hashtag, created_at, created_by, modified_at, modified_by) values (97, 'Aliquam erat volutpat.', 'Fusce posuere felis sed lacus. Morbi sem mauris, laoreet ut, rhoncus aliquet, pulvinar sed, nisl. Nunc rhoncus dui vel sem.', 'Goldenrod', '2022-11-14 19:01:16', 'Cheston', '2022-06-26 16:55:51', 'Darda');
+insert into Article (id, title, content, hashtag, created_at, created_by, modified_at, modified_by) values (98, 'In hac habitasse platea dictumst.', 'Nullam sit amet turpis elementum ligula vehicula consequat. Morbi a ipsum. Integer a nibh.', 'Turquoise', '2022-09-17 20:11:08', 'Shawn', '2022-10-14 02:16:10', 'Hollie');
+insert into Article (id, title, content, hashtag, created_at, created_by, modified_at, modified_by) values (99, 'Duis mattis egestas metus.', 'Suspendisse potenti. In eleifend quam a odio. In hac habitasse platea dictumst.', 'Pink', '2022-11-16 14:12:49', 'Salomon', '2022-06-21 23:28:48', 'Corene');
+insert into Article (id, title, content, hashtag, created_at, created_by, modified_at, modified_by) values (100, 'Donec ut mauris eget massa tempor convallis.', 'Morbi non lectus. Aliquam sit amet diam in magna bibendum imperdiet. Nullam orci pede, venenatis non, sodales sed, tincidunt eu, felis.', 'Mauv', '2022-11-27 03:15:01', 'Bealle', '2022-11-05 06:12:21', 'Harrietta');
 
 
 -- 댓글 1000개
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (93, 'Integer tincidunt ante vel ipsum. Praesent blandit lacinia erat. Vestibulum sed magna at nunc commodo placerat.', '2022-03-10 17:25:29', 'Jyoti', '2022-08-20 03:43:31', 'Merrill');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (67, 'Phasellus sit amet erat. Nulla tempus. Vivamus in felis eu sapien cursus vestibulum.', '2022-11-25 20:38:31', 'Valencia', '2022-02-08 15:15:19', 'Huey');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (8, 'Proin eu mi. Nulla ac enim. In tempor, turpis nec euismod scelerisque, quam turpis adipiscing lorem, vitae mattis nibh ligula nec sem.', '2022-09-02 21:29:23', 'Lorettalorna', '2022-02-17 05:45:14', 'Noak');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (73, 'Duis consequat dui nec nisi volutpat eleifend. Donec ut dolor. Morbi vel lectus in quam fringilla rhoncus.', '2022-10-27 20:30:47', 'Max', '2022-05-28 20:25:40', 'Kristen');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (3, 'In congue. Etiam justo. Etiam pretium iaculis justo.', '2022-09-20 23:08:49', 'Juline', '2022-09-12 23:32:32', 'Alric');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (29, 'Vestibulum ac est lacinia nisi venenatis tristique. Fusce congue, diam id ornare imperdiet, sapien urna pretium nisl, ut volutpat sapien arcu sed augue. Aliquam erat volutpat.', '2022-09-17 10:40:16', 'Lianna', '2022-11-15 21:10:05', 'Arlinda');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (25, 'Nullam sit amet turpis elementum ligula vehicula consequat. Morbi a ipsum. Integer a nibh.', '2022-05-31 12:37:43', 'Rabbi', '2022-08-02 07:50:39', 'Marlin');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (16, 'Phasellus in felis. Donec semper sapien a libero. Nam dui.', '2022-05-12 01:24:37', 'Angil', '2022-07-22 04:31:46', 'Eveline');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (67, 'Aliquam quis turpis eget elit sodales scelerisque. Mauris sit amet eros. Suspendisse accumsan tortor quis turpis.', '2022-08-09 00:27:31', 'Banky', '2022-05-11 14:11:45', 'Shelbi');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (11, 'Duis aliquam convallis nunc. Proin at turpis a pede posuere nonummy. Integer non velit.', '2022-07-30 13:38:20', 'Celesta', '2022-11-23 04:56:36', 'Stephani');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (9, 'Praesent id massa id nisl venenatis lacinia. Aenean sit amet justo. Morbi ut odio.', '2022-10-29 21:13:26', 'Odo', '2022-11-22 03:17:09', 'Tamas');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (79, 'Maecenas tristique, est et tempus semper, est quam pharetra magna, ac consequat metus sapien ut nunc. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Mauris viverra diam vitae quam. Suspendisse potenti.', '2022-07-30 05:18:28', 'Violante', '2022-04-27 07:41:03', 'Dietrich');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (78, 'Proin eu mi. Nulla ac enim. In tempor, turpis nec euismod scelerisque, quam turpis adipiscing lorem, vitae mattis nibh ligula nec sem.', '2022-05-01 10:53:07', 'Marcellus', '2022-09-15 18:14:37', 'Luther');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (52, 'Donec diam neque, vestibulum eget, vulputate ut, ultrices vel, augue. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Donec pharetra, magna vestibulum aliquet ultrices, erat tortor sollicitudin mi, sit amet lobortis sapien sapien non mi. Integer ac neque.', '2022-04-30 04:30:51', 'Hyacinthie', '2022-08-19 00:26:40', 'Westbrook');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (76, 'Fusce posuere felis sed lacus. Morbi sem mauris, laoreet ut, rhoncus aliquet, pulvinar sed, nisl. Nunc rhoncus dui vel sem.', '2022-10-27 01:40:40', 'Parker', '2022-09-06 23:09:48', 'Constantina');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (33, 'Nullam porttitor lacus at turpis. Donec posuere metus vitae ipsum. Aliquam non mauris.', '2022-05-05 20:23:06', 'Marmaduke', '2022-04-11 03:22:16', 'Sol');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (47, 'Aliquam quis turpis eget elit sodales scelerisque. Mauris sit amet eros. Suspendisse accumsan tortor quis turpis.', '2022-03-10 14:47:24', 'Reta', '2021-12-29 09:06:27', 'Ginelle');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (31, 'Cras mi pede, malesuada in, imperdiet et, commodo vulputate, justo. In blandit ultrices enim. Lorem ipsum dolor sit amet, consectetuer adipiscing elit.', '2022-02-12 10:53:33', 'Ellwood', '2022-03-01 08:52:33', 'Mort');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (100, 'Praesent blandit. Nam nulla. Integer pede justo, lacinia eget, tincidunt eget, tempus vel, pede.', '2022-02-10 08:05:08', 'Leonie', '2022-03-12 01:06:10', 'Mozelle');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (2, 'Etiam vel augue. Vestibulum rutrum rutrum neque. Aenean auctor gravida sem.', '2022-01-29 17:11:33', 'Chicky', '2021-12-24 13:21:57', 'Alia');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (65, 'Maecenas ut massa quis augue luctus tincidunt. Nulla mollis molestie lorem. Quisque ut erat.', '2022-01-05 07:05:48', 'Terrance', '2022-03-09 03:14:33', 'Marci');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (12, 'Quisque porta volutpat erat. Quisque erat eros, viverra eget, congue eget, semper rutrum, nulla. Nunc purus.', '2022-10-28 22:04:39', 'Elly', '2022-10-16 03:09:23', 'Ebenezer');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (16, 'Praesent id massa id nisl venenatis lacinia. Aenean sit amet justo. Morbi ut odio.', '2022-08-06 18:28:11', 'Letti', '2022-06-15 19:46:47', 'Karil');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (43, 'Morbi non lectus. Aliquam sit amet diam in magna bibendum imperdiet. Nullam orci pede, venenatis non, sodales sed, tincidunt eu, felis.', '2022-03-18 23:47:14', 'Brena', '2022-07-05 18:32:39', 'Heidie');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (13, 'Morbi porttitor lorem id ligula. Suspendisse ornare consequat lectus. In est risus, auctor sed, tristique in, tempus sit amet, sem.', '2022-01-03 07:37:40', 'Miller', '2022-06-17 05:06:30', 'Brittaney');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (99, 'Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus. Vivamus vestibulum sagittis sapien. Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus.', '2022-04-15 05:55:53', 'Andromache', '2022-09-15 01:09:03', 'Adriana');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (28, 'Maecenas ut massa quis augue luctus tincidunt. Nulla mollis molestie lorem. Quisque ut erat.', '2022-08-23 04:56:15', 'Ricca', '2022-05-15 23:15:21', 'Man');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (18, 'Proin leo odio, porttitor id, consequat in, consequat ut, nulla. Sed accumsan felis. Ut at dolor quis odio consequat varius.', '2022-11-28 17:19:35', 'Reyna', '2022-08-13 17:19:14', 'Kermit');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (28, 'Proin leo odio, porttitor id, consequat in, consequat ut, nulla. Sed accumsan felis. Ut at dolor quis odio consequat varius.', '2022-09-28 14:46:34', 'Gill', '2022-11-24 06:25:03', 'Bernhard');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (92, 'Aenean lectus. Pellentesque eget nunc. Donec quis orci eget orci vehicula condimentum.', '2022-08-29 07:11:33', 'Bessie', '2022-08-12 14:43:58', 'Rudy');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (50, 'Cras non velit nec nisi vulputate nonummy. Maecenas tincidunt lacus at velit. Vivamus vel nulla eget eros elementum pellentesque.', '2022-03-29 08:13:54', 'Hillie', '2022-05-08 08:59:00', 'Ruprecht');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (25, 'Nullam porttitor lacus at turpis. Donec posuere metus vitae ipsum. Aliquam non mauris.', '2022-07-27 22:32:51', 'Joanie', '2022-03-27 10:06:59', 'Joey');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (92, 'Duis bibendum. Morbi non quam nec dui luctus rutrum. Nulla tellus.', '2022-11-04 22:06:34', 'Gabriele', '2022-10-17 22:01:34', 'Shepard');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (36, 'In hac habitasse platea dictumst. Morbi vestibulum, velit id pretium iaculis, diam erat fermentum justo, nec condimentum neque sapien placerat ante. Nulla justo.', '2022-10-31 20:47:34', 'Lucienne', '2022-04-28 03:37:56', 'Smith');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (91, 'Etiam vel augue. Vestibulum rutrum rutrum neque. Aenean auctor gravida sem.', '2022-09-21 23:39:50', 'Ann-marie', '2022-07-25 12:51:57', 'Josias');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (37, 'Integer ac leo. Pellentesque ultrices mattis odio. Donec vitae nisi.', '2022-01-24 01:58:17', 'Erwin', '2022-10-18 00:19:03', 'Rene');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (36, 'In congue. Etiam justo. Etiam pretium iaculis justo.', '2022-06-06 14:37:34', 'Coleen', '2022-01-08 04:15:05', 'Manda');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (67, 'Curabitur gravida nisi at nibh. In hac habitasse platea dictumst. Aliquam augue quam, sollicitudin vitae, consectetuer eget, rutrum at, lorem.', '2022-06-27 05:20:47', 'Giavani', '2022-01-30 08:53:51', 'Tracy');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (41, 'Proin leo odio, porttitor id, consequat in, consequat ut, nulla. Sed accumsan felis. Ut at dolor quis odio consequat varius.', '2022-02-12 14:35:59', 'Adah', '2022-03-25 05:45:42', 'Peg');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (78, 'Aliquam quis turpis eget elit sodales scelerisque. Mauris sit amet eros. Suspendisse accumsan tortor quis turpis.', '2022-01-19 23:37:00', 'Cristi', '2022-05-30 08:48:12', 'Morty');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (65, 'Lorem ipsum dolor sit amet, consectetuer adipiscing elit. Proin risus. Praesent lectus.', '2022-11-27 15:22:39', 'Nadean', '2022-12-04 18:58:14', 'Jinny');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (77, 'Maecenas ut massa quis augue luctus tincidunt. Nulla mollis molestie lorem. Quisque ut erat.', '2022-02-03 07:19:22', 'Odella', '2022-09-10 13:20:28', 'Susan');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (50, 'Donec diam neque, vestibulum eget, vulputate ut, ultrices vel, augue. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Donec pharetra, magna vestibulum aliquet ultrices, erat tortor sollicitudin mi, sit amet lobortis sapien sapien non mi. Integer ac neque.', '2022-10-06 08:25:08', 'Ailene', '2022-12-18 06:52:17', 'Manon');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (22, 'Curabitur at ipsum ac tellus semper interdum. Mauris ullamcorper purus sit amet nulla. Quisque arcu libero, rutrum ac, lobortis vel, dapibus at, diam.', '2022-06-05 19:08:03', 'Raquel', '2022-10-17 08:20:09', 'Graeme');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (88, 'Nullam sit amet turpis elementum ligula vehicula consequat. Morbi a ipsum. Integer a nibh.', '2022-04-25 04:12:43', 'Cecilius', '2022-07-04 08:50:48', 'Loise');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (21, 'Nullam porttitor lacus at turpis. Donec posuere metus vitae ipsum. Aliquam non mauris.', '2022-09-16 19:25:08', 'Fernandina', '2022-06-20 05:27:40', 'Ceil');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (85, 'Praesent id massa id nisl venenatis lacinia. Aenean sit amet justo. Morbi ut odio.', '2022-01-03 17:18:32', 'Amelie', '2022-04-23 19:10:39', 'Elfreda');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (29, 'Aliquam quis turpis eget elit sodales scelerisque. Mauris sit amet eros. Suspendisse accumsan tortor quis turpis.', '2022-09-23 18:10:37', 'Marina', '2022-05-08 08:05:34', 'Marie');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (82, 'Etiam vel augue. Vestibulum rutrum rutrum neque. Aenean auctor gravida sem.', '2022-04-02 13:30:33', 'Gerty', '2022-06-18 20:23:34', 'Dorey');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (93, 'Suspendisse potenti. In eleifend quam a odio. In hac habitasse platea dictumst.', '2022-11-27 09:45:21', 'Catherine', '2022-06-19 15:28:14', 'Helaine');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (41, 'Duis aliquam convallis nunc. Proin at turpis a pede posuere nonummy. Integer non velit.', '2022-04-29 20:28:39', 'Arlette', '2022-05-12 08:29:12', 'Marina');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (20, 'Praesent id massa id nisl venenatis lacinia. Aenean sit amet justo. Morbi ut odio.', '2022-03-22 05:06:36', 'Hayden', '2022-10-22 13:00:29', 'Evania');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (80, 'In hac habitasse platea dictumst. Morbi vestibulum, velit id pretium iaculis, diam erat fermentum justo, nec condimentum neque sapien placerat ante. Nulla justo.', '2022-01-29 14:30:33', 'Melisande', '2022-05-27 16:04:41', 'Dorena');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (8, 'Fusce posuere felis sed lacus. Morbi sem mauris, laoreet ut, rhoncus aliquet, pulvinar sed, nisl. Nunc rhoncus dui vel sem.', '2022-11-23 18:45:18', 'Angele', '2022-08-24 14:02:41', 'Vern');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (77, 'Curabitur gravida nisi at nibh. In hac habitasse platea dictumst. Aliquam augue quam, sollicitudin vitae, consectetuer eget, rutrum at, lorem.', '2022-08-30 16:26:04', 'Philly', '2022-02-24 18:41:34', 'Angelo');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (76, 'Curabitur in libero ut massa volutpat convallis. Morbi odio odio, elementum eu, interdum eu, tincidunt in, leo. Maecenas pulvinar lobortis est.', '2022-09-29 05:48:12', 'Sophronia', '2022-05-22 18:42:09', 'Sula');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (38, 'Cras non velit nec nisi vulputate nonummy. Maecenas tincidunt lacus at velit. Vivamus vel nulla eget eros elementum pellentesque.', '2022-11-11 03:26:28', 'Georgeta', '2022-03-06 16:35:21', 'Davon');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (7, 'Phasellus sit amet erat. Nulla tempus. Vivamus in felis eu sapien cursus vestibulum.', '2022-09-18 23:39:26', 'Nealy', '2022-10-21 17:08:22', 'Lori');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (81, 'Maecenas ut massa quis augue luctus tincidunt. Nulla mollis molestie lorem. Quisque ut erat.', '2022-03-29 10:54:30', 'Hermione', '2022-03-04 10:00:06', 'Chloette');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (95, 'Aenean fermentum. Donec ut mauris eget massa tempor convallis. Nulla neque libero, convallis eget, eleifend luctus, ultricies eu, nibh.', '2022-05-30 04:47:58', 'Del', '2021-12-23 17:45:49', 'Tabb');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (69, 'Sed ante. Vivamus tortor. Duis mattis egestas metus.', '2022-04-02 12:53:01', 'Lynda', '2022-12-15 15:57:12', 'Patsy');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (19, 'Curabitur gravida nisi at nibh. In hac habitasse platea dictumst. Aliquam augue quam, sollicitudin vitae, consectetuer eget, rutrum at, lorem.', '2022-02-11 12:50:09', 'Ermina', '2022-02-23 00:52:44', 'Amory');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (12, 'Sed sagittis. Nam congue, risus semper porta volutpat, quam pede lobortis ligula, sit amet eleifend pede libero quis orci. Nullam molestie nibh in lectus.', '2022-02-20 06:00:05', 'Benton', '2022-05-25 07:16:24', 'Myrle');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (71, 'Phasellus sit amet erat. Nulla tempus. Vivamus in felis eu sapien cursus vestibulum.', '2022-03-02 12:50:34', 'Marina', '2022-12-19 19:24:11', 'Raddie');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (36, 'Aliquam quis turpis eget elit sodales scelerisque. Mauris sit amet eros. Suspendisse accumsan tortor quis turpis.', '2022-07-23 08:51:25', 'Oran', '2022-02-17 05:27:25', 'Manda');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (58, 'Integer tincidunt ante vel ipsum. Praesent blandit lacinia erat. Vestibulum sed magna at nunc commodo placerat.', '2022-04-27 18:59:33', 'Ludwig', '2022-06-25 05:28:04', 'Opalina');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (50, 'Morbi non lectus. Aliquam sit amet diam in magna bibendum imperdiet. Nullam orci pede, venenatis non, sodales sed, tincidunt eu, felis.', '2022-10-27 07:13:40', 'Dottie', '2022-03-18 08:21:00', 'Sandra');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (86, 'Phasellus sit amet erat. Nulla tempus. Vivamus in felis eu sapien cursus vestibulum.', '2022-06-16 08:09:17', 'Barnie', '2022-07-17 00:27:00', 'Ruttger');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (37, 'Nam ultrices, libero non mattis pulvinar, nulla pede ullamcorper augue, a suscipit nulla elit ac nulla. Sed vel enim sit amet nunc viverra dapibus. Nulla suscipit ligula in lacus.', '2022-07-29 01:55:53', 'Jules', '2022-06-29 07:46:20', 'Christoph');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (81, 'Duis aliquam convallis nunc. Proin at turpis a pede posuere nonummy. Integer non velit.', '2022-03-26 13:07:04', 'Omar', '2022-01-30 21:09:01', 'Hadria');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (19, 'Mauris enim leo, rhoncus sed, vestibulum sit amet, cursus id, turpis. Integer aliquet, massa id lobortis convallis, tortor risus dapibus augue, vel accumsan tellus nisi eu orci. Mauris lacinia sapien quis libero.', '2022-02-22 12:39:26', 'Elden', '2022-03-31 02:27:34', 'Mario');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (19, 'Curabitur in libero ut massa volutpat convallis. Morbi odio odio, elementum eu, interdum eu, tincidunt in, leo. Maecenas pulvinar lobortis est.', '2022-10-28 12:47:29', 'Luce', '2022-09-24 04:08:08', 'Trip');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (8, 'In congue. Etiam justo. Etiam pretium iaculis justo.', '2022-03-14 09:33:28', 'Arliene', '2022-11-02 10:30:58', 'Doloritas');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (63, 'Curabitur in libero ut massa volutpat convallis. Morbi odio odio, elementum eu, interdum eu, tincidunt in, leo. Maecenas pulvinar lobortis est.', '2022-09-08 16:20:34', 'Pauly', '2021-12-25 01:42:23', 'Joete');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (80, 'Sed sagittis. Nam congue, risus semper porta volutpat, quam pede lobortis ligula, sit amet eleifend pede libero quis orci. Nullam molestie nibh in lectus.', '2022-08-25 17:47:23', 'Bartlet', '2022-02-25 10:46:39', 'Beniamino');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (63, 'Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus. Vivamus vestibulum sagittis sapien. Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus.', '2022-03-09 05:12:42', 'Mac', '2022-06-03 05:22:46', 'Larine');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (16, 'Quisque id justo sit amet sapien dignissim vestibulum. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Nulla dapibus dolor vel est. Donec odio justo, sollicitudin ut, suscipit a, feugiat et, eros.', '2022-10-31 03:19:33', 'Shellie', '2022-11-13 00:41:53', 'Barris');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (93, 'Vestibulum quam sapien, varius ut, blandit non, interdum in, ante. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Duis faucibus accumsan odio. Curabitur convallis.', '2022-12-05 19:35:53', 'Cissiee', '2022-03-29 01:20:27', 'Dick');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (2, 'Praesent blandit. Nam nulla. Integer pede justo, lacinia eget, tincidunt eget, tempus vel, pede.', '2022-05-24 10:16:47', 'Humphrey', '2022-02-14 23:42:39', 'Dusty');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (84, 'Etiam vel augue. Vestibulum rutrum rutrum neque. Aenean auctor gravida sem.', '2022-01-05 09:42:51', 'Adena', '2022-05-25 04:26:46', 'Julieta');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (55, 'Praesent id massa id nisl venenatis lacinia. Aenean sit amet justo. Morbi ut odio.', '2022-12-16 20:40:51', 'Derril', '2022-01-23 17:07:49', 'Daune');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (86, 'Duis bibendum, felis sed interdum venenatis, turpis enim blandit mi, in porttitor pede justo eu massa. Donec dapibus. Duis at velit eu est congue elementum.', '2022-09-29 13:57:46', 'Vance', '2022-10-14 19:11:46', 'Roderic');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (23, 'Quisque id justo sit amet sapien dignissim vestibulum. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Nulla dapibus dolor vel est. Donec odio justo, sollicitudin ut, suscipit a, feugiat et, eros.', '2022-11-15 16:53:01', 'Franklyn', '2022-05-30 14:04:26', 'Gray');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (63, 'Phasellus in felis. Donec semper sapien a libero. Nam dui.', '2021-12-31 03:18:02', 'Tom', '2022-11-30 17:59:28', 'Augy');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (7, 'Nullam porttitor lacus at turpis. Donec posuere metus vitae ipsum. Aliquam non mauris.', '2022-05-08 00:35:32', 'Shurwood', '2022-08-28 18:14:57', 'Derrek');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (9, 'Phasellus in felis. Donec semper sapien a libero. Nam dui.', '2022-01-06 23:22:06', 'Raffaello', '2022-04-26 17:19:24', 'Wini');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (35, 'Donec diam neque, vestibulum eget, vulputate ut, ultrices vel, augue. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Donec pharetra, magna vestibulum aliquet ultrices, erat tortor sollicitudin mi, sit amet lobortis sapien sapien non mi. Integer ac neque.', '2022-09-15 19:13:08', 'Kerrie', '2022-02-25 05:34:09', 'Marten');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (39, 'In hac habitasse platea dictumst. Etiam faucibus cursus urna. Ut tellus.', '2022-04-19 20:20:22', 'Otes', '2022-01-06 02:52:43', 'Katherine');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (95, 'Duis aliquam convallis nunc. Proin at turpis a pede posuere nonummy. Integer non velit.', '2022-04-21 22:05:54', 'Cilka', '2022-04-06 16:45:08', 'Abbi');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (12, 'Nam ultrices, libero non mattis pulvinar, nulla pede ullamcorper augue, a suscipit nulla elit ac nulla. Sed vel enim sit amet nunc viverra dapibus. Nulla suscipit ligula in lacus.', '2022-04-15 09:28:16', 'Joelle', '2022-06-22 20:53:21', 'Zara');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (53, 'Duis consequat dui nec nisi volutpat eleifend. Donec ut dolor. Morbi vel lectus in quam fringilla rhoncus.', '2022-10-21 16:45:07', 'Bertram', '2022-07-08 01:42:45', 'Dena');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (88, 'Donec diam neque, vestibulum eget, vulputate ut, ultrices vel, augue. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Donec pharetra, magna vestibulum aliquet ultrices, erat tortor sollicitudin mi, sit amet lobortis sapien sapien non mi. Integer ac neque.', '2022-10-25 00:08:58', 'Dulcine', '2022-07-25 10:11:01', 'Nancy');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (9, 'Maecenas ut massa quis augue luctus tincidunt. Nulla mollis molestie lorem. Quisque ut erat.', '2022-04-02 14:37:38', 'Korney', '2022-07-26 17:31:04', 'Martina');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (33, 'Vestibulum quam sapien, varius ut, blandit non, interdum in, ante. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Duis faucibus accumsan odio. Curabitur convallis.', '2022-06-02 11:19:32', 'Inglebert', '2022-06-27 22:19:46', 'Ruby');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (31, 'Fusce consequat. Nulla nisl. Nunc nisl.', '2022-08-24 13:56:40', 'Aridatha', '2022-06-28 20:47:18', 'Farrel');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (18, 'Aenean fermentum. Donec ut mauris eget massa tempor convallis. Nulla neque libero, convallis eget, eleifend luctus, ultricies eu, nibh.', '2022-04-25 16:13:42', 'Flss', '2022-05-27 19:26:35', 'Beryl');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (63, 'In quis justo. Maecenas rhoncus aliquam lacus. Morbi quis tortor id nulla ultrices aliquet.', '2022-03-21 03:04:19', 'Currey', '2022-11-23 07:16:26', 'Min');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (87, 'Pellentesque at nulla. Suspendisse potenti. Cras in purus eu magna vulputate luctus.', '2022-07-15 23:19:26', 'Rois', '2022-06-13 03:26:23', 'Giacopo');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (11, 'Suspendisse potenti. In eleifend quam a odio. In hac habitasse platea dictumst.', '2022-02-17 02:03:37', 'Costa', '2022-11-03 19:01:41', 'Creight');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (80, 'Cras mi pede, malesuada in, imperdiet et, commodo vulputate, justo. In blandit ultrices enim. Lorem ipsum dolor sit amet, consectetuer adipiscing elit.', '2022-08-05 04:22:50', 'Giselle', '2022-06-18 02:29:52', 'Gav');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (27, 'In hac habitasse platea dictumst. Morbi vestibulum, velit id pretium iaculis, diam erat fermentum justo, nec condimentum neque sapien placerat ante. Nulla justo.', '2022-01-01 07:06:29', 'Marys', '2021-12-30 09:30:29', 'Nadia');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (31, 'Curabitur in libero ut massa volutpat convallis. Morbi odio odio, elementum eu, interdum eu, tincidunt in, leo. Maecenas pulvinar lobortis est.', '2022-04-21 16:47:06', 'Ingrim', '2022-02-14 10:43:49', 'Jo-anne');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (43, 'Nulla ut erat id mauris vulputate elementum. Nullam varius. Nulla facilisi.', '2022-09-29 07:45:36', 'Christoforo', '2022-09-02 07:21:42', 'Chlo');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (78, 'Etiam vel augue. Vestibulum rutrum rutrum neque. Aenean auctor gravida sem.', '2022-06-07 01:21:58', 'Abran', '2022-05-11 03:02:48', 'Ransom');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (59, 'Lorem ipsum dolor sit amet, consectetuer adipiscing elit. Proin risus. Praesent lectus.', '2022-03-26 02:50:58', 'Kirsteni', '2022-12-06 21:46:18', 'Jere');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (45, 'Sed ante. Vivamus tortor. Duis mattis egestas metus.', '2022-12-16 06:29:29', 'Delia', '2022-06-25 21:53:07', 'Fancie');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (89, 'Aenean fermentum. Donec ut mauris eget massa tempor convallis. Nulla neque libero, convallis eget, eleifend luctus, ultricies eu, nibh.', '2022-09-28 21:24:33', 'Saleem', '2022-01-11 09:18:28', 'Atlanta');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (68, 'Etiam vel augue. Vestibulum rutrum rutrum neque. Aenean auctor gravida sem.', '2022-09-12 00:46:38', 'Lonnie', '2022-01-15 06:41:15', 'Ahmed');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (78, 'Aenean fermentum. Donec ut mauris eget massa tempor convallis. Nulla neque libero, convallis eget, eleifend luctus, ultricies eu, nibh.', '2022-09-13 09:49:02', 'Sallyanne', '2022-07-03 09:58:18', 'Sidoney');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (48, 'Lorem ipsum dolor sit amet, consectetuer adipiscing elit. Proin risus. Praesent lectus.', '2022-08-16 11:58:37', 'Barry', '2022-11-12 20:37:06', 'Koressa');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (38, 'Nullam porttitor lacus at turpis. Donec posuere metus vitae ipsum. Aliquam non mauris.', '2021-12-26 22:14:10', 'Nicole', '2022-01-12 17:22:43', 'Dmitri');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (44, 'Etiam vel augue. Vestibulum rutrum rutrum neque. Aenean auctor gravida sem.', '2022-12-02 22:18:58', 'Sheri', '2022-05-08 03:40:34', 'Britney');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (12, 'In sagittis dui vel nisl. Duis ac nibh. Fusce lacus purus, aliquet at, feugiat non, pretium quis, lectus.', '2022-04-11 22:05:27', 'Aimil', '2022-07-03 14:37:18', 'Dot');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (38, 'Maecenas tristique, est et tempus semper, est quam pharetra magna, ac consequat metus sapien ut nunc. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Mauris viverra diam vitae quam. Suspendisse potenti.', '2022-05-16 08:59:11', 'Claudius', '2022-06-09 21:53:13', 'Gerianna');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (76, 'Curabitur in libero ut massa volutpat convallis. Morbi odio odio, elementum eu, interdum eu, tincidunt in, leo. Maecenas pulvinar lobortis est.', '2022-04-26 21:56:45', 'Marsh', '2022-11-15 12:52:43', 'Whitby');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (89, 'Vestibulum ac est lacinia nisi venenatis tristique. Fusce congue, diam id ornare imperdiet, sapien urna pretium nisl, ut volutpat sapien arcu sed augue. Aliquam erat volutpat.', '2022-06-01 15:57:23', 'Joelly', '2022-11-06 13:09:10', 'Sherlock');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (65, 'Phasellus sit amet erat. Nulla tempus. Vivamus in felis eu sapien cursus vestibulum.', '2022-09-12 17:27:56', 'Misha', '2022-04-22 14:45:59', 'Tynan');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (8, 'Phasellus sit amet erat. Nulla tempus. Vivamus in felis eu sapien cursus vestibulum.', '2022-01-16 10:16:32', 'Farand', '2022-09-25 10:04:17', 'Pammi');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (29, 'Sed ante. Vivamus tortor. Duis mattis egestas metus.', '2022-02-20 00:44:47', 'Margarette', '2022-07-04 20:04:35', 'Minta');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (66, 'In hac habitasse platea dictumst. Etiam faucibus cursus urna. Ut tellus.', '2022-05-05 07:40:40', 'Doroteya', '2022-07-07 05:24:31', 'Bradley');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (32, 'Curabitur at ipsum ac tellus semper interdum. Mauris ullamcorper purus sit amet nulla. Quisque arcu libero, rutrum ac, lobortis vel, dapibus at, diam.', '2022-04-27 13:41:44', 'Modestine', '2022-03-16 01:37:14', 'Vivianna');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (29, 'Vestibulum ac est lacinia nisi venenatis tristique. Fusce congue, diam id ornare imperdiet, sapien urna pretium nisl, ut volutpat sapien arcu sed augue. Aliquam erat volutpat.', '2022-11-09 22:47:59', 'Cozmo', '2022-01-28 09:17:04', 'Barton');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (89, 'Curabitur gravida nisi at nibh. In hac habitasse platea dictumst. Aliquam augue quam, sollicitudin vitae, consectetuer eget, rutrum at, lorem.', '2022-09-01 18:36:17', 'Kala', '2022-07-08 09:07:10', 'Derrek');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (59, 'Lorem ipsum dolor sit amet, consectetuer adipiscing elit. Proin risus. Praesent lectus.', '2022-02-28 21:40:50', 'Hussein', '2022-02-02 06:42:52', 'Lucila');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (24, 'Nam ultrices, libero non mattis pulvinar, nulla pede ullamcorper augue, a suscipit nulla elit ac nulla. Sed vel enim sit amet nunc viverra dapibus. Nulla suscipit ligula in lacus.', '2022-05-16 02:08:11', 'Roy', '2022-03-03 18:04:35', 'Fancie');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (12, 'Aenean lectus. Pellentesque eget nunc. Donec quis orci eget orci vehicula condimentum.', '2021-12-21 10:42:36', 'Herbert', '2022-03-01 03:20:07', 'Dorotea');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (75, 'Aenean lectus. Pellentesque eget nunc. Donec quis orci eget orci vehicula condimentum.', '2022-02-17 18:03:06', 'Diandra', '2022-02-01 04:47:59', 'Wendi');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (99, 'Proin eu mi. Nulla ac enim. In tempor, turpis nec euismod scelerisque, quam turpis adipiscing lorem, vitae mattis nibh ligula nec sem.', '2022-05-24 13:51:42', 'Nickolaus', '2022-03-31 14:26:30', 'Guendolen');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (48, 'Maecenas ut massa quis augue luctus tincidunt. Nulla mollis molestie lorem. Quisque ut erat.', '2022-12-03 14:04:54', 'Odetta', '2022-08-25 19:27:59', 'Hogan');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (23, 'Quisque id justo sit amet sapien dignissim vestibulum. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Nulla dapibus dolor vel est. Donec odio justo, sollicitudin ut, suscipit a, feugiat et, eros.', '2022-02-18 05:29:12', 'Kattie', '2022-01-25 07:31:02', 'Rudolfo');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (13, 'Duis aliquam convallis nunc. Proin at turpis a pede posuere nonummy. Integer non velit.', '2022-03-14 01:23:08', 'Angus', '2022-02-14 01:40:03', 'Haroun');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (15, 'Integer ac leo. Pellentesque ultrices mattis odio. Donec vitae nisi.', '2022-10-09 14:25:42', 'Ernst', '2022-05-14 22:39:04', 'Carrol');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (45, 'Etiam vel augue. Vestibulum rutrum rutrum neque. Aenean auctor gravida sem.', '2022-12-13 19:59:35', 'Waylin', '2022-01-26 12:02:14', 'Mortie');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (67, 'Proin interdum mauris non ligula pellentesque ultrices. Phasellus id sapien in sapien iaculis congue. Vivamus metus arcu, adipiscing molestie, hendrerit at, vulputate vitae, nisl.', '2022-05-14 21:54:43', 'Theresina', '2022-07-03 06:03:35', 'Tiffany');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (16, 'Curabitur in libero ut massa volutpat convallis. Morbi odio odio, elementum eu, interdum eu, tincidunt in, leo. Maecenas pulvinar lobortis est.', '2022-03-27 06:07:42', 'Julia', '2022-02-12 21:35:51', 'Linea');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (56, 'In hac habitasse platea dictumst. Etiam faucibus cursus urna. Ut tellus.', '2022-09-13 03:37:34', 'Idalia', '2022-07-12 15:05:57', 'Paloma');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (87, 'Duis aliquam convallis nunc. Proin at turpis a pede posuere nonummy. Integer non velit.', '2022-09-23 22:58:39', 'Markus', '2022-01-24 14:13:51', 'Dulcea');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (12, 'Maecenas ut massa quis augue luctus tincidunt. Nulla mollis molestie lorem. Quisque ut erat.', '2022-03-22 12:36:04', 'Torry', '2022-03-13 21:21:54', 'Nappie');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (43, 'Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus. Vivamus vestibulum sagittis sapien. Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus.', '2022-08-15 07:11:56', 'Simonette', '2022-11-14 08:04:54', 'Kaye');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (46, 'Curabitur in libero ut massa volutpat convallis. Morbi odio odio, elementum eu, interdum eu, tincidunt in, leo. Maecenas pulvinar lobortis est.', '2022-11-12 19:04:41', 'William', '2021-12-27 05:17:44', 'Keeley');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (51, 'Sed ante. Vivamus tortor. Duis mattis egestas metus.', '2022-09-03 21:18:21', 'Ugo', '2022-06-10 06:17:17', 'Tiphani');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (77, 'Quisque porta volutpat erat. Quisque erat eros, viverra eget, congue eget, semper rutrum, nulla. Nunc purus.', '2022-07-01 17:17:51', 'Lilas', '2022-08-13 22:12:02', 'Kenneth');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (43, 'Aenean lectus. Pellentesque eget nunc. Donec quis orci eget orci vehicula condimentum.', '2022-02-03 13:22:35', 'Adel', '2022-08-12 00:56:44', 'Mikkel');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (78, 'Nullam porttitor lacus at turpis. Donec posuere metus vitae ipsum. Aliquam non mauris.', '2022-04-27 10:47:54', 'Manolo', '2022-12-15 17:27:33', 'Sven');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (75, 'Praesent blandit. Nam nulla. Integer pede justo, lacinia eget, tincidunt eget, tempus vel, pede.', '2022-02-13 19:02:50', 'Lincoln', '2022-04-26 22:15:58', 'Ulla');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (28, 'Nullam sit amet turpis elementum ligula vehicula consequat. Morbi a ipsum. Integer a nibh.', '2022-06-22 22:56:16', 'Etty', '2022-07-23 21:01:24', 'Sammie');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (71, 'Morbi non lectus. Aliquam sit amet diam in magna bibendum imperdiet. Nullam orci pede, venenatis non, sodales sed, tincidunt eu, felis.', '2022-05-01 09:09:49', 'Ludovika', '2022-01-11 07:48:38', 'Becki');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (48, 'Integer ac leo. Pellentesque ultrices mattis odio. Donec vitae nisi.', '2022-04-10 11:21:28', 'Tessy', '2022-06-19 11:58:58', 'Doretta');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (21, 'Integer ac leo. Pellentesque ultrices mattis odio. Donec vitae nisi.', '2022-03-07 12:55:05', 'Dorian', '2022-07-11 07:55:50', 'Mahmud');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (40, 'Sed sagittis. Nam congue, risus semper porta volutpat, quam pede lobortis ligula, sit amet eleifend pede libero quis orci. Nullam molestie nibh in lectus.', '2022-11-19 09:18:07', 'Jody', '2022-04-07 00:49:41', 'Trixie');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (60, 'Morbi porttitor lorem id ligula. Suspendisse ornare consequat lectus. In est risus, auctor sed, tristique in, tempus sit amet, sem.', '2022-05-10 14:16:07', 'Forrest', '2022-04-04 03:30:56', 'Roana');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (66, 'Curabitur gravida nisi at nibh. In hac habitasse platea dictumst. Aliquam augue quam, sollicitudin vitae, consectetuer eget, rutrum at, lorem.', '2022-10-04 01:58:57', 'Conn', '2022-11-23 16:41:12', 'Nels');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (47, 'Mauris enim leo, rhoncus sed, vestibulum sit amet, cursus id, turpis. Integer aliquet, massa id lobortis convallis, tortor risus dapibus augue, vel accumsan tellus nisi eu orci. Mauris lacinia sapien quis libero.', '2022-02-22 12:40:52', 'Marian', '2022-01-31 13:02:44', 'Elfreda');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (95, 'Fusce posuere felis sed lacus. Morbi sem mauris, laoreet ut, rhoncus aliquet, pulvinar sed, nisl. Nunc rhoncus dui vel sem.', '2022-02-10 23:32:36', 'Avery', '2022-04-05 07:24:02', 'Cookie');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (79, 'Nullam porttitor lacus at turpis. Donec posuere metus vitae ipsum. Aliquam non mauris.', '2022-04-15 10:59:44', 'Fenelia', '2022-02-19 12:32:35', 'Wang');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (62, 'Cras mi pede, malesuada in, imperdiet et, commodo vulputate, justo. In blandit ultrices enim. Lorem ipsum dolor sit amet, consectetuer adipiscing elit.', '2022-03-03 03:48:47', 'Waring', '2022-05-12 01:47:53', 'Nydia');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (12, 'Integer tincidunt ante vel ipsum. Praesent blandit lacinia erat. Vestibulum sed magna at nunc commodo placerat.', '2022-02-03 20:07:29', 'Elyn', '2022-09-22 20:19:40', 'Odette');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (10, 'Pellentesque at nulla. Suspendisse potenti. Cras in purus eu magna vulputate luctus.', '2022-12-03 02:00:56', 'Berget', '2022-04-02 17:01:15', 'Fredra');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (14, 'Proin eu mi. Nulla ac enim. In tempor, turpis nec euismod scelerisque, quam turpis adipiscing lorem, vitae mattis nibh ligula nec sem.', '2022-09-11 04:33:57', 'Cinda', '2022-07-06 19:20:59', 'Vonni');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (50, 'In hac habitasse platea dictumst. Etiam faucibus cursus urna. Ut tellus.', '2022-09-20 03:02:02', 'Frieda', '2022-01-31 15:39:39', 'Abdul');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (1, 'Morbi non lectus. Aliquam sit amet diam in magna bibendum imperdiet. Nullam orci pede, venenatis non, sodales sed, tincidunt eu, felis.', '2022-12-04 18:39:03', 'Phineas', '2022-11-24 13:53:27', 'Ninetta');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (48, 'Aliquam quis turpis eget elit sodales scelerisque. Mauris sit amet eros. Suspendisse accumsan tortor quis turpis.', '2022-01-19 17:16:04', 'Austine', '2022-05-06 01:18:01', 'Marlie');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (83, 'Nullam sit amet turpis elementum ligula vehicula consequat. Morbi a ipsum. Integer a nibh.', '2022-08-22 09:43:48', 'Jefferey', '2022-05-23 17:31:41', 'Madlin');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (81, 'Proin eu mi. Nulla ac enim. In tempor, turpis nec euismod scelerisque, quam turpis adipiscing lorem, vitae mattis nibh ligula nec sem.', '2022-04-26 04:01:27', 'Claudianus', '2022-03-25 23:59:20', 'Mella');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (14, 'Aenean lectus. Pellentesque eget nunc. Donec quis orci eget orci vehicula condimentum.', '2022-09-21 04:55:23', 'Calli', '2022-07-14 09:37:51', 'Dasya');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (26, 'Nam ultrices, libero non mattis pulvinar, nulla pede ullamcorper augue, a suscipit nulla elit ac nulla. Sed vel enim sit amet nunc viverra dapibus. Nulla suscipit ligula in lacus.', '2022-10-22 06:07:40', 'Elena', '2022-06-26 18:26:26', 'Noell');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (65, 'Duis bibendum. Morbi non quam nec dui luctus rutrum. Nulla tellus.', '2022-11-24 06:20:36', 'Ive', '2022-01-21 13:12:35', 'Dania');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (9, 'Nulla ut erat id mauris vulputate elementum. Nullam varius. Nulla facilisi.', '2022-12-15 00:45:14', 'Allyn', '2022-11-16 01:45:17', 'Shelton');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (44, 'Curabitur gravida nisi at nibh. In hac habitasse platea dictumst. Aliquam augue quam, sollicitudin vitae, consectetuer eget, rutrum at, lorem.', '2022-07-26 10:48:00', 'Cati', '2022-11-09 23:12:17', 'Tuck');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (23, 'Maecenas tristique, est et tempus semper, est quam pharetra magna, ac consequat metus sapien ut nunc. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Mauris viverra diam vitae quam. Suspendisse potenti.', '2022-09-01 16:29:22', 'Malanie', '2022-04-23 12:16:06', 'Dodie');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (62, 'Nam ultrices, libero non mattis pulvinar, nulla pede ullamcorper augue, a suscipit nulla elit ac nulla. Sed vel enim sit amet nunc viverra dapibus. Nulla suscipit ligula in lacus.', '2022-11-27 05:17:15', 'Cyrillus', '2022-07-05 05:01:11', 'Harlin');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (67, 'Nullam porttitor lacus at turpis. Donec posuere metus vitae ipsum. Aliquam non mauris.', '2022-04-26 07:08:24', 'Tani', '2022-01-21 02:51:57', 'Henryetta');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (86, 'Proin interdum mauris non ligula pellentesque ultrices. Phasellus id sapien in sapien iaculis congue. Vivamus metus arcu, adipiscing molestie, hendrerit at, vulputate vitae, nisl.', '2022-05-29 05:37:57', 'Orlando', '2022-02-03 22:48:21', 'Larry');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (92, 'Donec diam neque, vestibulum eget, vulputate ut, ultrices vel, augue. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Donec pharetra, magna vestibulum aliquet ultrices, erat tortor sollicitudin mi, sit amet lobortis sapien sapien non mi. Integer ac neque.', '2022-08-22 12:00:27', 'Markos', '2022-01-24 16:31:19', 'Krystyna');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (38, 'Aenean fermentum. Donec ut mauris eget massa tempor convallis. Nulla neque libero, convallis eget, eleifend luctus, ultricies eu, nibh.', '2022-03-02 11:38:15', 'Brooks', '2022-10-09 02:01:01', 'Thomasine');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (42, 'Quisque porta volutpat erat. Quisque erat eros, viverra eget, congue eget, semper rutrum, nulla. Nunc purus.', '2022-05-14 23:18:38', 'Rozina', '2022-06-03 20:22:31', 'Kiri');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (2, 'Duis bibendum. Morbi non quam nec dui luctus rutrum. Nulla tellus.', '2022-02-09 04:04:04', 'Daffy', '2021-12-21 06:08:00', 'Calley');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (13, 'Sed ante. Vivamus tortor. Duis mattis egestas metus.', '2022-09-19 23:32:04', 'Jarrod', '2022-08-19 00:39:28', 'Becki');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (21, 'Duis aliquam convallis nunc. Proin at turpis a pede posuere nonummy. Integer non velit.', '2022-02-18 00:42:53', 'Lilllie', '2022-03-20 17:35:51', 'Marin');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (17, 'In quis justo. Maecenas rhoncus aliquam lacus. Morbi quis tortor id nulla ultrices aliquet.', '2022-05-25 18:12:08', 'Rab', '2021-12-30 21:09:30', 'Cecilio');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (91, 'Praesent id massa id nisl venenatis lacinia. Aenean sit amet justo. Morbi ut odio.', '2022-03-09 23:37:34', 'Keenan', '2022-03-09 15:27:50', 'Rebecca');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (86, 'Sed ante. Vivamus tortor. Duis mattis egestas metus.', '2022-11-22 12:14:13', 'Pat', '2022-03-22 08:38:48', 'Birdie');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (88, 'Nullam porttitor lacus at turpis. Donec posuere metus vitae ipsum. Aliquam non mauris.', '2022-03-21 00:40:36', 'Tabitha', '2022-11-02 07:46:32', 'Leisha');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (22, 'Mauris enim leo, rhoncus sed, vestibulum sit amet, cursus id, turpis. Integer aliquet, massa id lobortis convallis, tortor risus dapibus augue, vel accumsan tellus nisi eu orci. Mauris lacinia sapien quis libero.', '2022-09-13 19:54:48', 'Uri', '2022-12-18 14:47:03', 'Cathrine');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (93, 'Maecenas leo odio, condimentum id, luctus nec, molestie sed, justo. Pellentesque viverra pede ac diam. Cras pellentesque volutpat dui.', '2022-06-13 18:10:34', 'Trudi', '2021-12-26 16:55:09', 'Lanae');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (9, 'Integer ac leo. Pellentesque ultrices mattis odio. Donec vitae nisi.', '2022-02-16 22:17:57', 'Daffie', '2022-08-12 09:38:22', 'Krysta');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (73, 'Mauris enim leo, rhoncus sed, vestibulum sit amet, cursus id, turpis. Integer aliquet, massa id lobortis convallis, tortor risus dapibus augue, vel accumsan tellus nisi eu orci. Mauris lacinia sapien quis libero.', '2022-06-19 07:14:33', 'Audi', '2022-04-10 10:04:31', 'Savina');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (81, 'Fusce consequat. Nulla nisl. Nunc nisl.', '2022-12-06 17:49:28', 'Annie', '2022-07-09 10:05:08', 'Dennie');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (94, 'Maecenas leo odio, condimentum id, luctus nec, molestie sed, justo. Pellentesque viverra pede ac diam. Cras pellentesque volutpat dui.', '2022-03-24 19:12:05', 'Sharleen', '2022-12-10 12:33:27', 'Morris');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (47, 'Nulla ut erat id mauris vulputate elementum. Nullam varius. Nulla facilisi.', '2022-10-10 20:27:02', 'Svend', '2022-05-02 22:54:55', 'Charo');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (62, 'Duis consequat dui nec nisi volutpat eleifend. Donec ut dolor. Morbi vel lectus in quam fringilla rhoncus.', '2022-06-18 18:58:15', 'Isabelle', '2022-02-25 03:32:01', 'Bevvy');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (39, 'In sagittis dui vel nisl. Duis ac nibh. Fusce lacus purus, aliquet at, feugiat non, pretium quis, lectus.', '2022-12-02 11:37:49', 'Hailey', '2022-01-23 06:02:48', 'Nels');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (32, 'Curabitur gravida nisi at nibh. In hac habitasse platea dictumst. Aliquam augue quam, sollicitudin vitae, consectetuer eget, rutrum at, lorem.', '2022-07-28 14:20:58', 'Hinze', '2022-11-29 09:21:05', 'Dyann');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (55, 'Nullam porttitor lacus at turpis. Donec posuere metus vitae ipsum. Aliquam non mauris.', '2022-03-03 23:01:41', 'Alvera', '2022-04-30 06:53:02', 'Vikki');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (68, 'Aliquam quis turpis eget elit sodales scelerisque. Mauris sit amet eros. Suspendisse accumsan tortor quis turpis.', '2022-03-21 10:02:51', 'Brandice', '2022-09-12 22:31:08', 'Freeland');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (69, 'Mauris enim leo, rhoncus sed, vestibulum sit amet, cursus id, turpis. Integer aliquet, massa id lobortis convallis, tortor risus dapibus augue, vel accumsan tellus nisi eu orci. Mauris lacinia sapien quis libero.', '2022-12-17 14:39:24', 'Liva', '2022-01-11 00:46:02', 'Noak');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (48, 'Nulla ut erat id mauris vulputate elementum. Nullam varius. Nulla facilisi.', '2022-06-25 01:18:45', 'Pincas', '2022-12-06 02:40:06', 'Matthias');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (66, 'Integer tincidunt ante vel ipsum. Praesent blandit lacinia erat. Vestibulum sed magna at nunc commodo placerat.', '2022-04-30 17:44:31', 'Adelheid', '2022-08-02 00:16:25', 'Andris');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (4, 'Aenean fermentum. Donec ut mauris eget massa tempor convallis. Nulla neque libero, convallis eget, eleifend luctus, ultricies eu, nibh.', '2022-07-10 05:17:54', 'Augustus', '2022-12-14 19:49:46', 'Dre');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (39, 'Vestibulum quam sapien, varius ut, blandit non, interdum in, ante. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Duis faucibus accumsan odio. Curabitur convallis.', '2022-05-20 11:04:14', 'Levon', '2021-12-26 23:13:14', 'Correy');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (59, 'Sed ante. Vivamus tortor. Duis mattis egestas metus.', '2022-09-30 11:04:55', 'Pierre', '2022-03-02 16:08:36', 'Timothy');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (72, 'Proin leo odio, porttitor id, consequat in, consequat ut, nulla. Sed accumsan felis. Ut at dolor quis odio consequat varius.', '2022-07-09 19:14:06', 'Mufi', '2022-03-18 02:13:40', 'Case');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (70, 'Vestibulum quam sapien, varius ut, blandit non, interdum in, ante. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Duis faucibus accumsan odio. Curabitur convallis.', '2022-05-22 19:18:21', 'Kora', '2022-06-14 03:50:25', 'Rebecka');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (64, 'Proin leo odio, porttitor id, consequat in, consequat ut, nulla. Sed accumsan felis. Ut at dolor quis odio consequat varius.', '2022-05-13 14:18:26', 'Marga', '2022-08-01 13:57:29', 'Evaleen');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (41, 'Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus. Vivamus vestibulum sagittis sapien. Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus.', '2022-06-11 16:34:20', 'Ad', '2022-04-17 04:29:35', 'John');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (80, 'Nullam porttitor lacus at turpis. Donec posuere metus vitae ipsum. Aliquam non mauris.', '2022-07-13 09:34:15', 'Barbara', '2022-11-15 01:03:58', 'Britta');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (46, 'Phasellus in felis. Donec semper sapien a libero. Nam dui.', '2022-06-11 15:26:29', 'Baldwin', '2022-11-29 12:47:33', 'Hildegaard');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (78, 'Praesent blandit. Nam nulla. Integer pede justo, lacinia eget, tincidunt eget, tempus vel, pede.', '2022-03-05 07:52:12', 'Dix', '2022-09-10 22:25:39', 'Sande');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (94, 'Nam ultrices, libero non mattis pulvinar, nulla pede ullamcorper augue, a suscipit nulla elit ac nulla. Sed vel enim sit amet nunc viverra dapibus. Nulla suscipit ligula in lacus.', '2022-10-14 04:51:21', 'Farrah', '2022-04-01 06:36:53', 'Donn');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (27, 'Nulla ut erat id mauris vulputate elementum. Nullam varius. Nulla facilisi.', '2022-01-31 21:39:32', 'Zahara', '2022-03-12 04:23:45', 'Dona');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (4, 'Vestibulum ac est lacinia nisi venenatis tristique. Fusce congue, diam id ornare imperdiet, sapien urna pretium nisl, ut volutpat sapien arcu sed augue. Aliquam erat volutpat.', '2022-09-01 23:32:16', 'Michelina', '2022-04-28 17:43:16', 'Stevy');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (65, 'Duis bibendum, felis sed interdum venenatis, turpis enim blandit mi, in porttitor pede justo eu massa. Donec dapibus. Duis at velit eu est congue elementum.', '2022-03-17 02:06:34', 'Garnet', '2022-09-16 15:34:57', 'Dix');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (96, 'In hac habitasse platea dictumst. Morbi vestibulum, velit id pretium iaculis, diam erat fermentum justo, nec condimentum neque sapien placerat ante. Nulla justo.', '2022-07-27 16:04:53', 'Orrin', '2022-11-25 04:41:50', 'Hewe');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (71, 'Maecenas leo odio, condimentum id, luctus nec, molestie sed, justo. Pellentesque viverra pede ac diam. Cras pellentesque volutpat dui.', '2022-01-20 06:20:32', 'Janice', '2022-04-22 19:48:18', 'Felita');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (40, 'Aenean fermentum. Donec ut mauris eget massa tempor convallis. Nulla neque libero, convallis eget, eleifend luctus, ultricies eu, nibh.', '2022-01-13 13:18:19', 'Melanie', '2022-06-08 20:07:38', 'Rhonda');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (74, 'Pellentesque at nulla. Suspendisse potenti. Cras in purus eu magna vulputate luctus.', '2022-01-20 10:15:56', 'Bathsheba', '2022-01-29 00:51:37', 'Herculie');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (55, 'Aliquam quis turpis eget elit sodales scelerisque. Mauris sit amet eros. Suspendisse accumsan tortor quis turpis.', '2022-08-04 22:20:25', 'Becki', '2022-05-17 09:52:28', 'Helaine');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (83, 'Curabitur in libero ut massa volutpat convallis. Morbi odio odio, elementum eu, interdum eu, tincidunt in, leo. Maecenas pulvinar lobortis est.', '2021-12-24 12:34:28', 'Patricio', '2022-09-01 01:28:44', 'Jamesy');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (27, 'Maecenas ut massa quis augue luctus tincidunt. Nulla mollis molestie lorem. Quisque ut erat.', '2022-05-27 17:43:23', 'Dulcinea', '2022-12-11 08:26:29', 'Daveen');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (94, 'Pellentesque at nulla. Suspendisse potenti. Cras in purus eu magna vulputate luctus.', '2022-08-22 04:07:22', 'Mata', '2022-08-21 06:15:57', 'Jilleen');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (51, 'Curabitur gravida nisi at nibh. In hac habitasse platea dictumst. Aliquam augue quam, sollicitudin vitae, consectetuer eget, rutrum at, lorem.', '2022-01-09 04:42:29', 'Jolee', '2022-10-11 10:57:27', 'Sile');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (99, 'Sed sagittis. Nam congue, risus semper porta volutpat, quam pede lobortis ligula, sit amet eleifend pede libero quis orci. Nullam molestie nibh in lectus.', '2022-10-26 23:33:30', 'Zared', '2022-07-27 02:55:47', 'Gabby');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (53, 'Proin eu mi. Nulla ac enim. In tempor, turpis nec euismod scelerisque, quam turpis adipiscing lorem, vitae mattis nibh ligula nec sem.', '2022-12-13 20:55:26', 'Goldarina', '2021-12-31 21:41:27', 'Donal');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (74, 'Maecenas tristique, est et tempus semper, est quam pharetra magna, ac consequat metus sapien ut nunc. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Mauris viverra diam vitae quam. Suspendisse potenti.', '2022-11-01 17:07:43', 'Tammara', '2022-05-06 11:46:04', 'Annabela');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (74, 'Maecenas leo odio, condimentum id, luctus nec, molestie sed, justo. Pellentesque viverra pede ac diam. Cras pellentesque volutpat dui.', '2022-01-14 19:16:45', 'Andrei', '2022-11-11 19:05:10', 'Engelbert');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (52, 'Sed ante. Vivamus tortor. Duis mattis egestas metus.', '2022-12-14 21:36:41', 'Arie', '2022-04-01 23:29:03', 'Alano');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (51, 'Maecenas ut massa quis augue luctus tincidunt. Nulla mollis molestie lorem. Quisque ut erat.', '2022-12-03 16:55:12', 'Sonnie', '2022-03-02 07:04:59', 'Gavrielle');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (62, 'Nulla ut erat id mauris vulputate elementum. Nullam varius. Nulla facilisi.', '2021-12-21 22:39:46', 'Kayley', '2022-01-08 08:38:49', 'Harp');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (79, 'Curabitur gravida nisi at nibh. In hac habitasse platea dictumst. Aliquam augue quam, sollicitudin vitae, consectetuer eget, rutrum at, lorem.', '2022-08-31 07:26:50', 'Jordan', '2022-02-11 18:33:57', 'Grannie');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (55, 'Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus. Vivamus vestibulum sagittis sapien. Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus.', '2022-10-27 23:00:02', 'Garik', '2022-11-09 18:39:11', 'Edie');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (79, 'Etiam vel augue. Vestibulum rutrum rutrum neque. Aenean auctor gravida sem.', '2022-05-11 11:30:38', 'Osborn', '2022-07-01 23:23:07', 'Andie');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (2, 'Proin leo odio, porttitor id, consequat in, consequat ut, nulla. Sed accumsan felis. Ut at dolor quis odio consequat varius.', '2022-02-13 16:31:27', 'Georgeanne', '2022-06-06 23:20:03', 'Ellis');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (50, 'Duis bibendum. Morbi non quam nec dui luctus rutrum. Nulla tellus.', '2022-06-16 09:03:08', 'Niels', '2022-03-25 15:29:31', 'Hyacinth');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (2, 'Duis bibendum. Morbi non quam nec dui luctus rutrum. Nulla tellus.', '2022-02-07 22:33:33', 'Nevsa', '2022-04-28 04:28:24', 'Dosi');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (55, 'In hac habitasse platea dictumst. Etiam faucibus cursus urna. Ut tellus.', '2022-01-08 01:58:52', 'Claudian', '2022-06-18 12:21:41', 'Leroi');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (53, 'Integer tincidunt ante vel ipsum. Praesent blandit lacinia erat. Vestibulum sed magna at nunc commodo placerat.', '2022-07-20 18:33:44', 'Cosette', '2022-03-02 14:13:40', 'Ottilie');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (48, 'Curabitur in libero ut massa volutpat convallis. Morbi odio odio, elementum eu, interdum eu, tincidunt in, leo. Maecenas pulvinar lobortis est.', '2022-03-12 13:16:23', 'Gardy', '2022-10-13 11:35:19', 'Ophelie');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (67, 'Nam ultrices, libero non mattis pulvinar, nulla pede ullamcorper augue, a suscipit nulla elit ac nulla. Sed vel enim sit amet nunc viverra dapibus. Nulla suscipit ligula in lacus.', '2022-12-04 13:23:32', 'Haywood', '2022-02-27 08:14:14', 'Denna');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (50, 'Aenean lectus. Pellentesque eget nunc. Donec quis orci eget orci vehicula condimentum.', '2022-09-22 01:52:56', 'Marcelia', '2022-12-07 22:06:06', 'Morten');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (9, 'Integer tincidunt ante vel ipsum. Praesent blandit lacinia erat. Vestibulum sed magna at nunc commodo placerat.', '2022-02-04 16:01:53', 'Greg', '2022-03-26 22:00:32', 'Raff');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (67, 'Maecenas leo odio, condimentum id, luctus nec, molestie sed, justo. Pellentesque viverra pede ac diam. Cras pellentesque volutpat dui.', '2022-05-24 10:54:20', 'Maury', '2022-05-10 06:27:27', 'Torie');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (63, 'Duis bibendum. Morbi non quam nec dui luctus rutrum. Nulla tellus.', '2022-04-27 02:28:11', 'Roxy', '2022-12-13 23:09:37', 'Shane');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (85, 'Maecenas tristique, est et tempus semper, est quam pharetra magna, ac consequat metus sapien ut nunc. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Mauris viverra diam vitae quam. Suspendisse potenti.', '2022-01-08 23:20:56', 'Shena', '2022-10-03 04:18:10', 'Dilly');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (86, 'Proin leo odio, porttitor id, consequat in, consequat ut, nulla. Sed accumsan felis. Ut at dolor quis odio consequat varius.', '2022-08-21 02:38:31', 'Stillmann', '2022-11-06 14:58:07', 'Kendrick');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (4, 'Curabitur at ipsum ac tellus semper interdum. Mauris ullamcorper purus sit amet nulla. Quisque arcu libero, rutrum ac, lobortis vel, dapibus at, diam.', '2022-03-25 22:34:22', 'Carola', '2022-08-13 21:50:00', 'Amity');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (33, 'Morbi porttitor lorem id ligula. Suspendisse ornare consequat lectus. In est risus, auctor sed, tristique in, tempus sit amet, sem.', '2022-11-13 07:07:36', 'Roarke', '2022-10-20 20:06:20', 'Ollie');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (39, 'In hac habitasse platea dictumst. Etiam faucibus cursus urna. Ut tellus.', '2022-04-13 12:43:08', 'Torrie', '2022-02-09 17:27:18', 'Nerty');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (30, 'Cras mi pede, malesuada in, imperdiet et, commodo vulputate, justo. In blandit ultrices enim. Lorem ipsum dolor sit amet, consectetuer adipiscing elit.', '2022-10-28 13:32:04', 'Elfie', '2022-06-16 23:42:27', 'Cchaddie');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (8, 'Proin eu mi. Nulla ac enim. In tempor, turpis nec euismod scelerisque, quam turpis adipiscing lorem, vitae mattis nibh ligula nec sem.', '2022-07-08 15:46:42', 'Kikelia', '2022-01-19 20:31:26', 'Haleigh');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (20, 'Integer ac leo. Pellentesque ultrices mattis odio. Donec vitae nisi.', '2022-06-15 14:26:14', 'Hetti', '2022-02-07 12:11:15', 'Dal');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (13, 'Aenean lectus. Pellentesque eget nunc. Donec quis orci eget orci vehicula condimentum.', '2022-02-04 02:11:53', 'Elly', '2022-09-29 10:34:57', 'Nichole');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (62, 'Mauris enim leo, rhoncus sed, vestibulum sit amet, cursus id, turpis. Integer aliquet, massa id lobortis convallis, tortor risus dapibus augue, vel accumsan tellus nisi eu orci. Mauris lacinia sapien quis libero.', '2022-03-28 13:09:52', 'Ronny', '2022-05-22 08:28:27', 'Inge');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (3, 'Proin leo odio, porttitor id, consequat in, consequat ut, nulla. Sed accumsan felis. Ut at dolor quis odio consequat varius.', '2022-09-25 23:57:18', 'Kelwin', '2022-01-14 11:19:13', 'Carolina');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (12, 'Duis bibendum. Morbi non quam nec dui luctus rutrum. Nulla tellus.', '2022-07-08 10:39:53', 'Kerk', '2022-11-03 05:39:54', 'Eveline');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (93, 'Nam ultrices, libero non mattis pulvinar, nulla pede ullamcorper augue, a suscipit nulla elit ac nulla. Sed vel enim sit amet nunc viverra dapibus. Nulla suscipit ligula in lacus.', '2022-05-23 03:48:38', 'Kirby', '2022-05-09 02:48:50', 'Rubi');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (26, 'Aliquam quis turpis eget elit sodales scelerisque. Mauris sit amet eros. Suspendisse accumsan tortor quis turpis.', '2022-04-08 21:07:41', 'Annette', '2022-01-06 05:16:54', 'Gerard');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (69, 'Integer ac leo. Pellentesque ultrices mattis odio. Donec vitae nisi.', '2022-02-17 03:28:48', 'Rudie', '2022-11-28 23:06:45', 'Caressa');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (70, 'Vestibulum ac est lacinia nisi venenatis tristique. Fusce congue, diam id ornare imperdiet, sapien urna pretium nisl, ut volutpat sapien arcu sed augue. Aliquam erat volutpat.', '2022-10-08 11:02:32', 'Clarence', '2022-03-12 11:57:42', 'Orv');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (95, 'Curabitur gravida nisi at nibh. In hac habitasse platea dictumst. Aliquam augue quam, sollicitudin vitae, consectetuer eget, rutrum at, lorem.', '2022-06-16 20:07:14', 'Theresita', '2022-06-17 15:40:36', 'Tallie');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (40, 'Nullam porttitor lacus at turpis. Donec posuere metus vitae ipsum. Aliquam non mauris.', '2022-01-07 06:23:17', 'Nell', '2022-05-06 12:16:31', 'Celinda');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (24, 'Fusce consequat. Nulla nisl. Nunc nisl.', '2022-01-09 13:40:43', 'Pru', '2022-08-09 11:33:48', 'Nikaniki');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (98, 'Quisque porta volutpat erat. Quisque erat eros, viverra eget, congue eget, semper rutrum, nulla. Nunc purus.', '2022-03-31 23:19:46', 'Elwira', '2022-09-27 20:12:00', 'Layla');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (19, 'Morbi porttitor lorem id ligula. Suspendisse ornare consequat lectus. In est risus, auctor sed, tristique in, tempus sit amet, sem.', '2022-07-29 11:19:40', 'Freddy', '2022-01-02 18:18:10', 'Ulberto');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (95, 'Curabitur at ipsum ac tellus semper interdum. Mauris ullamcorper purus sit amet nulla. Quisque arcu libero, rutrum ac, lobortis vel, dapibus at, diam.', '2022-07-10 16:48:15', 'Martie', '2022-11-29 07:32:28', 'Cassius');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (39, 'Nullam sit amet turpis elementum ligula vehicula consequat. Morbi a ipsum. Integer a nibh.', '2022-07-04 04:01:04', 'Garold', '2022-03-14 18:02:34', 'Nathanil');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (40, 'Cras non velit nec nisi vulputate nonummy. Maecenas tincidunt lacus at velit. Vivamus vel nulla eget eros elementum pellentesque.', '2022-12-01 10:13:11', 'Dorree', '2022-09-11 14:14:00', 'Guillermo');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (54, 'Curabitur in libero ut massa volutpat convallis. Morbi odio odio, elementum eu, interdum eu, tincidunt in, leo. Maecenas pulvinar lobortis est.', '2022-10-16 06:58:59', 'Price', '2022-05-27 21:19:18', 'Davide');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (23, 'Curabitur gravida nisi at nibh. In hac habitasse platea dictumst. Aliquam augue quam, sollicitudin vitae, consectetuer eget, rutrum at, lorem.', '2022-05-06 13:29:57', 'Gustaf', '2022-07-13 04:53:23', 'Eric');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (53, 'Curabitur at ipsum ac tellus semper interdum. Mauris ullamcorper purus sit amet nulla. Quisque arcu libero, rutrum ac, lobortis vel, dapibus at, diam.', '2022-07-25 05:01:00', 'Dorothea', '2022-12-13 09:43:18', 'Darill');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (37, 'Duis bibendum, felis sed interdum venenatis, turpis enim blandit mi, in porttitor pede justo eu massa. Donec dapibus. Duis at velit eu est congue elementum.', '2022-10-05 16:34:00', 'Dana', '2022-01-10 13:23:32', 'Weidar');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (27, 'Praesent id massa id nisl venenatis lacinia. Aenean sit amet justo. Morbi ut odio.', '2022-12-06 03:31:25', 'Imogene', '2022-07-04 05:33:42', 'Tad');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (45, 'Lorem ipsum dolor sit amet, consectetuer adipiscing elit. Proin risus. Praesent lectus.', '2021-12-31 06:46:03', 'Guthrey', '2022-09-30 18:28:13', 'Yasmin');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (57, 'Sed ante. Vivamus tortor. Duis mattis egestas metus.', '2022-02-10 16:44:30', 'Reade', '2022-03-23 00:47:28', 'Audie');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (38, 'Curabitur at ipsum ac tellus semper interdum. Mauris ullamcorper purus sit amet nulla. Quisque arcu libero, rutrum ac, lobortis vel, dapibus at, diam.', '2022-06-28 17:41:50', 'Jeff', '2022-01-24 08:14:28', 'Bryce');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (67, 'In hac habitasse platea dictumst. Etiam faucibus cursus urna. Ut tellus.', '2022-01-19 15:50:01', 'Hailey', '2022-01-18 08:44:31', 'Avram');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (50, 'Integer tincidunt ante vel ipsum. Praesent blandit lacinia erat. Vestibulum sed magna at nunc commodo placerat.', '2022-07-12 01:25:12', 'Isacco', '2022-06-19 20:43:51', 'Ara');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (36, 'Duis aliquam convallis nunc. Proin at turpis a pede posuere nonummy. Integer non velit.', '2021-12-23 10:59:55', 'Louie', '2022-03-02 12:49:21', 'Gilbert');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (93, 'Curabitur gravida nisi at nibh. In hac habitasse platea dictumst. Aliquam augue quam, sollicitudin vitae, consectetuer eget, rutrum at, lorem.', '2022-10-04 03:05:21', 'Gabie', '2022-10-15 08:52:09', 'Constantine');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (47, 'Curabitur gravida nisi at nibh. In hac habitasse platea dictumst. Aliquam augue quam, sollicitudin vitae, consectetuer eget, rutrum at, lorem.', '2022-02-05 22:37:29', 'Gwendolin', '2022-04-21 10:51:28', 'Krista');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (78, 'Phasellus in felis. Donec semper sapien a libero. Nam dui.', '2022-12-19 12:01:41', 'Fredric', '2022-09-05 00:07:06', 'Drucill');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (29, 'Nullam sit amet turpis elementum ligula vehicula consequat. Morbi a ipsum. Integer a nibh.', '2022-03-04 14:30:17', 'Town', '2022-07-25 14:29:28', 'Aprilette');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (46, 'Maecenas tristique, est et tempus semper, est quam pharetra magna, ac consequat metus sapien ut nunc. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Mauris viverra diam vitae quam. Suspendisse potenti.', '2022-11-15 15:14:00', 'Marchelle', '2022-02-07 14:04:21', 'Griffin');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (41, 'Etiam vel augue. Vestibulum rutrum rutrum neque. Aenean auctor gravida sem.', '2022-12-04 00:48:22', 'Roarke', '2022-12-02 11:30:08', 'Myrwyn');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (80, 'Curabitur gravida nisi at nibh. In hac habitasse platea dictumst. Aliquam augue quam, sollicitudin vitae, consectetuer eget, rutrum at, lorem.', '2022-11-15 08:57:02', 'Fanchon', '2022-08-16 02:43:45', 'Liana');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (28, 'In hac habitasse platea dictumst. Morbi vestibulum, velit id pretium iaculis, diam erat fermentum justo, nec condimentum neque sapien placerat ante. Nulla justo.', '2022-05-18 04:52:45', 'Ondrea', '2022-06-13 05:27:32', 'Sandye');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (83, 'Aliquam quis turpis eget elit sodales scelerisque. Mauris sit amet eros. Suspendisse accumsan tortor quis turpis.', '2022-10-11 03:40:33', 'Ronna', '2022-07-12 02:52:54', 'Royal');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (11, 'Duis bibendum, felis sed interdum venenatis, turpis enim blandit mi, in porttitor pede justo eu massa. Donec dapibus. Duis at velit eu est congue elementum.', '2022-12-18 05:43:22', 'Dalton', '2022-06-15 01:05:32', 'Jeffrey');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (30, 'Aenean lectus. Pellentesque eget nunc. Donec quis orci eget orci vehicula condimentum.', '2022-08-29 13:44:38', 'Myron', '2022-02-23 08:44:59', 'Jacki');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (51, 'Mauris enim leo, rhoncus sed, vestibulum sit amet, cursus id, turpis. Integer aliquet, massa id lobortis convallis, tortor risus dapibus augue, vel accumsan tellus nisi eu orci. Mauris lacinia sapien quis libero.', '2022-09-18 10:08:06', 'Inge', '2022-06-03 01:59:04', 'Melonie');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (22, 'Integer tincidunt ante vel ipsum. Praesent blandit lacinia erat. Vestibulum sed magna at nunc commodo placerat.', '2022-02-16 06:48:18', 'Annalee', '2022-04-08 08:29:46', 'Terrye');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (54, 'Proin leo odio, porttitor id, consequat in, consequat ut, nulla. Sed accumsan felis. Ut at dolor quis odio consequat varius.', '2022-10-30 22:32:15', 'Orazio', '2022-11-30 06:06:20', 'Tris');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (52, 'Phasellus sit amet erat. Nulla tempus. Vivamus in felis eu sapien cursus vestibulum.', '2022-11-21 08:57:11', 'Jena', '2022-03-22 05:28:41', 'Shelley');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (93, 'Duis bibendum, felis sed interdum venenatis, turpis enim blandit mi, in porttitor pede justo eu massa. Donec dapibus. Duis at velit eu est congue elementum.', '2022-04-03 00:07:53', 'Winn', '2022-08-08 19:36:56', 'Courtney');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (84, 'Phasellus sit amet erat. Nulla tempus. Vivamus in felis eu sapien cursus vestibulum.', '2021-12-23 15:07:31', 'Anjela', '2022-08-06 14:53:09', 'Burl');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (29, 'Nam ultrices, libero non mattis pulvinar, nulla pede ullamcorper augue, a suscipit nulla elit ac nulla. Sed vel enim sit amet nunc viverra dapibus. Nulla suscipit ligula in lacus.', '2022-02-23 22:46:38', 'Sauveur', '2022-12-02 17:05:00', 'Andree');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (83, 'In congue. Etiam justo. Etiam pretium iaculis justo.', '2022-11-09 16:58:41', 'Rosene', '2022-05-24 12:26:30', 'Pierrette');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (69, 'In quis justo. Maecenas rhoncus aliquam lacus. Morbi quis tortor id nulla ultrices aliquet.', '2022-05-12 19:34:30', 'Padraig', '2022-08-14 21:38:49', 'Domenico');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (59, 'Morbi non lectus. Aliquam sit amet diam in magna bibendum imperdiet. Nullam orci pede, venenatis non, sodales sed, tincidunt eu, felis.', '2022-05-23 22:22:22', 'Gabriel', '2022-03-12 02:17:11', 'Bridget');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (91, 'Aenean fermentum. Donec ut mauris eget massa tempor convallis. Nulla neque libero, convallis eget, eleifend luctus, ultricies eu, nibh.', '2022-02-08 02:56:42', 'Hubey', '2022-03-17 09:42:34', 'Merrile');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (9, 'In hac habitasse platea dictumst. Morbi vestibulum, velit id pretium iaculis, diam erat fermentum justo, nec condimentum neque sapien placerat ante. Nulla justo.', '2022-01-04 04:18:07', 'Olwen', '2022-07-19 06:50:32', 'Sibby');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (44, 'Duis consequat dui nec nisi volutpat eleifend. Donec ut dolor. Morbi vel lectus in quam fringilla rhoncus.', '2022-07-30 23:23:00', 'Margalit', '2022-03-18 07:27:19', 'Kristofor');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (27, 'In congue. Etiam justo. Etiam pretium iaculis justo.', '2022-05-21 16:38:05', 'Christoforo', '2022-06-01 06:12:10', 'Fanny');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (35, 'Phasellus sit amet erat. Nulla tempus. Vivamus in felis eu sapien cursus vestibulum.', '2022-02-22 19:09:41', 'Joanie', '2022-07-22 10:47:08', 'Rouvin');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (67, 'Morbi non lectus. Aliquam sit amet diam in magna bibendum imperdiet. Nullam orci pede, venenatis non, sodales sed, tincidunt eu, felis.', '2022-08-14 10:52:58', 'Corri', '2022-09-07 10:07:13', 'Darrel');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (93, 'Nullam sit amet turpis elementum ligula vehicula consequat. Morbi a ipsum. Integer a nibh.', '2022-06-27 12:00:59', 'Tedda', '2022-05-03 20:37:02', 'Ebony');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (45, 'Curabitur at ipsum ac tellus semper interdum. Mauris ullamcorper purus sit amet nulla. Quisque arcu libero, rutrum ac, lobortis vel, dapibus at, diam.', '2022-12-15 22:05:43', 'Norby', '2022-07-07 16:24:20', 'Hillery');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (7, 'Curabitur at ipsum ac tellus semper interdum. Mauris ullamcorper purus sit amet nulla. Quisque arcu libero, rutrum ac, lobortis vel, dapibus at, diam.', '2022-10-13 11:20:52', 'Rosalyn', '2022-07-06 13:00:37', 'Jacklin');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (79, 'Proin leo odio, porttitor id, consequat in, consequat ut, nulla. Sed accumsan felis. Ut at dolor quis odio consequat varius.', '2022-09-02 18:58:33', 'Petey', '2021-12-28 11:26:26', 'Thain');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (89, 'Phasellus sit amet erat. Nulla tempus. Vivamus in felis eu sapien cursus vestibulum.', '2022-03-28 20:56:36', 'Duffy', '2022-05-08 04:38:01', 'Dur');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (94, 'Integer tincidunt ante vel ipsum. Praesent blandit lacinia erat. Vestibulum sed magna at nunc commodo placerat.', '2022-01-25 14:56:31', 'Faunie', '2022-03-05 01:44:30', 'Felic');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (90, 'Nulla ut erat id mauris vulputate elementum. Nullam varius. Nulla facilisi.', '2022-09-13 09:11:14', 'Ginnifer', '2022-03-31 06:03:20', 'Sheeree');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (2, 'Phasellus sit amet erat. Nulla tempus. Vivamus in felis eu sapien cursus vestibulum.', '2022-05-13 01:49:04', 'Faina', '2022-02-25 07:28:52', 'Evanne');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (39, 'Proin eu mi. Nulla ac enim. In tempor, turpis nec euismod scelerisque, quam turpis adipiscing lorem, vitae mattis nibh ligula nec sem.', '2021-12-31 23:28:23', 'Roman', '2022-12-15 20:02:04', 'Howie');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (5, 'Duis aliquam convallis nunc. Proin at turpis a pede posuere nonummy. Integer non velit.', '2022-02-25 21:37:19', 'Angus', '2022-05-30 21:02:02', 'Carola');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (7, 'Proin leo odio, porttitor id, consequat in, consequat ut, nulla. Sed accumsan felis. Ut at dolor quis odio consequat varius.', '2022-01-23 17:01:58', 'Angela', '2022-01-06 11:33:38', 'Jenelle');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (47, 'In hac habitasse platea dictumst. Etiam faucibus cursus urna. Ut tellus.', '2022-10-20 22:35:09', 'Teena', '2022-10-11 13:16:32', 'Jayme');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (62, 'Integer tincidunt ante vel ipsum. Praesent blandit lacinia erat. Vestibulum sed magna at nunc commodo placerat.', '2022-11-30 07:08:06', 'Janis', '2022-08-21 10:30:56', 'Padgett');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (69, 'Phasellus sit amet erat. Nulla tempus. Vivamus in felis eu sapien cursus vestibulum.', '2022-11-17 06:06:32', 'Linea', '2022-06-25 14:46:48', 'Codee');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (57, 'Nullam sit amet turpis elementum ligula vehicula consequat. Morbi a ipsum. Integer a nibh.', '2022-07-14 00:27:28', 'Joshuah', '2022-07-28 17:31:04', 'Patsy');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (59, 'Morbi porttitor lorem id ligula. Suspendisse ornare consequat lectus. In est risus, auctor sed, tristique in, tempus sit amet, sem.', '2022-10-16 21:38:12', 'Aeriel', '2022-08-18 07:57:50', 'Conant');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (61, 'Phasellus sit amet erat. Nulla tempus. Vivamus in felis eu sapien cursus vestibulum.', '2022-11-01 22:02:51', 'Selina', '2022-10-21 09:17:11', 'Marco');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (82, 'Donec diam neque, vestibulum eget, vulputate ut, ultrices vel, augue. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Donec pharetra, magna vestibulum aliquet ultrices, erat tortor sollicitudin mi, sit amet lobortis sapien sapien non mi. Integer ac neque.', '2022-01-28 16:15:40', 'Collen', '2022-01-29 01:49:42', 'John');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (5, 'Integer tincidunt ante vel ipsum. Praesent blandit lacinia erat. Vestibulum sed magna at nunc commodo placerat.', '2022-03-17 18:56:25', 'Hyatt', '2022-05-08 16:26:37', 'Gwen');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (76, 'Vestibulum quam sapien, varius ut, blandit non, interdum in, ante. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Duis faucibus accumsan odio. Curabitur convallis.', '2022-09-15 14:49:32', 'Sherm', '2021-12-29 03:31:48', 'Camila');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (53, 'Fusce consequat. Nulla nisl. Nunc nisl.', '2022-05-25 14:18:38', 'Ty', '2022-08-06 03:46:48', 'Louisa');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (13, 'Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus. Vivamus vestibulum sagittis sapien. Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus.', '2022-03-11 11:36:56', 'Brit', '2022-08-10 10:09:47', 'Dory');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (41, 'In hac habitasse platea dictumst. Morbi vestibulum, velit id pretium iaculis, diam erat fermentum justo, nec condimentum neque sapien placerat ante. Nulla justo.', '2022-06-07 02:37:30', 'Millisent', '2022-05-21 09:29:27', 'Dav');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (68, 'Suspendisse potenti. In eleifend quam a odio. In hac habitasse platea dictumst.', '2022-04-06 00:23:44', 'Alvie', '2022-03-17 02:49:25', 'Krystle');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (19, 'Vestibulum ac est lacinia nisi venenatis tristique. Fusce congue, diam id ornare imperdiet, sapien urna pretium nisl, ut volutpat sapien arcu sed augue. Aliquam erat volutpat.', '2022-07-02 22:56:30', 'Will', '2022-06-16 23:49:25', 'Loren');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (94, 'Nullam sit amet turpis elementum ligula vehicula consequat. Morbi a ipsum. Integer a nibh.', '2022-01-26 10:36:02', 'Winne', '2022-11-24 13:22:58', 'Mohandas');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (72, 'Vestibulum quam sapien, varius ut, blandit non, interdum in, ante. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Duis faucibus accumsan odio. Curabitur convallis.', '2022-06-13 00:11:54', 'Jerrold', '2022-05-16 18:38:07', 'Noe');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (1, 'Duis bibendum, felis sed interdum venenatis, turpis enim blandit mi, in porttitor pede justo eu massa. Donec dapibus. Duis at velit eu est congue elementum.', '2022-11-07 05:49:43', 'Arther', '2022-06-29 18:34:28', 'Pansie');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (85, 'Phasellus sit amet erat. Nulla tempus. Vivamus in felis eu sapien cursus vestibulum.', '2022-05-27 11:00:53', 'Ailbert', '2022-10-08 20:10:38', 'Maegan');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (68, 'Vestibulum quam sapien, varius ut, blandit non, interdum in, ante. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Duis faucibus accumsan odio. Curabitur convallis.', '2022-11-21 14:18:17', 'Staffard', '2022-09-21 12:10:12', 'Rad');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (50, 'Maecenas ut massa quis augue luctus tincidunt. Nulla mollis molestie lorem. Quisque ut erat.', '2022-03-01 00:33:54', 'Ignazio', '2022-12-02 00:20:16', 'Agneta');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (42, 'Integer tincidunt ante vel ipsum. Praesent blandit lacinia erat. Vestibulum sed magna at nunc commodo placerat.', '2022-01-14 11:05:51', 'Pammie', '2022-09-18 23:15:35', 'Forest');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (15, 'Duis aliquam convallis nunc. Proin at turpis a pede posuere nonummy. Integer non velit.', '2022-12-17 12:12:16', 'Mychal', '2022-04-23 02:55:24', 'Archaimbaud');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (57, 'Aenean fermentum. Donec ut mauris eget massa tempor convallis. Nulla neque libero, convallis eget, eleifend luctus, ultricies eu, nibh.', '2022-08-15 08:05:40', 'Rafaelia', '2022-06-04 08:15:32', 'Sasha');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (55, 'Curabitur in libero ut massa volutpat convallis. Morbi odio odio, elementum eu, interdum eu, tincidunt in, leo. Maecenas pulvinar lobortis est.', '2021-12-27 12:01:43', 'Sauveur', '2022-08-29 20:37:40', 'Willyt');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (13, 'Lorem ipsum dolor sit amet, consectetuer adipiscing elit. Proin risus. Praesent lectus.', '2022-11-06 13:48:03', 'Theadora', '2022-10-22 01:52:19', 'Brita');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (63, 'In hac habitasse platea dictumst. Morbi vestibulum, velit id pretium iaculis, diam erat fermentum justo, nec condimentum neque sapien placerat ante. Nulla justo.', '2022-12-12 09:25:24', 'Suellen', '2022-05-10 07:00:00', 'Cahra');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (46, 'Integer ac leo. Pellentesque ultrices mattis odio. Donec vitae nisi.', '2022-04-15 10:27:10', 'Dorian', '2022-05-29 23:30:10', 'Melloney');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (97, 'Sed ante. Vivamus tortor. Duis mattis egestas metus.', '2022-07-13 19:58:23', 'Markus', '2022-09-18 22:02:59', 'Nanice');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (63, 'Lorem ipsum dolor sit amet, consectetuer adipiscing elit. Proin risus. Praesent lectus.', '2022-10-01 18:53:41', 'Betteann', '2022-05-23 08:44:37', 'Barnabas');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (88, 'Duis aliquam convallis nunc. Proin at turpis a pede posuere nonummy. Integer non velit.', '2022-02-13 07:39:57', 'Alejandro', '2022-06-02 12:23:22', 'Saundra');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (82, 'Sed ante. Vivamus tortor. Duis mattis egestas metus.', '2022-10-15 04:07:14', 'Ellwood', '2022-05-28 18:07:06', 'Cassey');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (29, 'Duis bibendum, felis sed interdum venenatis, turpis enim blandit mi, in porttitor pede justo eu massa. Donec dapibus. Duis at velit eu est congue elementum.', '2021-12-31 22:02:05', 'Ynes', '2022-09-10 17:35:36', 'Gayel');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (46, 'Mauris enim leo, rhoncus sed, vestibulum sit amet, cursus id, turpis. Integer aliquet, massa id lobortis convallis, tortor risus dapibus augue, vel accumsan tellus nisi eu orci. Mauris lacinia sapien quis libero.', '2022-08-19 01:34:24', 'Tonie', '2022-08-13 23:07:14', 'Beret');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (8, 'Quisque id justo sit amet sapien dignissim vestibulum. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Nulla dapibus dolor vel est. Donec odio justo, sollicitudin ut, suscipit a, feugiat et, eros.', '2022-03-11 13:17:19', 'Nanon', '2022-11-25 22:48:35', 'Tish');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (6, 'Etiam vel augue. Vestibulum rutrum rutrum neque. Aenean auctor gravida sem.', '2022-08-31 16:06:38', 'Molly', '2022-06-29 00:39:16', 'Selinda');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (77, 'Cras non velit nec nisi vulputate nonummy. Maecenas tincidunt lacus at velit. Vivamus vel nulla eget eros elementum pellentesque.', '2022-11-30 07:24:58', 'Josephine', '2022-05-18 21:48:50', 'Borg');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (80, 'Cras non velit nec nisi vulputate nonummy. Maecenas tincidunt lacus at velit. Vivamus vel nulla eget eros elementum pellentesque.', '2022-11-25 05:56:48', 'Maire', '2022-04-23 16:41:28', 'Priscilla');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (74, 'Curabitur gravida nisi at nibh. In hac habitasse platea dictumst. Aliquam augue quam, sollicitudin vitae, consectetuer eget, rutrum at, lorem.', '2022-01-22 07:31:24', 'Yuri', '2022-08-15 15:15:05', 'Johnny');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (92, 'In sagittis dui vel nisl. Duis ac nibh. Fusce lacus purus, aliquet at, feugiat non, pretium quis, lectus.', '2022-05-11 11:43:36', 'Pia', '2022-05-30 02:35:38', 'Gran');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (17, 'Morbi non lectus. Aliquam sit amet diam in magna bibendum imperdiet. Nullam orci pede, venenatis non, sodales sed, tincidunt eu, felis.', '2022-10-03 05:27:25', 'Ximenes', '2022-01-07 21:19:53', 'Lindsey');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (54, 'Aenean fermentum. Donec ut mauris eget massa tempor convallis. Nulla neque libero, convallis eget, eleifend luctus, ultricies eu, nibh.', '2022-10-05 20:48:37', 'Georgi', '2022-06-20 18:36:17', 'Ogden');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (45, 'In congue. Etiam justo. Etiam pretium iaculis justo.', '2022-12-04 16:48:11', 'Johan', '2022-04-06 11:10:10', 'Gabrila');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (70, 'Sed sagittis. Nam congue, risus semper porta volutpat, quam pede lobortis ligula, sit amet eleifend pede libero quis orci. Nullam molestie nibh in lectus.', '2022-04-23 04:24:07', 'Humfrid', '2022-07-07 20:38:53', 'Angelico');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (18, 'In hac habitasse platea dictumst. Etiam faucibus cursus urna. Ut tellus.', '2022-07-07 13:28:37', 'Jayme', '2022-01-04 17:37:49', 'Zenia');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (63, 'Sed sagittis. Nam congue, risus semper porta volutpat, quam pede lobortis ligula, sit amet eleifend pede libero quis orci. Nullam molestie nibh in lectus.', '2022-06-24 20:47:55', 'Jeniece', '2022-09-28 07:43:08', 'Faun');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (60, 'Aliquam quis turpis eget elit sodales scelerisque. Mauris sit amet eros. Suspendisse accumsan tortor quis turpis.', '2022-09-05 21:31:51', 'Mac', '2022-11-25 22:07:09', 'Beatriz');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (98, 'Pellentesque at nulla. Suspendisse potenti. Cras in purus eu magna vulputate luctus.', '2022-07-05 16:15:44', 'Siegfried', '2022-09-15 17:47:46', 'Sari');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (35, 'Fusce posuere felis sed lacus. Morbi sem mauris, laoreet ut, rhoncus aliquet, pulvinar sed, nisl. Nunc rhoncus dui vel sem.', '2022-10-02 12:28:38', 'Georges', '2022-04-03 08:23:48', 'Valeria');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (42, 'Suspendisse potenti. In eleifend quam a odio. In hac habitasse platea dictumst.', '2022-07-22 17:08:04', 'Thea', '2022-05-26 01:08:06', 'Danit');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (26, 'Lorem ipsum dolor sit amet, consectetuer adipiscing elit. Proin risus. Praesent lectus.', '2022-03-13 18:23:10', 'Noell', '2022-01-30 09:35:52', 'Aleece');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (79, 'Nam ultrices, libero non mattis pulvinar, nulla pede ullamcorper augue, a suscipit nulla elit ac nulla. Sed vel enim sit amet nunc viverra dapibus. Nulla suscipit ligula in lacus.', '2022-12-13 06:43:47', 'Scotti', '2022-12-15 00:57:33', 'Kaiser');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (93, 'Praesent id massa id nisl venenatis lacinia. Aenean sit amet justo. Morbi ut odio.', '2022-01-08 16:29:30', 'Garik', '2022-01-22 07:01:59', 'Lira');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (11, 'Vestibulum ac est lacinia nisi venenatis tristique. Fusce congue, diam id ornare imperdiet, sapien urna pretium nisl, ut volutpat sapien arcu sed augue. Aliquam erat volutpat.', '2022-10-14 12:05:31', 'Romonda', '2022-01-23 23:01:44', 'Harlen');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (67, 'Mauris enim leo, rhoncus sed, vestibulum sit amet, cursus id, turpis. Integer aliquet, massa id lobortis convallis, tortor risus dapibus augue, vel accumsan tellus nisi eu orci. Mauris lacinia sapien quis libero.', '2022-07-12 11:56:09', 'Renie', '2022-07-25 14:20:46', 'Christie');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (29, 'Maecenas tristique, est et tempus semper, est quam pharetra magna, ac consequat metus sapien ut nunc. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Mauris viverra diam vitae quam. Suspendisse potenti.', '2022-10-22 01:51:48', 'Idette', '2022-03-10 23:00:48', 'Sascha');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (49, 'Vestibulum ac est lacinia nisi venenatis tristique. Fusce congue, diam id ornare imperdiet, sapien urna pretium nisl, ut volutpat sapien arcu sed augue. Aliquam erat volutpat.', '2022-09-28 04:05:14', 'Scottie', '2022-12-04 02:15:40', 'Desdemona');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (79, 'Vestibulum ac est lacinia nisi venenatis tristique. Fusce congue, diam id ornare imperdiet, sapien urna pretium nisl, ut volutpat sapien arcu sed augue. Aliquam erat volutpat.', '2022-04-12 10:50:52', 'Shayla', '2022-05-29 04:23:37', 'Goldia');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (85, 'Nullam porttitor lacus at turpis. Donec posuere metus vitae ipsum. Aliquam non mauris.', '2022-12-13 18:47:22', 'Galina', '2022-04-10 12:24:26', 'Krisha');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (36, 'Maecenas tristique, est et tempus semper, est quam pharetra magna, ac consequat metus sapien ut nunc. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Mauris viverra diam vitae quam. Suspendisse potenti.', '2022-11-19 22:28:12', 'Mitzi', '2022-08-21 23:30:41', 'Adlai');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (42, 'Proin leo odio, porttitor id, consequat in, consequat ut, nulla. Sed accumsan felis. Ut at dolor quis odio consequat varius.', '2022-10-10 11:53:57', 'Cathee', '2022-01-16 04:50:35', 'Cathee');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (66, 'Quisque porta volutpat erat. Quisque erat eros, viverra eget, congue eget, semper rutrum, nulla. Nunc purus.', '2022-11-05 06:45:06', 'Waiter', '2022-01-05 02:54:37', 'Kath');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (73, 'Maecenas leo odio, condimentum id, luctus nec, molestie sed, justo. Pellentesque viverra pede ac diam. Cras pellentesque volutpat dui.', '2022-07-17 05:33:45', 'Koo', '2022-10-07 06:58:52', 'Hasheem');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (75, 'Quisque id justo sit amet sapien dignissim vestibulum. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Nulla dapibus dolor vel est. Donec odio justo, sollicitudin ut, suscipit a, feugiat et, eros.', '2022-07-03 13:28:50', 'Augusto', '2022-10-21 12:45:25', 'Daria');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (59, 'Maecenas ut massa quis augue luctus tincidunt. Nulla mollis molestie lorem. Quisque ut erat.', '2022-06-28 15:25:54', 'Orelia', '2022-10-08 17:14:08', 'Ailyn');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (47, 'In congue. Etiam justo. Etiam pretium iaculis justo.', '2022-04-25 09:25:37', 'Dore', '2022-11-18 04:13:34', 'Rollins');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (89, 'Proin eu mi. Nulla ac enim. In tempor, turpis nec euismod scelerisque, quam turpis adipiscing lorem, vitae mattis nibh ligula nec sem.', '2022-06-27 04:09:56', 'Alidia', '2022-11-28 09:12:14', 'Wendye');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (82, 'In sagittis dui vel nisl. Duis ac nibh. Fusce lacus purus, aliquet at, feugiat non, pretium quis, lectus.', '2022-07-19 17:49:44', 'Pearline', '2022-01-17 02:28:21', 'Stern');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (73, 'Praesent blandit. Nam nulla. Integer pede justo, lacinia eget, tincidunt eget, tempus vel, pede.', '2022-06-15 04:37:15', 'Fulvia', '2022-09-03 23:35:05', 'Toddie');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (48, 'In hac habitasse platea dictumst. Etiam faucibus cursus urna. Ut tellus.', '2022-03-02 06:27:44', 'Seward', '2022-09-26 02:53:38', 'Rhianon');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (45, 'Maecenas ut massa quis augue luctus tincidunt. Nulla mollis molestie lorem. Quisque ut erat.', '2022-02-20 20:12:05', 'Barbee', '2022-06-23 17:28:17', 'Caesar');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (79, 'Aenean lectus. Pellentesque eget nunc. Donec quis orci eget orci vehicula condimentum.', '2022-03-17 10:53:29', 'Dagmar', '2022-03-06 03:13:36', 'Jillene');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (13, 'Integer ac leo. Pellentesque ultrices mattis odio. Donec vitae nisi.', '2022-04-10 03:18:53', 'Austine', '2022-02-06 03:28:29', 'Doralynne');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (50, 'In sagittis dui vel nisl. Duis ac nibh. Fusce lacus purus, aliquet at, feugiat non, pretium quis, lectus.', '2022-06-16 23:42:00', 'Allison', '2022-07-20 16:13:07', 'Arnold');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (97, 'Morbi porttitor lorem id ligula. Suspendisse ornare consequat lectus. In est risus, auctor sed, tristique in, tempus sit amet, sem.', '2022-03-08 15:57:21', 'Nicol', '2022-04-05 12:27:38', 'Rocky');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (6, 'Nam ultrices, libero non mattis pulvinar, nulla pede ullamcorper augue, a suscipit nulla elit ac nulla. Sed vel enim sit amet nunc viverra dapibus. Nulla suscipit ligula in lacus.', '2022-10-05 07:17:51', 'Tades', '2022-10-20 16:49:48', 'Zorah');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (11, 'Maecenas tristique, est et tempus semper, est quam pharetra magna, ac consequat metus sapien ut nunc. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Mauris viverra diam vitae quam. Suspendisse potenti.', '2022-01-14 09:18:04', 'Bobbye', '2022-06-24 12:08:40', 'Cassandre');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (40, 'Nullam porttitor lacus at turpis. Donec posuere metus vitae ipsum. Aliquam non mauris.', '2022-01-16 00:00:08', 'Winston', '2022-01-16 23:38:30', 'Rochette');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (41, 'Nullam sit amet turpis elementum ligula vehicula consequat. Morbi a ipsum. Integer a nibh.', '2022-04-27 01:07:36', 'Cedric', '2022-06-03 14:56:20', 'Elysia');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (29, 'Lorem ipsum dolor sit amet, consectetuer adipiscing elit. Proin risus. Praesent lectus.', '2022-10-27 02:58:15', 'Van', '2022-06-20 23:45:38', 'Zelig');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (96, 'Nam ultrices, libero non mattis pulvinar, nulla pede ullamcorper augue, a suscipit nulla elit ac nulla. Sed vel enim sit amet nunc viverra dapibus. Nulla suscipit ligula in lacus.', '2022-04-16 02:26:36', 'Gussie', '2022-12-15 02:11:54', 'Ches');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (17, 'Fusce consequat. Nulla nisl. Nunc nisl.', '2022-03-04 12:50:08', 'Clementius', '2022-02-06 10:22:51', 'Vinny');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (73, 'In congue. Etiam justo. Etiam pretium iaculis justo.', '2022-09-12 20:21:03', 'Cathee', '2022-12-02 05:05:04', 'Dinah');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (57, 'Nulla ut erat id mauris vulputate elementum. Nullam varius. Nulla facilisi.', '2022-07-13 04:45:33', 'Weider', '2022-10-01 00:54:03', 'Caleb');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (18, 'Cras non velit nec nisi vulputate nonummy. Maecenas tincidunt lacus at velit. Vivamus vel nulla eget eros elementum pellentesque.', '2022-02-15 06:09:04', 'Lonnie', '2022-02-24 00:28:56', 'Roselin');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (57, 'In hac habitasse platea dictumst. Etiam faucibus cursus urna. Ut tellus.', '2021-12-23 20:48:40', 'Elie', '2022-04-15 13:14:41', 'Bernhard');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (46, 'Integer tincidunt ante vel ipsum. Praesent blandit lacinia erat. Vestibulum sed magna at nunc commodo placerat.', '2022-09-01 09:23:52', 'Addy', '2022-05-05 08:11:59', 'Durante');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (97, 'Sed ante. Vivamus tortor. Duis mattis egestas metus.', '2022-06-19 01:14:50', 'Georges', '2022-08-11 17:20:11', 'Humberto');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (86, 'Curabitur gravida nisi at nibh. In hac habitasse platea dictumst. Aliquam augue quam, sollicitudin vitae, consectetuer eget, rutrum at, lorem.', '2022-06-01 14:38:56', 'Whitney', '2022-01-15 22:44:23', 'Jamill');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (8, 'Duis consequat dui nec nisi volutpat eleifend. Donec ut dolor. Morbi vel lectus in quam fringilla rhoncus.', '2022-02-27 00:35:08', 'Hogan', '2022-10-22 10:27:16', 'Adler');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (21, 'In quis justo. Maecenas rhoncus aliquam lacus. Morbi quis tortor id nulla ultrices aliquet.', '2022-04-15 03:26:50', 'Joshia', '2022-10-20 08:39:57', 'Brunhilda');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (69, 'Maecenas tristique, est et tempus semper, est quam pharetra magna, ac consequat metus sapien ut nunc. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Mauris viverra diam vitae quam. Suspendisse potenti.', '2022-11-27 02:50:17', 'Urban', '2022-02-21 22:51:14', 'Lizbeth');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (53, 'Mauris enim leo, rhoncus sed, vestibulum sit amet, cursus id, turpis. Integer aliquet, massa id lobortis convallis, tortor risus dapibus augue, vel accumsan tellus nisi eu orci. Mauris lacinia sapien quis libero.', '2021-12-23 00:44:57', 'Floris', '2022-03-10 03:00:11', 'Alyda');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (80, 'Morbi non lectus. Aliquam sit amet diam in magna bibendum imperdiet. Nullam orci pede, venenatis non, sodales sed, tincidunt eu, felis.', '2022-10-24 23:02:40', 'Ki', '2022-01-12 21:06:23', 'Armin');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (12, 'Nullam porttitor lacus at turpis. Donec posuere metus vitae ipsum. Aliquam non mauris.', '2022-01-06 14:58:12', 'Tanny', '2022-04-28 05:38:57', 'Georgena');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (34, 'Quisque porta volutpat erat. Quisque erat eros, viverra eget, congue eget, semper rutrum, nulla. Nunc purus.', '2022-11-01 13:22:47', 'Cherida', '2022-05-15 14:20:49', 'Katina');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (80, 'Proin eu mi. Nulla ac enim. In tempor, turpis nec euismod scelerisque, quam turpis adipiscing lorem, vitae mattis nibh ligula nec sem.', '2022-08-27 18:54:45', 'Tamara', '2022-11-23 08:20:25', 'Tabbi');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (17, 'Donec diam neque, vestibulum eget, vulputate ut, ultrices vel, augue. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Donec pharetra, magna vestibulum aliquet ultrices, erat tortor sollicitudin mi, sit amet lobortis sapien sapien non mi. Integer ac neque.', '2022-03-09 12:06:50', 'Cathe', '2022-11-10 19:39:28', 'Zola');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (75, 'Pellentesque at nulla. Suspendisse potenti. Cras in purus eu magna vulputate luctus.', '2022-02-01 17:33:41', 'Sim', '2022-03-11 00:34:41', 'Aubert');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (16, 'Fusce posuere felis sed lacus. Morbi sem mauris, laoreet ut, rhoncus aliquet, pulvinar sed, nisl. Nunc rhoncus dui vel sem.', '2022-10-09 13:06:14', 'Gabie', '2022-01-20 10:04:27', 'Quintus');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (6, 'Nullam sit amet turpis elementum ligula vehicula consequat. Morbi a ipsum. Integer a nibh.', '2022-11-18 05:33:33', 'Phillis', '2022-05-14 12:25:36', 'Sibyl');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (98, 'Pellentesque at nulla. Suspendisse potenti. Cras in purus eu magna vulputate luctus.', '2022-02-23 05:33:49', 'Diane', '2022-09-19 05:28:26', 'Cherilynn');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (38, 'Maecenas leo odio, condimentum id, luctus nec, molestie sed, justo. Pellentesque viverra pede ac diam. Cras pellentesque volutpat dui.', '2022-03-30 18:40:21', 'Sax', '2022-07-22 08:56:25', 'Chilton');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (64, 'Cras non velit nec nisi vulputate nonummy. Maecenas tincidunt lacus at velit. Vivamus vel nulla eget eros elementum pellentesque.', '2022-10-24 21:48:47', 'Vidovik', '2022-11-21 11:25:46', 'Moises');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (17, 'Sed ante. Vivamus tortor. Duis mattis egestas metus.', '2022-02-25 01:41:48', 'Joachim', '2022-02-12 09:08:26', 'Lizzy');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (69, 'Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus. Vivamus vestibulum sagittis sapien. Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus.', '2022-11-12 07:35:06', 'Charla', '2022-07-12 14:31:54', 'Jacquie');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (100, 'Morbi non lectus. Aliquam sit amet diam in magna bibendum imperdiet. Nullam orci pede, venenatis non, sodales sed, tincidunt eu, felis.', '2022-10-14 11:12:50', 'Trixy', '2022-03-20 23:17:11', 'Penny');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (13, 'Duis consequat dui nec nisi volutpat eleifend. Donec ut dolor. Morbi vel lectus in quam fringilla rhoncus.', '2022-06-29 18:32:24', 'Roderic', '2022-09-14 22:13:30', 'Vince');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (55, 'Pellentesque at nulla. Suspendisse potenti. Cras in purus eu magna vulputate luctus.', '2022-11-01 15:30:29', 'Addi', '2022-05-07 20:07:24', 'Thurston');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (18, 'Duis consequat dui nec nisi volutpat eleifend. Donec ut dolor. Morbi vel lectus in quam fringilla rhoncus.', '2022-04-22 04:43:30', 'Winona', '2022-05-21 14:17:55', 'Graham');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (35, 'Suspendisse potenti. In eleifend quam a odio. In hac habitasse platea dictumst.', '2022-09-22 12:45:43', 'Jocelyn', '2022-03-25 19:14:20', 'Micky');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (95, 'Curabitur in libero ut massa volutpat convallis. Morbi odio odio, elementum eu, interdum eu, tincidunt in, leo. Maecenas pulvinar lobortis est.', '2022-03-14 10:31:43', 'Vivi', '2022-11-12 05:17:59', 'Phaidra');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (74, 'Quisque id justo sit amet sapien dignissim vestibulum. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Nulla dapibus dolor vel est. Donec odio justo, sollicitudin ut, suscipit a, feugiat et, eros.', '2022-08-28 14:23:31', 'Wolf', '2022-09-30 23:01:14', 'Baldwin');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (100, 'Proin interdum mauris non ligula pellentesque ultrices. Phasellus id sapien in sapien iaculis congue. Vivamus metus arcu, adipiscing molestie, hendrerit at, vulputate vitae, nisl.', '2022-04-14 08:09:20', 'Aigneis', '2022-10-19 09:20:14', 'Melosa');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (56, 'Cras non velit nec nisi vulputate nonummy. Maecenas tincidunt lacus at velit. Vivamus vel nulla eget eros elementum pellentesque.', '2022-05-31 21:43:40', 'Janot', '2022-01-04 20:23:26', 'Prue');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (19, 'Morbi non lectus. Aliquam sit amet diam in magna bibendum imperdiet. Nullam orci pede, venenatis non, sodales sed, tincidunt eu, felis.', '2022-05-19 02:49:27', 'Amii', '2022-11-15 17:15:47', 'Emelda');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (85, 'Curabitur in libero ut massa volutpat convallis. Morbi odio odio, elementum eu, interdum eu, tincidunt in, leo. Maecenas pulvinar lobortis est.', '2022-09-22 00:52:23', 'Donal', '2022-01-29 14:56:18', 'Lesli');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (65, 'In quis justo. Maecenas rhoncus aliquam lacus. Morbi quis tortor id nulla ultrices aliquet.', '2022-11-28 13:58:27', 'Jarred', '2022-09-30 00:55:48', 'Leeann');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (34, 'Mauris enim leo, rhoncus sed, vestibulum sit amet, cursus id, turpis. Integer aliquet, massa id lobortis convallis, tortor risus dapibus augue, vel accumsan tellus nisi eu orci. Mauris lacinia sapien quis libero.', '2022-12-18 20:41:48', 'Charmaine', '2022-05-18 00:34:27', 'Jud');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (89, 'Phasellus sit amet erat. Nulla tempus. Vivamus in felis eu sapien cursus vestibulum.', '2021-12-22 06:01:40', 'Annabela', '2022-09-03 18:52:37', 'Harmonia');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (62, 'Maecenas leo odio, condimentum id, luctus nec, molestie sed, justo. Pellentesque viverra pede ac diam. Cras pellentesque volutpat dui.', '2022-03-11 04:23:18', 'Armando', '2022-03-01 22:26:45', 'Lotti');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (37, 'Integer ac leo. Pellentesque ultrices mattis odio. Donec vitae nisi.', '2022-09-15 13:45:47', 'Vivianna', '2021-12-31 18:50:55', 'Erika');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (42, 'Sed ante. Vivamus tortor. Duis mattis egestas metus.', '2022-02-22 16:49:59', 'Prentiss', '2022-04-25 22:26:34', 'Ade');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (77, 'Pellentesque at nulla. Suspendisse potenti. Cras in purus eu magna vulputate luctus.', '2022-06-04 07:08:19', 'Cristin', '2022-11-18 06:52:54', 'Robbi');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (2, 'In congue. Etiam justo. Etiam pretium iaculis justo.', '2022-05-02 12:05:14', 'Mommy', '2022-02-07 04:10:56', 'Law');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (83, 'Nullam porttitor lacus at turpis. Donec posuere metus vitae ipsum. Aliquam non mauris.', '2022-06-13 11:08:47', 'Natty', '2022-07-28 23:42:02', 'Elnora');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (60, 'In hac habitasse platea dictumst. Etiam faucibus cursus urna. Ut tellus.', '2022-08-10 02:47:58', 'Bud', '2022-08-26 12:04:25', 'Jelene');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (81, 'Nullam porttitor lacus at turpis. Donec posuere metus vitae ipsum. Aliquam non mauris.', '2022-06-15 22:29:23', 'Ivette', '2022-12-17 18:46:22', 'Eleen');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (32, 'Etiam vel augue. Vestibulum rutrum rutrum neque. Aenean auctor gravida sem.', '2022-06-06 11:08:51', 'Kimmy', '2022-05-09 09:46:53', 'Marley');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (19, 'Nam ultrices, libero non mattis pulvinar, nulla pede ullamcorper augue, a suscipit nulla elit ac nulla. Sed vel enim sit amet nunc viverra dapibus. Nulla suscipit ligula in lacus.', '2022-07-19 04:19:31', 'Denys', '2022-11-08 03:15:29', 'Dame');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (84, 'Aenean lectus. Pellentesque eget nunc. Donec quis orci eget orci vehicula condimentum.', '2021-12-30 05:13:25', 'Mariel', '2022-09-12 12:48:43', 'Evie');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (55, 'Donec diam neque, vestibulum eget, vulputate ut, ultrices vel, augue. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Donec pharetra, magna vestibulum aliquet ultrices, erat tortor sollicitudin mi, sit amet lobortis sapien sapien non mi. Integer ac neque.', '2022-06-05 21:43:29', 'Gib', '2022-07-05 21:40:45', 'Alvinia');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (58, 'Quisque porta volutpat erat. Quisque erat eros, viverra eget, congue eget, semper rutrum, nulla. Nunc purus.', '2022-03-27 07:40:05', 'Tammie', '2022-02-02 23:08:21', 'Hermione');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (62, 'Aliquam quis turpis eget elit sodales scelerisque. Mauris sit amet eros. Suspendisse accumsan tortor quis turpis.', '2022-03-10 17:20:12', 'Ariela', '2022-08-02 01:31:20', 'Farlay');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (72, 'Duis bibendum, felis sed interdum venenatis, turpis enim blandit mi, in porttitor pede justo eu massa. Donec dapibus. Duis at velit eu est congue elementum.', '2022-06-20 18:18:50', 'Cordey', '2022-07-07 21:10:40', 'Kirby');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (80, 'Integer ac leo. Pellentesque ultrices mattis odio. Donec vitae nisi.', '2022-09-06 06:28:21', 'Morton', '2022-02-28 23:59:42', 'Isador');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (17, 'Quisque porta volutpat erat. Quisque erat eros, viverra eget, congue eget, semper rutrum, nulla. Nunc purus.', '2022-05-29 05:59:25', 'Caralie', '2022-06-15 00:58:50', 'Peta');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (24, 'Donec diam neque, vestibulum eget, vulputate ut, ultrices vel, augue. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Donec pharetra, magna vestibulum aliquet ultrices, erat tortor sollicitudin mi, sit amet lobortis sapien sapien non mi. Integer ac neque.', '2022-05-17 18:52:54', 'Carlos', '2022-10-16 10:42:39', 'Gerry');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (69, 'Maecenas ut massa quis augue luctus tincidunt. Nulla mollis molestie lorem. Quisque ut erat.', '2022-04-27 08:26:49', 'Base', '2022-09-23 01:10:45', 'Sibley');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (85, 'Maecenas ut massa quis augue luctus tincidunt. Nulla mollis molestie lorem. Quisque ut erat.', '2022-02-03 16:50:27', 'Felice', '2022-01-08 10:57:09', 'Tricia');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (35, 'Lorem ipsum dolor sit amet, consectetuer adipiscing elit. Proin risus. Praesent lectus.', '2022-03-28 01:39:56', 'Jillie', '2022-03-10 20:23:35', 'Natalina');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (58, 'Integer tincidunt ante vel ipsum. Praesent blandit lacinia erat. Vestibulum sed magna at nunc commodo placerat.', '2022-07-20 23:39:47', 'Aila', '2022-10-13 00:18:58', 'Milena');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (62, 'Maecenas ut massa quis augue luctus tincidunt. Nulla mollis molestie lorem. Quisque ut erat.', '2022-08-22 07:48:42', 'Harri', '2022-06-06 07:45:12', 'Markos');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (59, 'In hac habitasse platea dictumst. Morbi vestibulum, velit id pretium iaculis, diam erat fermentum justo, nec condimentum neque sapien placerat ante. Nulla justo.', '2022-04-28 07:17:20', 'Chryste', '2022-10-25 13:42:26', 'Rikki');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (75, 'Praesent blandit. Nam nulla. Integer pede justo, lacinia eget, tincidunt eget, tempus vel, pede.', '2022-07-18 20:03:13', 'Alika', '2022-04-24 15:34:30', 'Ketty');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (19, 'Maecenas ut massa quis augue luctus tincidunt. Nulla mollis molestie lorem. Quisque ut erat.', '2022-06-25 04:12:01', 'Lee', '2022-10-04 22:29:08', 'Lynnet');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (4, 'Cras mi pede, malesuada in, imperdiet et, commodo vulputate, justo. In blandit ultrices enim. Lorem ipsum dolor sit amet, consectetuer adipiscing elit.', '2022-09-14 12:13:46', 'Jordain', '2022-09-09 01:38:46', 'Prudi');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (60, 'Duis consequat dui nec nisi volutpat eleifend. Donec ut dolor. Morbi vel lectus in quam fringilla rhoncus.', '2022-07-06 08:41:54', 'Jard', '2022-01-15 15:11:04', 'Alysia');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (24, 'In hac habitasse platea dictumst. Etiam faucibus cursus urna. Ut tellus.', '2022-01-10 12:47:25', 'Ursuline', '2022-09-16 17:57:01', 'Morgen');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (77, 'In hac habitasse platea dictumst. Etiam faucibus cursus urna. Ut tellus.', '2022-10-06 01:53:33', 'Denyse', '2022-03-04 14:09:50', 'Tedmund');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (91, 'Maecenas leo odio, condimentum id, luctus nec, molestie sed, justo. Pellentesque viverra pede ac diam. Cras pellentesque volutpat dui.', '2022-11-13 13:50:25', 'Bobbi', '2022-06-27 19:44:38', 'Pen');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (45, 'Mauris enim leo, rhoncus sed, vestibulum sit amet, cursus id, turpis. Integer aliquet, massa id lobortis convallis, tortor risus dapibus augue, vel accumsan tellus nisi eu orci. Mauris lacinia sapien quis libero.', '2022-10-06 09:30:46', 'Lisa', '2022-11-01 17:26:10', 'Phineas');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (14, 'Mauris enim leo, rhoncus sed, vestibulum sit amet, cursus id, turpis. Integer aliquet, massa id lobortis convallis, tortor risus dapibus augue, vel accumsan tellus nisi eu orci. Mauris lacinia sapien quis libero.', '2022-04-03 02:57:37', 'Marillin', '2021-12-28 18:57:44', 'Maire');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (42, 'Proin leo odio, porttitor id, consequat in, consequat ut, nulla. Sed accumsan felis. Ut at dolor quis odio consequat varius.', '2022-03-21 06:42:16', 'Lucio', '2022-10-25 17:00:15', 'Eulalie');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (99, 'Aenean lectus. Pellentesque eget nunc. Donec quis orci eget orci vehicula condimentum.', '2022-05-20 12:19:21', 'Jyoti', '2022-08-30 20:54:24', 'Myrlene');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (65, 'Nullam sit amet turpis elementum ligula vehicula consequat. Morbi a ipsum. Integer a nibh.', '2022-05-23 19:06:34', 'Dino', '2022-06-03 10:42:01', 'Reinold');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (3, 'Nam ultrices, libero non mattis pulvinar, nulla pede ullamcorper augue, a suscipit nulla elit ac nulla. Sed vel enim sit amet nunc viverra dapibus. Nulla suscipit ligula in lacus.', '2022-02-10 13:59:42', 'Gaye', '2022-09-15 02:38:56', 'Tades');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (56, 'Duis bibendum, felis sed interdum venenatis, turpis enim blandit mi, in porttitor pede justo eu massa. Donec dapibus. Duis at velit eu est congue elementum.', '2022-04-23 00:04:25', 'Had', '2022-05-29 06:27:16', 'Sonnnie');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (53, 'In hac habitasse platea dictumst. Etiam faucibus cursus urna. Ut tellus.', '2022-12-13 06:13:41', 'Joletta', '2022-03-25 17:38:25', 'Appolonia');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (31, 'Suspendisse potenti. In eleifend quam a odio. In hac habitasse platea dictumst.', '2022-08-21 16:25:21', 'Jeanine', '2022-02-26 17:28:29', 'Erskine');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (46, 'Nulla ut erat id mauris vulputate elementum. Nullam varius. Nulla facilisi.', '2022-09-14 08:03:22', 'Ester', '2022-03-11 03:59:19', 'Lionel');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (38, 'Pellentesque at nulla. Suspendisse potenti. Cras in purus eu magna vulputate luctus.', '2022-08-09 04:54:04', 'Bernhard', '2022-10-19 08:42:24', 'Merv');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (16, 'Nullam sit amet turpis elementum ligula vehicula consequat. Morbi a ipsum. Integer a nibh.', '2022-10-23 02:51:34', 'Kelsi', '2022-09-05 22:22:10', 'Reynold');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (19, 'Nam ultrices, libero non mattis pulvinar, nulla pede ullamcorper augue, a suscipit nulla elit ac nulla. Sed vel enim sit amet nunc viverra dapibus. Nulla suscipit ligula in lacus.', '2022-09-04 17:56:12', 'Horatio', '2022-06-13 14:58:09', 'Sonnie');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (60, 'Curabitur at ipsum ac tellus semper interdum. Mauris ullamcorper purus sit amet nulla. Quisque arcu libero, rutrum ac, lobortis vel, dapibus at, diam.', '2022-09-30 07:30:00', 'Joete', '2021-12-29 01:04:32', 'Salmon');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (84, 'Suspendisse potenti. In eleifend quam a odio. In hac habitasse platea dictumst.', '2022-01-31 01:22:05', 'Theodoric', '2022-08-21 05:20:06', 'Dorie');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (100, 'Nam ultrices, libero non mattis pulvinar, nulla pede ullamcorper augue, a suscipit nulla elit ac nulla. Sed vel enim sit amet nunc viverra dapibus. Nulla suscipit ligula in lacus.', '2022-02-11 23:17:34', 'Ingar', '2022-01-25 08:52:16', 'Evania');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (64, 'Vestibulum quam sapien, varius ut, blandit non, interdum in, ante. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Duis faucibus accumsan odio. Curabitur convallis.', '2022-07-07 02:03:36', 'Rube', '2022-05-07 20:32:01', 'Neel');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (41, 'Maecenas tristique, est et tempus semper, est quam pharetra magna, ac consequat metus sapien ut nunc. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Mauris viverra diam vitae quam. Suspendisse potenti.', '2022-03-05 14:14:50', 'Mandel', '2022-01-13 05:36:16', 'Aldo');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (1, 'Proin eu mi. Nulla ac enim. In tempor, turpis nec euismod scelerisque, quam turpis adipiscing lorem, vitae mattis nibh ligula nec sem.', '2022-03-31 01:56:52', 'Fran', '2022-02-28 14:28:09', 'Etti');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (77, 'Donec diam neque, vestibulum eget, vulputate ut, ultrices vel, augue. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Donec pharetra, magna vestibulum aliquet ultrices, erat tortor sollicitudin mi, sit amet lobortis sapien sapien non mi. Integer ac neque.', '2022-03-27 09:49:52', 'Calla', '2022-11-04 11:17:43', 'Ludovika');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (64, 'Cras mi pede, malesuada in, imperdiet et, commodo vulputate, justo. In blandit ultrices enim. Lorem ipsum dolor sit amet, consectetuer adipiscing elit.', '2022-07-25 23:11:01', 'Gwendolyn', '2022-06-28 03:39:10', 'Darrel');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (95, 'Mauris enim leo, rhoncus sed, vestibulum sit amet, cursus id, turpis. Integer aliquet, massa id lobortis convallis, tortor risus dapibus augue, vel accumsan tellus nisi eu orci. Mauris lacinia sapien quis libero.', '2022-11-03 20:02:31', 'Taffy', '2022-10-24 22:59:11', 'Clerissa');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (51, 'Curabitur at ipsum ac tellus semper interdum. Mauris ullamcorper purus sit amet nulla. Quisque arcu libero, rutrum ac, lobortis vel, dapibus at, diam.', '2022-08-10 13:48:49', 'Brent', '2022-03-07 10:43:14', 'Hewie');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (70, 'Proin interdum mauris non ligula pellentesque ultrices. Phasellus id sapien in sapien iaculis congue. Vivamus metus arcu, adipiscing molestie, hendrerit at, vulputate vitae, nisl.', '2022-11-19 09:13:41', 'Bryn', '2022-06-11 17:32:07', 'Aggie');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (60, 'Proin leo odio, porttitor id, consequat in, consequat ut, nulla. Sed accumsan felis. Ut at dolor quis odio consequat varius.', '2022-05-17 17:15:17', 'Clyve', '2022-05-10 10:43:39', 'Lizzie');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (98, 'Integer ac leo. Pellentesque ultrices mattis odio. Donec vitae nisi.', '2021-12-30 06:30:45', 'Junie', '2022-04-30 19:21:35', 'Whit');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (98, 'Nullam porttitor lacus at turpis. Donec posuere metus vitae ipsum. Aliquam non mauris.', '2022-06-08 21:15:07', 'Matty', '2022-07-18 16:35:23', 'Imogen');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (89, 'Nullam porttitor lacus at turpis. Donec posuere metus vitae ipsum. Aliquam non mauris.', '2022-08-14 17:08:33', 'Colet', '2022-11-19 10:11:15', 'Rosaline');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (66, 'Aenean fermentum. Donec ut mauris eget massa tempor convallis. Nulla neque libero, convallis eget, eleifend luctus, ultricies eu, nibh.', '2022-03-19 10:27:40', 'Natale', '2022-07-15 20:51:51', 'Gisela');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (95, 'Fusce consequat. Nulla nisl. Nunc nisl.', '2022-07-16 06:56:43', 'Delano', '2022-11-29 05:12:12', 'Alyss');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (19, 'In quis justo. Maecenas rhoncus aliquam lacus. Morbi quis tortor id nulla ultrices aliquet.', '2022-09-18 10:24:16', 'Ramona', '2022-06-20 23:08:33', 'Mellisent');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (36, 'Duis bibendum, felis sed interdum venenatis, turpis enim blandit mi, in porttitor pede justo eu massa. Donec dapibus. Duis at velit eu est congue elementum.', '2022-04-26 17:50:04', 'Helene', '2022-05-21 09:37:22', 'Mord');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (3, 'Nullam porttitor lacus at turpis. Donec posuere metus vitae ipsum. Aliquam non mauris.', '2022-07-30 15:22:45', 'Hayward', '2022-05-15 23:00:08', 'Morgen');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (89, 'Curabitur gravida nisi at nibh. In hac habitasse platea dictumst. Aliquam augue quam, sollicitudin vitae, consectetuer eget, rutrum at, lorem.', '2022-05-31 08:21:12', 'Celesta', '2022-11-26 22:26:06', 'Thayne');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (96, 'Aenean lectus. Pellentesque eget nunc. Donec quis orci eget orci vehicula condimentum.', '2022-09-28 08:41:41', 'Gussie', '2022-02-26 22:59:31', 'Laney');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (11, 'Nullam sit amet turpis elementum ligula vehicula consequat. Morbi a ipsum. Integer a nibh.', '2021-12-21 00:31:03', 'Artair', '2022-03-11 07:43:38', 'Cate');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (59, 'Fusce consequat. Nulla nisl. Nunc nisl.', '2022-03-07 13:15:15', 'Bernadine', '2022-08-05 05:46:15', 'Olivette');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (9, 'Etiam vel augue. Vestibulum rutrum rutrum neque. Aenean auctor gravida sem.', '2022-01-01 18:31:52', 'Misty', '2022-09-27 17:02:37', 'Scarlet');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (11, 'Cras non velit nec nisi vulputate nonummy. Maecenas tincidunt lacus at velit. Vivamus vel nulla eget eros elementum pellentesque.', '2022-03-15 21:20:00', 'Chiquita', '2022-06-14 20:02:16', 'Sonnie');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (55, 'Mauris enim leo, rhoncus sed, vestibulum sit amet, cursus id, turpis. Integer aliquet, massa id lobortis convallis, tortor risus dapibus augue, vel accumsan tellus nisi eu orci. Mauris lacinia sapien quis libero.', '2022-04-27 03:45:47', 'Gerti', '2022-12-07 21:56:44', 'Orelia');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (78, 'Quisque porta volutpat erat. Quisque erat eros, viverra eget, congue eget, semper rutrum, nulla. Nunc purus.', '2022-09-24 22:48:40', 'Myrtice', '2022-10-24 14:31:53', 'Katusha');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (89, 'Suspendisse potenti. In eleifend quam a odio. In hac habitasse platea dictumst.', '2022-12-18 04:51:13', 'Mickey', '2022-04-17 15:40:29', 'Matelda');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (34, 'Cras non velit nec nisi vulputate nonummy. Maecenas tincidunt lacus at velit. Vivamus vel nulla eget eros elementum pellentesque.', '2022-09-04 06:22:28', 'Hobey', '2022-03-14 21:28:52', 'Saxon');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (22, 'Lorem ipsum dolor sit amet, consectetuer adipiscing elit. Proin risus. Praesent lectus.', '2022-10-26 22:58:34', 'Laney', '2022-11-10 14:40:08', 'Chance');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (30, 'Aliquam quis turpis eget elit sodales scelerisque. Mauris sit amet eros. Suspendisse accumsan tortor quis turpis.', '2022-05-07 17:47:28', 'Andra', '2022-10-26 23:52:19', 'Drusie');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (46, 'Praesent id massa id nisl venenatis lacinia. Aenean sit amet justo. Morbi ut odio.', '2022-09-14 23:12:27', 'Alberta', '2022-06-29 18:21:38', 'Agna');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (54, 'Aenean fermentum. Donec ut mauris eget massa tempor convallis. Nulla neque libero, convallis eget, eleifend luctus, ultricies eu, nibh.', '2022-10-21 06:04:06', 'Waverley', '2022-08-12 02:49:32', 'Miller');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (35, 'Nullam sit amet turpis elementum ligula vehicula consequat. Morbi a ipsum. Integer a nibh.', '2022-01-15 23:53:38', 'Jeannette', '2022-03-21 08:45:31', 'Zsa zsa');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (78, 'In sagittis dui vel nisl. Duis ac nibh. Fusce lacus purus, aliquet at, feugiat non, pretium quis, lectus.', '2022-11-12 11:41:38', 'Heidi', '2022-10-19 02:53:41', 'Marcille');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (7, 'Proin leo odio, porttitor id, consequat in, consequat ut, nulla. Sed accumsan felis. Ut at dolor quis odio consequat varius.', '2022-07-27 19:39:21', 'Michaella', '2022-12-02 17:39:17', 'Coriss');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (49, 'Maecenas leo odio, condimentum id, luctus nec, molestie sed, justo. Pellentesque viverra pede ac diam. Cras pellentesque volutpat dui.', '2022-10-20 11:28:54', 'Trevar', '2022-01-13 06:21:31', 'Emmery');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (10, 'Proin eu mi. Nulla ac enim. In tempor, turpis nec euismod scelerisque, quam turpis adipiscing lorem, vitae mattis nibh ligula nec sem.', '2022-10-19 22:27:25', 'Flin', '2022-07-08 01:48:18', 'Rachelle');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (35, 'Sed sagittis. Nam congue, risus semper porta volutpat, quam pede lobortis ligula, sit amet eleifend pede libero quis orci. Nullam molestie nibh in lectus.', '2022-10-03 06:23:26', 'Chad', '2022-10-16 08:52:40', 'Jacquetta');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (4, 'Maecenas tristique, est et tempus semper, est quam pharetra magna, ac consequat metus sapien ut nunc. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Mauris viverra diam vitae quam. Suspendisse potenti.', '2022-03-11 10:10:19', 'Marleen', '2022-02-27 18:19:15', 'Pauletta');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (59, 'Nullam sit amet turpis elementum ligula vehicula consequat. Morbi a ipsum. Integer a nibh.', '2022-09-01 00:36:17', 'Meg', '2022-08-27 20:54:01', 'Norma');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (85, 'Maecenas ut massa quis augue luctus tincidunt. Nulla mollis molestie lorem. Quisque ut erat.', '2022-05-24 21:51:58', 'Morrie', '2022-12-19 08:08:24', 'Gregg');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (22, 'Phasellus sit amet erat. Nulla tempus. Vivamus in felis eu sapien cursus vestibulum.', '2022-03-22 18:04:42', 'Alvis', '2022-03-22 05:06:09', 'Packston');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (51, 'Pellentesque at nulla. Suspendisse potenti. Cras in purus eu magna vulputate luctus.', '2022-10-06 07:31:49', 'Gavrielle', '2022-05-10 01:12:54', 'Kerrill');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (31, 'Etiam vel augue. Vestibulum rutrum rutrum neque. Aenean auctor gravida sem.', '2022-03-10 08:40:10', 'Jaye', '2022-07-16 23:39:48', 'Anthea');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (78, 'Fusce posuere felis sed lacus. Morbi sem mauris, laoreet ut, rhoncus aliquet, pulvinar sed, nisl. Nunc rhoncus dui vel sem.', '2022-09-28 08:59:25', 'Andriana', '2022-04-30 10:16:32', 'Edouard');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (83, 'Proin eu mi. Nulla ac enim. In tempor, turpis nec euismod scelerisque, quam turpis adipiscing lorem, vitae mattis nibh ligula nec sem.', '2022-12-10 17:28:33', 'Wolfgang', '2022-08-17 13:02:40', 'Griffie');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (12, 'Morbi porttitor lorem id ligula. Suspendisse ornare consequat lectus. In est risus, auctor sed, tristique in, tempus sit amet, sem.', '2022-04-27 06:24:33', 'Caddric', '2022-08-03 16:21:03', 'Briggs');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (77, 'Vestibulum quam sapien, varius ut, blandit non, interdum in, ante. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Duis faucibus accumsan odio. Curabitur convallis.', '2022-04-18 21:08:48', 'Sullivan', '2022-09-05 23:08:34', 'Shena');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (97, 'Phasellus in felis. Donec semper sapien a libero. Nam dui.', '2022-12-03 04:04:11', 'Fancy', '2022-07-19 21:40:56', 'Haley');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (28, 'Maecenas tristique, est et tempus semper, est quam pharetra magna, ac consequat metus sapien ut nunc. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Mauris viverra diam vitae quam. Suspendisse potenti.', '2022-12-07 12:34:51', 'Granthem', '2022-09-16 04:49:36', 'Viviene');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (29, 'Pellentesque at nulla. Suspendisse potenti. Cras in purus eu magna vulputate luctus.', '2022-04-15 12:25:19', 'Farlay', '2022-10-29 21:11:24', 'Margot');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (45, 'Pellentesque at nulla. Suspendisse potenti. Cras in purus eu magna vulputate luctus.', '2022-11-30 14:31:42', 'Pauly', '2022-12-18 08:13:37', 'Erroll');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (82, 'Aliquam quis turpis eget elit sodales scelerisque. Mauris sit amet eros. Suspendisse accumsan tortor quis turpis.', '2022-03-13 15:14:12', 'Bari', '2022-05-17 18:29:43', 'Norry');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (85, 'Curabitur in libero ut massa volutpat convallis. Morbi odio odio, elementum eu, interdum eu, tincidunt in, leo. Maecenas pulvinar lobortis est.', '2022-01-31 02:24:20', 'Dayna', '2022-10-29 20:53:01', 'Roddie');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (72, 'In quis justo. Maecenas rhoncus aliquam lacus. Morbi quis tortor id nulla ultrices aliquet.', '2022-11-13 13:53:48', 'Cicily', '2022-04-05 07:21:13', 'Suzie');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (98, 'Morbi porttitor lorem id ligula. Suspendisse ornare consequat lectus. In est risus, auctor sed, tristique in, tempus sit amet, sem.', '2022-05-01 15:06:17', 'Gan', '2022-01-16 00:06:25', 'Yul');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (92, 'Maecenas ut massa quis augue luctus tincidunt. Nulla mollis molestie lorem. Quisque ut erat.', '2022-01-04 03:36:34', 'Brietta', '2022-10-28 09:02:59', 'Lucita');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (27, 'Mauris enim leo, rhoncus sed, vestibulum sit amet, cursus id, turpis. Integer aliquet, massa id lobortis convallis, tortor risus dapibus augue, vel accumsan tellus nisi eu orci. Mauris lacinia sapien quis libero.', '2022-10-15 13:25:28', 'Valentine', '2022-03-13 22:18:25', 'Pen');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (16, 'Pellentesque at nulla. Suspendisse potenti. Cras in purus eu magna vulputate luctus.', '2022-04-19 18:51:03', 'Franz', '2022-10-10 21:56:21', 'Averil');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (52, 'Curabitur in libero ut massa volutpat convallis. Morbi odio odio, elementum eu, interdum eu, tincidunt in, leo. Maecenas pulvinar lobortis est.', '2022-07-28 11:34:38', 'Reese', '2022-04-30 12:17:46', 'Jordanna');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (52, 'In sagittis dui vel nisl. Duis ac nibh. Fusce lacus purus, aliquet at, feugiat non, pretium quis, lectus.', '2022-01-05 14:54:50', 'Herbie', '2022-10-27 11:24:38', 'Gualterio');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (37, 'Etiam vel augue. Vestibulum rutrum rutrum neque. Aenean auctor gravida sem.', '2022-10-15 21:52:49', 'Moshe', '2022-12-20 19:04:50', 'Peter');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (23, 'Maecenas tristique, est et tempus semper, est quam pharetra magna, ac consequat metus sapien ut nunc. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Mauris viverra diam vitae quam. Suspendisse potenti.', '2022-11-18 21:34:46', 'Natalee', '2022-11-14 13:45:05', 'Ettore');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (57, 'Vestibulum quam sapien, varius ut, blandit non, interdum in, ante. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Duis faucibus accumsan odio. Curabitur convallis.', '2022-08-10 00:29:19', 'L;urette', '2022-05-23 01:25:06', 'Roobbie');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (54, 'Quisque porta volutpat erat. Quisque erat eros, viverra eget, congue eget, semper rutrum, nulla. Nunc purus.', '2022-03-25 18:29:06', 'Lissie', '2022-01-21 16:06:47', 'Tull');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (17, 'Curabitur at ipsum ac tellus semper interdum. Mauris ullamcorper purus sit amet nulla. Quisque arcu libero, rutrum ac, lobortis vel, dapibus at, diam.', '2022-12-04 00:55:35', 'Reggie', '2022-05-13 06:20:39', 'Townie');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (88, 'Maecenas leo odio, condimentum id, luctus nec, molestie sed, justo. Pellentesque viverra pede ac diam. Cras pellentesque volutpat dui.', '2022-04-22 16:14:31', 'Kleon', '2022-11-24 09:51:34', 'Egor');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (6, 'Fusce posuere felis sed lacus. Morbi sem mauris, laoreet ut, rhoncus aliquet, pulvinar sed, nisl. Nunc rhoncus dui vel sem.', '2022-11-13 13:04:10', 'Janeva', '2022-02-13 04:32:28', 'Karalynn');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (8, 'Proin leo odio, porttitor id, consequat in, consequat ut, nulla. Sed accumsan felis. Ut at dolor quis odio consequat varius.', '2022-02-13 06:15:32', 'Vincenz', '2022-05-17 20:54:03', 'Rubia');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (88, 'Curabitur gravida nisi at nibh. In hac habitasse platea dictumst. Aliquam augue quam, sollicitudin vitae, consectetuer eget, rutrum at, lorem.', '2022-05-24 00:14:54', 'Tatiania', '2022-04-29 09:35:59', 'Orion');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (67, 'Etiam vel augue. Vestibulum rutrum rutrum neque. Aenean auctor gravida sem.', '2022-07-03 09:25:36', 'Janis', '2022-07-11 01:22:25', 'Bill');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (60, 'Curabitur gravida nisi at nibh. In hac habitasse platea dictumst. Aliquam augue quam, sollicitudin vitae, consectetuer eget, rutrum at, lorem.', '2022-11-09 18:53:10', 'Bertine', '2022-02-05 04:41:10', 'Bekki');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (61, 'Maecenas tristique, est et tempus semper, est quam pharetra magna, ac consequat metus sapien ut nunc. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Mauris viverra diam vitae quam. Suspendisse potenti.', '2022-08-03 19:58:43', 'Karisa', '2022-03-29 12:18:46', 'Isidora');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (73, 'Aliquam quis turpis eget elit sodales scelerisque. Mauris sit amet eros. Suspendisse accumsan tortor quis turpis.', '2022-06-11 03:20:01', 'Gaelan', '2022-02-16 18:14:27', 'Franni');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (15, 'Aenean lectus. Pellentesque eget nunc. Donec quis orci eget orci vehicula condimentum.', '2022-02-19 21:00:43', 'Tabatha', '2022-08-14 06:12:51', 'Merle');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (31, 'Curabitur in libero ut massa volutpat convallis. Morbi odio odio, elementum eu, interdum eu, tincidunt in, leo. Maecenas pulvinar lobortis est.', '2022-10-02 23:15:41', 'Blisse', '2022-01-18 12:15:51', 'Lowe');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (99, 'Aenean fermentum. Donec ut mauris eget massa tempor convallis. Nulla neque libero, convallis eget, eleifend luctus, ultricies eu, nibh.', '2022-03-03 12:50:00', 'Cristionna', '2022-05-07 10:49:42', 'Tasha');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (2, 'Proin eu mi. Nulla ac enim. In tempor, turpis nec euismod scelerisque, quam turpis adipiscing lorem, vitae mattis nibh ligula nec sem.', '2022-12-16 16:31:37', 'Opaline', '2022-10-04 09:32:22', 'Benetta');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (32, 'Duis bibendum. Morbi non quam nec dui luctus rutrum. Nulla tellus.', '2022-04-09 18:38:32', 'Agata', '2022-06-28 10:39:39', 'Lev');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (12, 'Duis consequat dui nec nisi volutpat eleifend. Donec ut dolor. Morbi vel lectus in quam fringilla rhoncus.', '2022-08-11 19:26:07', 'Flynn', '2022-07-11 06:41:24', 'Melania');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (37, 'Cras non velit nec nisi vulputate nonummy. Maecenas tincidunt lacus at velit. Vivamus vel nulla eget eros elementum pellentesque.', '2022-03-16 21:41:45', 'Fanchette', '2022-05-18 13:27:37', 'Dale');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (24, 'Fusce posuere felis sed lacus. Morbi sem mauris, laoreet ut, rhoncus aliquet, pulvinar sed, nisl. Nunc rhoncus dui vel sem.', '2022-11-24 07:45:47', 'Kippie', '2022-03-30 01:18:35', 'Scarface');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (66, 'Nullam sit amet turpis elementum ligula vehicula consequat. Morbi a ipsum. Integer a nibh.', '2022-06-03 14:53:42', 'Kyrstin', '2022-11-05 19:29:07', 'Vicki');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (5, 'Nullam porttitor lacus at turpis. Donec posuere metus vitae ipsum. Aliquam non mauris.', '2022-04-12 11:42:26', 'Sharlene', '2022-11-20 08:29:00', 'Heywood');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (72, 'Aenean fermentum. Donec ut mauris eget massa tempor convallis. Nulla neque libero, convallis eget, eleifend luctus, ultricies eu, nibh.', '2022-03-13 17:21:40', 'Tabbie', '2022-03-05 18:52:24', 'Sutherlan');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (89, 'Morbi non lectus. Aliquam sit amet diam in magna bibendum imperdiet. Nullam orci pede, venenatis non, sodales sed, tincidunt eu, felis.', '2022-07-11 22:37:45', 'Pierson', '2022-05-13 13:44:56', 'Nickolas');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (90, 'Duis aliquam convallis nunc. Proin at turpis a pede posuere nonummy. Integer non velit.', '2022-10-29 02:48:14', 'Joannes', '2022-11-06 01:20:59', 'Peri');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (12, 'Quisque id justo sit amet sapien dignissim vestibulum. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Nulla dapibus dolor vel est. Donec odio justo, sollicitudin ut, suscipit a, feugiat et, eros.', '2022-05-15 01:26:37', 'Gail', '2022-01-08 12:24:01', 'Dallas');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (86, 'Vestibulum ac est lacinia nisi venenatis tristique. Fusce congue, diam id ornare imperdiet, sapien urna pretium nisl, ut volutpat sapien arcu sed augue. Aliquam erat volutpat.', '2022-05-30 04:20:12', 'Mitzi', '2022-03-21 21:55:10', 'Shawnee');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (70, 'In hac habitasse platea dictumst. Etiam faucibus cursus urna. Ut tellus.', '2021-12-22 09:55:17', 'Ambrosio', '2022-01-31 03:17:28', 'Deena');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (71, 'Quisque id justo sit amet sapien dignissim vestibulum. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Nulla dapibus dolor vel est. Donec odio justo, sollicitudin ut, suscipit a, feugiat et, eros.', '2022-09-30 05:44:12', 'Correy', '2022-01-18 10:03:08', 'Clair');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (1, 'Aliquam quis turpis eget elit sodales scelerisque. Mauris sit amet eros. Suspendisse accumsan tortor quis turpis.', '2022-09-06 11:39:31', 'Velma', '2022-06-21 21:44:20', 'Elfrida');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (59, 'Duis consequat dui nec nisi volutpat eleifend. Donec ut dolor. Morbi vel lectus in quam fringilla rhoncus.', '2022-04-25 13:47:59', 'Jackqueline', '2021-12-24 08:00:14', 'Cary');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (87, 'Aenean fermentum. Donec ut mauris eget massa tempor convallis. Nulla neque libero, convallis eget, eleifend luctus, ultricies eu, nibh.', '2022-12-03 23:13:46', 'Gilberto', '2022-06-20 04:50:48', 'Hi');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (77, 'Nullam sit amet turpis elementum ligula vehicula consequat. Morbi a ipsum. Integer a nibh.', '2022-07-05 04:10:16', 'Pieter', '2022-09-24 11:26:12', 'Morissa');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (24, 'Integer tincidunt ante vel ipsum. Praesent blandit lacinia erat. Vestibulum sed magna at nunc commodo placerat.', '2022-09-30 21:08:54', 'Berty', '2022-03-09 19:34:03', 'Derril');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (24, 'Lorem ipsum dolor sit amet, consectetuer adipiscing elit. Proin risus. Praesent lectus.', '2022-04-02 15:14:37', 'Reece', '2022-09-11 05:52:08', 'Linus');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (5, 'Quisque porta volutpat erat. Quisque erat eros, viverra eget, congue eget, semper rutrum, nulla. Nunc purus.', '2022-02-28 07:20:26', 'Bondie', '2022-08-17 08:06:10', 'Merrielle');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (83, 'In quis justo. Maecenas rhoncus aliquam lacus. Morbi quis tortor id nulla ultrices aliquet.', '2022-04-15 05:34:43', 'Nanni', '2022-10-24 09:45:52', 'King');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (40, 'Curabitur gravida nisi at nibh. In hac habitasse platea dictumst. Aliquam augue quam, sollicitudin vitae, consectetuer eget, rutrum at, lorem.', '2022-05-29 23:36:14', 'Errol', '2022-04-06 02:10:57', 'Jonah');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (81, 'In congue. Etiam justo. Etiam pretium iaculis justo.', '2022-01-15 17:08:58', 'Rick', '2022-06-23 16:56:57', 'Ame');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (73, 'Duis bibendum, felis sed interdum venenatis, turpis enim blandit mi, in porttitor pede justo eu massa. Donec dapibus. Duis at velit eu est congue elementum.', '2022-02-12 02:30:29', 'Chicky', '2022-10-05 03:30:01', 'Lynne');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (50, 'Duis aliquam convallis nunc. Proin at turpis a pede posuere nonummy. Integer non velit.', '2022-07-22 15:35:44', 'Alena', '2022-07-15 22:29:42', 'Adan');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (72, 'Maecenas leo odio, condimentum id, luctus nec, molestie sed, justo. Pellentesque viverra pede ac diam. Cras pellentesque volutpat dui.', '2022-03-15 08:56:16', 'Sloane', '2022-11-27 13:53:59', 'Ring');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (36, 'Maecenas leo odio, condimentum id, luctus nec, molestie sed, justo. Pellentesque viverra pede ac diam. Cras pellentesque volutpat dui.', '2022-05-15 09:35:01', 'Nalani', '2022-07-19 16:07:05', 'Allyce');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (39, 'Donec diam neque, vestibulum eget, vulputate ut, ultrices vel, augue. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Donec pharetra, magna vestibulum aliquet ultrices, erat tortor sollicitudin mi, sit amet lobortis sapien sapien non mi. Integer ac neque.', '2022-08-07 04:08:41', 'Cristabel', '2022-04-30 23:34:15', 'Damian');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (22, 'Aenean lectus. Pellentesque eget nunc. Donec quis orci eget orci vehicula condimentum.', '2022-03-17 20:21:36', 'Otho', '2022-12-01 20:50:42', 'Padgett');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (21, 'Curabitur gravida nisi at nibh. In hac habitasse platea dictumst. Aliquam augue quam, sollicitudin vitae, consectetuer eget, rutrum at, lorem.', '2022-09-07 01:06:00', 'Franchot', '2022-09-10 20:37:37', 'Ferdinande');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (27, 'In quis justo. Maecenas rhoncus aliquam lacus. Morbi quis tortor id nulla ultrices aliquet.', '2022-03-17 15:20:32', 'Gayle', '2022-11-10 21:01:10', 'Agosto');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (11, 'Nullam porttitor lacus at turpis. Donec posuere metus vitae ipsum. Aliquam non mauris.', '2022-03-15 03:46:45', 'Nerti', '2022-01-06 13:26:25', 'Christin');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (40, 'Suspendisse potenti. In eleifend quam a odio. In hac habitasse platea dictumst.', '2022-04-30 22:49:04', 'Elora', '2022-11-27 22:04:23', 'Ram');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (90, 'Phasellus in felis. Donec semper sapien a libero. Nam dui.', '2022-04-12 01:27:39', 'Ario', '2022-03-19 12:47:26', 'Abel');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (15, 'Nullam porttitor lacus at turpis. Donec posuere metus vitae ipsum. Aliquam non mauris.', '2022-02-26 20:30:49', 'Romy', '2022-08-12 04:19:57', 'Sherwood');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (37, 'Duis bibendum. Morbi non quam nec dui luctus rutrum. Nulla tellus.', '2022-03-11 13:39:36', 'Stacia', '2022-07-17 01:24:14', 'Georgetta');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (84, 'Suspendisse potenti. In eleifend quam a odio. In hac habitasse platea dictumst.', '2022-01-29 22:40:01', 'Katlin', '2022-03-16 01:23:22', 'Jewell');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (96, 'Nullam sit amet turpis elementum ligula vehicula consequat. Morbi a ipsum. Integer a nibh.', '2022-01-14 13:04:37', 'Farley', '2022-04-10 21:26:17', 'Sam');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (87, 'Integer ac leo. Pellentesque ultrices mattis odio. Donec vitae nisi.', '2022-10-08 13:24:00', 'Farlay', '2021-12-22 05:54:36', 'Nevins');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (35, 'Phasellus in felis. Donec semper sapien a libero. Nam dui.', '2022-02-02 06:30:45', 'Cherin', '2022-08-03 09:48:38', 'Vinny');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (65, 'In hac habitasse platea dictumst. Etiam faucibus cursus urna. Ut tellus.', '2022-05-08 04:14:12', 'Ezmeralda', '2022-06-19 21:11:39', 'Esma');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (30, 'Nulla ut erat id mauris vulputate elementum. Nullam varius. Nulla facilisi.', '2022-02-08 13:10:29', 'Cecile', '2022-04-08 00:31:31', 'Ellary');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (73, 'Integer tincidunt ante vel ipsum. Praesent blandit lacinia erat. Vestibulum sed magna at nunc commodo placerat.', '2022-10-26 00:20:14', 'Petronilla', '2022-04-20 18:12:15', 'Padget');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (1, 'Aenean lectus. Pellentesque eget nunc. Donec quis orci eget orci vehicula condimentum.', '2022-01-29 16:59:48', 'Clemens', '2022-08-19 16:20:25', 'Winifred');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (93, 'Maecenas tristique, est et tempus semper, est quam pharetra magna, ac consequat metus sapien ut nunc. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Mauris viverra diam vitae quam. Suspendisse potenti.', '2022-07-05 04:57:08', 'Merola', '2022-03-10 10:53:33', 'Chevy');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (6, 'In hac habitasse platea dictumst. Etiam faucibus cursus urna. Ut tellus.', '2022-05-26 13:56:28', 'Atlanta', '2022-05-12 18:22:02', 'Raymond');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (2, 'In hac habitasse platea dictumst. Morbi vestibulum, velit id pretium iaculis, diam erat fermentum justo, nec condimentum neque sapien placerat ante. Nulla justo.', '2022-03-05 20:53:34', 'Katharine', '2022-06-19 19:04:41', 'Percy');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (4, 'Aenean fermentum. Donec ut mauris eget massa tempor convallis. Nulla neque libero, convallis eget, eleifend luctus, ultricies eu, nibh.', '2022-08-23 17:11:42', 'Nathalie', '2022-11-02 23:47:07', 'Helsa');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (69, 'Curabitur in libero ut massa volutpat convallis. Morbi odio odio, elementum eu, interdum eu, tincidunt in, leo. Maecenas pulvinar lobortis est.', '2022-07-03 19:45:07', 'Amandi', '2022-10-21 23:41:54', 'Banky');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (38, 'Nam ultrices, libero non mattis pulvinar, nulla pede ullamcorper augue, a suscipit nulla elit ac nulla. Sed vel enim sit amet nunc viverra dapibus. Nulla suscipit ligula in lacus.', '2022-09-21 16:45:31', 'Lucais', '2022-04-26 17:29:24', 'Patrice');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (85, 'Aenean lectus. Pellentesque eget nunc. Donec quis orci eget orci vehicula condimentum.', '2022-07-29 17:44:20', 'Lulita', '2022-05-19 10:56:38', 'Filbert');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (85, 'Proin eu mi. Nulla ac enim. In tempor, turpis nec euismod scelerisque, quam turpis adipiscing lorem, vitae mattis nibh ligula nec sem.', '2022-04-19 19:55:42', 'Cathie', '2022-08-01 16:09:18', 'Cornell');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (76, 'Fusce posuere felis sed lacus. Morbi sem mauris, laoreet ut, rhoncus aliquet, pulvinar sed, nisl. Nunc rhoncus dui vel sem.', '2022-04-09 13:27:23', 'Kylynn', '2022-03-15 06:09:48', 'Zita');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (23, 'Curabitur at ipsum ac tellus semper interdum. Mauris ullamcorper purus sit amet nulla. Quisque arcu libero, rutrum ac, lobortis vel, dapibus at, diam.', '2022-11-17 18:05:42', 'Jennette', '2022-05-12 15:49:27', 'Matteo');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (64, 'In hac habitasse platea dictumst. Etiam faucibus cursus urna. Ut tellus.', '2022-12-07 02:05:36', 'Gwenny', '2022-05-12 00:58:49', 'Nadean');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (52, 'Curabitur at ipsum ac tellus semper interdum. Mauris ullamcorper purus sit amet nulla. Quisque arcu libero, rutrum ac, lobortis vel, dapibus at, diam.', '2022-03-29 17:55:08', 'Stefa', '2022-04-22 14:55:43', 'Phillipp');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (46, 'In congue. Etiam justo. Etiam pretium iaculis justo.', '2022-06-11 17:50:18', 'Lindsey', '2022-07-15 10:13:15', 'Sheri');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (6, 'Sed ante. Vivamus tortor. Duis mattis egestas metus.', '2022-10-14 21:15:04', 'Demetre', '2022-03-29 04:11:41', 'Lamont');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (76, 'Duis bibendum, felis sed interdum venenatis, turpis enim blandit mi, in porttitor pede justo eu massa. Donec dapibus. Duis at velit eu est congue elementum.', '2022-03-06 16:45:00', 'Dewain', '2022-04-12 22:32:34', 'Leticia');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (90, 'Duis aliquam convallis nunc. Proin at turpis a pede posuere nonummy. Integer non velit.', '2022-06-26 17:45:24', 'Amata', '2022-09-02 14:57:57', 'Milena');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (40, 'Aenean lectus. Pellentesque eget nunc. Donec quis orci eget orci vehicula condimentum.', '2021-12-25 08:36:53', 'Carleton', '2022-04-26 13:44:46', 'Lyman');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (1, 'Duis bibendum, felis sed interdum venenatis, turpis enim blandit mi, in porttitor pede justo eu massa. Donec dapibus. Duis at velit eu est congue elementum.', '2022-09-07 07:29:12', 'Brena', '2022-06-17 04:03:05', 'Jude');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (65, 'Donec diam neque, vestibulum eget, vulputate ut, ultrices vel, augue. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Donec pharetra, magna vestibulum aliquet ultrices, erat tortor sollicitudin mi, sit amet lobortis sapien sapien non mi. Integer ac neque.', '2022-10-27 05:55:56', 'Wittie', '2022-04-12 20:23:22', 'Corrinne');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (69, 'Cras non velit nec nisi vulputate nonummy. Maecenas tincidunt lacus at velit. Vivamus vel nulla eget eros elementum pellentesque.', '2022-03-24 15:36:58', 'Harp', '2021-12-28 14:51:10', 'Fidelity');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (13, 'Maecenas ut massa quis augue luctus tincidunt. Nulla mollis molestie lorem. Quisque ut erat.', '2022-06-29 19:39:01', 'Lucine', '2022-06-12 13:45:08', 'Randall');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (56, 'In hac habitasse platea dictumst. Etiam faucibus cursus urna. Ut tellus.', '2022-02-01 10:35:12', 'Marven', '2022-12-08 15:19:11', 'Francene');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (74, 'Mauris enim leo, rhoncus sed, vestibulum sit amet, cursus id, turpis. Integer aliquet, massa id lobortis convallis, tortor risus dapibus augue, vel accumsan tellus nisi eu orci. Mauris lacinia sapien quis libero.', '2022-02-09 15:52:09', 'Tasha', '2022-04-08 10:14:30', 'Sunshine');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (58, 'Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus. Vivamus vestibulum sagittis sapien. Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus.', '2022-03-07 07:33:28', 'Nerty', '2022-07-10 20:06:33', 'Janna');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (46, 'Vestibulum quam sapien, varius ut, blandit non, interdum in, ante. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Duis faucibus accumsan odio. Curabitur convallis.', '2022-07-04 00:22:00', 'Ricoriki', '2022-12-06 18:13:07', 'Shannen');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (34, 'Nulla ut erat id mauris vulputate elementum. Nullam varius. Nulla facilisi.', '2022-03-20 02:19:21', 'Benjamin', '2022-05-11 13:37:13', 'Quinn');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (90, 'Duis bibendum. Morbi non quam nec dui luctus rutrum. Nulla tellus.', '2022-11-11 03:00:17', 'Katerine', '2022-06-29 04:38:58', 'Simonne');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (44, 'Integer ac leo. Pellentesque ultrices mattis odio. Donec vitae nisi.', '2022-03-20 03:15:55', 'Fransisco', '2021-12-21 15:16:07', 'Alleen');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (21, 'Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus. Vivamus vestibulum sagittis sapien. Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus.', '2021-12-27 10:48:48', 'Jacqui', '2022-07-24 02:18:24', 'Keriann');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (34, 'Phasellus in felis. Donec semper sapien a libero. Nam dui.', '2022-10-20 08:17:27', 'Egbert', '2022-09-10 14:37:47', 'Paige');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (43, 'Quisque porta volutpat erat. Quisque erat eros, viverra eget, congue eget, semper rutrum, nulla. Nunc purus.', '2022-09-11 22:11:29', 'Rahel', '2022-08-26 16:00:57', 'Neron');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (66, 'Quisque porta volutpat erat. Quisque erat eros, viverra eget, congue eget, semper rutrum, nulla. Nunc purus.', '2022-11-06 07:53:26', 'Nita', '2022-01-03 08:39:21', 'Cairistiona');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (97, 'Vestibulum ac est lacinia nisi venenatis tristique. Fusce congue, diam id ornare imperdiet, sapien urna pretium nisl, ut volutpat sapien arcu sed augue. Aliquam erat volutpat.', '2022-06-30 02:49:11', 'Cinda', '2022-04-06 05:06:24', 'Terrill');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (36, 'Proin eu mi. Nulla ac enim. In tempor, turpis nec euismod scelerisque, quam turpis adipiscing lorem, vitae mattis nibh ligula nec sem.', '2022-12-08 14:18:56', 'Ellery', '2022-04-08 19:14:34', 'Mallorie');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (91, 'Quisque id justo sit amet sapien dignissim vestibulum. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Nulla dapibus dolor vel est. Donec odio justo, sollicitudin ut, suscipit a, feugiat et, eros.', '2022-03-02 21:05:19', 'Brian', '2022-10-13 07:07:37', 'Avram');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (68, 'Fusce consequat. Nulla nisl. Nunc nisl.', '2022-11-29 18:16:04', 'Jessamyn', '2022-10-12 10:18:29', 'Loreen');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (32, 'Proin eu mi. Nulla ac enim. In tempor, turpis nec euismod scelerisque, quam turpis adipiscing lorem, vitae mattis nibh ligula nec sem.', '2022-09-01 03:41:51', 'Melva', '2022-08-24 01:01:24', 'Georgi');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (37, 'Cras mi pede, malesuada in, imperdiet et, commodo vulputate, justo. In blandit ultrices enim. Lorem ipsum dolor sit amet, consectetuer adipiscing elit.', '2022-01-13 07:05:56', 'Krystyna', '2022-07-22 22:13:19', 'Angeli');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (61, 'Maecenas ut massa quis augue luctus tincidunt. Nulla mollis molestie lorem. Quisque ut erat.', '2022-02-28 18:40:11', 'Amaleta', '2022-11-20 02:09:26', 'Kristo');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (82, 'Maecenas ut massa quis augue luctus tincidunt. Nulla mollis molestie lorem. Quisque ut erat.', '2022-04-11 22:41:03', 'Bertram', '2022-10-04 20:19:47', 'Maryjane');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (87, 'Sed sagittis. Nam congue, risus semper porta volutpat, quam pede lobortis ligula, sit amet eleifend pede libero quis orci. Nullam molestie nibh in lectus.', '2022-08-06 16:37:17', 'Paulette', '2022-10-31 07:29:12', 'Martie');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (20, 'Sed sagittis. Nam congue, risus semper porta volutpat, quam pede lobortis ligula, sit amet eleifend pede libero quis orci. Nullam molestie nibh in lectus.', '2022-06-11 01:44:09', 'Bartolemo', '2022-09-10 11:28:11', 'Tanhya');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (8, 'Nulla ut erat id mauris vulputate elementum. Nullam varius. Nulla facilisi.', '2022-09-17 04:07:03', 'Phillis', '2022-08-30 11:31:19', 'Kaye');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (52, 'Nam ultrices, libero non mattis pulvinar, nulla pede ullamcorper augue, a suscipit nulla elit ac nulla. Sed vel enim sit amet nunc viverra dapibus. Nulla suscipit ligula in lacus.', '2022-03-28 15:10:47', 'Chelsy', '2022-08-11 07:40:24', 'Adriena');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (75, 'Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus. Vivamus vestibulum sagittis sapien. Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus.', '2022-07-23 16:15:14', 'Eachelle', '2022-06-29 01:09:00', 'Maxine');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (52, 'Proin leo odio, porttitor id, consequat in, consequat ut, nulla. Sed accumsan felis. Ut at dolor quis odio consequat varius.', '2022-01-27 06:00:25', 'Margarete', '2022-03-23 22:59:41', 'Elisha');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (23, 'Suspendisse potenti. In eleifend quam a odio. In hac habitasse platea dictumst.', '2022-06-18 00:11:13', 'Clarisse', '2022-01-29 09:15:09', 'Chic');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (36, 'Integer tincidunt ante vel ipsum. Praesent blandit lacinia erat. Vestibulum sed magna at nunc commodo placerat.', '2021-12-23 14:04:46', 'Rosalie', '2022-09-07 10:25:54', 'Sosanna');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (32, 'Maecenas ut massa quis augue luctus tincidunt. Nulla mollis molestie lorem. Quisque ut erat.', '2022-03-31 01:47:46', 'Giana', '2022-02-23 20:35:45', 'Sile');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (96, 'Cras non velit nec nisi vulputate nonummy. Maecenas tincidunt lacus at velit. Vivamus vel nulla eget eros elementum pellentesque.', '2022-05-05 05:18:33', 'Des', '2022-03-26 18:41:18', 'Thibaud');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (16, 'Lorem ipsum dolor sit amet, consectetuer adipiscing elit. Proin risus. Praesent lectus.', '2022-09-21 05:30:43', 'Emlynne', '2022-09-05 14:10:45', 'Jannel');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (1, 'Maecenas leo odio, condimentum id, luctus nec, molestie sed, justo. Pellentesque viverra pede ac diam. Cras pellentesque volutpat dui.', '2022-06-10 07:51:07', 'Myrta', '2022-09-25 07:20:36', 'Estevan');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (81, 'Maecenas leo odio, condimentum id, luctus nec, molestie sed, justo. Pellentesque viverra pede ac diam. Cras pellentesque volutpat dui.', '2022-07-17 14:56:06', 'Nels', '2022-08-15 06:28:03', 'Maxine');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (53, 'In hac habitasse platea dictumst. Morbi vestibulum, velit id pretium iaculis, diam erat fermentum justo, nec condimentum neque sapien placerat ante. Nulla justo.', '2022-07-05 19:54:30', 'Trstram', '2022-03-06 23:33:29', 'Ajay');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (89, 'In hac habitasse platea dictumst. Morbi vestibulum, velit id pretium iaculis, diam erat fermentum justo, nec condimentum neque sapien placerat ante. Nulla justo.', '2022-10-07 19:59:02', 'Lacey', '2022-04-24 01:24:10', 'Rees');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (29, 'Duis consequat dui nec nisi volutpat eleifend. Donec ut dolor. Morbi vel lectus in quam fringilla rhoncus.', '2022-04-26 15:11:17', 'Keary', '2022-07-02 15:00:12', 'Ellie');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (49, 'Vestibulum ac est lacinia nisi venenatis tristique. Fusce congue, diam id ornare imperdiet, sapien urna pretium nisl, ut volutpat sapien arcu sed augue. Aliquam erat volutpat.', '2022-02-10 04:29:42', 'Raff', '2022-01-06 10:47:09', 'Del');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (100, 'In hac habitasse platea dictumst. Morbi vestibulum, velit id pretium iaculis, diam erat fermentum justo, nec condimentum neque sapien placerat ante. Nulla justo.', '2022-01-07 03:56:41', 'Samuel', '2022-01-05 08:53:03', 'Donica');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (19, 'Sed ante. Vivamus tortor. Duis mattis egestas metus.', '2022-10-25 18:47:41', 'Norry', '2022-06-24 10:59:45', 'Kaitlin');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (71, 'Praesent blandit. Nam nulla. Integer pede justo, lacinia eget, tincidunt eget, tempus vel, pede.', '2021-12-28 17:07:18', 'Fanny', '2022-11-15 09:16:04', 'Isa');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (74, 'Pellentesque at nulla. Suspendisse potenti. Cras in purus eu magna vulputate luctus.', '2022-05-20 12:40:09', 'Bette-ann', '2022-07-15 20:53:30', 'Graig');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (83, 'Curabitur gravida nisi at nibh. In hac habitasse platea dictumst. Aliquam augue quam, sollicitudin vitae, consectetuer eget, rutrum at, lorem.', '2022-06-13 01:41:45', 'Elden', '2022-11-09 08:43:42', 'Abdel');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (97, 'Quisque porta volutpat erat. Quisque erat eros, viverra eget, congue eget, semper rutrum, nulla. Nunc purus.', '2022-11-30 21:14:40', 'Biddie', '2022-08-01 07:48:42', 'Wynny');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (65, 'Maecenas ut massa quis augue luctus tincidunt. Nulla mollis molestie lorem. Quisque ut erat.', '2022-06-28 02:47:57', 'Bette', '2022-11-13 19:37:46', 'Silva');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (49, 'Etiam vel augue. Vestibulum rutrum rutrum neque. Aenean auctor gravida sem.', '2022-04-12 03:13:38', 'Ronny', '2022-12-01 06:01:20', 'Cale');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (63, 'Duis consequat dui nec nisi volutpat eleifend. Donec ut dolor. Morbi vel lectus in quam fringilla rhoncus.', '2022-03-01 09:18:07', 'Claiborn', '2022-06-07 22:57:39', 'Yevette');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (46, 'In quis justo. Maecenas rhoncus aliquam lacus. Morbi quis tortor id nulla ultrices aliquet.', '2022-04-22 01:14:34', 'Julio', '2022-03-10 11:24:45', 'Caty');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (45, 'In quis justo. Maecenas rhoncus aliquam lacus. Morbi quis tortor id nulla ultrices aliquet.', '2022-01-11 00:44:37', 'Jeramey', '2022-02-13 08:25:02', 'Wilton');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (91, 'Donec diam neque, vestibulum eget, vulputate ut, ultrices vel, augue. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Donec pharetra, magna vestibulum aliquet ultrices, erat tortor sollicitudin mi, sit amet lobortis sapien sapien non mi. Integer ac neque.', '2022-05-18 07:31:48', 'Errick', '2022-05-15 13:39:01', 'Matthus');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (66, 'In hac habitasse platea dictumst. Morbi vestibulum, velit id pretium iaculis, diam erat fermentum justo, nec condimentum neque sapien placerat ante. Nulla justo.', '2022-06-09 12:45:33', 'Doy', '2022-11-08 15:37:22', 'Ignacius');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (8, 'Proin leo odio, porttitor id, consequat in, consequat ut, nulla. Sed accumsan felis. Ut at dolor quis odio consequat varius.', '2022-07-28 00:49:58', 'Avery', '2022-09-28 02:52:43', 'Genny');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (98, 'Phasellus in felis. Donec semper sapien a libero. Nam dui.', '2022-05-21 19:15:27', 'Gael', '2022-05-26 01:00:52', 'Merv');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (56, 'Proin leo odio, porttitor id, consequat in, consequat ut, nulla. Sed accumsan felis. Ut at dolor quis odio consequat varius.', '2022-01-02 04:04:59', 'Janeta', '2021-12-29 21:57:39', 'Carolan');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (50, 'Duis bibendum. Morbi non quam nec dui luctus rutrum. Nulla tellus.', '2022-08-24 19:10:58', 'Lilith', '2022-08-17 16:13:52', 'Belva');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (52, 'Maecenas tristique, est et tempus semper, est quam pharetra magna, ac consequat metus sapien ut nunc. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Mauris viverra diam vitae quam. Suspendisse potenti.', '2022-05-29 18:57:16', 'Sigmund', '2022-06-28 05:12:07', 'Lothaire');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (7, 'Cras mi pede, malesuada in, imperdiet et, commodo vulputate, justo. In blandit ultrices enim. Lorem ipsum dolor sit amet, consectetuer adipiscing elit.', '2022-11-06 20:17:58', 'Mercy', '2022-04-10 14:27:00', 'Karla');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (73, 'Proin interdum mauris non ligula pellentesque ultrices. Phasellus id sapien in sapien iaculis congue. Vivamus metus arcu, adipiscing molestie, hendrerit at, vulputate vitae, nisl.', '2022-08-23 18:46:54', 'Adelbert', '2022-06-18 07:59:03', 'Haslett');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (21, 'Quisque id justo sit amet sapien dignissim vestibulum. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Nulla dapibus dolor vel est. Donec odio justo, sollicitudin ut, suscipit a, feugiat et, eros.', '2022-04-20 14:31:24', 'Scottie', '2022-07-16 07:42:48', 'Hakeem');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (19, 'Donec diam neque, vestibulum eget, vulputate ut, ultrices vel, augue. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Donec pharetra, magna vestibulum aliquet ultrices, erat tortor sollicitudin mi, sit amet lobortis sapien sapien non mi. Integer ac neque.', '2022-12-12 09:28:27', 'Fair', '2022-06-24 21:30:02', 'Cam');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (40, 'Donec diam neque, vestibulum eget, vulputate ut, ultrices vel, augue. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Donec pharetra, magna vestibulum aliquet ultrices, erat tortor sollicitudin mi, sit amet lobortis sapien sapien non mi. Integer ac neque.', '2022-01-14 03:11:11', 'Alic', '2022-04-08 02:00:46', 'Sabina');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (8, 'Vestibulum ac est lacinia nisi venenatis tristique. Fusce congue, diam id ornare imperdiet, sapien urna pretium nisl, ut volutpat sapien arcu sed augue. Aliquam erat volutpat.', '2022-07-27 02:10:07', 'Gianina', '2022-12-16 14:59:15', 'Winonah');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (36, 'Lorem ipsum dolor sit amet, consectetuer adipiscing elit. Proin risus. Praesent lectus.', '2022-12-14 20:21:43', 'Flor', '2022-11-23 16:03:53', 'Elinore');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (24, 'Proin eu mi. Nulla ac enim. In tempor, turpis nec euismod scelerisque, quam turpis adipiscing lorem, vitae mattis nibh ligula nec sem.', '2022-01-02 07:57:56', 'Marla', '2022-08-30 19:27:34', 'Franchot');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (50, 'Sed ante. Vivamus tortor. Duis mattis egestas metus.', '2022-03-09 23:34:51', 'Guthrie', '2022-10-28 02:22:05', 'Den');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (49, 'Aenean fermentum. Donec ut mauris eget massa tempor convallis. Nulla neque libero, convallis eget, eleifend luctus, ultricies eu, nibh.', '2022-12-16 17:45:16', 'Melanie', '2022-06-26 02:11:49', 'Willard');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (83, 'Quisque id justo sit amet sapien dignissim vestibulum. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Nulla dapibus dolor vel est. Donec odio justo, sollicitudin ut, suscipit a, feugiat et, eros.', '2022-09-05 15:33:15', 'Gaynor', '2022-12-19 23:42:47', 'Marthe');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (95, 'Praesent blandit. Nam nulla. Integer pede justo, lacinia eget, tincidunt eget, tempus vel, pede.', '2022-03-10 00:24:53', 'Auroora', '2022-06-29 05:52:15', 'Violet');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (95, 'Integer tincidunt ante vel ipsum. Praesent blandit lacinia erat. Vestibulum sed magna at nunc commodo placerat.', '2022-04-14 13:02:30', 'Ariana', '2022-03-27 07:36:51', 'Bowie');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (50, 'Etiam vel augue. Vestibulum rutrum rutrum neque. Aenean auctor gravida sem.', '2022-05-13 11:12:54', 'Liz', '2022-03-20 12:37:03', 'Jena');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (18, 'Maecenas ut massa quis augue luctus tincidunt. Nulla mollis molestie lorem. Quisque ut erat.', '2022-06-22 09:32:37', 'Kenon', '2022-09-26 18:06:26', 'Sibel');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (63, 'Cras mi pede, malesuada in, imperdiet et, commodo vulputate, justo. In blandit ultrices enim. Lorem ipsum dolor sit amet, consectetuer adipiscing elit.', '2022-12-16 06:08:26', 'Stinky', '2022-04-24 06:23:03', 'Anet');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (87, 'Duis bibendum. Morbi non quam nec dui luctus rutrum. Nulla tellus.', '2022-09-01 05:51:40', 'Grace', '2022-03-12 10:52:39', 'Jasmin');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (9, 'Aenean lectus. Pellentesque eget nunc. Donec quis orci eget orci vehicula condimentum.', '2022-03-24 09:13:56', 'Kira', '2022-01-31 05:28:45', 'Brantley');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (93, 'In congue. Etiam justo. Etiam pretium iaculis justo.', '2022-10-20 03:43:10', 'Dyna', '2022-05-28 09:19:08', 'Tymon');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (21, 'Morbi non lectus. Aliquam sit amet diam in magna bibendum imperdiet. Nullam orci pede, venenatis non, sodales sed, tincidunt eu, felis.', '2022-12-08 15:56:02', 'Kessia', '2022-11-25 20:44:31', 'Donny');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (70, 'Maecenas leo odio, condimentum id, luctus nec, molestie sed, justo. Pellentesque viverra pede ac diam. Cras pellentesque volutpat dui.', '2022-08-29 20:05:11', 'Bianca', '2022-10-11 18:16:07', 'Gloriane');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (50, 'Proin eu mi. Nulla ac enim. In tempor, turpis nec euismod scelerisque, quam turpis adipiscing lorem, vitae mattis nibh ligula nec sem.', '2022-01-17 17:34:22', 'Lia', '2022-10-22 06:38:03', 'Nana');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (45, 'Quisque porta volutpat erat. Quisque erat eros, viverra eget, congue eget, semper rutrum, nulla. Nunc purus.', '2022-11-13 22:50:45', 'Jodie', '2022-09-04 11:20:02', 'Dody');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (53, 'Sed sagittis. Nam congue, risus semper porta volutpat, quam pede lobortis ligula, sit amet eleifend pede libero quis orci. Nullam molestie nibh in lectus.', '2022-09-06 23:19:46', 'Theresina', '2022-09-27 15:08:07', 'Nancey');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (74, 'Praesent id massa id nisl venenatis lacinia. Aenean sit amet justo. Morbi ut odio.', '2022-05-22 18:16:08', 'Jehu', '2022-03-31 17:43:25', 'Maurene');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (28, 'Suspendisse potenti. In eleifend quam a odio. In hac habitasse platea dictumst.', '2022-07-03 07:57:24', 'Trudie', '2022-01-17 05:12:56', 'Farrah');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (92, 'Praesent id massa id nisl venenatis lacinia. Aenean sit amet justo. Morbi ut odio.', '2022-07-09 21:02:52', 'Curtice', '2022-03-10 02:55:17', 'Codi');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (73, 'Sed sagittis. Nam congue, risus semper porta volutpat, quam pede lobortis ligula, sit amet eleifend pede libero quis orci. Nullam molestie nibh in lectus.', '2022-04-09 10:33:06', 'Carlota', '2022-06-05 22:03:18', 'Lotty');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (92, 'Pellentesque at nulla. Suspendisse potenti. Cras in purus eu magna vulputate luctus.', '2022-02-08 21:55:00', 'Fletch', '2022-04-04 14:36:49', 'Stefan');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (18, 'Nullam porttitor lacus at turpis. Donec posuere metus vitae ipsum. Aliquam non mauris.', '2022-08-28 10:21:18', 'Baily', '2022-07-19 08:12:33', 'Verne');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (24, 'Aenean fermentum. Donec ut mauris eget massa tempor convallis. Nulla neque libero, convallis eget, eleifend luctus, ultricies eu, nibh.', '2022-02-16 06:54:11', 'Tremain', '2022-03-30 02:46:53', 'Yulma');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (13, 'Curabitur in libero ut massa volutpat convallis. Morbi odio odio, elementum eu, interdum eu, tincidunt in, leo. Maecenas pulvinar lobortis est.', '2022-02-15 18:20:31', 'Aigneis', '2022-06-04 04:57:37', 'Levi');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (45, 'Phasellus sit amet erat. Nulla tempus. Vivamus in felis eu sapien cursus vestibulum.', '2022-10-29 23:56:58', 'Rancell', '2022-11-04 03:45:42', 'Cherey');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (65, 'Praesent id massa id nisl venenatis lacinia. Aenean sit amet justo. Morbi ut odio.', '2022-09-15 19:24:55', 'Sven', '2022-09-29 20:09:31', 'Minne');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (29, 'Pellentesque at nulla. Suspendisse potenti. Cras in purus eu magna vulputate luctus.', '2022-04-12 07:52:53', 'Diane-marie', '2021-12-26 23:27:04', 'Betsy');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (89, 'Vestibulum ac est lacinia nisi venenatis tristique. Fusce congue, diam id ornare imperdiet, sapien urna pretium nisl, ut volutpat sapien arcu sed augue. Aliquam erat volutpat.', '2022-08-05 19:23:33', 'Nicolette', '2022-04-28 22:16:09', 'Erna');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (83, 'In hac habitasse platea dictumst. Morbi vestibulum, velit id pretium iaculis, diam erat fermentum justo, nec condimentum neque sapien placerat ante. Nulla justo.', '2022-08-25 17:57:10', 'Alyson', '2022-07-14 02:05:02', 'Christen');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (46, 'Curabitur in libero ut massa volutpat convallis. Morbi odio odio, elementum eu, interdum eu, tincidunt in, leo. Maecenas pulvinar lobortis est.', '2022-11-30 14:36:59', 'Ravid', '2022-03-25 22:56:53', 'Kally');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (97, 'Proin leo odio, porttitor id, consequat in, consequat ut, nulla. Sed accumsan felis. Ut at dolor quis odio consequat varius.', '2022-02-17 06:22:31', 'Rubetta', '2022-06-14 14:04:07', 'Odelia');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (19, 'Etiam vel augue. Vestibulum rutrum rutrum neque. Aenean auctor gravida sem.', '2022-06-28 09:25:15', 'Rayna', '2022-03-31 02:52:54', 'Sanford');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (49, 'Vestibulum ac est lacinia nisi venenatis tristique. Fusce congue, diam id ornare imperdiet, sapien urna pretium nisl, ut volutpat sapien arcu sed augue. Aliquam erat volutpat.', '2022-04-29 18:33:09', 'Jere', '2022-06-11 03:52:47', 'Issie');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (37, 'Nullam porttitor lacus at turpis. Donec posuere metus vitae ipsum. Aliquam non mauris.', '2022-12-14 19:43:32', 'Tadio', '2022-07-13 07:11:36', 'Farra');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (63, 'Mauris enim leo, rhoncus sed, vestibulum sit amet, cursus id, turpis. Integer aliquet, massa id lobortis convallis, tortor risus dapibus augue, vel accumsan tellus nisi eu orci. Mauris lacinia sapien quis libero.', '2022-01-15 11:46:20', 'Gwenette', '2022-05-17 13:55:53', 'Deloris');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (44, 'Duis bibendum. Morbi non quam nec dui luctus rutrum. Nulla tellus.', '2022-03-28 05:13:51', 'Callida', '2022-09-20 06:56:33', 'Erica');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (21, 'Maecenas ut massa quis augue luctus tincidunt. Nulla mollis molestie lorem. Quisque ut erat.', '2022-06-07 22:53:06', 'Arnuad', '2022-06-28 10:10:11', 'Rudolph');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (53, 'Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus. Vivamus vestibulum sagittis sapien. Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus.', '2022-04-05 04:02:34', 'Geralda', '2022-10-11 09:55:15', 'Lyle');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (27, 'Integer ac leo. Pellentesque ultrices mattis odio. Donec vitae nisi.', '2022-09-17 03:00:44', 'Lucie', '2022-06-30 08:09:02', 'Casar');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (53, 'Proin eu mi. Nulla ac enim. In tempor, turpis nec euismod scelerisque, quam turpis adipiscing lorem, vitae mattis nibh ligula nec sem.', '2022-10-24 23:29:52', 'Hazlett', '2022-03-30 21:17:55', 'Quincy');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (47, 'In hac habitasse platea dictumst. Etiam faucibus cursus urna. Ut tellus.', '2022-05-31 05:06:16', 'Dareen', '2022-10-16 13:52:37', 'Veronika');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (50, 'Curabitur at ipsum ac tellus semper interdum. Mauris ullamcorper purus sit amet nulla. Quisque arcu libero, rutrum ac, lobortis vel, dapibus at, diam.', '2022-09-17 11:43:34', 'Page', '2022-04-30 09:57:01', 'Derrek');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (31, 'Praesent id massa id nisl venenatis lacinia. Aenean sit amet justo. Morbi ut odio.', '2021-12-21 22:52:45', 'Shurlock', '2022-03-27 15:58:49', 'Carie');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (18, 'Integer tincidunt ante vel ipsum. Praesent blandit lacinia erat. Vestibulum sed magna at nunc commodo placerat.', '2022-04-09 00:28:09', 'Averil', '2022-08-16 05:51:39', 'Davis');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (56, 'Quisque id justo sit amet sapien dignissim vestibulum. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Nulla dapibus dolor vel est. Donec odio justo, sollicitudin ut, suscipit a, feugiat et, eros.', '2022-01-17 07:57:40', 'Cheryl', '2022-03-10 10:42:15', 'Flinn');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (27, 'Etiam vel augue. Vestibulum rutrum rutrum neque. Aenean auctor gravida sem.', '2022-01-14 04:00:50', 'Ephraim', '2022-02-23 19:25:11', 'Shawn');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (32, 'Mauris enim leo, rhoncus sed, vestibulum sit amet, cursus id, turpis. Integer aliquet, massa id lobortis convallis, tortor risus dapibus augue, vel accumsan tellus nisi eu orci. Mauris lacinia sapien quis libero.', '2022-03-01 20:52:50', 'Gertruda', '2022-04-26 21:13:41', 'Yolande');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (34, 'Cras non velit nec nisi vulputate nonummy. Maecenas tincidunt lacus at velit. Vivamus vel nulla eget eros elementum pellentesque.', '2022-04-13 01:21:28', 'Andrea', '2022-03-04 04:17:40', 'Claretta');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (46, 'Proin interdum mauris non ligula pellentesque ultrices. Phasellus id sapien in sapien iaculis congue. Vivamus metus arcu, adipiscing molestie, hendrerit at, vulputate vitae, nisl.', '2022-04-13 05:22:19', 'Myrwyn', '2022-01-17 19:08:33', 'Hayden');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (44, 'Aliquam quis turpis eget elit sodales scelerisque. Mauris sit amet eros. Suspendisse accumsan tortor quis turpis.', '2022-07-04 22:52:31', 'Gusta', '2022-11-29 17:00:30', 'Tuesday');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (21, 'Fusce posuere felis sed lacus. Morbi sem mauris, laoreet ut, rhoncus aliquet, pulvinar sed, nisl. Nunc rhoncus dui vel sem.', '2022-10-08 18:36:11', 'Kelli', '2022-10-03 11:16:24', 'Albertine');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (37, 'Curabitur at ipsum ac tellus semper interdum. Mauris ullamcorper purus sit amet nulla. Quisque arcu libero, rutrum ac, lobortis vel, dapibus at, diam.', '2022-08-19 14:41:02', 'Liv', '2022-03-12 04:12:21', 'Maryann');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (66, 'In hac habitasse platea dictumst. Morbi vestibulum, velit id pretium iaculis, diam erat fermentum justo, nec condimentum neque sapien placerat ante. Nulla justo.', '2022-04-08 02:30:13', 'Brocky', '2022-05-16 04:55:24', 'Ambrosius');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (79, 'Morbi porttitor lorem id ligula. Suspendisse ornare consequat lectus. In est risus, auctor sed, tristique in, tempus sit amet, sem.', '2022-01-05 00:25:13', 'Gavrielle', '2022-12-01 11:14:31', 'Amberly');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (73, 'Duis aliquam convallis nunc. Proin at turpis a pede posuere nonummy. Integer non velit.', '2022-03-24 12:03:47', 'Sheffield', '2021-12-29 09:59:23', 'Aida');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (86, 'Fusce posuere felis sed lacus. Morbi sem mauris, laoreet ut, rhoncus aliquet, pulvinar sed, nisl. Nunc rhoncus dui vel sem.', '2022-08-12 09:54:23', 'Ward', '2022-04-29 00:47:35', 'Shellysheldon');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (14, 'Nullam sit amet turpis elementum ligula vehicula consequat. Morbi a ipsum. Integer a nibh.', '2022-11-25 05:18:44', 'Kylen', '2022-03-10 04:15:56', 'Lilllie');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (47, 'In hac habitasse platea dictumst. Etiam faucibus cursus urna. Ut tellus.', '2022-03-09 05:28:17', 'Nikita', '2022-08-10 18:34:16', 'Vinni');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (60, 'Quisque id justo sit amet sapien dignissim vestibulum. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Nulla dapibus dolor vel est. Donec odio justo, sollicitudin ut, suscipit a, feugiat et, eros.', '2022-01-31 13:27:21', 'Sydney', '2021-12-30 04:04:47', 'Etti');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (62, 'Nam ultrices, libero non mattis pulvinar, nulla pede ullamcorper augue, a suscipit nulla elit ac nulla. Sed vel enim sit amet nunc viverra dapibus. Nulla suscipit ligula in lacus.', '2022-04-11 13:08:11', 'Gregor', '2022-01-10 10:22:18', 'Denna');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (59, 'Maecenas leo odio, condimentum id, luctus nec, molestie sed, justo. Pellentesque viverra pede ac diam. Cras pellentesque volutpat dui.', '2022-06-15 07:52:19', 'Cesaro', '2022-10-09 01:51:42', 'Reuven');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (9, 'Donec diam neque, vestibulum eget, vulputate ut, ultrices vel, augue. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Donec pharetra, magna vestibulum aliquet ultrices, erat tortor sollicitudin mi, sit amet lobortis sapien sapien non mi. Integer ac neque.', '2022-08-04 09:04:14', 'Clementine', '2022-07-08 15:32:44', 'Vince');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (97, 'Duis aliquam convallis nunc. Proin at turpis a pede posuere nonummy. Integer non velit.', '2022-10-22 11:38:49', 'Trude', '2022-10-05 21:05:58', 'Gertrud');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (43, 'Sed ante. Vivamus tortor. Duis mattis egestas metus.', '2022-10-22 03:13:55', 'Guillemette', '2021-12-22 16:49:09', 'Fallon');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (19, 'Nam ultrices, libero non mattis pulvinar, nulla pede ullamcorper augue, a suscipit nulla elit ac nulla. Sed vel enim sit amet nunc viverra dapibus. Nulla suscipit ligula in lacus.', '2022-01-18 01:27:42', 'Addie', '2022-11-25 04:47:10', 'Idelle');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (95, 'Suspendisse potenti. In eleifend quam a odio. In hac habitasse platea dictumst.', '2022-04-18 09:19:54', 'Daryl', '2022-01-07 14:32:16', 'Mufinella');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (6, 'Donec diam neque, vestibulum eget, vulputate ut, ultrices vel, augue. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Donec pharetra, magna vestibulum aliquet ultrices, erat tortor sollicitudin mi, sit amet lobortis sapien sapien non mi. Integer ac neque.', '2022-06-20 09:29:41', 'Shara', '2022-07-26 23:34:11', 'Almira');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (15, 'Maecenas tristique, est et tempus semper, est quam pharetra magna, ac consequat metus sapien ut nunc. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Mauris viverra diam vitae quam. Suspendisse potenti.', '2022-04-27 07:40:40', 'Miner', '2022-09-23 07:32:40', 'Junina');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (42, 'Pellentesque at nulla. Suspendisse potenti. Cras in purus eu magna vulputate luctus.', '2022-11-09 13:49:46', 'Hadrian', '2022-02-04 01:21:01', 'Jillian');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (36, 'Proin leo odio, porttitor id, consequat in, consequat ut, nulla. Sed accumsan felis. Ut at dolor quis odio consequat varius.', '2021-12-29 20:18:51', 'Letti', '2022-08-04 17:11:32', 'Elvera');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (8, 'Maecenas leo odio, condimentum id, luctus nec, molestie sed, justo. Pellentesque viverra pede ac diam. Cras pellentesque volutpat dui.', '2022-05-07 04:12:31', 'Pattie', '2022-11-12 15:31:01', 'Muffin');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (42, 'Proin interdum mauris non ligula pellentesque ultrices. Phasellus id sapien in sapien iaculis congue. Vivamus metus arcu, adipiscing molestie, hendrerit at, vulputate vitae, nisl.', '2022-07-08 09:16:06', 'Fairfax', '2022-09-06 01:25:08', 'Raphael');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (83, 'Curabitur at ipsum ac tellus semper interdum. Mauris ullamcorper purus sit amet nulla. Quisque arcu libero, rutrum ac, lobortis vel, dapibus at, diam.', '2022-03-27 13:12:18', 'Ogdon', '2022-02-22 22:23:22', 'Daron');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (49, 'Curabitur in libero ut massa volutpat convallis. Morbi odio odio, elementum eu, interdum eu, tincidunt in, leo. Maecenas pulvinar lobortis est.', '2021-12-30 09:02:09', 'Andrej', '2021-12-27 23:24:55', 'Jessica');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (72, 'Sed sagittis. Nam congue, risus semper porta volutpat, quam pede lobortis ligula, sit amet eleifend pede libero quis orci. Nullam molestie nibh in lectus.', '2022-05-26 00:29:10', 'Maire', '2022-06-13 12:29:34', 'Linn');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (93, 'Fusce consequat. Nulla nisl. Nunc nisl.', '2022-08-13 01:13:14', 'Hendrika', '2022-07-15 12:05:25', 'Wendy');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (54, 'Duis aliquam convallis nunc. Proin at turpis a pede posuere nonummy. Integer non velit.', '2022-11-28 14:25:12', 'Glenine', '2022-04-02 09:11:20', 'Mellicent');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (64, 'Quisque id justo sit amet sapien dignissim vestibulum. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Nulla dapibus dolor vel est. Donec odio justo, sollicitudin ut, suscipit a, feugiat et, eros.', '2022-03-28 16:12:56', 'Rae', '2022-01-14 07:24:24', 'Seana');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (71, 'Curabitur gravida nisi at nibh. In hac habitasse platea dictumst. Aliquam augue quam, sollicitudin vitae, consectetuer eget, rutrum at, lorem.', '2022-11-27 23:01:10', 'Estevan', '2021-12-23 13:02:03', 'Carlos');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (39, 'Cras non velit nec nisi vulputate nonummy. Maecenas tincidunt lacus at velit. Vivamus vel nulla eget eros elementum pellentesque.', '2022-07-13 07:17:47', 'Merilyn', '2022-12-20 00:19:29', 'Bertie');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (80, 'Suspendisse potenti. In eleifend quam a odio. In hac habitasse platea dictumst.', '2022-05-14 22:42:04', 'Hanson', '2022-10-19 19:06:53', 'Madella');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (46, 'Etiam vel augue. Vestibulum rutrum rutrum neque. Aenean auctor gravida sem.', '2022-01-21 01:05:51', 'Edwin', '2021-12-31 07:22:52', 'Luciano');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (47, 'Nulla ut erat id mauris vulputate elementum. Nullam varius. Nulla facilisi.', '2022-09-26 08:49:29', 'Stanton', '2022-08-20 23:13:06', 'Garfield');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (86, 'Proin interdum mauris non ligula pellentesque ultrices. Phasellus id sapien in sapien iaculis congue. Vivamus metus arcu, adipiscing molestie, hendrerit at, vulputate vitae, nisl.', '2022-08-07 02:17:31', 'Teodora', '2022-02-01 17:41:55', 'Kaycee');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (87, 'In sagittis dui vel nisl. Duis ac nibh. Fusce lacus purus, aliquet at, feugiat non, pretium quis, lectus.', '2022-02-12 06:56:31', 'Minna', '2022-02-01 01:53:02', 'Dominic');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (63, 'Maecenas tristique, est et tempus semper, est quam pharetra magna, ac consequat metus sapien ut nunc. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Mauris viverra diam vitae quam. Suspendisse potenti.', '2022-09-18 01:43:25', 'Lynde', '2022-04-30 13:10:40', 'Adelaida');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (53, 'Cras mi pede, malesuada in, imperdiet et, commodo vulputate, justo. In blandit ultrices enim. Lorem ipsum dolor sit amet, consectetuer adipiscing elit.', '2022-01-25 16:54:08', 'Bartolomeo', '2022-04-16 11:10:10', 'Casar');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (51, 'Duis aliquam convallis nunc. Proin at turpis a pede posuere nonummy. Integer non velit.', '2022-08-28 05:01:36', 'Alex', '2022-02-25 02:02:23', 'Ashlin');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (54, 'Maecenas tristique, est et tempus semper, est quam pharetra magna, ac consequat metus sapien ut nunc. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Mauris viverra diam vitae quam. Suspendisse potenti.', '2022-06-21 10:52:38', 'Dominik', '2022-03-14 13:28:01', 'Shandy');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (26, 'Vestibulum ac est lacinia nisi venenatis tristique. Fusce congue, diam id ornare imperdiet, sapien urna pretium nisl, ut volutpat sapien arcu sed augue. Aliquam erat volutpat.', '2022-03-15 18:33:55', 'Nomi', '2022-10-15 00:37:28', 'Culver');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (89, 'Praesent blandit. Nam nulla. Integer pede justo, lacinia eget, tincidunt eget, tempus vel, pede.', '2022-09-04 19:38:22', 'Kamilah', '2022-09-04 01:43:07', 'Kiele');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (23, 'Praesent blandit. Nam nulla. Integer pede justo, lacinia eget, tincidunt eget, tempus vel, pede.', '2022-07-13 12:09:31', 'Claretta', '2022-08-30 19:55:25', 'Bentley');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (92, 'In congue. Etiam justo. Etiam pretium iaculis justo.', '2022-08-13 04:40:53', 'Nata', '2022-04-24 09:56:54', 'Tadeo');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (46, 'Integer tincidunt ante vel ipsum. Praesent blandit lacinia erat. Vestibulum sed magna at nunc commodo placerat.', '2022-05-30 13:51:25', 'Erv', '2022-05-18 05:45:36', 'Sigfrid');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (44, 'Phasellus in felis. Donec semper sapien a libero. Nam dui.', '2022-08-09 05:27:07', 'Elvin', '2022-07-10 00:36:22', 'Jock');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (78, 'Sed sagittis. Nam congue, risus semper porta volutpat, quam pede lobortis ligula, sit amet eleifend pede libero quis orci. Nullam molestie nibh in lectus.', '2022-02-09 04:55:47', 'Sydney', '2022-01-11 13:39:12', 'Arliene');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (75, 'Cras mi pede, malesuada in, imperdiet et, commodo vulputate, justo. In blandit ultrices enim. Lorem ipsum dolor sit amet, consectetuer adipiscing elit.', '2022-08-25 02:14:40', 'Bertie', '2022-09-20 15:19:12', 'Cirilo');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (70, 'Phasellus in felis. Donec semper sapien a libero. Nam dui.', '2022-11-13 08:32:51', 'Cynthia', '2022-11-06 13:29:19', 'Drona');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (32, 'Curabitur at ipsum ac tellus semper interdum. Mauris ullamcorper purus sit amet nulla. Quisque arcu libero, rutrum ac, lobortis vel, dapibus at, diam.', '2022-10-05 17:02:52', 'Chas', '2022-08-02 19:02:07', 'Erasmus');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (88, 'In hac habitasse platea dictumst. Etiam faucibus cursus urna. Ut tellus.', '2022-03-06 17:13:12', 'Dino', '2022-01-07 22:56:41', 'Jacky');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (22, 'Etiam vel augue. Vestibulum rutrum rutrum neque. Aenean auctor gravida sem.', '2022-08-28 23:43:24', 'Ludwig', '2022-09-30 16:16:14', 'Marilin');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (93, 'Duis bibendum, felis sed interdum venenatis, turpis enim blandit mi, in porttitor pede justo eu massa. Donec dapibus. Duis at velit eu est congue elementum.', '2022-02-02 20:28:56', 'Nikolos', '2022-03-22 08:31:51', 'Darbie');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (68, 'Fusce consequat. Nulla nisl. Nunc nisl.', '2022-04-05 11:45:01', 'Bruce', '2022-03-04 22:11:41', 'Vite');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (63, 'In congue. Etiam justo. Etiam pretium iaculis justo.', '2022-12-14 22:29:58', 'Levey', '2022-11-13 01:04:41', 'Kessiah');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (59, 'Quisque id justo sit amet sapien dignissim vestibulum. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Nulla dapibus dolor vel est. Donec odio justo, sollicitudin ut, suscipit a, feugiat et, eros.', '2022-12-15 10:28:09', 'Darrelle', '2022-06-23 04:17:13', 'Tracie');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (67, 'In congue. Etiam justo. Etiam pretium iaculis justo.', '2022-04-14 12:27:27', 'Delmer', '2022-11-16 06:07:01', 'Candi');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (81, 'Duis aliquam convallis nunc. Proin at turpis a pede posuere nonummy. Integer non velit.', '2022-10-11 05:55:49', 'Billye', '2022-05-21 22:43:31', 'Carlie');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (42, 'Nullam porttitor lacus at turpis. Donec posuere metus vitae ipsum. Aliquam non mauris.', '2022-01-28 04:20:15', 'Pietrek', '2022-06-25 03:10:39', 'Kent');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (43, 'In sagittis dui vel nisl. Duis ac nibh. Fusce lacus purus, aliquet at, feugiat non, pretium quis, lectus.', '2022-10-24 09:18:49', 'Bobine', '2022-04-24 17:47:35', 'Dasya');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (52, 'Maecenas tristique, est et tempus semper, est quam pharetra magna, ac consequat metus sapien ut nunc. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Mauris viverra diam vitae quam. Suspendisse potenti.', '2022-04-17 10:06:33', 'Basilius', '2022-10-19 06:59:19', 'Nollie');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (74, 'Duis bibendum, felis sed interdum venenatis, turpis enim blandit mi, in porttitor pede justo eu massa. Donec dapibus. Duis at velit eu est congue elementum.', '2022-11-23 05:40:21', 'Fritz', '2022-02-11 05:45:22', 'Boy');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (76, 'Cras mi pede, malesuada in, imperdiet et, commodo vulputate, justo. In blandit ultrices enim. Lorem ipsum dolor sit amet, consectetuer adipiscing elit.', '2022-04-13 21:10:01', 'Rufe', '2022-02-08 17:53:50', 'Retha');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (70, 'Duis consequat dui nec nisi volutpat eleifend. Donec ut dolor. Morbi vel lectus in quam fringilla rhoncus.', '2022-04-21 04:30:37', 'Veronike', '2022-11-02 10:49:55', 'Gradeigh');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (100, 'Integer ac leo. Pellentesque ultrices mattis odio. Donec vitae nisi.', '2022-03-13 12:52:50', 'Wenonah', '2022-01-02 19:34:51', 'Wilhelmine');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (40, 'Aenean fermentum. Donec ut mauris eget massa tempor convallis. Nulla neque libero, convallis eget, eleifend luctus, ultricies eu, nibh.', '2022-04-02 22:58:41', 'Terrie', '2022-07-20 15:14:54', 'Luci');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (89, 'In sagittis dui vel nisl. Duis ac nibh. Fusce lacus purus, aliquet at, feugiat non, pretium quis, lectus.', '2022-05-19 13:51:17', 'Valerye', '2022-05-20 13:29:31', 'Norri');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (41, 'Proin interdum mauris non ligula pellentesque ultrices. Phasellus id sapien in sapien iaculis congue. Vivamus metus arcu, adipiscing molestie, hendrerit at, vulputate vitae, nisl.', '2022-10-22 10:39:37', 'Hyacinthia', '2022-04-06 18:24:56', 'Cesar');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (20, 'Fusce posuere felis sed lacus. Morbi sem mauris, laoreet ut, rhoncus aliquet, pulvinar sed, nisl. Nunc rhoncus dui vel sem.', '2022-08-30 04:28:27', 'Bella', '2022-11-18 20:10:23', 'Jimmy');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (17, 'Phasellus sit amet erat. Nulla tempus. Vivamus in felis eu sapien cursus vestibulum.', '2022-03-04 03:39:38', 'Ardelia', '2022-02-15 01:44:48', 'Tristan');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (60, 'Lorem ipsum dolor sit amet, consectetuer adipiscing elit. Proin risus. Praesent lectus.', '2022-02-26 23:12:56', 'Haslett', '2022-01-12 02:58:50', 'Nanette');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (80, 'In quis justo. Maecenas rhoncus aliquam lacus. Morbi quis tortor id nulla ultrices aliquet.', '2022-06-07 05:39:39', 'Richart', '2022-08-26 11:44:14', 'Fidel');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (13, 'In quis justo. Maecenas rhoncus aliquam lacus. Morbi quis tortor id nulla ultrices aliquet.', '2022-02-11 07:16:22', 'Thornton', '2022-04-15 04:22:54', 'Andee');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (52, 'Sed ante. Vivamus tortor. Duis mattis egestas metus.', '2022-11-14 23:52:07', 'Dexter', '2022-10-12 06:51:23', 'Valida');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (11, 'Suspendisse potenti. In eleifend quam a odio. In hac habitasse platea dictumst.', '2022-01-01 04:01:31', 'Bunnie', '2022-10-12 23:14:39', 'Caz');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (68, 'Aenean fermentum. Donec ut mauris eget massa tempor convallis. Nulla neque libero, convallis eget, eleifend luctus, ultricies eu, nibh.', '2022-02-08 20:56:21', 'Shayne', '2022-03-26 13:38:12', 'Myra');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (7, 'Integer ac leo. Pellentesque ultrices mattis odio. Donec vitae nisi.', '2022-08-21 12:54:31', 'Jasmina', '2021-12-28 11:39:40', 'Christy');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (15, 'Nullam sit amet turpis elementum ligula vehicula consequat. Morbi a ipsum. Integer a nibh.', '2022-11-24 10:32:45', 'Miranda', '2022-06-18 18:17:40', 'Goldia');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (63, 'Sed sagittis. Nam congue, risus semper porta volutpat, quam pede lobortis ligula, sit amet eleifend pede libero quis orci. Nullam molestie nibh in lectus.', '2022-11-19 13:56:17', 'Karissa', '2022-08-02 22:10:28', 'Susanne');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (9, 'Praesent blandit. Nam nulla. Integer pede justo, lacinia eget, tincidunt eget, tempus vel, pede.', '2022-12-16 03:07:27', 'Cate', '2022-05-08 17:16:33', 'Manda');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (54, 'Duis bibendum. Morbi non quam nec dui luctus rutrum. Nulla tellus.', '2022-05-03 10:14:34', 'Smith', '2022-02-04 03:25:24', 'Penni');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (61, 'Phasellus in felis. Donec semper sapien a libero. Nam dui.', '2022-05-24 07:40:21', 'Ozzy', '2022-05-01 08:24:09', 'Caroljean');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (4, 'Sed ante. Vivamus tortor. Duis mattis egestas metus.', '2022-03-11 05:29:19', 'Rowan', '2022-09-01 19:27:54', 'Halli');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (73, 'Morbi non lectus. Aliquam sit amet diam in magna bibendum imperdiet. Nullam orci pede, venenatis non, sodales sed, tincidunt eu, felis.', '2022-05-28 04:59:40', 'Dwayne', '2022-01-19 10:01:59', 'Kaia');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (51, 'Cras mi pede, malesuada in, imperdiet et, commodo vulputate, justo. In blandit ultrices enim. Lorem ipsum dolor sit amet, consectetuer adipiscing elit.', '2022-04-01 08:56:20', 'Elisabet', '2022-08-07 16:07:10', 'Melania');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (44, 'Duis aliquam convallis nunc. Proin at turpis a pede posuere nonummy. Integer non velit.', '2022-02-05 20:03:53', 'Morgan', '2022-01-24 16:14:21', 'Minna');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (62, 'Aliquam quis turpis eget elit sodales scelerisque. Mauris sit amet eros. Suspendisse accumsan tortor quis turpis.', '2022-08-09 22:56:05', 'Gill', '2022-05-04 07:29:58', 'Yanaton');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (47, 'Praesent blandit. Nam nulla. Integer pede justo, lacinia eget, tincidunt eget, tempus vel, pede.', '2022-04-03 23:08:11', 'Rance', '2022-11-22 02:09:30', 'Madelon');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (19, 'In quis justo. Maecenas rhoncus aliquam lacus. Morbi quis tortor id nulla ultrices aliquet.', '2022-05-26 19:18:36', 'Nikita', '2022-01-25 22:47:02', 'Alla');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (50, 'In congue. Etiam justo. Etiam pretium iaculis justo.', '2022-04-04 20:47:19', 'Natty', '2022-01-31 07:13:18', 'Garrik');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (41, 'Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus. Vivamus vestibulum sagittis sapien. Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus.', '2022-04-21 07:33:29', 'Winnah', '2021-12-27 10:36:41', 'Agneta');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (12, 'Curabitur at ipsum ac tellus semper interdum. Mauris ullamcorper purus sit amet nulla. Quisque arcu libero, rutrum ac, lobortis vel, dapibus at, diam.', '2022-02-25 01:25:36', 'Malinda', '2022-03-01 18:27:15', 'Josie');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (74, 'Curabitur in libero ut massa volutpat convallis. Morbi odio odio, elementum eu, interdum eu, tincidunt in, leo. Maecenas pulvinar lobortis est.', '2022-10-09 00:35:37', 'Lemuel', '2022-05-13 07:08:40', 'Meghan');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (93, 'Duis bibendum, felis sed interdum venenatis, turpis enim blandit mi, in porttitor pede justo eu massa. Donec dapibus. Duis at velit eu est congue elementum.', '2022-10-30 18:00:58', 'Merwin', '2022-10-03 18:42:35', 'Somerset');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (53, 'Aenean lectus. Pellentesque eget nunc. Donec quis orci eget orci vehicula condimentum.', '2022-05-27 00:20:24', 'Earle', '2022-09-27 08:55:21', 'Ingar');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (19, 'Nullam sit amet turpis elementum ligula vehicula consequat. Morbi a ipsum. Integer a nibh.', '2022-05-17 23:21:38', 'Daren', '2022-03-26 14:15:16', 'Archy');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (57, 'In hac habitasse platea dictumst. Etiam faucibus cursus urna. Ut tellus.', '2022-11-22 09:47:42', 'Otha', '2022-11-10 07:58:54', 'Kev');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (82, 'Cras non velit nec nisi vulputate nonummy. Maecenas tincidunt lacus at velit. Vivamus vel nulla eget eros elementum pellentesque.', '2022-11-11 22:09:59', 'Jen', '2022-10-07 05:08:14', 'Raul');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (80, 'Morbi porttitor lorem id ligula. Suspendisse ornare consequat lectus. In est risus, auctor sed, tristique in, tempus sit amet, sem.', '2022-11-20 10:36:00', 'Lamar', '2022-01-11 10:30:15', 'Laure');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (68, 'Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus. Vivamus vestibulum sagittis sapien. Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus.', '2022-10-06 00:04:39', 'Ardelia', '2022-11-02 05:58:07', 'Vin');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (73, 'Morbi non lectus. Aliquam sit amet diam in magna bibendum imperdiet. Nullam orci pede, venenatis non, sodales sed, tincidunt eu, felis.', '2022-04-18 04:25:54', 'Bili', '2022-08-02 20:37:14', 'Beaufort');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (99, 'Integer tincidunt ante vel ipsum. Praesent blandit lacinia erat. Vestibulum sed magna at nunc commodo placerat.', '2022-05-03 17:13:22', 'Heywood', '2022-10-20 23:28:45', 'Noemi');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (50, 'Vestibulum ac est lacinia nisi venenatis tristique. Fusce congue, diam id ornare imperdiet, sapien urna pretium nisl, ut volutpat sapien arcu sed augue. Aliquam erat volutpat.', '2022-07-16 23:09:26', 'Annnora', '2022-08-20 14:01:45', 'Aubrey');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (91, 'Maecenas tristique, est et tempus semper, est quam pharetra magna, ac consequat metus sapien ut nunc. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Mauris viverra diam vitae quam. Suspendisse potenti.', '2022-02-04 11:36:28', 'Kandy', '2022-08-20 08:26:21', 'Ernie');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (77, 'Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus. Vivamus vestibulum sagittis sapien. Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus.', '2022-08-14 13:50:50', 'Dionne', '2022-10-13 11:18:01', 'Ellen');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (79, 'Aliquam quis turpis eget elit sodales scelerisque. Mauris sit amet eros. Suspendisse accumsan tortor quis turpis.', '2022-01-25 13:17:13', 'Carolan', '2022-12-17 14:56:23', 'Fran');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (88, 'Cras non velit nec nisi vulputate nonummy. Maecenas tincidunt lacus at velit. Vivamus vel nulla eget eros elementum pellentesque.', '2022-04-12 04:34:42', 'Almira', '2022-06-02 10:26:15', 'Johan');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (43, 'In sagittis dui vel nisl. Duis ac nibh. Fusce lacus purus, aliquet at, feugiat non, pretium quis, lectus.', '2022-02-20 10:42:55', 'Budd', '2022-05-04 18:56:53', 'Adora');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (58, 'Cras mi pede, malesuada in, imperdiet et, commodo vulputate, justo. In blandit ultrices enim. Lorem ipsum dolor sit amet, consectetuer adipiscing elit.', '2021-12-27 04:57:47', 'Kaja', '2022-02-18 10:50:52', 'Clair');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (93, 'Maecenas ut massa quis augue luctus tincidunt. Nulla mollis molestie lorem. Quisque ut erat.', '2022-04-23 00:54:27', 'Michaella', '2022-09-01 03:24:08', 'Katharina');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (45, 'Nullam sit amet turpis elementum ligula vehicula consequat. Morbi a ipsum. Integer a nibh.', '2022-10-19 20:18:42', 'Adelaide', '2022-07-03 17:11:13', 'Salvador');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (87, 'Fusce consequat. Nulla nisl. Nunc nisl.', '2022-08-30 05:40:15', 'Christal', '2021-12-29 13:21:47', 'Josiah');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (39, 'Quisque porta volutpat erat. Quisque erat eros, viverra eget, congue eget, semper rutrum, nulla. Nunc purus.', '2022-09-09 20:48:14', 'Bartholomeo', '2022-01-31 04:37:24', 'Phineas');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (47, 'Proin interdum mauris non ligula pellentesque ultrices. Phasellus id sapien in sapien iaculis congue. Vivamus metus arcu, adipiscing molestie, hendrerit at, vulputate vitae, nisl.', '2022-08-28 16:36:19', 'Trip', '2022-06-18 01:56:03', 'Valida');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (22, 'Duis aliquam convallis nunc. Proin at turpis a pede posuere nonummy. Integer non velit.', '2022-01-02 07:24:44', 'Gussi', '2022-01-01 07:20:58', 'Christy');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (72, 'Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus. Vivamus vestibulum sagittis sapien. Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus.', '2022-11-21 13:44:26', 'Hedvig', '2022-08-07 03:30:54', 'Dominic');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (18, 'Suspendisse potenti. In eleifend quam a odio. In hac habitasse platea dictumst.', '2022-05-10 07:47:04', 'Wyndham', '2022-09-18 14:15:05', 'Sean');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (66, 'Nullam porttitor lacus at turpis. Donec posuere metus vitae ipsum. Aliquam non mauris.', '2022-01-08 22:59:22', 'Odella', '2022-06-19 08:37:08', 'Fin');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (25, 'Nullam sit amet turpis elementum ligula vehicula consequat. Morbi a ipsum. Integer a nibh.', '2022-03-15 08:18:08', 'Salome', '2022-09-10 02:22:06', 'Brig');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (50, 'Nullam sit amet turpis elementum ligula vehicula consequat. Morbi a ipsum. Integer a nibh.', '2022-07-05 17:00:42', 'Chelsy', '2022-08-13 10:20:56', 'Siouxie');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (16, 'Duis bibendum. Morbi non quam nec dui luctus rutrum. Nulla tellus.', '2022-06-20 14:27:26', 'Chiquia', '2022-02-05 16:22:03', 'Vito');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (4, 'In quis justo. Maecenas rhoncus aliquam lacus. Morbi quis tortor id nulla ultrices aliquet.', '2022-08-04 11:09:40', 'Charmine', '2022-01-19 05:01:04', 'Elbert');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (84, 'Aliquam quis turpis eget elit sodales scelerisque. Mauris sit amet eros. Suspendisse accumsan tortor quis turpis.', '2022-10-29 16:45:07', 'Del', '2022-03-16 22:36:18', 'Randie');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (100, 'Nam ultrices, libero non mattis pulvinar, nulla pede ullamcorper augue, a suscipit nulla elit ac nulla. Sed vel enim sit amet nunc viverra dapibus. Nulla suscipit ligula in lacus.', '2022-02-16 07:39:32', 'Reinwald', '2022-10-08 04:34:58', 'Britta');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (27, 'Nullam sit amet turpis elementum ligula vehicula consequat. Morbi a ipsum. Integer a nibh.', '2022-10-05 11:41:19', 'Paige', '2022-12-02 06:28:21', 'Kali');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (57, 'Mauris enim leo, rhoncus sed, vestibulum sit amet, cursus id, turpis. Integer aliquet, massa id lobortis convallis, tortor risus dapibus augue, vel accumsan tellus nisi eu orci. Mauris lacinia sapien quis libero.', '2022-02-20 17:47:51', 'Jackson', '2022-07-07 01:55:42', 'Martino');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (10, 'In hac habitasse platea dictumst. Morbi vestibulum, velit id pretium iaculis, diam erat fermentum justo, nec condimentum neque sapien placerat ante. Nulla justo.', '2022-01-27 22:55:31', 'Alyse', '2022-06-16 20:33:02', 'Marti');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (78, 'Vestibulum ac est lacinia nisi venenatis tristique. Fusce congue, diam id ornare imperdiet, sapien urna pretium nisl, ut volutpat sapien arcu sed augue. Aliquam erat volutpat.', '2022-10-14 22:57:34', 'Mickie', '2022-03-18 16:41:46', 'Olenolin');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (96, 'Duis bibendum. Morbi non quam nec dui luctus rutrum. Nulla tellus.', '2022-04-05 20:33:28', 'Natasha', '2022-07-07 17:06:50', 'Duff');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (38, 'Suspendisse potenti. In eleifend quam a odio. In hac habitasse platea dictumst.', '2022-05-15 08:02:34', 'Nanine', '2022-08-30 06:40:44', 'Oliviero');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (32, 'Aliquam quis turpis eget elit sodales scelerisque. Mauris sit amet eros. Suspendisse accumsan tortor quis turpis.', '2022-02-07 14:40:22', 'Hashim', '2022-12-18 08:09:54', 'Chloris');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (71, 'Praesent blandit. Nam nulla. Integer pede justo, lacinia eget, tincidunt eget, tempus vel, pede.', '2022-12-04 22:13:57', 'Valeda', '2021-12-31 14:45:32', 'Lida');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (80, 'Duis consequat dui nec nisi volutpat eleifend. Donec ut dolor. Morbi vel lectus in quam fringilla rhoncus.', '2022-04-22 03:35:38', 'Kennith', '2022-02-25 09:22:01', 'Nanci');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (44, 'Nam ultrices, libero non mattis pulvinar, nulla pede ullamcorper augue, a suscipit nulla elit ac nulla. Sed vel enim sit amet nunc viverra dapibus. Nulla suscipit ligula in lacus.', '2022-09-13 16:08:41', 'Kippar', '2022-02-04 03:45:09', 'Donnell');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (10, 'Vestibulum ac est lacinia nisi venenatis tristique. Fusce congue, diam id ornare imperdiet, sapien urna pretium nisl, ut volutpat sapien arcu sed augue. Aliquam erat volutpat.', '2022-11-29 23:22:18', 'Dorrie', '2022-02-05 18:18:01', 'Raddy');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (96, 'Morbi non lectus. Aliquam sit amet diam in magna bibendum imperdiet. Nullam orci pede, venenatis non, sodales sed, tincidunt eu, felis.', '2022-10-20 19:07:39', 'Costanza', '2022-02-12 01:03:46', 'Ernestus');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (89, 'Fusce consequat. Nulla nisl. Nunc nisl.', '2022-09-02 23:43:04', 'Linell', '2022-10-20 16:24:48', 'Milty');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (98, 'Duis consequat dui nec nisi volutpat eleifend. Donec ut dolor. Morbi vel lectus in quam fringilla rhoncus.', '2022-03-15 17:32:42', 'Bobbie', '2022-03-23 09:38:49', 'Robbin');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (62, 'Fusce consequat. Nulla nisl. Nunc nisl.', '2022-04-08 20:36:10', 'Benton', '2022-09-18 15:26:08', 'Ania');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (29, 'Aenean fermentum. Donec ut mauris eget massa tempor convallis. Nulla neque libero, convallis eget, eleifend luctus, ultricies eu, nibh.', '2022-12-01 05:30:49', 'Kaylil', '2022-02-16 08:56:44', 'Salvador');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (85, 'In quis justo. Maecenas rhoncus aliquam lacus. Morbi quis tortor id nulla ultrices aliquet.', '2022-10-10 10:10:20', 'Georges', '2022-11-04 00:15:15', 'Noll');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (76, 'Proin interdum mauris non ligula pellentesque ultrices. Phasellus id sapien in sapien iaculis congue. Vivamus metus arcu, adipiscing molestie, hendrerit at, vulputate vitae, nisl.', '2022-09-12 11:31:59', 'Pearla', '2022-05-06 17:13:38', 'Quinn');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (97, 'Curabitur in libero ut massa volutpat convallis. Morbi odio odio, elementum eu, interdum eu, tincidunt in, leo. Maecenas pulvinar lobortis est.', '2022-01-05 18:09:02', 'Alix', '2022-04-19 22:35:28', 'Halsy');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (6, 'Maecenas tristique, est et tempus semper, est quam pharetra magna, ac consequat metus sapien ut nunc. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Mauris viverra diam vitae quam. Suspendisse potenti.', '2022-01-15 01:38:44', 'Gerta', '2022-02-27 21:00:25', 'Becky');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (49, 'Duis bibendum. Morbi non quam nec dui luctus rutrum. Nulla tellus.', '2022-04-27 03:23:18', 'Debbie', '2022-11-23 22:03:36', 'Gaye');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (38, 'Fusce consequat. Nulla nisl. Nunc nisl.', '2022-01-14 00:08:09', 'Bernarr', '2022-11-13 21:02:46', 'Salomone');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (95, 'In quis justo. Maecenas rhoncus aliquam lacus. Morbi quis tortor id nulla ultrices aliquet.', '2022-11-03 21:56:09', 'Deny', '2022-06-06 15:19:19', 'Tate');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (39, 'Curabitur in libero ut massa volutpat convallis. Morbi odio odio, elementum eu, interdum eu, tincidunt in, leo. Maecenas pulvinar lobortis est.', '2022-01-06 20:13:03', 'Roxanna', '2021-12-22 19:36:47', 'Lucille');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (84, 'Curabitur gravida nisi at nibh. In hac habitasse platea dictumst. Aliquam augue quam, sollicitudin vitae, consectetuer eget, rutrum at, lorem.', '2022-10-06 07:05:58', 'Martyn', '2022-08-12 02:59:54', 'Araldo');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (49, 'Duis aliquam convallis nunc. Proin at turpis a pede posuere nonummy. Integer non velit.', '2022-02-22 09:15:03', 'Elisha', '2022-11-27 00:22:29', 'Elisabetta');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (81, 'Cras mi pede, malesuada in, imperdiet et, commodo vulputate, justo. In blandit ultrices enim. Lorem ipsum dolor sit amet, consectetuer adipiscing elit.', '2022-10-20 19:11:54', 'Marylin', '2022-10-30 21:50:59', 'Lorrin');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (30, 'Curabitur gravida nisi at nibh. In hac habitasse platea dictumst. Aliquam augue quam, sollicitudin vitae, consectetuer eget, rutrum at, lorem.', '2022-08-20 07:48:02', 'Ronnica', '2022-12-15 22:20:53', 'Rollo');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (99, 'Curabitur gravida nisi at nibh. In hac habitasse platea dictumst. Aliquam augue quam, sollicitudin vitae, consectetuer eget, rutrum at, lorem.', '2022-08-06 20:12:07', 'Aube', '2022-02-09 17:22:48', 'Lolly');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (57, 'Nam ultrices, libero non mattis pulvinar, nulla pede ullamcorper augue, a suscipit nulla elit ac nulla. Sed vel enim sit amet nunc viverra dapibus. Nulla suscipit ligula in lacus.', '2022-08-11 23:12:40', 'Sara', '2022-08-22 08:22:23', 'Symon');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (92, 'Cras non velit nec nisi vulputate nonummy. Maecenas tincidunt lacus at velit. Vivamus vel nulla eget eros elementum pellentesque.', '2022-05-21 19:55:27', 'Dietrich', '2022-05-22 03:45:38', 'Eleanor');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (1, 'In congue. Etiam justo. Etiam pretium iaculis justo.', '2022-11-13 16:26:47', 'Michaella', '2022-09-02 02:24:42', 'Lewie');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (22, 'Quisque id justo sit amet sapien dignissim vestibulum. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Nulla dapibus dolor vel est. Donec odio justo, sollicitudin ut, suscipit a, feugiat et, eros.', '2022-10-26 06:50:59', 'Pryce', '2022-12-19 06:04:55', 'Becka');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (78, 'Duis consequat dui nec nisi volutpat eleifend. Donec ut dolor. Morbi vel lectus in quam fringilla rhoncus.', '2022-03-08 07:45:58', 'Daloris', '2022-06-11 13:29:29', 'Jackie');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (26, 'Nullam porttitor lacus at turpis. Donec posuere metus vitae ipsum. Aliquam non mauris.', '2022-07-27 19:40:00', 'Sandye', '2022-11-04 02:38:42', 'Duane');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (40, 'Phasellus sit amet erat. Nulla tempus. Vivamus in felis eu sapien cursus vestibulum.', '2022-12-17 13:18:06', 'Marshall', '2022-07-26 08:18:13', 'Jeremy');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (84, 'In hac habitasse platea dictumst. Etiam faucibus cursus urna. Ut tellus.', '2022-07-12 09:13:37', 'Kaleb', '2022-03-22 15:23:35', 'Aubert');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (47, 'Morbi porttitor lorem id ligula. Suspendisse ornare consequat lectus. In est risus, auctor sed, tristique in, tempus sit amet, sem.', '2022-04-17 16:50:02', 'Brandy', '2022-05-09 09:49:53', 'Corenda');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (25, 'Curabitur in libero ut massa volutpat convallis. Morbi odio odio, elementum eu, interdum eu, tincidunt in, leo. Maecenas pulvinar lobortis est.', '2022-06-08 03:33:44', 'Malynda', '2022-02-19 19:02:27', 'Christin');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (97, 'Morbi porttitor lorem id ligula. Suspendisse ornare consequat lectus. In est risus, auctor sed, tristique in, tempus sit amet, sem.', '2022-12-11 01:52:49', 'Cleavland', '2022-08-08 08:31:32', 'Felicle');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (13, 'Maecenas leo odio, condimentum id, luctus nec, molestie sed, justo. Pellentesque viverra pede ac diam. Cras pellentesque volutpat dui.', '2022-12-02 17:07:58', 'Marybeth', '2022-01-26 07:38:34', 'Kelvin');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (97, 'Curabitur gravida nisi at nibh. In hac habitasse platea dictumst. Aliquam augue quam, sollicitudin vitae, consectetuer eget, rutrum at, lorem.', '2022-12-06 22:20:45', 'Maddalena', '2022-11-12 18:17:01', 'Denys');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (99, 'In congue. Etiam justo. Etiam pretium iaculis justo.', '2022-03-07 02:27:27', 'Frankie', '2022-11-15 16:46:26', 'Henrieta');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (15, 'Phasellus sit amet erat. Nulla tempus. Vivamus in felis eu sapien cursus vestibulum.', '2022-12-18 02:43:16', 'Anastassia', '2022-02-14 04:12:56', 'Aloise');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (94, 'Pellentesque at nulla. Suspendisse potenti. Cras in purus eu magna vulputate luctus.', '2022-02-24 00:04:00', 'Mikey', '2022-10-24 20:45:08', 'Margeaux');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (37, 'Proin interdum mauris non ligula pellentesque ultrices. Phasellus id sapien in sapien iaculis congue. Vivamus metus arcu, adipiscing molestie, hendrerit at, vulputate vitae, nisl.', '2022-02-05 09:00:29', 'Heloise', '2022-04-18 00:39:31', 'Kylila');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (20, 'Aenean fermentum. Donec ut mauris eget massa tempor convallis. Nulla neque libero, convallis eget, eleifend luctus, ultricies eu, nibh.', '2022-07-09 09:51:12', 'Hinze', '2022-10-17 00:52:20', 'Nadya');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (13, 'Duis consequat dui nec nisi volutpat eleifend. Donec ut dolor. Morbi vel lectus in quam fringilla rhoncus.', '2022-05-10 13:48:18', 'Carmelita', '2022-07-10 22:55:29', 'Boycey');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (27, 'Curabitur gravida nisi at nibh. In hac habitasse platea dictumst. Aliquam augue quam, sollicitudin vitae, consectetuer eget, rutrum at, lorem.', '2022-11-12 13:43:43', 'Jerri', '2022-07-06 21:08:18', 'Townsend');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (12, 'Cras non velit nec nisi vulputate nonummy. Maecenas tincidunt lacus at velit. Vivamus vel nulla eget eros elementum pellentesque.', '2022-12-03 20:24:42', 'Ham', '2022-08-31 16:53:45', 'Kial');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (40, 'Mauris enim leo, rhoncus sed, vestibulum sit amet, cursus id, turpis. Integer aliquet, massa id lobortis convallis, tortor risus dapibus augue, vel accumsan tellus nisi eu orci. Mauris lacinia sapien quis libero.', '2022-10-15 12:04:01', 'Even', '2022-04-14 15:07:15', 'Costa');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (67, 'Vestibulum quam sapien, varius ut, blandit non, interdum in, ante. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Duis faucibus accumsan odio. Curabitur convallis.', '2022-01-13 04:01:39', 'Lothaire', '2022-06-30 05:27:03', 'Gavra');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (31, 'Quisque id justo sit amet sapien dignissim vestibulum. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Nulla dapibus dolor vel est. Donec odio justo, sollicitudin ut, suscipit a, feugiat et, eros.', '2022-02-02 11:27:44', 'Yancy', '2021-12-28 23:08:59', 'Wren');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (32, 'Quisque id justo sit amet sapien dignissim vestibulum. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Nulla dapibus dolor vel est. Donec odio justo, sollicitudin ut, suscipit a, feugiat et, eros.', '2022-12-06 19:43:29', 'Ernie', '2022-06-15 07:44:06', 'Paten');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (91, 'Mauris enim leo, rhoncus sed, vestibulum sit amet, cursus id, turpis. Integer aliquet, massa id lobortis convallis, tortor risus dapibus augue, vel accumsan tellus nisi eu orci. Mauris lacinia sapien quis libero.', '2022-12-10 22:49:39', 'Ddene', '2022-04-17 03:55:34', 'Orelee');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (63, 'Vestibulum ac est lacinia nisi venenatis tristique. Fusce congue, diam id ornare imperdiet, sapien urna pretium nisl, ut volutpat sapien arcu sed augue. Aliquam erat volutpat.', '2022-12-17 05:01:08', 'Marga', '2022-03-11 00:28:43', 'Orelee');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (34, 'Suspendisse potenti. In eleifend quam a odio. In hac habitasse platea dictumst.', '2022-07-27 08:47:12', 'Deedee', '2022-06-26 10:23:42', 'Anabal');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (57, 'Proin interdum mauris non ligula pellentesque ultrices. Phasellus id sapien in sapien iaculis congue. Vivamus metus arcu, adipiscing molestie, hendrerit at, vulputate vitae, nisl.', '2022-04-22 01:49:02', 'Ruby', '2022-10-06 02:51:23', 'Ortensia');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (46, 'Quisque id justo sit amet sapien dignissim vestibulum. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Nulla dapibus dolor vel est. Donec odio justo, sollicitudin ut, suscipit a, feugiat et, eros.', '2021-12-25 10:12:44', 'Izaak', '2022-06-12 03:27:46', 'Wit');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (26, 'Maecenas tristique, est et tempus semper, est quam pharetra magna, ac consequat metus sapien ut nunc. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Mauris viverra diam vitae quam. Suspendisse potenti.', '2022-11-16 03:03:00', 'Appolonia', '2022-07-20 15:12:42', 'Debor');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (58, 'Nam ultrices, libero non mattis pulvinar, nulla pede ullamcorper augue, a suscipit nulla elit ac nulla. Sed vel enim sit amet nunc viverra dapibus. Nulla suscipit ligula in lacus.', '2021-12-30 18:01:56', 'Bertina', '2022-05-04 00:27:17', 'Dallis');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (83, 'Praesent id massa id nisl venenatis lacinia. Aenean sit amet justo. Morbi ut odio.', '2022-02-08 12:21:08', 'Addia', '2022-04-22 09:21:46', 'Kristan');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (86, 'Quisque porta volutpat erat. Quisque erat eros, viverra eget, congue eget, semper rutrum, nulla. Nunc purus.', '2022-09-03 17:02:50', 'Mala', '2022-11-18 06:15:58', 'Nolana');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (54, 'Aenean lectus. Pellentesque eget nunc. Donec quis orci eget orci vehicula condimentum.', '2022-10-20 18:31:50', 'Debbie', '2022-05-29 12:07:17', 'Patric');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (58, 'Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus. Vivamus vestibulum sagittis sapien. Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus.', '2022-10-09 19:19:45', 'Dollie', '2022-08-15 16:41:32', 'Halsy');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (52, 'Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus. Vivamus vestibulum sagittis sapien. Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus.', '2022-11-29 12:40:01', 'Waring', '2022-12-02 22:36:40', 'Winne');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (64, 'Curabitur in libero ut massa volutpat convallis. Morbi odio odio, elementum eu, interdum eu, tincidunt in, leo. Maecenas pulvinar lobortis est.', '2021-12-31 16:38:46', 'Laurent', '2021-12-25 22:14:06', 'Jilly');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (17, 'Curabitur in libero ut massa volutpat convallis. Morbi odio odio, elementum eu, interdum eu, tincidunt in, leo. Maecenas pulvinar lobortis est.', '2022-03-28 21:09:14', 'Nichole', '2022-12-06 22:33:01', 'Welch');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (79, 'Vestibulum ac est lacinia nisi venenatis tristique. Fusce congue, diam id ornare imperdiet, sapien urna pretium nisl, ut volutpat sapien arcu sed augue. Aliquam erat volutpat.', '2022-10-29 04:04:21', 'Ozzie', '2022-03-01 11:03:08', 'Brigida');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (60, 'Morbi non lectus. Aliquam sit amet diam in magna bibendum imperdiet. Nullam orci pede, venenatis non, sodales sed, tincidunt eu, felis.', '2022-07-01 20:56:08', 'Timmi', '2022-08-08 17:17:27', 'Martie');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (50, 'Nulla ut erat id mauris vulputate elementum. Nullam varius. Nulla facilisi.', '2022-04-20 02:30:49', 'Morgun', '2022-09-11 22:50:48', 'Peirce');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (32, 'Sed sagittis. Nam congue, risus semper porta volutpat, quam pede lobortis ligula, sit amet eleifend pede libero quis orci. Nullam molestie nibh in lectus.', '2022-04-01 11:35:03', 'Hayes', '2022-06-26 02:02:05', 'Fairlie');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (31, 'Cras non velit nec nisi vulputate nonummy. Maecenas tincidunt lacus at velit. Vivamus vel nulla eget eros elementum pellentesque.', '2022-07-15 06:20:09', 'Beverlee', '2022-08-14 21:38:38', 'Dari');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (97, 'Curabitur at ipsum ac tellus semper interdum. Mauris ullamcorper purus sit amet nulla. Quisque arcu libero, rutrum ac, lobortis vel, dapibus at, diam.', '2022-01-22 13:32:37', 'Vittorio', '2022-01-12 16:52:28', 'Chariot');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (96, 'In sagittis dui vel nisl. Duis ac nibh. Fusce lacus purus, aliquet at, feugiat non, pretium quis, lectus.', '2022-07-05 09:53:33', 'Emiline', '2022-10-18 10:56:47', 'Maribeth');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (8, 'Proin interdum mauris non ligula pellentesque ultrices. Phasellus id sapien in sapien iaculis congue. Vivamus metus arcu, adipiscing molestie, hendrerit at, vulputate vitae, nisl.', '2021-12-29 01:52:30', 'Shaylyn', '2022-06-15 00:06:45', 'Coraline');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (25, 'In quis justo. Maecenas rhoncus aliquam lacus. Morbi quis tortor id nulla ultrices aliquet.', '2022-08-30 12:03:24', 'Cash', '2022-02-17 14:34:44', 'Caspar');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (94, 'Proin leo odio, porttitor id, consequat in, consequat ut, nulla. Sed accumsan felis. Ut at dolor quis odio consequat varius.', '2022-04-05 01:27:23', 'Celeste', '2022-03-24 10:51:42', 'Kali');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (65, 'In hac habitasse platea dictumst. Etiam faucibus cursus urna. Ut tellus.', '2022-04-16 23:24:47', 'Erhart', '2022-09-27 02:14:07', 'Blinny');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (72, 'Morbi non lectus. Aliquam sit amet diam in magna bibendum imperdiet. Nullam orci pede, venenatis non, sodales sed, tincidunt eu, felis.', '2022-08-24 19:42:49', 'Giorgio', '2022-11-07 04:36:52', 'Brietta');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (18, 'Aliquam quis turpis eget elit sodales scelerisque. Mauris sit amet eros. Suspendisse accumsan tortor quis turpis.', '2021-12-30 10:24:46', 'Kienan', '2022-03-21 22:04:42', 'Roger');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (29, 'Phasellus sit amet erat. Nulla tempus. Vivamus in felis eu sapien cursus vestibulum.', '2022-04-08 08:21:57', 'Murial', '2022-09-07 13:56:31', 'Cloris');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (34, 'Maecenas tristique, est et tempus semper, est quam pharetra magna, ac consequat metus sapien ut nunc. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Mauris viverra diam vitae quam. Suspendisse potenti.', '2022-02-20 13:02:34', 'Aguste', '2022-09-23 18:58:55', 'Tiebold');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (74, 'Morbi non lectus. Aliquam sit amet diam in magna bibendum imperdiet. Nullam orci pede, venenatis non, sodales sed, tincidunt eu, felis.', '2022-10-02 12:34:58', 'Gui', '2022-10-28 04:37:58', 'Henriette');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (81, 'Morbi non lectus. Aliquam sit amet diam in magna bibendum imperdiet. Nullam orci pede, venenatis non, sodales sed, tincidunt eu, felis.', '2022-11-03 10:38:01', 'Daune', '2022-08-24 21:53:12', 'Dylan');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (99, 'Sed sagittis. Nam congue, risus semper porta volutpat, quam pede lobortis ligula, sit amet eleifend pede libero quis orci. Nullam molestie nibh in lectus.', '2022-02-20 19:02:24', 'Artemas', '2022-05-27 14:47:43', 'Gray');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (36, 'Duis aliquam convallis nunc. Proin at turpis a pede posuere nonummy. Integer non velit.', '2022-09-10 04:06:13', 'Haroun', '2022-12-10 14:07:42', 'Nicki');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (96, 'Curabitur in libero ut massa volutpat convallis. Morbi odio odio, elementum eu, interdum eu, tincidunt in, leo. Maecenas pulvinar lobortis est.', '2022-10-25 04:53:33', 'Brandyn', '2022-08-17 16:02:35', 'Brittney');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (95, 'In congue. Etiam justo. Etiam pretium iaculis justo.', '2022-07-19 16:48:38', 'Keir', '2022-04-04 11:01:41', 'Iseabal');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (14, 'Praesent blandit. Nam nulla. Integer pede justo, lacinia eget, tincidunt eget, tempus vel, pede.', '2022-09-19 15:18:39', 'Russ', '2022-10-06 01:41:51', 'Beauregard');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (75, 'Donec diam neque, vestibulum eget, vulputate ut, ultrices vel, augue. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Donec pharetra, magna vestibulum aliquet ultrices, erat tortor sollicitudin mi, sit amet lobortis sapien sapien non mi. Integer ac neque.', '2022-08-29 09:18:13', 'Astra', '2022-10-18 19:13:51', 'Ardisj');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (16, 'Maecenas leo odio, condimentum id, luctus nec, molestie sed, justo. Pellentesque viverra pede ac diam. Cras pellentesque volutpat dui.', '2022-10-31 03:19:52', 'Eustacia', '2021-12-23 23:25:29', 'Abelard');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (98, 'Fusce posuere felis sed lacus. Morbi sem mauris, laoreet ut, rhoncus aliquet, pulvinar sed, nisl. Nunc rhoncus dui vel sem.', '2022-10-31 07:56:38', 'Derron', '2022-01-23 03:07:55', 'Bethena');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (5, 'Praesent id massa id nisl venenatis lacinia. Aenean sit amet justo. Morbi ut odio.', '2022-03-15 21:03:14', 'Jacqui', '2022-06-18 00:08:59', 'Moina');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (30, 'In hac habitasse platea dictumst. Etiam faucibus cursus urna. Ut tellus.', '2022-05-13 03:36:21', 'Melva', '2022-02-15 05:34:50', 'Geoffrey');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (37, 'Duis aliquam convallis nunc. Proin at turpis a pede posuere nonummy. Integer non velit.', '2022-07-15 16:00:17', 'Alexi', '2022-07-27 03:03:35', 'Conchita');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (49, 'In sagittis dui vel nisl. Duis ac nibh. Fusce lacus purus, aliquet at, feugiat non, pretium quis, lectus.', '2022-09-27 00:22:42', 'Flin', '2022-02-03 14:24:35', 'Bron');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (44, 'Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus. Vivamus vestibulum sagittis sapien. Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus.', '2022-04-15 10:46:58', 'Tobey', '2022-08-04 13:05:32', 'Saundra');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (57, 'Duis bibendum. Morbi non quam nec dui luctus rutrum. Nulla tellus.', '2022-06-16 15:40:18', 'Emmet', '2022-01-23 16:15:29', 'Gallagher');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (76, 'Phasellus sit amet erat. Nulla tempus. Vivamus in felis eu sapien cursus vestibulum.', '2022-09-14 06:24:03', 'Peterus', '2021-12-29 11:27:54', 'Lyn');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (17, 'Phasellus in felis. Donec semper sapien a libero. Nam dui.', '2022-10-04 13:44:43', 'Camila', '2022-07-08 07:51:05', 'Cynthia');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (89, 'Cras mi pede, malesuada in, imperdiet et, commodo vulputate, justo. In blandit ultrices enim. Lorem ipsum dolor sit amet, consectetuer adipiscing elit.', '2022-02-21 00:47:38', 'Augustus', '2022-02-13 19:38:15', 'Halsy');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (27, 'Praesent blandit. Nam nulla. Integer pede justo, lacinia eget, tincidunt eget, tempus vel, pede.', '2022-04-19 13:50:05', 'Francisco', '2022-05-18 00:04:20', 'Katheryn');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (96, 'Proin leo odio, porttitor id, consequat in, consequat ut, nulla. Sed accumsan felis. Ut at dolor quis odio consequat varius.', '2022-12-10 16:28:04', 'Xena', '2022-11-09 09:15:43', 'Ricard');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (10, 'Cras non velit nec nisi vulputate nonummy. Maecenas tincidunt lacus at velit. Vivamus vel nulla eget eros elementum pellentesque.', '2022-11-09 13:04:28', 'Melly', '2022-06-06 04:59:39', 'Samson');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (20, 'In hac habitasse platea dictumst. Morbi vestibulum, velit id pretium iaculis, diam erat fermentum justo, nec condimentum neque sapien placerat ante. Nulla justo.', '2022-12-07 06:44:34', 'Kienan', '2022-09-19 19:45:52', 'Darcie');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (42, 'Cras non velit nec nisi vulputate nonummy. Maecenas tincidunt lacus at velit. Vivamus vel nulla eget eros elementum pellentesque.', '2022-06-02 13:10:58', 'Warde', '2022-11-16 22:09:40', 'Nicolina');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (54, 'Quisque id justo sit amet sapien dignissim vestibulum. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Nulla dapibus dolor vel est. Donec odio justo, sollicitudin ut, suscipit a, feugiat et, eros.', '2022-04-18 18:12:25', 'Kandace', '2022-07-22 11:44:36', 'Gabi');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (32, 'Duis aliquam convallis nunc. Proin at turpis a pede posuere nonummy. Integer non velit.', '2022-01-15 11:11:38', 'Andromache', '2022-10-29 23:15:08', 'Dido');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (16, 'Quisque id justo sit amet sapien dignissim vestibulum. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Nulla dapibus dolor vel est. Donec odio justo, sollicitudin ut, suscipit a, feugiat et, eros.', '2022-10-10 10:21:37', 'Felipa', '2022-09-05 04:43:17', 'Annaliese');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (30, 'Phasellus sit amet erat. Nulla tempus. Vivamus in felis eu sapien cursus vestibulum.', '2022-11-29 19:46:11', 'Mathew', '2022-11-25 22:01:53', 'Putnam');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (25, 'Morbi non lectus. Aliquam sit amet diam in magna bibendum imperdiet. Nullam orci pede, venenatis non, sodales sed, tincidunt eu, felis.', '2022-07-25 16:27:20', 'Laverne', '2022-07-17 18:49:14', 'Buiron');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (79, 'Aliquam quis turpis eget elit sodales scelerisque. Mauris sit amet eros. Suspendisse accumsan tortor quis turpis.', '2022-12-11 16:21:21', 'Adriaens', '2022-11-16 03:16:33', 'Zeke');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (17, 'Suspendisse potenti. In eleifend quam a odio. In hac habitasse platea dictumst.', '2022-07-14 05:15:45', 'Prent', '2022-03-14 01:40:43', 'Gloriana');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (4, 'Proin eu mi. Nulla ac enim. In tempor, turpis nec euismod scelerisque, quam turpis adipiscing lorem, vitae mattis nibh ligula nec sem.', '2022-12-13 05:46:05', 'Sapphira', '2022-03-13 00:12:07', 'Melvyn');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (99, 'Duis bibendum. Morbi non quam nec dui luctus rutrum. Nulla tellus.', '2022-04-16 06:34:54', 'Rafaello', '2022-05-28 21:00:47', 'Kippy');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (40, 'Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus. Vivamus vestibulum sagittis sapien. Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus.', '2022-09-22 07:11:28', 'Gannie', '2022-12-04 06:55:08', 'Matthew');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (5, 'Curabitur gravida nisi at nibh. In hac habitasse platea dictumst. Aliquam augue quam, sollicitudin vitae, consectetuer eget, rutrum at, lorem.', '2022-06-21 01:52:21', 'Jeffie', '2022-06-29 07:52:32', 'Kristofor');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (90, 'Curabitur gravida nisi at nibh. In hac habitasse platea dictumst. Aliquam augue quam, sollicitudin vitae, consectetuer eget, rutrum at, lorem.', '2021-12-26 22:22:19', 'Danyelle', '2022-09-13 20:15:21', 'Cleavland');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (64, 'Curabitur in libero ut massa volutpat convallis. Morbi odio odio, elementum eu, interdum eu, tincidunt in, leo. Maecenas pulvinar lobortis est.', '2022-09-06 21:36:48', 'Josiah', '2022-02-02 02:05:03', 'Diane-marie');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (19, 'Praesent blandit. Nam nulla. Integer pede justo, lacinia eget, tincidunt eget, tempus vel, pede.', '2022-11-08 20:36:27', 'Chrissie', '2022-07-27 09:42:55', 'Chaim');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (7, 'Pellentesque at nulla. Suspendisse potenti. Cras in purus eu magna vulputate luctus.', '2022-08-16 11:26:51', 'Allie', '2022-09-17 16:48:10', 'Britteny');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (11, 'Integer tincidunt ante vel ipsum. Praesent blandit lacinia erat. Vestibulum sed magna at nunc commodo placerat.', '2022-01-11 18:40:59', 'Pip', '2022-11-08 14:03:40', 'Caren');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (64, 'Praesent id massa id nisl venenatis lacinia. Aenean sit amet justo. Morbi ut odio.', '2022-07-19 01:37:12', 'Tades', '2022-07-09 01:52:48', 'Barrie');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (12, 'Morbi non lectus. Aliquam sit amet diam in magna bibendum imperdiet. Nullam orci pede, venenatis non, sodales sed, tincidunt eu, felis.', '2022-06-25 14:19:52', 'Mallory', '2022-11-15 12:50:02', 'Christie');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (29, 'Maecenas leo odio, condimentum id, luctus nec, molestie sed, justo. Pellentesque viverra pede ac diam. Cras pellentesque volutpat dui.', '2022-06-23 10:24:17', 'Teddy', '2022-06-13 08:00:54', 'Berkly');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (61, 'Curabitur gravida nisi at nibh. In hac habitasse platea dictumst. Aliquam augue quam, sollicitudin vitae, consectetuer eget, rutrum at, lorem.', '2022-03-06 23:22:49', 'Derwin', '2021-12-30 08:16:03', 'Cyndy');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (80, 'Pellentesque at nulla. Suspendisse potenti. Cras in purus eu magna vulputate luctus.', '2022-02-18 15:08:23', 'Winni', '2022-02-25 14:14:12', 'Marcelia');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (66, 'Vestibulum quam sapien, varius ut, blandit non, interdum in, ante. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Duis faucibus accumsan odio. Curabitur convallis.', '2022-06-29 14:45:36', 'Missy', '2022-07-25 21:03:12', 'Vania');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (35, 'Fusce posuere felis sed lacus. Morbi sem mauris, laoreet ut, rhoncus aliquet, pulvinar sed, nisl. Nunc rhoncus dui vel sem.', '2022-12-07 01:09:29', 'Vivianne', '2022-11-03 23:41:53', 'Heddie');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (36, 'In sagittis dui vel nisl. Duis ac nibh. Fusce lacus purus, aliquet at, feugiat non, pretium quis, lectus.', '2022-01-31 08:43:41', 'Angelique', '2022-12-17 16:39:52', 'Stella');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (14, 'Phasellus sit amet erat. Nulla tempus. Vivamus in felis eu sapien cursus vestibulum.', '2022-07-01 12:53:08', 'Decca', '2022-01-17 21:15:41', 'Purcell');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (27, 'Donec diam neque, vestibulum eget, vulputate ut, ultrices vel, augue. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Donec pharetra, magna vestibulum aliquet ultrices, erat tortor sollicitudin mi, sit amet lobortis sapien sapien non mi. Integer ac neque.', '2022-05-16 11:19:52', 'Lisle', '2022-01-27 14:29:10', 'Darnall');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (41, 'In hac habitasse platea dictumst. Etiam faucibus cursus urna. Ut tellus.', '2022-11-20 14:08:30', 'Cob', '2022-08-26 20:51:44', 'Philipa');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (75, 'Phasellus sit amet erat. Nulla tempus. Vivamus in felis eu sapien cursus vestibulum.', '2022-11-28 18:07:16', 'Cirillo', '2022-04-17 00:09:59', 'Dolli');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (45, 'Sed ante. Vivamus tortor. Duis mattis egestas metus.', '2022-06-30 04:34:56', 'Gretta', '2022-11-15 14:39:30', 'Ingeborg');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (2, 'Nulla ut erat id mauris vulputate elementum. Nullam varius. Nulla facilisi.', '2022-08-19 02:14:09', 'Michal', '2022-11-16 00:06:01', 'Julie');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (39, 'Nam ultrices, libero non mattis pulvinar, nulla pede ullamcorper augue, a suscipit nulla elit ac nulla. Sed vel enim sit amet nunc viverra dapibus. Nulla suscipit ligula in lacus.', '2022-10-14 00:26:37', 'Huntlee', '2022-09-08 08:25:20', 'Aurelie');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (65, 'Phasellus sit amet erat. Nulla tempus. Vivamus in felis eu sapien cursus vestibulum.', '2022-12-13 05:24:13', 'Taffy', '2022-01-21 18:06:33', 'Roxi');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (29, 'In hac habitasse platea dictumst. Morbi vestibulum, velit id pretium iaculis, diam erat fermentum justo, nec condimentum neque sapien placerat ante. Nulla justo.', '2022-11-18 23:44:57', 'Ofelia', '2022-02-21 04:41:35', 'Zeb');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (8, 'Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus. Vivamus vestibulum sagittis sapien. Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus.', '2022-09-12 17:31:29', 'Pearle', '2022-02-07 18:53:16', 'Clarke');
-insert into article_comment (article_id, content, created_at, created_by, modified_at, modified_by) values (20, 'Mauris enim leo, rhoncus sed, vestibulum sit amet, cursus id, turpis. Integer aliquet, massa id lobortis convallis, tortor risus dapibus augue, vel accumsan tellus nisi eu orci. Mauris lacinia sapien quis libero.', '2022-04-14 23:51:50', 'Filmore', '2022-05-25 21:41:29', 'Hadley');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (1, 93, 'Integer tincidunt ante vel ipsum. Praesent blandit lacinia erat. Vestibulum sed magna at nunc commodo placerat.', '2022-03-10 17:25:29', 'Jyoti', '2022-08-20 03:43:31', 'Merrill');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (2, 67, 'Phasellus sit amet erat. Nulla tempus. Vivamus in felis eu sapien cursus vestibulum.', '2022-11-25 20:38:31', 'Valencia', '2022-02-08 15:15:19', 'Huey');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (3, 8, 'Proin eu mi. Nulla ac enim. In tempor, turpis nec euismod scelerisque, quam turpis adipiscing lorem, vitae mattis nibh ligula nec sem.', '2022-09-02 21:29:23', 'Lorettalorna', '2022-02-17 05:45:14', 'Noak');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (4, 73, 'Duis consequat dui nec nisi volutpat eleifend. Donec ut dolor. Morbi vel lectus in quam fringilla rhoncus.', '2022-10-27 20:30:47', 'Max', '2022-05-28 20:25:40', 'Kristen');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (5, 3, 'In congue. Etiam justo. Etiam pretium iaculis justo.', '2022-09-20 23:08:49', 'Juline', '2022-09-12 23:32:32', 'Alric');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (6, 29, 'Vestibulum ac est lacinia nisi venenatis tristique. Fusce congue, diam id ornare imperdiet, sapien urna pretium nisl, ut volutpat sapien arcu sed augue. Aliquam erat volutpat.', '2022-09-17 10:40:16', 'Lianna', '2022-11-15 21:10:05', 'Arlinda');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (7, 25, 'Nullam sit amet turpis elementum ligula vehicula consequat. Morbi a ipsum. Integer a nibh.', '2022-05-31 12:37:43', 'Rabbi', '2022-08-02 07:50:39', 'Marlin');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (8, 16, 'Phasellus in felis. Donec semper sapien a libero. Nam dui.', '2022-05-12 01:24:37', 'Angil', '2022-07-22 04:31:46', 'Eveline');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (9, 67, 'Aliquam quis turpis eget elit sodales scelerisque. Mauris sit amet eros. Suspendisse accumsan tortor quis turpis.', '2022-08-09 00:27:31', 'Banky', '2022-05-11 14:11:45', 'Shelbi');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (10, 11, 'Duis aliquam convallis nunc. Proin at turpis a pede posuere nonummy. Integer non velit.', '2022-07-30 13:38:20', 'Celesta', '2022-11-23 04:56:36', 'Stephani');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (11, 9, 'Praesent id massa id nisl venenatis lacinia. Aenean sit amet justo. Morbi ut odio.', '2022-10-29 21:13:26', 'Odo', '2022-11-22 03:17:09', 'Tamas');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (12, 79, 'Maecenas tristique, est et tempus semper, est quam pharetra magna, ac consequat metus sapien ut nunc. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Mauris viverra diam vitae quam. Suspendisse potenti.', '2022-07-30 05:18:28', 'Violante', '2022-04-27 07:41:03', 'Dietrich');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (13, 78, 'Proin eu mi. Nulla ac enim. In tempor, turpis nec euismod scelerisque, quam turpis adipiscing lorem, vitae mattis nibh ligula nec sem.', '2022-05-01 10:53:07', 'Marcellus', '2022-09-15 18:14:37', 'Luther');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (14, 52, 'Donec diam neque, vestibulum eget, vulputate ut, ultrices vel, augue. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Donec pharetra, magna vestibulum aliquet ultrices, erat tortor sollicitudin mi, sit amet lobortis sapien sapien non mi. Integer ac neque.', '2022-04-30 04:30:51', 'Hyacinthie', '2022-08-19 00:26:40', 'Westbrook');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (15, 76, 'Fusce posuere felis sed lacus. Morbi sem mauris, laoreet ut, rhoncus aliquet, pulvinar sed, nisl. Nunc rhoncus dui vel sem.', '2022-10-27 01:40:40', 'Parker', '2022-09-06 23:09:48', 'Constantina');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (16, 33, 'Nullam porttitor lacus at turpis. Donec posuere metus vitae ipsum. Aliquam non mauris.', '2022-05-05 20:23:06', 'Marmaduke', '2022-04-11 03:22:16', 'Sol');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (17, 47, 'Aliquam quis turpis eget elit sodales scelerisque. Mauris sit amet eros. Suspendisse accumsan tortor quis turpis.', '2022-03-10 14:47:24', 'Reta', '2021-12-29 09:06:27', 'Ginelle');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (18, 31, 'Cras mi pede, malesuada in, imperdiet et, commodo vulputate, justo. In blandit ultrices enim. Lorem ipsum dolor sit amet, consectetuer adipiscing elit.', '2022-02-12 10:53:33', 'Ellwood', '2022-03-01 08:52:33', 'Mort');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (19, 100, 'Praesent blandit. Nam nulla. Integer pede justo, lacinia eget, tincidunt eget, tempus vel, pede.', '2022-02-10 08:05:08', 'Leonie', '2022-03-12 01:06:10', 'Mozelle');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (20, 2, 'Etiam vel augue. Vestibulum rutrum rutrum neque. Aenean auctor gravida sem.', '2022-01-29 17:11:33', 'Chicky', '2021-12-24 13:21:57', 'Alia');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (21, 65, 'Maecenas ut massa quis augue luctus tincidunt. Nulla mollis molestie lorem. Quisque ut erat.', '2022-01-05 07:05:48', 'Terrance', '2022-03-09 03:14:33', 'Marci');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (22, 12, 'Quisque porta volutpat erat. Quisque erat eros, viverra eget, congue eget, semper rutrum, nulla. Nunc purus.', '2022-10-28 22:04:39', 'Elly', '2022-10-16 03:09:23', 'Ebenezer');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (23, 16, 'Praesent id massa id nisl venenatis lacinia. Aenean sit amet justo. Morbi ut odio.', '2022-08-06 18:28:11', 'Letti', '2022-06-15 19:46:47', 'Karil');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (24, 43, 'Morbi non lectus. Aliquam sit amet diam in magna bibendum imperdiet. Nullam orci pede, venenatis non, sodales sed, tincidunt eu, felis.', '2022-03-18 23:47:14', 'Brena', '2022-07-05 18:32:39', 'Heidie');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (25, 13, 'Morbi porttitor lorem id ligula. Suspendisse ornare consequat lectus. In est risus, auctor sed, tristique in, tempus sit amet, sem.', '2022-01-03 07:37:40', 'Miller', '2022-06-17 05:06:30', 'Brittaney');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (26, 99, 'Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus. Vivamus vestibulum sagittis sapien. Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus.', '2022-04-15 05:55:53', 'Andromache', '2022-09-15 01:09:03', 'Adriana');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (27, 28, 'Maecenas ut massa quis augue luctus tincidunt. Nulla mollis molestie lorem. Quisque ut erat.', '2022-08-23 04:56:15', 'Ricca', '2022-05-15 23:15:21', 'Man');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (28, 18, 'Proin leo odio, porttitor id, consequat in, consequat ut, nulla. Sed accumsan felis. Ut at dolor quis odio consequat varius.', '2022-11-28 17:19:35', 'Reyna', '2022-08-13 17:19:14', 'Kermit');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (29, 28, 'Proin leo odio, porttitor id, consequat in, consequat ut, nulla. Sed accumsan felis. Ut at dolor quis odio consequat varius.', '2022-09-28 14:46:34', 'Gill', '2022-11-24 06:25:03', 'Bernhard');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (30, 92, 'Aenean lectus. Pellentesque eget nunc. Donec quis orci eget orci vehicula condimentum.', '2022-08-29 07:11:33', 'Bessie', '2022-08-12 14:43:58', 'Rudy');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (31, 50, 'Cras non velit nec nisi vulputate nonummy. Maecenas tincidunt lacus at velit. Vivamus vel nulla eget eros elementum pellentesque.', '2022-03-29 08:13:54', 'Hillie', '2022-05-08 08:59:00', 'Ruprecht');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (32, 25, 'Nullam porttitor lacus at turpis. Donec posuere metus vitae ipsum. Aliquam non mauris.', '2022-07-27 22:32:51', 'Joanie', '2022-03-27 10:06:59', 'Joey');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (33, 92, 'Duis bibendum. Morbi non quam nec dui luctus rutrum. Nulla tellus.', '2022-11-04 22:06:34', 'Gabriele', '2022-10-17 22:01:34', 'Shepard');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (34, 36, 'In hac habitasse platea dictumst. Morbi vestibulum, velit id pretium iaculis, diam erat fermentum justo, nec condimentum neque sapien placerat ante. Nulla justo.', '2022-10-31 20:47:34', 'Lucienne', '2022-04-28 03:37:56', 'Smith');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (35, 91, 'Etiam vel augue. Vestibulum rutrum rutrum neque. Aenean auctor gravida sem.', '2022-09-21 23:39:50', 'Ann-marie', '2022-07-25 12:51:57', 'Josias');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (36, 37, 'Integer ac leo. Pellentesque ultrices mattis odio. Donec vitae nisi.', '2022-01-24 01:58:17', 'Erwin', '2022-10-18 00:19:03', 'Rene');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (37, 36, 'In congue. Etiam justo. Etiam pretium iaculis justo.', '2022-06-06 14:37:34', 'Coleen', '2022-01-08 04:15:05', 'Manda');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (38, 67, 'Curabitur gravida nisi at nibh. In hac habitasse platea dictumst. Aliquam augue quam, sollicitudin vitae, consectetuer eget, rutrum at, lorem.', '2022-06-27 05:20:47', 'Giavani', '2022-01-30 08:53:51', 'Tracy');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (39, 41, 'Proin leo odio, porttitor id, consequat in, consequat ut, nulla. Sed accumsan felis. Ut at dolor quis odio consequat varius.', '2022-02-12 14:35:59', 'Adah', '2022-03-25 05:45:42', 'Peg');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (40, 78, 'Aliquam quis turpis eget elit sodales scelerisque. Mauris sit amet eros. Suspendisse accumsan tortor quis turpis.', '2022-01-19 23:37:00', 'Cristi', '2022-05-30 08:48:12', 'Morty');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (41, 65, 'Lorem ipsum dolor sit amet, consectetuer adipiscing elit. Proin risus. Praesent lectus.', '2022-11-27 15:22:39', 'Nadean', '2022-12-04 18:58:14', 'Jinny');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (42, 77, 'Maecenas ut massa quis augue luctus tincidunt. Nulla mollis molestie lorem. Quisque ut erat.', '2022-02-03 07:19:22', 'Odella', '2022-09-10 13:20:28', 'Susan');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (43, 50, 'Donec diam neque, vestibulum eget, vulputate ut, ultrices vel, augue. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Donec pharetra, magna vestibulum aliquet ultrices, erat tortor sollicitudin mi, sit amet lobortis sapien sapien non mi. Integer ac neque.', '2022-10-06 08:25:08', 'Ailene', '2022-12-18 06:52:17', 'Manon');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (44, 22, 'Curabitur at ipsum ac tellus semper interdum. Mauris ullamcorper purus sit amet nulla. Quisque arcu libero, rutrum ac, lobortis vel, dapibus at, diam.', '2022-06-05 19:08:03', 'Raquel', '2022-10-17 08:20:09', 'Graeme');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (45, 88, 'Nullam sit amet turpis elementum ligula vehicula consequat. Morbi a ipsum. Integer a nibh.', '2022-04-25 04:12:43', 'Cecilius', '2022-07-04 08:50:48', 'Loise');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (46, 21, 'Nullam porttitor lacus at turpis. Donec posuere metus vitae ipsum. Aliquam non mauris.', '2022-09-16 19:25:08', 'Fernandina', '2022-06-20 05:27:40', 'Ceil');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (47, 85, 'Praesent id massa id nisl venenatis lacinia. Aenean sit amet justo. Morbi ut odio.', '2022-01-03 17:18:32', 'Amelie', '2022-04-23 19:10:39', 'Elfreda');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (48, 29, 'Aliquam quis turpis eget elit sodales scelerisque. Mauris sit amet eros. Suspendisse accumsan tortor quis turpis.', '2022-09-23 18:10:37', 'Marina', '2022-05-08 08:05:34', 'Marie');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (49, 82, 'Etiam vel augue. Vestibulum rutrum rutrum neque. Aenean auctor gravida sem.', '2022-04-02 13:30:33', 'Gerty', '2022-06-18 20:23:34', 'Dorey');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (50, 93, 'Suspendisse potenti. In eleifend quam a odio. In hac habitasse platea dictumst.', '2022-11-27 09:45:21', 'Catherine', '2022-06-19 15:28:14', 'Helaine');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (51, 41, 'Duis aliquam convallis nunc. Proin at turpis a pede posuere nonummy. Integer non velit.', '2022-04-29 20:28:39', 'Arlette', '2022-05-12 08:29:12', 'Marina');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (52, 20, 'Praesent id massa id nisl venenatis lacinia. Aenean sit amet justo. Morbi ut odio.', '2022-03-22 05:06:36', 'Hayden', '2022-10-22 13:00:29', 'Evania');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (53, 80, 'In hac habitasse platea dictumst. Morbi vestibulum, velit id pretium iaculis, diam erat fermentum justo, nec condimentum neque sapien placerat ante. Nulla justo.', '2022-01-29 14:30:33', 'Melisande', '2022-05-27 16:04:41', 'Dorena');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (54, 8, 'Fusce posuere felis sed lacus. Morbi sem mauris, laoreet ut, rhoncus aliquet, pulvinar sed, nisl. Nunc rhoncus dui vel sem.', '2022-11-23 18:45:18', 'Angele', '2022-08-24 14:02:41', 'Vern');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (55, 77, 'Curabitur gravida nisi at nibh. In hac habitasse platea dictumst. Aliquam augue quam, sollicitudin vitae, consectetuer eget, rutrum at, lorem.', '2022-08-30 16:26:04', 'Philly', '2022-02-24 18:41:34', 'Angelo');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (56, 76, 'Curabitur in libero ut massa volutpat convallis. Morbi odio odio, elementum eu, interdum eu, tincidunt in, leo. Maecenas pulvinar lobortis est.', '2022-09-29 05:48:12', 'Sophronia', '2022-05-22 18:42:09', 'Sula');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (57, 38, 'Cras non velit nec nisi vulputate nonummy. Maecenas tincidunt lacus at velit. Vivamus vel nulla eget eros elementum pellentesque.', '2022-11-11 03:26:28', 'Georgeta', '2022-03-06 16:35:21', 'Davon');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (58, 7, 'Phasellus sit amet erat. Nulla tempus. Vivamus in felis eu sapien cursus vestibulum.', '2022-09-18 23:39:26', 'Nealy', '2022-10-21 17:08:22', 'Lori');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (59, 81, 'Maecenas ut massa quis augue luctus tincidunt. Nulla mollis molestie lorem. Quisque ut erat.', '2022-03-29 10:54:30', 'Hermione', '2022-03-04 10:00:06', 'Chloette');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (60, 95, 'Aenean fermentum. Donec ut mauris eget massa tempor convallis. Nulla neque libero, convallis eget, eleifend luctus, ultricies eu, nibh.', '2022-05-30 04:47:58', 'Del', '2021-12-23 17:45:49', 'Tabb');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (61, 69, 'Sed ante. Vivamus tortor. Duis mattis egestas metus.', '2022-04-02 12:53:01', 'Lynda', '2022-12-15 15:57:12', 'Patsy');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (62, 19, 'Curabitur gravida nisi at nibh. In hac habitasse platea dictumst. Aliquam augue quam, sollicitudin vitae, consectetuer eget, rutrum at, lorem.', '2022-02-11 12:50:09', 'Ermina', '2022-02-23 00:52:44', 'Amory');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (63, 12, 'Sed sagittis. Nam congue, risus semper porta volutpat, quam pede lobortis ligula, sit amet eleifend pede libero quis orci. Nullam molestie nibh in lectus.', '2022-02-20 06:00:05', 'Benton', '2022-05-25 07:16:24', 'Myrle');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (64, 71, 'Phasellus sit amet erat. Nulla tempus. Vivamus in felis eu sapien cursus vestibulum.', '2022-03-02 12:50:34', 'Marina', '2022-12-19 19:24:11', 'Raddie');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (65, 36, 'Aliquam quis turpis eget elit sodales scelerisque. Mauris sit amet eros. Suspendisse accumsan tortor quis turpis.', '2022-07-23 08:51:25', 'Oran', '2022-02-17 05:27:25', 'Manda');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (66, 58, 'Integer tincidunt ante vel ipsum. Praesent blandit lacinia erat. Vestibulum sed magna at nunc commodo placerat.', '2022-04-27 18:59:33', 'Ludwig', '2022-06-25 05:28:04', 'Opalina');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (67, 50, 'Morbi non lectus. Aliquam sit amet diam in magna bibendum imperdiet. Nullam orci pede, venenatis non, sodales sed, tincidunt eu, felis.', '2022-10-27 07:13:40', 'Dottie', '2022-03-18 08:21:00', 'Sandra');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (68, 86, 'Phasellus sit amet erat. Nulla tempus. Vivamus in felis eu sapien cursus vestibulum.', '2022-06-16 08:09:17', 'Barnie', '2022-07-17 00:27:00', 'Ruttger');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (69, 37, 'Nam ultrices, libero non mattis pulvinar, nulla pede ullamcorper augue, a suscipit nulla elit ac nulla. Sed vel enim sit amet nunc viverra dapibus. Nulla suscipit ligula in lacus.', '2022-07-29 01:55:53', 'Jules', '2022-06-29 07:46:20', 'Christoph');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (70, 81, 'Duis aliquam convallis nunc. Proin at turpis a pede posuere nonummy. Integer non velit.', '2022-03-26 13:07:04', 'Omar', '2022-01-30 21:09:01', 'Hadria');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (71, 19, 'Mauris enim leo, rhoncus sed, vestibulum sit amet, cursus id, turpis. Integer aliquet, massa id lobortis convallis, tortor risus dapibus augue, vel accumsan tellus nisi eu orci. Mauris lacinia sapien quis libero.', '2022-02-22 12:39:26', 'Elden', '2022-03-31 02:27:34', 'Mario');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (72, 19, 'Curabitur in libero ut massa volutpat convallis. Morbi odio odio, elementum eu, interdum eu, tincidunt in, leo. Maecenas pulvinar lobortis est.', '2022-10-28 12:47:29', 'Luce', '2022-09-24 04:08:08', 'Trip');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (73, 8, 'In congue. Etiam justo. Etiam pretium iaculis justo.', '2022-03-14 09:33:28', 'Arliene', '2022-11-02 10:30:58', 'Doloritas');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (74, 63, 'Curabitur in libero ut massa volutpat convallis. Morbi odio odio, elementum eu, interdum eu, tincidunt in, leo. Maecenas pulvinar lobortis est.', '2022-09-08 16:20:34', 'Pauly', '2021-12-25 01:42:23', 'Joete');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (75, 80, 'Sed sagittis. Nam congue, risus semper porta volutpat, quam pede lobortis ligula, sit amet eleifend pede libero quis orci. Nullam molestie nibh in lectus.', '2022-08-25 17:47:23', 'Bartlet', '2022-02-25 10:46:39', 'Beniamino');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (76, 63, 'Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus. Vivamus vestibulum sagittis sapien. Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus.', '2022-03-09 05:12:42', 'Mac', '2022-06-03 05:22:46', 'Larine');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (77, 16, 'Quisque id justo sit amet sapien dignissim vestibulum. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Nulla dapibus dolor vel est. Donec odio justo, sollicitudin ut, suscipit a, feugiat et, eros.', '2022-10-31 03:19:33', 'Shellie', '2022-11-13 00:41:53', 'Barris');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (78, 93, 'Vestibulum quam sapien, varius ut, blandit non, interdum in, ante. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Duis faucibus accumsan odio. Curabitur convallis.', '2022-12-05 19:35:53', 'Cissiee', '2022-03-29 01:20:27', 'Dick');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (79, 2, 'Praesent blandit. Nam nulla. Integer pede justo, lacinia eget, tincidunt eget, tempus vel, pede.', '2022-05-24 10:16:47', 'Humphrey', '2022-02-14 23:42:39', 'Dusty');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (80, 84, 'Etiam vel augue. Vestibulum rutrum rutrum neque. Aenean auctor gravida sem.', '2022-01-05 09:42:51', 'Adena', '2022-05-25 04:26:46', 'Julieta');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (81, 55, 'Praesent id massa id nisl venenatis lacinia. Aenean sit amet justo. Morbi ut odio.', '2022-12-16 20:40:51', 'Derril', '2022-01-23 17:07:49', 'Daune');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (82, 86, 'Duis bibendum, felis sed interdum venenatis, turpis enim blandit mi, in porttitor pede justo eu massa. Donec dapibus. Duis at velit eu est congue elementum.', '2022-09-29 13:57:46', 'Vance', '2022-10-14 19:11:46', 'Roderic');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (83, 23, 'Quisque id justo sit amet sapien dignissim vestibulum. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Nulla dapibus dolor vel est. Donec odio justo, sollicitudin ut, suscipit a, feugiat et, eros.', '2022-11-15 16:53:01', 'Franklyn', '2022-05-30 14:04:26', 'Gray');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (84, 63, 'Phasellus in felis. Donec semper sapien a libero. Nam dui.', '2021-12-31 03:18:02', 'Tom', '2022-11-30 17:59:28', 'Augy');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (85, 7, 'Nullam porttitor lacus at turpis. Donec posuere metus vitae ipsum. Aliquam non mauris.', '2022-05-08 00:35:32', 'Shurwood', '2022-08-28 18:14:57', 'Derrek');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (86, 9, 'Phasellus in felis. Donec semper sapien a libero. Nam dui.', '2022-01-06 23:22:06', 'Raffaello', '2022-04-26 17:19:24', 'Wini');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (87, 35, 'Donec diam neque, vestibulum eget, vulputate ut, ultrices vel, augue. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Donec pharetra, magna vestibulum aliquet ultrices, erat tortor sollicitudin mi, sit amet lobortis sapien sapien non mi. Integer ac neque.', '2022-09-15 19:13:08', 'Kerrie', '2022-02-25 05:34:09', 'Marten');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (88, 39, 'In hac habitasse platea dictumst. Etiam faucibus cursus urna. Ut tellus.', '2022-04-19 20:20:22', 'Otes', '2022-01-06 02:52:43', 'Katherine');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (89, 95, 'Duis aliquam convallis nunc. Proin at turpis a pede posuere nonummy. Integer non velit.', '2022-04-21 22:05:54', 'Cilka', '2022-04-06 16:45:08', 'Abbi');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (90, 12, 'Nam ultrices, libero non mattis pulvinar, nulla pede ullamcorper augue, a suscipit nulla elit ac nulla. Sed vel enim sit amet nunc viverra dapibus. Nulla suscipit ligula in lacus.', '2022-04-15 09:28:16', 'Joelle', '2022-06-22 20:53:21', 'Zara');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (91, 53, 'Duis consequat dui nec nisi volutpat eleifend. Donec ut dolor. Morbi vel lectus in quam fringilla rhoncus.', '2022-10-21 16:45:07', 'Bertram', '2022-07-08 01:42:45', 'Dena');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (92, 88, 'Donec diam neque, vestibulum eget, vulputate ut, ultrices vel, augue. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Donec pharetra, magna vestibulum aliquet ultrices, erat tortor sollicitudin mi, sit amet lobortis sapien sapien non mi. Integer ac neque.', '2022-10-25 00:08:58', 'Dulcine', '2022-07-25 10:11:01', 'Nancy');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (93, 9, 'Maecenas ut massa quis augue luctus tincidunt. Nulla mollis molestie lorem. Quisque ut erat.', '2022-04-02 14:37:38', 'Korney', '2022-07-26 17:31:04', 'Martina');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (94, 33, 'Vestibulum quam sapien, varius ut, blandit non, interdum in, ante. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Duis faucibus accumsan odio. Curabitur convallis.', '2022-06-02 11:19:32', 'Inglebert', '2022-06-27 22:19:46', 'Ruby');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (95, 31, 'Fusce consequat. Nulla nisl. Nunc nisl.', '2022-08-24 13:56:40', 'Aridatha', '2022-06-28 20:47:18', 'Farrel');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (96, 18, 'Aenean fermentum. Donec ut mauris eget massa tempor convallis. Nulla neque libero, convallis eget, eleifend luctus, ultricies eu, nibh.', '2022-04-25 16:13:42', 'Flss', '2022-05-27 19:26:35', 'Beryl');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (97, 63, 'In quis justo. Maecenas rhoncus aliquam lacus. Morbi quis tortor id nulla ultrices aliquet.', '2022-03-21 03:04:19', 'Currey', '2022-11-23 07:16:26', 'Min');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (98, 87, 'Pellentesque at nulla. Suspendisse potenti. Cras in purus eu magna vulputate luctus.', '2022-07-15 23:19:26', 'Rois', '2022-06-13 03:26:23', 'Giacopo');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (99, 11, 'Suspendisse potenti. In eleifend quam a odio. In hac habitasse platea dictumst.', '2022-02-17 02:03:37', 'Costa', '2022-11-03 19:01:41', 'Creight');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (100, 80, 'Cras mi pede, malesuada in, imperdiet et, commodo vulputate, justo. In blandit ultrices enim. Lorem ipsum dolor sit amet, consectetuer adipiscing elit.', '2022-08-05 04:22:50', 'Giselle', '2022-06-18 02:29:52', 'Gav');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (101, 27, 'In hac habitasse platea dictumst. Morbi vestibulum, velit id pretium iaculis, diam erat fermentum justo, nec condimentum neque sapien placerat ante. Nulla justo.', '2022-01-01 07:06:29', 'Marys', '2021-12-30 09:30:29', 'Nadia');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (102, 31, 'Curabitur in libero ut massa volutpat convallis. Morbi odio odio, elementum eu, interdum eu, tincidunt in, leo. Maecenas pulvinar lobortis est.', '2022-04-21 16:47:06', 'Ingrim', '2022-02-14 10:43:49', 'Jo-anne');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (103, 43, 'Nulla ut erat id mauris vulputate elementum. Nullam varius. Nulla facilisi.', '2022-09-29 07:45:36', 'Christoforo', '2022-09-02 07:21:42', 'Chlo');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (104, 78, 'Etiam vel augue. Vestibulum rutrum rutrum neque. Aenean auctor gravida sem.', '2022-06-07 01:21:58', 'Abran', '2022-05-11 03:02:48', 'Ransom');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (105, 59, 'Lorem ipsum dolor sit amet, consectetuer adipiscing elit. Proin risus. Praesent lectus.', '2022-03-26 02:50:58', 'Kirsteni', '2022-12-06 21:46:18', 'Jere');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (106, 45, 'Sed ante. Vivamus tortor. Duis mattis egestas metus.', '2022-12-16 06:29:29', 'Delia', '2022-06-25 21:53:07', 'Fancie');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (107, 89, 'Aenean fermentum. Donec ut mauris eget massa tempor convallis. Nulla neque libero, convallis eget, eleifend luctus, ultricies eu, nibh.', '2022-09-28 21:24:33', 'Saleem', '2022-01-11 09:18:28', 'Atlanta');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (108, 68, 'Etiam vel augue. Vestibulum rutrum rutrum neque. Aenean auctor gravida sem.', '2022-09-12 00:46:38', 'Lonnie', '2022-01-15 06:41:15', 'Ahmed');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (109, 78, 'Aenean fermentum. Donec ut mauris eget massa tempor convallis. Nulla neque libero, convallis eget, eleifend luctus, ultricies eu, nibh.', '2022-09-13 09:49:02', 'Sallyanne', '2022-07-03 09:58:18', 'Sidoney');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (110, 48, 'Lorem ipsum dolor sit amet, consectetuer adipiscing elit. Proin risus. Praesent lectus.', '2022-08-16 11:58:37', 'Barry', '2022-11-12 20:37:06', 'Koressa');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (111, 38, 'Nullam porttitor lacus at turpis. Donec posuere metus vitae ipsum. Aliquam non mauris.', '2021-12-26 22:14:10', 'Nicole', '2022-01-12 17:22:43', 'Dmitri');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (112, 44, 'Etiam vel augue. Vestibulum rutrum rutrum neque. Aenean auctor gravida sem.', '2022-12-02 22:18:58', 'Sheri', '2022-05-08 03:40:34', 'Britney');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (113, 12, 'In sagittis dui vel nisl. Duis ac nibh. Fusce lacus purus, aliquet at, feugiat non, pretium quis, lectus.', '2022-04-11 22:05:27', 'Aimil', '2022-07-03 14:37:18', 'Dot');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (114, 38, 'Maecenas tristique, est et tempus semper, est quam pharetra magna, ac consequat metus sapien ut nunc. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Mauris viverra diam vitae quam. Suspendisse potenti.', '2022-05-16 08:59:11', 'Claudius', '2022-06-09 21:53:13', 'Gerianna');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (115, 76, 'Curabitur in libero ut massa volutpat convallis. Morbi odio odio, elementum eu, interdum eu, tincidunt in, leo. Maecenas pulvinar lobortis est.', '2022-04-26 21:56:45', 'Marsh', '2022-11-15 12:52:43', 'Whitby');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (116, 89, 'Vestibulum ac est lacinia nisi venenatis tristique. Fusce congue, diam id ornare imperdiet, sapien urna pretium nisl, ut volutpat sapien arcu sed augue. Aliquam erat volutpat.', '2022-06-01 15:57:23', 'Joelly', '2022-11-06 13:09:10', 'Sherlock');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (117, 65, 'Phasellus sit amet erat. Nulla tempus. Vivamus in felis eu sapien cursus vestibulum.', '2022-09-12 17:27:56', 'Misha', '2022-04-22 14:45:59', 'Tynan');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (118, 8, 'Phasellus sit amet erat. Nulla tempus. Vivamus in felis eu sapien cursus vestibulum.', '2022-01-16 10:16:32', 'Farand', '2022-09-25 10:04:17', 'Pammi');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (119, 29, 'Sed ante. Vivamus tortor. Duis mattis egestas metus.', '2022-02-20 00:44:47', 'Margarette', '2022-07-04 20:04:35', 'Minta');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (120, 66, 'In hac habitasse platea dictumst. Etiam faucibus cursus urna. Ut tellus.', '2022-05-05 07:40:40', 'Doroteya', '2022-07-07 05:24:31', 'Bradley');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (121, 32, 'Curabitur at ipsum ac tellus semper interdum. Mauris ullamcorper purus sit amet nulla. Quisque arcu libero, rutrum ac, lobortis vel, dapibus at, diam.', '2022-04-27 13:41:44', 'Modestine', '2022-03-16 01:37:14', 'Vivianna');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (122, 29, 'Vestibulum ac est lacinia nisi venenatis tristique. Fusce congue, diam id ornare imperdiet, sapien urna pretium nisl, ut volutpat sapien arcu sed augue. Aliquam erat volutpat.', '2022-11-09 22:47:59', 'Cozmo', '2022-01-28 09:17:04', 'Barton');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (123, 89, 'Curabitur gravida nisi at nibh. In hac habitasse platea dictumst. Aliquam augue quam, sollicitudin vitae, consectetuer eget, rutrum at, lorem.', '2022-09-01 18:36:17', 'Kala', '2022-07-08 09:07:10', 'Derrek');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (124, 59, 'Lorem ipsum dolor sit amet, consectetuer adipiscing elit. Proin risus. Praesent lectus.', '2022-02-28 21:40:50', 'Hussein', '2022-02-02 06:42:52', 'Lucila');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (125, 24, 'Nam ultrices, libero non mattis pulvinar, nulla pede ullamcorper augue, a suscipit nulla elit ac nulla. Sed vel enim sit amet nunc viverra dapibus. Nulla suscipit ligula in lacus.', '2022-05-16 02:08:11', 'Roy', '2022-03-03 18:04:35', 'Fancie');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (126, 12, 'Aenean lectus. Pellentesque eget nunc. Donec quis orci eget orci vehicula condimentum.', '2021-12-21 10:42:36', 'Herbert', '2022-03-01 03:20:07', 'Dorotea');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (127, 75, 'Aenean lectus. Pellentesque eget nunc. Donec quis orci eget orci vehicula condimentum.', '2022-02-17 18:03:06', 'Diandra', '2022-02-01 04:47:59', 'Wendi');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (128, 99, 'Proin eu mi. Nulla ac enim. In tempor, turpis nec euismod scelerisque, quam turpis adipiscing lorem, vitae mattis nibh ligula nec sem.', '2022-05-24 13:51:42', 'Nickolaus', '2022-03-31 14:26:30', 'Guendolen');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (129, 48, 'Maecenas ut massa quis augue luctus tincidunt. Nulla mollis molestie lorem. Quisque ut erat.', '2022-12-03 14:04:54', 'Odetta', '2022-08-25 19:27:59', 'Hogan');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (130, 23, 'Quisque id justo sit amet sapien dignissim vestibulum. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Nulla dapibus dolor vel est. Donec odio justo, sollicitudin ut, suscipit a, feugiat et, eros.', '2022-02-18 05:29:12', 'Kattie', '2022-01-25 07:31:02', 'Rudolfo');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (131, 13, 'Duis aliquam convallis nunc. Proin at turpis a pede posuere nonummy. Integer non velit.', '2022-03-14 01:23:08', 'Angus', '2022-02-14 01:40:03', 'Haroun');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (132, 15, 'Integer ac leo. Pellentesque ultrices mattis odio. Donec vitae nisi.', '2022-10-09 14:25:42', 'Ernst', '2022-05-14 22:39:04', 'Carrol');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (133, 45, 'Etiam vel augue. Vestibulum rutrum rutrum neque. Aenean auctor gravida sem.', '2022-12-13 19:59:35', 'Waylin', '2022-01-26 12:02:14', 'Mortie');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (134, 67, 'Proin interdum mauris non ligula pellentesque ultrices. Phasellus id sapien in sapien iaculis congue. Vivamus metus arcu, adipiscing molestie, hendrerit at, vulputate vitae, nisl.', '2022-05-14 21:54:43', 'Theresina', '2022-07-03 06:03:35', 'Tiffany');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (135, 16, 'Curabitur in libero ut massa volutpat convallis. Morbi odio odio, elementum eu, interdum eu, tincidunt in, leo. Maecenas pulvinar lobortis est.', '2022-03-27 06:07:42', 'Julia', '2022-02-12 21:35:51', 'Linea');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (136, 56, 'In hac habitasse platea dictumst. Etiam faucibus cursus urna. Ut tellus.', '2022-09-13 03:37:34', 'Idalia', '2022-07-12 15:05:57', 'Paloma');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (137, 87, 'Duis aliquam convallis nunc. Proin at turpis a pede posuere nonummy. Integer non velit.', '2022-09-23 22:58:39', 'Markus', '2022-01-24 14:13:51', 'Dulcea');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (138, 12, 'Maecenas ut massa quis augue luctus tincidunt. Nulla mollis molestie lorem. Quisque ut erat.', '2022-03-22 12:36:04', 'Torry', '2022-03-13 21:21:54', 'Nappie');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (139, 43, 'Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus. Vivamus vestibulum sagittis sapien. Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus.', '2022-08-15 07:11:56', 'Simonette', '2022-11-14 08:04:54', 'Kaye');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (140, 46, 'Curabitur in libero ut massa volutpat convallis. Morbi odio odio, elementum eu, interdum eu, tincidunt in, leo. Maecenas pulvinar lobortis est.', '2022-11-12 19:04:41', 'William', '2021-12-27 05:17:44', 'Keeley');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (141, 51, 'Sed ante. Vivamus tortor. Duis mattis egestas metus.', '2022-09-03 21:18:21', 'Ugo', '2022-06-10 06:17:17', 'Tiphani');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (142, 77, 'Quisque porta volutpat erat. Quisque erat eros, viverra eget, congue eget, semper rutrum, nulla. Nunc purus.', '2022-07-01 17:17:51', 'Lilas', '2022-08-13 22:12:02', 'Kenneth');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (143, 43, 'Aenean lectus. Pellentesque eget nunc. Donec quis orci eget orci vehicula condimentum.', '2022-02-03 13:22:35', 'Adel', '2022-08-12 00:56:44', 'Mikkel');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (144, 78, 'Nullam porttitor lacus at turpis. Donec posuere metus vitae ipsum. Aliquam non mauris.', '2022-04-27 10:47:54', 'Manolo', '2022-12-15 17:27:33', 'Sven');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (145, 75, 'Praesent blandit. Nam nulla. Integer pede justo, lacinia eget, tincidunt eget, tempus vel, pede.', '2022-02-13 19:02:50', 'Lincoln', '2022-04-26 22:15:58', 'Ulla');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (146, 28, 'Nullam sit amet turpis elementum ligula vehicula consequat. Morbi a ipsum. Integer a nibh.', '2022-06-22 22:56:16', 'Etty', '2022-07-23 21:01:24', 'Sammie');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (147, 71, 'Morbi non lectus. Aliquam sit amet diam in magna bibendum imperdiet. Nullam orci pede, venenatis non, sodales sed, tincidunt eu, felis.', '2022-05-01 09:09:49', 'Ludovika', '2022-01-11 07:48:38', 'Becki');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (148, 48, 'Integer ac leo. Pellentesque ultrices mattis odio. Donec vitae nisi.', '2022-04-10 11:21:28', 'Tessy', '2022-06-19 11:58:58', 'Doretta');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (149, 21, 'Integer ac leo. Pellentesque ultrices mattis odio. Donec vitae nisi.', '2022-03-07 12:55:05', 'Dorian', '2022-07-11 07:55:50', 'Mahmud');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (150, 40, 'Sed sagittis. Nam congue, risus semper porta volutpat, quam pede lobortis ligula, sit amet eleifend pede libero quis orci. Nullam molestie nibh in lectus.', '2022-11-19 09:18:07', 'Jody', '2022-04-07 00:49:41', 'Trixie');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (151, 60, 'Morbi porttitor lorem id ligula. Suspendisse ornare consequat lectus. In est risus, auctor sed, tristique in, tempus sit amet, sem.', '2022-05-10 14:16:07', 'Forrest', '2022-04-04 03:30:56', 'Roana');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (152, 66, 'Curabitur gravida nisi at nibh. In hac habitasse platea dictumst. Aliquam augue quam, sollicitudin vitae, consectetuer eget, rutrum at, lorem.', '2022-10-04 01:58:57', 'Conn', '2022-11-23 16:41:12', 'Nels');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (153, 47, 'Mauris enim leo, rhoncus sed, vestibulum sit amet, cursus id, turpis. Integer aliquet, massa id lobortis convallis, tortor risus dapibus augue, vel accumsan tellus nisi eu orci. Mauris lacinia sapien quis libero.', '2022-02-22 12:40:52', 'Marian', '2022-01-31 13:02:44', 'Elfreda');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (154, 95, 'Fusce posuere felis sed lacus. Morbi sem mauris, laoreet ut, rhoncus aliquet, pulvinar sed, nisl. Nunc rhoncus dui vel sem.', '2022-02-10 23:32:36', 'Avery', '2022-04-05 07:24:02', 'Cookie');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (155, 79, 'Nullam porttitor lacus at turpis. Donec posuere metus vitae ipsum. Aliquam non mauris.', '2022-04-15 10:59:44', 'Fenelia', '2022-02-19 12:32:35', 'Wang');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (156, 62, 'Cras mi pede, malesuada in, imperdiet et, commodo vulputate, justo. In blandit ultrices enim. Lorem ipsum dolor sit amet, consectetuer adipiscing elit.', '2022-03-03 03:48:47', 'Waring', '2022-05-12 01:47:53', 'Nydia');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (157, 12, 'Integer tincidunt ante vel ipsum. Praesent blandit lacinia erat. Vestibulum sed magna at nunc commodo placerat.', '2022-02-03 20:07:29', 'Elyn', '2022-09-22 20:19:40', 'Odette');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (158, 10, 'Pellentesque at nulla. Suspendisse potenti. Cras in purus eu magna vulputate luctus.', '2022-12-03 02:00:56', 'Berget', '2022-04-02 17:01:15', 'Fredra');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (159, 14, 'Proin eu mi. Nulla ac enim. In tempor, turpis nec euismod scelerisque, quam turpis adipiscing lorem, vitae mattis nibh ligula nec sem.', '2022-09-11 04:33:57', 'Cinda', '2022-07-06 19:20:59', 'Vonni');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (160, 50, 'In hac habitasse platea dictumst. Etiam faucibus cursus urna. Ut tellus.', '2022-09-20 03:02:02', 'Frieda', '2022-01-31 15:39:39', 'Abdul');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (161, 1, 'Morbi non lectus. Aliquam sit amet diam in magna bibendum imperdiet. Nullam orci pede, venenatis non, sodales sed, tincidunt eu, felis.', '2022-12-04 18:39:03', 'Phineas', '2022-11-24 13:53:27', 'Ninetta');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (162, 48, 'Aliquam quis turpis eget elit sodales scelerisque. Mauris sit amet eros. Suspendisse accumsan tortor quis turpis.', '2022-01-19 17:16:04', 'Austine', '2022-05-06 01:18:01', 'Marlie');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (163, 83, 'Nullam sit amet turpis elementum ligula vehicula consequat. Morbi a ipsum. Integer a nibh.', '2022-08-22 09:43:48', 'Jefferey', '2022-05-23 17:31:41', 'Madlin');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (164, 81, 'Proin eu mi. Nulla ac enim. In tempor, turpis nec euismod scelerisque, quam turpis adipiscing lorem, vitae mattis nibh ligula nec sem.', '2022-04-26 04:01:27', 'Claudianus', '2022-03-25 23:59:20', 'Mella');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (165, 14, 'Aenean lectus. Pellentesque eget nunc. Donec quis orci eget orci vehicula condimentum.', '2022-09-21 04:55:23', 'Calli', '2022-07-14 09:37:51', 'Dasya');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (166, 26, 'Nam ultrices, libero non mattis pulvinar, nulla pede ullamcorper augue, a suscipit nulla elit ac nulla. Sed vel enim sit amet nunc viverra dapibus. Nulla suscipit ligula in lacus.', '2022-10-22 06:07:40', 'Elena', '2022-06-26 18:26:26', 'Noell');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (167, 65, 'Duis bibendum. Morbi non quam nec dui luctus rutrum. Nulla tellus.', '2022-11-24 06:20:36', 'Ive', '2022-01-21 13:12:35', 'Dania');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (168, 9, 'Nulla ut erat id mauris vulputate elementum. Nullam varius. Nulla facilisi.', '2022-12-15 00:45:14', 'Allyn', '2022-11-16 01:45:17', 'Shelton');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (169, 44, 'Curabitur gravida nisi at nibh. In hac habitasse platea dictumst. Aliquam augue quam, sollicitudin vitae, consectetuer eget, rutrum at, lorem.', '2022-07-26 10:48:00', 'Cati', '2022-11-09 23:12:17', 'Tuck');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (170, 23, 'Maecenas tristique, est et tempus semper, est quam pharetra magna, ac consequat metus sapien ut nunc. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Mauris viverra diam vitae quam. Suspendisse potenti.', '2022-09-01 16:29:22', 'Malanie', '2022-04-23 12:16:06', 'Dodie');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (171, 62, 'Nam ultrices, libero non mattis pulvinar, nulla pede ullamcorper augue, a suscipit nulla elit ac nulla. Sed vel enim sit amet nunc viverra dapibus. Nulla suscipit ligula in lacus.', '2022-11-27 05:17:15', 'Cyrillus', '2022-07-05 05:01:11', 'Harlin');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (172, 67, 'Nullam porttitor lacus at turpis. Donec posuere metus vitae ipsum. Aliquam non mauris.', '2022-04-26 07:08:24', 'Tani', '2022-01-21 02:51:57', 'Henryetta');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (173, 86, 'Proin interdum mauris non ligula pellentesque ultrices. Phasellus id sapien in sapien iaculis congue. Vivamus metus arcu, adipiscing molestie, hendrerit at, vulputate vitae, nisl.', '2022-05-29 05:37:57', 'Orlando', '2022-02-03 22:48:21', 'Larry');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (174, 92, 'Donec diam neque, vestibulum eget, vulputate ut, ultrices vel, augue. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Donec pharetra, magna vestibulum aliquet ultrices, erat tortor sollicitudin mi, sit amet lobortis sapien sapien non mi. Integer ac neque.', '2022-08-22 12:00:27', 'Markos', '2022-01-24 16:31:19', 'Krystyna');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (175, 38, 'Aenean fermentum. Donec ut mauris eget massa tempor convallis. Nulla neque libero, convallis eget, eleifend luctus, ultricies eu, nibh.', '2022-03-02 11:38:15', 'Brooks', '2022-10-09 02:01:01', 'Thomasine');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (176, 42, 'Quisque porta volutpat erat. Quisque erat eros, viverra eget, congue eget, semper rutrum, nulla. Nunc purus.', '2022-05-14 23:18:38', 'Rozina', '2022-06-03 20:22:31', 'Kiri');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (177, 2, 'Duis bibendum. Morbi non quam nec dui luctus rutrum. Nulla tellus.', '2022-02-09 04:04:04', 'Daffy', '2021-12-21 06:08:00', 'Calley');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (178, 13, 'Sed ante. Vivamus tortor. Duis mattis egestas metus.', '2022-09-19 23:32:04', 'Jarrod', '2022-08-19 00:39:28', 'Becki');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (179, 21, 'Duis aliquam convallis nunc. Proin at turpis a pede posuere nonummy. Integer non velit.', '2022-02-18 00:42:53', 'Lilllie', '2022-03-20 17:35:51', 'Marin');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (180, 17, 'In quis justo. Maecenas rhoncus aliquam lacus. Morbi quis tortor id nulla ultrices aliquet.', '2022-05-25 18:12:08', 'Rab', '2021-12-30 21:09:30', 'Cecilio');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (181, 91, 'Praesent id massa id nisl venenatis lacinia. Aenean sit amet justo. Morbi ut odio.', '2022-03-09 23:37:34', 'Keenan', '2022-03-09 15:27:50', 'Rebecca');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (182, 86, 'Sed ante. Vivamus tortor. Duis mattis egestas metus.', '2022-11-22 12:14:13', 'Pat', '2022-03-22 08:38:48', 'Birdie');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (183, 88, 'Nullam porttitor lacus at turpis. Donec posuere metus vitae ipsum. Aliquam non mauris.', '2022-03-21 00:40:36', 'Tabitha', '2022-11-02 07:46:32', 'Leisha');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (184, 22, 'Mauris enim leo, rhoncus sed, vestibulum sit amet, cursus id, turpis. Integer aliquet, massa id lobortis convallis, tortor risus dapibus augue, vel accumsan tellus nisi eu orci. Mauris lacinia sapien quis libero.', '2022-09-13 19:54:48', 'Uri', '2022-12-18 14:47:03', 'Cathrine');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (185, 93, 'Maecenas leo odio, condimentum id, luctus nec, molestie sed, justo. Pellentesque viverra pede ac diam. Cras pellentesque volutpat dui.', '2022-06-13 18:10:34', 'Trudi', '2021-12-26 16:55:09', 'Lanae');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (186, 9, 'Integer ac leo. Pellentesque ultrices mattis odio. Donec vitae nisi.', '2022-02-16 22:17:57', 'Daffie', '2022-08-12 09:38:22', 'Krysta');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (187, 73, 'Mauris enim leo, rhoncus sed, vestibulum sit amet, cursus id, turpis. Integer aliquet, massa id lobortis convallis, tortor risus dapibus augue, vel accumsan tellus nisi eu orci. Mauris lacinia sapien quis libero.', '2022-06-19 07:14:33', 'Audi', '2022-04-10 10:04:31', 'Savina');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (188, 81, 'Fusce consequat. Nulla nisl. Nunc nisl.', '2022-12-06 17:49:28', 'Annie', '2022-07-09 10:05:08', 'Dennie');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (189, 94, 'Maecenas leo odio, condimentum id, luctus nec, molestie sed, justo. Pellentesque viverra pede ac diam. Cras pellentesque volutpat dui.', '2022-03-24 19:12:05', 'Sharleen', '2022-12-10 12:33:27', 'Morris');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (190, 47, 'Nulla ut erat id mauris vulputate elementum. Nullam varius. Nulla facilisi.', '2022-10-10 20:27:02', 'Svend', '2022-05-02 22:54:55', 'Charo');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (191, 62, 'Duis consequat dui nec nisi volutpat eleifend. Donec ut dolor. Morbi vel lectus in quam fringilla rhoncus.', '2022-06-18 18:58:15', 'Isabelle', '2022-02-25 03:32:01', 'Bevvy');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (192, 39, 'In sagittis dui vel nisl. Duis ac nibh. Fusce lacus purus, aliquet at, feugiat non, pretium quis, lectus.', '2022-12-02 11:37:49', 'Hailey', '2022-01-23 06:02:48', 'Nels');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (193, 32, 'Curabitur gravida nisi at nibh. In hac habitasse platea dictumst. Aliquam augue quam, sollicitudin vitae, consectetuer eget, rutrum at, lorem.', '2022-07-28 14:20:58', 'Hinze', '2022-11-29 09:21:05', 'Dyann');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (194, 55, 'Nullam porttitor lacus at turpis. Donec posuere metus vitae ipsum. Aliquam non mauris.', '2022-03-03 23:01:41', 'Alvera', '2022-04-30 06:53:02', 'Vikki');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (195, 68, 'Aliquam quis turpis eget elit sodales scelerisque. Mauris sit amet eros. Suspendisse accumsan tortor quis turpis.', '2022-03-21 10:02:51', 'Brandice', '2022-09-12 22:31:08', 'Freeland');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (196, 69, 'Mauris enim leo, rhoncus sed, vestibulum sit amet, cursus id, turpis. Integer aliquet, massa id lobortis convallis, tortor risus dapibus augue, vel accumsan tellus nisi eu orci. Mauris lacinia sapien quis libero.', '2022-12-17 14:39:24', 'Liva', '2022-01-11 00:46:02', 'Noak');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (197, 48, 'Nulla ut erat id mauris vulputate elementum. Nullam varius. Nulla facilisi.', '2022-06-25 01:18:45', 'Pincas', '2022-12-06 02:40:06', 'Matthias');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (198, 66, 'Integer tincidunt ante vel ipsum. Praesent blandit lacinia erat. Vestibulum sed magna at nunc commodo placerat.', '2022-04-30 17:44:31', 'Adelheid', '2022-08-02 00:16:25', 'Andris');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (199, 4, 'Aenean fermentum. Donec ut mauris eget massa tempor convallis. Nulla neque libero, convallis eget, eleifend luctus, ultricies eu, nibh.', '2022-07-10 05:17:54', 'Augustus', '2022-12-14 19:49:46', 'Dre');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (200, 39, 'Vestibulum quam sapien, varius ut, blandit non, interdum in, ante. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Duis faucibus accumsan odio. Curabitur convallis.', '2022-05-20 11:04:14', 'Levon', '2021-12-26 23:13:14', 'Correy');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (201, 59, 'Sed ante. Vivamus tortor. Duis mattis egestas metus.', '2022-09-30 11:04:55', 'Pierre', '2022-03-02 16:08:36', 'Timothy');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (202, 72, 'Proin leo odio, porttitor id, consequat in, consequat ut, nulla. Sed accumsan felis. Ut at dolor quis odio consequat varius.', '2022-07-09 19:14:06', 'Mufi', '2022-03-18 02:13:40', 'Case');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (203, 70, 'Vestibulum quam sapien, varius ut, blandit non, interdum in, ante. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Duis faucibus accumsan odio. Curabitur convallis.', '2022-05-22 19:18:21', 'Kora', '2022-06-14 03:50:25', 'Rebecka');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (204, 64, 'Proin leo odio, porttitor id, consequat in, consequat ut, nulla. Sed accumsan felis. Ut at dolor quis odio consequat varius.', '2022-05-13 14:18:26', 'Marga', '2022-08-01 13:57:29', 'Evaleen');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (205, 41, 'Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus. Vivamus vestibulum sagittis sapien. Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus.', '2022-06-11 16:34:20', 'Ad', '2022-04-17 04:29:35', 'John');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (206, 80, 'Nullam porttitor lacus at turpis. Donec posuere metus vitae ipsum. Aliquam non mauris.', '2022-07-13 09:34:15', 'Barbara', '2022-11-15 01:03:58', 'Britta');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (207, 46, 'Phasellus in felis. Donec semper sapien a libero. Nam dui.', '2022-06-11 15:26:29', 'Baldwin', '2022-11-29 12:47:33', 'Hildegaard');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (208, 78, 'Praesent blandit. Nam nulla. Integer pede justo, lacinia eget, tincidunt eget, tempus vel, pede.', '2022-03-05 07:52:12', 'Dix', '2022-09-10 22:25:39', 'Sande');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (209, 94, 'Nam ultrices, libero non mattis pulvinar, nulla pede ullamcorper augue, a suscipit nulla elit ac nulla. Sed vel enim sit amet nunc viverra dapibus. Nulla suscipit ligula in lacus.', '2022-10-14 04:51:21', 'Farrah', '2022-04-01 06:36:53', 'Donn');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (210, 27, 'Nulla ut erat id mauris vulputate elementum. Nullam varius. Nulla facilisi.', '2022-01-31 21:39:32', 'Zahara', '2022-03-12 04:23:45', 'Dona');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (211, 4, 'Vestibulum ac est lacinia nisi venenatis tristique. Fusce congue, diam id ornare imperdiet, sapien urna pretium nisl, ut volutpat sapien arcu sed augue. Aliquam erat volutpat.', '2022-09-01 23:32:16', 'Michelina', '2022-04-28 17:43:16', 'Stevy');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (212, 65, 'Duis bibendum, felis sed interdum venenatis, turpis enim blandit mi, in porttitor pede justo eu massa. Donec dapibus. Duis at velit eu est congue elementum.', '2022-03-17 02:06:34', 'Garnet', '2022-09-16 15:34:57', 'Dix');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (213, 96, 'In hac habitasse platea dictumst. Morbi vestibulum, velit id pretium iaculis, diam erat fermentum justo, nec condimentum neque sapien placerat ante. Nulla justo.', '2022-07-27 16:04:53', 'Orrin', '2022-11-25 04:41:50', 'Hewe');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (214, 71, 'Maecenas leo odio, condimentum id, luctus nec, molestie sed, justo. Pellentesque viverra pede ac diam. Cras pellentesque volutpat dui.', '2022-01-20 06:20:32', 'Janice', '2022-04-22 19:48:18', 'Felita');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (215, 40, 'Aenean fermentum. Donec ut mauris eget massa tempor convallis. Nulla neque libero, convallis eget, eleifend luctus, ultricies eu, nibh.', '2022-01-13 13:18:19', 'Melanie', '2022-06-08 20:07:38', 'Rhonda');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (216, 74, 'Pellentesque at nulla. Suspendisse potenti. Cras in purus eu magna vulputate luctus.', '2022-01-20 10:15:56', 'Bathsheba', '2022-01-29 00:51:37', 'Herculie');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (217, 55, 'Aliquam quis turpis eget elit sodales scelerisque. Mauris sit amet eros. Suspendisse accumsan tortor quis turpis.', '2022-08-04 22:20:25', 'Becki', '2022-05-17 09:52:28', 'Helaine');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (218, 83, 'Curabitur in libero ut massa volutpat convallis. Morbi odio odio, elementum eu, interdum eu, tincidunt in, leo. Maecenas pulvinar lobortis est.', '2021-12-24 12:34:28', 'Patricio', '2022-09-01 01:28:44', 'Jamesy');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (219, 27, 'Maecenas ut massa quis augue luctus tincidunt. Nulla mollis molestie lorem. Quisque ut erat.', '2022-05-27 17:43:23', 'Dulcinea', '2022-12-11 08:26:29', 'Daveen');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (220, 94, 'Pellentesque at nulla. Suspendisse potenti. Cras in purus eu magna vulputate luctus.', '2022-08-22 04:07:22', 'Mata', '2022-08-21 06:15:57', 'Jilleen');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (221, 51, 'Curabitur gravida nisi at nibh. In hac habitasse platea dictumst. Aliquam augue quam, sollicitudin vitae, consectetuer eget, rutrum at, lorem.', '2022-01-09 04:42:29', 'Jolee', '2022-10-11 10:57:27', 'Sile');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (222, 99, 'Sed sagittis. Nam congue, risus semper porta volutpat, quam pede lobortis ligula, sit amet eleifend pede libero quis orci. Nullam molestie nibh in lectus.', '2022-10-26 23:33:30', 'Zared', '2022-07-27 02:55:47', 'Gabby');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (223, 53, 'Proin eu mi. Nulla ac enim. In tempor, turpis nec euismod scelerisque, quam turpis adipiscing lorem, vitae mattis nibh ligula nec sem.', '2022-12-13 20:55:26', 'Goldarina', '2021-12-31 21:41:27', 'Donal');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (224, 74, 'Maecenas tristique, est et tempus semper, est quam pharetra magna, ac consequat metus sapien ut nunc. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Mauris viverra diam vitae quam. Suspendisse potenti.', '2022-11-01 17:07:43', 'Tammara', '2022-05-06 11:46:04', 'Annabela');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (225, 74, 'Maecenas leo odio, condimentum id, luctus nec, molestie sed, justo. Pellentesque viverra pede ac diam. Cras pellentesque volutpat dui.', '2022-01-14 19:16:45', 'Andrei', '2022-11-11 19:05:10', 'Engelbert');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (226, 52, 'Sed ante. Vivamus tortor. Duis mattis egestas metus.', '2022-12-14 21:36:41', 'Arie', '2022-04-01 23:29:03', 'Alano');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (227, 51, 'Maecenas ut massa quis augue luctus tincidunt. Nulla mollis molestie lorem. Quisque ut erat.', '2022-12-03 16:55:12', 'Sonnie', '2022-03-02 07:04:59', 'Gavrielle');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (228, 62, 'Nulla ut erat id mauris vulputate elementum. Nullam varius. Nulla facilisi.', '2021-12-21 22:39:46', 'Kayley', '2022-01-08 08:38:49', 'Harp');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (229, 79, 'Curabitur gravida nisi at nibh. In hac habitasse platea dictumst. Aliquam augue quam, sollicitudin vitae, consectetuer eget, rutrum at, lorem.', '2022-08-31 07:26:50', 'Jordan', '2022-02-11 18:33:57', 'Grannie');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (230, 55, 'Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus. Vivamus vestibulum sagittis sapien. Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus.', '2022-10-27 23:00:02', 'Garik', '2022-11-09 18:39:11', 'Edie');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (231, 79, 'Etiam vel augue. Vestibulum rutrum rutrum neque. Aenean auctor gravida sem.', '2022-05-11 11:30:38', 'Osborn', '2022-07-01 23:23:07', 'Andie');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (232, 2, 'Proin leo odio, porttitor id, consequat in, consequat ut, nulla. Sed accumsan felis. Ut at dolor quis odio consequat varius.', '2022-02-13 16:31:27', 'Georgeanne', '2022-06-06 23:20:03', 'Ellis');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (233, 50, 'Duis bibendum. Morbi non quam nec dui luctus rutrum. Nulla tellus.', '2022-06-16 09:03:08', 'Niels', '2022-03-25 15:29:31', 'Hyacinth');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (234, 2, 'Duis bibendum. Morbi non quam nec dui luctus rutrum. Nulla tellus.', '2022-02-07 22:33:33', 'Nevsa', '2022-04-28 04:28:24', 'Dosi');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (235, 55, 'In hac habitasse platea dictumst. Etiam faucibus cursus urna. Ut tellus.', '2022-01-08 01:58:52', 'Claudian', '2022-06-18 12:21:41', 'Leroi');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (236, 53, 'Integer tincidunt ante vel ipsum. Praesent blandit lacinia erat. Vestibulum sed magna at nunc commodo placerat.', '2022-07-20 18:33:44', 'Cosette', '2022-03-02 14:13:40', 'Ottilie');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (237, 48, 'Curabitur in libero ut massa volutpat convallis. Morbi odio odio, elementum eu, interdum eu, tincidunt in, leo. Maecenas pulvinar lobortis est.', '2022-03-12 13:16:23', 'Gardy', '2022-10-13 11:35:19', 'Ophelie');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (238, 67, 'Nam ultrices, libero non mattis pulvinar, nulla pede ullamcorper augue, a suscipit nulla elit ac nulla. Sed vel enim sit amet nunc viverra dapibus. Nulla suscipit ligula in lacus.', '2022-12-04 13:23:32', 'Haywood', '2022-02-27 08:14:14', 'Denna');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (239, 50, 'Aenean lectus. Pellentesque eget nunc. Donec quis orci eget orci vehicula condimentum.', '2022-09-22 01:52:56', 'Marcelia', '2022-12-07 22:06:06', 'Morten');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (240, 9, 'Integer tincidunt ante vel ipsum. Praesent blandit lacinia erat. Vestibulum sed magna at nunc commodo placerat.', '2022-02-04 16:01:53', 'Greg', '2022-03-26 22:00:32', 'Raff');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (241, 67, 'Maecenas leo odio, condimentum id, luctus nec, molestie sed, justo. Pellentesque viverra pede ac diam. Cras pellentesque volutpat dui.', '2022-05-24 10:54:20', 'Maury', '2022-05-10 06:27:27', 'Torie');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (242, 63, 'Duis bibendum. Morbi non quam nec dui luctus rutrum. Nulla tellus.', '2022-04-27 02:28:11', 'Roxy', '2022-12-13 23:09:37', 'Shane');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (243, 85, 'Maecenas tristique, est et tempus semper, est quam pharetra magna, ac consequat metus sapien ut nunc. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Mauris viverra diam vitae quam. Suspendisse potenti.', '2022-01-08 23:20:56', 'Shena', '2022-10-03 04:18:10', 'Dilly');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (244, 86, 'Proin leo odio, porttitor id, consequat in, consequat ut, nulla. Sed accumsan felis. Ut at dolor quis odio consequat varius.', '2022-08-21 02:38:31', 'Stillmann', '2022-11-06 14:58:07', 'Kendrick');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (245, 4, 'Curabitur at ipsum ac tellus semper interdum. Mauris ullamcorper purus sit amet nulla. Quisque arcu libero, rutrum ac, lobortis vel, dapibus at, diam.', '2022-03-25 22:34:22', 'Carola', '2022-08-13 21:50:00', 'Amity');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (246, 33, 'Morbi porttitor lorem id ligula. Suspendisse ornare consequat lectus. In est risus, auctor sed, tristique in, tempus sit amet, sem.', '2022-11-13 07:07:36', 'Roarke', '2022-10-20 20:06:20', 'Ollie');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (247, 39, 'In hac habitasse platea dictumst. Etiam faucibus cursus urna. Ut tellus.', '2022-04-13 12:43:08', 'Torrie', '2022-02-09 17:27:18', 'Nerty');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (248, 30, 'Cras mi pede, malesuada in, imperdiet et, commodo vulputate, justo. In blandit ultrices enim. Lorem ipsum dolor sit amet, consectetuer adipiscing elit.', '2022-10-28 13:32:04', 'Elfie', '2022-06-16 23:42:27', 'Cchaddie');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (249, 8, 'Proin eu mi. Nulla ac enim. In tempor, turpis nec euismod scelerisque, quam turpis adipiscing lorem, vitae mattis nibh ligula nec sem.', '2022-07-08 15:46:42', 'Kikelia', '2022-01-19 20:31:26', 'Haleigh');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (250, 20, 'Integer ac leo. Pellentesque ultrices mattis odio. Donec vitae nisi.', '2022-06-15 14:26:14', 'Hetti', '2022-02-07 12:11:15', 'Dal');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (251, 13, 'Aenean lectus. Pellentesque eget nunc. Donec quis orci eget orci vehicula condimentum.', '2022-02-04 02:11:53', 'Elly', '2022-09-29 10:34:57', 'Nichole');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (252, 62, 'Mauris enim leo, rhoncus sed, vestibulum sit amet, cursus id, turpis. Integer aliquet, massa id lobortis convallis, tortor risus dapibus augue, vel accumsan tellus nisi eu orci. Mauris lacinia sapien quis libero.', '2022-03-28 13:09:52', 'Ronny', '2022-05-22 08:28:27', 'Inge');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (253, 3, 'Proin leo odio, porttitor id, consequat in, consequat ut, nulla. Sed accumsan felis. Ut at dolor quis odio consequat varius.', '2022-09-25 23:57:18', 'Kelwin', '2022-01-14 11:19:13', 'Carolina');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (254, 12, 'Duis bibendum. Morbi non quam nec dui luctus rutrum. Nulla tellus.', '2022-07-08 10:39:53', 'Kerk', '2022-11-03 05:39:54', 'Eveline');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (255, 93, 'Nam ultrices, libero non mattis pulvinar, nulla pede ullamcorper augue, a suscipit nulla elit ac nulla. Sed vel enim sit amet nunc viverra dapibus. Nulla suscipit ligula in lacus.', '2022-05-23 03:48:38', 'Kirby', '2022-05-09 02:48:50', 'Rubi');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (256, 26, 'Aliquam quis turpis eget elit sodales scelerisque. Mauris sit amet eros. Suspendisse accumsan tortor quis turpis.', '2022-04-08 21:07:41', 'Annette', '2022-01-06 05:16:54', 'Gerard');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (257, 69, 'Integer ac leo. Pellentesque ultrices mattis odio. Donec vitae nisi.', '2022-02-17 03:28:48', 'Rudie', '2022-11-28 23:06:45', 'Caressa');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (258, 70, 'Vestibulum ac est lacinia nisi venenatis tristique. Fusce congue, diam id ornare imperdiet, sapien urna pretium nisl, ut volutpat sapien arcu sed augue. Aliquam erat volutpat.', '2022-10-08 11:02:32', 'Clarence', '2022-03-12 11:57:42', 'Orv');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (259, 95, 'Curabitur gravida nisi at nibh. In hac habitasse platea dictumst. Aliquam augue quam, sollicitudin vitae, consectetuer eget, rutrum at, lorem.', '2022-06-16 20:07:14', 'Theresita', '2022-06-17 15:40:36', 'Tallie');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (260, 40, 'Nullam porttitor lacus at turpis. Donec posuere metus vitae ipsum. Aliquam non mauris.', '2022-01-07 06:23:17', 'Nell', '2022-05-06 12:16:31', 'Celinda');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (261, 24, 'Fusce consequat. Nulla nisl. Nunc nisl.', '2022-01-09 13:40:43', 'Pru', '2022-08-09 11:33:48', 'Nikaniki');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (262, 98, 'Quisque porta volutpat erat. Quisque erat eros, viverra eget, congue eget, semper rutrum, nulla. Nunc purus.', '2022-03-31 23:19:46', 'Elwira', '2022-09-27 20:12:00', 'Layla');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (263, 19, 'Morbi porttitor lorem id ligula. Suspendisse ornare consequat lectus. In est risus, auctor sed, tristique in, tempus sit amet, sem.', '2022-07-29 11:19:40', 'Freddy', '2022-01-02 18:18:10', 'Ulberto');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (264, 95, 'Curabitur at ipsum ac tellus semper interdum. Mauris ullamcorper purus sit amet nulla. Quisque arcu libero, rutrum ac, lobortis vel, dapibus at, diam.', '2022-07-10 16:48:15', 'Martie', '2022-11-29 07:32:28', 'Cassius');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (265, 39, 'Nullam sit amet turpis elementum ligula vehicula consequat. Morbi a ipsum. Integer a nibh.', '2022-07-04 04:01:04', 'Garold', '2022-03-14 18:02:34', 'Nathanil');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (266, 40, 'Cras non velit nec nisi vulputate nonummy. Maecenas tincidunt lacus at velit. Vivamus vel nulla eget eros elementum pellentesque.', '2022-12-01 10:13:11', 'Dorree', '2022-09-11 14:14:00', 'Guillermo');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (267, 54, 'Curabitur in libero ut massa volutpat convallis. Morbi odio odio, elementum eu, interdum eu, tincidunt in, leo. Maecenas pulvinar lobortis est.', '2022-10-16 06:58:59', 'Price', '2022-05-27 21:19:18', 'Davide');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (268, 23, 'Curabitur gravida nisi at nibh. In hac habitasse platea dictumst. Aliquam augue quam, sollicitudin vitae, consectetuer eget, rutrum at, lorem.', '2022-05-06 13:29:57', 'Gustaf', '2022-07-13 04:53:23', 'Eric');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (269, 53, 'Curabitur at ipsum ac tellus semper interdum. Mauris ullamcorper purus sit amet nulla. Quisque arcu libero, rutrum ac, lobortis vel, dapibus at, diam.', '2022-07-25 05:01:00', 'Dorothea', '2022-12-13 09:43:18', 'Darill');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (270, 37, 'Duis bibendum, felis sed interdum venenatis, turpis enim blandit mi, in porttitor pede justo eu massa. Donec dapibus. Duis at velit eu est congue elementum.', '2022-10-05 16:34:00', 'Dana', '2022-01-10 13:23:32', 'Weidar');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (271, 27, 'Praesent id massa id nisl venenatis lacinia. Aenean sit amet justo. Morbi ut odio.', '2022-12-06 03:31:25', 'Imogene', '2022-07-04 05:33:42', 'Tad');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (272, 45, 'Lorem ipsum dolor sit amet, consectetuer adipiscing elit. Proin risus. Praesent lectus.', '2021-12-31 06:46:03', 'Guthrey', '2022-09-30 18:28:13', 'Yasmin');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (273, 57, 'Sed ante. Vivamus tortor. Duis mattis egestas metus.', '2022-02-10 16:44:30', 'Reade', '2022-03-23 00:47:28', 'Audie');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (274, 38, 'Curabitur at ipsum ac tellus semper interdum. Mauris ullamcorper purus sit amet nulla. Quisque arcu libero, rutrum ac, lobortis vel, dapibus at, diam.', '2022-06-28 17:41:50', 'Jeff', '2022-01-24 08:14:28', 'Bryce');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (275, 67, 'In hac habitasse platea dictumst. Etiam faucibus cursus urna. Ut tellus.', '2022-01-19 15:50:01', 'Hailey', '2022-01-18 08:44:31', 'Avram');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (276, 50, 'Integer tincidunt ante vel ipsum. Praesent blandit lacinia erat. Vestibulum sed magna at nunc commodo placerat.', '2022-07-12 01:25:12', 'Isacco', '2022-06-19 20:43:51', 'Ara');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (277, 36, 'Duis aliquam convallis nunc. Proin at turpis a pede posuere nonummy. Integer non velit.', '2021-12-23 10:59:55', 'Louie', '2022-03-02 12:49:21', 'Gilbert');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (278, 93, 'Curabitur gravida nisi at nibh. In hac habitasse platea dictumst. Aliquam augue quam, sollicitudin vitae, consectetuer eget, rutrum at, lorem.', '2022-10-04 03:05:21', 'Gabie', '2022-10-15 08:52:09', 'Constantine');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (279, 47, 'Curabitur gravida nisi at nibh. In hac habitasse platea dictumst. Aliquam augue quam, sollicitudin vitae, consectetuer eget, rutrum at, lorem.', '2022-02-05 22:37:29', 'Gwendolin', '2022-04-21 10:51:28', 'Krista');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (280, 78, 'Phasellus in felis. Donec semper sapien a libero. Nam dui.', '2022-12-19 12:01:41', 'Fredric', '2022-09-05 00:07:06', 'Drucill');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (281, 29, 'Nullam sit amet turpis elementum ligula vehicula consequat. Morbi a ipsum. Integer a nibh.', '2022-03-04 14:30:17', 'Town', '2022-07-25 14:29:28', 'Aprilette');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (282, 46, 'Maecenas tristique, est et tempus semper, est quam pharetra magna, ac consequat metus sapien ut nunc. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Mauris viverra diam vitae quam. Suspendisse potenti.', '2022-11-15 15:14:00', 'Marchelle', '2022-02-07 14:04:21', 'Griffin');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (283, 41, 'Etiam vel augue. Vestibulum rutrum rutrum neque. Aenean auctor gravida sem.', '2022-12-04 00:48:22', 'Roarke', '2022-12-02 11:30:08', 'Myrwyn');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (284, 80, 'Curabitur gravida nisi at nibh. In hac habitasse platea dictumst. Aliquam augue quam, sollicitudin vitae, consectetuer eget, rutrum at, lorem.', '2022-11-15 08:57:02', 'Fanchon', '2022-08-16 02:43:45', 'Liana');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (285, 28, 'In hac habitasse platea dictumst. Morbi vestibulum, velit id pretium iaculis, diam erat fermentum justo, nec condimentum neque sapien placerat ante. Nulla justo.', '2022-05-18 04:52:45', 'Ondrea', '2022-06-13 05:27:32', 'Sandye');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (286, 83, 'Aliquam quis turpis eget elit sodales scelerisque. Mauris sit amet eros. Suspendisse accumsan tortor quis turpis.', '2022-10-11 03:40:33', 'Ronna', '2022-07-12 02:52:54', 'Royal');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (287, 11, 'Duis bibendum, felis sed interdum venenatis, turpis enim blandit mi, in porttitor pede justo eu massa. Donec dapibus. Duis at velit eu est congue elementum.', '2022-12-18 05:43:22', 'Dalton', '2022-06-15 01:05:32', 'Jeffrey');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (288, 30, 'Aenean lectus. Pellentesque eget nunc. Donec quis orci eget orci vehicula condimentum.', '2022-08-29 13:44:38', 'Myron', '2022-02-23 08:44:59', 'Jacki');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (289, 51, 'Mauris enim leo, rhoncus sed, vestibulum sit amet, cursus id, turpis. Integer aliquet, massa id lobortis convallis, tortor risus dapibus augue, vel accumsan tellus nisi eu orci. Mauris lacinia sapien quis libero.', '2022-09-18 10:08:06', 'Inge', '2022-06-03 01:59:04', 'Melonie');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (290, 22, 'Integer tincidunt ante vel ipsum. Praesent blandit lacinia erat. Vestibulum sed magna at nunc commodo placerat.', '2022-02-16 06:48:18', 'Annalee', '2022-04-08 08:29:46', 'Terrye');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (291, 54, 'Proin leo odio, porttitor id, consequat in, consequat ut, nulla. Sed accumsan felis. Ut at dolor quis odio consequat varius.', '2022-10-30 22:32:15', 'Orazio', '2022-11-30 06:06:20', 'Tris');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (292, 52, 'Phasellus sit amet erat. Nulla tempus. Vivamus in felis eu sapien cursus vestibulum.', '2022-11-21 08:57:11', 'Jena', '2022-03-22 05:28:41', 'Shelley');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (293, 93, 'Duis bibendum, felis sed interdum venenatis, turpis enim blandit mi, in porttitor pede justo eu massa. Donec dapibus. Duis at velit eu est congue elementum.', '2022-04-03 00:07:53', 'Winn', '2022-08-08 19:36:56', 'Courtney');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (294, 84, 'Phasellus sit amet erat. Nulla tempus. Vivamus in felis eu sapien cursus vestibulum.', '2021-12-23 15:07:31', 'Anjela', '2022-08-06 14:53:09', 'Burl');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (295, 29, 'Nam ultrices, libero non mattis pulvinar, nulla pede ullamcorper augue, a suscipit nulla elit ac nulla. Sed vel enim sit amet nunc viverra dapibus. Nulla suscipit ligula in lacus.', '2022-02-23 22:46:38', 'Sauveur', '2022-12-02 17:05:00', 'Andree');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (296, 83, 'In congue. Etiam justo. Etiam pretium iaculis justo.', '2022-11-09 16:58:41', 'Rosene', '2022-05-24 12:26:30', 'Pierrette');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (297, 69, 'In quis justo. Maecenas rhoncus aliquam lacus. Morbi quis tortor id nulla ultrices aliquet.', '2022-05-12 19:34:30', 'Padraig', '2022-08-14 21:38:49', 'Domenico');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (298, 59, 'Morbi non lectus. Aliquam sit amet diam in magna bibendum imperdiet. Nullam orci pede, venenatis non, sodales sed, tincidunt eu, felis.', '2022-05-23 22:22:22', 'Gabriel', '2022-03-12 02:17:11', 'Bridget');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (299, 91, 'Aenean fermentum. Donec ut mauris eget massa tempor convallis. Nulla neque libero, convallis eget, eleifend luctus, ultricies eu, nibh.', '2022-02-08 02:56:42', 'Hubey', '2022-03-17 09:42:34', 'Merrile');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (300, 9, 'In hac habitasse platea dictumst. Morbi vestibulum, velit id pretium iaculis, diam erat fermentum justo, nec condimentum neque sapien placerat ante. Nulla justo.', '2022-01-04 04:18:07', 'Olwen', '2022-07-19 06:50:32', 'Sibby');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (301, 44, 'Duis consequat dui nec nisi volutpat eleifend. Donec ut dolor. Morbi vel lectus in quam fringilla rhoncus.', '2022-07-30 23:23:00', 'Margalit', '2022-03-18 07:27:19', 'Kristofor');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (302, 27, 'In congue. Etiam justo. Etiam pretium iaculis justo.', '2022-05-21 16:38:05', 'Christoforo', '2022-06-01 06:12:10', 'Fanny');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (303, 35, 'Phasellus sit amet erat. Nulla tempus. Vivamus in felis eu sapien cursus vestibulum.', '2022-02-22 19:09:41', 'Joanie', '2022-07-22 10:47:08', 'Rouvin');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (304, 67, 'Morbi non lectus. Aliquam sit amet diam in magna bibendum imperdiet. Nullam orci pede, venenatis non, sodales sed, tincidunt eu, felis.', '2022-08-14 10:52:58', 'Corri', '2022-09-07 10:07:13', 'Darrel');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (305, 93, 'Nullam sit amet turpis elementum ligula vehicula consequat. Morbi a ipsum. Integer a nibh.', '2022-06-27 12:00:59', 'Tedda', '2022-05-03 20:37:02', 'Ebony');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (306, 45, 'Curabitur at ipsum ac tellus semper interdum. Mauris ullamcorper purus sit amet nulla. Quisque arcu libero, rutrum ac, lobortis vel, dapibus at, diam.', '2022-12-15 22:05:43', 'Norby', '2022-07-07 16:24:20', 'Hillery');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (307, 7, 'Curabitur at ipsum ac tellus semper interdum. Mauris ullamcorper purus sit amet nulla. Quisque arcu libero, rutrum ac, lobortis vel, dapibus at, diam.', '2022-10-13 11:20:52', 'Rosalyn', '2022-07-06 13:00:37', 'Jacklin');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (308, 79, 'Proin leo odio, porttitor id, consequat in, consequat ut, nulla. Sed accumsan felis. Ut at dolor quis odio consequat varius.', '2022-09-02 18:58:33', 'Petey', '2021-12-28 11:26:26', 'Thain');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (309, 89, 'Phasellus sit amet erat. Nulla tempus. Vivamus in felis eu sapien cursus vestibulum.', '2022-03-28 20:56:36', 'Duffy', '2022-05-08 04:38:01', 'Dur');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (310, 94, 'Integer tincidunt ante vel ipsum. Praesent blandit lacinia erat. Vestibulum sed magna at nunc commodo placerat.', '2022-01-25 14:56:31', 'Faunie', '2022-03-05 01:44:30', 'Felic');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (311, 90, 'Nulla ut erat id mauris vulputate elementum. Nullam varius. Nulla facilisi.', '2022-09-13 09:11:14', 'Ginnifer', '2022-03-31 06:03:20', 'Sheeree');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (312, 2, 'Phasellus sit amet erat. Nulla tempus. Vivamus in felis eu sapien cursus vestibulum.', '2022-05-13 01:49:04', 'Faina', '2022-02-25 07:28:52', 'Evanne');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (313, 39, 'Proin eu mi. Nulla ac enim. In tempor, turpis nec euismod scelerisque, quam turpis adipiscing lorem, vitae mattis nibh ligula nec sem.', '2021-12-31 23:28:23', 'Roman', '2022-12-15 20:02:04', 'Howie');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (314, 5, 'Duis aliquam convallis nunc. Proin at turpis a pede posuere nonummy. Integer non velit.', '2022-02-25 21:37:19', 'Angus', '2022-05-30 21:02:02', 'Carola');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (315, 7, 'Proin leo odio, porttitor id, consequat in, consequat ut, nulla. Sed accumsan felis. Ut at dolor quis odio consequat varius.', '2022-01-23 17:01:58', 'Angela', '2022-01-06 11:33:38', 'Jenelle');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (316, 47, 'In hac habitasse platea dictumst. Etiam faucibus cursus urna. Ut tellus.', '2022-10-20 22:35:09', 'Teena', '2022-10-11 13:16:32', 'Jayme');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (317, 62, 'Integer tincidunt ante vel ipsum. Praesent blandit lacinia erat. Vestibulum sed magna at nunc commodo placerat.', '2022-11-30 07:08:06', 'Janis', '2022-08-21 10:30:56', 'Padgett');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (318, 69, 'Phasellus sit amet erat. Nulla tempus. Vivamus in felis eu sapien cursus vestibulum.', '2022-11-17 06:06:32', 'Linea', '2022-06-25 14:46:48', 'Codee');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (319, 57, 'Nullam sit amet turpis elementum ligula vehicula consequat. Morbi a ipsum. Integer a nibh.', '2022-07-14 00:27:28', 'Joshuah', '2022-07-28 17:31:04', 'Patsy');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (320, 59, 'Morbi porttitor lorem id ligula. Suspendisse ornare consequat lectus. In est risus, auctor sed, tristique in, tempus sit amet, sem.', '2022-10-16 21:38:12', 'Aeriel', '2022-08-18 07:57:50', 'Conant');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (321, 61, 'Phasellus sit amet erat. Nulla tempus. Vivamus in felis eu sapien cursus vestibulum.', '2022-11-01 22:02:51', 'Selina', '2022-10-21 09:17:11', 'Marco');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (322, 82, 'Donec diam neque, vestibulum eget, vulputate ut, ultrices vel, augue. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Donec pharetra, magna vestibulum aliquet ultrices, erat tortor sollicitudin mi, sit amet lobortis sapien sapien non mi. Integer ac neque.', '2022-01-28 16:15:40', 'Collen', '2022-01-29 01:49:42', 'John');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (323, 5, 'Integer tincidunt ante vel ipsum. Praesent blandit lacinia erat. Vestibulum sed magna at nunc commodo placerat.', '2022-03-17 18:56:25', 'Hyatt', '2022-05-08 16:26:37', 'Gwen');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (324, 76, 'Vestibulum quam sapien, varius ut, blandit non, interdum in, ante. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Duis faucibus accumsan odio. Curabitur convallis.', '2022-09-15 14:49:32', 'Sherm', '2021-12-29 03:31:48', 'Camila');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (325, 53, 'Fusce consequat. Nulla nisl. Nunc nisl.', '2022-05-25 14:18:38', 'Ty', '2022-08-06 03:46:48', 'Louisa');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (326, 13, 'Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus. Vivamus vestibulum sagittis sapien. Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus.', '2022-03-11 11:36:56', 'Brit', '2022-08-10 10:09:47', 'Dory');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (327, 41, 'In hac habitasse platea dictumst. Morbi vestibulum, velit id pretium iaculis, diam erat fermentum justo, nec condimentum neque sapien placerat ante. Nulla justo.', '2022-06-07 02:37:30', 'Millisent', '2022-05-21 09:29:27', 'Dav');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (328, 68, 'Suspendisse potenti. In eleifend quam a odio. In hac habitasse platea dictumst.', '2022-04-06 00:23:44', 'Alvie', '2022-03-17 02:49:25', 'Krystle');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (329, 19, 'Vestibulum ac est lacinia nisi venenatis tristique. Fusce congue, diam id ornare imperdiet, sapien urna pretium nisl, ut volutpat sapien arcu sed augue. Aliquam erat volutpat.', '2022-07-02 22:56:30', 'Will', '2022-06-16 23:49:25', 'Loren');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (330, 94, 'Nullam sit amet turpis elementum ligula vehicula consequat. Morbi a ipsum. Integer a nibh.', '2022-01-26 10:36:02', 'Winne', '2022-11-24 13:22:58', 'Mohandas');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (331, 72, 'Vestibulum quam sapien, varius ut, blandit non, interdum in, ante. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Duis faucibus accumsan odio. Curabitur convallis.', '2022-06-13 00:11:54', 'Jerrold', '2022-05-16 18:38:07', 'Noe');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (332, 1, 'Duis bibendum, felis sed interdum venenatis, turpis enim blandit mi, in porttitor pede justo eu massa. Donec dapibus. Duis at velit eu est congue elementum.', '2022-11-07 05:49:43', 'Arther', '2022-06-29 18:34:28', 'Pansie');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (333, 85, 'Phasellus sit amet erat. Nulla tempus. Vivamus in felis eu sapien cursus vestibulum.', '2022-05-27 11:00:53', 'Ailbert', '2022-10-08 20:10:38', 'Maegan');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (334, 68, 'Vestibulum quam sapien, varius ut, blandit non, interdum in, ante. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Duis faucibus accumsan odio. Curabitur convallis.', '2022-11-21 14:18:17', 'Staffard', '2022-09-21 12:10:12', 'Rad');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (335, 50, 'Maecenas ut massa quis augue luctus tincidunt. Nulla mollis molestie lorem. Quisque ut erat.', '2022-03-01 00:33:54', 'Ignazio', '2022-12-02 00:20:16', 'Agneta');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (336, 42, 'Integer tincidunt ante vel ipsum. Praesent blandit lacinia erat. Vestibulum sed magna at nunc commodo placerat.', '2022-01-14 11:05:51', 'Pammie', '2022-09-18 23:15:35', 'Forest');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (337, 15, 'Duis aliquam convallis nunc. Proin at turpis a pede posuere nonummy. Integer non velit.', '2022-12-17 12:12:16', 'Mychal', '2022-04-23 02:55:24', 'Archaimbaud');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (338, 57, 'Aenean fermentum. Donec ut mauris eget massa tempor convallis. Nulla neque libero, convallis eget, eleifend luctus, ultricies eu, nibh.', '2022-08-15 08:05:40', 'Rafaelia', '2022-06-04 08:15:32', 'Sasha');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (339, 55, 'Curabitur in libero ut massa volutpat convallis. Morbi odio odio, elementum eu, interdum eu, tincidunt in, leo. Maecenas pulvinar lobortis est.', '2021-12-27 12:01:43', 'Sauveur', '2022-08-29 20:37:40', 'Willyt');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (340, 13, 'Lorem ipsum dolor sit amet, consectetuer adipiscing elit. Proin risus. Praesent lectus.', '2022-11-06 13:48:03', 'Theadora', '2022-10-22 01:52:19', 'Brita');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (341, 63, 'In hac habitasse platea dictumst. Morbi vestibulum, velit id pretium iaculis, diam erat fermentum justo, nec condimentum neque sapien placerat ante. Nulla justo.', '2022-12-12 09:25:24', 'Suellen', '2022-05-10 07:00:00', 'Cahra');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (342, 46, 'Integer ac leo. Pellentesque ultrices mattis odio. Donec vitae nisi.', '2022-04-15 10:27:10', 'Dorian', '2022-05-29 23:30:10', 'Melloney');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (343, 97, 'Sed ante. Vivamus tortor. Duis mattis egestas metus.', '2022-07-13 19:58:23', 'Markus', '2022-09-18 22:02:59', 'Nanice');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (344, 63, 'Lorem ipsum dolor sit amet, consectetuer adipiscing elit. Proin risus. Praesent lectus.', '2022-10-01 18:53:41', 'Betteann', '2022-05-23 08:44:37', 'Barnabas');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (345, 88, 'Duis aliquam convallis nunc. Proin at turpis a pede posuere nonummy. Integer non velit.', '2022-02-13 07:39:57', 'Alejandro', '2022-06-02 12:23:22', 'Saundra');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (346, 82, 'Sed ante. Vivamus tortor. Duis mattis egestas metus.', '2022-10-15 04:07:14', 'Ellwood', '2022-05-28 18:07:06', 'Cassey');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (347, 29, 'Duis bibendum, felis sed interdum venenatis, turpis enim blandit mi, in porttitor pede justo eu massa. Donec dapibus. Duis at velit eu est congue elementum.', '2021-12-31 22:02:05', 'Ynes', '2022-09-10 17:35:36', 'Gayel');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (348, 46, 'Mauris enim leo, rhoncus sed, vestibulum sit amet, cursus id, turpis. Integer aliquet, massa id lobortis convallis, tortor risus dapibus augue, vel accumsan tellus nisi eu orci. Mauris lacinia sapien quis libero.', '2022-08-19 01:34:24', 'Tonie', '2022-08-13 23:07:14', 'Beret');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (349, 8, 'Quisque id justo sit amet sapien dignissim vestibulum. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Nulla dapibus dolor vel est. Donec odio justo, sollicitudin ut, suscipit a, feugiat et, eros.', '2022-03-11 13:17:19', 'Nanon', '2022-11-25 22:48:35', 'Tish');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (350, 6, 'Etiam vel augue. Vestibulum rutrum rutrum neque. Aenean auctor gravida sem.', '2022-08-31 16:06:38', 'Molly', '2022-06-29 00:39:16', 'Selinda');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (351, 77, 'Cras non velit nec nisi vulputate nonummy. Maecenas tincidunt lacus at velit. Vivamus vel nulla eget eros elementum pellentesque.', '2022-11-30 07:24:58', 'Josephine', '2022-05-18 21:48:50', 'Borg');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (352, 80, 'Cras non velit nec nisi vulputate nonummy. Maecenas tincidunt lacus at velit. Vivamus vel nulla eget eros elementum pellentesque.', '2022-11-25 05:56:48', 'Maire', '2022-04-23 16:41:28', 'Priscilla');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (353, 74, 'Curabitur gravida nisi at nibh. In hac habitasse platea dictumst. Aliquam augue quam, sollicitudin vitae, consectetuer eget, rutrum at, lorem.', '2022-01-22 07:31:24', 'Yuri', '2022-08-15 15:15:05', 'Johnny');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (354, 92, 'In sagittis dui vel nisl. Duis ac nibh. Fusce lacus purus, aliquet at, feugiat non, pretium quis, lectus.', '2022-05-11 11:43:36', 'Pia', '2022-05-30 02:35:38', 'Gran');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (355, 17, 'Morbi non lectus. Aliquam sit amet diam in magna bibendum imperdiet. Nullam orci pede, venenatis non, sodales sed, tincidunt eu, felis.', '2022-10-03 05:27:25', 'Ximenes', '2022-01-07 21:19:53', 'Lindsey');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (356, 54, 'Aenean fermentum. Donec ut mauris eget massa tempor convallis. Nulla neque libero, convallis eget, eleifend luctus, ultricies eu, nibh.', '2022-10-05 20:48:37', 'Georgi', '2022-06-20 18:36:17', 'Ogden');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (357, 45, 'In congue. Etiam justo. Etiam pretium iaculis justo.', '2022-12-04 16:48:11', 'Johan', '2022-04-06 11:10:10', 'Gabrila');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (358, 70, 'Sed sagittis. Nam congue, risus semper porta volutpat, quam pede lobortis ligula, sit amet eleifend pede libero quis orci. Nullam molestie nibh in lectus.', '2022-04-23 04:24:07', 'Humfrid', '2022-07-07 20:38:53', 'Angelico');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (359, 18, 'In hac habitasse platea dictumst. Etiam faucibus cursus urna. Ut tellus.', '2022-07-07 13:28:37', 'Jayme', '2022-01-04 17:37:49', 'Zenia');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (360, 63, 'Sed sagittis. Nam congue, risus semper porta volutpat, quam pede lobortis ligula, sit amet eleifend pede libero quis orci. Nullam molestie nibh in lectus.', '2022-06-24 20:47:55', 'Jeniece', '2022-09-28 07:43:08', 'Faun');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (361, 60, 'Aliquam quis turpis eget elit sodales scelerisque. Mauris sit amet eros. Suspendisse accumsan tortor quis turpis.', '2022-09-05 21:31:51', 'Mac', '2022-11-25 22:07:09', 'Beatriz');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (362, 98, 'Pellentesque at nulla. Suspendisse potenti. Cras in purus eu magna vulputate luctus.', '2022-07-05 16:15:44', 'Siegfried', '2022-09-15 17:47:46', 'Sari');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (363, 35, 'Fusce posuere felis sed lacus. Morbi sem mauris, laoreet ut, rhoncus aliquet, pulvinar sed, nisl. Nunc rhoncus dui vel sem.', '2022-10-02 12:28:38', 'Georges', '2022-04-03 08:23:48', 'Valeria');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (364, 42, 'Suspendisse potenti. In eleifend quam a odio. In hac habitasse platea dictumst.', '2022-07-22 17:08:04', 'Thea', '2022-05-26 01:08:06', 'Danit');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (365, 26, 'Lorem ipsum dolor sit amet, consectetuer adipiscing elit. Proin risus. Praesent lectus.', '2022-03-13 18:23:10', 'Noell', '2022-01-30 09:35:52', 'Aleece');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (366, 79, 'Nam ultrices, libero non mattis pulvinar, nulla pede ullamcorper augue, a suscipit nulla elit ac nulla. Sed vel enim sit amet nunc viverra dapibus. Nulla suscipit ligula in lacus.', '2022-12-13 06:43:47', 'Scotti', '2022-12-15 00:57:33', 'Kaiser');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (367, 93, 'Praesent id massa id nisl venenatis lacinia. Aenean sit amet justo. Morbi ut odio.', '2022-01-08 16:29:30', 'Garik', '2022-01-22 07:01:59', 'Lira');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (368, 11, 'Vestibulum ac est lacinia nisi venenatis tristique. Fusce congue, diam id ornare imperdiet, sapien urna pretium nisl, ut volutpat sapien arcu sed augue. Aliquam erat volutpat.', '2022-10-14 12:05:31', 'Romonda', '2022-01-23 23:01:44', 'Harlen');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (369, 67, 'Mauris enim leo, rhoncus sed, vestibulum sit amet, cursus id, turpis. Integer aliquet, massa id lobortis convallis, tortor risus dapibus augue, vel accumsan tellus nisi eu orci. Mauris lacinia sapien quis libero.', '2022-07-12 11:56:09', 'Renie', '2022-07-25 14:20:46', 'Christie');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (370, 29, 'Maecenas tristique, est et tempus semper, est quam pharetra magna, ac consequat metus sapien ut nunc. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Mauris viverra diam vitae quam. Suspendisse potenti.', '2022-10-22 01:51:48', 'Idette', '2022-03-10 23:00:48', 'Sascha');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (371, 49, 'Vestibulum ac est lacinia nisi venenatis tristique. Fusce congue, diam id ornare imperdiet, sapien urna pretium nisl, ut volutpat sapien arcu sed augue. Aliquam erat volutpat.', '2022-09-28 04:05:14', 'Scottie', '2022-12-04 02:15:40', 'Desdemona');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (372, 79, 'Vestibulum ac est lacinia nisi venenatis tristique. Fusce congue, diam id ornare imperdiet, sapien urna pretium nisl, ut volutpat sapien arcu sed augue. Aliquam erat volutpat.', '2022-04-12 10:50:52', 'Shayla', '2022-05-29 04:23:37', 'Goldia');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (373, 85, 'Nullam porttitor lacus at turpis. Donec posuere metus vitae ipsum. Aliquam non mauris.', '2022-12-13 18:47:22', 'Galina', '2022-04-10 12:24:26', 'Krisha');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (374, 36, 'Maecenas tristique, est et tempus semper, est quam pharetra magna, ac consequat metus sapien ut nunc. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Mauris viverra diam vitae quam. Suspendisse potenti.', '2022-11-19 22:28:12', 'Mitzi', '2022-08-21 23:30:41', 'Adlai');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (375, 42, 'Proin leo odio, porttitor id, consequat in, consequat ut, nulla. Sed accumsan felis. Ut at dolor quis odio consequat varius.', '2022-10-10 11:53:57', 'Cathee', '2022-01-16 04:50:35', 'Cathee');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (376, 66, 'Quisque porta volutpat erat. Quisque erat eros, viverra eget, congue eget, semper rutrum, nulla. Nunc purus.', '2022-11-05 06:45:06', 'Waiter', '2022-01-05 02:54:37', 'Kath');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (377, 73, 'Maecenas leo odio, condimentum id, luctus nec, molestie sed, justo. Pellentesque viverra pede ac diam. Cras pellentesque volutpat dui.', '2022-07-17 05:33:45', 'Koo', '2022-10-07 06:58:52', 'Hasheem');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (378, 75, 'Quisque id justo sit amet sapien dignissim vestibulum. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Nulla dapibus dolor vel est. Donec odio justo, sollicitudin ut, suscipit a, feugiat et, eros.', '2022-07-03 13:28:50', 'Augusto', '2022-10-21 12:45:25', 'Daria');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (379, 59, 'Maecenas ut massa quis augue luctus tincidunt. Nulla mollis molestie lorem. Quisque ut erat.', '2022-06-28 15:25:54', 'Orelia', '2022-10-08 17:14:08', 'Ailyn');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (380, 47, 'In congue. Etiam justo. Etiam pretium iaculis justo.', '2022-04-25 09:25:37', 'Dore', '2022-11-18 04:13:34', 'Rollins');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (381, 89, 'Proin eu mi. Nulla ac enim. In tempor, turpis nec euismod scelerisque, quam turpis adipiscing lorem, vitae mattis nibh ligula nec sem.', '2022-06-27 04:09:56', 'Alidia', '2022-11-28 09:12:14', 'Wendye');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (382, 82, 'In sagittis dui vel nisl. Duis ac nibh. Fusce lacus purus, aliquet at, feugiat non, pretium quis, lectus.', '2022-07-19 17:49:44', 'Pearline', '2022-01-17 02:28:21', 'Stern');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (383, 73, 'Praesent blandit. Nam nulla. Integer pede justo, lacinia eget, tincidunt eget, tempus vel, pede.', '2022-06-15 04:37:15', 'Fulvia', '2022-09-03 23:35:05', 'Toddie');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (384, 48, 'In hac habitasse platea dictumst. Etiam faucibus cursus urna. Ut tellus.', '2022-03-02 06:27:44', 'Seward', '2022-09-26 02:53:38', 'Rhianon');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (385, 45, 'Maecenas ut massa quis augue luctus tincidunt. Nulla mollis molestie lorem. Quisque ut erat.', '2022-02-20 20:12:05', 'Barbee', '2022-06-23 17:28:17', 'Caesar');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (386, 79, 'Aenean lectus. Pellentesque eget nunc. Donec quis orci eget orci vehicula condimentum.', '2022-03-17 10:53:29', 'Dagmar', '2022-03-06 03:13:36', 'Jillene');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (387, 13, 'Integer ac leo. Pellentesque ultrices mattis odio. Donec vitae nisi.', '2022-04-10 03:18:53', 'Austine', '2022-02-06 03:28:29', 'Doralynne');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (388, 50, 'In sagittis dui vel nisl. Duis ac nibh. Fusce lacus purus, aliquet at, feugiat non, pretium quis, lectus.', '2022-06-16 23:42:00', 'Allison', '2022-07-20 16:13:07', 'Arnold');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (389, 97, 'Morbi porttitor lorem id ligula. Suspendisse ornare consequat lectus. In est risus, auctor sed, tristique in, tempus sit amet, sem.', '2022-03-08 15:57:21', 'Nicol', '2022-04-05 12:27:38', 'Rocky');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (390, 6, 'Nam ultrices, libero non mattis pulvinar, nulla pede ullamcorper augue, a suscipit nulla elit ac nulla. Sed vel enim sit amet nunc viverra dapibus. Nulla suscipit ligula in lacus.', '2022-10-05 07:17:51', 'Tades', '2022-10-20 16:49:48', 'Zorah');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (391, 11, 'Maecenas tristique, est et tempus semper, est quam pharetra magna, ac consequat metus sapien ut nunc. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Mauris viverra diam vitae quam. Suspendisse potenti.', '2022-01-14 09:18:04', 'Bobbye', '2022-06-24 12:08:40', 'Cassandre');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (392, 40, 'Nullam porttitor lacus at turpis. Donec posuere metus vitae ipsum. Aliquam non mauris.', '2022-01-16 00:00:08', 'Winston', '2022-01-16 23:38:30', 'Rochette');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (393, 41, 'Nullam sit amet turpis elementum ligula vehicula consequat. Morbi a ipsum. Integer a nibh.', '2022-04-27 01:07:36', 'Cedric', '2022-06-03 14:56:20', 'Elysia');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (394, 29, 'Lorem ipsum dolor sit amet, consectetuer adipiscing elit. Proin risus. Praesent lectus.', '2022-10-27 02:58:15', 'Van', '2022-06-20 23:45:38', 'Zelig');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (395, 96, 'Nam ultrices, libero non mattis pulvinar, nulla pede ullamcorper augue, a suscipit nulla elit ac nulla. Sed vel enim sit amet nunc viverra dapibus. Nulla suscipit ligula in lacus.', '2022-04-16 02:26:36', 'Gussie', '2022-12-15 02:11:54', 'Ches');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (396, 17, 'Fusce consequat. Nulla nisl. Nunc nisl.', '2022-03-04 12:50:08', 'Clementius', '2022-02-06 10:22:51', 'Vinny');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (397, 73, 'In congue. Etiam justo. Etiam pretium iaculis justo.', '2022-09-12 20:21:03', 'Cathee', '2022-12-02 05:05:04', 'Dinah');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (398, 57, 'Nulla ut erat id mauris vulputate elementum. Nullam varius. Nulla facilisi.', '2022-07-13 04:45:33', 'Weider', '2022-10-01 00:54:03', 'Caleb');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (399, 18, 'Cras non velit nec nisi vulputate nonummy. Maecenas tincidunt lacus at velit. Vivamus vel nulla eget eros elementum pellentesque.', '2022-02-15 06:09:04', 'Lonnie', '2022-02-24 00:28:56', 'Roselin');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (400, 57, 'In hac habitasse platea dictumst. Etiam faucibus cursus urna. Ut tellus.', '2021-12-23 20:48:40', 'Elie', '2022-04-15 13:14:41', 'Bernhard');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (401, 46, 'Integer tincidunt ante vel ipsum. Praesent blandit lacinia erat. Vestibulum sed magna at nunc commodo placerat.', '2022-09-01 09:23:52', 'Addy', '2022-05-05 08:11:59', 'Durante');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (402, 97, 'Sed ante. Vivamus tortor. Duis mattis egestas metus.', '2022-06-19 01:14:50', 'Georges', '2022-08-11 17:20:11', 'Humberto');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (403, 86, 'Curabitur gravida nisi at nibh. In hac habitasse platea dictumst. Aliquam augue quam, sollicitudin vitae, consectetuer eget, rutrum at, lorem.', '2022-06-01 14:38:56', 'Whitney', '2022-01-15 22:44:23', 'Jamill');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (404, 8, 'Duis consequat dui nec nisi volutpat eleifend. Donec ut dolor. Morbi vel lectus in quam fringilla rhoncus.', '2022-02-27 00:35:08', 'Hogan', '2022-10-22 10:27:16', 'Adler');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (405, 21, 'In quis justo. Maecenas rhoncus aliquam lacus. Morbi quis tortor id nulla ultrices aliquet.', '2022-04-15 03:26:50', 'Joshia', '2022-10-20 08:39:57', 'Brunhilda');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (406, 69, 'Maecenas tristique, est et tempus semper, est quam pharetra magna, ac consequat metus sapien ut nunc. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Mauris viverra diam vitae quam. Suspendisse potenti.', '2022-11-27 02:50:17', 'Urban', '2022-02-21 22:51:14', 'Lizbeth');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (407, 53, 'Mauris enim leo, rhoncus sed, vestibulum sit amet, cursus id, turpis. Integer aliquet, massa id lobortis convallis, tortor risus dapibus augue, vel accumsan tellus nisi eu orci. Mauris lacinia sapien quis libero.', '2021-12-23 00:44:57', 'Floris', '2022-03-10 03:00:11', 'Alyda');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (408, 80, 'Morbi non lectus. Aliquam sit amet diam in magna bibendum imperdiet. Nullam orci pede, venenatis non, sodales sed, tincidunt eu, felis.', '2022-10-24 23:02:40', 'Ki', '2022-01-12 21:06:23', 'Armin');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (409, 12, 'Nullam porttitor lacus at turpis. Donec posuere metus vitae ipsum. Aliquam non mauris.', '2022-01-06 14:58:12', 'Tanny', '2022-04-28 05:38:57', 'Georgena');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (410, 34, 'Quisque porta volutpat erat. Quisque erat eros, viverra eget, congue eget, semper rutrum, nulla. Nunc purus.', '2022-11-01 13:22:47', 'Cherida', '2022-05-15 14:20:49', 'Katina');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (411, 80, 'Proin eu mi. Nulla ac enim. In tempor, turpis nec euismod scelerisque, quam turpis adipiscing lorem, vitae mattis nibh ligula nec sem.', '2022-08-27 18:54:45', 'Tamara', '2022-11-23 08:20:25', 'Tabbi');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (412, 17, 'Donec diam neque, vestibulum eget, vulputate ut, ultrices vel, augue. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Donec pharetra, magna vestibulum aliquet ultrices, erat tortor sollicitudin mi, sit amet lobortis sapien sapien non mi. Integer ac neque.', '2022-03-09 12:06:50', 'Cathe', '2022-11-10 19:39:28', 'Zola');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (413, 75, 'Pellentesque at nulla. Suspendisse potenti. Cras in purus eu magna vulputate luctus.', '2022-02-01 17:33:41', 'Sim', '2022-03-11 00:34:41', 'Aubert');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (414, 16, 'Fusce posuere felis sed lacus. Morbi sem mauris, laoreet ut, rhoncus aliquet, pulvinar sed, nisl. Nunc rhoncus dui vel sem.', '2022-10-09 13:06:14', 'Gabie', '2022-01-20 10:04:27', 'Quintus');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (415, 6, 'Nullam sit amet turpis elementum ligula vehicula consequat. Morbi a ipsum. Integer a nibh.', '2022-11-18 05:33:33', 'Phillis', '2022-05-14 12:25:36', 'Sibyl');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (416, 98, 'Pellentesque at nulla. Suspendisse potenti. Cras in purus eu magna vulputate luctus.', '2022-02-23 05:33:49', 'Diane', '2022-09-19 05:28:26', 'Cherilynn');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (417, 38, 'Maecenas leo odio, condimentum id, luctus nec, molestie sed, justo. Pellentesque viverra pede ac diam. Cras pellentesque volutpat dui.', '2022-03-30 18:40:21', 'Sax', '2022-07-22 08:56:25', 'Chilton');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (418, 64, 'Cras non velit nec nisi vulputate nonummy. Maecenas tincidunt lacus at velit. Vivamus vel nulla eget eros elementum pellentesque.', '2022-10-24 21:48:47', 'Vidovik', '2022-11-21 11:25:46', 'Moises');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (419, 17, 'Sed ante. Vivamus tortor. Duis mattis egestas metus.', '2022-02-25 01:41:48', 'Joachim', '2022-02-12 09:08:26', 'Lizzy');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (420, 69, 'Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus. Vivamus vestibulum sagittis sapien. Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus.', '2022-11-12 07:35:06', 'Charla', '2022-07-12 14:31:54', 'Jacquie');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (421, 100, 'Morbi non lectus. Aliquam sit amet diam in magna bibendum imperdiet. Nullam orci pede, venenatis non, sodales sed, tincidunt eu, felis.', '2022-10-14 11:12:50', 'Trixy', '2022-03-20 23:17:11', 'Penny');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (422, 13, 'Duis consequat dui nec nisi volutpat eleifend. Donec ut dolor. Morbi vel lectus in quam fringilla rhoncus.', '2022-06-29 18:32:24', 'Roderic', '2022-09-14 22:13:30', 'Vince');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (423, 55, 'Pellentesque at nulla. Suspendisse potenti. Cras in purus eu magna vulputate luctus.', '2022-11-01 15:30:29', 'Addi', '2022-05-07 20:07:24', 'Thurston');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (424, 18, 'Duis consequat dui nec nisi volutpat eleifend. Donec ut dolor. Morbi vel lectus in quam fringilla rhoncus.', '2022-04-22 04:43:30', 'Winona', '2022-05-21 14:17:55', 'Graham');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (425, 35, 'Suspendisse potenti. In eleifend quam a odio. In hac habitasse platea dictumst.', '2022-09-22 12:45:43', 'Jocelyn', '2022-03-25 19:14:20', 'Micky');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (426, 95, 'Curabitur in libero ut massa volutpat convallis. Morbi odio odio, elementum eu, interdum eu, tincidunt in, leo. Maecenas pulvinar lobortis est.', '2022-03-14 10:31:43', 'Vivi', '2022-11-12 05:17:59', 'Phaidra');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (427, 74, 'Quisque id justo sit amet sapien dignissim vestibulum. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Nulla dapibus dolor vel est. Donec odio justo, sollicitudin ut, suscipit a, feugiat et, eros.', '2022-08-28 14:23:31', 'Wolf', '2022-09-30 23:01:14', 'Baldwin');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (428, 100, 'Proin interdum mauris non ligula pellentesque ultrices. Phasellus id sapien in sapien iaculis congue. Vivamus metus arcu, adipiscing molestie, hendrerit at, vulputate vitae, nisl.', '2022-04-14 08:09:20', 'Aigneis', '2022-10-19 09:20:14', 'Melosa');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (429, 56, 'Cras non velit nec nisi vulputate nonummy. Maecenas tincidunt lacus at velit. Vivamus vel nulla eget eros elementum pellentesque.', '2022-05-31 21:43:40', 'Janot', '2022-01-04 20:23:26', 'Prue');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (430, 19, 'Morbi non lectus. Aliquam sit amet diam in magna bibendum imperdiet. Nullam orci pede, venenatis non, sodales sed, tincidunt eu, felis.', '2022-05-19 02:49:27', 'Amii', '2022-11-15 17:15:47', 'Emelda');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (431, 85, 'Curabitur in libero ut massa volutpat convallis. Morbi odio odio, elementum eu, interdum eu, tincidunt in, leo. Maecenas pulvinar lobortis est.', '2022-09-22 00:52:23', 'Donal', '2022-01-29 14:56:18', 'Lesli');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (432, 65, 'In quis justo. Maecenas rhoncus aliquam lacus. Morbi quis tortor id nulla ultrices aliquet.', '2022-11-28 13:58:27', 'Jarred', '2022-09-30 00:55:48', 'Leeann');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (433, 34, 'Mauris enim leo, rhoncus sed, vestibulum sit amet, cursus id, turpis. Integer aliquet, massa id lobortis convallis, tortor risus dapibus augue, vel accumsan tellus nisi eu orci. Mauris lacinia sapien quis libero.', '2022-12-18 20:41:48', 'Charmaine', '2022-05-18 00:34:27', 'Jud');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (434, 89, 'Phasellus sit amet erat. Nulla tempus. Vivamus in felis eu sapien cursus vestibulum.', '2021-12-22 06:01:40', 'Annabela', '2022-09-03 18:52:37', 'Harmonia');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (435, 62, 'Maecenas leo odio, condimentum id, luctus nec, molestie sed, justo. Pellentesque viverra pede ac diam. Cras pellentesque volutpat dui.', '2022-03-11 04:23:18', 'Armando', '2022-03-01 22:26:45', 'Lotti');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (436, 37, 'Integer ac leo. Pellentesque ultrices mattis odio. Donec vitae nisi.', '2022-09-15 13:45:47', 'Vivianna', '2021-12-31 18:50:55', 'Erika');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (437, 42, 'Sed ante. Vivamus tortor. Duis mattis egestas metus.', '2022-02-22 16:49:59', 'Prentiss', '2022-04-25 22:26:34', 'Ade');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (438, 77, 'Pellentesque at nulla. Suspendisse potenti. Cras in purus eu magna vulputate luctus.', '2022-06-04 07:08:19', 'Cristin', '2022-11-18 06:52:54', 'Robbi');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (439, 2, 'In congue. Etiam justo. Etiam pretium iaculis justo.', '2022-05-02 12:05:14', 'Mommy', '2022-02-07 04:10:56', 'Law');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (440, 83, 'Nullam porttitor lacus at turpis. Donec posuere metus vitae ipsum. Aliquam non mauris.', '2022-06-13 11:08:47', 'Natty', '2022-07-28 23:42:02', 'Elnora');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (441, 60, 'In hac habitasse platea dictumst. Etiam faucibus cursus urna. Ut tellus.', '2022-08-10 02:47:58', 'Bud', '2022-08-26 12:04:25', 'Jelene');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (442, 81, 'Nullam porttitor lacus at turpis. Donec posuere metus vitae ipsum. Aliquam non mauris.', '2022-06-15 22:29:23', 'Ivette', '2022-12-17 18:46:22', 'Eleen');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (443, 32, 'Etiam vel augue. Vestibulum rutrum rutrum neque. Aenean auctor gravida sem.', '2022-06-06 11:08:51', 'Kimmy', '2022-05-09 09:46:53', 'Marley');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (444, 19, 'Nam ultrices, libero non mattis pulvinar, nulla pede ullamcorper augue, a suscipit nulla elit ac nulla. Sed vel enim sit amet nunc viverra dapibus. Nulla suscipit ligula in lacus.', '2022-07-19 04:19:31', 'Denys', '2022-11-08 03:15:29', 'Dame');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (445, 84, 'Aenean lectus. Pellentesque eget nunc. Donec quis orci eget orci vehicula condimentum.', '2021-12-30 05:13:25', 'Mariel', '2022-09-12 12:48:43', 'Evie');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (446, 55, 'Donec diam neque, vestibulum eget, vulputate ut, ultrices vel, augue. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Donec pharetra, magna vestibulum aliquet ultrices, erat tortor sollicitudin mi, sit amet lobortis sapien sapien non mi. Integer ac neque.', '2022-06-05 21:43:29', 'Gib', '2022-07-05 21:40:45', 'Alvinia');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (447, 58, 'Quisque porta volutpat erat. Quisque erat eros, viverra eget, congue eget, semper rutrum, nulla. Nunc purus.', '2022-03-27 07:40:05', 'Tammie', '2022-02-02 23:08:21', 'Hermione');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (448, 62, 'Aliquam quis turpis eget elit sodales scelerisque. Mauris sit amet eros. Suspendisse accumsan tortor quis turpis.', '2022-03-10 17:20:12', 'Ariela', '2022-08-02 01:31:20', 'Farlay');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (449, 72, 'Duis bibendum, felis sed interdum venenatis, turpis enim blandit mi, in porttitor pede justo eu massa. Donec dapibus. Duis at velit eu est congue elementum.', '2022-06-20 18:18:50', 'Cordey', '2022-07-07 21:10:40', 'Kirby');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (450, 80, 'Integer ac leo. Pellentesque ultrices mattis odio. Donec vitae nisi.', '2022-09-06 06:28:21', 'Morton', '2022-02-28 23:59:42', 'Isador');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (451, 17, 'Quisque porta volutpat erat. Quisque erat eros, viverra eget, congue eget, semper rutrum, nulla. Nunc purus.', '2022-05-29 05:59:25', 'Caralie', '2022-06-15 00:58:50', 'Peta');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (452, 24, 'Donec diam neque, vestibulum eget, vulputate ut, ultrices vel, augue. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Donec pharetra, magna vestibulum aliquet ultrices, erat tortor sollicitudin mi, sit amet lobortis sapien sapien non mi. Integer ac neque.', '2022-05-17 18:52:54', 'Carlos', '2022-10-16 10:42:39', 'Gerry');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (453, 69, 'Maecenas ut massa quis augue luctus tincidunt. Nulla mollis molestie lorem. Quisque ut erat.', '2022-04-27 08:26:49', 'Base', '2022-09-23 01:10:45', 'Sibley');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (454, 85, 'Maecenas ut massa quis augue luctus tincidunt. Nulla mollis molestie lorem. Quisque ut erat.', '2022-02-03 16:50:27', 'Felice', '2022-01-08 10:57:09', 'Tricia');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (455, 35, 'Lorem ipsum dolor sit amet, consectetuer adipiscing elit. Proin risus. Praesent lectus.', '2022-03-28 01:39:56', 'Jillie', '2022-03-10 20:23:35', 'Natalina');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (456, 58, 'Integer tincidunt ante vel ipsum. Praesent blandit lacinia erat. Vestibulum sed magna at nunc commodo placerat.', '2022-07-20 23:39:47', 'Aila', '2022-10-13 00:18:58', 'Milena');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (457, 62, 'Maecenas ut massa quis augue luctus tincidunt. Nulla mollis molestie lorem. Quisque ut erat.', '2022-08-22 07:48:42', 'Harri', '2022-06-06 07:45:12', 'Markos');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (458, 59, 'In hac habitasse platea dictumst. Morbi vestibulum, velit id pretium iaculis, diam erat fermentum justo, nec condimentum neque sapien placerat ante. Nulla justo.', '2022-04-28 07:17:20', 'Chryste', '2022-10-25 13:42:26', 'Rikki');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (459, 75, 'Praesent blandit. Nam nulla. Integer pede justo, lacinia eget, tincidunt eget, tempus vel, pede.', '2022-07-18 20:03:13', 'Alika', '2022-04-24 15:34:30', 'Ketty');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (460, 19, 'Maecenas ut massa quis augue luctus tincidunt. Nulla mollis molestie lorem. Quisque ut erat.', '2022-06-25 04:12:01', 'Lee', '2022-10-04 22:29:08', 'Lynnet');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (461, 4, 'Cras mi pede, malesuada in, imperdiet et, commodo vulputate, justo. In blandit ultrices enim. Lorem ipsum dolor sit amet, consectetuer adipiscing elit.', '2022-09-14 12:13:46', 'Jordain', '2022-09-09 01:38:46', 'Prudi');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (462, 60, 'Duis consequat dui nec nisi volutpat eleifend. Donec ut dolor. Morbi vel lectus in quam fringilla rhoncus.', '2022-07-06 08:41:54', 'Jard', '2022-01-15 15:11:04', 'Alysia');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (463, 24, 'In hac habitasse platea dictumst. Etiam faucibus cursus urna. Ut tellus.', '2022-01-10 12:47:25', 'Ursuline', '2022-09-16 17:57:01', 'Morgen');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (464, 77, 'In hac habitasse platea dictumst. Etiam faucibus cursus urna. Ut tellus.', '2022-10-06 01:53:33', 'Denyse', '2022-03-04 14:09:50', 'Tedmund');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (465, 91, 'Maecenas leo odio, condimentum id, luctus nec, molestie sed, justo. Pellentesque viverra pede ac diam. Cras pellentesque volutpat dui.', '2022-11-13 13:50:25', 'Bobbi', '2022-06-27 19:44:38', 'Pen');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (466, 45, 'Mauris enim leo, rhoncus sed, vestibulum sit amet, cursus id, turpis. Integer aliquet, massa id lobortis convallis, tortor risus dapibus augue, vel accumsan tellus nisi eu orci. Mauris lacinia sapien quis libero.', '2022-10-06 09:30:46', 'Lisa', '2022-11-01 17:26:10', 'Phineas');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (467, 14, 'Mauris enim leo, rhoncus sed, vestibulum sit amet, cursus id, turpis. Integer aliquet, massa id lobortis convallis, tortor risus dapibus augue, vel accumsan tellus nisi eu orci. Mauris lacinia sapien quis libero.', '2022-04-03 02:57:37', 'Marillin', '2021-12-28 18:57:44', 'Maire');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (468, 42, 'Proin leo odio, porttitor id, consequat in, consequat ut, nulla. Sed accumsan felis. Ut at dolor quis odio consequat varius.', '2022-03-21 06:42:16', 'Lucio', '2022-10-25 17:00:15', 'Eulalie');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (469, 99, 'Aenean lectus. Pellentesque eget nunc. Donec quis orci eget orci vehicula condimentum.', '2022-05-20 12:19:21', 'Jyoti', '2022-08-30 20:54:24', 'Myrlene');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (470, 65, 'Nullam sit amet turpis elementum ligula vehicula consequat. Morbi a ipsum. Integer a nibh.', '2022-05-23 19:06:34', 'Dino', '2022-06-03 10:42:01', 'Reinold');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (471, 3, 'Nam ultrices, libero non mattis pulvinar, nulla pede ullamcorper augue, a suscipit nulla elit ac nulla. Sed vel enim sit amet nunc viverra dapibus. Nulla suscipit ligula in lacus.', '2022-02-10 13:59:42', 'Gaye', '2022-09-15 02:38:56', 'Tades');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (472, 56, 'Duis bibendum, felis sed interdum venenatis, turpis enim blandit mi, in porttitor pede justo eu massa. Donec dapibus. Duis at velit eu est congue elementum.', '2022-04-23 00:04:25', 'Had', '2022-05-29 06:27:16', 'Sonnnie');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (473, 53, 'In hac habitasse platea dictumst. Etiam faucibus cursus urna. Ut tellus.', '2022-12-13 06:13:41', 'Joletta', '2022-03-25 17:38:25', 'Appolonia');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (474, 31, 'Suspendisse potenti. In eleifend quam a odio. In hac habitasse platea dictumst.', '2022-08-21 16:25:21', 'Jeanine', '2022-02-26 17:28:29', 'Erskine');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (475, 46, 'Nulla ut erat id mauris vulputate elementum. Nullam varius. Nulla facilisi.', '2022-09-14 08:03:22', 'Ester', '2022-03-11 03:59:19', 'Lionel');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (476, 38, 'Pellentesque at nulla. Suspendisse potenti. Cras in purus eu magna vulputate luctus.', '2022-08-09 04:54:04', 'Bernhard', '2022-10-19 08:42:24', 'Merv');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (477, 16, 'Nullam sit amet turpis elementum ligula vehicula consequat. Morbi a ipsum. Integer a nibh.', '2022-10-23 02:51:34', 'Kelsi', '2022-09-05 22:22:10', 'Reynold');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (478, 19, 'Nam ultrices, libero non mattis pulvinar, nulla pede ullamcorper augue, a suscipit nulla elit ac nulla. Sed vel enim sit amet nunc viverra dapibus. Nulla suscipit ligula in lacus.', '2022-09-04 17:56:12', 'Horatio', '2022-06-13 14:58:09', 'Sonnie');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (479, 60, 'Curabitur at ipsum ac tellus semper interdum. Mauris ullamcorper purus sit amet nulla. Quisque arcu libero, rutrum ac, lobortis vel, dapibus at, diam.', '2022-09-30 07:30:00', 'Joete', '2021-12-29 01:04:32', 'Salmon');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (480, 84, 'Suspendisse potenti. In eleifend quam a odio. In hac habitasse platea dictumst.', '2022-01-31 01:22:05', 'Theodoric', '2022-08-21 05:20:06', 'Dorie');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (481, 100, 'Nam ultrices, libero non mattis pulvinar, nulla pede ullamcorper augue, a suscipit nulla elit ac nulla. Sed vel enim sit amet nunc viverra dapibus. Nulla suscipit ligula in lacus.', '2022-02-11 23:17:34', 'Ingar', '2022-01-25 08:52:16', 'Evania');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (482, 64, 'Vestibulum quam sapien, varius ut, blandit non, interdum in, ante. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Duis faucibus accumsan odio. Curabitur convallis.', '2022-07-07 02:03:36', 'Rube', '2022-05-07 20:32:01', 'Neel');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (483, 41, 'Maecenas tristique, est et tempus semper, est quam pharetra magna, ac consequat metus sapien ut nunc. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Mauris viverra diam vitae quam. Suspendisse potenti.', '2022-03-05 14:14:50', 'Mandel', '2022-01-13 05:36:16', 'Aldo');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (484, 1, 'Proin eu mi. Nulla ac enim. In tempor, turpis nec euismod scelerisque, quam turpis adipiscing lorem, vitae mattis nibh ligula nec sem.', '2022-03-31 01:56:52', 'Fran', '2022-02-28 14:28:09', 'Etti');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (485, 77, 'Donec diam neque, vestibulum eget, vulputate ut, ultrices vel, augue. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Donec pharetra, magna vestibulum aliquet ultrices, erat tortor sollicitudin mi, sit amet lobortis sapien sapien non mi. Integer ac neque.', '2022-03-27 09:49:52', 'Calla', '2022-11-04 11:17:43', 'Ludovika');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (486, 64, 'Cras mi pede, malesuada in, imperdiet et, commodo vulputate, justo. In blandit ultrices enim. Lorem ipsum dolor sit amet, consectetuer adipiscing elit.', '2022-07-25 23:11:01', 'Gwendolyn', '2022-06-28 03:39:10', 'Darrel');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (487, 95, 'Mauris enim leo, rhoncus sed, vestibulum sit amet, cursus id, turpis. Integer aliquet, massa id lobortis convallis, tortor risus dapibus augue, vel accumsan tellus nisi eu orci. Mauris lacinia sapien quis libero.', '2022-11-03 20:02:31', 'Taffy', '2022-10-24 22:59:11', 'Clerissa');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (488, 51, 'Curabitur at ipsum ac tellus semper interdum. Mauris ullamcorper purus sit amet nulla. Quisque arcu libero, rutrum ac, lobortis vel, dapibus at, diam.', '2022-08-10 13:48:49', 'Brent', '2022-03-07 10:43:14', 'Hewie');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (489, 70, 'Proin interdum mauris non ligula pellentesque ultrices. Phasellus id sapien in sapien iaculis congue. Vivamus metus arcu, adipiscing molestie, hendrerit at, vulputate vitae, nisl.', '2022-11-19 09:13:41', 'Bryn', '2022-06-11 17:32:07', 'Aggie');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (490, 60, 'Proin leo odio, porttitor id, consequat in, consequat ut, nulla. Sed accumsan felis. Ut at dolor quis odio consequat varius.', '2022-05-17 17:15:17', 'Clyve', '2022-05-10 10:43:39', 'Lizzie');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (491, 98, 'Integer ac leo. Pellentesque ultrices mattis odio. Donec vitae nisi.', '2021-12-30 06:30:45', 'Junie', '2022-04-30 19:21:35', 'Whit');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (492, 98, 'Nullam porttitor lacus at turpis. Donec posuere metus vitae ipsum. Aliquam non mauris.', '2022-06-08 21:15:07', 'Matty', '2022-07-18 16:35:23', 'Imogen');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (493, 89, 'Nullam porttitor lacus at turpis. Donec posuere metus vitae ipsum. Aliquam non mauris.', '2022-08-14 17:08:33', 'Colet', '2022-11-19 10:11:15', 'Rosaline');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (494, 66, 'Aenean fermentum. Donec ut mauris eget massa tempor convallis. Nulla neque libero, convallis eget, eleifend luctus, ultricies eu, nibh.', '2022-03-19 10:27:40', 'Natale', '2022-07-15 20:51:51', 'Gisela');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (495, 95, 'Fusce consequat. Nulla nisl. Nunc nisl.', '2022-07-16 06:56:43', 'Delano', '2022-11-29 05:12:12', 'Alyss');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (496, 19, 'In quis justo. Maecenas rhoncus aliquam lacus. Morbi quis tortor id nulla ultrices aliquet.', '2022-09-18 10:24:16', 'Ramona', '2022-06-20 23:08:33', 'Mellisent');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (497, 36, 'Duis bibendum, felis sed interdum venenatis, turpis enim blandit mi, in porttitor pede justo eu massa. Donec dapibus. Duis at velit eu est congue elementum.', '2022-04-26 17:50:04', 'Helene', '2022-05-21 09:37:22', 'Mord');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (498, 3, 'Nullam porttitor lacus at turpis. Donec posuere metus vitae ipsum. Aliquam non mauris.', '2022-07-30 15:22:45', 'Hayward', '2022-05-15 23:00:08', 'Morgen');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (499, 89, 'Curabitur gravida nisi at nibh. In hac habitasse platea dictumst. Aliquam augue quam, sollicitudin vitae, consectetuer eget, rutrum at, lorem.', '2022-05-31 08:21:12', 'Celesta', '2022-11-26 22:26:06', 'Thayne');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (500, 96, 'Aenean lectus. Pellentesque eget nunc. Donec quis orci eget orci vehicula condimentum.', '2022-09-28 08:41:41', 'Gussie', '2022-02-26 22:59:31', 'Laney');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (501, 11, 'Nullam sit amet turpis elementum ligula vehicula consequat. Morbi a ipsum. Integer a nibh.', '2021-12-21 00:31:03', 'Artair', '2022-03-11 07:43:38', 'Cate');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (502, 59, 'Fusce consequat. Nulla nisl. Nunc nisl.', '2022-03-07 13:15:15', 'Bernadine', '2022-08-05 05:46:15', 'Olivette');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (503, 9, 'Etiam vel augue. Vestibulum rutrum rutrum neque. Aenean auctor gravida sem.', '2022-01-01 18:31:52', 'Misty', '2022-09-27 17:02:37', 'Scarlet');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (504, 11, 'Cras non velit nec nisi vulputate nonummy. Maecenas tincidunt lacus at velit. Vivamus vel nulla eget eros elementum pellentesque.', '2022-03-15 21:20:00', 'Chiquita', '2022-06-14 20:02:16', 'Sonnie');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (505, 55, 'Mauris enim leo, rhoncus sed, vestibulum sit amet, cursus id, turpis. Integer aliquet, massa id lobortis convallis, tortor risus dapibus augue, vel accumsan tellus nisi eu orci. Mauris lacinia sapien quis libero.', '2022-04-27 03:45:47', 'Gerti', '2022-12-07 21:56:44', 'Orelia');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (506, 78, 'Quisque porta volutpat erat. Quisque erat eros, viverra eget, congue eget, semper rutrum, nulla. Nunc purus.', '2022-09-24 22:48:40', 'Myrtice', '2022-10-24 14:31:53', 'Katusha');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (507, 89, 'Suspendisse potenti. In eleifend quam a odio. In hac habitasse platea dictumst.', '2022-12-18 04:51:13', 'Mickey', '2022-04-17 15:40:29', 'Matelda');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (508, 34, 'Cras non velit nec nisi vulputate nonummy. Maecenas tincidunt lacus at velit. Vivamus vel nulla eget eros elementum pellentesque.', '2022-09-04 06:22:28', 'Hobey', '2022-03-14 21:28:52', 'Saxon');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (509, 22, 'Lorem ipsum dolor sit amet, consectetuer adipiscing elit. Proin risus. Praesent lectus.', '2022-10-26 22:58:34', 'Laney', '2022-11-10 14:40:08', 'Chance');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (510, 30, 'Aliquam quis turpis eget elit sodales scelerisque. Mauris sit amet eros. Suspendisse accumsan tortor quis turpis.', '2022-05-07 17:47:28', 'Andra', '2022-10-26 23:52:19', 'Drusie');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (511, 46, 'Praesent id massa id nisl venenatis lacinia. Aenean sit amet justo. Morbi ut odio.', '2022-09-14 23:12:27', 'Alberta', '2022-06-29 18:21:38', 'Agna');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (512, 54, 'Aenean fermentum. Donec ut mauris eget massa tempor convallis. Nulla neque libero, convallis eget, eleifend luctus, ultricies eu, nibh.', '2022-10-21 06:04:06', 'Waverley', '2022-08-12 02:49:32', 'Miller');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (513, 35, 'Nullam sit amet turpis elementum ligula vehicula consequat. Morbi a ipsum. Integer a nibh.', '2022-01-15 23:53:38', 'Jeannette', '2022-03-21 08:45:31', 'Zsa zsa');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (514, 78, 'In sagittis dui vel nisl. Duis ac nibh. Fusce lacus purus, aliquet at, feugiat non, pretium quis, lectus.', '2022-11-12 11:41:38', 'Heidi', '2022-10-19 02:53:41', 'Marcille');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (515, 7, 'Proin leo odio, porttitor id, consequat in, consequat ut, nulla. Sed accumsan felis. Ut at dolor quis odio consequat varius.', '2022-07-27 19:39:21', 'Michaella', '2022-12-02 17:39:17', 'Coriss');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (516, 49, 'Maecenas leo odio, condimentum id, luctus nec, molestie sed, justo. Pellentesque viverra pede ac diam. Cras pellentesque volutpat dui.', '2022-10-20 11:28:54', 'Trevar', '2022-01-13 06:21:31', 'Emmery');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (517, 10, 'Proin eu mi. Nulla ac enim. In tempor, turpis nec euismod scelerisque, quam turpis adipiscing lorem, vitae mattis nibh ligula nec sem.', '2022-10-19 22:27:25', 'Flin', '2022-07-08 01:48:18', 'Rachelle');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (518, 35, 'Sed sagittis. Nam congue, risus semper porta volutpat, quam pede lobortis ligula, sit amet eleifend pede libero quis orci. Nullam molestie nibh in lectus.', '2022-10-03 06:23:26', 'Chad', '2022-10-16 08:52:40', 'Jacquetta');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (519, 4, 'Maecenas tristique, est et tempus semper, est quam pharetra magna, ac consequat metus sapien ut nunc. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Mauris viverra diam vitae quam. Suspendisse potenti.', '2022-03-11 10:10:19', 'Marleen', '2022-02-27 18:19:15', 'Pauletta');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (520, 59, 'Nullam sit amet turpis elementum ligula vehicula consequat. Morbi a ipsum. Integer a nibh.', '2022-09-01 00:36:17', 'Meg', '2022-08-27 20:54:01', 'Norma');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (521, 85, 'Maecenas ut massa quis augue luctus tincidunt. Nulla mollis molestie lorem. Quisque ut erat.', '2022-05-24 21:51:58', 'Morrie', '2022-12-19 08:08:24', 'Gregg');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (522, 22, 'Phasellus sit amet erat. Nulla tempus. Vivamus in felis eu sapien cursus vestibulum.', '2022-03-22 18:04:42', 'Alvis', '2022-03-22 05:06:09', 'Packston');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (523, 51, 'Pellentesque at nulla. Suspendisse potenti. Cras in purus eu magna vulputate luctus.', '2022-10-06 07:31:49', 'Gavrielle', '2022-05-10 01:12:54', 'Kerrill');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (524, 31, 'Etiam vel augue. Vestibulum rutrum rutrum neque. Aenean auctor gravida sem.', '2022-03-10 08:40:10', 'Jaye', '2022-07-16 23:39:48', 'Anthea');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (525, 78, 'Fusce posuere felis sed lacus. Morbi sem mauris, laoreet ut, rhoncus aliquet, pulvinar sed, nisl. Nunc rhoncus dui vel sem.', '2022-09-28 08:59:25', 'Andriana', '2022-04-30 10:16:32', 'Edouard');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (526, 83, 'Proin eu mi. Nulla ac enim. In tempor, turpis nec euismod scelerisque, quam turpis adipiscing lorem, vitae mattis nibh ligula nec sem.', '2022-12-10 17:28:33', 'Wolfgang', '2022-08-17 13:02:40', 'Griffie');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (527, 12, 'Morbi porttitor lorem id ligula. Suspendisse ornare consequat lectus. In est risus, auctor sed, tristique in, tempus sit amet, sem.', '2022-04-27 06:24:33', 'Caddric', '2022-08-03 16:21:03', 'Briggs');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (528, 77, 'Vestibulum quam sapien, varius ut, blandit non, interdum in, ante. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Duis faucibus accumsan odio. Curabitur convallis.', '2022-04-18 21:08:48', 'Sullivan', '2022-09-05 23:08:34', 'Shena');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (529, 97, 'Phasellus in felis. Donec semper sapien a libero. Nam dui.', '2022-12-03 04:04:11', 'Fancy', '2022-07-19 21:40:56', 'Haley');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (530, 28, 'Maecenas tristique, est et tempus semper, est quam pharetra magna, ac consequat metus sapien ut nunc. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Mauris viverra diam vitae quam. Suspendisse potenti.', '2022-12-07 12:34:51', 'Granthem', '2022-09-16 04:49:36', 'Viviene');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (531, 29, 'Pellentesque at nulla. Suspendisse potenti. Cras in purus eu magna vulputate luctus.', '2022-04-15 12:25:19', 'Farlay', '2022-10-29 21:11:24', 'Margot');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (532, 45, 'Pellentesque at nulla. Suspendisse potenti. Cras in purus eu magna vulputate luctus.', '2022-11-30 14:31:42', 'Pauly', '2022-12-18 08:13:37', 'Erroll');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (533, 82, 'Aliquam quis turpis eget elit sodales scelerisque. Mauris sit amet eros. Suspendisse accumsan tortor quis turpis.', '2022-03-13 15:14:12', 'Bari', '2022-05-17 18:29:43', 'Norry');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (534, 85, 'Curabitur in libero ut massa volutpat convallis. Morbi odio odio, elementum eu, interdum eu, tincidunt in, leo. Maecenas pulvinar lobortis est.', '2022-01-31 02:24:20', 'Dayna', '2022-10-29 20:53:01', 'Roddie');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (535, 72, 'In quis justo. Maecenas rhoncus aliquam lacus. Morbi quis tortor id nulla ultrices aliquet.', '2022-11-13 13:53:48', 'Cicily', '2022-04-05 07:21:13', 'Suzie');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (536, 98, 'Morbi porttitor lorem id ligula. Suspendisse ornare consequat lectus. In est risus, auctor sed, tristique in, tempus sit amet, sem.', '2022-05-01 15:06:17', 'Gan', '2022-01-16 00:06:25', 'Yul');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (537, 92, 'Maecenas ut massa quis augue luctus tincidunt. Nulla mollis molestie lorem. Quisque ut erat.', '2022-01-04 03:36:34', 'Brietta', '2022-10-28 09:02:59', 'Lucita');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (538, 27, 'Mauris enim leo, rhoncus sed, vestibulum sit amet, cursus id, turpis. Integer aliquet, massa id lobortis convallis, tortor risus dapibus augue, vel accumsan tellus nisi eu orci. Mauris lacinia sapien quis libero.', '2022-10-15 13:25:28', 'Valentine', '2022-03-13 22:18:25', 'Pen');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (539, 16, 'Pellentesque at nulla. Suspendisse potenti. Cras in purus eu magna vulputate luctus.', '2022-04-19 18:51:03', 'Franz', '2022-10-10 21:56:21', 'Averil');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (540, 52, 'Curabitur in libero ut massa volutpat convallis. Morbi odio odio, elementum eu, interdum eu, tincidunt in, leo. Maecenas pulvinar lobortis est.', '2022-07-28 11:34:38', 'Reese', '2022-04-30 12:17:46', 'Jordanna');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (541, 52, 'In sagittis dui vel nisl. Duis ac nibh. Fusce lacus purus, aliquet at, feugiat non, pretium quis, lectus.', '2022-01-05 14:54:50', 'Herbie', '2022-10-27 11:24:38', 'Gualterio');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (542, 37, 'Etiam vel augue. Vestibulum rutrum rutrum neque. Aenean auctor gravida sem.', '2022-10-15 21:52:49', 'Moshe', '2022-12-20 19:04:50', 'Peter');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (543, 23, 'Maecenas tristique, est et tempus semper, est quam pharetra magna, ac consequat metus sapien ut nunc. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Mauris viverra diam vitae quam. Suspendisse potenti.', '2022-11-18 21:34:46', 'Natalee', '2022-11-14 13:45:05', 'Ettore');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (544, 57, 'Vestibulum quam sapien, varius ut, blandit non, interdum in, ante. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Duis faucibus accumsan odio. Curabitur convallis.', '2022-08-10 00:29:19', 'L;urette', '2022-05-23 01:25:06', 'Roobbie');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (545, 54, 'Quisque porta volutpat erat. Quisque erat eros, viverra eget, congue eget, semper rutrum, nulla. Nunc purus.', '2022-03-25 18:29:06', 'Lissie', '2022-01-21 16:06:47', 'Tull');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (546, 17, 'Curabitur at ipsum ac tellus semper interdum. Mauris ullamcorper purus sit amet nulla. Quisque arcu libero, rutrum ac, lobortis vel, dapibus at, diam.', '2022-12-04 00:55:35', 'Reggie', '2022-05-13 06:20:39', 'Townie');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (547, 88, 'Maecenas leo odio, condimentum id, luctus nec, molestie sed, justo. Pellentesque viverra pede ac diam. Cras pellentesque volutpat dui.', '2022-04-22 16:14:31', 'Kleon', '2022-11-24 09:51:34', 'Egor');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (548, 6, 'Fusce posuere felis sed lacus. Morbi sem mauris, laoreet ut, rhoncus aliquet, pulvinar sed, nisl. Nunc rhoncus dui vel sem.', '2022-11-13 13:04:10', 'Janeva', '2022-02-13 04:32:28', 'Karalynn');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (549, 8, 'Proin leo odio, porttitor id, consequat in, consequat ut, nulla. Sed accumsan felis. Ut at dolor quis odio consequat varius.', '2022-02-13 06:15:32', 'Vincenz', '2022-05-17 20:54:03', 'Rubia');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (550, 88, 'Curabitur gravida nisi at nibh. In hac habitasse platea dictumst. Aliquam augue quam, sollicitudin vitae, consectetuer eget, rutrum at, lorem.', '2022-05-24 00:14:54', 'Tatiania', '2022-04-29 09:35:59', 'Orion');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (551, 67, 'Etiam vel augue. Vestibulum rutrum rutrum neque. Aenean auctor gravida sem.', '2022-07-03 09:25:36', 'Janis', '2022-07-11 01:22:25', 'Bill');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (552, 60, 'Curabitur gravida nisi at nibh. In hac habitasse platea dictumst. Aliquam augue quam, sollicitudin vitae, consectetuer eget, rutrum at, lorem.', '2022-11-09 18:53:10', 'Bertine', '2022-02-05 04:41:10', 'Bekki');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (553, 61, 'Maecenas tristique, est et tempus semper, est quam pharetra magna, ac consequat metus sapien ut nunc. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Mauris viverra diam vitae quam. Suspendisse potenti.', '2022-08-03 19:58:43', 'Karisa', '2022-03-29 12:18:46', 'Isidora');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (554, 73, 'Aliquam quis turpis eget elit sodales scelerisque. Mauris sit amet eros. Suspendisse accumsan tortor quis turpis.', '2022-06-11 03:20:01', 'Gaelan', '2022-02-16 18:14:27', 'Franni');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (555, 15, 'Aenean lectus. Pellentesque eget nunc. Donec quis orci eget orci vehicula condimentum.', '2022-02-19 21:00:43', 'Tabatha', '2022-08-14 06:12:51', 'Merle');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (556, 31, 'Curabitur in libero ut massa volutpat convallis. Morbi odio odio, elementum eu, interdum eu, tincidunt in, leo. Maecenas pulvinar lobortis est.', '2022-10-02 23:15:41', 'Blisse', '2022-01-18 12:15:51', 'Lowe');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (557, 99, 'Aenean fermentum. Donec ut mauris eget massa tempor convallis. Nulla neque libero, convallis eget, eleifend luctus, ultricies eu, nibh.', '2022-03-03 12:50:00', 'Cristionna', '2022-05-07 10:49:42', 'Tasha');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (558, 2, 'Proin eu mi. Nulla ac enim. In tempor, turpis nec euismod scelerisque, quam turpis adipiscing lorem, vitae mattis nibh ligula nec sem.', '2022-12-16 16:31:37', 'Opaline', '2022-10-04 09:32:22', 'Benetta');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (559, 32, 'Duis bibendum. Morbi non quam nec dui luctus rutrum. Nulla tellus.', '2022-04-09 18:38:32', 'Agata', '2022-06-28 10:39:39', 'Lev');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (560, 12, 'Duis consequat dui nec nisi volutpat eleifend. Donec ut dolor. Morbi vel lectus in quam fringilla rhoncus.', '2022-08-11 19:26:07', 'Flynn', '2022-07-11 06:41:24', 'Melania');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (561, 37, 'Cras non velit nec nisi vulputate nonummy. Maecenas tincidunt lacus at velit. Vivamus vel nulla eget eros elementum pellentesque.', '2022-03-16 21:41:45', 'Fanchette', '2022-05-18 13:27:37', 'Dale');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (562, 24, 'Fusce posuere felis sed lacus. Morbi sem mauris, laoreet ut, rhoncus aliquet, pulvinar sed, nisl. Nunc rhoncus dui vel sem.', '2022-11-24 07:45:47', 'Kippie', '2022-03-30 01:18:35', 'Scarface');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (563, 66, 'Nullam sit amet turpis elementum ligula vehicula consequat. Morbi a ipsum. Integer a nibh.', '2022-06-03 14:53:42', 'Kyrstin', '2022-11-05 19:29:07', 'Vicki');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (564, 5, 'Nullam porttitor lacus at turpis. Donec posuere metus vitae ipsum. Aliquam non mauris.', '2022-04-12 11:42:26', 'Sharlene', '2022-11-20 08:29:00', 'Heywood');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (565, 72, 'Aenean fermentum. Donec ut mauris eget massa tempor convallis. Nulla neque libero, convallis eget, eleifend luctus, ultricies eu, nibh.', '2022-03-13 17:21:40', 'Tabbie', '2022-03-05 18:52:24', 'Sutherlan');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (566, 89, 'Morbi non lectus. Aliquam sit amet diam in magna bibendum imperdiet. Nullam orci pede, venenatis non, sodales sed, tincidunt eu, felis.', '2022-07-11 22:37:45', 'Pierson', '2022-05-13 13:44:56', 'Nickolas');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (567, 90, 'Duis aliquam convallis nunc. Proin at turpis a pede posuere nonummy. Integer non velit.', '2022-10-29 02:48:14', 'Joannes', '2022-11-06 01:20:59', 'Peri');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (568, 12, 'Quisque id justo sit amet sapien dignissim vestibulum. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Nulla dapibus dolor vel est. Donec odio justo, sollicitudin ut, suscipit a, feugiat et, eros.', '2022-05-15 01:26:37', 'Gail', '2022-01-08 12:24:01', 'Dallas');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (569, 86, 'Vestibulum ac est lacinia nisi venenatis tristique. Fusce congue, diam id ornare imperdiet, sapien urna pretium nisl, ut volutpat sapien arcu sed augue. Aliquam erat volutpat.', '2022-05-30 04:20:12', 'Mitzi', '2022-03-21 21:55:10', 'Shawnee');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (570, 70, 'In hac habitasse platea dictumst. Etiam faucibus cursus urna. Ut tellus.', '2021-12-22 09:55:17', 'Ambrosio', '2022-01-31 03:17:28', 'Deena');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (571, 71, 'Quisque id justo sit amet sapien dignissim vestibulum. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Nulla dapibus dolor vel est. Donec odio justo, sollicitudin ut, suscipit a, feugiat et, eros.', '2022-09-30 05:44:12', 'Correy', '2022-01-18 10:03:08', 'Clair');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (572, 1, 'Aliquam quis turpis eget elit sodales scelerisque. Mauris sit amet eros. Suspendisse accumsan tortor quis turpis.', '2022-09-06 11:39:31', 'Velma', '2022-06-21 21:44:20', 'Elfrida');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (573, 59, 'Duis consequat dui nec nisi volutpat eleifend. Donec ut dolor. Morbi vel lectus in quam fringilla rhoncus.', '2022-04-25 13:47:59', 'Jackqueline', '2021-12-24 08:00:14', 'Cary');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (574, 87, 'Aenean fermentum. Donec ut mauris eget massa tempor convallis. Nulla neque libero, convallis eget, eleifend luctus, ultricies eu, nibh.', '2022-12-03 23:13:46', 'Gilberto', '2022-06-20 04:50:48', 'Hi');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (575, 77, 'Nullam sit amet turpis elementum ligula vehicula consequat. Morbi a ipsum. Integer a nibh.', '2022-07-05 04:10:16', 'Pieter', '2022-09-24 11:26:12', 'Morissa');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (576, 24, 'Integer tincidunt ante vel ipsum. Praesent blandit lacinia erat. Vestibulum sed magna at nunc commodo placerat.', '2022-09-30 21:08:54', 'Berty', '2022-03-09 19:34:03', 'Derril');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (577, 24, 'Lorem ipsum dolor sit amet, consectetuer adipiscing elit. Proin risus. Praesent lectus.', '2022-04-02 15:14:37', 'Reece', '2022-09-11 05:52:08', 'Linus');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (578, 5, 'Quisque porta volutpat erat. Quisque erat eros, viverra eget, congue eget, semper rutrum, nulla. Nunc purus.', '2022-02-28 07:20:26', 'Bondie', '2022-08-17 08:06:10', 'Merrielle');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (579, 83, 'In quis justo. Maecenas rhoncus aliquam lacus. Morbi quis tortor id nulla ultrices aliquet.', '2022-04-15 05:34:43', 'Nanni', '2022-10-24 09:45:52', 'King');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (580, 40, 'Curabitur gravida nisi at nibh. In hac habitasse platea dictumst. Aliquam augue quam, sollicitudin vitae, consectetuer eget, rutrum at, lorem.', '2022-05-29 23:36:14', 'Errol', '2022-04-06 02:10:57', 'Jonah');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (581, 81, 'In congue. Etiam justo. Etiam pretium iaculis justo.', '2022-01-15 17:08:58', 'Rick', '2022-06-23 16:56:57', 'Ame');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (582, 73, 'Duis bibendum, felis sed interdum venenatis, turpis enim blandit mi, in porttitor pede justo eu massa. Donec dapibus. Duis at velit eu est congue elementum.', '2022-02-12 02:30:29', 'Chicky', '2022-10-05 03:30:01', 'Lynne');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (583, 50, 'Duis aliquam convallis nunc. Proin at turpis a pede posuere nonummy. Integer non velit.', '2022-07-22 15:35:44', 'Alena', '2022-07-15 22:29:42', 'Adan');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (584, 72, 'Maecenas leo odio, condimentum id, luctus nec, molestie sed, justo. Pellentesque viverra pede ac diam. Cras pellentesque volutpat dui.', '2022-03-15 08:56:16', 'Sloane', '2022-11-27 13:53:59', 'Ring');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (585, 36, 'Maecenas leo odio, condimentum id, luctus nec, molestie sed, justo. Pellentesque viverra pede ac diam. Cras pellentesque volutpat dui.', '2022-05-15 09:35:01', 'Nalani', '2022-07-19 16:07:05', 'Allyce');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (586, 39, 'Donec diam neque, vestibulum eget, vulputate ut, ultrices vel, augue. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Donec pharetra, magna vestibulum aliquet ultrices, erat tortor sollicitudin mi, sit amet lobortis sapien sapien non mi. Integer ac neque.', '2022-08-07 04:08:41', 'Cristabel', '2022-04-30 23:34:15', 'Damian');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (587, 22, 'Aenean lectus. Pellentesque eget nunc. Donec quis orci eget orci vehicula condimentum.', '2022-03-17 20:21:36', 'Otho', '2022-12-01 20:50:42', 'Padgett');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (588, 21, 'Curabitur gravida nisi at nibh. In hac habitasse platea dictumst. Aliquam augue quam, sollicitudin vitae, consectetuer eget, rutrum at, lorem.', '2022-09-07 01:06:00', 'Franchot', '2022-09-10 20:37:37', 'Ferdinande');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (589, 27, 'In quis justo. Maecenas rhoncus aliquam lacus. Morbi quis tortor id nulla ultrices aliquet.', '2022-03-17 15:20:32', 'Gayle', '2022-11-10 21:01:10', 'Agosto');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (590, 11, 'Nullam porttitor lacus at turpis. Donec posuere metus vitae ipsum. Aliquam non mauris.', '2022-03-15 03:46:45', 'Nerti', '2022-01-06 13:26:25', 'Christin');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (591, 40, 'Suspendisse potenti. In eleifend quam a odio. In hac habitasse platea dictumst.', '2022-04-30 22:49:04', 'Elora', '2022-11-27 22:04:23', 'Ram');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (592, 90, 'Phasellus in felis. Donec semper sapien a libero. Nam dui.', '2022-04-12 01:27:39', 'Ario', '2022-03-19 12:47:26', 'Abel');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (593, 15, 'Nullam porttitor lacus at turpis. Donec posuere metus vitae ipsum. Aliquam non mauris.', '2022-02-26 20:30:49', 'Romy', '2022-08-12 04:19:57', 'Sherwood');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (594, 37, 'Duis bibendum. Morbi non quam nec dui luctus rutrum. Nulla tellus.', '2022-03-11 13:39:36', 'Stacia', '2022-07-17 01:24:14', 'Georgetta');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (595, 84, 'Suspendisse potenti. In eleifend quam a odio. In hac habitasse platea dictumst.', '2022-01-29 22:40:01', 'Katlin', '2022-03-16 01:23:22', 'Jewell');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (596, 96, 'Nullam sit amet turpis elementum ligula vehicula consequat. Morbi a ipsum. Integer a nibh.', '2022-01-14 13:04:37', 'Farley', '2022-04-10 21:26:17', 'Sam');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (597, 87, 'Integer ac leo. Pellentesque ultrices mattis odio. Donec vitae nisi.', '2022-10-08 13:24:00', 'Farlay', '2021-12-22 05:54:36', 'Nevins');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (598, 35, 'Phasellus in felis. Donec semper sapien a libero. Nam dui.', '2022-02-02 06:30:45', 'Cherin', '2022-08-03 09:48:38', 'Vinny');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (599, 65, 'In hac habitasse platea dictumst. Etiam faucibus cursus urna. Ut tellus.', '2022-05-08 04:14:12', 'Ezmeralda', '2022-06-19 21:11:39', 'Esma');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (600, 30, 'Nulla ut erat id mauris vulputate elementum. Nullam varius. Nulla facilisi.', '2022-02-08 13:10:29', 'Cecile', '2022-04-08 00:31:31', 'Ellary');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (601, 73, 'Integer tincidunt ante vel ipsum. Praesent blandit lacinia erat. Vestibulum sed magna at nunc commodo placerat.', '2022-10-26 00:20:14', 'Petronilla', '2022-04-20 18:12:15', 'Padget');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (602, 1, 'Aenean lectus. Pellentesque eget nunc. Donec quis orci eget orci vehicula condimentum.', '2022-01-29 16:59:48', 'Clemens', '2022-08-19 16:20:25', 'Winifred');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (603, 93, 'Maecenas tristique, est et tempus semper, est quam pharetra magna, ac consequat metus sapien ut nunc. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Mauris viverra diam vitae quam. Suspendisse potenti.', '2022-07-05 04:57:08', 'Merola', '2022-03-10 10:53:33', 'Chevy');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (604, 6, 'In hac habitasse platea dictumst. Etiam faucibus cursus urna. Ut tellus.', '2022-05-26 13:56:28', 'Atlanta', '2022-05-12 18:22:02', 'Raymond');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (605, 2, 'In hac habitasse platea dictumst. Morbi vestibulum, velit id pretium iaculis, diam erat fermentum justo, nec condimentum neque sapien placerat ante. Nulla justo.', '2022-03-05 20:53:34', 'Katharine', '2022-06-19 19:04:41', 'Percy');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (606, 4, 'Aenean fermentum. Donec ut mauris eget massa tempor convallis. Nulla neque libero, convallis eget, eleifend luctus, ultricies eu, nibh.', '2022-08-23 17:11:42', 'Nathalie', '2022-11-02 23:47:07', 'Helsa');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (607, 69, 'Curabitur in libero ut massa volutpat convallis. Morbi odio odio, elementum eu, interdum eu, tincidunt in, leo. Maecenas pulvinar lobortis est.', '2022-07-03 19:45:07', 'Amandi', '2022-10-21 23:41:54', 'Banky');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (608, 38, 'Nam ultrices, libero non mattis pulvinar, nulla pede ullamcorper augue, a suscipit nulla elit ac nulla. Sed vel enim sit amet nunc viverra dapibus. Nulla suscipit ligula in lacus.', '2022-09-21 16:45:31', 'Lucais', '2022-04-26 17:29:24', 'Patrice');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (609, 85, 'Aenean lectus. Pellentesque eget nunc. Donec quis orci eget orci vehicula condimentum.', '2022-07-29 17:44:20', 'Lulita', '2022-05-19 10:56:38', 'Filbert');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (610, 85, 'Proin eu mi. Nulla ac enim. In tempor, turpis nec euismod scelerisque, quam turpis adipiscing lorem, vitae mattis nibh ligula nec sem.', '2022-04-19 19:55:42', 'Cathie', '2022-08-01 16:09:18', 'Cornell');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (611, 76, 'Fusce posuere felis sed lacus. Morbi sem mauris, laoreet ut, rhoncus aliquet, pulvinar sed, nisl. Nunc rhoncus dui vel sem.', '2022-04-09 13:27:23', 'Kylynn', '2022-03-15 06:09:48', 'Zita');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (612, 23, 'Curabitur at ipsum ac tellus semper interdum. Mauris ullamcorper purus sit amet nulla. Quisque arcu libero, rutrum ac, lobortis vel, dapibus at, diam.', '2022-11-17 18:05:42', 'Jennette', '2022-05-12 15:49:27', 'Matteo');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (613, 64, 'In hac habitasse platea dictumst. Etiam faucibus cursus urna. Ut tellus.', '2022-12-07 02:05:36', 'Gwenny', '2022-05-12 00:58:49', 'Nadean');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (614, 52, 'Curabitur at ipsum ac tellus semper interdum. Mauris ullamcorper purus sit amet nulla. Quisque arcu libero, rutrum ac, lobortis vel, dapibus at, diam.', '2022-03-29 17:55:08', 'Stefa', '2022-04-22 14:55:43', 'Phillipp');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (615, 46, 'In congue. Etiam justo. Etiam pretium iaculis justo.', '2022-06-11 17:50:18', 'Lindsey', '2022-07-15 10:13:15', 'Sheri');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (616, 6, 'Sed ante. Vivamus tortor. Duis mattis egestas metus.', '2022-10-14 21:15:04', 'Demetre', '2022-03-29 04:11:41', 'Lamont');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (617, 76, 'Duis bibendum, felis sed interdum venenatis, turpis enim blandit mi, in porttitor pede justo eu massa. Donec dapibus. Duis at velit eu est congue elementum.', '2022-03-06 16:45:00', 'Dewain', '2022-04-12 22:32:34', 'Leticia');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (618, 90, 'Duis aliquam convallis nunc. Proin at turpis a pede posuere nonummy. Integer non velit.', '2022-06-26 17:45:24', 'Amata', '2022-09-02 14:57:57', 'Milena');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (619, 40, 'Aenean lectus. Pellentesque eget nunc. Donec quis orci eget orci vehicula condimentum.', '2021-12-25 08:36:53', 'Carleton', '2022-04-26 13:44:46', 'Lyman');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (620, 1, 'Duis bibendum, felis sed interdum venenatis, turpis enim blandit mi, in porttitor pede justo eu massa. Donec dapibus. Duis at velit eu est congue elementum.', '2022-09-07 07:29:12', 'Brena', '2022-06-17 04:03:05', 'Jude');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (621, 65, 'Donec diam neque, vestibulum eget, vulputate ut, ultrices vel, augue. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Donec pharetra, magna vestibulum aliquet ultrices, erat tortor sollicitudin mi, sit amet lobortis sapien sapien non mi. Integer ac neque.', '2022-10-27 05:55:56', 'Wittie', '2022-04-12 20:23:22', 'Corrinne');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (622, 69, 'Cras non velit nec nisi vulputate nonummy. Maecenas tincidunt lacus at velit. Vivamus vel nulla eget eros elementum pellentesque.', '2022-03-24 15:36:58', 'Harp', '2021-12-28 14:51:10', 'Fidelity');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (623, 13, 'Maecenas ut massa quis augue luctus tincidunt. Nulla mollis molestie lorem. Quisque ut erat.', '2022-06-29 19:39:01', 'Lucine', '2022-06-12 13:45:08', 'Randall');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (624, 56, 'In hac habitasse platea dictumst. Etiam faucibus cursus urna. Ut tellus.', '2022-02-01 10:35:12', 'Marven', '2022-12-08 15:19:11', 'Francene');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (625, 74, 'Mauris enim leo, rhoncus sed, vestibulum sit amet, cursus id, turpis. Integer aliquet, massa id lobortis convallis, tortor risus dapibus augue, vel accumsan tellus nisi eu orci. Mauris lacinia sapien quis libero.', '2022-02-09 15:52:09', 'Tasha', '2022-04-08 10:14:30', 'Sunshine');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (626, 58, 'Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus. Vivamus vestibulum sagittis sapien. Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus.', '2022-03-07 07:33:28', 'Nerty', '2022-07-10 20:06:33', 'Janna');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (627, 46, 'Vestibulum quam sapien, varius ut, blandit non, interdum in, ante. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Duis faucibus accumsan odio. Curabitur convallis.', '2022-07-04 00:22:00', 'Ricoriki', '2022-12-06 18:13:07', 'Shannen');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (628, 34, 'Nulla ut erat id mauris vulputate elementum. Nullam varius. Nulla facilisi.', '2022-03-20 02:19:21', 'Benjamin', '2022-05-11 13:37:13', 'Quinn');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (629, 90, 'Duis bibendum. Morbi non quam nec dui luctus rutrum. Nulla tellus.', '2022-11-11 03:00:17', 'Katerine', '2022-06-29 04:38:58', 'Simonne');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (630, 44, 'Integer ac leo. Pellentesque ultrices mattis odio. Donec vitae nisi.', '2022-03-20 03:15:55', 'Fransisco', '2021-12-21 15:16:07', 'Alleen');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (631, 21, 'Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus. Vivamus vestibulum sagittis sapien. Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus.', '2021-12-27 10:48:48', 'Jacqui', '2022-07-24 02:18:24', 'Keriann');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (632, 34, 'Phasellus in felis. Donec semper sapien a libero. Nam dui.', '2022-10-20 08:17:27', 'Egbert', '2022-09-10 14:37:47', 'Paige');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (633, 43, 'Quisque porta volutpat erat. Quisque erat eros, viverra eget, congue eget, semper rutrum, nulla. Nunc purus.', '2022-09-11 22:11:29', 'Rahel', '2022-08-26 16:00:57', 'Neron');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (634, 66, 'Quisque porta volutpat erat. Quisque erat eros, viverra eget, congue eget, semper rutrum, nulla. Nunc purus.', '2022-11-06 07:53:26', 'Nita', '2022-01-03 08:39:21', 'Cairistiona');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (635, 97, 'Vestibulum ac est lacinia nisi venenatis tristique. Fusce congue, diam id ornare imperdiet, sapien urna pretium nisl, ut volutpat sapien arcu sed augue. Aliquam erat volutpat.', '2022-06-30 02:49:11', 'Cinda', '2022-04-06 05:06:24', 'Terrill');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (636, 36, 'Proin eu mi. Nulla ac enim. In tempor, turpis nec euismod scelerisque, quam turpis adipiscing lorem, vitae mattis nibh ligula nec sem.', '2022-12-08 14:18:56', 'Ellery', '2022-04-08 19:14:34', 'Mallorie');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (637, 91, 'Quisque id justo sit amet sapien dignissim vestibulum. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Nulla dapibus dolor vel est. Donec odio justo, sollicitudin ut, suscipit a, feugiat et, eros.', '2022-03-02 21:05:19', 'Brian', '2022-10-13 07:07:37', 'Avram');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (638, 68, 'Fusce consequat. Nulla nisl. Nunc nisl.', '2022-11-29 18:16:04', 'Jessamyn', '2022-10-12 10:18:29', 'Loreen');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (639, 32, 'Proin eu mi. Nulla ac enim. In tempor, turpis nec euismod scelerisque, quam turpis adipiscing lorem, vitae mattis nibh ligula nec sem.', '2022-09-01 03:41:51', 'Melva', '2022-08-24 01:01:24', 'Georgi');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (640, 37, 'Cras mi pede, malesuada in, imperdiet et, commodo vulputate, justo. In blandit ultrices enim. Lorem ipsum dolor sit amet, consectetuer adipiscing elit.', '2022-01-13 07:05:56', 'Krystyna', '2022-07-22 22:13:19', 'Angeli');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (641, 61, 'Maecenas ut massa quis augue luctus tincidunt. Nulla mollis molestie lorem. Quisque ut erat.', '2022-02-28 18:40:11', 'Amaleta', '2022-11-20 02:09:26', 'Kristo');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (642, 82, 'Maecenas ut massa quis augue luctus tincidunt. Nulla mollis molestie lorem. Quisque ut erat.', '2022-04-11 22:41:03', 'Bertram', '2022-10-04 20:19:47', 'Maryjane');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (643, 87, 'Sed sagittis. Nam congue, risus semper porta volutpat, quam pede lobortis ligula, sit amet eleifend pede libero quis orci. Nullam molestie nibh in lectus.', '2022-08-06 16:37:17', 'Paulette', '2022-10-31 07:29:12', 'Martie');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (644, 20, 'Sed sagittis. Nam congue, risus semper porta volutpat, quam pede lobortis ligula, sit amet eleifend pede libero quis orci. Nullam molestie nibh in lectus.', '2022-06-11 01:44:09', 'Bartolemo', '2022-09-10 11:28:11', 'Tanhya');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (645, 8, 'Nulla ut erat id mauris vulputate elementum. Nullam varius. Nulla facilisi.', '2022-09-17 04:07:03', 'Phillis', '2022-08-30 11:31:19', 'Kaye');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (646, 52, 'Nam ultrices, libero non mattis pulvinar, nulla pede ullamcorper augue, a suscipit nulla elit ac nulla. Sed vel enim sit amet nunc viverra dapibus. Nulla suscipit ligula in lacus.', '2022-03-28 15:10:47', 'Chelsy', '2022-08-11 07:40:24', 'Adriena');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (647, 75, 'Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus. Vivamus vestibulum sagittis sapien. Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus.', '2022-07-23 16:15:14', 'Eachelle', '2022-06-29 01:09:00', 'Maxine');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (648, 52, 'Proin leo odio, porttitor id, consequat in, consequat ut, nulla. Sed accumsan felis. Ut at dolor quis odio consequat varius.', '2022-01-27 06:00:25', 'Margarete', '2022-03-23 22:59:41', 'Elisha');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (649, 23, 'Suspendisse potenti. In eleifend quam a odio. In hac habitasse platea dictumst.', '2022-06-18 00:11:13', 'Clarisse', '2022-01-29 09:15:09', 'Chic');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (650, 36, 'Integer tincidunt ante vel ipsum. Praesent blandit lacinia erat. Vestibulum sed magna at nunc commodo placerat.', '2021-12-23 14:04:46', 'Rosalie', '2022-09-07 10:25:54', 'Sosanna');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (651, 32, 'Maecenas ut massa quis augue luctus tincidunt. Nulla mollis molestie lorem. Quisque ut erat.', '2022-03-31 01:47:46', 'Giana', '2022-02-23 20:35:45', 'Sile');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (652, 96, 'Cras non velit nec nisi vulputate nonummy. Maecenas tincidunt lacus at velit. Vivamus vel nulla eget eros elementum pellentesque.', '2022-05-05 05:18:33', 'Des', '2022-03-26 18:41:18', 'Thibaud');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (653, 16, 'Lorem ipsum dolor sit amet, consectetuer adipiscing elit. Proin risus. Praesent lectus.', '2022-09-21 05:30:43', 'Emlynne', '2022-09-05 14:10:45', 'Jannel');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (654, 1, 'Maecenas leo odio, condimentum id, luctus nec, molestie sed, justo. Pellentesque viverra pede ac diam. Cras pellentesque volutpat dui.', '2022-06-10 07:51:07', 'Myrta', '2022-09-25 07:20:36', 'Estevan');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (655, 81, 'Maecenas leo odio, condimentum id, luctus nec, molestie sed, justo. Pellentesque viverra pede ac diam. Cras pellentesque volutpat dui.', '2022-07-17 14:56:06', 'Nels', '2022-08-15 06:28:03', 'Maxine');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (656, 53, 'In hac habitasse platea dictumst. Morbi vestibulum, velit id pretium iaculis, diam erat fermentum justo, nec condimentum neque sapien placerat ante. Nulla justo.', '2022-07-05 19:54:30', 'Trstram', '2022-03-06 23:33:29', 'Ajay');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (657, 89, 'In hac habitasse platea dictumst. Morbi vestibulum, velit id pretium iaculis, diam erat fermentum justo, nec condimentum neque sapien placerat ante. Nulla justo.', '2022-10-07 19:59:02', 'Lacey', '2022-04-24 01:24:10', 'Rees');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (658, 29, 'Duis consequat dui nec nisi volutpat eleifend. Donec ut dolor. Morbi vel lectus in quam fringilla rhoncus.', '2022-04-26 15:11:17', 'Keary', '2022-07-02 15:00:12', 'Ellie');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (659, 49, 'Vestibulum ac est lacinia nisi venenatis tristique. Fusce congue, diam id ornare imperdiet, sapien urna pretium nisl, ut volutpat sapien arcu sed augue. Aliquam erat volutpat.', '2022-02-10 04:29:42', 'Raff', '2022-01-06 10:47:09', 'Del');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (660, 100, 'In hac habitasse platea dictumst. Morbi vestibulum, velit id pretium iaculis, diam erat fermentum justo, nec condimentum neque sapien placerat ante. Nulla justo.', '2022-01-07 03:56:41', 'Samuel', '2022-01-05 08:53:03', 'Donica');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (661, 19, 'Sed ante. Vivamus tortor. Duis mattis egestas metus.', '2022-10-25 18:47:41', 'Norry', '2022-06-24 10:59:45', 'Kaitlin');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (662, 71, 'Praesent blandit. Nam nulla. Integer pede justo, lacinia eget, tincidunt eget, tempus vel, pede.', '2021-12-28 17:07:18', 'Fanny', '2022-11-15 09:16:04', 'Isa');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (663, 74, 'Pellentesque at nulla. Suspendisse potenti. Cras in purus eu magna vulputate luctus.', '2022-05-20 12:40:09', 'Bette-ann', '2022-07-15 20:53:30', 'Graig');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (664, 83, 'Curabitur gravida nisi at nibh. In hac habitasse platea dictumst. Aliquam augue quam, sollicitudin vitae, consectetuer eget, rutrum at, lorem.', '2022-06-13 01:41:45', 'Elden', '2022-11-09 08:43:42', 'Abdel');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (665, 97, 'Quisque porta volutpat erat. Quisque erat eros, viverra eget, congue eget, semper rutrum, nulla. Nunc purus.', '2022-11-30 21:14:40', 'Biddie', '2022-08-01 07:48:42', 'Wynny');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (666, 65, 'Maecenas ut massa quis augue luctus tincidunt. Nulla mollis molestie lorem. Quisque ut erat.', '2022-06-28 02:47:57', 'Bette', '2022-11-13 19:37:46', 'Silva');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (667, 49, 'Etiam vel augue. Vestibulum rutrum rutrum neque. Aenean auctor gravida sem.', '2022-04-12 03:13:38', 'Ronny', '2022-12-01 06:01:20', 'Cale');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (668, 63, 'Duis consequat dui nec nisi volutpat eleifend. Donec ut dolor. Morbi vel lectus in quam fringilla rhoncus.', '2022-03-01 09:18:07', 'Claiborn', '2022-06-07 22:57:39', 'Yevette');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (669, 46, 'In quis justo. Maecenas rhoncus aliquam lacus. Morbi quis tortor id nulla ultrices aliquet.', '2022-04-22 01:14:34', 'Julio', '2022-03-10 11:24:45', 'Caty');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (670, 45, 'In quis justo. Maecenas rhoncus aliquam lacus. Morbi quis tortor id nulla ultrices aliquet.', '2022-01-11 00:44:37', 'Jeramey', '2022-02-13 08:25:02', 'Wilton');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (671, 91, 'Donec diam neque, vestibulum eget, vulputate ut, ultrices vel, augue. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Donec pharetra, magna vestibulum aliquet ultrices, erat tortor sollicitudin mi, sit amet lobortis sapien sapien non mi. Integer ac neque.', '2022-05-18 07:31:48', 'Errick', '2022-05-15 13:39:01', 'Matthus');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (672, 66, 'In hac habitasse platea dictumst. Morbi vestibulum, velit id pretium iaculis, diam erat fermentum justo, nec condimentum neque sapien placerat ante. Nulla justo.', '2022-06-09 12:45:33', 'Doy', '2022-11-08 15:37:22', 'Ignacius');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (673, 8, 'Proin leo odio, porttitor id, consequat in, consequat ut, nulla. Sed accumsan felis. Ut at dolor quis odio consequat varius.', '2022-07-28 00:49:58', 'Avery', '2022-09-28 02:52:43', 'Genny');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (674, 98, 'Phasellus in felis. Donec semper sapien a libero. Nam dui.', '2022-05-21 19:15:27', 'Gael', '2022-05-26 01:00:52', 'Merv');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (675, 56, 'Proin leo odio, porttitor id, consequat in, consequat ut, nulla. Sed accumsan felis. Ut at dolor quis odio consequat varius.', '2022-01-02 04:04:59', 'Janeta', '2021-12-29 21:57:39', 'Carolan');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (676, 50, 'Duis bibendum. Morbi non quam nec dui luctus rutrum. Nulla tellus.', '2022-08-24 19:10:58', 'Lilith', '2022-08-17 16:13:52', 'Belva');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (677, 52, 'Maecenas tristique, est et tempus semper, est quam pharetra magna, ac consequat metus sapien ut nunc. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Mauris viverra diam vitae quam. Suspendisse potenti.', '2022-05-29 18:57:16', 'Sigmund', '2022-06-28 05:12:07', 'Lothaire');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (678, 7, 'Cras mi pede, malesuada in, imperdiet et, commodo vulputate, justo. In blandit ultrices enim. Lorem ipsum dolor sit amet, consectetuer adipiscing elit.', '2022-11-06 20:17:58', 'Mercy', '2022-04-10 14:27:00', 'Karla');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (679, 73, 'Proin interdum mauris non ligula pellentesque ultrices. Phasellus id sapien in sapien iaculis congue. Vivamus metus arcu, adipiscing molestie, hendrerit at, vulputate vitae, nisl.', '2022-08-23 18:46:54', 'Adelbert', '2022-06-18 07:59:03', 'Haslett');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (680, 21, 'Quisque id justo sit amet sapien dignissim vestibulum. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Nulla dapibus dolor vel est. Donec odio justo, sollicitudin ut, suscipit a, feugiat et, eros.', '2022-04-20 14:31:24', 'Scottie', '2022-07-16 07:42:48', 'Hakeem');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (681, 19, 'Donec diam neque, vestibulum eget, vulputate ut, ultrices vel, augue. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Donec pharetra, magna vestibulum aliquet ultrices, erat tortor sollicitudin mi, sit amet lobortis sapien sapien non mi. Integer ac neque.', '2022-12-12 09:28:27', 'Fair', '2022-06-24 21:30:02', 'Cam');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (682, 40, 'Donec diam neque, vestibulum eget, vulputate ut, ultrices vel, augue. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Donec pharetra, magna vestibulum aliquet ultrices, erat tortor sollicitudin mi, sit amet lobortis sapien sapien non mi. Integer ac neque.', '2022-01-14 03:11:11', 'Alic', '2022-04-08 02:00:46', 'Sabina');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (683, 8, 'Vestibulum ac est lacinia nisi venenatis tristique. Fusce congue, diam id ornare imperdiet, sapien urna pretium nisl, ut volutpat sapien arcu sed augue. Aliquam erat volutpat.', '2022-07-27 02:10:07', 'Gianina', '2022-12-16 14:59:15', 'Winonah');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (684, 36, 'Lorem ipsum dolor sit amet, consectetuer adipiscing elit. Proin risus. Praesent lectus.', '2022-12-14 20:21:43', 'Flor', '2022-11-23 16:03:53', 'Elinore');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (685, 24, 'Proin eu mi. Nulla ac enim. In tempor, turpis nec euismod scelerisque, quam turpis adipiscing lorem, vitae mattis nibh ligula nec sem.', '2022-01-02 07:57:56', 'Marla', '2022-08-30 19:27:34', 'Franchot');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (686, 50, 'Sed ante. Vivamus tortor. Duis mattis egestas metus.', '2022-03-09 23:34:51', 'Guthrie', '2022-10-28 02:22:05', 'Den');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (687, 49, 'Aenean fermentum. Donec ut mauris eget massa tempor convallis. Nulla neque libero, convallis eget, eleifend luctus, ultricies eu, nibh.', '2022-12-16 17:45:16', 'Melanie', '2022-06-26 02:11:49', 'Willard');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (688, 83, 'Quisque id justo sit amet sapien dignissim vestibulum. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Nulla dapibus dolor vel est. Donec odio justo, sollicitudin ut, suscipit a, feugiat et, eros.', '2022-09-05 15:33:15', 'Gaynor', '2022-12-19 23:42:47', 'Marthe');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (689, 95, 'Praesent blandit. Nam nulla. Integer pede justo, lacinia eget, tincidunt eget, tempus vel, pede.', '2022-03-10 00:24:53', 'Auroora', '2022-06-29 05:52:15', 'Violet');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (690, 95, 'Integer tincidunt ante vel ipsum. Praesent blandit lacinia erat. Vestibulum sed magna at nunc commodo placerat.', '2022-04-14 13:02:30', 'Ariana', '2022-03-27 07:36:51', 'Bowie');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (691, 50, 'Etiam vel augue. Vestibulum rutrum rutrum neque. Aenean auctor gravida sem.', '2022-05-13 11:12:54', 'Liz', '2022-03-20 12:37:03', 'Jena');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (692, 18, 'Maecenas ut massa quis augue luctus tincidunt. Nulla mollis molestie lorem. Quisque ut erat.', '2022-06-22 09:32:37', 'Kenon', '2022-09-26 18:06:26', 'Sibel');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (693, 63, 'Cras mi pede, malesuada in, imperdiet et, commodo vulputate, justo. In blandit ultrices enim. Lorem ipsum dolor sit amet, consectetuer adipiscing elit.', '2022-12-16 06:08:26', 'Stinky', '2022-04-24 06:23:03', 'Anet');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (694, 87, 'Duis bibendum. Morbi non quam nec dui luctus rutrum. Nulla tellus.', '2022-09-01 05:51:40', 'Grace', '2022-03-12 10:52:39', 'Jasmin');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (695, 9, 'Aenean lectus. Pellentesque eget nunc. Donec quis orci eget orci vehicula condimentum.', '2022-03-24 09:13:56', 'Kira', '2022-01-31 05:28:45', 'Brantley');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (696, 93, 'In congue. Etiam justo. Etiam pretium iaculis justo.', '2022-10-20 03:43:10', 'Dyna', '2022-05-28 09:19:08', 'Tymon');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (697, 21, 'Morbi non lectus. Aliquam sit amet diam in magna bibendum imperdiet. Nullam orci pede, venenatis non, sodales sed, tincidunt eu, felis.', '2022-12-08 15:56:02', 'Kessia', '2022-11-25 20:44:31', 'Donny');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (698, 70, 'Maecenas leo odio, condimentum id, luctus nec, molestie sed, justo. Pellentesque viverra pede ac diam. Cras pellentesque volutpat dui.', '2022-08-29 20:05:11', 'Bianca', '2022-10-11 18:16:07', 'Gloriane');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (699, 50, 'Proin eu mi. Nulla ac enim. In tempor, turpis nec euismod scelerisque, quam turpis adipiscing lorem, vitae mattis nibh ligula nec sem.', '2022-01-17 17:34:22', 'Lia', '2022-10-22 06:38:03', 'Nana');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (700, 45, 'Quisque porta volutpat erat. Quisque erat eros, viverra eget, congue eget, semper rutrum, nulla. Nunc purus.', '2022-11-13 22:50:45', 'Jodie', '2022-09-04 11:20:02', 'Dody');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (701, 53, 'Sed sagittis. Nam congue, risus semper porta volutpat, quam pede lobortis ligula, sit amet eleifend pede libero quis orci. Nullam molestie nibh in lectus.', '2022-09-06 23:19:46', 'Theresina', '2022-09-27 15:08:07', 'Nancey');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (702, 74, 'Praesent id massa id nisl venenatis lacinia. Aenean sit amet justo. Morbi ut odio.', '2022-05-22 18:16:08', 'Jehu', '2022-03-31 17:43:25', 'Maurene');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (703, 28, 'Suspendisse potenti. In eleifend quam a odio. In hac habitasse platea dictumst.', '2022-07-03 07:57:24', 'Trudie', '2022-01-17 05:12:56', 'Farrah');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (704, 92, 'Praesent id massa id nisl venenatis lacinia. Aenean sit amet justo. Morbi ut odio.', '2022-07-09 21:02:52', 'Curtice', '2022-03-10 02:55:17', 'Codi');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (705, 73, 'Sed sagittis. Nam congue, risus semper porta volutpat, quam pede lobortis ligula, sit amet eleifend pede libero quis orci. Nullam molestie nibh in lectus.', '2022-04-09 10:33:06', 'Carlota', '2022-06-05 22:03:18', 'Lotty');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (706, 92, 'Pellentesque at nulla. Suspendisse potenti. Cras in purus eu magna vulputate luctus.', '2022-02-08 21:55:00', 'Fletch', '2022-04-04 14:36:49', 'Stefan');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (707, 18, 'Nullam porttitor lacus at turpis. Donec posuere metus vitae ipsum. Aliquam non mauris.', '2022-08-28 10:21:18', 'Baily', '2022-07-19 08:12:33', 'Verne');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (708, 24, 'Aenean fermentum. Donec ut mauris eget massa tempor convallis. Nulla neque libero, convallis eget, eleifend luctus, ultricies eu, nibh.', '2022-02-16 06:54:11', 'Tremain', '2022-03-30 02:46:53', 'Yulma');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (709, 13, 'Curabitur in libero ut massa volutpat convallis. Morbi odio odio, elementum eu, interdum eu, tincidunt in, leo. Maecenas pulvinar lobortis est.', '2022-02-15 18:20:31', 'Aigneis', '2022-06-04 04:57:37', 'Levi');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (710, 45, 'Phasellus sit amet erat. Nulla tempus. Vivamus in felis eu sapien cursus vestibulum.', '2022-10-29 23:56:58', 'Rancell', '2022-11-04 03:45:42', 'Cherey');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (711, 65, 'Praesent id massa id nisl venenatis lacinia. Aenean sit amet justo. Morbi ut odio.', '2022-09-15 19:24:55', 'Sven', '2022-09-29 20:09:31', 'Minne');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (712, 29, 'Pellentesque at nulla. Suspendisse potenti. Cras in purus eu magna vulputate luctus.', '2022-04-12 07:52:53', 'Diane-marie', '2021-12-26 23:27:04', 'Betsy');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (713, 89, 'Vestibulum ac est lacinia nisi venenatis tristique. Fusce congue, diam id ornare imperdiet, sapien urna pretium nisl, ut volutpat sapien arcu sed augue. Aliquam erat volutpat.', '2022-08-05 19:23:33', 'Nicolette', '2022-04-28 22:16:09', 'Erna');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (714, 83, 'In hac habitasse platea dictumst. Morbi vestibulum, velit id pretium iaculis, diam erat fermentum justo, nec condimentum neque sapien placerat ante. Nulla justo.', '2022-08-25 17:57:10', 'Alyson', '2022-07-14 02:05:02', 'Christen');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (715, 46, 'Curabitur in libero ut massa volutpat convallis. Morbi odio odio, elementum eu, interdum eu, tincidunt in, leo. Maecenas pulvinar lobortis est.', '2022-11-30 14:36:59', 'Ravid', '2022-03-25 22:56:53', 'Kally');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (716, 97, 'Proin leo odio, porttitor id, consequat in, consequat ut, nulla. Sed accumsan felis. Ut at dolor quis odio consequat varius.', '2022-02-17 06:22:31', 'Rubetta', '2022-06-14 14:04:07', 'Odelia');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (717, 19, 'Etiam vel augue. Vestibulum rutrum rutrum neque. Aenean auctor gravida sem.', '2022-06-28 09:25:15', 'Rayna', '2022-03-31 02:52:54', 'Sanford');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (718, 49, 'Vestibulum ac est lacinia nisi venenatis tristique. Fusce congue, diam id ornare imperdiet, sapien urna pretium nisl, ut volutpat sapien arcu sed augue. Aliquam erat volutpat.', '2022-04-29 18:33:09', 'Jere', '2022-06-11 03:52:47', 'Issie');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (719, 37, 'Nullam porttitor lacus at turpis. Donec posuere metus vitae ipsum. Aliquam non mauris.', '2022-12-14 19:43:32', 'Tadio', '2022-07-13 07:11:36', 'Farra');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (720, 63, 'Mauris enim leo, rhoncus sed, vestibulum sit amet, cursus id, turpis. Integer aliquet, massa id lobortis convallis, tortor risus dapibus augue, vel accumsan tellus nisi eu orci. Mauris lacinia sapien quis libero.', '2022-01-15 11:46:20', 'Gwenette', '2022-05-17 13:55:53', 'Deloris');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (721, 44, 'Duis bibendum. Morbi non quam nec dui luctus rutrum. Nulla tellus.', '2022-03-28 05:13:51', 'Callida', '2022-09-20 06:56:33', 'Erica');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (722, 21, 'Maecenas ut massa quis augue luctus tincidunt. Nulla mollis molestie lorem. Quisque ut erat.', '2022-06-07 22:53:06', 'Arnuad', '2022-06-28 10:10:11', 'Rudolph');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (723, 53, 'Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus. Vivamus vestibulum sagittis sapien. Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus.', '2022-04-05 04:02:34', 'Geralda', '2022-10-11 09:55:15', 'Lyle');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (724, 27, 'Integer ac leo. Pellentesque ultrices mattis odio. Donec vitae nisi.', '2022-09-17 03:00:44', 'Lucie', '2022-06-30 08:09:02', 'Casar');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (725, 53, 'Proin eu mi. Nulla ac enim. In tempor, turpis nec euismod scelerisque, quam turpis adipiscing lorem, vitae mattis nibh ligula nec sem.', '2022-10-24 23:29:52', 'Hazlett', '2022-03-30 21:17:55', 'Quincy');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (726, 47, 'In hac habitasse platea dictumst. Etiam faucibus cursus urna. Ut tellus.', '2022-05-31 05:06:16', 'Dareen', '2022-10-16 13:52:37', 'Veronika');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (727, 50, 'Curabitur at ipsum ac tellus semper interdum. Mauris ullamcorper purus sit amet nulla. Quisque arcu libero, rutrum ac, lobortis vel, dapibus at, diam.', '2022-09-17 11:43:34', 'Page', '2022-04-30 09:57:01', 'Derrek');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (728, 31, 'Praesent id massa id nisl venenatis lacinia. Aenean sit amet justo. Morbi ut odio.', '2021-12-21 22:52:45', 'Shurlock', '2022-03-27 15:58:49', 'Carie');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (729, 18, 'Integer tincidunt ante vel ipsum. Praesent blandit lacinia erat. Vestibulum sed magna at nunc commodo placerat.', '2022-04-09 00:28:09', 'Averil', '2022-08-16 05:51:39', 'Davis');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (730, 56, 'Quisque id justo sit amet sapien dignissim vestibulum. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Nulla dapibus dolor vel est. Donec odio justo, sollicitudin ut, suscipit a, feugiat et, eros.', '2022-01-17 07:57:40', 'Cheryl', '2022-03-10 10:42:15', 'Flinn');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (731, 27, 'Etiam vel augue. Vestibulum rutrum rutrum neque. Aenean auctor gravida sem.', '2022-01-14 04:00:50', 'Ephraim', '2022-02-23 19:25:11', 'Shawn');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (732, 32, 'Mauris enim leo, rhoncus sed, vestibulum sit amet, cursus id, turpis. Integer aliquet, massa id lobortis convallis, tortor risus dapibus augue, vel accumsan tellus nisi eu orci. Mauris lacinia sapien quis libero.', '2022-03-01 20:52:50', 'Gertruda', '2022-04-26 21:13:41', 'Yolande');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (733, 34, 'Cras non velit nec nisi vulputate nonummy. Maecenas tincidunt lacus at velit. Vivamus vel nulla eget eros elementum pellentesque.', '2022-04-13 01:21:28', 'Andrea', '2022-03-04 04:17:40', 'Claretta');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (734, 46, 'Proin interdum mauris non ligula pellentesque ultrices. Phasellus id sapien in sapien iaculis congue. Vivamus metus arcu, adipiscing molestie, hendrerit at, vulputate vitae, nisl.', '2022-04-13 05:22:19', 'Myrwyn', '2022-01-17 19:08:33', 'Hayden');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (735, 44, 'Aliquam quis turpis eget elit sodales scelerisque. Mauris sit amet eros. Suspendisse accumsan tortor quis turpis.', '2022-07-04 22:52:31', 'Gusta', '2022-11-29 17:00:30', 'Tuesday');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (736, 21, 'Fusce posuere felis sed lacus. Morbi sem mauris, laoreet ut, rhoncus aliquet, pulvinar sed, nisl. Nunc rhoncus dui vel sem.', '2022-10-08 18:36:11', 'Kelli', '2022-10-03 11:16:24', 'Albertine');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (737, 37, 'Curabitur at ipsum ac tellus semper interdum. Mauris ullamcorper purus sit amet nulla. Quisque arcu libero, rutrum ac, lobortis vel, dapibus at, diam.', '2022-08-19 14:41:02', 'Liv', '2022-03-12 04:12:21', 'Maryann');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (738, 66, 'In hac habitasse platea dictumst. Morbi vestibulum, velit id pretium iaculis, diam erat fermentum justo, nec condimentum neque sapien placerat ante. Nulla justo.', '2022-04-08 02:30:13', 'Brocky', '2022-05-16 04:55:24', 'Ambrosius');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (739, 79, 'Morbi porttitor lorem id ligula. Suspendisse ornare consequat lectus. In est risus, auctor sed, tristique in, tempus sit amet, sem.', '2022-01-05 00:25:13', 'Gavrielle', '2022-12-01 11:14:31', 'Amberly');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (740, 73, 'Duis aliquam convallis nunc. Proin at turpis a pede posuere nonummy. Integer non velit.', '2022-03-24 12:03:47', 'Sheffield', '2021-12-29 09:59:23', 'Aida');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (741, 86, 'Fusce posuere felis sed lacus. Morbi sem mauris, laoreet ut, rhoncus aliquet, pulvinar sed, nisl. Nunc rhoncus dui vel sem.', '2022-08-12 09:54:23', 'Ward', '2022-04-29 00:47:35', 'Shellysheldon');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (742, 14, 'Nullam sit amet turpis elementum ligula vehicula consequat. Morbi a ipsum. Integer a nibh.', '2022-11-25 05:18:44', 'Kylen', '2022-03-10 04:15:56', 'Lilllie');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (743, 47, 'In hac habitasse platea dictumst. Etiam faucibus cursus urna. Ut tellus.', '2022-03-09 05:28:17', 'Nikita', '2022-08-10 18:34:16', 'Vinni');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (744, 60, 'Quisque id justo sit amet sapien dignissim vestibulum. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Nulla dapibus dolor vel est. Donec odio justo, sollicitudin ut, suscipit a, feugiat et, eros.', '2022-01-31 13:27:21', 'Sydney', '2021-12-30 04:04:47', 'Etti');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (745, 62, 'Nam ultrices, libero non mattis pulvinar, nulla pede ullamcorper augue, a suscipit nulla elit ac nulla. Sed vel enim sit amet nunc viverra dapibus. Nulla suscipit ligula in lacus.', '2022-04-11 13:08:11', 'Gregor', '2022-01-10 10:22:18', 'Denna');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (746, 59, 'Maecenas leo odio, condimentum id, luctus nec, molestie sed, justo. Pellentesque viverra pede ac diam. Cras pellentesque volutpat dui.', '2022-06-15 07:52:19', 'Cesaro', '2022-10-09 01:51:42', 'Reuven');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (747, 9, 'Donec diam neque, vestibulum eget, vulputate ut, ultrices vel, augue. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Donec pharetra, magna vestibulum aliquet ultrices, erat tortor sollicitudin mi, sit amet lobortis sapien sapien non mi. Integer ac neque.', '2022-08-04 09:04:14', 'Clementine', '2022-07-08 15:32:44', 'Vince');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (748, 97, 'Duis aliquam convallis nunc. Proin at turpis a pede posuere nonummy. Integer non velit.', '2022-10-22 11:38:49', 'Trude', '2022-10-05 21:05:58', 'Gertrud');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (749, 43, 'Sed ante. Vivamus tortor. Duis mattis egestas metus.', '2022-10-22 03:13:55', 'Guillemette', '2021-12-22 16:49:09', 'Fallon');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (750, 19, 'Nam ultrices, libero non mattis pulvinar, nulla pede ullamcorper augue, a suscipit nulla elit ac nulla. Sed vel enim sit amet nunc viverra dapibus. Nulla suscipit ligula in lacus.', '2022-01-18 01:27:42', 'Addie', '2022-11-25 04:47:10', 'Idelle');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (751, 95, 'Suspendisse potenti. In eleifend quam a odio. In hac habitasse platea dictumst.', '2022-04-18 09:19:54', 'Daryl', '2022-01-07 14:32:16', 'Mufinella');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (752, 6, 'Donec diam neque, vestibulum eget, vulputate ut, ultrices vel, augue. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Donec pharetra, magna vestibulum aliquet ultrices, erat tortor sollicitudin mi, sit amet lobortis sapien sapien non mi. Integer ac neque.', '2022-06-20 09:29:41', 'Shara', '2022-07-26 23:34:11', 'Almira');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (753, 15, 'Maecenas tristique, est et tempus semper, est quam pharetra magna, ac consequat metus sapien ut nunc. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Mauris viverra diam vitae quam. Suspendisse potenti.', '2022-04-27 07:40:40', 'Miner', '2022-09-23 07:32:40', 'Junina');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (754, 42, 'Pellentesque at nulla. Suspendisse potenti. Cras in purus eu magna vulputate luctus.', '2022-11-09 13:49:46', 'Hadrian', '2022-02-04 01:21:01', 'Jillian');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (755, 36, 'Proin leo odio, porttitor id, consequat in, consequat ut, nulla. Sed accumsan felis. Ut at dolor quis odio consequat varius.', '2021-12-29 20:18:51', 'Letti', '2022-08-04 17:11:32', 'Elvera');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (756, 8, 'Maecenas leo odio, condimentum id, luctus nec, molestie sed, justo. Pellentesque viverra pede ac diam. Cras pellentesque volutpat dui.', '2022-05-07 04:12:31', 'Pattie', '2022-11-12 15:31:01', 'Muffin');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (757, 42, 'Proin interdum mauris non ligula pellentesque ultrices. Phasellus id sapien in sapien iaculis congue. Vivamus metus arcu, adipiscing molestie, hendrerit at, vulputate vitae, nisl.', '2022-07-08 09:16:06', 'Fairfax', '2022-09-06 01:25:08', 'Raphael');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (758, 83, 'Curabitur at ipsum ac tellus semper interdum. Mauris ullamcorper purus sit amet nulla. Quisque arcu libero, rutrum ac, lobortis vel, dapibus at, diam.', '2022-03-27 13:12:18', 'Ogdon', '2022-02-22 22:23:22', 'Daron');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (759, 49, 'Curabitur in libero ut massa volutpat convallis. Morbi odio odio, elementum eu, interdum eu, tincidunt in, leo. Maecenas pulvinar lobortis est.', '2021-12-30 09:02:09', 'Andrej', '2021-12-27 23:24:55', 'Jessica');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (760, 72, 'Sed sagittis. Nam congue, risus semper porta volutpat, quam pede lobortis ligula, sit amet eleifend pede libero quis orci. Nullam molestie nibh in lectus.', '2022-05-26 00:29:10', 'Maire', '2022-06-13 12:29:34', 'Linn');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (761, 93, 'Fusce consequat. Nulla nisl. Nunc nisl.', '2022-08-13 01:13:14', 'Hendrika', '2022-07-15 12:05:25', 'Wendy');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (762, 54, 'Duis aliquam convallis nunc. Proin at turpis a pede posuere nonummy. Integer non velit.', '2022-11-28 14:25:12', 'Glenine', '2022-04-02 09:11:20', 'Mellicent');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (763, 64, 'Quisque id justo sit amet sapien dignissim vestibulum. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Nulla dapibus dolor vel est. Donec odio justo, sollicitudin ut, suscipit a, feugiat et, eros.', '2022-03-28 16:12:56', 'Rae', '2022-01-14 07:24:24', 'Seana');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (764, 71, 'Curabitur gravida nisi at nibh. In hac habitasse platea dictumst. Aliquam augue quam, sollicitudin vitae, consectetuer eget, rutrum at, lorem.', '2022-11-27 23:01:10', 'Estevan', '2021-12-23 13:02:03', 'Carlos');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (765, 39, 'Cras non velit nec nisi vulputate nonummy. Maecenas tincidunt lacus at velit. Vivamus vel nulla eget eros elementum pellentesque.', '2022-07-13 07:17:47', 'Merilyn', '2022-12-20 00:19:29', 'Bertie');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (766, 80, 'Suspendisse potenti. In eleifend quam a odio. In hac habitasse platea dictumst.', '2022-05-14 22:42:04', 'Hanson', '2022-10-19 19:06:53', 'Madella');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (767, 46, 'Etiam vel augue. Vestibulum rutrum rutrum neque. Aenean auctor gravida sem.', '2022-01-21 01:05:51', 'Edwin', '2021-12-31 07:22:52', 'Luciano');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (768, 47, 'Nulla ut erat id mauris vulputate elementum. Nullam varius. Nulla facilisi.', '2022-09-26 08:49:29', 'Stanton', '2022-08-20 23:13:06', 'Garfield');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (769, 86, 'Proin interdum mauris non ligula pellentesque ultrices. Phasellus id sapien in sapien iaculis congue. Vivamus metus arcu, adipiscing molestie, hendrerit at, vulputate vitae, nisl.', '2022-08-07 02:17:31', 'Teodora', '2022-02-01 17:41:55', 'Kaycee');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (770, 87, 'In sagittis dui vel nisl. Duis ac nibh. Fusce lacus purus, aliquet at, feugiat non, pretium quis, lectus.', '2022-02-12 06:56:31', 'Minna', '2022-02-01 01:53:02', 'Dominic');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (771, 63, 'Maecenas tristique, est et tempus semper, est quam pharetra magna, ac consequat metus sapien ut nunc. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Mauris viverra diam vitae quam. Suspendisse potenti.', '2022-09-18 01:43:25', 'Lynde', '2022-04-30 13:10:40', 'Adelaida');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (772, 53, 'Cras mi pede, malesuada in, imperdiet et, commodo vulputate, justo. In blandit ultrices enim. Lorem ipsum dolor sit amet, consectetuer adipiscing elit.', '2022-01-25 16:54:08', 'Bartolomeo', '2022-04-16 11:10:10', 'Casar');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (773, 51, 'Duis aliquam convallis nunc. Proin at turpis a pede posuere nonummy. Integer non velit.', '2022-08-28 05:01:36', 'Alex', '2022-02-25 02:02:23', 'Ashlin');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (774, 54, 'Maecenas tristique, est et tempus semper, est quam pharetra magna, ac consequat metus sapien ut nunc. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Mauris viverra diam vitae quam. Suspendisse potenti.', '2022-06-21 10:52:38', 'Dominik', '2022-03-14 13:28:01', 'Shandy');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (775, 26, 'Vestibulum ac est lacinia nisi venenatis tristique. Fusce congue, diam id ornare imperdiet, sapien urna pretium nisl, ut volutpat sapien arcu sed augue. Aliquam erat volutpat.', '2022-03-15 18:33:55', 'Nomi', '2022-10-15 00:37:28', 'Culver');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (776, 89, 'Praesent blandit. Nam nulla. Integer pede justo, lacinia eget, tincidunt eget, tempus vel, pede.', '2022-09-04 19:38:22', 'Kamilah', '2022-09-04 01:43:07', 'Kiele');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (777, 23, 'Praesent blandit. Nam nulla. Integer pede justo, lacinia eget, tincidunt eget, tempus vel, pede.', '2022-07-13 12:09:31', 'Claretta', '2022-08-30 19:55:25', 'Bentley');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (778, 92, 'In congue. Etiam justo. Etiam pretium iaculis justo.', '2022-08-13 04:40:53', 'Nata', '2022-04-24 09:56:54', 'Tadeo');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (779, 46, 'Integer tincidunt ante vel ipsum. Praesent blandit lacinia erat. Vestibulum sed magna at nunc commodo placerat.', '2022-05-30 13:51:25', 'Erv', '2022-05-18 05:45:36', 'Sigfrid');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (780, 44, 'Phasellus in felis. Donec semper sapien a libero. Nam dui.', '2022-08-09 05:27:07', 'Elvin', '2022-07-10 00:36:22', 'Jock');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (781, 78, 'Sed sagittis. Nam congue, risus semper porta volutpat, quam pede lobortis ligula, sit amet eleifend pede libero quis orci. Nullam molestie nibh in lectus.', '2022-02-09 04:55:47', 'Sydney', '2022-01-11 13:39:12', 'Arliene');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (782, 75, 'Cras mi pede, malesuada in, imperdiet et, commodo vulputate, justo. In blandit ultrices enim. Lorem ipsum dolor sit amet, consectetuer adipiscing elit.', '2022-08-25 02:14:40', 'Bertie', '2022-09-20 15:19:12', 'Cirilo');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (783, 70, 'Phasellus in felis. Donec semper sapien a libero. Nam dui.', '2022-11-13 08:32:51', 'Cynthia', '2022-11-06 13:29:19', 'Drona');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (784, 32, 'Curabitur at ipsum ac tellus semper interdum. Mauris ullamcorper purus sit amet nulla. Quisque arcu libero, rutrum ac, lobortis vel, dapibus at, diam.', '2022-10-05 17:02:52', 'Chas', '2022-08-02 19:02:07', 'Erasmus');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (785, 88, 'In hac habitasse platea dictumst. Etiam faucibus cursus urna. Ut tellus.', '2022-03-06 17:13:12', 'Dino', '2022-01-07 22:56:41', 'Jacky');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (786, 22, 'Etiam vel augue. Vestibulum rutrum rutrum neque. Aenean auctor gravida sem.', '2022-08-28 23:43:24', 'Ludwig', '2022-09-30 16:16:14', 'Marilin');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (787, 93, 'Duis bibendum, felis sed interdum venenatis, turpis enim blandit mi, in porttitor pede justo eu massa. Donec dapibus. Duis at velit eu est congue elementum.', '2022-02-02 20:28:56', 'Nikolos', '2022-03-22 08:31:51', 'Darbie');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (788, 68, 'Fusce consequat. Nulla nisl. Nunc nisl.', '2022-04-05 11:45:01', 'Bruce', '2022-03-04 22:11:41', 'Vite');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (789, 63, 'In congue. Etiam justo. Etiam pretium iaculis justo.', '2022-12-14 22:29:58', 'Levey', '2022-11-13 01:04:41', 'Kessiah');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (790, 59, 'Quisque id justo sit amet sapien dignissim vestibulum. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Nulla dapibus dolor vel est. Donec odio justo, sollicitudin ut, suscipit a, feugiat et, eros.', '2022-12-15 10:28:09', 'Darrelle', '2022-06-23 04:17:13', 'Tracie');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (791, 67, 'In congue. Etiam justo. Etiam pretium iaculis justo.', '2022-04-14 12:27:27', 'Delmer', '2022-11-16 06:07:01', 'Candi');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (792, 81, 'Duis aliquam convallis nunc. Proin at turpis a pede posuere nonummy. Integer non velit.', '2022-10-11 05:55:49', 'Billye', '2022-05-21 22:43:31', 'Carlie');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (793, 42, 'Nullam porttitor lacus at turpis. Donec posuere metus vitae ipsum. Aliquam non mauris.', '2022-01-28 04:20:15', 'Pietrek', '2022-06-25 03:10:39', 'Kent');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (794, 43, 'In sagittis dui vel nisl. Duis ac nibh. Fusce lacus purus, aliquet at, feugiat non, pretium quis, lectus.', '2022-10-24 09:18:49', 'Bobine', '2022-04-24 17:47:35', 'Dasya');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (795, 52, 'Maecenas tristique, est et tempus semper, est quam pharetra magna, ac consequat metus sapien ut nunc. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Mauris viverra diam vitae quam. Suspendisse potenti.', '2022-04-17 10:06:33', 'Basilius', '2022-10-19 06:59:19', 'Nollie');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (796, 74, 'Duis bibendum, felis sed interdum venenatis, turpis enim blandit mi, in porttitor pede justo eu massa. Donec dapibus. Duis at velit eu est congue elementum.', '2022-11-23 05:40:21', 'Fritz', '2022-02-11 05:45:22', 'Boy');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (797, 76, 'Cras mi pede, malesuada in, imperdiet et, commodo vulputate, justo. In blandit ultrices enim. Lorem ipsum dolor sit amet, consectetuer adipiscing elit.', '2022-04-13 21:10:01', 'Rufe', '2022-02-08 17:53:50', 'Retha');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (798, 70, 'Duis consequat dui nec nisi volutpat eleifend. Donec ut dolor. Morbi vel lectus in quam fringilla rhoncus.', '2022-04-21 04:30:37', 'Veronike', '2022-11-02 10:49:55', 'Gradeigh');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (799, 100, 'Integer ac leo. Pellentesque ultrices mattis odio. Donec vitae nisi.', '2022-03-13 12:52:50', 'Wenonah', '2022-01-02 19:34:51', 'Wilhelmine');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (800, 40, 'Aenean fermentum. Donec ut mauris eget massa tempor convallis. Nulla neque libero, convallis eget, eleifend luctus, ultricies eu, nibh.', '2022-04-02 22:58:41', 'Terrie', '2022-07-20 15:14:54', 'Luci');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (801, 89, 'In sagittis dui vel nisl. Duis ac nibh. Fusce lacus purus, aliquet at, feugiat non, pretium quis, lectus.', '2022-05-19 13:51:17', 'Valerye', '2022-05-20 13:29:31', 'Norri');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (802, 41, 'Proin interdum mauris non ligula pellentesque ultrices. Phasellus id sapien in sapien iaculis congue. Vivamus metus arcu, adipiscing molestie, hendrerit at, vulputate vitae, nisl.', '2022-10-22 10:39:37', 'Hyacinthia', '2022-04-06 18:24:56', 'Cesar');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (803, 20, 'Fusce posuere felis sed lacus. Morbi sem mauris, laoreet ut, rhoncus aliquet, pulvinar sed, nisl. Nunc rhoncus dui vel sem.', '2022-08-30 04:28:27', 'Bella', '2022-11-18 20:10:23', 'Jimmy');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (804, 17, 'Phasellus sit amet erat. Nulla tempus. Vivamus in felis eu sapien cursus vestibulum.', '2022-03-04 03:39:38', 'Ardelia', '2022-02-15 01:44:48', 'Tristan');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (805, 60, 'Lorem ipsum dolor sit amet, consectetuer adipiscing elit. Proin risus. Praesent lectus.', '2022-02-26 23:12:56', 'Haslett', '2022-01-12 02:58:50', 'Nanette');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (806, 80, 'In quis justo. Maecenas rhoncus aliquam lacus. Morbi quis tortor id nulla ultrices aliquet.', '2022-06-07 05:39:39', 'Richart', '2022-08-26 11:44:14', 'Fidel');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (807, 13, 'In quis justo. Maecenas rhoncus aliquam lacus. Morbi quis tortor id nulla ultrices aliquet.', '2022-02-11 07:16:22', 'Thornton', '2022-04-15 04:22:54', 'Andee');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (808, 52, 'Sed ante. Vivamus tortor. Duis mattis egestas metus.', '2022-11-14 23:52:07', 'Dexter', '2022-10-12 06:51:23', 'Valida');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (809, 11, 'Suspendisse potenti. In eleifend quam a odio. In hac habitasse platea dictumst.', '2022-01-01 04:01:31', 'Bunnie', '2022-10-12 23:14:39', 'Caz');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (810, 68, 'Aenean fermentum. Donec ut mauris eget massa tempor convallis. Nulla neque libero, convallis eget, eleifend luctus, ultricies eu, nibh.', '2022-02-08 20:56:21', 'Shayne', '2022-03-26 13:38:12', 'Myra');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (811, 7, 'Integer ac leo. Pellentesque ultrices mattis odio. Donec vitae nisi.', '2022-08-21 12:54:31', 'Jasmina', '2021-12-28 11:39:40', 'Christy');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (812, 15, 'Nullam sit amet turpis elementum ligula vehicula consequat. Morbi a ipsum. Integer a nibh.', '2022-11-24 10:32:45', 'Miranda', '2022-06-18 18:17:40', 'Goldia');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (813, 63, 'Sed sagittis. Nam congue, risus semper porta volutpat, quam pede lobortis ligula, sit amet eleifend pede libero quis orci. Nullam molestie nibh in lectus.', '2022-11-19 13:56:17', 'Karissa', '2022-08-02 22:10:28', 'Susanne');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (814, 9, 'Praesent blandit. Nam nulla. Integer pede justo, lacinia eget, tincidunt eget, tempus vel, pede.', '2022-12-16 03:07:27', 'Cate', '2022-05-08 17:16:33', 'Manda');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (815, 54, 'Duis bibendum. Morbi non quam nec dui luctus rutrum. Nulla tellus.', '2022-05-03 10:14:34', 'Smith', '2022-02-04 03:25:24', 'Penni');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (816, 61, 'Phasellus in felis. Donec semper sapien a libero. Nam dui.', '2022-05-24 07:40:21', 'Ozzy', '2022-05-01 08:24:09', 'Caroljean');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (817, 4, 'Sed ante. Vivamus tortor. Duis mattis egestas metus.', '2022-03-11 05:29:19', 'Rowan', '2022-09-01 19:27:54', 'Halli');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (818, 73, 'Morbi non lectus. Aliquam sit amet diam in magna bibendum imperdiet. Nullam orci pede, venenatis non, sodales sed, tincidunt eu, felis.', '2022-05-28 04:59:40', 'Dwayne', '2022-01-19 10:01:59', 'Kaia');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (819, 51, 'Cras mi pede, malesuada in, imperdiet et, commodo vulputate, justo. In blandit ultrices enim. Lorem ipsum dolor sit amet, consectetuer adipiscing elit.', '2022-04-01 08:56:20', 'Elisabet', '2022-08-07 16:07:10', 'Melania');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (820, 44, 'Duis aliquam convallis nunc. Proin at turpis a pede posuere nonummy. Integer non velit.', '2022-02-05 20:03:53', 'Morgan', '2022-01-24 16:14:21', 'Minna');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (821, 62, 'Aliquam quis turpis eget elit sodales scelerisque. Mauris sit amet eros. Suspendisse accumsan tortor quis turpis.', '2022-08-09 22:56:05', 'Gill', '2022-05-04 07:29:58', 'Yanaton');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (822, 47, 'Praesent blandit. Nam nulla. Integer pede justo, lacinia eget, tincidunt eget, tempus vel, pede.', '2022-04-03 23:08:11', 'Rance', '2022-11-22 02:09:30', 'Madelon');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (823, 19, 'In quis justo. Maecenas rhoncus aliquam lacus. Morbi quis tortor id nulla ultrices aliquet.', '2022-05-26 19:18:36', 'Nikita', '2022-01-25 22:47:02', 'Alla');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (824, 50, 'In congue. Etiam justo. Etiam pretium iaculis justo.', '2022-04-04 20:47:19', 'Natty', '2022-01-31 07:13:18', 'Garrik');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (825, 41, 'Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus. Vivamus vestibulum sagittis sapien. Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus.', '2022-04-21 07:33:29', 'Winnah', '2021-12-27 10:36:41', 'Agneta');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (826, 12, 'Curabitur at ipsum ac tellus semper interdum. Mauris ullamcorper purus sit amet nulla. Quisque arcu libero, rutrum ac, lobortis vel, dapibus at, diam.', '2022-02-25 01:25:36', 'Malinda', '2022-03-01 18:27:15', 'Josie');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (827, 74, 'Curabitur in libero ut massa volutpat convallis. Morbi odio odio, elementum eu, interdum eu, tincidunt in, leo. Maecenas pulvinar lobortis est.', '2022-10-09 00:35:37', 'Lemuel', '2022-05-13 07:08:40', 'Meghan');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (828, 93, 'Duis bibendum, felis sed interdum venenatis, turpis enim blandit mi, in porttitor pede justo eu massa. Donec dapibus. Duis at velit eu est congue elementum.', '2022-10-30 18:00:58', 'Merwin', '2022-10-03 18:42:35', 'Somerset');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (829, 53, 'Aenean lectus. Pellentesque eget nunc. Donec quis orci eget orci vehicula condimentum.', '2022-05-27 00:20:24', 'Earle', '2022-09-27 08:55:21', 'Ingar');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (830, 19, 'Nullam sit amet turpis elementum ligula vehicula consequat. Morbi a ipsum. Integer a nibh.', '2022-05-17 23:21:38', 'Daren', '2022-03-26 14:15:16', 'Archy');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (831, 57, 'In hac habitasse platea dictumst. Etiam faucibus cursus urna. Ut tellus.', '2022-11-22 09:47:42', 'Otha', '2022-11-10 07:58:54', 'Kev');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (832, 82, 'Cras non velit nec nisi vulputate nonummy. Maecenas tincidunt lacus at velit. Vivamus vel nulla eget eros elementum pellentesque.', '2022-11-11 22:09:59', 'Jen', '2022-10-07 05:08:14', 'Raul');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (833, 80, 'Morbi porttitor lorem id ligula. Suspendisse ornare consequat lectus. In est risus, auctor sed, tristique in, tempus sit amet, sem.', '2022-11-20 10:36:00', 'Lamar', '2022-01-11 10:30:15', 'Laure');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (834, 68, 'Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus. Vivamus vestibulum sagittis sapien. Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus.', '2022-10-06 00:04:39', 'Ardelia', '2022-11-02 05:58:07', 'Vin');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (835, 73, 'Morbi non lectus. Aliquam sit amet diam in magna bibendum imperdiet. Nullam orci pede, venenatis non, sodales sed, tincidunt eu, felis.', '2022-04-18 04:25:54', 'Bili', '2022-08-02 20:37:14', 'Beaufort');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (836, 99, 'Integer tincidunt ante vel ipsum. Praesent blandit lacinia erat. Vestibulum sed magna at nunc commodo placerat.', '2022-05-03 17:13:22', 'Heywood', '2022-10-20 23:28:45', 'Noemi');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (837, 50, 'Vestibulum ac est lacinia nisi venenatis tristique. Fusce congue, diam id ornare imperdiet, sapien urna pretium nisl, ut volutpat sapien arcu sed augue. Aliquam erat volutpat.', '2022-07-16 23:09:26', 'Annnora', '2022-08-20 14:01:45', 'Aubrey');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (838, 91, 'Maecenas tristique, est et tempus semper, est quam pharetra magna, ac consequat metus sapien ut nunc. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Mauris viverra diam vitae quam. Suspendisse potenti.', '2022-02-04 11:36:28', 'Kandy', '2022-08-20 08:26:21', 'Ernie');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (839, 77, 'Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus. Vivamus vestibulum sagittis sapien. Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus.', '2022-08-14 13:50:50', 'Dionne', '2022-10-13 11:18:01', 'Ellen');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (840, 79, 'Aliquam quis turpis eget elit sodales scelerisque. Mauris sit amet eros. Suspendisse accumsan tortor quis turpis.', '2022-01-25 13:17:13', 'Carolan', '2022-12-17 14:56:23', 'Fran');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (841, 88, 'Cras non velit nec nisi vulputate nonummy. Maecenas tincidunt lacus at velit. Vivamus vel nulla eget eros elementum pellentesque.', '2022-04-12 04:34:42', 'Almira', '2022-06-02 10:26:15', 'Johan');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (842, 43, 'In sagittis dui vel nisl. Duis ac nibh. Fusce lacus purus, aliquet at, feugiat non, pretium quis, lectus.', '2022-02-20 10:42:55', 'Budd', '2022-05-04 18:56:53', 'Adora');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (843, 58, 'Cras mi pede, malesuada in, imperdiet et, commodo vulputate, justo. In blandit ultrices enim. Lorem ipsum dolor sit amet, consectetuer adipiscing elit.', '2021-12-27 04:57:47', 'Kaja', '2022-02-18 10:50:52', 'Clair');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (844, 93, 'Maecenas ut massa quis augue luctus tincidunt. Nulla mollis molestie lorem. Quisque ut erat.', '2022-04-23 00:54:27', 'Michaella', '2022-09-01 03:24:08', 'Katharina');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (845, 45, 'Nullam sit amet turpis elementum ligula vehicula consequat. Morbi a ipsum. Integer a nibh.', '2022-10-19 20:18:42', 'Adelaide', '2022-07-03 17:11:13', 'Salvador');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (846, 87, 'Fusce consequat. Nulla nisl. Nunc nisl.', '2022-08-30 05:40:15', 'Christal', '2021-12-29 13:21:47', 'Josiah');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (847, 39, 'Quisque porta volutpat erat. Quisque erat eros, viverra eget, congue eget, semper rutrum, nulla. Nunc purus.', '2022-09-09 20:48:14', 'Bartholomeo', '2022-01-31 04:37:24', 'Phineas');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (848, 47, 'Proin interdum mauris non ligula pellentesque ultrices. Phasellus id sapien in sapien iaculis congue. Vivamus metus arcu, adipiscing molestie, hendrerit at, vulputate vitae, nisl.', '2022-08-28 16:36:19', 'Trip', '2022-06-18 01:56:03', 'Valida');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (849, 22, 'Duis aliquam convallis nunc. Proin at turpis a pede posuere nonummy. Integer non velit.', '2022-01-02 07:24:44', 'Gussi', '2022-01-01 07:20:58', 'Christy');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (850, 72, 'Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus. Vivamus vestibulum sagittis sapien. Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus.', '2022-11-21 13:44:26', 'Hedvig', '2022-08-07 03:30:54', 'Dominic');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (851, 18, 'Suspendisse potenti. In eleifend quam a odio. In hac habitasse platea dictumst.', '2022-05-10 07:47:04', 'Wyndham', '2022-09-18 14:15:05', 'Sean');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (852, 66, 'Nullam porttitor lacus at turpis. Donec posuere metus vitae ipsum. Aliquam non mauris.', '2022-01-08 22:59:22', 'Odella', '2022-06-19 08:37:08', 'Fin');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (853, 25, 'Nullam sit amet turpis elementum ligula vehicula consequat. Morbi a ipsum. Integer a nibh.', '2022-03-15 08:18:08', 'Salome', '2022-09-10 02:22:06', 'Brig');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (854, 50, 'Nullam sit amet turpis elementum ligula vehicula consequat. Morbi a ipsum. Integer a nibh.', '2022-07-05 17:00:42', 'Chelsy', '2022-08-13 10:20:56', 'Siouxie');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (855, 16, 'Duis bibendum. Morbi non quam nec dui luctus rutrum. Nulla tellus.', '2022-06-20 14:27:26', 'Chiquia', '2022-02-05 16:22:03', 'Vito');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (856, 4, 'In quis justo. Maecenas rhoncus aliquam lacus. Morbi quis tortor id nulla ultrices aliquet.', '2022-08-04 11:09:40', 'Charmine', '2022-01-19 05:01:04', 'Elbert');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (857, 84, 'Aliquam quis turpis eget elit sodales scelerisque. Mauris sit amet eros. Suspendisse accumsan tortor quis turpis.', '2022-10-29 16:45:07', 'Del', '2022-03-16 22:36:18', 'Randie');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (858, 100, 'Nam ultrices, libero non mattis pulvinar, nulla pede ullamcorper augue, a suscipit nulla elit ac nulla. Sed vel enim sit amet nunc viverra dapibus. Nulla suscipit ligula in lacus.', '2022-02-16 07:39:32', 'Reinwald', '2022-10-08 04:34:58', 'Britta');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (859, 27, 'Nullam sit amet turpis elementum ligula vehicula consequat. Morbi a ipsum. Integer a nibh.', '2022-10-05 11:41:19', 'Paige', '2022-12-02 06:28:21', 'Kali');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (860, 57, 'Mauris enim leo, rhoncus sed, vestibulum sit amet, cursus id, turpis. Integer aliquet, massa id lobortis convallis, tortor risus dapibus augue, vel accumsan tellus nisi eu orci. Mauris lacinia sapien quis libero.', '2022-02-20 17:47:51', 'Jackson', '2022-07-07 01:55:42', 'Martino');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (861, 10, 'In hac habitasse platea dictumst. Morbi vestibulum, velit id pretium iaculis, diam erat fermentum justo, nec condimentum neque sapien placerat ante. Nulla justo.', '2022-01-27 22:55:31', 'Alyse', '2022-06-16 20:33:02', 'Marti');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (862, 78, 'Vestibulum ac est lacinia nisi venenatis tristique. Fusce congue, diam id ornare imperdiet, sapien urna pretium nisl, ut volutpat sapien arcu sed augue. Aliquam erat volutpat.', '2022-10-14 22:57:34', 'Mickie', '2022-03-18 16:41:46', 'Olenolin');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (863, 96, 'Duis bibendum. Morbi non quam nec dui luctus rutrum. Nulla tellus.', '2022-04-05 20:33:28', 'Natasha', '2022-07-07 17:06:50', 'Duff');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (864, 38, 'Suspendisse potenti. In eleifend quam a odio. In hac habitasse platea dictumst.', '2022-05-15 08:02:34', 'Nanine', '2022-08-30 06:40:44', 'Oliviero');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (865, 32, 'Aliquam quis turpis eget elit sodales scelerisque. Mauris sit amet eros. Suspendisse accumsan tortor quis turpis.', '2022-02-07 14:40:22', 'Hashim', '2022-12-18 08:09:54', 'Chloris');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (866, 71, 'Praesent blandit. Nam nulla. Integer pede justo, lacinia eget, tincidunt eget, tempus vel, pede.', '2022-12-04 22:13:57', 'Valeda', '2021-12-31 14:45:32', 'Lida');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (867, 80, 'Duis consequat dui nec nisi volutpat eleifend. Donec ut dolor. Morbi vel lectus in quam fringilla rhoncus.', '2022-04-22 03:35:38', 'Kennith', '2022-02-25 09:22:01', 'Nanci');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (868, 44, 'Nam ultrices, libero non mattis pulvinar, nulla pede ullamcorper augue, a suscipit nulla elit ac nulla. Sed vel enim sit amet nunc viverra dapibus. Nulla suscipit ligula in lacus.', '2022-09-13 16:08:41', 'Kippar', '2022-02-04 03:45:09', 'Donnell');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (869, 10, 'Vestibulum ac est lacinia nisi venenatis tristique. Fusce congue, diam id ornare imperdiet, sapien urna pretium nisl, ut volutpat sapien arcu sed augue. Aliquam erat volutpat.', '2022-11-29 23:22:18', 'Dorrie', '2022-02-05 18:18:01', 'Raddy');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (870, 96, 'Morbi non lectus. Aliquam sit amet diam in magna bibendum imperdiet. Nullam orci pede, venenatis non, sodales sed, tincidunt eu, felis.', '2022-10-20 19:07:39', 'Costanza', '2022-02-12 01:03:46', 'Ernestus');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (871, 89, 'Fusce consequat. Nulla nisl. Nunc nisl.', '2022-09-02 23:43:04', 'Linell', '2022-10-20 16:24:48', 'Milty');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (872, 98, 'Duis consequat dui nec nisi volutpat eleifend. Donec ut dolor. Morbi vel lectus in quam fringilla rhoncus.', '2022-03-15 17:32:42', 'Bobbie', '2022-03-23 09:38:49', 'Robbin');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (873, 62, 'Fusce consequat. Nulla nisl. Nunc nisl.', '2022-04-08 20:36:10', 'Benton', '2022-09-18 15:26:08', 'Ania');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (874, 29, 'Aenean fermentum. Donec ut mauris eget massa tempor convallis. Nulla neque libero, convallis eget, eleifend luctus, ultricies eu, nibh.', '2022-12-01 05:30:49', 'Kaylil', '2022-02-16 08:56:44', 'Salvador');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (875, 85, 'In quis justo. Maecenas rhoncus aliquam lacus. Morbi quis tortor id nulla ultrices aliquet.', '2022-10-10 10:10:20', 'Georges', '2022-11-04 00:15:15', 'Noll');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (876, 76, 'Proin interdum mauris non ligula pellentesque ultrices. Phasellus id sapien in sapien iaculis congue. Vivamus metus arcu, adipiscing molestie, hendrerit at, vulputate vitae, nisl.', '2022-09-12 11:31:59', 'Pearla', '2022-05-06 17:13:38', 'Quinn');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (877, 97, 'Curabitur in libero ut massa volutpat convallis. Morbi odio odio, elementum eu, interdum eu, tincidunt in, leo. Maecenas pulvinar lobortis est.', '2022-01-05 18:09:02', 'Alix', '2022-04-19 22:35:28', 'Halsy');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (878, 6, 'Maecenas tristique, est et tempus semper, est quam pharetra magna, ac consequat metus sapien ut nunc. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Mauris viverra diam vitae quam. Suspendisse potenti.', '2022-01-15 01:38:44', 'Gerta', '2022-02-27 21:00:25', 'Becky');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (879, 49, 'Duis bibendum. Morbi non quam nec dui luctus rutrum. Nulla tellus.', '2022-04-27 03:23:18', 'Debbie', '2022-11-23 22:03:36', 'Gaye');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (880, 38, 'Fusce consequat. Nulla nisl. Nunc nisl.', '2022-01-14 00:08:09', 'Bernarr', '2022-11-13 21:02:46', 'Salomone');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (881, 95, 'In quis justo. Maecenas rhoncus aliquam lacus. Morbi quis tortor id nulla ultrices aliquet.', '2022-11-03 21:56:09', 'Deny', '2022-06-06 15:19:19', 'Tate');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (882, 39, 'Curabitur in libero ut massa volutpat convallis. Morbi odio odio, elementum eu, interdum eu, tincidunt in, leo. Maecenas pulvinar lobortis est.', '2022-01-06 20:13:03', 'Roxanna', '2021-12-22 19:36:47', 'Lucille');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (883, 84, 'Curabitur gravida nisi at nibh. In hac habitasse platea dictumst. Aliquam augue quam, sollicitudin vitae, consectetuer eget, rutrum at, lorem.', '2022-10-06 07:05:58', 'Martyn', '2022-08-12 02:59:54', 'Araldo');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (884, 49, 'Duis aliquam convallis nunc. Proin at turpis a pede posuere nonummy. Integer non velit.', '2022-02-22 09:15:03', 'Elisha', '2022-11-27 00:22:29', 'Elisabetta');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (885, 81, 'Cras mi pede, malesuada in, imperdiet et, commodo vulputate, justo. In blandit ultrices enim. Lorem ipsum dolor sit amet, consectetuer adipiscing elit.', '2022-10-20 19:11:54', 'Marylin', '2022-10-30 21:50:59', 'Lorrin');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (886, 30, 'Curabitur gravida nisi at nibh. In hac habitasse platea dictumst. Aliquam augue quam, sollicitudin vitae, consectetuer eget, rutrum at, lorem.', '2022-08-20 07:48:02', 'Ronnica', '2022-12-15 22:20:53', 'Rollo');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (887, 99, 'Curabitur gravida nisi at nibh. In hac habitasse platea dictumst. Aliquam augue quam, sollicitudin vitae, consectetuer eget, rutrum at, lorem.', '2022-08-06 20:12:07', 'Aube', '2022-02-09 17:22:48', 'Lolly');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (888, 57, 'Nam ultrices, libero non mattis pulvinar, nulla pede ullamcorper augue, a suscipit nulla elit ac nulla. Sed vel enim sit amet nunc viverra dapibus. Nulla suscipit ligula in lacus.', '2022-08-11 23:12:40', 'Sara', '2022-08-22 08:22:23', 'Symon');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (889, 92, 'Cras non velit nec nisi vulputate nonummy. Maecenas tincidunt lacus at velit. Vivamus vel nulla eget eros elementum pellentesque.', '2022-05-21 19:55:27', 'Dietrich', '2022-05-22 03:45:38', 'Eleanor');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (890, 1, 'In congue. Etiam justo. Etiam pretium iaculis justo.', '2022-11-13 16:26:47', 'Michaella', '2022-09-02 02:24:42', 'Lewie');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (891, 22, 'Quisque id justo sit amet sapien dignissim vestibulum. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Nulla dapibus dolor vel est. Donec odio justo, sollicitudin ut, suscipit a, feugiat et, eros.', '2022-10-26 06:50:59', 'Pryce', '2022-12-19 06:04:55', 'Becka');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (892, 78, 'Duis consequat dui nec nisi volutpat eleifend. Donec ut dolor. Morbi vel lectus in quam fringilla rhoncus.', '2022-03-08 07:45:58', 'Daloris', '2022-06-11 13:29:29', 'Jackie');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (893, 26, 'Nullam porttitor lacus at turpis. Donec posuere metus vitae ipsum. Aliquam non mauris.', '2022-07-27 19:40:00', 'Sandye', '2022-11-04 02:38:42', 'Duane');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (894, 40, 'Phasellus sit amet erat. Nulla tempus. Vivamus in felis eu sapien cursus vestibulum.', '2022-12-17 13:18:06', 'Marshall', '2022-07-26 08:18:13', 'Jeremy');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (895, 84, 'In hac habitasse platea dictumst. Etiam faucibus cursus urna. Ut tellus.', '2022-07-12 09:13:37', 'Kaleb', '2022-03-22 15:23:35', 'Aubert');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (896, 47, 'Morbi porttitor lorem id ligula. Suspendisse ornare consequat lectus. In est risus, auctor sed, tristique in, tempus sit amet, sem.', '2022-04-17 16:50:02', 'Brandy', '2022-05-09 09:49:53', 'Corenda');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (897, 25, 'Curabitur in libero ut massa volutpat convallis. Morbi odio odio, elementum eu, interdum eu, tincidunt in, leo. Maecenas pulvinar lobortis est.', '2022-06-08 03:33:44', 'Malynda', '2022-02-19 19:02:27', 'Christin');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (898, 97, 'Morbi porttitor lorem id ligula. Suspendisse ornare consequat lectus. In est risus, auctor sed, tristique in, tempus sit amet, sem.', '2022-12-11 01:52:49', 'Cleavland', '2022-08-08 08:31:32', 'Felicle');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (899, 13, 'Maecenas leo odio, condimentum id, luctus nec, molestie sed, justo. Pellentesque viverra pede ac diam. Cras pellentesque volutpat dui.', '2022-12-02 17:07:58', 'Marybeth', '2022-01-26 07:38:34', 'Kelvin');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (900, 97, 'Curabitur gravida nisi at nibh. In hac habitasse platea dictumst. Aliquam augue quam, sollicitudin vitae, consectetuer eget, rutrum at, lorem.', '2022-12-06 22:20:45', 'Maddalena', '2022-11-12 18:17:01', 'Denys');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (901, 99, 'In congue. Etiam justo. Etiam pretium iaculis justo.', '2022-03-07 02:27:27', 'Frankie', '2022-11-15 16:46:26', 'Henrieta');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (902, 15, 'Phasellus sit amet erat. Nulla tempus. Vivamus in felis eu sapien cursus vestibulum.', '2022-12-18 02:43:16', 'Anastassia', '2022-02-14 04:12:56', 'Aloise');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (903, 94, 'Pellentesque at nulla. Suspendisse potenti. Cras in purus eu magna vulputate luctus.', '2022-02-24 00:04:00', 'Mikey', '2022-10-24 20:45:08', 'Margeaux');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (904, 37, 'Proin interdum mauris non ligula pellentesque ultrices. Phasellus id sapien in sapien iaculis congue. Vivamus metus arcu, adipiscing molestie, hendrerit at, vulputate vitae, nisl.', '2022-02-05 09:00:29', 'Heloise', '2022-04-18 00:39:31', 'Kylila');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (905, 20, 'Aenean fermentum. Donec ut mauris eget massa tempor convallis. Nulla neque libero, convallis eget, eleifend luctus, ultricies eu, nibh.', '2022-07-09 09:51:12', 'Hinze', '2022-10-17 00:52:20', 'Nadya');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (906, 13, 'Duis consequat dui nec nisi volutpat eleifend. Donec ut dolor. Morbi vel lectus in quam fringilla rhoncus.', '2022-05-10 13:48:18', 'Carmelita', '2022-07-10 22:55:29', 'Boycey');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (907, 27, 'Curabitur gravida nisi at nibh. In hac habitasse platea dictumst. Aliquam augue quam, sollicitudin vitae, consectetuer eget, rutrum at, lorem.', '2022-11-12 13:43:43', 'Jerri', '2022-07-06 21:08:18', 'Townsend');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (908, 12, 'Cras non velit nec nisi vulputate nonummy. Maecenas tincidunt lacus at velit. Vivamus vel nulla eget eros elementum pellentesque.', '2022-12-03 20:24:42', 'Ham', '2022-08-31 16:53:45', 'Kial');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (909, 40, 'Mauris enim leo, rhoncus sed, vestibulum sit amet, cursus id, turpis. Integer aliquet, massa id lobortis convallis, tortor risus dapibus augue, vel accumsan tellus nisi eu orci. Mauris lacinia sapien quis libero.', '2022-10-15 12:04:01', 'Even', '2022-04-14 15:07:15', 'Costa');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (910, 67, 'Vestibulum quam sapien, varius ut, blandit non, interdum in, ante. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Duis faucibus accumsan odio. Curabitur convallis.', '2022-01-13 04:01:39', 'Lothaire', '2022-06-30 05:27:03', 'Gavra');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (911, 31, 'Quisque id justo sit amet sapien dignissim vestibulum. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Nulla dapibus dolor vel est. Donec odio justo, sollicitudin ut, suscipit a, feugiat et, eros.', '2022-02-02 11:27:44', 'Yancy', '2021-12-28 23:08:59', 'Wren');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (912, 32, 'Quisque id justo sit amet sapien dignissim vestibulum. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Nulla dapibus dolor vel est. Donec odio justo, sollicitudin ut, suscipit a, feugiat et, eros.', '2022-12-06 19:43:29', 'Ernie', '2022-06-15 07:44:06', 'Paten');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (913, 91, 'Mauris enim leo, rhoncus sed, vestibulum sit amet, cursus id, turpis. Integer aliquet, massa id lobortis convallis, tortor risus dapibus augue, vel accumsan tellus nisi eu orci. Mauris lacinia sapien quis libero.', '2022-12-10 22:49:39', 'Ddene', '2022-04-17 03:55:34', 'Orelee');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (914, 63, 'Vestibulum ac est lacinia nisi venenatis tristique. Fusce congue, diam id ornare imperdiet, sapien urna pretium nisl, ut volutpat sapien arcu sed augue. Aliquam erat volutpat.', '2022-12-17 05:01:08', 'Marga', '2022-03-11 00:28:43', 'Orelee');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (915, 34, 'Suspendisse potenti. In eleifend quam a odio. In hac habitasse platea dictumst.', '2022-07-27 08:47:12', 'Deedee', '2022-06-26 10:23:42', 'Anabal');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (916, 57, 'Proin interdum mauris non ligula pellentesque ultrices. Phasellus id sapien in sapien iaculis congue. Vivamus metus arcu, adipiscing molestie, hendrerit at, vulputate vitae, nisl.', '2022-04-22 01:49:02', 'Ruby', '2022-10-06 02:51:23', 'Ortensia');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (917, 46, 'Quisque id justo sit amet sapien dignissim vestibulum. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Nulla dapibus dolor vel est. Donec odio justo, sollicitudin ut, suscipit a, feugiat et, eros.', '2021-12-25 10:12:44', 'Izaak', '2022-06-12 03:27:46', 'Wit');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (918, 26, 'Maecenas tristique, est et tempus semper, est quam pharetra magna, ac consequat metus sapien ut nunc. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Mauris viverra diam vitae quam. Suspendisse potenti.', '2022-11-16 03:03:00', 'Appolonia', '2022-07-20 15:12:42', 'Debor');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (919, 58, 'Nam ultrices, libero non mattis pulvinar, nulla pede ullamcorper augue, a suscipit nulla elit ac nulla. Sed vel enim sit amet nunc viverra dapibus. Nulla suscipit ligula in lacus.', '2021-12-30 18:01:56', 'Bertina', '2022-05-04 00:27:17', 'Dallis');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (920, 83, 'Praesent id massa id nisl venenatis lacinia. Aenean sit amet justo. Morbi ut odio.', '2022-02-08 12:21:08', 'Addia', '2022-04-22 09:21:46', 'Kristan');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (921, 86, 'Quisque porta volutpat erat. Quisque erat eros, viverra eget, congue eget, semper rutrum, nulla. Nunc purus.', '2022-09-03 17:02:50', 'Mala', '2022-11-18 06:15:58', 'Nolana');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (922, 54, 'Aenean lectus. Pellentesque eget nunc. Donec quis orci eget orci vehicula condimentum.', '2022-10-20 18:31:50', 'Debbie', '2022-05-29 12:07:17', 'Patric');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (923, 58, 'Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus. Vivamus vestibulum sagittis sapien. Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus.', '2022-10-09 19:19:45', 'Dollie', '2022-08-15 16:41:32', 'Halsy');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (924, 52, 'Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus. Vivamus vestibulum sagittis sapien. Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus.', '2022-11-29 12:40:01', 'Waring', '2022-12-02 22:36:40', 'Winne');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (925, 64, 'Curabitur in libero ut massa volutpat convallis. Morbi odio odio, elementum eu, interdum eu, tincidunt in, leo. Maecenas pulvinar lobortis est.', '2021-12-31 16:38:46', 'Laurent', '2021-12-25 22:14:06', 'Jilly');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (926, 17, 'Curabitur in libero ut massa volutpat convallis. Morbi odio odio, elementum eu, interdum eu, tincidunt in, leo. Maecenas pulvinar lobortis est.', '2022-03-28 21:09:14', 'Nichole', '2022-12-06 22:33:01', 'Welch');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (927, 79, 'Vestibulum ac est lacinia nisi venenatis tristique. Fusce congue, diam id ornare imperdiet, sapien urna pretium nisl, ut volutpat sapien arcu sed augue. Aliquam erat volutpat.', '2022-10-29 04:04:21', 'Ozzie', '2022-03-01 11:03:08', 'Brigida');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (928, 60, 'Morbi non lectus. Aliquam sit amet diam in magna bibendum imperdiet. Nullam orci pede, venenatis non, sodales sed, tincidunt eu, felis.', '2022-07-01 20:56:08', 'Timmi', '2022-08-08 17:17:27', 'Martie');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (929, 50, 'Nulla ut erat id mauris vulputate elementum. Nullam varius. Nulla facilisi.', '2022-04-20 02:30:49', 'Morgun', '2022-09-11 22:50:48', 'Peirce');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (930, 32, 'Sed sagittis. Nam congue, risus semper porta volutpat, quam pede lobortis ligula, sit amet eleifend pede libero quis orci. Nullam molestie nibh in lectus.', '2022-04-01 11:35:03', 'Hayes', '2022-06-26 02:02:05', 'Fairlie');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (931, 31, 'Cras non velit nec nisi vulputate nonummy. Maecenas tincidunt lacus at velit. Vivamus vel nulla eget eros elementum pellentesque.', '2022-07-15 06:20:09', 'Beverlee', '2022-08-14 21:38:38', 'Dari');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (932, 97, 'Curabitur at ipsum ac tellus semper interdum. Mauris ullamcorper purus sit amet nulla. Quisque arcu libero, rutrum ac, lobortis vel, dapibus at, diam.', '2022-01-22 13:32:37', 'Vittorio', '2022-01-12 16:52:28', 'Chariot');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (933, 96, 'In sagittis dui vel nisl. Duis ac nibh. Fusce lacus purus, aliquet at, feugiat non, pretium quis, lectus.', '2022-07-05 09:53:33', 'Emiline', '2022-10-18 10:56:47', 'Maribeth');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (934, 8, 'Proin interdum mauris non ligula pellentesque ultrices. Phasellus id sapien in sapien iaculis congue. Vivamus metus arcu, adipiscing molestie, hendrerit at, vulputate vitae, nisl.', '2021-12-29 01:52:30', 'Shaylyn', '2022-06-15 00:06:45', 'Coraline');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (935, 25, 'In quis justo. Maecenas rhoncus aliquam lacus. Morbi quis tortor id nulla ultrices aliquet.', '2022-08-30 12:03:24', 'Cash', '2022-02-17 14:34:44', 'Caspar');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (936, 94, 'Proin leo odio, porttitor id, consequat in, consequat ut, nulla. Sed accumsan felis. Ut at dolor quis odio consequat varius.', '2022-04-05 01:27:23', 'Celeste', '2022-03-24 10:51:42', 'Kali');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (937, 65, 'In hac habitasse platea dictumst. Etiam faucibus cursus urna. Ut tellus.', '2022-04-16 23:24:47', 'Erhart', '2022-09-27 02:14:07', 'Blinny');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (938, 72, 'Morbi non lectus. Aliquam sit amet diam in magna bibendum imperdiet. Nullam orci pede, venenatis non, sodales sed, tincidunt eu, felis.', '2022-08-24 19:42:49', 'Giorgio', '2022-11-07 04:36:52', 'Brietta');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (939, 18, 'Aliquam quis turpis eget elit sodales scelerisque. Mauris sit amet eros. Suspendisse accumsan tortor quis turpis.', '2021-12-30 10:24:46', 'Kienan', '2022-03-21 22:04:42', 'Roger');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (940, 29, 'Phasellus sit amet erat. Nulla tempus. Vivamus in felis eu sapien cursus vestibulum.', '2022-04-08 08:21:57', 'Murial', '2022-09-07 13:56:31', 'Cloris');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (941, 34, 'Maecenas tristique, est et tempus semper, est quam pharetra magna, ac consequat metus sapien ut nunc. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Mauris viverra diam vitae quam. Suspendisse potenti.', '2022-02-20 13:02:34', 'Aguste', '2022-09-23 18:58:55', 'Tiebold');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (942, 74, 'Morbi non lectus. Aliquam sit amet diam in magna bibendum imperdiet. Nullam orci pede, venenatis non, sodales sed, tincidunt eu, felis.', '2022-10-02 12:34:58', 'Gui', '2022-10-28 04:37:58', 'Henriette');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (943, 81, 'Morbi non lectus. Aliquam sit amet diam in magna bibendum imperdiet. Nullam orci pede, venenatis non, sodales sed, tincidunt eu, felis.', '2022-11-03 10:38:01', 'Daune', '2022-08-24 21:53:12', 'Dylan');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (944, 99, 'Sed sagittis. Nam congue, risus semper porta volutpat, quam pede lobortis ligula, sit amet eleifend pede libero quis orci. Nullam molestie nibh in lectus.', '2022-02-20 19:02:24', 'Artemas', '2022-05-27 14:47:43', 'Gray');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (945, 36, 'Duis aliquam convallis nunc. Proin at turpis a pede posuere nonummy. Integer non velit.', '2022-09-10 04:06:13', 'Haroun', '2022-12-10 14:07:42', 'Nicki');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (946, 96, 'Curabitur in libero ut massa volutpat convallis. Morbi odio odio, elementum eu, interdum eu, tincidunt in, leo. Maecenas pulvinar lobortis est.', '2022-10-25 04:53:33', 'Brandyn', '2022-08-17 16:02:35', 'Brittney');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (947, 95, 'In congue. Etiam justo. Etiam pretium iaculis justo.', '2022-07-19 16:48:38', 'Keir', '2022-04-04 11:01:41', 'Iseabal');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (948, 14, 'Praesent blandit. Nam nulla. Integer pede justo, lacinia eget, tincidunt eget, tempus vel, pede.', '2022-09-19 15:18:39', 'Russ', '2022-10-06 01:41:51', 'Beauregard');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (949, 75, 'Donec diam neque, vestibulum eget, vulputate ut, ultrices vel, augue. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Donec pharetra, magna vestibulum aliquet ultrices, erat tortor sollicitudin mi, sit amet lobortis sapien sapien non mi. Integer ac neque.', '2022-08-29 09:18:13', 'Astra', '2022-10-18 19:13:51', 'Ardisj');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (950, 16, 'Maecenas leo odio, condimentum id, luctus nec, molestie sed, justo. Pellentesque viverra pede ac diam. Cras pellentesque volutpat dui.', '2022-10-31 03:19:52', 'Eustacia', '2021-12-23 23:25:29', 'Abelard');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (951, 98, 'Fusce posuere felis sed lacus. Morbi sem mauris, laoreet ut, rhoncus aliquet, pulvinar sed, nisl. Nunc rhoncus dui vel sem.', '2022-10-31 07:56:38', 'Derron', '2022-01-23 03:07:55', 'Bethena');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (952, 5, 'Praesent id massa id nisl venenatis lacinia. Aenean sit amet justo. Morbi ut odio.', '2022-03-15 21:03:14', 'Jacqui', '2022-06-18 00:08:59', 'Moina');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (953, 30, 'In hac habitasse platea dictumst. Etiam faucibus cursus urna. Ut tellus.', '2022-05-13 03:36:21', 'Melva', '2022-02-15 05:34:50', 'Geoffrey');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (954, 37, 'Duis aliquam convallis nunc. Proin at turpis a pede posuere nonummy. Integer non velit.', '2022-07-15 16:00:17', 'Alexi', '2022-07-27 03:03:35', 'Conchita');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (955, 49, 'In sagittis dui vel nisl. Duis ac nibh. Fusce lacus purus, aliquet at, feugiat non, pretium quis, lectus.', '2022-09-27 00:22:42', 'Flin', '2022-02-03 14:24:35', 'Bron');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (956, 44, 'Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus. Vivamus vestibulum sagittis sapien. Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus.', '2022-04-15 10:46:58', 'Tobey', '2022-08-04 13:05:32', 'Saundra');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (957, 57, 'Duis bibendum. Morbi non quam nec dui luctus rutrum. Nulla tellus.', '2022-06-16 15:40:18', 'Emmet', '2022-01-23 16:15:29', 'Gallagher');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (958, 76, 'Phasellus sit amet erat. Nulla tempus. Vivamus in felis eu sapien cursus vestibulum.', '2022-09-14 06:24:03', 'Peterus', '2021-12-29 11:27:54', 'Lyn');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (959, 17, 'Phasellus in felis. Donec semper sapien a libero. Nam dui.', '2022-10-04 13:44:43', 'Camila', '2022-07-08 07:51:05', 'Cynthia');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (960, 89, 'Cras mi pede, malesuada in, imperdiet et, commodo vulputate, justo. In blandit ultrices enim. Lorem ipsum dolor sit amet, consectetuer adipiscing elit.', '2022-02-21 00:47:38', 'Augustus', '2022-02-13 19:38:15', 'Halsy');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (961, 27, 'Praesent blandit. Nam nulla. Integer pede justo, lacinia eget, tincidunt eget, tempus vel, pede.', '2022-04-19 13:50:05', 'Francisco', '2022-05-18 00:04:20', 'Katheryn');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (962, 96, 'Proin leo odio, porttitor id, consequat in, consequat ut, nulla. Sed accumsan felis. Ut at dolor quis odio consequat varius.', '2022-12-10 16:28:04', 'Xena', '2022-11-09 09:15:43', 'Ricard');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (963, 10, 'Cras non velit nec nisi vulputate nonummy. Maecenas tincidunt lacus at velit. Vivamus vel nulla eget eros elementum pellentesque.', '2022-11-09 13:04:28', 'Melly', '2022-06-06 04:59:39', 'Samson');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (964, 20, 'In hac habitasse platea dictumst. Morbi vestibulum, velit id pretium iaculis, diam erat fermentum justo, nec condimentum neque sapien placerat ante. Nulla justo.', '2022-12-07 06:44:34', 'Kienan', '2022-09-19 19:45:52', 'Darcie');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (965, 42, 'Cras non velit nec nisi vulputate nonummy. Maecenas tincidunt lacus at velit. Vivamus vel nulla eget eros elementum pellentesque.', '2022-06-02 13:10:58', 'Warde', '2022-11-16 22:09:40', 'Nicolina');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (966, 54, 'Quisque id justo sit amet sapien dignissim vestibulum. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Nulla dapibus dolor vel est. Donec odio justo, sollicitudin ut, suscipit a, feugiat et, eros.', '2022-04-18 18:12:25', 'Kandace', '2022-07-22 11:44:36', 'Gabi');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (967, 32, 'Duis aliquam convallis nunc. Proin at turpis a pede posuere nonummy. Integer non velit.', '2022-01-15 11:11:38', 'Andromache', '2022-10-29 23:15:08', 'Dido');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (968, 16, 'Quisque id justo sit amet sapien dignissim vestibulum. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Nulla dapibus dolor vel est. Donec odio justo, sollicitudin ut, suscipit a, feugiat et, eros.', '2022-10-10 10:21:37', 'Felipa', '2022-09-05 04:43:17', 'Annaliese');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (969, 30, 'Phasellus sit amet erat. Nulla tempus. Vivamus in felis eu sapien cursus vestibulum.', '2022-11-29 19:46:11', 'Mathew', '2022-11-25 22:01:53', 'Putnam');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (970, 25, 'Morbi non lectus. Aliquam sit amet diam in magna bibendum imperdiet. Nullam orci pede, venenatis non, sodales sed, tincidunt eu, felis.', '2022-07-25 16:27:20', 'Laverne', '2022-07-17 18:49:14', 'Buiron');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (971, 79, 'Aliquam quis turpis eget elit sodales scelerisque. Mauris sit amet eros. Suspendisse accumsan tortor quis turpis.', '2022-12-11 16:21:21', 'Adriaens', '2022-11-16 03:16:33', 'Zeke');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (972, 17, 'Suspendisse potenti. In eleifend quam a odio. In hac habitasse platea dictumst.', '2022-07-14 05:15:45', 'Prent', '2022-03-14 01:40:43', 'Gloriana');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (973, 4, 'Proin eu mi. Nulla ac enim. In tempor, turpis nec euismod scelerisque, quam turpis adipiscing lorem, vitae mattis nibh ligula nec sem.', '2022-12-13 05:46:05', 'Sapphira', '2022-03-13 00:12:07', 'Melvyn');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (974, 99, 'Duis bibendum. Morbi non quam nec dui luctus rutrum. Nulla tellus.', '2022-04-16 06:34:54', 'Rafaello', '2022-05-28 21:00:47', 'Kippy');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (975, 40, 'Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus. Vivamus vestibulum sagittis sapien. Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus.', '2022-09-22 07:11:28', 'Gannie', '2022-12-04 06:55:08', 'Matthew');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (976, 5, 'Curabitur gravida nisi at nibh. In hac habitasse platea dictumst. Aliquam augue quam, sollicitudin vitae, consectetuer eget, rutrum at, lorem.', '2022-06-21 01:52:21', 'Jeffie', '2022-06-29 07:52:32', 'Kristofor');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (977, 90, 'Curabitur gravida nisi at nibh. In hac habitasse platea dictumst. Aliquam augue quam, sollicitudin vitae, consectetuer eget, rutrum at, lorem.', '2021-12-26 22:22:19', 'Danyelle', '2022-09-13 20:15:21', 'Cleavland');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (978, 64, 'Curabitur in libero ut massa volutpat convallis. Morbi odio odio, elementum eu, interdum eu, tincidunt in, leo. Maecenas pulvinar lobortis est.', '2022-09-06 21:36:48', 'Josiah', '2022-02-02 02:05:03', 'Diane-marie');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (979, 19, 'Praesent blandit. Nam nulla. Integer pede justo, lacinia eget, tincidunt eget, tempus vel, pede.', '2022-11-08 20:36:27', 'Chrissie', '2022-07-27 09:42:55', 'Chaim');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (980, 7, 'Pellentesque at nulla. Suspendisse potenti. Cras in purus eu magna vulputate luctus.', '2022-08-16 11:26:51', 'Allie', '2022-09-17 16:48:10', 'Britteny');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (981, 11, 'Integer tincidunt ante vel ipsum. Praesent blandit lacinia erat. Vestibulum sed magna at nunc commodo placerat.', '2022-01-11 18:40:59', 'Pip', '2022-11-08 14:03:40', 'Caren');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (982, 64, 'Praesent id massa id nisl venenatis lacinia. Aenean sit amet justo. Morbi ut odio.', '2022-07-19 01:37:12', 'Tades', '2022-07-09 01:52:48', 'Barrie');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (983, 12, 'Morbi non lectus. Aliquam sit amet diam in magna bibendum imperdiet. Nullam orci pede, venenatis non, sodales sed, tincidunt eu, felis.', '2022-06-25 14:19:52', 'Mallory', '2022-11-15 12:50:02', 'Christie');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (984, 29, 'Maecenas leo odio, condimentum id, luctus nec, molestie sed, justo. Pellentesque viverra pede ac diam. Cras pellentesque volutpat dui.', '2022-06-23 10:24:17', 'Teddy', '2022-06-13 08:00:54', 'Berkly');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (985, 61, 'Curabitur gravida nisi at nibh. In hac habitasse platea dictumst. Aliquam augue quam, sollicitudin vitae, consectetuer eget, rutrum at, lorem.', '2022-03-06 23:22:49', 'Derwin', '2021-12-30 08:16:03', 'Cyndy');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (986, 80, 'Pellentesque at nulla. Suspendisse potenti. Cras in purus eu magna vulputate luctus.', '2022-02-18 15:08:23', 'Winni', '2022-02-25 14:14:12', 'Marcelia');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (987, 66, 'Vestibulum quam sapien, varius ut, blandit non, interdum in, ante. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Duis faucibus accumsan odio. Curabitur convallis.', '2022-06-29 14:45:36', 'Missy', '2022-07-25 21:03:12', 'Vania');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (988, 35, 'Fusce posuere felis sed lacus. Morbi sem mauris, laoreet ut, rhoncus aliquet, pulvinar sed, nisl. Nunc rhoncus dui vel sem.', '2022-12-07 01:09:29', 'Vivianne', '2022-11-03 23:41:53', 'Heddie');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (989, 36, 'In sagittis dui vel nisl. Duis ac nibh. Fusce lacus purus, aliquet at, feugiat non, pretium quis, lectus.', '2022-01-31 08:43:41', 'Angelique', '2022-12-17 16:39:52', 'Stella');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (990, 14, 'Phasellus sit amet erat. Nulla tempus. Vivamus in felis eu sapien cursus vestibulum.', '2022-07-01 12:53:08', 'Decca', '2022-01-17 21:15:41', 'Purcell');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (991, 27, 'Donec diam neque, vestibulum eget, vulputate ut, ultrices vel, augue. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Donec pharetra, magna vestibulum aliquet ultrices, erat tortor sollicitudin mi, sit amet lobortis sapien sapien non mi. Integer ac neque.', '2022-05-16 11:19:52', 'Lisle', '2022-01-27 14:29:10', 'Darnall');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (992, 41, 'In hac habitasse platea dictumst. Etiam faucibus cursus urna. Ut tellus.', '2022-11-20 14:08:30', 'Cob', '2022-08-26 20:51:44', 'Philipa');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (993, 75, 'Phasellus sit amet erat. Nulla tempus. Vivamus in felis eu sapien cursus vestibulum.', '2022-11-28 18:07:16', 'Cirillo', '2022-04-17 00:09:59', 'Dolli');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (994, 45, 'Sed ante. Vivamus tortor. Duis mattis egestas metus.', '2022-06-30 04:34:56', 'Gretta', '2022-11-15 14:39:30', 'Ingeborg');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (995, 2, 'Nulla ut erat id mauris vulputate elementum. Nullam varius. Nulla facilisi.', '2022-08-19 02:14:09', 'Michal', '2022-11-16 00:06:01', 'Julie');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (996, 39, 'Nam ultrices, libero non mattis pulvinar, nulla pede ullamcorper augue, a suscipit nulla elit ac nulla. Sed vel enim sit amet nunc viverra dapibus. Nulla suscipit ligula in lacus.', '2022-10-14 00:26:37', 'Huntlee', '2022-09-08 08:25:20', 'Aurelie');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (997, 65, 'Phasellus sit amet erat. Nulla tempus. Vivamus in felis eu sapien cursus vestibulum.', '2022-12-13 05:24:13', 'Taffy', '2022-01-21 18:06:33', 'Roxi');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (998, 29, 'In hac habitasse platea dictumst. Morbi vestibulum, velit id pretium iaculis, diam erat fermentum justo, nec condimentum neque sapien placerat ante. Nulla justo.', '2022-11-18 23:44:57', 'Ofelia', '2022-02-21 04:41:35', 'Zeb');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (999, 8, 'Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus. Vivamus vestibulum sagittis sapien. Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus.', '2022-09-12 17:31:29', 'Pearle', '2022-02-07 18:53:16', 'Clarke');
+insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values (1000, 20, 'Mauris enim leo, rhoncus sed, vestibulum sit amet, cursus id, turpis. Integer aliquet, massa id lobortis convallis, tortor risus dapibus augue, vel accumsan tellus nisi eu orci. Mauris lacinia sapien quis libero.', '2022-04-14 23:51:50', 'Filmore', '2022-05-25 21:41:29', 'Hadley');
+
+
+-- 해시태그 정규화: 위 게시글들의 hashtag 문자열을 HashtagParser 규칙(소문자, # 제거)으로 자른 사전 + 연결
+insert into hashtag (id, name) values (1, 'mauv');
+insert into hashtag (id, name) values (2, 'green');
+insert into hashtag (id, name) values (3, 'fuscia');
+insert into hashtag (id, name) values (4, 'violet');
+insert into hashtag (id, name) values (5, 'blue');
+insert into hashtag (id, name) values (6, 'aquamarine');
+insert into hashtag (id, name) values (7, 'puce');
+insert into hashtag (id, name) values (8, 'turquoise');
+insert into hashtag (id, name) values (9, 'khaki');
+insert into hashtag (id, name) values (10, 'orange');
+insert into hashtag (id, name) values (11, 'yellow');
+insert into hashtag (id, name) values (12, 'goldenrod');
+insert into hashtag (id, name) values (13, 'indigo');
+insert into hashtag (id, name) values (14, 'crimson');
+insert into hashtag (id, name) values (15, 'maroon');
+insert into hashtag (id, name) values (16, 'teal');
+insert into hashtag (id, name) values (17, 'pink');
+insert into hashtag (id, name) values (18, 'red');
+insert into hashtag (id, name) values (19, 'purple');
+insert into article_hashtag (article_id, hashtag_id) values (2, 1);
+insert into article_hashtag (article_id, hashtag_id) values (3, 2);
+insert into article_hashtag (article_id, hashtag_id) values (7, 3);
+insert into article_hashtag (article_id, hashtag_id) values (8, 4);
+insert into article_hashtag (article_id, hashtag_id) values (9, 5);
+insert into article_hashtag (article_id, hashtag_id) values (11, 6);
+insert into article_hashtag (article_id, hashtag_id) values (12, 7);
+insert into article_hashtag (article_id, hashtag_id) values (15, 8);
+insert into article_hashtag (article_id, hashtag_id) values (16, 9);
+insert into article_hashtag (article_id, hashtag_id) values (18, 8);
+insert into article_hashtag (article_id, hashtag_id) values (19, 3);
+insert into article_hashtag (article_id, hashtag_id) values (20, 10);
+insert into article_hashtag (article_id, hashtag_id) values (23, 11);
+insert into article_hashtag (article_id, hashtag_id) values (25, 12);
+insert into article_hashtag (article_id, hashtag_id) values (26, 4);
+insert into article_hashtag (article_id, hashtag_id) values (27, 13);
+insert into article_hashtag (article_id, hashtag_id) values (28, 8);
+insert into article_hashtag (article_id, hashtag_id) values (29, 10);
+insert into article_hashtag (article_id, hashtag_id) values (30, 10);
+insert into article_hashtag (article_id, hashtag_id) values (32, 9);
+insert into article_hashtag (article_id, hashtag_id) values (33, 14);
+insert into article_hashtag (article_id, hashtag_id) values (34, 15);
+insert into article_hashtag (article_id, hashtag_id) values (36, 1);
+insert into article_hashtag (article_id, hashtag_id) values (38, 7);
+insert into article_hashtag (article_id, hashtag_id) values (39, 2);
+insert into article_hashtag (article_id, hashtag_id) values (40, 1);
+insert into article_hashtag (article_id, hashtag_id) values (41, 15);
+insert into article_hashtag (article_id, hashtag_id) values (42, 9);
+insert into article_hashtag (article_id, hashtag_id) values (44, 4);
+insert into article_hashtag (article_id, hashtag_id) values (45, 13);
+insert into article_hashtag (article_id, hashtag_id) values (47, 1);
+insert into article_hashtag (article_id, hashtag_id) values (48, 5);
+insert into article_hashtag (article_id, hashtag_id) values (49, 16);
+insert into article_hashtag (article_id, hashtag_id) values (50, 17);
+insert into article_hashtag (article_id, hashtag_id) values (51, 9);
+insert into article_hashtag (article_id, hashtag_id) values (53, 6);
+insert into article_hashtag (article_id, hashtag_id) values (54, 7);
+insert into article_hashtag (article_id, hashtag_id) values (56, 13);
+insert into article_hashtag (article_id, hashtag_id) values (58, 15);
+insert into article_hashtag (article_id, hashtag_id) values (59, 15);
+insert into article_hashtag (article_id, hashtag_id) values (63, 15);
+insert into article_hashtag (article_id, hashtag_id) values (64, 12);
+insert into article_hashtag (article_id, hashtag_id) values (65, 15);
+insert into article_hashtag (article_id, hashtag_id) values (66, 14);
+insert into article_hashtag (article_id, hashtag_id) values (67, 17);
+insert into article_hashtag (article_id, hashtag_id) values (68, 18);
+insert into article_hashtag (article_id, hashtag_id) values (69, 7);
+insert into article_hashtag (article_id, hashtag_id) values (70, 19);
+insert into article_hashtag (article_id, hashtag_id) values (72, 1);
+insert into article_hashtag (article_id, hashtag_id) values (73, 17);
+insert into article_hashtag (article_id, hashtag_id) values (74, 5);
+insert into article_hashtag (article_id, hashtag_id) values (76, 5);
+insert into article_hashtag (article_id, hashtag_id) values (77, 1);
+insert into article_hashtag (article_id, hashtag_id) values (78, 14);
+insert into article_hashtag (article_id, hashtag_id) values (79, 12);
+insert into article_hashtag (article_id, hashtag_id) values (81, 17);
+insert into article_hashtag (article_id, hashtag_id) values (82, 18);
+insert into article_hashtag (article_id, hashtag_id) values (83, 7);
+insert into article_hashtag (article_id, hashtag_id) values (84, 4);
+insert into article_hashtag (article_id, hashtag_id) values (85, 6);
+insert into article_hashtag (article_id, hashtag_id) values (87, 19);
+insert into article_hashtag (article_id, hashtag_id) values (88, 16);
+insert into article_hashtag (article_id, hashtag_id) values (89, 13);
+insert into article_hashtag (article_id, hashtag_id) values (90, 19);
+insert into article_hashtag (article_id, hashtag_id) values (91, 9);
+insert into article_hashtag (article_id, hashtag_id) values (93, 8);
+insert into article_hashtag (article_id, hashtag_id) values (94, 7);
+insert into article_hashtag (article_id, hashtag_id) values (97, 12);
+insert into article_hashtag (article_id, hashtag_id) values (98, 8);
+insert into article_hashtag (article_id, hashtag_id) values (99, 17);
+insert into article_hashtag (article_id, hashtag_id) values (100, 1);
+
+-- id 를 직접 넣었으니까 id_generator 가 그 다음 번호부터 주도록 맞춰준다. (Article/ArticleComment 의 ShardAwareIdGenerator)
+delete from id_generator where sequence_name in ('article', 'article_comment', 'hashtag');
+insert into id_generator (sequence_name, next_val) values ('article', 101);
+insert into id_generator (sequence_name, next_val) values ('article_comment', 1001);
+insert into id_generator (sequence_name, next_val) values ('hashtag', 20);
+
+-- 위에서 SQL 로 직접 넣은 댓글들은 Article.commentCount 를 안 거치니까 한번에 맞춰준다.
+update article set comment_count = (select count(*) from article_comment c where c.article_id = article.id);
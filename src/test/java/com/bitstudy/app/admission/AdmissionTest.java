@@ -0,0 +1,134 @@
+package com.bitstudy.app.admission;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/* 스프링 없이 한도(AdaptiveLimit)랑 요청 분류(EndpointClass)만 테스트 (시계는 가짜) */
+class AdmissionTest {
+
+    private static final long WINDOW = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private long now;
+
+    @DisplayName("분류 - /api 읽기/쓰기, 내보내기, 나머지는 제한 안 함")
+    @Test
+    void classify() {
+        assertThat(EndpointClass.of("GET", "/api/articles")).isEqualTo(EndpointClass.READ);
+        assertThat(EndpointClass.of("HEAD", "/api/articles/1")).isEqualTo(EndpointClass.READ);
+        assertThat(EndpointClass.of("POST", "/api/articleComments")).isEqualTo(EndpointClass.WRITE);
+        assertThat(EndpointClass.of("DELETE", "/api/articles/1")).isEqualTo(EndpointClass.WRITE);
+        assertThat(EndpointClass.of("GET", "/admin/export/ndjson")).isEqualTo(EndpointClass.EXPORT);
+        assertThat(EndpointClass.of("GET", "/api/articleComments/stream")).isNull();
+        assertThat(EndpointClass.of("OPTIONS", "/api/articles")).isNull();
+        assertThat(EndpointClass.of("GET", "/actuator/health")).isNull();
+    }
+
+    @DisplayName("한도를 다 쓰는데 응답 시간이 그대로면 늘어난다")
+    @Test
+    void growsWhileLatencyHolds() {
+        AdaptiveLimit limit = limit(10);
+
+        for (int i = 0; i < 20; i++) {
+            round(limit, limit.getLimit(), 10, false);
+        }
+
+        assertThat(limit.getLimit()).isGreaterThan(10);
+    }
+
+    @DisplayName("응답 시간이 평소보다 느려지면 줄어든다")
+    @Test
+    void shrinksWhenLatencyRises() {
+        AdaptiveLimit limit = limit(50);
+        for (int i = 0; i < 5; i++) {
+            round(limit, limit.getLimit(), 10, false);
+        }
+        int before = limit.getLimit();
+
+        for (int i = 0; i < 20; i++) {
+            round(limit, limit.getLimit(), 50, false);
+        }
+
+        assertThat(limit.getLimit()).isLessThan(before);
+        assertThat(limit.getBaselineMillis()).isLessThan(20);
+    }
+
+    @DisplayName("한도의 절반도 안 쓰면 빨라도 늘리지 않는다")
+    @Test
+    void doesNotGrowWhenUnderused() {
+        AdaptiveLimit limit = limit(20);
+
+        for (int i = 0; i < 20; i++) {
+            round(limit, 2, 10, false);
+        }
+
+        assertThat(limit.getLimit()).isEqualTo(20);
+    }
+
+    @DisplayName("실패(5xx)가 섞이면 바로 줄인다")
+    @Test
+    void backsOffOnFailure() {
+        AdaptiveLimit limit = limit(20);
+
+        round(limit, 1, 10, true);
+
+        assertThat(limit.getLimit()).isEqualTo(18);
+    }
+
+    @DisplayName("꽉 차면 바로 거절, share 를 주면 그 비율까지만, 기다리면 자리가 날 때 들어간다")
+    @Test
+    void rejectsAndWaits() throws Exception {
+        AdaptiveLimit limit = limit(10);
+
+        int admitted = 0;
+        for (int i = 0; i < 10; i++) {
+            admitted += limit.tryAcquire(0, 0.5) ? 1 : 0;
+        }
+        assertThat(admitted).isEqualTo(5);
+        while (limit.tryAcquire()) {
+            admitted++;
+        }
+        assertThat(admitted).isEqualTo(10);
+        assertThat(limit.isSaturated()).isTrue();
+        assertThat(limit.getRejected()).isEqualTo(6);
+
+        Thread releaser = new Thread(() -> {
+            sleep(50);
+            limit.release(TimeUnit.MILLISECONDS.toNanos(10), false);
+        });
+        releaser.start();
+        assertThat(limit.tryAcquire(TimeUnit.SECONDS.toNanos(5), 1.0)).isTrue();
+        releaser.join();
+        assertThat(limit.getInflight()).isEqualTo(10);
+    }
+
+    private AdaptiveLimit limit(int initial) {
+        return new AdaptiveLimit(initial, 2, 100, 1.5, WINDOW, () -> now);
+    }
+
+    /* 요청 concurrency 개를 받아서 rtt 로 끝내고 window 를 하나 넘긴다. */
+    private void round(AdaptiveLimit limit, int concurrency, long rttMillis, boolean failed) {
+        int admitted = 0;
+        while (admitted < concurrency && limit.tryAcquire()) {
+            admitted++;
+        }
+        long rtt = TimeUnit.MILLISECONDS.toNanos(rttMillis);
+        for (int i = 0; i < admitted; i++) {
+            if (i == admitted - 1) {
+                now += WINDOW;
+            }
+            limit.release(rtt, failed);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
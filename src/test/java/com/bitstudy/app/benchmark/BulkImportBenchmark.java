@@ -0,0 +1,109 @@
+package com.bitstudy.app.benchmark;
+
+import com.bitstudy.app.config.jpaConfig;
+import com.bitstudy.app.dto.ImportReport;
+import com.bitstudy.app.repository.IdBlockAllocator;
+import com.bitstudy.app.service.BulkImportService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.support.EncodedResource;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+
+/* data.sql 방식(insert 문 한 줄씩) vs BulkImportService(스트리밍 + JDBC batch) 벤치마크
+ *  -Dbenchmark.import.articles=20000 (기본 2만건, 게시글마다 댓글 10개 -> 22만 row)
+ *  트랜잭션은 각자 방식대로 커밋하게 테스트 트랜잭션을 끈다.
+ * */
+@Tag("benchmark")
+@DataJpaTest
+@Import({jpaConfig.class, BulkImportService.class, IdBlockAllocator.class, JacksonAutoConfiguration.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class BulkImportBenchmark {
+
+    private static final int ARTICLES = Integer.getInteger("benchmark.import.articles", 20_000);
+    private static final int COMMENTS_PER_ARTICLE = 10;
+    private static final String CONTENT = "Donec diam neque, vestibulum eget, vulputate ut, ultrices vel, augue. Vestibulum ante ipsum primis in faucibus.";
+
+    private final BulkImportService bulkImportService;
+    private final IdBlockAllocator idBlockAllocator;
+    private final DataSource dataSource;
+
+    BulkImportBenchmark(@Autowired BulkImportService bulkImportService,
+                        @Autowired IdBlockAllocator idBlockAllocator,
+                        @Autowired DataSource dataSource) {
+        this.bulkImportService = bulkImportService;
+        this.idBlockAllocator = idBlockAllocator;
+        this.dataSource = dataSource;
+    }
+
+    @DisplayName("insert 스크립트 vs 대량 적재")
+    @Test
+    void compareScriptAndBulkImport(@TempDir Path dir) throws Exception {
+        long rows = (long) ARTICLES * (1 + COMMENTS_PER_ARTICLE);
+
+        Path script = writeScript(dir.resolve("seed.sql"));
+        long t0 = System.nanoTime();
+        try (Connection connection = dataSource.getConnection()) {
+            ScriptUtils.executeSqlScript(connection, new EncodedResource(new FileSystemResource(script), StandardCharsets.UTF_8));
+        }
+        long scriptMillis = (System.nanoTime() - t0) / 1_000_000;
+
+        Path ndjson = writeNdjson(dir.resolve("seed.ndjson"));
+        ImportReport report;
+        try (InputStream in = Files.newInputStream(ndjson)) {
+            report = bulkImportService.importNdjson(in);
+        }
+
+        System.out.printf("rows: %,d%n", rows);
+        System.out.printf("insert script : %,8d ms (%,.0f rows/sec)%n", scriptMillis, rows * 1000.0 / Math.max(1, scriptMillis));
+        System.out.printf("bulk import   : %,8d ms (%,.0f rows/sec)%n", report.elapsedMillis(), report.rowsPerSecond());
+    }
+
+    /* data.sql 이랑 같은 모양의 insert 문 (id 는 겹치지 않게 id_generator 에서 받아둔다) */
+    private Path writeScript(Path path) throws Exception {
+        long articleId = idBlockAllocator.reserve("article", ARTICLES);
+        long commentId = idBlockAllocator.reserve("article_comment", ARTICLES * COMMENTS_PER_ARTICLE);
+        try (BufferedWriter out = Files.newBufferedWriter(path)) {
+            for (int i = 0; i < ARTICLES; i++) {
+                long id = articleId + i;
+                out.write("insert into Article (id, title, content, hashtag, created_at, created_by, modified_at, modified_by) values ("
+                        + id + ", 'title " + i + "', '" + CONTENT + "', null, '2022-12-03 23:49:10', 'bench', '2022-12-03 23:49:10', 'bench');\n");
+                for (int c = 0; c < COMMENTS_PER_ARTICLE; c++) {
+                    out.write("insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) values ("
+                            + (commentId++) + ", " + id + ", '" + CONTENT + "', '2022-12-03 23:49:10', 'bench', '2022-12-03 23:49:10', 'bench');\n");
+                }
+            }
+        }
+        return path;
+    }
+
+    private Path writeNdjson(Path path) throws Exception {
+        try (BufferedWriter out = Files.newBufferedWriter(path)) {
+            for (int i = 0; i < ARTICLES; i++) {
+                out.write("{\"id\":" + i + ",\"title\":\"title " + i + "\",\"content\":\"" + CONTENT + "\","
+                        + "\"createdAt\":\"2022-12-03T23:49:10\",\"createdBy\":\"bench\",\"comments\":[");
+                for (int c = 0; c < COMMENTS_PER_ARTICLE; c++) {
+                    out.write((c == 0 ? "" : ",") + "{\"content\":\"" + CONTENT + "\",\"createdBy\":\"bench\"}");
+                }
+                out.write("]}\n");
+            }
+        }
+        return path;
+    }
+}
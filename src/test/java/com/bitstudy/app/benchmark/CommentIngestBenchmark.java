@@ -0,0 +1,97 @@
+package com.bitstudy.app.benchmark;
+
+import com.bitstudy.app.domain.ArticleComment;
+import com.bitstudy.app.ingest.CommentIngestService;
+import com.bitstudy.app.repository.ArticleCommentRepository;
+import com.bitstudy.app.repository.ArticleRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/* 댓글 작성: 요청마다 트랜잭션(기존 POST /api/articleComments) vs write-behind 큐(CommentIngestService, FLUSH 모드)
+ *  한 게시글(1번)에 -Dbenchmark.ingest.threads 명이 동시에 -Dbenchmark.ingest.comments 개씩 댓글을 단다.
+ *  두 방식 모두 "커밋될 때까지 기다렸다가 다음 댓글" 이라서 응답 보장은 같다.
+ * */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "board.comment-ingest.enabled=true",
+        "board.comment-ingest.durability=flush",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=info"
+})
+@AutoConfigureTestDatabase
+class CommentIngestBenchmark {
+
+    private static final int THREADS = Integer.getInteger("benchmark.ingest.threads", 32);
+    private static final int COMMENTS_PER_THREAD = Integer.getInteger("benchmark.ingest.comments", 500);
+    private static final long ARTICLE_ID = 1L;
+
+    private final CommentIngestService commentIngestService;
+    private final ArticleRepository articleRepository;
+    private final ArticleCommentRepository articleCommentRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    CommentIngestBenchmark(@Autowired CommentIngestService commentIngestService,
+                           @Autowired ArticleRepository articleRepository,
+                           @Autowired ArticleCommentRepository articleCommentRepository,
+                           @Autowired TransactionTemplate transactionTemplate) {
+        this.commentIngestService = commentIngestService;
+        this.articleRepository = articleRepository;
+        this.articleCommentRepository = articleCommentRepository;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @DisplayName("동기 저장 vs write-behind")
+    @Test
+    void compareSynchronousAndWriteBehind() throws Exception {
+        long before = commentCount();
+
+        long syncMillis = run(() -> transactionTemplate.executeWithoutResult(status ->
+                articleCommentRepository.save(ArticleComment.of(articleRepository.getReferenceById(ARTICLE_ID), "sync"))));
+        long writeBehindMillis = run(() ->
+                commentIngestService.submit(ARTICLE_ID, "write-behind").committed().join());
+
+        int total = THREADS * COMMENTS_PER_THREAD;
+        assertThat(commentCount()).isEqualTo(before + 2L * total);
+        System.out.printf("%d threads x %d comments%n", THREADS, COMMENTS_PER_THREAD);
+        System.out.printf("synchronous  : %,8d ms (%,.0f comments/sec)%n", syncMillis, total * 1000.0 / Math.max(1, syncMillis));
+        System.out.printf("write-behind : %,8d ms (%,.0f comments/sec)%n", writeBehindMillis, total * 1000.0 / Math.max(1, writeBehindMillis));
+    }
+
+    private long commentCount() {
+        return articleRepository.findById(ARTICLE_ID).orElseThrow().getCommentCount();
+    }
+
+    private static long run(Runnable comment) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        try {
+            long start = System.nanoTime();
+            List<Future<?>> clients = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                clients.add(pool.submit(() -> {
+                    for (int i = 0; i < COMMENTS_PER_THREAD; i++) {
+                        comment.run();
+                    }
+                }));
+            }
+            for (Future<?> client : clients) {
+                client.get();
+            }
+            return (System.nanoTime() - start) / 1_000_000;
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.bitstudy.app.benchmark;
+
+import com.bitstudy.app.web.CompactMediaTypes;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/* 큰 게시글 페이지(-Dbenchmark.page.size, 기본 1000건)를 형식별로 받아서 크기와 시간을 비교
+ *  시간은 MockMvc 로 컨트롤러부터 응답 바이트까지 (조회 + 직렬화). 자세한 분포는 JMH 의 HalSerializationBenchmark 로.
+ * */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "spring.data.rest.max-page-size=10000"
+})
+@AutoConfigureMockMvc
+@AutoConfigureTestDatabase
+class CompactFormatBenchmark {
+
+    private static final int PAGE_SIZE = Integer.getInteger("benchmark.page.size", 1_000);
+    private static final int REPEAT = 20;
+    private static final List<MediaType> FORMATS = List.of(
+            MediaTypes.HAL_JSON, CompactMediaTypes.COMPACT_JSON, CompactMediaTypes.CBOR, CompactMediaTypes.SMILE);
+
+    private final MockMvc mvc;
+    private final JdbcTemplate jdbcTemplate;
+
+    CompactFormatBenchmark(@Autowired MockMvc mvc, @Autowired JdbcTemplate jdbcTemplate) {
+        this.mvc = mvc;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /* 페이지를 채울 만큼 게시글을 더 넣는다. (id 는 data.sql 이랑 안겹치게 100000 부터) */
+    @BeforeEach
+    void seed() {
+        jdbcTemplate.update("delete from article where id >= 100000");
+        jdbcTemplate.update("insert into article (id, title, content, hashtag, comment_count, view_count, created_at, created_by, modified_at, modified_by) " +
+                "select x + 100000, concat('benchmark title ', x), 'Donec diam neque, vestibulum eget, vulputate ut, ultrices vel, augue.', '#bench', 0, 0, " +
+                "dateadd(SECOND, x, timestamp '2010-01-01 00:00:00'), 'bench', timestamp '2010-01-01 00:00:00', 'bench' " +
+                "from system_range(1, ?)", PAGE_SIZE);
+    }
+
+    @DisplayName("HAL vs compact JSON vs CBOR vs Smile")
+    @Test
+    void compareFormats() throws Exception {
+        System.out.printf("page size %,d%n%-40s %12s %12s%n", PAGE_SIZE, "format", "bytes", "avg(ms)");
+        for (MediaType format : FORMATS) {
+            fetch(format); // warmup
+            long bytes = 0;
+            long start = System.nanoTime();
+            for (int i = 0; i < REPEAT; i++) {
+                bytes = fetch(format);
+            }
+            double avgMillis = (System.nanoTime() - start) / 1_000_000.0 / REPEAT;
+            System.out.printf("%-40s %,12d %12.2f%n", format, bytes, avgMillis);
+        }
+    }
+
+    private long fetch(MediaType format) throws Exception {
+        return mvc.perform(get("/api/articles").param("size", String.valueOf(PAGE_SIZE)).accept(format))
+                .andReturn().getResponse().getContentAsByteArray().length;
+    }
+}
@@ -0,0 +1,177 @@
+package com.bitstudy.app.benchmark;
+
+import com.bitstudy.app.config.jpaConfig;
+import com.bitstudy.app.domain.Article;
+import com.bitstudy.app.repository.ArticleRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.util.List;
+import java.util.Random;
+
+/* 본문 저장 방식 비교 - article.content 그대로(inline) vs 압축 + LAZY (article_content)
+ *  -Dbenchmark.content.articles=20000 (기본 2만건)
+ *  본문은 실제 게시판 글처럼 한글/영문 단어를 섞어서, 길이는 짧은 글이 많고 긴 글이 조금 있게 (200 ~ 10000자) 만든다.
+ *
+ *  재는 것
+ *   - 저장 공간 : 본문 바이트 합계, article 테이블 디스크 사용량 (H2 DISK_SPACE_USED)
+ *   - 목록 조회 : 20개짜리 페이지를 (본문 안 씀 / 본문까지 씀) 두 가지로 가져오는 시간
+ *  트랜잭션은 직접 나눠서 쓰니까 테스트 트랜잭션은 끈다.
+ * */
+@Tag("benchmark")
+@DataJpaTest
+@Import(jpaConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ContentStorageBenchmark {
+
+    private static final int ARTICLES = Integer.getInteger("benchmark.content.articles", 20_000);
+    private static final int PAGE_SIZE = 20;
+    private static final int PAGES = 200;
+    private static final int CHUNK = 500;
+    private static final Sort LATEST_FIRST = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
+
+    private final ArticleRepository articleRepository;
+    private final EntityManager entityManager;
+    private final EntityManagerFactory entityManagerFactory;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    ContentStorageBenchmark(@Autowired ArticleRepository articleRepository,
+                            @Autowired EntityManager entityManager,
+                            @Autowired EntityManagerFactory entityManagerFactory,
+                            @Autowired JdbcTemplate jdbcTemplate,
+                            @Autowired PlatformTransactionManager transactionManager) {
+        this.articleRepository = articleRepository;
+        this.entityManager = entityManager;
+        this.entityManagerFactory = entityManagerFactory;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @DisplayName("inline vs 압축 저장 - 저장 공간, 목록 조회 시간")
+    @Test
+    void compareInlineAndCompressed() {
+        Result inline = run(false);
+        Result compressed = run(true);
+
+        System.out.printf("articles: %,d (content avg %,d bytes)%n", ARTICLES, inline.contentBytes / ARTICLES);
+        System.out.printf("%-12s %16s %16s %16s %12s %18s%n",
+                "", "content bytes", "article table", "total tables", "page (us)", "page+content (us)");
+        inline.print("inline");
+        compressed.print("compressed");
+        System.out.printf("saved - content: %.1f%%, article table: %.1f%%, total: %.1f%%%n",
+                saved(inline.contentBytes, compressed.contentBytes),
+                saved(inline.articleTableBytes, compressed.articleTableBytes),
+                saved(inline.totalBytes, compressed.totalBytes));
+    }
+
+    private static double saved(long before, long after) {
+        return 100.0 * (1 - (double) after / before);
+    }
+
+    private Result run(boolean compress) {
+        jdbcTemplate.update("delete from article_comment");
+        jdbcTemplate.update("delete from article_hashtag");
+        jdbcTemplate.update("delete from article");
+        jdbcTemplate.update("delete from article_content");
+        entityManagerFactory.getCache().evictAll();
+        seed(compress);
+
+        long contentBytes = compress
+                ? jdbcTemplate.queryForObject("select sum(octet_length(compressed)) from article_content", Long.class)
+                : jdbcTemplate.queryForObject("select sum(octet_length(content)) from article", Long.class);
+        long articleTableBytes = jdbcTemplate.queryForObject("select disk_space_used('ARTICLE')", Long.class);
+        long contentTableBytes = jdbcTemplate.queryForObject("select disk_space_used('ARTICLE_CONTENT')", Long.class);
+
+        listPages(false); // warm-up
+        long pageNanos = listPages(false);
+        long pageWithContentNanos = listPages(true);
+        return new Result(contentBytes, articleTableBytes, articleTableBytes + contentTableBytes,
+                pageNanos / PAGES, pageWithContentNanos / PAGES);
+    }
+
+    /* 저장 방식과 상관없이 같은 본문이 들어가게 seed 를 고정한다. (레포지토리 save 대신 persist 로 모드를 직접 고름) */
+    private void seed(boolean compress) {
+        Random random = new Random(42);
+        for (int done = 0; done < ARTICLES; done += CHUNK) {
+            int size = Math.min(CHUNK, ARTICLES - done);
+            transactionTemplate.executeWithoutResult(status -> {
+                for (int i = 0; i < size; i++) {
+                    Article article = Article.of("benchmark title " + random.nextInt(1_000_000), Corpus.content(random), null);
+                    if (compress) {
+                        article.compressContent();
+                    }
+                    entityManager.persist(article);
+                }
+            });
+        }
+    }
+
+    private long listPages(boolean readContent) {
+        long total = 0;
+        int lastPage = ARTICLES / PAGE_SIZE - 1;
+        for (int i = 0; i < PAGES; i++) {
+            int page = (int) ((long) i * lastPage / PAGES);
+            long start = System.nanoTime();
+            transactionTemplate.executeWithoutResult(status -> {
+                List<Article> articles = articleRepository.findAll(PageRequest.of(page, PAGE_SIZE, LATEST_FIRST)).getContent();
+                if (readContent) {
+                    articles.forEach(Article::getContent);
+                }
+            });
+            total += System.nanoTime() - start;
+            entityManagerFactory.getCache().evictAll(); // 매번 DB 에서 읽게
+        }
+        return total;
+    }
+
+    private record Result(long contentBytes, long articleTableBytes, long totalBytes, long pageNanos, long pageWithContentNanos) {
+        void print(String name) {
+            System.out.printf("%-12s %,16d %,16d %,16d %,12d %,18d%n",
+                    name, contentBytes, articleTableBytes, totalBytes, pageNanos / 1_000, pageWithContentNanos / 1_000);
+        }
+    }
+
+    /* 게시판 글 비슷한 본문 만들기 */
+    static final class Corpus {
+
+        private static final String[] WORDS = (
+                "오늘 어제 내일 정말 너무 그냥 근데 혹시 아마 진짜 조금 많이 다시 같이 먼저 " +
+                "질문 답변 공유 후기 정리 문제 해결 방법 설정 버전 에러 로그 서버 배포 테스트 " +
+                "스프링 자바 코드 프로젝트 데이터 쿼리 인덱스 캐시 성능 메모리 요청 응답 화면 " +
+                "있습니다 했습니다 합니다 같아요 되나요 안되네요 감사합니다 부탁드립니다 " +
+                "the a to of and in is it for on with this that not but you can have was " +
+                "Spring Boot JPA Hibernate MySQL H2 REST API JSON build gradle test error " +
+                "lorem ipsum dolor sit amet consectetur adipiscing elit sed do eiusmod tempor"
+        ).split(" ");
+
+        static String content(Random random) {
+            // 짧은 글이 대부분, 가끔 긴 글 (로그 붙여넣기 같은)
+            int target = (int) Math.min(10_000, 200 + Math.round(Math.exp(random.nextGaussian() * 0.9 + 7.0)));
+            StringBuilder text = new StringBuilder(target + 32);
+            while (text.length() < target) {
+                int words = 5 + random.nextInt(15);
+                for (int w = 0; w < words; w++) {
+                    text.append(WORDS[random.nextInt(WORDS.length)]).append(w == words - 1 ? ". " : " ");
+                }
+                if (random.nextInt(5) == 0) {
+                    text.append('\n');
+                }
+            }
+            return text.substring(0, Math.min(target, text.length()));
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.bitstudy.app.benchmark;
+
+import com.bitstudy.app.config.jpaConfig;
+import com.bitstudy.app.domain.Article;
+import com.bitstudy.app.repository.ArticleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.persistence.EntityManager;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/* offset 페이징 vs 커서(keyset) 페이징 벤치마크
+ *  평소 테스트(./gradlew test)에서는 빠지고, ./gradlew benchmark 로만 돈다.
+ *  -Dbenchmark.rows=1000000 (기본 100만건) 만큼 article 테이블에 데이터를 밀어넣고
+ *  앞/중간/끝 페이지를 두 방식으로 가져오는 시간을 비교한다.
+ * */
+@Tag("benchmark")
+@DataJpaTest
+@Import(jpaConfig.class)
+class CursorPagingBenchmark {
+
+    private static final int ROWS = Integer.getInteger("benchmark.rows", 1_000_000);
+    private static final int PAGE_SIZE = 20;
+    private static final int REPEAT = 5;
+    private static final Sort LATEST_FIRST = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
+
+    private final ArticleRepository articleRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+
+    CursorPagingBenchmark(@Autowired ArticleRepository articleRepository,
+                          @Autowired JdbcTemplate jdbcTemplate,
+                          @Autowired EntityManager entityManager) {
+        this.articleRepository = articleRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManager = entityManager;
+    }
+
+    /* H2 의 system_range 로 한번에 밀어넣는다. (id 는 data.sql 이랑 안겹치게 1000 부터) */
+    @BeforeEach
+    void seed() {
+        long start = System.nanoTime();
+        jdbcTemplate.update("insert into article (id, title, content, hashtag, created_at, created_by, modified_at, modified_by) " +
+                "select x + 1000, concat('benchmark title ', x), 'benchmark content', null, " +
+                "dateadd(SECOND, x, timestamp '2010-01-01 00:00:00'), 'bench', timestamp '2010-01-01 00:00:00', 'bench' " +
+                "from system_range(1, ?)", ROWS);
+        System.out.printf("seeded %,d articles in %,d ms%n", ROWS, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @DisplayName("offset 페이징 vs 커서 페이징")
+    @Test
+    void compareOffsetAndKeyset() {
+        int lastPage = (ROWS / PAGE_SIZE) - 1;
+        int[] pages = {1, 100, 5_000, lastPage / 2, lastPage};
+
+        System.out.printf("%12s %15s %15s%n", "page", "offset(us)", "keyset(us)");
+        for (int page : pages) {
+            if (page > lastPage) {
+                continue;
+            }
+            // 커서는 바로 앞 페이지의 마지막 글. (시간 재는 데에는 안들어감)
+            Article boundary = articleRepository.findAll(PageRequest.of(page * PAGE_SIZE - 1, 1, LATEST_FIRST)).getContent().get(0);
+
+            List<Long> offsetIds = null;
+            List<Long> keysetIds = null;
+            long offsetNanos = 0;
+            long keysetNanos = 0;
+            for (int i = 0; i < REPEAT; i++) {
+                entityManager.clear();
+                long t0 = System.nanoTime();
+                offsetIds = ids(articleRepository.findAll(PageRequest.of(page, PAGE_SIZE, LATEST_FIRST)).getContent());
+                offsetNanos += System.nanoTime() - t0;
+
+                entityManager.clear();
+                long t1 = System.nanoTime();
+                keysetIds = ids(articleRepository.findOlderThan(boundary.getCreatedAt(), boundary.getId(), PageRequest.of(0, PAGE_SIZE)));
+                keysetNanos += System.nanoTime() - t1;
+            }
+
+            assertThat(keysetIds).isEqualTo(offsetIds);
+            System.out.printf("%12d %15d %15d%n", page, offsetNanos / REPEAT / 1_000, keysetNanos / REPEAT / 1_000);
+        }
+    }
+
+    private static List<Long> ids(List<Article> articles) {
+        return articles.stream().map(Article::getId).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,72 @@
+package com.bitstudy.app.benchmark;
+
+import com.bitstudy.app.config.jpaConfig;
+import com.bitstudy.app.dto.SearchResult;
+import com.bitstudy.app.search.SearchService;
+import com.bitstudy.app.startup.StartupWarmUp;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+/* LIKE '%검색어%' (테이블 전체 스캔) vs 메모리 역색인 검색 벤치마크
+ *  -Dbenchmark.search.rows=500000 (기본 50만건) 게시글을 넣고, 같은 단어를 두 방식으로 찾는 시간을 비교한다.
+ *  본문은 2만개짜리 단어 사전에서 골라 만든다. (단어 하나가 평균 수십~수백 건에 나온다)
+ * */
+@Tag("benchmark")
+@DataJpaTest
+@Import({jpaConfig.class, SearchService.class, StartupWarmUp.class})
+class SearchBenchmark {
+
+    private static final int ROWS = Integer.getInteger("benchmark.search.rows", 500_000);
+    private static final int REPEAT = 20;
+    private static final List<String> QUERIES = List.of("w123", "w4567 w89", "w19999");
+
+    private final SearchService searchService;
+    private final JdbcTemplate jdbcTemplate;
+
+    SearchBenchmark(@Autowired SearchService searchService, @Autowired JdbcTemplate jdbcTemplate) {
+        this.searchService = searchService;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @DisplayName("LIKE 스캔 vs 역색인")
+    @Test
+    void compareLikeScanAndIndex() {
+        long t0 = System.nanoTime();
+        jdbcTemplate.update("insert into article (id, title, content, hashtag, created_at, created_by, modified_at, modified_by) " +
+                "select x + 1000, concat('title w', mod(x * 31, 20000)), " +
+                "concat('w', mod(x * 7919, 20000), ' w', mod(x * 104729, 20000), ' w', mod(x * 1299709, 20000), ' lorem ipsum dolor'), " +
+                "null, timestamp '2020-01-01 00:00:00', 'bench', timestamp '2020-01-01 00:00:00', 'bench' " +
+                "from system_range(1, ?)", ROWS);
+        System.out.printf("seeded %,d articles in %,d ms%n", ROWS, (System.nanoTime() - t0) / 1_000_000);
+
+        long t1 = System.nanoTime();
+        int documents = searchService.rebuild();
+        System.out.printf("indexed %,d documents in %,d ms%n", documents, (System.nanoTime() - t1) / 1_000_000);
+
+        System.out.printf("%-12s %12s %12s %12s%n", "query", "like(us)", "index(us)", "hits");
+        for (String query : QUERIES) {
+            String firstTerm = query.split(" ")[0];
+            long likeNanos = 0;
+            long indexNanos = 0;
+            SearchResult result = null;
+            for (int i = 0; i < REPEAT; i++) {
+                long s0 = System.nanoTime();
+                jdbcTemplate.queryForList("select id from article where title like ? or content like ? limit 20",
+                        Long.class, "%" + firstTerm + " %", "%" + firstTerm + " %");
+                likeNanos += System.nanoTime() - s0;
+
+                long s1 = System.nanoTime();
+                result = searchService.search(query, 0, 20);
+                indexNanos += System.nanoTime() - s1;
+            }
+            System.out.printf("%-12s %12d %12d %12d%n", query, likeNanos / REPEAT / 1_000, indexNanos / REPEAT / 1_000, result.total());
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.bitstudy.app.controller;
+
+import com.bitstudy.app.repository.ArticleRepository;
+import com.bitstudy.app.service.ArticleArchiveJob;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/* 보관된 글/댓글도 같은 주소, 같은 HAL 모양으로 읽히는지 (ArticleArchiveController)
+ *  data.sql 의 글은 전부 max-age 가 지난 글이라 archive() 한 번이면 다 옮겨진다.
+ *  DB 를 통째로 바꾸니까 다른 테스트와 컨텍스트(내장 DB)를 같이 안 쓰게 설정을 하나 다르게 준다.
+ * */
+@SpringBootTest(properties = "board.archive.batch-size=50")
+@AutoConfigureMockMvc
+@AutoConfigureTestDatabase
+@DisplayName("보관된 게시글/댓글 단건 조회")
+class ArticleArchiveControllerTest {
+
+    private final MockMvc mvc;
+    private final ArticleArchiveJob articleArchiveJob;
+    private final ArticleRepository articleRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    ArticleArchiveControllerTest(@Autowired MockMvc mvc,
+                                 @Autowired ArticleArchiveJob articleArchiveJob,
+                                 @Autowired ArticleRepository articleRepository,
+                                 @Autowired JdbcTemplate jdbcTemplate,
+                                 @Autowired ObjectMapper objectMapper) {
+        this.mvc = mvc;
+        this.articleArchiveJob = articleArchiveJob;
+        this.articleRepository = articleRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    @DisplayName("[api] 옮기기 전과 후의 응답이 같은 필드, 같은 값, 같은 _links 를 가진다")
+    @Test
+    void archivedResourcesKeepTheirShape() throws Exception {
+        Long commentId = jdbcTemplate.queryForObject("select min(id) from article_comment where article_id = 1", Long.class);
+        JsonNode liveArticle = read("/api/articles/1");
+        JsonNode liveComment = read("/api/articleComments/" + commentId);
+
+        articleArchiveJob.archive();
+        assertThat(articleRepository.existsById(1L)).isFalse();
+
+        JsonNode archivedArticle = read("/api/articles/1");
+        JsonNode archivedComment = read("/api/articleComments/" + commentId);
+        assertSameShape(archivedArticle, liveArticle);
+        assertSameShape(archivedComment, liveComment);
+        assertThat(archivedArticle.has("archivedAt")).isTrue();
+    }
+
+    private JsonNode read(String url) throws Exception {
+        String body = mvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body);
+    }
+
+    /* 원래 응답의 필드는 전부 같은 값으로 있어야 하고, 링크는 이름/주소까지 똑같아야 한다. (보관 쪽은 archivedAt 만 더 있다) */
+    private static void assertSameShape(JsonNode archived, JsonNode live) {
+        List<String> fields = new ArrayList<>();
+        live.fieldNames().forEachRemaining(fields::add);
+        for (String field : fields) {
+            assertThat(archived.get(field)).as(field).isEqualTo(live.get(field)); // _links 포함
+        }
+    }
+}
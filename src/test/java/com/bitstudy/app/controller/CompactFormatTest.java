@@ -0,0 +1,84 @@
+package com.bitstudy.app.controller;
+
+import com.bitstudy.app.web.CompactMediaTypes;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureTestDatabase
+@DisplayName("compact 응답 형식")
+class CompactFormatTest {
+
+    private final MockMvc mvc;
+
+    CompactFormatTest(@Autowired MockMvc mvc) {
+        this.mvc = mvc;
+    }
+
+    @DisplayName("[api] Accept 를 안 바꾸면 그대로 HAL")
+    @Test
+    void halStaysDefault() throws Exception {
+        mvc.perform(get("/api/articles").param("size", "5").accept(MediaTypes.HAL_JSON))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaTypes.HAL_JSON))
+                .andExpect(jsonPath("$._links").exists());
+    }
+
+    @DisplayName("[api] 링크 없는 JSON - 게시글 페이지")
+    @Test
+    void compactJsonPage() throws Exception {
+        mvc.perform(get("/api/articles").param("size", "5").accept(CompactMediaTypes.COMPACT_JSON))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(CompactMediaTypes.COMPACT_JSON))
+                .andExpect(jsonPath("$._links").doesNotExist())
+                .andExpect(jsonPath("$.content.length()").value(5))
+                .andExpect(jsonPath("$.content[0].title").exists())
+                .andExpect(jsonPath("$.content[0].articleComments").doesNotExist())
+                .andExpect(jsonPath("$.page.size").value(5));
+    }
+
+    @DisplayName("[api] CBOR - 게시글 페이지")
+    @Test
+    void cborPage() throws Exception {
+        byte[] body = mvc.perform(get("/api/articles").param("size", "5").accept(CompactMediaTypes.CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(CompactMediaTypes.CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        JsonNode page = new ObjectMapper(new CBORFactory()).readTree(body);
+        assertThat(page.get("content")).hasSize(5);
+        assertThat(page.has("_links")).isFalse();
+        assertThat(page.get("page").get("totalElements").asLong()).isPositive();
+    }
+
+    @DisplayName("[api] Smile - 댓글 하나는 게시글 링크 대신 articleId")
+    @Test
+    void smileComment() throws Exception {
+        byte[] body = mvc.perform(get("/api/articleComments/1").accept(CompactMediaTypes.SMILE))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(CompactMediaTypes.SMILE))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        JsonNode comment = new ObjectMapper(new SmileFactory()).readTree(body);
+        assertThat(comment.get("articleId").isNumber()).isTrue();
+        assertThat(comment.has("article")).isFalse();
+        assertThat(comment.has("_links")).isFalse();
+    }
+}
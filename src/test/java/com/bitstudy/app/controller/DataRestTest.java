@@ -27,16 +27,21 @@ package com.bitstudy.app.controller;
 *                             테스트 코드 내에서 Mock 서버를 띄울 수 있다. (response,request에 대한 사전정의가 가능)
 *  */
 
+import com.bitstudy.app.domain.ArticleComment;
+import com.bitstudy.app.repository.ArticleCommentRepository;
+import com.bitstudy.app.repository.ArticleRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
+import static org.hamcrest.Matchers.not;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 //import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -50,9 +55,15 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 public class DataRestTest {
 
     private final MockMvc mvc;
+    private final ArticleRepository articleRepository;
+    private final ArticleCommentRepository articleCommentRepository;
 
-    public DataRestTest(@Autowired MockMvc mvc) {
+    public DataRestTest(@Autowired MockMvc mvc,
+                        @Autowired ArticleRepository articleRepository,
+                        @Autowired ArticleCommentRepository articleCommentRepository) {
         this.mvc = mvc;
+        this.articleRepository = articleRepository;
+        this.articleCommentRepository = articleCommentRepository;
     }
 
     /* MockMvc 테스트 방법
@@ -116,4 +127,65 @@ public class DataRestTest {
     void articleCommentsAllByArticle() throws Exception {
         mvc.perform(get("/api/articles/1/articleComments")).andExpect(status().isOk()).andExpect(content().contentType(MediaType.valueOf("application/hal+json")));
     }
+    @Test
+    @DisplayName("[api] - 게시글 커서 페이징 조회")
+    void articleCursorPage() throws Exception {
+        mvc.perform(get("/api/articles/cursor").param("size", "5"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.valueOf("application/hal+json")))
+                .andExpect(jsonPath("$._embedded.articles.length()").value(5))
+                .andExpect(jsonPath("$._links.next.href").exists())
+                .andExpect(jsonPath("$._links.prev").doesNotExist());
+    }
+    @Test
+    @DisplayName("[api] - 게시글 요약 리스트 조회")
+    void articleSummaries() throws Exception {
+        mvc.perform(get("/api/articles/summary").param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.valueOf("application/hal+json")))
+                .andExpect(jsonPath("$._embedded.articles.length()").value(10))
+                .andExpect(jsonPath("$._embedded.articles[0].title").exists())
+                .andExpect(jsonPath("$._embedded.articles[0].commentCount").exists())
+                .andExpect(jsonPath("$._embedded.articles[0].content").doesNotExist())
+                .andExpect(jsonPath("$.page.totalElements").value(100));
+    }
+    @Test
+    @DisplayName("[api] - 댓글 커서 페이징 조회 - 잘못된 커서")
+    void articleCommentCursorPageWithBadCursor() throws Exception {
+        mvc.perform(get("/api/articleComments/cursor").param("cursor", "not-a-cursor")).andExpect(status().isBadRequest());
+    }
+    @Test
+    @DisplayName("[api] - 게시글 단건 조회 - 안 바뀌었으면 304")
+    void articleOneNotModified() throws Exception {
+        String etag = mvc.perform(get("/api/articles/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mvc.perform(get("/api/articles/1").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().string(""));
+    }
+    @Test
+    @DisplayName("[api] - 게시물의 댓글 리스트 조회 - 댓글이 달리면 ETag 가 바뀐다")
+    void articleCommentsAllByArticleEtagChanges() throws Exception {
+        String etag = mvc.perform(get("/api/articles/1/articleComments"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        articleCommentRepository.saveAndFlush(ArticleComment.of(articleRepository.findById(1L).orElseThrow(), "새 댓글"));
+
+        mvc.perform(get("/api/articles/1/articleComments").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(etag)));
+    }
+    @Test
+    @DisplayName("[api] - 게시글 리스트 조회 - 목록 ETag 는 기본으로 안 준다 (서버마다 번호가 달라서)")
+    void articlesHaveNoEtagByDefault() throws Exception {
+        mvc.perform(get("/api/articles"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.ETAG));
+    }
 }
@@ -0,0 +1,74 @@
+package com.bitstudy.app.controller;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.persistence.EntityManagerFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/* 쿼리 수 예산 테스트
+ *  API 하나가 SQL 을 몇 번 날리는지 Hibernate 통계(prepared statement 수)로 세서, 정해둔 예산을 넘으면 실패시킨다.
+ *  N+1 (목록 20건에 쿼리 21번) 이나 EAGER 로딩이 다시 생기면 여기서 빌드가 깨진다.
+ *
+ *  예산에는 ConditionalGetFilter 의 버전 쿼리(단건, 게시글의 댓글 목록 1번씩)도 들어있다.
+ *  전체 목록은 버전 쿼리가 없다. (ETag 를 주더라도 메모리의 CollectionVersions 번호로 만든다)
+ *  그래서 목록 예산은 페이지 조회 + count 까지만 잡는다. 버전 쿼리가 다시 생기면 여기서 걸린다.
+ *  2차 캐시에 걸리면 더 적게 나올 수 있어서 "이하" 로 검사한다.
+ *  어느 DB 에서든 똑같이 돌게 H2 로 바꿔서 돈다. (@AutoConfigureTestDatabase)
+ * */
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "board.conditional-get.collections=true" // 목록 ETag 도 켜고 잰다. (켜도 쿼리가 안 늘어야 한다)
+})
+@AutoConfigureMockMvc
+@AutoConfigureTestDatabase
+@DisplayName("API 쿼리 수 예산")
+class QueryBudgetTest {
+
+    private final MockMvc mvc;
+    private final Statistics statistics;
+
+    QueryBudgetTest(@Autowired MockMvc mvc,
+                    @Autowired EntityManagerFactory entityManagerFactory) {
+        this.mvc = mvc;
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @BeforeEach
+    void clearStatistics() {
+        statistics.clear();
+    }
+
+    @DisplayName("[api] 엔드포인트별 SQL 예산")
+    @ParameterizedTest(name = "{0} <= {1}")
+    @CsvSource({
+            "/api/articles?page=0&size=20,                      2",
+            "/api/articles/1,                                   2",
+            "/api/articles/summary?page=0&size=20,              2",
+            "/api/articles/cursor?size=20,                      1",
+            "/api/articleComments?page=0&size=20,               2",
+            "/api/articleComments/1,                            2",
+            "/api/articleComments/cursor?size=20,               1",
+            "/api/articles/1/articleComments?page=0&size=20,    4",
+            "/api/hashtags/green/articles?page=0&size=20,       1",
+    })
+    void endpointBudget(String url, long budget) throws Exception {
+        mvc.perform(get(url)).andExpect(status().isOk());
+
+        assertThat(statistics.getPrepareStatementCount())
+                .as("SQL statements for GET %s", url)
+                .isLessThanOrEqualTo(budget);
+    }
+}
@@ -0,0 +1,91 @@
+package com.bitstudy.app.datasource;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/* 라우팅 테스트
+ *  풀마다 다른 메모리 DB 를 붙이고, 각 DB 의 node 테이블에 자기 이름을 넣어둔다.
+ *  -> select name from node 결과로 실제 어느 풀에서 읽었는지 알 수 있다.
+ * */
+class ReadWriteRoutingDataSourceTest {
+
+    private ReadWriteRoutingDataSource routing;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readOnly;
+    private TransactionTemplate readWrite;
+
+    @BeforeEach
+    void setUp() {
+        HikariDataSource primary = pool("primary");
+        List<HikariDataSource> replicas = List.of(pool("replica-0"), pool("replica-1"));
+        routing = new ReadWriteRoutingDataSource(primary, replicas, ReplicaSelector.roundRobin(), null);
+
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(routing);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        readWrite = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReadYourWrites.clear();
+        routing.close();
+    }
+
+    @DisplayName("읽기 전용 트랜잭션은 replica 로 돌아가면서 간다")
+    @Test
+    void readOnlyGoesToReplicas() {
+        String first = readOnly.execute(status -> node());
+        String second = readOnly.execute(status -> node());
+
+        assertThat(List.of(first, second)).containsExactlyInAnyOrder("replica-0", "replica-1");
+    }
+
+    @DisplayName("쓰기 트랜잭션은 primary 로 간다")
+    @Test
+    void readWriteGoesToPrimary() {
+        assertThat(readWrite.execute(status -> node())).isEqualTo("primary");
+    }
+
+    @DisplayName("read-your-writes 로 pin 되어 있으면 읽기 전용도 primary 로 간다")
+    @Test
+    void pinnedReadGoesToPrimary() {
+        ReadYourWrites.pin();
+
+        assertThat(readOnly.execute(status -> node())).isEqualTo("primary");
+    }
+
+    private String node() {
+        return jdbcTemplate.queryForObject("select name from node", String.class);
+    }
+
+    private static HikariDataSource pool(String name) {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName(name);
+        config.setJdbcUrl("jdbc:h2:mem:rw-" + name + ";DB_CLOSE_DELAY=-1");
+        config.setUsername("sa");
+        config.setPassword("");
+        config.setMaximumPoolSize(2);
+        HikariDataSource dataSource = new HikariDataSource(config);
+
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("drop table if exists node");
+        jdbc.execute("create table node (name varchar(20))");
+        jdbc.update("insert into node (name) values (?)", name);
+        return dataSource;
+    }
+}
@@ -0,0 +1,54 @@
+package com.bitstudy.app.feed;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.persistence.EntityManagerFactory;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/* 열려 있는 스트림이 DB 커넥션을 붙들지 않는지
+ *  @AutoConfigureTestDatabase 의 내장 DB 는 풀이 없어서, 여기서는 작은 Hikari 풀(3개)을 붙인 메모리 H2 로 띄운다.
+ *  open-in-view 는 기본값(켜짐) 그대로. 2차 캐시를 비워서 게시글 확인이 진짜로 DB 까지 가게 한다.
+ * */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:feed-connections",
+        "spring.datasource.hikari.maximum-pool-size=3",
+        "spring.datasource.hikari.connection-timeout=1000"
+})
+@ActiveProfiles("h2")
+@AutoConfigureMockMvc
+@DisplayName("댓글 피드 - 커넥션 풀")
+class CommentFeedConnectionTest {
+
+    private static final int POOL_SIZE = 3;
+
+    private final MockMvc mvc;
+    private final EntityManagerFactory entityManagerFactory;
+
+    CommentFeedConnectionTest(@Autowired MockMvc mvc, @Autowired EntityManagerFactory entityManagerFactory) {
+        this.mvc = mvc;
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @DisplayName("[api] 풀 크기보다 많은 스트림을 열어도 보통 GET 이 된다")
+    @Test
+    void openStreamsDoNotHoldConnections() throws Exception {
+        entityManagerFactory.getCache().evictAll();
+
+        for (long articleId = 1; articleId <= POOL_SIZE * 2; articleId++) {
+            mvc.perform(get("/api/articles/" + articleId + "/articleComments/stream").accept(MediaType.TEXT_EVENT_STREAM))
+                    .andExpect(request().asyncStarted());
+        }
+
+        mvc.perform(get("/api/articles/1")).andExpect(status().isOk());
+    }
+}
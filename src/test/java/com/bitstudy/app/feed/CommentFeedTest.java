@@ -0,0 +1,129 @@
+package com.bitstudy.app.feed;
+
+import com.bitstudy.app.domain.Article;
+import com.bitstudy.app.domain.ArticleComment;
+import com.bitstudy.app.repository.ArticleCommentRepository;
+import com.bitstudy.app.repository.ArticleRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/* 댓글 피드(SSE) 통합 테스트
+ *  테스트 트랜잭션을 안 쓴다. (커밋이 돼야 피드로 나간다) 대신 만든 댓글은 끝나고 지운다.
+ * */
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureTestDatabase
+@DisplayName("댓글 실시간 피드")
+class CommentFeedTest {
+
+    private static final long WAIT_MILLIS = 5_000;
+    private static final Pattern EVENT_ID = Pattern.compile("id:(\\S+)\\nevent:comment\\ndata:[^\\n]*\"content\":\"([^\"]*)\"");
+
+    private final MockMvc mvc;
+    private final ArticleRepository articleRepository;
+    private final ArticleCommentRepository articleCommentRepository;
+    private final List<ArticleComment> created = new ArrayList<>();
+
+    CommentFeedTest(@Autowired MockMvc mvc,
+                    @Autowired ArticleRepository articleRepository,
+                    @Autowired ArticleCommentRepository articleCommentRepository) {
+        this.mvc = mvc;
+        this.articleRepository = articleRepository;
+        this.articleCommentRepository = articleCommentRepository;
+    }
+
+    @AfterEach
+    void cleanUp() {
+        created.forEach(articleCommentRepository::delete);
+    }
+
+    @DisplayName("[api] 게시글 피드는 그 게시글에 커밋된 댓글만 받는다")
+    @Test
+    void articleFeedReceivesOwnComments() throws Exception {
+        MockHttpServletResponse stream = open(get("/api/articles/1/articleComments/stream"));
+
+        comment(2L, "feed other article");
+        comment(1L, "feed own article");
+
+        awaitContent(stream, "feed own article");
+        assertThat(stream.getContentAsString()).doesNotContain("feed other article");
+    }
+
+    @DisplayName("[api] 없는 게시글은 404")
+    @Test
+    void unknownArticle() throws Exception {
+        mvc.perform(get("/api/articles/999999999/articleComments/stream").accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(status().isNotFound());
+    }
+
+    @DisplayName("[api] Last-Event-ID 로 다시 붙으면 놓친 것부터 이어받고, 모르는 id 면 reset")
+    @Test
+    void resumesFromLastEventId() throws Exception {
+        MockHttpServletResponse first = open(get("/api/articleComments/stream"));
+        comment(1L, "feed before disconnect");
+        String lastEventId = eventIdOf(awaitContent(first, "feed before disconnect"), "feed before disconnect");
+
+        comment(1L, "feed while away");
+        awaitContent(first, "feed while away");
+
+        MockHttpServletResponse resumed = open(get("/api/articleComments/stream").header("Last-Event-ID", lastEventId));
+        awaitContent(resumed, "feed while away");
+        assertThat(resumed.getContentAsString()).doesNotContain("feed before disconnect");
+
+        MockHttpServletResponse unknown = open(get("/api/articleComments/stream").header("Last-Event-ID", "other-server-1"));
+        awaitContent(unknown, "event:" + CommentFeed.EVENT_RESET);
+    }
+
+    private MockHttpServletResponse open(MockHttpServletRequestBuilder builder) throws Exception {
+        MvcResult result = mvc.perform(builder.accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return result.getResponse();
+    }
+
+    private void comment(Long articleId, String content) {
+        Article article = articleRepository.findById(articleId).orElseThrow();
+        created.add(articleCommentRepository.save(ArticleComment.of(article, content)));
+    }
+
+    private static String awaitContent(MockHttpServletResponse response, String expected) throws Exception {
+        long deadline = System.currentTimeMillis() + WAIT_MILLIS;
+        String body = response.getContentAsString();
+        while (!body.contains(expected) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            body = response.getContentAsString();
+        }
+        assertThat(body).contains(expected);
+        return body;
+    }
+
+    private static String eventIdOf(String body, String content) {
+        Matcher matcher = EVENT_ID.matcher(body);
+        while (matcher.find()) {
+            if (matcher.group(2).equals(content)) {
+                return matcher.group(1);
+            }
+        }
+        throw new AssertionError("no event for " + content + " in " + body);
+    }
+}
@@ -0,0 +1,56 @@
+package com.bitstudy.app.filter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/* 스프링 컨텍스트 없이 필터만 테스트 */
+class AdminAccessFilterTest {
+
+    @DisplayName("token 이 없으면 같은 서버에서 부른 것만 받는다")
+    @Test
+    void loopbackOnlyWithoutToken() throws Exception {
+        AdminAccessFilter filter = new AdminAccessFilter("");
+
+        assertThat(status(filter, "/admin/search/rebuild", "127.0.0.1", null)).isEqualTo(200);
+        assertThat(status(filter, "/admin/search/rebuild", "::1", null)).isEqualTo(200);
+        assertThat(status(filter, "/admin/search/rebuild", "10.0.0.7", null)).isEqualTo(403);
+        assertThat(status(filter, "/api/articles", "10.0.0.7", null)).isEqualTo(200);
+    }
+
+    @DisplayName("token 이 있으면 헤더가 맞아야 한다 (localhost 라도)")
+    @Test
+    void tokenRequired() throws Exception {
+        AdminAccessFilter filter = new AdminAccessFilter("secret");
+
+        assertThat(status(filter, "/admin/export/ndjson", "10.0.0.7", "secret")).isEqualTo(200);
+        assertThat(status(filter, "/admin/export/ndjson", "10.0.0.7", "wrong")).isEqualTo(403);
+        assertThat(status(filter, "/admin/export/ndjson", "127.0.0.1", null)).isEqualTo(403);
+    }
+
+    @DisplayName("; 파라미터나 %xx 로 감싼 /admin 도 막는다 (MVC 는 풀어서 라우팅하니까)")
+    @Test
+    void decodedPathIsChecked() throws Exception {
+        AdminAccessFilter filter = new AdminAccessFilter("secret");
+
+        assertThat(status(filter, "/admin;x=1/search/rebuild", "10.0.0.7", null)).isEqualTo(403);
+        assertThat(status(filter, "/%61dmin/archive/run", "10.0.0.7", null)).isEqualTo(403);
+        assertThat(status(filter, "//admin/export/ndjson", "10.0.0.7", null)).isEqualTo(403);
+        assertThat(status(filter, "/%61dmin/archive/run", "10.0.0.7", "secret")).isEqualTo(200);
+    }
+
+    private static int status(AdminAccessFilter filter, String path, String remoteAddr, String token) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", path);
+        request.setRemoteAddr(remoteAddr);
+        if (token != null) {
+            request.addHeader(AdminAccessFilter.HEADER, token);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response.getStatus();
+    }
+}
@@ -0,0 +1,88 @@
+package com.bitstudy.app.frontpage;
+
+import com.bitstudy.app.config.jpaConfig;
+import com.bitstudy.app.domain.Article;
+import com.bitstudy.app.domain.ArticleComment;
+import com.bitstudy.app.dto.FrontPageCheck;
+import com.bitstudy.app.dto.FrontPageEntry;
+import com.bitstudy.app.event.EntityCommittedEvent;
+import com.bitstudy.app.repository.ArticleRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({jpaConfig.class, FrontPageService.class})
+@DisplayName("첫 화면 목록")
+class FrontPageServiceTest {
+
+    private final FrontPageService frontPageService;
+    private final ArticleRepository articleRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    FrontPageServiceTest(@Autowired FrontPageService frontPageService,
+                         @Autowired ArticleRepository articleRepository,
+                         @Autowired JdbcTemplate jdbcTemplate) {
+        this.frontPageService = frontPageService;
+        this.articleRepository = articleRepository;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @DisplayName("다시 만든 목록은 최신순 + 원본 테이블에서 센 댓글 수")
+    @Test
+    void rebuildMatchesBaseTables() {
+        frontPageService.rebuild();
+
+        List<FrontPageEntry> latest = frontPageService.latest(20);
+        assertThat(latest).hasSize(20).isSortedAccordingTo(FrontPage.LATEST_FIRST);
+        FrontPageEntry first = latest.get(0);
+        assertThat(first.commentCount()).isEqualTo(jdbcTemplate.queryForObject(
+                "select count(*) from article_comment where article_id = ?", Long.class, first.id()));
+        assertThat(frontPageService.check().consistent()).isTrue();
+    }
+
+    @DisplayName("이벤트 없이 DB 만 바뀌면 검사에서 걸리고, 다시 만들면 맞아진다")
+    @Test
+    void checkFindsDrift() {
+        frontPageService.rebuild();
+        Long articleId = frontPageService.latest(1).get(0).id();
+        jdbcTemplate.update("insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) " +
+                "values (900001, ?, 'drift', current_timestamp, 'tester', current_timestamp, 'tester')", articleId);
+
+        FrontPageCheck check = frontPageService.check();
+        assertThat(check.consistent()).isFalse();
+        assertThat(check.mismatches()).anyMatch(line -> line.contains("article " + articleId + " commentCount"));
+
+        frontPageService.rebuild();
+        assertThat(frontPageService.check().consistent()).isTrue();
+    }
+
+    @DisplayName("댓글이 다른 글로 옮겨지면 원래 글과 옮겨간 글의 댓글 수를 둘 다 다시 읽는다")
+    @Test
+    void movedCommentRefreshesBothArticles() {
+        frontPageService.rebuild();
+        List<FrontPageEntry> top = frontPageService.latest(2);
+        Long from = top.get(0).id();
+        Long to = top.get(1).id();
+        jdbcTemplate.update("insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) " +
+                "values (900002, ?, 'moving', current_timestamp, 'tester', current_timestamp, 'tester')", from);
+        frontPageService.rebuild();
+
+        jdbcTemplate.update("update article_comment set article_id = ? where id = 900002", to);
+        Article previous = articleRepository.getReferenceById(from);
+        ArticleComment moved = ArticleComment.of(articleRepository.getReferenceById(to), "moving");
+        frontPageService.onEntityCommitted(new EntityCommittedEvent(EntityCommittedEvent.Type.UPDATE, moved, 900002L,
+                Map.of("article", previous)));
+        frontPageService.refresh();
+
+        assertThat(frontPageService.check().consistent()).isTrue();
+    }
+}
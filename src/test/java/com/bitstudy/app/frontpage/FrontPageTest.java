@@ -0,0 +1,72 @@
+package com.bitstudy.app.frontpage;
+
+import com.bitstudy.app.dto.FrontPageEntry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/* 스프링 없이 첫 화면 목록만 테스트 */
+class FrontPageTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2022, 12, 1, 0, 0);
+
+    @DisplayName("새 글은 앞에 들어가고, 꽉 차면 제일 오래된 글이 빠진다")
+    @Test
+    void addKeepsLatestFirst() {
+        FrontPage page = new FrontPage(3, List.of(entry(3, 3), entry(2, 2), entry(1, 1)), false);
+
+        page.add(entry(4, 4));
+        page.add(entry(0, 0)); // 목록 밖
+        page.add(entry(4, 4)); // 이미 있음
+
+        assertThat(ids(page)).containsExactly(4L, 3L, 2L);
+    }
+
+    @DisplayName("댓글이 달리면 댓글 수/마지막 댓글 시각이 바뀌고, 마지막 댓글이 지워지면 다시 읽을 글로 남는다")
+    @Test
+    void commentsUpdateCounts() {
+        FrontPage page = new FrontPage(10, List.of(entry(1, 1)), true);
+
+        page.commentAdded(1L, T0.plusHours(5));
+        page.commentAdded(1L, T0.plusHours(6));
+        page.commentAdded(99L, T0.plusHours(6)); // 목록에 없는 글
+        assertThat(page.latest(1).get(0).commentCount()).isEqualTo(2);
+        assertThat(page.latest(1).get(0).lastCommentAt()).isEqualTo(T0.plusHours(6));
+
+        page.commentRemoved(1L, T0.plusHours(6));
+        assertThat(page.latest(1).get(0).commentCount()).isEqualTo(1);
+        assertThat(page.takeStale()).containsExactly(1L);
+
+        page.commentAdded(1L, T0.plusHours(7)); // 다시 읽는 도중에 바뀜 -> 한번 더 읽는다.
+        page.applyStats(1L, 1, T0.plusHours(5));
+        assertThat(page.latest(1).get(0).commentCount()).isEqualTo(1);
+        assertThat(page.takeStale()).containsExactly(1L);
+    }
+
+    @DisplayName("글이 빠지면 DB 를 다 들고 있는 게 아닐 때만 다시 만들어야 한다")
+    @Test
+    void removeNeedsRefillUnlessComplete() {
+        FrontPage partial = new FrontPage(2, List.of(entry(2, 2), entry(1, 1)), false);
+        partial.remove(2L);
+        assertThat(ids(partial)).containsExactly(1L);
+        assertThat(partial.needsRefill()).isTrue();
+
+        FrontPage complete = new FrontPage(5, List.of(entry(2, 2), entry(1, 1)), true);
+        complete.remove(2L);
+        complete.add(entry(0, 0)); // 전부 들고 있으니 오래된 글도 제자리에 넣을 수 있다.
+        assertThat(ids(complete)).containsExactly(1L, 0L);
+        assertThat(complete.needsRefill()).isFalse();
+    }
+
+    private static FrontPageEntry entry(long id, int hours) {
+        return new FrontPageEntry(id, "title " + id, null, T0.plusHours(hours), "tester", 0, null);
+    }
+
+    private static List<Long> ids(FrontPage page) {
+        return page.latest(100).stream().map(FrontPageEntry::id).toList();
+    }
+}
@@ -0,0 +1,58 @@
+package com.bitstudy.app.hashtag;
+
+import com.bitstudy.app.dto.TagCount;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/* 스프링 없이 해시태그 색인만 테스트 */
+class HashtagIndexTest {
+
+    private static final long NOW = 500_000;
+
+    @DisplayName("파싱 - 소문자, # 제거, 중복 제거")
+    @Test
+    void parseTest() {
+        assertThat(HashtagParser.parse("#Java #spring, JAVA")).containsExactly("java", "spring");
+        assertThat(HashtagParser.parse(null)).isEmpty();
+    }
+
+    @DisplayName("태그별 게시글 - 최신 id 부터, 수정하면 예전 태그에서 빠진다")
+    @Test
+    void articleIdsTest() {
+        HashtagIndex index = new HashtagIndex();
+        index.put(1L, NOW, Set.of("java"), NOW);
+        index.put(2L, NOW, Set.of("java", "spring"), NOW);
+        index.put(3L, NOW, Set.of("java"), NOW);
+
+        assertThat(index.articleIds("java", 0, 2)).containsExactly(3L, 2L);
+        assertThat(index.articleIds("java", 2, 2)).containsExactly(1L);
+
+        index.put(2L, NOW, Set.of("spring"), NOW);
+        index.remove(3L);
+
+        assertThat(index.count("java")).isEqualTo(1);
+        assertThat(index.top(10)).containsExactlyInAnyOrder(new TagCount("java", 1), new TagCount("spring", 1));
+    }
+
+    @DisplayName("인기 태그 - 기간 안에 작성된 글만 센다")
+    @Test
+    void trendingTest() {
+        HashtagIndex index = new HashtagIndex();
+        index.put(1L, NOW - 1, Set.of("java"), NOW);
+        index.put(2L, NOW - 2, Set.of("java", "spring"), NOW);
+        index.put(3L, NOW - 48, Set.of("spring"), NOW);
+        index.put(4L, NOW - 48, Set.of("spring"), NOW);
+
+        assertThat(index.trending(24, NOW, 10)).containsExactly(new TagCount("java", 2), new TagCount("spring", 1));
+        assertThat(index.trending(72, NOW, 1)).containsExactly(new TagCount("spring", 3));
+
+        long weekLater = NOW + HashtagIndex.MAX_WINDOW_HOURS;
+        index.prune(weekLater);
+        assertThat(index.trending(HashtagIndex.MAX_WINDOW_HOURS, weekLater, 10)).isEmpty();
+        assertThat(index.count("spring")).isEqualTo(3); // 전체 기간 개수는 그대로
+    }
+}
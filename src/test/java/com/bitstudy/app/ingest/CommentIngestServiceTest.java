@@ -0,0 +1,256 @@
+package com.bitstudy.app.ingest;
+
+import com.bitstudy.app.domain.Article;
+import com.bitstudy.app.domain.ArticleComment;
+import com.bitstudy.app.repository.ArticleRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/* 댓글 write-behind (CommentIngestService + POST /api/articleComments) 동작 테스트
+ *  flusher 가 따로 커밋하니까 테스트 트랜잭션은 안 쓴다.
+ *  max-latency 를 일부러 길게(2초) 잡아서 "묶음이 차면 바로, 안 차면 max-latency 뒤에" 가 시간으로 구분되게 한다.
+ * */
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureTestDatabase
+@DisplayName("댓글 write-behind")
+class CommentIngestServiceTest {
+
+    private static final long WAIT_SECONDS = 10;
+
+    @Nested
+    @DisplayName("FLUSH 모드")
+    @TestPropertySource(properties = {
+            "board.comment-ingest.enabled=true",
+            "board.comment-ingest.durability=flush",
+            "board.comment-ingest.batch-size=3",
+            "board.comment-ingest.max-latency=2s",
+            "board.comment-ingest.ack-timeout=10s"
+    })
+    class Flush {
+
+        private final MockMvc mvc;
+        private final CommentIngestService commentIngestService;
+
+        Flush(@Autowired MockMvc mvc, @Autowired CommentIngestService commentIngestService) {
+            this.mvc = mvc;
+            this.commentIngestService = commentIngestService;
+        }
+
+        @DisplayName("batch-size 만큼 모이면 max-latency 를 안 기다리고 한 번에 커밋한다")
+        @Test
+        void fullBatchIsFlushedImmediately() throws Exception {
+            List<CompletableFuture<ArticleComment>> committed = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                committed.add(commentIngestService.submit(1L, "batched " + i).committed());
+            }
+
+            CompletableFuture.allOf(committed.toArray(CompletableFuture[]::new)).get(1, TimeUnit.SECONDS);
+
+            assertThat(committed).allSatisfy(future -> assertThat(future.join().getId()).isNotNull());
+        }
+
+        @DisplayName("[api] 묶음이 안 차면 max-latency 뒤에 커밋되고, 커밋을 기다렸다가 201 + Location")
+        @Test
+        void partialBatchWaitsForMaxLatencyThen201() throws Exception {
+            long start = System.nanoTime();
+
+            mvc.perform(post("/api/articleComments")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"article\": \"/api/articles/1\", \"content\": \"flush mode\"}"))
+                    .andExpect(status().isCreated())
+                    .andExpect(header().exists(HttpHeaders.LOCATION))
+                    .andExpect(jsonPath("$.content").value("flush mode"));
+
+            assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isGreaterThanOrEqualTo(1_500);
+        }
+    }
+
+    @Nested
+    @DisplayName("WAL 모드")
+    @TestPropertySource(properties = {
+            "board.comment-ingest.enabled=true",
+            "board.comment-ingest.durability=wal",
+            "board.comment-ingest.capacity=2",
+            "board.comment-ingest.batch-size=10",
+            "board.comment-ingest.max-latency=2s",
+            "board.comment-ingest.wal-file=build/comment-ingest-test/comments.wal",
+            "board.comment-ingest.dead-letter-file=build/comment-ingest-test/comments.dead"
+    })
+    class Wal {
+
+        private static final Path DEAD_LETTER_FILE = Path.of("build", "comment-ingest-test", "comments.dead");
+
+        private final MockMvc mvc;
+        private final CommentIngestService commentIngestService;
+        private final ArticleRepository articleRepository;
+        private final JdbcTemplate jdbcTemplate;
+        private final ObjectMapper objectMapper;
+
+        Wal(@Autowired MockMvc mvc,
+            @Autowired CommentIngestService commentIngestService,
+            @Autowired ArticleRepository articleRepository,
+            @Autowired JdbcTemplate jdbcTemplate,
+            @Autowired ObjectMapper objectMapper) {
+            this.mvc = mvc;
+            this.commentIngestService = commentIngestService;
+            this.articleRepository = articleRepository;
+            this.jdbcTemplate = jdbcTemplate;
+            this.objectMapper = objectMapper;
+        }
+
+        @DisplayName("[api] WAL 에 적자마자 202 + seq, 커밋은 나중에")
+        @Test
+        void acceptedBeforeCommit() throws Exception {
+            mvc.perform(post("/api/articleComments")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"article\": \"/api/articles/1\", \"content\": \"wal mode\"}"))
+                    .andExpect(status().isAccepted())
+                    .andExpect(jsonPath("$.seq").isNumber());
+
+            assertThat(countComments("wal mode")).isZero(); // max-latency(2초) 전이라 아직 안 들어갔다.
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(WAIT_SECONDS);
+            while (countComments("wal mode") == 0 && System.nanoTime() < deadline) {
+                Thread.sleep(50);
+            }
+            assertThat(countComments("wal mode")).isEqualTo(1);
+        }
+
+        @DisplayName("[api] 큐(capacity)가 가득 차면 503 + Retry-After")
+        @Test
+        void queueFullIs503() throws Exception {
+            List<CompletableFuture<ArticleComment>> held = new ArrayList<>();
+            try {
+                while (held.size() <= 2) { // capacity 가 2 라서 세 번째 전에 막힌다.
+                    held.add(commentIngestService.submit(2L, "fill " + held.size()).committed());
+                }
+            } catch (CommentIngestService.QueueFullException e) {
+                // 가득 참
+            }
+
+            mvc.perform(post("/api/articleComments")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"article\": \"/api/articles/2\", \"content\": \"rejected\"}"))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"));
+
+            CompletableFuture.allOf(held.toArray(CompletableFuture[]::new)).get(WAIT_SECONDS, TimeUnit.SECONDS);
+            assertThat(countComments("rejected")).isZero();
+        }
+
+        @DisplayName("202 로 받았는데 못 넣은 댓글은 dead-letter 파일에 남는다")
+        @Test
+        void failedCommentGoesToDeadLetterFile() throws Exception {
+            Article article = articleRepository.save(Article.of("dead letter", "content", null));
+            CommentIngestService.Ticket ticket = commentIngestService.submit(article.getId(), "lost comment");
+            jdbcTemplate.update("delete from article where id = ?", article.getId()); // flush 전에 게시글이 사라짐
+
+            assertThatThrownBy(() -> ticket.committed().get(WAIT_SECONDS, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class);
+
+            List<CommentIngestService.DeadLetter> letters = new ArrayList<>();
+            for (String line : Files.readAllLines(DEAD_LETTER_FILE)) {
+                letters.add(objectMapper.readValue(line, CommentIngestService.DeadLetter.class));
+            }
+            assertThat(letters).anySatisfy(letter -> {
+                assertThat(letter.seq()).isEqualTo(ticket.seq());
+                assertThat(letter.articleId()).isEqualTo(article.getId());
+                assertThat(letter.content()).isEqualTo("lost comment");
+            });
+        }
+
+        private long countComments(String content) {
+            return jdbcTemplate.queryForObject("select count(*) from article_comment where content = ?", Long.class, content);
+        }
+    }
+
+    @Nested
+    @DisplayName("WAL 모드 - 동시 접수")
+    @TestPropertySource(properties = {
+            "board.comment-ingest.enabled=true",
+            "board.comment-ingest.durability=wal",
+            "board.comment-ingest.capacity=100",
+            "board.comment-ingest.batch-size=4",
+            "board.comment-ingest.max-latency=5ms",
+            "board.comment-ingest.wal-file=build/comment-ingest-test/concurrent.wal",
+            "board.comment-ingest.dead-letter-file=build/comment-ingest-test/concurrent.dead"
+    })
+    class WalConcurrent {
+
+        private static final int PER_SUBMITTER = 50;
+
+        private final CommentIngestService commentIngestService;
+        private final JdbcTemplate jdbcTemplate;
+
+        WalConcurrent(@Autowired CommentIngestService commentIngestService, @Autowired JdbcTemplate jdbcTemplate) {
+            this.commentIngestService = commentIngestService;
+            this.jdbcTemplate = jdbcTemplate;
+        }
+
+        /* 큐 순서가 WAL 번호 순서와 다르면 체크포인트가 아직 안 들어간 번호를 넘어갈 수 있다.
+         *  flusher 는 큐 순서대로 id 를 받으니까, 번호 순으로 늘어놓은 댓글 id 가 계속 커져야 한다. */
+        @DisplayName("두 스레드가 동시에 넣어도 큐 순서 = 번호 순서, 체크포인트는 마지막 번호")
+        @Test
+        void concurrentSubmittersKeepSeqOrder() throws Exception {
+            List<CommentIngestService.Ticket> tickets = Collections.synchronizedList(new ArrayList<>());
+            CountDownLatch start = new CountDownLatch(1);
+            List<CompletableFuture<Void>> submitters = new ArrayList<>();
+            for (long articleId = 1; articleId <= 2; articleId++) {
+                long article = articleId;
+                submitters.add(CompletableFuture.runAsync(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    for (int i = 0; i < PER_SUBMITTER; i++) {
+                        tickets.add(commentIngestService.submit(article, "concurrent " + article + "-" + i));
+                    }
+                }));
+            }
+            start.countDown();
+            CompletableFuture.allOf(submitters.toArray(CompletableFuture[]::new)).get(WAIT_SECONDS, TimeUnit.SECONDS);
+
+            List<CommentIngestService.Ticket> bySeq = new ArrayList<>(tickets);
+            bySeq.sort(Comparator.comparingLong(CommentIngestService.Ticket::seq));
+            List<Long> ids = new ArrayList<>();
+            for (CommentIngestService.Ticket ticket : bySeq) {
+                ids.add(ticket.committed().get(WAIT_SECONDS, TimeUnit.SECONDS).getId());
+            }
+
+            assertThat(ids).hasSize(PER_SUBMITTER * 2).isSorted().doesNotHaveDuplicates();
+            assertThat(jdbcTemplate.queryForObject("select next_val from id_generator where sequence_name = 'comment_wal'", Long.class))
+                    .isEqualTo(bySeq.get(bySeq.size() - 1).seq());
+        }
+    }
+}
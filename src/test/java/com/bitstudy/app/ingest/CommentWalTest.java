@@ -0,0 +1,126 @@
+package com.bitstudy.app.ingest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("댓글 WAL")
+class CommentWalTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @DisplayName("다시 열면 체크포인트 뒤의 댓글만 돌려준다")
+    @Test
+    void recoverAfterCheckpoint(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("comments.wal");
+        try (CommentWal wal = new CommentWal(file, objectMapper)) {
+            wal.recover(0);
+            wal.append(1L, "첫번째");
+            wal.append(1L, "두번째");
+            wal.append(2L, "세번째");
+        }
+
+        try (CommentWal wal = new CommentWal(file, objectMapper)) {
+            List<CommentWal.Entry> entries = wal.recover(1);
+
+            assertThat(entries).extracting(CommentWal.Entry::content).containsExactly("두번째", "세번째");
+            assertThat(wal.append(3L, "네번째").seq()).isEqualTo(4);
+        }
+    }
+
+    @DisplayName("쓰다 만 마지막 줄은 잘라내고 그 자리부터 다시 쓴다")
+    @Test
+    void ignoreTornTail(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("comments.wal");
+        try (CommentWal wal = new CommentWal(file, objectMapper)) {
+            wal.recover(0);
+            wal.append(1L, "온전한 줄");
+        }
+        Files.writeString(file, "{\"seq\":2,\"articleId\":1,\"cont", StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        try (CommentWal wal = new CommentWal(file, objectMapper)) {
+            assertThat(wal.recover(0)).extracting(CommentWal.Entry::seq).containsExactly(1L);
+            wal.append(1L, "다음 줄");
+        }
+        try (CommentWal wal = new CommentWal(file, objectMapper)) {
+            assertThat(wal.recover(0)).extracting(CommentWal.Entry::content).containsExactly("온전한 줄", "다음 줄");
+        }
+    }
+
+    @DisplayName("체크포인트가 마지막 번호를 따라잡아야 비운다")
+    @Test
+    void truncateOnlyWhenCaughtUp(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("comments.wal");
+        try (CommentWal wal = new CommentWal(file, objectMapper)) {
+            wal.recover(0);
+            wal.append(1L, "a");
+            wal.append(1L, "b");
+
+            assertThat(wal.truncate(1)).isFalse();
+            assertThat(wal.truncate(2)).isTrue();
+            assertThat(Files.size(file)).isZero();
+            assertThat(wal.append(1L, "c").seq()).isEqualTo(3);
+        }
+    }
+
+    @DisplayName("번호를 받은 줄이 큐에 들어가기 전에는 다음 번호가 안 나간다")
+    @Test
+    void nextSeqWaitsForEnqueue(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("comments.wal");
+        try (CommentWal wal = new CommentWal(file, objectMapper)) {
+            wal.recover(0);
+            List<Long> queue = Collections.synchronizedList(new ArrayList<>());
+            CountDownLatch inCallback = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+
+            CompletableFuture<CommentWal.Entry> first = CompletableFuture.supplyAsync(() -> append(wal, entry -> {
+                inCallback.countDown();
+                await(release);
+                queue.add(entry.seq());
+            }));
+            assertThat(inCallback.await(5, TimeUnit.SECONDS)).isTrue();
+            CompletableFuture<CommentWal.Entry> second = CompletableFuture.supplyAsync(() -> append(wal, entry -> queue.add(entry.seq())));
+
+            Thread.sleep(200);
+            assertThat(second).isNotDone(); // 1번이 큐에 들어갈 때까지 2번은 번호도 못 받는다.
+            release.countDown();
+
+            assertThat(first.get(5, TimeUnit.SECONDS).seq()).isEqualTo(1);
+            assertThat(second.get(5, TimeUnit.SECONDS).seq()).isEqualTo(2);
+            assertThat(queue).containsExactly(1L, 2L);
+        }
+    }
+
+    private static CommentWal.Entry append(CommentWal wal, Consumer<CommentWal.Entry> appended) {
+        try {
+            return wal.append(1L, "comment", appended);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
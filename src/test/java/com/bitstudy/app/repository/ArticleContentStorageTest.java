@@ -0,0 +1,140 @@
+package com.bitstudy.app.repository;
+
+import com.bitstudy.app.config.jpaConfig;
+import com.bitstudy.app.domain.Article;
+import com.bitstudy.app.dto.ResourceVersion;
+import com.bitstudy.app.event.HibernateCommitEventBridge;
+import com.bitstudy.app.search.SearchService;
+import com.bitstudy.app.startup.StartupWarmUp;
+import org.hibernate.Hibernate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/* 본문 압축 저장 (board.article-content.compressed=true) 테스트
+ *  본문만 바뀐 수정이 ETag/검색 색인까지 가는지 보려고 커밋 이벤트 다리와 검색 색인도 같이 띄운다.
+ * */
+@DataJpaTest(properties = "board.article-content.compressed=true")
+@Import({jpaConfig.class, ResourceVersionRepository.class, HibernateCommitEventBridge.class, SearchService.class, StartupWarmUp.class})
+class ArticleContentStorageTest {
+
+    private static final String CONTENT = "압축 저장 테스트 본문입니다. Lorem ipsum dolor sit amet, consectetur adipiscing elit. ".repeat(100);
+
+    private final ArticleRepository articleRepository;
+    private final EntityManager entityManager;
+    private final JdbcTemplate jdbcTemplate;
+    private final ResourceVersionRepository resourceVersionRepository;
+    private final SearchService searchService;
+    private final TransactionTemplate transactionTemplate;
+
+    ArticleContentStorageTest(@Autowired ArticleRepository articleRepository,
+                              @Autowired EntityManager entityManager,
+                              @Autowired JdbcTemplate jdbcTemplate,
+                              @Autowired ResourceVersionRepository resourceVersionRepository,
+                              @Autowired SearchService searchService,
+                              @Autowired PlatformTransactionManager transactionManager) {
+        this.articleRepository = articleRepository;
+        this.entityManager = entityManager;
+        this.jdbcTemplate = jdbcTemplate;
+        this.resourceVersionRepository = resourceVersionRepository;
+        this.searchService = searchService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @DisplayName("본문은 압축돼서 article_content 에 저장되고, 처음 getContent() 할 때 읽힌다")
+    @Test
+    void compressedContentIsLoadedLazily() {
+        Long id = articleRepository.saveAndFlush(Article.of("title", CONTENT, "#java")).getId();
+        entityManager.clear();
+
+        Map<String, Object> row = jdbcTemplate.queryForMap(
+                "select a.content, octet_length(b.compressed) as stored from article a " +
+                        "join article_content b on b.id = a.content_body_id where a.id = ?", id);
+        assertThat(row.get("content")).isNull();
+        assertThat(((Number) row.get("stored")).intValue()).isLessThan(CONTENT.length() / 4);
+
+        Article article = articleRepository.findById(id).orElseThrow();
+        assertThat(Hibernate.isInitialized(article.getContentBody())).isFalse();
+        assertThat(article.getContent()).isEqualTo(CONTENT);
+        assertThat(Hibernate.isInitialized(article.getContentBody())).isTrue();
+    }
+
+    @DisplayName("목록 조회는 본문을 join 으로 같이 읽는다 (Article.withContentBody)")
+    @Test
+    void listQueriesFetchContentBody() {
+        articleRepository.saveAndFlush(Article.of("title", CONTENT, "#java"));
+        entityManager.clear();
+
+        Page<Article> page = articleRepository.findAll(PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "id")));
+        List<Article> latest = articleRepository.findLatest(PageRequest.of(0, 20));
+
+        assertThat(page.getContent().get(0).getContentBody()).isNotNull();
+        assertThat(page.getContent()).allSatisfy(article ->
+                assertThat(Hibernate.isInitialized(article.getContentBody())).isTrue());
+        assertThat(latest).allSatisfy(article ->
+                assertThat(Hibernate.isInitialized(article.getContentBody())).isTrue());
+    }
+
+    @DisplayName("압축 안 된 기존 글은 그대로 읽히고, 수정하면 압축 저장으로 옮겨진다")
+    @Test
+    void inlineArticleIsMigratedOnSave() {
+        Article article = articleRepository.findById(1L).orElseThrow();
+        String before = article.getContent();
+        assertThat(article.getContentBody()).isNull();
+
+        article.setTitle("new title");
+        articleRepository.saveAndFlush(article);
+        entityManager.clear();
+
+        Article saved = articleRepository.findById(1L).orElseThrow();
+        assertThat(saved.getContentBody()).isNotNull();
+        assertThat(saved.getContent()).isEqualTo(before);
+
+        saved.setContent("바뀐 본문");
+        articleRepository.saveAndFlush(saved);
+        entityManager.clear();
+
+        assertThat(articleRepository.findById(1L).orElseThrow().getContent()).isEqualTo("바뀐 본문");
+        assertThat(jdbcTemplate.queryForObject("select count(*) from article_content", Long.class)).isEqualTo(1L);
+    }
+
+    @DisplayName("본문만 바꿔도 게시글이 수정된 걸로 잡힌다 - ETag 가 바뀌고 검색에 새 본문이 걸린다")
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // 커밋 이벤트를 보려면 진짜로 커밋해야 한다.
+    void bodyOnlyEditBumpsVersionAndSearch() {
+        Long id = articleRepository.save(Article.of("body only", CONTENT, null)).getId();
+        try {
+            ResourceVersion before = resourceVersionRepository.article(id).orElseThrow();
+
+            transactionTemplate.executeWithoutResult(status -> {
+                Article article = articleRepository.findById(id).orElseThrow();
+                article.setContent("zebracorn 새 본문");
+                articleRepository.save(article);
+            });
+
+            ResourceVersion after = resourceVersionRepository.article(id).orElseThrow();
+            assertThat(after).isNotEqualTo(before);
+            assertThat(after.lastModified()).isAfter(before.lastModified());
+            assertThat(searchService.search("zebracorn", 0, 10).hits())
+                    .anySatisfy(hit -> assertThat(hit.id()).isEqualTo(id));
+        } finally {
+            articleRepository.deleteById(id);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.bitstudy.app.repository;
+
+import com.bitstudy.app.config.jpaConfig;
+import com.bitstudy.app.domain.Article;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import javax.persistence.EntityManager;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/* JDBC batch insert 테스트
+ *  IDENTITY 전략일 때는 N 건 저장하면 insert 문이 N 번 나갔다.
+ *  지금은 id 를 미리 받아오니까(pooled-lo) insert 가 batch_size 만큼씩 묶여서 나가야 한다.
+ *  Hibernate Statistics 로 실제 준비(prepare)된 statement 개수를 센다.
+ * */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(jpaConfig.class)
+class BatchInsertTest {
+
+    private static final int N = 200;
+    private static final int BATCH_SIZE = 50;       // application.yaml 의 hibernate.jdbc.batch_size
+    private static final int ALLOCATION_SIZE = 50;  // Article 의 @GenericGenerator(ShardAwareIdGenerator) increment_size
+
+    private final ArticleRepository articleRepository;
+    private final Statistics statistics;
+
+    BatchInsertTest(@Autowired ArticleRepository articleRepository, @Autowired EntityManager entityManager) {
+        this.articleRepository = articleRepository;
+        this.statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @DisplayName("N 건 저장하면 statement 는 N / batchSize 정도만 나가야 한다")
+    @Test
+    void batchInsertTest() {
+        List<Article> articles = IntStream.range(0, N)
+                .mapToObj(i -> Article.of("제목 " + i, "본문 " + i, null))
+                .collect(Collectors.toList());
+        articleRepository.flush();
+        statistics.clear();
+
+        articleRepository.saveAll(articles);
+        articleRepository.flush();
+
+        // id 받아오기: 50개마다 id_generator 에 select + update 한번씩
+        long idAllocations = N / ALLOCATION_SIZE + 1;
+        long maxStatements = N / BATCH_SIZE + idAllocations * 2;
+
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(N);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(maxStatements);
+    }
+}
@@ -2,6 +2,11 @@ package com.bitstudy.app.repository;
 
 import com.bitstudy.app.config.jpaConfig;
 import com.bitstudy.app.domain.Article;
+import com.bitstudy.app.domain.ArticleComment;
+import com.bitstudy.app.domain.Hashtag;
+import com.bitstudy.app.dto.ArticleSummary;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -10,6 +15,7 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
 
 import java.util.List;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -178,4 +184,82 @@ class JpaRepositoryTest {
 
     }
 
-}
\ No newline at end of file
+    /* 커서 페이징 테스트
+     *  offset 페이징으로 가져온 두번째 페이지랑, 첫번째 페이지 마지막 글을 커서로 해서 가져온 페이지가 같아야 한다. */
+    @DisplayName("커서 페이징 테스트")
+    @Test
+    void keysetPagingTest() {
+        Sort latestFirst = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
+        List<Article> firstPage = articleRepository.findAll(PageRequest.of(0, 10, latestFirst)).getContent();
+        List<Article> secondPage = articleRepository.findAll(PageRequest.of(1, 10, latestFirst)).getContent();
+
+        assertThat(articleRepository.findLatest(PageRequest.of(0, 10))).isEqualTo(firstPage);
+
+        Article last = firstPage.get(firstPage.size() - 1);
+        List<Article> older = articleRepository.findOlderThan(last.getCreatedAt(), last.getId(), PageRequest.of(0, 10));
+        assertThat(older.stream().map(Article::getId).collect(Collectors.toList()))
+                .isEqualTo(secondPage.stream().map(Article::getId).collect(Collectors.toList()));
+
+        Article first = secondPage.get(0);
+        List<Article> newer = articleRepository.findNewerThan(first.getCreatedAt(), first.getId(), PageRequest.of(0, 10));
+        assertThat(newer).hasSize(10).contains(last);
+    }
+
+    /* 요약 조회 테스트 - 댓글 수가 실제 댓글 컬렉션 크기랑 같아야 한다. */
+    @DisplayName("게시글 요약 조회 테스트")
+    @Test
+    void summaryTest() {
+        List<ArticleSummary> summaries = articleRepository.findSummaries(PageRequest.of(0, 100)).getContent();
+
+        assertThat(summaries).hasSize(100);
+        ArticleSummary summary = summaries.stream().filter(s -> s.id().equals(1L)).findFirst().orElseThrow();
+        Article article = articleRepository.findById(1L).orElseThrow();
+        assertThat(summary.title()).isEqualTo(article.getTitle());
+        assertThat(summary.commentCount()).isEqualTo(article.getArticleComments().size());
+    }
+
+    /* 댓글 수 컬럼 테스트 - 댓글 저장/삭제할 때 DB 에 있는 commentCount 가 같이 +1/-1 되어야 한다. */
+    @DisplayName("댓글 수 유지 테스트")
+    @Test
+    void commentCountTest() {
+        long prevCount = commentCountOf(1L);
+        Article article = articleRepository.findById(1L).orElseThrow();
+
+        ArticleComment saved = articleCommentRepository.save(ArticleComment.of(article, "댓글"));
+        assertThat(commentCountOf(1L)).isEqualTo(prevCount + 1);
+
+        articleCommentRepository.delete(saved);
+        assertThat(commentCountOf(1L)).isEqualTo(prevCount);
+    }
+
+    /* 같은 트랜잭션에서 새 게시글 + 댓글 - 게시글 insert 가 flush 까지 미뤄져 있어도 댓글 수 update 가 0줄이면 안 된다. */
+    @DisplayName("새 게시글에 바로 단 댓글 수 테스트")
+    @Test
+    void commentCountOfNewArticleTest() {
+        Article article = articleRepository.save(Article.of("새 글", "본문", null));
+        articleCommentRepository.save(ArticleComment.of(article, "첫 댓글"));
+        articleCommentRepository.saveAll(List.of(ArticleComment.of(article, "둘째 댓글"), ArticleComment.of(article, "셋째 댓글")));
+
+        assertThat(commentCountOf(article.getId())).isEqualTo(3);
+    }
+
+    /* 해시태그 정규화 테스트 - hashtag 문자열이 사전(Hashtag) 연결로 같이 저장되고, 바꾸면 연결도 바뀐다. */
+    @DisplayName("해시태그 정규화 테스트")
+    @Test
+    void hashtagTest() {
+        Article saved = articleRepository.saveAndFlush(Article.of("제목", "본문", "#Java #spring, java"));
+        assertThat(saved.getHashtags()).extracting(Hashtag::getName).containsExactly("java", "spring");
+
+        saved.setHashtag("#spring #jpa");
+        Article updated = articleRepository.saveAndFlush(saved);
+        assertThat(updated.getHashtags()).extracting(Hashtag::getName).containsExactlyInAnyOrder("spring", "jpa");
+    }
+
+    private long commentCountOf(Long articleId) {
+        return articleRepository.findSummaries(PageRequest.of(0, 1000)).getContent().stream()
+                .filter(summary -> summary.id().equals(articleId))
+                .findFirst().orElseThrow()
+                .commentCount();
+    }
+
+}
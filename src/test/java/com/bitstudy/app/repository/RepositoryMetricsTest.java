@@ -0,0 +1,60 @@
+package com.bitstudy.app.repository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/* 레포지토리 메서드 타이머, Hibernate 통계 메트릭, 느린 호출 로그가 붙어있는지
+ *  threshold 를 0 으로 둬서 모든 호출이 "느린 호출" 로 찍히게 한다.
+ * */
+@SpringBootTest(properties = "board.slow-query.repository-threshold-millis=0")
+@AutoConfigureTestDatabase
+@ExtendWith(OutputCaptureExtension.class)
+@DisplayName("레포지토리 메트릭")
+class RepositoryMetricsTest {
+
+    private final ArticleRepository articleRepository;
+    private final MeterRegistry meterRegistry;
+
+    RepositoryMetricsTest(@Autowired ArticleRepository articleRepository, @Autowired MeterRegistry meterRegistry) {
+        this.articleRepository = articleRepository;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @DisplayName("레포지토리 메서드마다 타이머가 쌓인다")
+    @Test
+    void repositoryInvocationTimer() {
+        articleRepository.findById(1L);
+
+        assertThat(meterRegistry.get("spring.data.repository.invocations")
+                .tag("repository", "ArticleRepository")
+                .tag("method", "findById")
+                .timer().count()).isPositive();
+    }
+
+    @DisplayName("Hibernate 통계가 메트릭으로 나간다")
+    @Test
+    void hibernateStatistics() {
+        articleRepository.count();
+
+        assertThat(meterRegistry.find("hibernate.statements").meters()).isNotEmpty();
+        assertThat(meterRegistry.find("hibernate.entities.loads").meters()).isNotEmpty();
+        assertThat(meterRegistry.find("hibernate.flushes").meters()).isNotEmpty();
+    }
+
+    @DisplayName("threshold 를 넘은 호출은 로그로 남는다")
+    @Test
+    void slowInvocationLog(CapturedOutput output) {
+        articleRepository.findById(1L);
+
+        assertThat(output).contains("slow repository call: ArticleRepository.findById");
+    }
+}
@@ -0,0 +1,70 @@
+package com.bitstudy.app.repository;
+
+import com.bitstudy.app.config.jpaConfig;
+import com.bitstudy.app.domain.Article;
+import com.bitstudy.app.domain.ArticleComment;
+import com.bitstudy.app.dto.ResourceVersion;
+import com.bitstudy.app.event.EntityCommittedEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({jpaConfig.class, ResourceVersionRepository.class, CollectionVersions.class})
+@DisplayName("조건부 GET 버전")
+class ResourceVersionTest {
+
+    private final ResourceVersionRepository resourceVersionRepository;
+    private final CollectionVersions collectionVersions;
+    private final JdbcTemplate jdbcTemplate;
+
+    ResourceVersionTest(@Autowired ResourceVersionRepository resourceVersionRepository,
+                        @Autowired CollectionVersions collectionVersions,
+                        @Autowired JdbcTemplate jdbcTemplate) {
+        this.resourceVersionRepository = resourceVersionRepository;
+        this.collectionVersions = collectionVersions;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @DisplayName("게시글의 댓글 목록 - 하나 지우고 예전 날짜로 하나 넣어도 버전이 바뀐다")
+    @Test
+    void commentsOfArticleCatchDeleteAndOlderInsert() {
+        ResourceVersion before = resourceVersionRepository.commentsOfArticle(1L).orElseThrow();
+        Long deleted = jdbcTemplate.queryForObject("select min(id) from article_comment where article_id = 1", Long.class);
+        LocalDateTime old = LocalDateTime.of(2000, 1, 1, 0, 0);
+
+        jdbcTemplate.update("delete from article_comment where id = ?", deleted);
+        jdbcTemplate.update("insert into article_comment (id, article_id, content, created_at, created_by, modified_at, modified_by) " +
+                "values (?, 1, 'old', ?, 'test', ?, 'test')", 999_999L, old, old);
+
+        ResourceVersion after = resourceVersionRepository.commentsOfArticle(1L).orElseThrow();
+        assertThat(after.fingerprint()).isNotEqualTo(before.fingerprint());
+        assertThat(after.lastModified()).isEqualTo(before.lastModified());
+    }
+
+    @DisplayName("전체 목록 - 커밋 이벤트마다 번호가 바뀌고, 게시글 변경은 댓글 목록 버전을 안 바꾼다")
+    @Test
+    void collectionVersionsFollowCommitEvents() {
+        ResourceVersion articles = collectionVersions.articles();
+        ResourceVersion comments = collectionVersions.articleComments();
+        assertThat(collectionVersions.articles()).isEqualTo(articles); // 변경 없으면 그대로
+
+        Article article = Article.of("title", "content", "#tag");
+        collectionVersions.onEntityCommitted(new EntityCommittedEvent(EntityCommittedEvent.Type.UPDATE, article, 1L));
+        assertThat(collectionVersions.articles().fingerprint()).isNotEqualTo(articles.fingerprint());
+        assertThat(collectionVersions.articleComments()).isEqualTo(comments);
+
+        ResourceVersion beforeComment = collectionVersions.articles();
+        ArticleComment comment = ArticleComment.of(article, "comment");
+        collectionVersions.onEntityCommitted(new EntityCommittedEvent(EntityCommittedEvent.Type.DELETE, comment, 1L));
+        assertThat(collectionVersions.articles().fingerprint()).isNotEqualTo(beforeComment.fingerprint()); // commentCount
+        assertThat(collectionVersions.articleComments().fingerprint()).isNotEqualTo(comments.fingerprint());
+    }
+}
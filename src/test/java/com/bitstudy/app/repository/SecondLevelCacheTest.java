@@ -0,0 +1,74 @@
+package com.bitstudy.app.repository;
+
+import com.bitstudy.app.config.CacheConfig;
+import com.bitstudy.app.config.jpaConfig;
+import com.bitstudy.app.domain.Article;
+import com.bitstudy.app.domain.ArticleComment;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManagerFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/* 2차 캐시 테스트
+ *  2차 캐시는 트랜잭션(세션)이 끝나야 다른 세션에서 읽을 수 있어서 테스트 트랜잭션을 끄고, 레포지토리 호출마다 따로 트랜잭션을 쓴다.
+ *  (저장한 데이터는 테스트 끝에 직접 지운다)
+ * */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({jpaConfig.class, CacheConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SecondLevelCacheTest {
+
+    private final ArticleRepository articleRepository;
+    private final ArticleCommentRepository articleCommentRepository;
+    private final Statistics statistics;
+
+    SecondLevelCacheTest(@Autowired ArticleRepository articleRepository,
+                         @Autowired ArticleCommentRepository articleCommentRepository,
+                         @Autowired EntityManagerFactory entityManagerFactory) {
+        this.articleRepository = articleRepository;
+        this.articleCommentRepository = articleCommentRepository;
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @DisplayName("id 로 다시 조회하면 DB 에 안 가고 캐시에서 꺼낸다")
+    @Test
+    void findByIdHitsCache() {
+        articleRepository.findById(3L).orElseThrow();
+        statistics.clear();
+
+        articleRepository.findById(3L).orElseThrow();
+
+        assertThat(statistics.getSecondLevelCacheHitCount()).isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @DisplayName("댓글이 달리면 그 게시글만 캐시에서 빠진다")
+    @Test
+    void commentSaveEvictsOnlyItsArticle() {
+        Article article = articleRepository.findById(1L).orElseThrow();
+        articleRepository.findById(2L).orElseThrow();
+        long prevCommentCount = article.getCommentCount();
+
+        ArticleComment saved = articleCommentRepository.save(ArticleComment.of(article, "캐시 테스트 댓글"));
+        try {
+            statistics.clear();
+            Article reloaded = articleRepository.findById(1L).orElseThrow();
+            articleRepository.findById(2L).orElseThrow();
+
+            assertThat(reloaded.getCommentCount()).isEqualTo(prevCommentCount + 1);
+            assertThat(statistics.getSecondLevelCacheMissCount()).isEqualTo(1);
+            assertThat(statistics.getSecondLevelCacheHitCount()).isEqualTo(1);
+        } finally {
+            articleCommentRepository.delete(saved);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.bitstudy.app.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/* 스프링 없이 색인만 테스트 */
+class InvertedIndexTest {
+
+    @DisplayName("토큰 - 영문은 소문자 단어, 한글은 두 글자씩")
+    @Test
+    void tokenizeTest() {
+        assertThat(Tokenizer.tokenize("Spring Boot 스프링을 2.7 a"))
+                .containsExactly("spring", "boot", "스프", "프링", "링을", "2", "7");
+    }
+
+    @DisplayName("검색 - 제목에 있는 단어가 본문에만 있는 것보다 위로 나온다")
+    @Test
+    void rankingTest() {
+        InvertedIndex index = new InvertedIndex();
+        index.put(article(1L, "자바 공부"), "자바 공부", "오늘은 스프링을 공부했다");
+        index.put(article(2L, "스프링 부트 시작하기"), "스프링 부트 시작하기", "설정 파일 정리");
+        index.put(article(3L, "점심 메뉴"), "점심 메뉴", "김치찌개");
+
+        InvertedIndex.Page page = index.search("스프링", 0, 10);
+
+        assertThat(page.total()).isEqualTo(2);
+        assertThat(page.hits()).extracting(hit -> hit.document().id()).containsExactly(2L, 1L);
+    }
+
+    @DisplayName("수정/삭제 - 바뀐 내용으로만 찾아진다")
+    @Test
+    void updateAndRemoveTest() {
+        InvertedIndex index = new InvertedIndex();
+        SearchDocument document = article(1L, "title");
+        index.put(document, "title", "old content");
+        index.put(document, "title", "new content");
+
+        assertThat(index.search("old", 0, 10).total()).isZero();
+        assertThat(index.search("new", 0, 10).total()).isEqualTo(1);
+
+        index.remove(document.key());
+
+        assertThat(index.search("new", 0, 10).total()).isZero();
+        assertThat(index.size()).isZero();
+    }
+
+    @DisplayName("페이징 - offset 만큼 건너뛰고 limit 만큼 준다")
+    @Test
+    void pagingTest() {
+        InvertedIndex index = new InvertedIndex();
+        for (long id = 1; id <= 25; id++) {
+            index.put(article(id, "title " + id), "title " + id, "common");
+        }
+
+        InvertedIndex.Page page = index.search("common", 20, 10);
+
+        assertThat(page.total()).isEqualTo(25);
+        assertThat(page.hits()).hasSize(5);
+    }
+
+    private static SearchDocument article(Long id, String title) {
+        return new SearchDocument(SearchDocument.Type.ARTICLE, id, id, title);
+    }
+}
@@ -0,0 +1,89 @@
+package com.bitstudy.app.service;
+
+import com.bitstudy.app.config.ArchiveConfig;
+import com.bitstudy.app.config.jpaConfig;
+import com.bitstudy.app.domain.ArchivedArticle;
+import com.bitstudy.app.domain.Article;
+import com.bitstudy.app.dto.ArchiveReport;
+import com.bitstudy.app.event.ArticlesArchivedEvent;
+import com.bitstudy.app.repository.ArchivedArticleCommentRepository;
+import com.bitstudy.app.repository.ArchivedArticleRepository;
+import com.bitstudy.app.repository.ArticleCommentRepository;
+import com.bitstudy.app.repository.ArticleRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/* data.sql 의 글은 전부 2022년 글이라 max-age(365일) 가 지났다. -> 새로 쓴 글만 남아야 한다.
+ *  작업이 묶음마다 직접 커밋하니까 테스트 트랜잭션은 끈다.
+ * */
+@DataJpaTest
+@Import({jpaConfig.class, ArchiveConfig.class, ArticleArchiveJob.class})
+@TestPropertySource(properties = "board.archive.batch-size=30")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@RecordApplicationEvents
+class ArticleArchiveJobTest {
+
+    private final ArticleArchiveJob articleArchiveJob;
+    private final ArticleRepository articleRepository;
+    private final ArticleCommentRepository articleCommentRepository;
+    private final ArchivedArticleRepository archivedArticleRepository;
+    private final ArchivedArticleCommentRepository archivedArticleCommentRepository;
+
+    ArticleArchiveJobTest(@Autowired ArticleArchiveJob articleArchiveJob,
+                          @Autowired ArticleRepository articleRepository,
+                          @Autowired ArticleCommentRepository articleCommentRepository,
+                          @Autowired ArchivedArticleRepository archivedArticleRepository,
+                          @Autowired ArchivedArticleCommentRepository archivedArticleCommentRepository) {
+        this.articleArchiveJob = articleArchiveJob;
+        this.articleRepository = articleRepository;
+        this.articleCommentRepository = articleCommentRepository;
+        this.archivedArticleRepository = archivedArticleRepository;
+        this.archivedArticleCommentRepository = archivedArticleCommentRepository;
+    }
+
+    @DisplayName("오래된 글과 댓글은 보관 테이블로 옮겨지고, 최근 글은 남는다")
+    @Test
+    void archiveTest(@Autowired ApplicationEvents events) {
+        long oldArticles = articleRepository.count();
+        long oldComments = articleCommentRepository.count();
+        Article first = articleRepository.findById(1L).orElseThrow();
+        long firstComments = articleCommentRepository.findByArticle_Id(1L, PageRequest.of(0, 1)).getTotalElements();
+        Article recent = articleRepository.save(Article.of("new article", "new content", "#spring"));
+
+        ArchiveReport report = articleArchiveJob.archive();
+
+        assertThat(report.articles()).isEqualTo(oldArticles);
+        assertThat(report.comments()).isEqualTo(oldComments);
+        assertThat(articleRepository.findAll()).containsExactly(recent);
+        assertThat(articleCommentRepository.count()).isZero();
+        assertThat(archivedArticleRepository.count()).isEqualTo(oldArticles);
+        assertThat(archivedArticleCommentRepository.count()).isEqualTo(oldComments);
+
+        ArchivedArticle archived = archivedArticleRepository.findById(1L).orElseThrow();
+        assertThat(archived.getTitle()).isEqualTo(first.getTitle());
+        assertThat(archived.getCreatedAt()).isEqualTo(first.getCreatedAt());
+        assertThat(archived.getArchivedAt()).isNotNull();
+        assertThat(archivedArticleCommentRepository.findByArticleId(1L, PageRequest.of(0, 1)).getTotalElements())
+                .isEqualTo(firstComments);
+
+        List<ArticlesArchivedEvent> batches = events.stream(ArticlesArchivedEvent.class).collect(Collectors.toList());
+        assertThat(batches).allSatisfy(batch -> assertThat(batch.articleIds()).hasSizeLessThanOrEqualTo(30));
+        assertThat(batches.stream().mapToLong(batch -> batch.articleIds().size()).sum()).isEqualTo(oldArticles);
+
+        assertThat(articleArchiveJob.archive().articles()).isZero(); // 두 번 돌려도 더 옮길 게 없다.
+    }
+}
@@ -0,0 +1,97 @@
+package com.bitstudy.app.service;
+
+import com.bitstudy.app.config.jpaConfig;
+import com.bitstudy.app.dto.ArticleSummary;
+import com.bitstudy.app.dto.ImportReport;
+import com.bitstudy.app.repository.ArticleCommentRepository;
+import com.bitstudy.app.repository.ArticleRepository;
+import com.bitstudy.app.repository.IdBlockAllocator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DataJpaTest
+@Import({jpaConfig.class, BulkImportService.class, IdBlockAllocator.class, JacksonAutoConfiguration.class})
+class BulkImportServiceTest {
+
+    private final BulkImportService bulkImportService;
+    private final ArticleRepository articleRepository;
+    private final ArticleCommentRepository articleCommentRepository;
+
+    BulkImportServiceTest(@Autowired BulkImportService bulkImportService,
+                          @Autowired ArticleRepository articleRepository,
+                          @Autowired ArticleCommentRepository articleCommentRepository) {
+        this.bulkImportService = bulkImportService;
+        this.articleRepository = articleRepository;
+        this.articleCommentRepository = articleCommentRepository;
+    }
+
+    @DisplayName("NDJSON 적재 - 게시글 안에 있는 댓글까지 같이 들어가고, 잘못된 줄은 건너뛴다")
+    @Test
+    void ndjsonImportTest() throws Exception {
+        long prevArticleCount = articleRepository.count();
+        long prevCommentCount = articleCommentRepository.count();
+        String ndjson = """
+                {"id":1,"title":"제목1","content":"본문1","hashtag":"#java","comments":[{"content":"댓글1"},{"content":"댓글2"}]}
+                {"id":2,"title":"제목2","content":"본문2","createdAt":"2022-01-01T10:00:00","createdBy":"uno"}
+                {"id":3,"title":null,"content":"제목 없는 글"}
+                """;
+
+        ImportReport report = bulkImportService.importNdjson(stream(ndjson));
+
+        assertThat(report.articles()).isEqualTo(2);
+        assertThat(report.comments()).isEqualTo(2);
+        assertThat(report.skipped()).isEqualTo(1);
+        assertThat(articleRepository.count()).isEqualTo(prevArticleCount + 2);
+        assertThat(articleCommentRepository.count()).isEqualTo(prevCommentCount + 2);
+        assertThat(latest(2)).extracting(ArticleSummary::title, ArticleSummary::commentCount)
+                .containsExactlyInAnyOrder(
+                        tuple("제목1", 2L),
+                        tuple("제목2", 0L));
+    }
+
+    @DisplayName("CSV 적재 - 댓글의 articleId 를 게시글 파일 id 또는 기존 게시글 id 로 맞춘다")
+    @Test
+    void csvImportTest() throws Exception {
+        long prevCommentCount = articleCommentRepository.count();
+        String articles = """
+                id,title,content,hashtag
+                10,CSV 제목,CSV 본문,
+                """;
+        String comments = """
+                articleId,content
+                10,파일 안 게시글에 다는 댓글
+                1,기존 1번 게시글에 다는 댓글
+                99999,없는 게시글
+                """;
+
+        ImportReport report = bulkImportService.importCsv(stream(articles), stream(comments));
+
+        assertThat(report.articles()).isEqualTo(1);
+        assertThat(report.comments()).isEqualTo(2);
+        assertThat(report.skipped()).isEqualTo(1);
+        assertThat(articleCommentRepository.count()).isEqualTo(prevCommentCount + 2);
+        assertThat(latest(1).get(0).commentCount()).isEqualTo(1L);
+    }
+
+    private List<ArticleSummary> latest(int size) {
+        return articleRepository.findSummaries(PageRequest.of(0, size, Sort.by(Sort.Order.desc("id")))).getContent();
+    }
+
+    private static InputStream stream(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+}
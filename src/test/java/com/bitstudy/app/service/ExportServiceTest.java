@@ -0,0 +1,62 @@
+package com.bitstudy.app.service;
+
+import com.bitstudy.app.config.jpaConfig;
+import com.bitstudy.app.repository.ArticleCommentRepository;
+import com.bitstudy.app.repository.ArticleRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({jpaConfig.class, ExportService.class, JacksonAutoConfiguration.class})
+class ExportServiceTest {
+
+    private final ExportService exportService;
+    private final ObjectMapper objectMapper;
+    private final ArticleRepository articleRepository;
+    private final ArticleCommentRepository articleCommentRepository;
+
+    ExportServiceTest(@Autowired ExportService exportService,
+                      @Autowired ObjectMapper objectMapper,
+                      @Autowired ArticleRepository articleRepository,
+                      @Autowired ArticleCommentRepository articleCommentRepository) {
+        this.exportService = exportService;
+        this.objectMapper = objectMapper;
+        this.articleRepository = articleRepository;
+        this.articleCommentRepository = articleCommentRepository;
+    }
+
+    @DisplayName("NDJSON 내보내기 - 게시글 한 줄에 댓글까지, 전부 다 나온다")
+    @Test
+    void exportTest() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long exported = exportService.exportNdjson(out);
+
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : out.toString(StandardCharsets.UTF_8).split("\n")) {
+            lines.add(objectMapper.readTree(line));
+        }
+        assertThat(exported).isEqualTo(articleRepository.count());
+        assertThat(lines).hasSize((int) exported);
+        assertThat(lines.stream().mapToInt(line -> line.get("comments").size()).sum())
+                .isEqualTo(articleCommentRepository.count());
+
+        JsonNode first = lines.get(0);
+        assertThat(first.get("id").asLong()).isEqualTo(1L);
+        assertThat(first.get("title").asText()).isEqualTo(articleRepository.findById(1L).orElseThrow().getTitle());
+        assertThat(first.get("createdAt").asText()).isNotEmpty();
+    }
+}
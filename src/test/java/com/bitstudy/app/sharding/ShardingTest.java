@@ -0,0 +1,113 @@
+package com.bitstudy.app.sharding;
+
+import com.bitstudy.app.domain.Article;
+import com.bitstudy.app.domain.ArticleComment;
+import com.bitstudy.app.repository.ArticleCommentRepository;
+import com.bitstudy.app.repository.ArticleRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/* 샤딩 통합 테스트 (sharding-local 프로필 - 메모리 H2 세 개)
+ *  각 샤드에 실제로 어떤 행이 들어갔는지는 ShardContext 로 샤드를 정해서 JDBC 로 직접 확인한다.
+ * */
+@SpringBootTest
+@ActiveProfiles("sharding-local")
+@DisplayName("샤딩")
+class ShardingTest {
+
+    private final ArticleRepository articleRepository;
+    private final ArticleCommentRepository articleCommentRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    ShardingTest(@Autowired ArticleRepository articleRepository,
+                 @Autowired ArticleCommentRepository articleCommentRepository,
+                 @Autowired JdbcTemplate jdbcTemplate) {
+        this.articleRepository = articleRepository;
+        this.articleCommentRepository = articleCommentRepository;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @DisplayName("새 게시글은 샤드에 골고루 들어가고, id 로 다시 찾으면 그 샤드에서 읽는다")
+    @Test
+    void articlesAreSpreadAndFoundById() {
+        List<Article> saved = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            saved.add(articleRepository.save(Article.of("shard title " + i, "shard content " + i, null)));
+        }
+
+        Set<Integer> shards = saved.stream().map(a -> SnowflakeIds.shardOf(a.getId())).collect(Collectors.toSet());
+        assertThat(shards).containsExactlyInAnyOrder(0, 1, 2);
+        for (Article article : saved) {
+            int shard = SnowflakeIds.shardOf(article.getId());
+            assertThat(ShardContext.callOn(shard, () -> jdbcTemplate.queryForObject(
+                    "select count(*) from article where id = ?", Long.class, article.getId()))).isEqualTo(1L);
+            assertThat(articleRepository.findById(article.getId()))
+                    .hasValueSatisfying(found -> assertThat(found.getContent()).isEqualTo(article.getContent()));
+        }
+    }
+
+    @DisplayName("댓글은 자기 게시글의 샤드에 저장되고, 댓글 id 만으로도 그 샤드를 찾는다")
+    @Test
+    void commentsLiveWithTheirArticle() {
+        Article article = null;
+        for (int i = 0; i < 3 && (article == null || SnowflakeIds.shardOf(article.getId()) == ShardContext.DEFAULT_SHARD); i++) {
+            article = articleRepository.save(Article.of("comment shard", "content", null));
+        }
+        int shard = SnowflakeIds.shardOf(article.getId());
+
+        ArticleComment comment = articleCommentRepository.save(ArticleComment.of(article, "같은 샤드에 붙는 댓글"));
+
+        assertThat(SnowflakeIds.shardOf(comment.getId())).isEqualTo(shard);
+        assertThat(ShardContext.callOn(shard, () -> jdbcTemplate.queryForObject(
+                "select article_id from article_comment where id = ?", Long.class, comment.getId()))).isEqualTo(article.getId());
+        assertThat(articleCommentRepository.findById(comment.getId())).isPresent();
+        assertThat(articleCommentRepository.findByArticle_Id(article.getId(), PageRequest.of(0, 10)).getContent())
+                .extracting(ArticleComment::getId).containsExactly(comment.getId());
+        assertThat(articleRepository.findById(article.getId())).hasValueSatisfying(a -> assertThat(a.getCommentCount()).isEqualTo(1));
+    }
+
+    @DisplayName("목록은 모든 샤드에서 모아서 정렬 순서대로 합친다")
+    @Test
+    void listingsAreMergedAcrossShards() {
+        for (int i = 0; i < 9; i++) {
+            articleRepository.save(Article.of("merge " + i, "content", null));
+        }
+        long total = 0;
+        for (int shard : ShardContext.shards(jdbcTemplate.getDataSource())) {
+            total += ShardContext.callOn(shard, () -> jdbcTemplate.queryForObject("select count(*) from article", Long.class));
+        }
+        Comparator<Article> latestFirst = Comparator.comparing(Article::getCreatedAt).thenComparing(Article::getId).reversed();
+
+        assertThat(articleRepository.count()).isEqualTo(total);
+
+        Page<Article> first = articleRepository.findAll(PageRequest.of(0, 5, Sort.by(Sort.Direction.DESC, "createdAt", "id")));
+        Page<Article> second = articleRepository.findAll(PageRequest.of(1, 5, Sort.by(Sort.Direction.DESC, "createdAt", "id")));
+        assertThat(first.getTotalElements()).isEqualTo(total);
+        List<Article> both = new ArrayList<>(first.getContent());
+        both.addAll(second.getContent());
+        assertThat(both).hasSize(10).isSortedAccordingTo(latestFirst);
+        assertThat(both.stream().map(a -> SnowflakeIds.shardOf(a.getId())).distinct().count()).isGreaterThan(1);
+
+        List<Article> latest = articleRepository.findLatest(PageRequest.of(0, 10));
+        assertThat(latest).extracting(Article::getId).containsExactlyElementsOf(both.stream().map(Article::getId).toList());
+
+        Article boundary = latest.get(4);
+        assertThat(articleRepository.findOlderThan(boundary.getCreatedAt(), boundary.getId(), PageRequest.of(0, 5)))
+                .extracting(Article::getId).containsExactlyElementsOf(second.getContent().stream().map(Article::getId).toList());
+    }
+}
@@ -0,0 +1,98 @@
+package com.bitstudy.app.sharding;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("snowflake id")
+class SnowflakeIdsTest {
+
+    @DisplayName("id 에서 발급한 샤드 번호를 다시 꺼낼 수 있다")
+    @Test
+    void shardIsEncodedInId() {
+        SnowflakeIds ids = new SnowflakeIds(7, Clock.systemUTC());
+
+        for (int shard = 0; shard < SnowflakeIds.MAX_SHARDS; shard++) {
+            assertThat(SnowflakeIds.shardOf(ids.next(shard))).isEqualTo(shard);
+        }
+    }
+
+    @DisplayName("샤딩 전(id_generator)에 발급된 작은 id 는 0번 샤드")
+    @Test
+    void legacyIdsBelongToDefaultShard() {
+        assertThat(SnowflakeIds.shardOf(1L)).isZero();
+        assertThat(SnowflakeIds.shardOf(SnowflakeIds.LEGACY_ID_LIMIT - 1)).isZero();
+        assertThat(new SnowflakeIds(0, Clock.systemUTC()).next(3)).isGreaterThanOrEqualTo(SnowflakeIds.LEGACY_ID_LIMIT);
+    }
+
+    @DisplayName("id 는 53 bit 안에 들어간다 (자바스크립트 숫자로 읽어도 안 틀어진다)")
+    @Test
+    void idsFitInJavaScriptNumbers() {
+        SnowflakeIds ids = new SnowflakeIds(SnowflakeIds.MAX_WORKERS - 1,
+                Clock.fixed(Instant.ofEpochMilli(SnowflakeIds.EPOCH + (1L << SnowflakeIds.TIME_BITS) - 1), ZoneOffset.UTC));
+        long id = ids.next(SnowflakeIds.MAX_SHARDS - 1);
+
+        assertThat(id).isLessThanOrEqualTo((1L << 53) - 1);
+        assertThat((long) (double) id).isEqualTo(id); // double 로 바꿨다 돌아와도 같은 값
+    }
+
+    @DisplayName("같은 ms 에 순번이 넘쳐도 다음 ms 로 넘어가서 겹치지 않고 계속 커진다")
+    @Test
+    void idsAreUniqueAndIncreasing() {
+        SnowflakeIds ids = new SnowflakeIds(0, Clock.systemUTC());
+        Set<Long> seen = new HashSet<>();
+        long previous = 0;
+        for (int i = 0; i < 20_000; i++) {
+            long id = ids.next(1);
+            assertThat(id).isGreaterThan(previous);
+            previous = id;
+            seen.add(id);
+        }
+        assertThat(seen).hasSize(20_000);
+    }
+
+    @DisplayName("시계가 뒤로 가도 더 작은 id 를 만들지 않는다")
+    @Test
+    void clockGoingBackwards() {
+        MutableClock clock = new MutableClock(Instant.parse("2023-01-01T00:00:10Z"));
+        SnowflakeIds ids = new SnowflakeIds(0, clock);
+        long before = ids.next(2);
+
+        clock.now = Instant.parse("2023-01-01T00:00:05Z");
+        long after = ids.next(2);
+
+        assertThat(after).isGreaterThan(before);
+        assertThat(SnowflakeIds.timeOf(after)).isEqualTo(Instant.parse("2023-01-01T00:00:10Z"));
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.bitstudy.app.startup;
+
+import com.bitstudy.app.config.jpaConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "board.startup.seed-if-empty=true")
+@Import({jpaConfig.class, SeedDataRunner.class})
+@DisplayName("빈 DB 에만 초기 데이터 넣기")
+class SeedDataRunnerTest {
+
+    private final SeedDataRunner seedDataRunner;
+    private final JdbcTemplate jdbcTemplate;
+
+    SeedDataRunnerTest(@Autowired SeedDataRunner seedDataRunner, @Autowired JdbcTemplate jdbcTemplate) {
+        this.seedDataRunner = seedDataRunner;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @DisplayName("게시글이 있으면 건드리지 않는다")
+    @Test
+    void skipsWhenArticlesExist() {
+        jdbcTemplate.update("delete from article_comment where id = 1");
+
+        seedDataRunner.run(null);
+
+        assertThat(count("article")).isEqualTo(100);
+        assertThat(count("article_comment")).isEqualTo(999);
+    }
+
+    @DisplayName("비어 있으면 data.sql 을 넣고 id_generator 도 그 다음부터 맞춘다")
+    @Test
+    void seedsEmptyDatabase() {
+        jdbcTemplate.update("delete from article_hashtag");
+        jdbcTemplate.update("delete from hashtag");
+        jdbcTemplate.update("delete from article_comment");
+        jdbcTemplate.update("delete from article");
+
+        seedDataRunner.run(null);
+
+        assertThat(count("article")).isEqualTo(100);
+        assertThat(count("article_comment")).isEqualTo(1000);
+        assertThat(jdbcTemplate.queryForObject("select next_val from id_generator where sequence_name = 'article'", Long.class))
+                .isEqualTo(101);
+    }
+
+    private long count(String table) {
+        return jdbcTemplate.queryForObject("select count(*) from " + table, Long.class);
+    }
+}
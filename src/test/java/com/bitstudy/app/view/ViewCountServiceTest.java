@@ -0,0 +1,70 @@
+package com.bitstudy.app.view;
+
+import com.bitstudy.app.config.jpaConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({jpaConfig.class, ViewCountService.class})
+@DisplayName("조회수")
+class ViewCountServiceTest {
+
+    private final ViewCountService viewCountService;
+    private final JdbcTemplate jdbcTemplate;
+
+    ViewCountServiceTest(@Autowired ViewCountService viewCountService, @Autowired JdbcTemplate jdbcTemplate) {
+        this.viewCountService = viewCountService;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @DisplayName("여러 스레드가 동시에 센 조회수가 flush 한 번에 그대로 더해진다")
+    @Test
+    void concurrentIncrementsAreFlushedOnce() throws Exception {
+        long before = viewCount(1L);
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < 1_000; i++) {
+                    viewCountService.increment(1L);
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertThat(viewCountService.pending(1L)).isEqualTo(8_000);
+        assertThat(viewCountService.flush()).isEqualTo(1);
+        assertThat(viewCountService.pending(1L)).isZero();
+        assertThat(viewCount(1L)).isEqualTo(before + 8_000);
+        assertThat(viewCountService.flush()).isZero();
+    }
+
+    @DisplayName("순위는 flush 할 때 읽어둔 조회수 순서")
+    @Test
+    void mostViewedFollowsFlushedCounts() {
+        for (int i = 0; i < 3; i++) {
+            viewCountService.increment(2L);
+        }
+        viewCountService.increment(3L);
+        viewCountService.flush();
+
+        assertThat(viewCountService.mostViewed(2))
+                .extracting(count -> count.id())
+                .containsExactly(2L, 3L);
+    }
+
+    private long viewCount(Long articleId) {
+        return jdbcTemplate.queryForObject("select view_count from article where id = ?", Long.class, articleId);
+    }
+}